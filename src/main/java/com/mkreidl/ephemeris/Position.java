@@ -9,6 +9,7 @@ import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
 import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
 import com.mkreidl.ephemeris.solarsystem.Body;
 import com.mkreidl.ephemeris.solarsystem.Ecliptic;
+import com.mkreidl.ephemeris.solarsystem.EpochFrame;
 import com.mkreidl.math.PhaseCartesian;
 import com.mkreidl.math.Vector3;
 
@@ -33,12 +34,14 @@ public class Position
     private final Cartesian toposEcliptical = new Cartesian();
     private final Cartesian toposEquatorial = new Cartesian();
     private final Spherical toposEquatorialSpherical = new Spherical();
-    private final Angle angle = new Angle();
 
     private final Ecliptical.Sphe tmpEclipticalSpherical = new Ecliptical.Sphe();
     private final Ecliptical.Cart tmpEclipticalCartesian = new Ecliptical.Cart();
     private final Equatorial.Cart tmpEquatorialCartesian = new Equatorial.Cart();
     private final Horizontal.Cart tmpHorizontalCartesian = new Horizontal.Cart();
+    private final Horizontal.Sphe tmpHorizontalSpherical = new Horizontal.Sphe();
+    private final Equatorial.Cart tmpSunEquatorial = new Equatorial.Cart();
+    private final Angle tmpAngle = new Angle();
 
     public void setHelioGeocentric( Ecliptical.Cart pos, Ecliptical.Cart earth )
     {
@@ -89,6 +92,14 @@ public class Position
         velocitySun.set( velEarth ).scale( -1 );
     }
 
+    /**
+     * @return Velocity of the body relative to the Earth [m/s]
+     */
+    public Cartesian getGeocentricVelocity( Ecliptical.Cart output )
+    {
+        return output.set( velocityGeocentric );
+    }
+
     public void correctAberration()
     {
         final double timeLightTravel = geoCart.distance( Distance.m ) / Distance.ls.toMeters();
@@ -111,20 +122,28 @@ public class Position
 
     public void setTimeLocation( Time time, double lonRad, double latRad )
     {
-        toposEquatorialSpherical.set( 1, lonRad, latRad );
-        setTimeLocation( time, toposEquatorialSpherical );
+        setTimeLocation( time.getTime(), lonRad, latRad );
+    }
+
+    public void setTimeLocation( long millisSinceEpoch, double lonRad, double latRad )
+    {
+        final double localSiderealTime = Angle.standardizePositive( Time.getMeanSiderealTimeRadians( millisSinceEpoch ) + lonRad );
+        setTimeLocation( Ecliptic.getObliquity( millisSinceEpoch ), localSiderealTime, latRad );
+    }
+
+    /**
+     * Same as {@link #setTimeLocation(long, double, double)}, with the values shared by other consumers
+     * of the frame
+     */
+    public void setTimeLocation( EpochFrame frame, double lonRad, double latRad )
+    {
+        final double localSiderealTime = Angle.standardizePositive( frame.getMeanSiderealTime() + lonRad );
+        setTimeLocation( frame.getObliquity(), localSiderealTime, latRad );
     }
 
     public void setTimeLocation( Time time, Spherical geographicLocation )
     {
-        currentEcliptic = Ecliptic.getObliquity( time );
-        angle.setRadians( geographicLocation.lon );
-        final double localSiderealTime = time.getMeanSiderealTime( angle, angle ).getRadians();
-        // current equatorial coordinates of zenith are used to compute current horizontal positions (in Planets)
-        toposEquatorialSpherical.set( Body.EARTH.RADIUS_MEAN_M, localSiderealTime, geographicLocation.lat );
-        toposEquatorialSpherical.transform( toposEquatorial );
-        // The following stores the current observer position in geocentric ecliptical coordinates
-        toposEcliptical.set( toposEquatorial ).rotate( Coordinates.Axis.X, -currentEcliptic );
+        setTimeLocation( time.getTime(), geographicLocation.lon, geographicLocation.lat );
     }
 
     public Cartesian get( Ecliptical.Cart cartesian, CoordinatesCenter coordinatesCenter )
@@ -211,11 +230,21 @@ public class Position
 
     public Cartesian illuminationDirection()
     {
-        final Cartesian pos = get( new Equatorial.Cart(), CoordinatesCenter.TOPOCENTRIC );
-        final Cartesian sun = posSun.toEquatorial( currentEcliptic, new Equatorial.Cart() );
+        return illuminationDirection( new Cartesian() );
+    }
+
+    /**
+     * Direction of the incoming sunlight, projected onto the plane perpendicular to the line of sight.
+     *
+     * @param output Receives the direction in equatorial coordinates
+     */
+    public Cartesian illuminationDirection( Cartesian output )
+    {
+        final Cartesian pos = get( tmpEquatorialCartesian, CoordinatesCenter.TOPOCENTRIC );
+        final Cartesian sun = posSun.toEquatorial( currentEcliptic, tmpSunEquatorial );
         final double factor = ( pos.x * sun.x + pos.y * sun.y + pos.z * sun.z )
                 / ( pos.x * pos.x + pos.y * pos.y + pos.z * pos.z );
-        return new Cartesian(
+        return output.set(
                 sun.x - factor * pos.x,
                 sun.y - factor * pos.y,
                 sun.z - factor * pos.z
@@ -271,9 +300,8 @@ public class Position
 
     public boolean isVisible()
     {
-        final Horizontal.Sphe horizSpherical = new Horizontal.Sphe();
-        get( horizSpherical, CoordinatesCenter.TOPOCENTRIC );
-        return horizSpherical.getHeight( new Angle() ).get( Angle.Unit.RADIANS ) > 0.0;
+        get( tmpHorizontalSpherical, CoordinatesCenter.TOPOCENTRIC );
+        return tmpHorizontalSpherical.getHeight( tmpAngle ).get( Angle.Unit.RADIANS ) > 0.0;
     }
 
     public boolean isRetrograde()
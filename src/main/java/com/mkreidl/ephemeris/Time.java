@@ -86,6 +86,21 @@ public class Time
         return (double)( millisSinceEpoch - instant.millisSinceEpoch ) / MILLIS_PER_MILLENNIUM;
     }
 
+    public static double julianDayNumberSinceJ2000( long millisSinceEpoch )
+    {
+        return (double)( millisSinceEpoch - MILLIS_SINCE_EPOCH_AT_J2000 ) / MILLIS_PER_DAY;
+    }
+
+    public static double julianCenturiesSinceJ2000( long millisSinceEpoch )
+    {
+        return (double)( millisSinceEpoch - MILLIS_SINCE_EPOCH_AT_J2000 ) / MILLIS_PER_CENTURY;
+    }
+
+    public static double julianMillenniaSinceJ2000( long millisSinceEpoch )
+    {
+        return (double)( millisSinceEpoch - MILLIS_SINCE_EPOCH_AT_J2000 ) / MILLIS_PER_MILLENNIUM;
+    }
+
     public double julianYearsSinceJ2000()
     {
         return julianDayNumberSince( J2000 ) / DAYS_PER_YEAR;
@@ -101,6 +116,11 @@ public class Time
         return julianDayNumberSince( J2000 ) + TDT_OFFSET;
     }
 
+    public static double terrestrialDynamicalTime( long millisSinceEpoch )
+    {
+        return (double)( millisSinceEpoch - MILLIS_SINCE_EPOCH_AT_J2000 ) / MILLIS_PER_DAY + TDT_OFFSET;
+    }
+
     /**
      * Calculate the Mean Sidereal Time for Greenwich at given date
      *
@@ -131,10 +151,37 @@ public class Time
         return getSiderealTimeDayFraction() * 2 * Math.PI;
     }
 
+    /**
+     * Calculate the Mean Sidereal Time for Greenwich at given date
+     *
+     * @return Greenwich Mean Sidereal Time in radians
+     */
+    public static double getMeanSiderealTimeRadians( long millisSinceEpoch )
+    {
+        return getSiderealTimeDayFraction( millisSinceEpoch ) * 2 * Math.PI;
+    }
+
+    /**
+     * Calculate the Greenwich Mean Sidereal Time for many dates at once.
+     *
+     * @param millisSinceEpoch Dates in milliseconds since the epoch
+     * @param radians          Receives the Greenwich Mean Sidereal Times in radians
+     */
+    public static void siderealTimes( long[] millisSinceEpoch, double[] radians )
+    {
+        for ( int i = 0; i < millisSinceEpoch.length; i++ )
+            radians[i] = getSiderealTimeDayFraction( millisSinceEpoch[i] ) * 2 * Math.PI;
+    }
+
     private double getSiderealTimeDayFraction()
     {
-        final double midnightUT = midnightAtGreenwichSameDate();
-        final double julianCenturyUT0 = ( midnightUT - J2000.millisSinceEpoch ) / MILLIS_PER_CENTURY;
+        return getSiderealTimeDayFraction( millisSinceEpoch );
+    }
+
+    private static double getSiderealTimeDayFraction( long millisSinceEpoch )
+    {
+        final double midnightUT = midnightAtGreenwich( millisSinceEpoch );
+        final double julianCenturyUT0 = ( midnightUT - MILLIS_SINCE_EPOCH_AT_J2000 ) / MILLIS_PER_CENTURY;
 
         double daysBase = 0.0;
         for ( double c : GMST_COEFF_DAYS )
@@ -171,11 +218,17 @@ public class Time
 
     private double midnightAtGreenwichSameDate()
     {
-        final Instant instant = Instant.ofEpochMilli( millisSinceEpoch );
-        final ZonedDateTime zonedDateTime = ZonedDateTime.ofInstant( instant, UTC );
-        final ZonedDateTime midnightAtGreenwich = zonedDateTime
-                .withHour( 0 ).withMinute( 0 ).withSecond( 0 ).withNano( 0 );
-        return Instant.from( midnightAtGreenwich ).toEpochMilli();
+        return midnightAtGreenwich( millisSinceEpoch );
+    }
+
+    /**
+     * UTC midnight at the begin of the day containing the given time.
+     * The epoch starts at midnight and UTC days in milliseconds since the epoch all have the same
+     * length (leap seconds are not counted), so this is plain integer arithmetic.
+     */
+    public static long midnightAtGreenwich( long millisSinceEpoch )
+    {
+        return Math.floorDiv( millisSinceEpoch, MILLIS_PER_DAY ) * MILLIS_PER_DAY;
     }
 
     public void addMillis( long millis )
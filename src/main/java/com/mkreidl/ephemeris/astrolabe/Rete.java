@@ -11,7 +11,7 @@ import com.mkreidl.ephemeris.geometry.Coordinates;
 import com.mkreidl.ephemeris.geometry.Matrix3x3;
 import com.mkreidl.ephemeris.geometry.Spherical;
 import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
-import com.mkreidl.ephemeris.solarsystem.Ecliptic;
+import com.mkreidl.ephemeris.solarsystem.PrecessionProvider;
 import com.mkreidl.ephemeris.solarsystem.Zodiac;
 import com.mkreidl.math.Vector3;
 
@@ -31,9 +31,11 @@ public class Rete extends AbstractPart
     public final Circle ecliptic = new Circle( 0.0, 0.0, 1.0 );
 
     private final Zodiac zodiac = new Zodiac();
+    private final PrecessionProvider precession = new PrecessionProvider();
 
     private final Equatorial.Cart equatorialCart = new Equatorial.Cart();
     private final Matrix3x3 matrixEcl2Equ = new Matrix3x3();
+    private final Matrix3x3 matrixEclJ2000ToEquToDate = new Matrix3x3();
 
     private final Map<Zodiac.Sign, Cartesian> signs = new EnumMap<>( Zodiac.Sign.class );
     private final Map<Zodiac.Sign, Cartesian[]> signBoundariesEcliptical = new EnumMap<>( Zodiac.Sign.class );
@@ -71,12 +73,11 @@ public class Rete extends AbstractPart
     protected void onSynchronize()
     {
         zodiac.compute( astrolabe.time );
-        final Matrix3x3 transformEclipticalJ2000ToEquatorial = new Matrix3x3();
-        Ecliptic.computeEclJ2000ToEquToDate( astrolabe.time, transformEclipticalJ2000ToEquatorial );
+        precession.computeEclJ2000ToEquToDate( astrolabe.time, matrixEclJ2000ToEquToDate );
         final Instant instant = Instant.ofEpochMilli( astrolabe.getTimeInMillis() );
         Stars.Companion.getHipparcos().computeEclipticalJ2000( instant, starsEclipticalJ2000, 0, 1 );
         for ( int i = 0; i < starsCount; ++i )
-            transformEclipticalJ2000ToEquatorial.applyTo( starsEclipticalJ2000, starsEquatorialToDate, 3 * i );
+            matrixEclJ2000ToEquToDate.applyTo( starsEclipticalJ2000, starsEquatorialToDate, 3 * i );
         for ( Constellation constellation : Constellation.ALL )
         {
             final Vector3 center = constellation.computeCenter( starsEquatorialToDate );
@@ -7,6 +7,10 @@ public class Cartesian extends Coordinates<Cartesian>
     public double z = 0.0;
 
     public static final Cartesian ORIGIN = new Cartesian( 0, 0, 0 );
+    /**
+     * @deprecated No longer used by {@link #rotate(Axis, double)}, which does not need any shared state
+     */
+    @Deprecated
     public static final Matrix3x3 rotation = new Matrix3x3();
 
     public Cartesian()
@@ -74,13 +78,32 @@ public class Cartesian extends Coordinates<Cartesian>
         return affinePoints;
     }
 
+    /**
+     * Rotate about a coordinate axis, with the same sign conventions as {@link Matrix3x3#setRotation(double, Axis)}.
+     * Only local variables are used, so this may be called concurrently on different instances.
+     */
     @Override
     public Cartesian rotate( Axis axis, double angle )
     {
-        synchronized ( rotation )
+        final double cosA = Math.cos( angle );
+        final double sinA = Math.sin( angle );
+        final double x0 = x;
+        final double y0 = y;
+        final double z0 = z;
+        switch ( axis )
         {
-            rotation.setRotation( angle, axis );
-            rotation.applyTo( this );
+            case X:
+                y = cosA * y0 - sinA * z0;
+                z = sinA * y0 + cosA * z0;
+                break;
+            case Y:
+                x = cosA * x0 - sinA * z0;
+                z = sinA * x0 + cosA * z0;
+                break;
+            case Z:
+                x = cosA * x0 - sinA * y0;
+                y = sinA * x0 + cosA * y0;
+                break;
         }
         return this;
     }
@@ -93,9 +116,22 @@ public class Cartesian extends Coordinates<Cartesian>
         return output.standardize();
     }
 
+    /**
+     * Transform this velocity, given at position cartesianPos, into spherical coordinates.
+     * This is the inverse of {@link Spherical#transformVelocity(Spherical, Cartesian)};
+     * the rates have the same time unit as this velocity.
+     */
     public Spherical transformVelocity( Cartesian cartesianPos, Spherical velocity )
     {
-        // TODO implement
+        final double px = cartesianPos.x;
+        final double py = cartesianPos.y;
+        final double pz = cartesianPos.z;
+        final double rho2 = px * px + py * py;
+        final double r = Math.sqrt( rho2 + pz * pz );
+        final double dr = ( px * x + py * y + pz * z ) / r;
+        velocity.dst = dr;
+        velocity.lon = ( px * y - py * x ) / rho2;
+        velocity.lat = ( z * r - pz * dr ) / ( r * Math.sqrt( rho2 ) );
         return velocity;
     }
 
@@ -45,6 +45,14 @@ public class ClassicalOrbitalElements extends OrbitalElements
      * @return
      */
     public double eccentricAnomaly( double eps )
+    {
+        return eccentricAnomaly( meanAnom, exc, eps );
+    }
+
+    /**
+     * Solve Kepler's equation with Newton method, for callers holding the elements in local variables
+     */
+    public static double eccentricAnomaly( double meanAnom, double exc, double eps )
     {
         double e0;
         double excentricAnom = meanAnom;
@@ -1,7 +1,5 @@
 package com.mkreidl.ephemeris.geometry;
 
-import com.mkreidl.ephemeris.Time;
-
 public class Spherical extends Coordinates<Spherical>
 {
     public double dst = 0.0;
@@ -78,6 +76,10 @@ public class Spherical extends Coordinates<Spherical>
         return output;
     }
 
+    /**
+     * Transform this velocity, given at position position, into Cartesian coordinates.
+     * The result has the same time unit as the rates of this velocity.
+     */
     public Cartesian transformVelocity( Spherical position, Cartesian output )
     {
         final double r = position.dst;
@@ -85,9 +87,9 @@ public class Spherical extends Coordinates<Spherical>
         final double sb = Math.sin( position.lat );
         final double cl = Math.cos( position.lon );
         final double cb = Math.cos( position.lat );
-        output.x = ( dst * cl * cb - r * ( lon * sl * cb + lat * cl * sb ) ) / Time.SECONDS_PER_DAY;
-        output.y = ( dst * sl * cb + r * ( lon * cl * cb - lat * sl * sb ) ) / Time.SECONDS_PER_DAY;
-        output.z = ( dst * sb + r * lat * cb ) / Time.SECONDS_PER_DAY;
+        output.x = ( dst * cl * cb - r * ( lon * sl * cb + lat * cl * sb ) );
+        output.y = ( dst * sl * cb + r * ( lon * cl * cb - lat * sl * sb ) );
+        output.z = ( dst * sb + r * lat * cb );
         return output;
     }
 
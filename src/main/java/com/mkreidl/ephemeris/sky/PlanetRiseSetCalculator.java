@@ -3,23 +3,51 @@ package com.mkreidl.ephemeris.sky;
 import com.mkreidl.ephemeris.Distance;
 import com.mkreidl.ephemeris.Position;
 import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
 import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.Ecliptic;
 import com.mkreidl.ephemeris.solarsystem.SolarSystem;
 
+/**
+ * Rise, transit and set of a body of the solar system.
+ * <p>
+ * Rises and sets are first predicted from the hour angle at the horizon. The prediction is then bracketed by
+ * probing the altitude with growing steps, or, where the prediction fails, by sampling the altitude every hour.
+ * Within the bracket, a {@link RootFinder} solves for the altitude of the horizon, with the derivative of the
+ * altitude from the rotation of the Earth and the velocity of the body.
+ */
 public class PlanetRiseSetCalculator extends RiseSetCalculator
 {
     private static final int MAX_ITERATION = 5;
+    private static final int MAX_SEARCH = 20;
+    private static final int MAX_PROBE = 8;
+    private static final long MIN_PROBE_MS = 60000;
+    private static final long SCAN_STEP_MS = Time.MILLIS_PER_HOUR;
+    private static final long SCAN_RANGE_MS = 2 * Time.MILLIS_PER_DAY;
+    private static final double SIDEREAL_RATE = 2 * Math.PI / Time.MILLIS_PER_SIDEREAL_DAY;
 
     private final SolarSystem solarSystem;
     private final Body body;
     private final Position position = new Position();
+    private final Equatorial.Cart topocentricCartesian = new Equatorial.Cart();
+    private final Ecliptical.Cart velocityEcliptical = new Ecliptical.Cart();
+    private final Cartesian velocityEquatorial = new Cartesian();
+    private final Altitude altitude = new Altitude();
+    private final RootFinder rootFinder = new RootFinder( altitude );
 
-    private long timeMillisPrevious;
-
-    private Boolean wasVisibleBefore;
-    private Boolean isVisibleNow;
     private boolean isCrossing;
     private long precisionMs = 1000;
+    private int evaluations;
+    private int iterations;
+
+    // Bracket of a rise or set, and the start of the iteration within it
+    private long lower;
+    private long upper;
+    private long guess;
+    private double guessValue;
+    private double guessDerivative;
 
     public static PlanetRiseSetCalculator of( SolarSystem solarSystem, Body body )
     {
@@ -37,49 +65,177 @@ public class PlanetRiseSetCalculator extends RiseSetCalculator
         this.precisionMs = precisionMs;
     }
 
+    /**
+     * @return Number of computations of the position of the body during the last call of {@link #compute(long)}
+     */
+    public int getEvaluationCount()
+    {
+        return evaluations;
+    }
+
+    /**
+     * @return Number of iterations refining the time of the event during the last call of {@link #compute(long)}
+     */
+    public int getIterationCount()
+    {
+        return iterations;
+    }
+
     @Override
     public boolean compute( long timeMillisStart )
+    {
+        evaluations = 0;
+        iterations = 0;
+        return mode == EventType.TRANSIT ? computeTransit( timeMillisStart ) : computeRiseSet( timeMillisStart );
+    }
+
+    private boolean computeTransit( long timeMillisStart )
     {
         super.setStartTime( timeMillisStart );
-        isVisibleNow = null;
         for ( int n = 0; n < MAX_ITERATION; ++n )
         {
-            timeMillisPrevious = time.getTime();
+            ++iterations;
+            final long timeMillisPrevious = time.getTime();
             computeTopocentricPosition();
-            if ( !isCrossing || !adjustTime() )
-                if ( mode == EventType.RISE && hasAppeared() || mode == EventType.SET && hasVanished() )
-                    time.setTime( ( time.getTime() + timeMillisPrevious ) / 2 );
-                else
-                    return compute( searchOrbitCrossingHorizon() );
+            adjustTime();
             if ( Math.abs( time.getTime() - timeMillisPrevious ) < precisionMs )
                 return true;
         }
         return false;
     }
 
+    private boolean computeRiseSet( long timeMillisStart )
+    {
+        long searchStart = timeMillisStart;
+        super.setStartTime( searchStart );
+        for ( int n = 0; n < MAX_SEARCH; ++n )
+        {
+            computeTopocentricPosition();
+            if ( !isCrossing )
+            {
+                searchStart = searchOrbitCrossingHorizon();
+                super.setStartTime( searchStart );
+                continue;
+            }
+            adjustTime();
+            if ( findBracket( time.getTime(), searchStart ) || scan( searchStart ) )
+            {
+                time.setTime( rootFinder.solve( lower, upper, guess, guessValue, guessDerivative, precisionMs ) );
+                iterations += rootFinder.getIterations();
+                return true;
+            }
+            // No event within the range of the scan, continue after it
+            searchStart += lookupDirection == LookupDirection.FORWARD ? SCAN_RANGE_MS : -SCAN_RANGE_MS;
+            super.setStartTime( searchStart );
+        }
+        return false;
+    }
+
+    /**
+     * Bracket the event close to a predicted time, probing in the direction of the event with growing steps,
+     * but not before the start of the search.
+     */
+    private boolean findBracket( long predicted, long searchStart )
+    {
+        long t = predicted;
+        double value = altitude.evaluate( t );
+        double derivative = altitude.getDerivative();
+        // The altitude function increases through the event
+        final int direction = value < 0 ? 1 : -1;
+        // Steps are not larger than those of the scan, lest they skip a rise and the following set
+        double step = Math.max( MIN_PROBE_MS, derivative > 0 ? 1.5 * Math.abs( value / derivative ) : 0 );
+        for ( int n = 0; n < MAX_PROBE; ++n, step *= 2 )
+        {
+            step = Math.min( step, SCAN_STEP_MS );
+            final long probe = clampToSearchDirection( t + direction * (long)step, searchStart );
+            if ( probe == t )
+                return false;
+            final double probeValue = altitude.evaluate( probe );
+            if ( ( probeValue < 0 ) != ( value < 0 ) )
+            {
+                lower = Math.min( t, probe );
+                upper = Math.max( t, probe );
+                if ( Math.abs( probeValue ) < Math.abs( value ) )
+                    setGuess( probe, probeValue, altitude.getDerivative() );
+                else
+                    setGuess( t, value, derivative );
+                return true;
+            }
+            t = probe;
+            value = probeValue;
+            derivative = altitude.getDerivative();
+        }
+        return false;
+    }
+
+    /**
+     * Bracket the first event in search direction by sampling the altitude, for the cases where the hour angle
+     * does not predict the event, e.g. close to the polar circles.
+     */
+    private boolean scan( long searchStart )
+    {
+        final long step = lookupDirection == LookupDirection.FORWARD ? SCAN_STEP_MS : -SCAN_STEP_MS;
+        long t = searchStart;
+        double value = altitude.evaluate( t );
+        for ( long n = 0; n < SCAN_RANGE_MS / SCAN_STEP_MS; ++n )
+        {
+            final long next = t + step;
+            final double nextValue = altitude.evaluate( next );
+            if ( step > 0 ? value < 0 && nextValue >= 0 : nextValue < 0 && value >= 0 )
+            {
+                lower = Math.min( t, next );
+                upper = Math.max( t, next );
+                setGuess( next, nextValue, altitude.getDerivative() );
+                return true;
+            }
+            t = next;
+            value = nextValue;
+        }
+        return false;
+    }
+
+    private void setGuess( long millis, double value, double derivative )
+    {
+        guess = millis;
+        guessValue = value;
+        guessDerivative = derivative;
+    }
+
+    private long clampToSearchDirection( long millis, long searchStart )
+    {
+        return lookupDirection == LookupDirection.FORWARD ? Math.max( millis, searchStart ) : Math.min( millis, searchStart );
+    }
+
+    /**
+     * @return The first time in search direction at which the body crosses the horizon, with a precision of an hour
+     */
     private long searchOrbitCrossingHorizon()
     {
-        long searchIncrement = 30 * Time.MILLIS_PER_SIDEREAL_DAY * ( lookupDirection == LookupDirection.FORWARD ? 1 : -1 );
+        final long searchIncrement = 30 * Time.MILLIS_PER_SIDEREAL_DAY * ( lookupDirection == LookupDirection.FORWARD ? 1 : -1 );
+        long outside = time.getTime();
         while ( !isCrossing )
         {
-            timeMillisPrevious = time.getTime();
+            outside = time.getTime();
             time.addMillis( searchIncrement );
             computeTopocentricPosition();
         }
-        while ( Math.abs( searchIncrement ) > Time.MILLIS_PER_HOUR )
+        long inside = time.getTime();
+        while ( Math.abs( inside - outside ) > Time.MILLIS_PER_HOUR )
         {
-            if ( !isCrossing )
-                timeMillisPrevious = time.getTime();
-            searchIncrement /= 2;
-            time.setTime( timeMillisPrevious + searchIncrement );
+            final long middle = outside + ( inside - outside ) / 2;
+            time.setTime( middle );
             computeTopocentricPosition();
+            if ( isCrossing )
+                inside = middle;
+            else
+                outside = middle;
         }
-        return time.getTime();
+        return inside;
     }
 
     private void computeTopocentricPosition()
     {
-        wasVisibleBefore = isVisibleNow;
+        ++evaluations;
         solarSystem.compute( time, Body.EARTH );
         solarSystem.compute( time, body );
         solarSystem.getEphemerides( body, position );
@@ -87,17 +243,51 @@ public class PlanetRiseSetCalculator extends RiseSetCalculator
         position.get( topocentric, Position.CoordinatesCenter.TOPOCENTRIC );
         final double apparentRadius = body.RADIUS_MEAN_M / topocentric.distance( Distance.m );
         virtualHorizonDeg = OPTICAL_HORIZON_DEG - Math.toDegrees( apparentRadius );
-        isVisibleNow = topocentric.lat >= virtualHorizonDeg;
         isCrossing = isCrossing();
     }
 
-    private boolean hasAppeared()
+    /**
+     * Altitude above the virtual horizon in radians, with the sign reversed for sets,
+     * so that it increases through the event both for rises and sets.
+     */
+    private class Altitude implements RootFinder.Function
     {
-        return wasVisibleBefore != null && isVisibleNow && !wasVisibleBefore;
-    }
+        private double derivative;
 
-    private boolean hasVanished()
-    {
-        return wasVisibleBefore != null && !isVisibleNow && wasVisibleBefore;
+        @Override
+        public double evaluate( long millis )
+        {
+            time.setTime( millis );
+            computeTopocentricPosition();
+            final double sign = mode == EventType.RISE ? 1 : -1;
+            final double hourAngle = time.getHourAngleOfVernalEquinox() + geographicLocation.lon - topocentric.lon;
+            final double sinLat = Math.sin( geographicLocation.lat );
+            final double cosLat = Math.cos( geographicLocation.lat );
+            final double sinDec = Math.sin( topocentric.lat );
+            final double cosDec = Math.cos( topocentric.lat );
+            final double altitude = Math.asin( sinLat * sinDec + cosLat * cosDec * Math.cos( hourAngle ) );
+
+            // Rates of right ascension and declination [rad/ms] from the velocity of the body
+            position.get( topocentricCartesian, Position.CoordinatesCenter.TOPOCENTRIC );
+            position.getGeocentricVelocity( velocityEcliptical );
+            velocityEcliptical.toEquatorial( Ecliptic.getObliquity( millis ), velocityEquatorial );
+            final double x = topocentricCartesian.x;
+            final double y = topocentricCartesian.y;
+            final double z = topocentricCartesian.z;
+            final double rho2 = x * x + y * y;
+            final double raRate = ( x * velocityEquatorial.y - y * velocityEquatorial.x ) / rho2 / 1000;
+            final double decRate = ( velocityEquatorial.z * rho2 - z * ( x * velocityEquatorial.x + y * velocityEquatorial.y ) )
+                    / ( ( rho2 + z * z ) * Math.sqrt( rho2 ) ) / 1000;
+            final double hourAngleRate = SIDEREAL_RATE - raRate;
+            derivative = sign * ( ( sinLat * cosDec - cosLat * sinDec * Math.cos( hourAngle ) ) * decRate
+                    - cosLat * cosDec * Math.sin( hourAngle ) * hourAngleRate ) / Math.cos( altitude );
+            return sign * ( altitude - Math.toRadians( virtualHorizonDeg ) );
+        }
+
+        @Override
+        public double getDerivative()
+        {
+            return derivative;
+        }
     }
-}
\ No newline at end of file
+}
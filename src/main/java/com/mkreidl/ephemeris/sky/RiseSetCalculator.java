@@ -109,12 +109,14 @@ public abstract class RiseSetCalculator
 
     private boolean completelyAboveHorizon()
     {
-        return Math.abs( Math.toDegrees( geographicLocation.lat + topocentric.lat ) ) >= 90 + virtualHorizonDeg;
+        // Sine of the altitude at lower culmination
+        return -Math.cos( geographicLocation.lat + topocentric.lat ) >= Math.sin( Math.toRadians( virtualHorizonDeg ) );
     }
 
     private boolean completelyBelowHorizon()
     {
-        return Math.abs( Math.toDegrees( geographicLocation.lat - topocentric.lat ) ) >= 90 - virtualHorizonDeg;
+        // Sine of the altitude at upper culmination
+        return Math.cos( geographicLocation.lat - topocentric.lat ) <= Math.sin( Math.toRadians( virtualHorizonDeg ) );
     }
 
     private void updateHorizon()
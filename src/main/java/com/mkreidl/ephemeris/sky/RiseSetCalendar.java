@@ -0,0 +1,329 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Distance;
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Angle;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * All rises, transits and sets of bodies at one geographic location within a range of dates.
+ * <p>
+ * Events of each type are found one after the other: the previous event plus one day is the first guess
+ * for the next one, which is then refined from the hour angle at the event, as in {@link RiseSetCalculator}.
+ * Days on which a body stays above or below the horizon are recognized from its declination and skipped
+ * after a single computation. Only close to such spans, where the hour angle at rise or set is
+ * ill-conditioned, the altitude is sampled and the event is located by bisection.
+ * <p>
+ * The range may be split into chunks of days, which are computed concurrently, each with its own
+ * {@link SolarSystem}.
+ */
+public class RiseSetCalendar
+{
+    public static final class Event
+    {
+        private final Body body;
+        private final RiseSetCalculator.EventType type;
+        private final long millisSinceEpoch;
+
+        Event( Body body, RiseSetCalculator.EventType type, long millisSinceEpoch )
+        {
+            this.body = body;
+            this.type = type;
+            this.millisSinceEpoch = millisSinceEpoch;
+        }
+
+        public Body getBody()
+        {
+            return body;
+        }
+
+        public RiseSetCalculator.EventType getType()
+        {
+            return type;
+        }
+
+        public long getTime()
+        {
+            return millisSinceEpoch;
+        }
+
+        @Override
+        public String toString()
+        {
+            return body + " " + type + " " + millisSinceEpoch;
+        }
+    }
+
+    private static final RiseSetCalculator.EventType[] EVENT_TYPES = RiseSetCalculator.EventType.values();
+    private static final double RAD_TO_SIDEREAL_MILLIS = Time.MILLIS_PER_SIDEREAL_DAY / ( 2 * Math.PI );
+    private static final long HALF_DAY = Time.MILLIS_PER_DAY / 2;
+    private static final long SAMPLE_MILLIS = Time.MILLIS_PER_HOUR;
+    private static final int MAX_ITERATION = 8;
+
+    private final Supplier<? extends SolarSystem> solarSystemSupplier;
+    private double longitude;
+    private double latitude;
+    private long precisionMs = 1000;
+    private int chunkDays = 31;
+    private Executor executor;
+
+    /**
+     * @param solarSystemSupplier Creates a new SolarSystem for each chunk of days, e.g. {@code SolarSystemMeeus::new}
+     */
+    public RiseSetCalendar( Supplier<? extends SolarSystem> solarSystemSupplier )
+    {
+        this.solarSystemSupplier = solarSystemSupplier;
+    }
+
+    public void setGeographicLocation( double lonRad, double latRad )
+    {
+        longitude = lonRad;
+        latitude = latRad;
+    }
+
+    public void setPrecision( long precisionMs )
+    {
+        this.precisionMs = precisionMs;
+    }
+
+    /**
+     * @param chunkDays Number of days computed by one task, 31 by default
+     */
+    public void setChunkDays( int chunkDays )
+    {
+        if ( chunkDays <= 0 )
+            throw new IllegalArgumentException( "Invalid number of days per chunk: " + chunkDays );
+        this.chunkDays = chunkDays;
+    }
+
+    /**
+     * @param executor Executor for the chunks, or null to compute all chunks on the calling thread
+     */
+    public void setExecutor( Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    public List<Event> compute( Body body, long startMillis, long endMillis )
+    {
+        return compute( EnumSet.of( body ), startMillis, endMillis );
+    }
+
+    /**
+     * Find all rises, transits and sets of the given bodies.
+     *
+     * @param startMillis Begin of the range in milliseconds since the epoch, inclusive
+     * @param endMillis   End of the range in milliseconds since the epoch, exclusive
+     * @return Events ordered by time
+     */
+    public List<Event> compute( EnumSet<Body> bodies, long startMillis, long endMillis )
+    {
+        if ( bodies.contains( Body.EARTH ) )
+            throw new IllegalArgumentException( "No rise and set of the Earth" );
+        if ( endMillis < startMillis )
+            throw new IllegalArgumentException( "Invalid range [" + startMillis + ", " + endMillis + ")" );
+        final long chunkMillis = chunkDays * Time.MILLIS_PER_DAY;
+        final List<CompletableFuture<List<Event>>> chunks = new ArrayList<>();
+        for ( long chunkStart = startMillis; chunkStart < endMillis; chunkStart += chunkMillis )
+        {
+            final long start = chunkStart;
+            final long end = Math.min( chunkStart + chunkMillis, endMillis );
+            final Supplier<List<Event>> task = () -> new Search( solarSystemSupplier.get() ).compute( bodies, start, end );
+            chunks.add( executor != null
+                    ? CompletableFuture.supplyAsync( task, executor )
+                    : CompletableFuture.completedFuture( task.get() ) );
+        }
+        final List<Event> events = new ArrayList<>();
+        try
+        {
+            for ( CompletableFuture<List<Event>> chunk : chunks )
+                events.addAll( chunk.join() );
+        }
+        catch ( CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+                throw (RuntimeException)e.getCause();
+            throw e;
+        }
+        Collections.sort( events, Comparator.comparingLong( Event::getTime ) );
+        return events;
+    }
+
+    /**
+     * Upper bound of the change of declination per day, in degrees.
+     */
+    private static double maxDeclinationChangeDeg( Body body )
+    {
+        return body == Body.MOON ? 7.5 : 2.5;
+    }
+
+    private class Search
+    {
+        private final SolarSystem solarSystem;
+        private final Position position = new Position();
+        private final Equatorial.Sphe topocentric = new Equatorial.Sphe();
+        private final double sinLat = Math.sin( latitude );
+        private final double cosLat = Math.cos( latitude );
+        private Body body;
+        private double hourAngle;
+        private double declination;
+        private double horizonRad;
+
+        Search( SolarSystem solarSystem )
+        {
+            this.solarSystem = solarSystem;
+        }
+
+        List<Event> compute( EnumSet<Body> bodies, long startMillis, long endMillis )
+        {
+            final List<Event> events = new ArrayList<>();
+            for ( Body b : bodies )
+            {
+                body = b;
+                for ( RiseSetCalculator.EventType type : EVENT_TYPES )
+                    compute( type, startMillis, endMillis, events );
+            }
+            return events;
+        }
+
+        private void compute( RiseSetCalculator.EventType type, long startMillis, long endMillis, List<Event> events )
+        {
+            long seed = startMillis;
+            long previous = Long.MIN_VALUE;
+            while ( seed < endMillis + HALF_DAY )
+            {
+                final long event = findNear( type, seed );
+                if ( event == Long.MIN_VALUE || event <= previous + HALF_DAY )
+                {
+                    // No event within half a day of the seed, or the previous one again
+                    seed += HALF_DAY;
+                    continue;
+                }
+                if ( event >= startMillis && event < endMillis )
+                    events.add( new Event( body, type, event ) );
+                previous = event;
+                // The next event of the same type is about one day later, ahead of the seed by less than half a day
+                seed = event + Time.MILLIS_PER_DAY;
+            }
+        }
+
+        /**
+         * @return The time of the event closest to the seed, if there is one within half a day, or Long.MIN_VALUE
+         */
+        private long findNear( RiseSetCalculator.EventType type, long seed )
+        {
+            compute( seed );
+            if ( type != RiseSetCalculator.EventType.TRANSIT
+                    && staysAboveOrBelowHorizon( Math.toRadians( maxDeclinationChangeDeg( body ) ) ) )
+                return Long.MIN_VALUE;
+            long time = seed;
+            for ( int n = 0; n < MAX_ITERATION; n++ )
+            {
+                final double target;
+                if ( type == RiseSetCalculator.EventType.TRANSIT )
+                    target = 0;
+                else
+                {
+                    final double cosHourAngle = ( Math.sin( horizonRad ) - sinLat * Math.sin( declination ) )
+                            / ( cosLat * Math.cos( declination ) );
+                    if ( Math.abs( cosHourAngle ) > 1 )
+                        break;
+                    target = type == RiseSetCalculator.EventType.RISE
+                            ? -Math.acos( cosHourAngle ) : Math.acos( cosHourAngle );
+                }
+                final long step = (long)( Angle.standardize( target - hourAngle ) * RAD_TO_SIDEREAL_MILLIS );
+                time += step;
+                if ( Math.abs( step ) < precisionMs )
+                    return Math.abs( time - seed ) <= HALF_DAY ? time : Long.MIN_VALUE;
+                compute( time );
+            }
+            return bisect( type, seed );
+        }
+
+        /**
+         * Whether the body is circumpolar or does not rise, with a margin for the change of its declination.
+         */
+        private boolean staysAboveOrBelowHorizon( double margin )
+        {
+            final double above = Math.abs( latitude + declination ) - ( Math.PI / 2 + horizonRad );
+            final double below = Math.abs( latitude - declination ) - ( Math.PI / 2 - horizonRad );
+            return above > margin || below > margin;
+        }
+
+        /**
+         * Locate a rise or set within half a day of the seed by sampling the altitude, for the cases where the
+         * iteration of the hour angle does not converge.
+         */
+        private long bisect( RiseSetCalculator.EventType type, long seed )
+        {
+            final int direction = type == RiseSetCalculator.EventType.RISE ? 1 : -1;
+            long lower = seed - HALF_DAY;
+            double lowerAltitude = altitudeAboveHorizon( lower );
+            long best = Long.MIN_VALUE;
+            for ( long upper = lower + SAMPLE_MILLIS; upper <= seed + HALF_DAY; upper += SAMPLE_MILLIS )
+            {
+                final double upperAltitude = altitudeAboveHorizon( upper );
+                if ( direction * lowerAltitude < 0 && direction * upperAltitude >= 0 )
+                {
+                    final long event = bisect( lower, upper, direction );
+                    if ( best == Long.MIN_VALUE || Math.abs( event - seed ) < Math.abs( best - seed ) )
+                        best = event;
+                }
+                lower = upper;
+                lowerAltitude = upperAltitude;
+            }
+            return best;
+        }
+
+        private long bisect( long lower, long upper, int direction )
+        {
+            while ( upper - lower > precisionMs )
+            {
+                final long middle = lower + ( upper - lower ) / 2;
+                if ( direction * altitudeAboveHorizon( middle ) < 0 )
+                    lower = middle;
+                else
+                    upper = middle;
+            }
+            return lower + ( upper - lower ) / 2;
+        }
+
+        private double altitudeAboveHorizon( long millis )
+        {
+            compute( millis );
+            final double sinAltitude = sinLat * Math.sin( declination )
+                    + cosLat * Math.cos( declination ) * Math.cos( hourAngle );
+            return Math.asin( sinAltitude ) - horizonRad;
+        }
+
+        /**
+         * Compute hour angle and declination of the topocentric position, and the horizon corrected for the
+         * apparent radius of the body, as PlanetRiseSetCalculator does.
+         */
+        private void compute( long millis )
+        {
+            solarSystem.compute( millis, Body.EARTH );
+            solarSystem.compute( millis, body );
+            solarSystem.getEphemerides( body, position );
+            position.setTimeLocation( millis, longitude, latitude );
+            position.get( topocentric, Position.CoordinatesCenter.TOPOCENTRIC );
+            hourAngle = Angle.standardize( Time.getMeanSiderealTimeRadians( millis ) + longitude - topocentric.lon );
+            declination = topocentric.lat;
+            final double apparentRadius = body.RADIUS_MEAN_M / topocentric.distance( Distance.m );
+            horizonRad = Math.toRadians( RiseSetCalculator.OPTICAL_HORIZON_DEG ) - apparentRadius;
+        }
+    }
+}
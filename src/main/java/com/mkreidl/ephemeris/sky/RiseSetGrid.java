@@ -0,0 +1,255 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.Ecliptic;
+import com.mkreidl.ephemeris.solarsystem.SolarSystem;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Rise and set times of one body on one day for all cells of a grid of geographic locations,
+ * e.g. for map overlays.
+ * <p>
+ * The geocentric position of the body does not depend on the observer, so it is computed only once per hour
+ * of the day and interpolated linearly; for the Moon, this deviates by less than 2" from the exact position.
+ * For each cell, the altitude is then derived from the interpolated position, the observer's position and
+ * sidereal time, sampled every hour, and each change of sign is refined by regula falsi.
+ * A body rising and setting again within less than an hour may be missed.
+ * <p>
+ * Results are seconds since the start of the day, or one of the negative codes {@link #ALWAYS_ABOVE},
+ * {@link #ALWAYS_BELOW} or {@link #NO_EVENT}, in arrays with the cell of row (latitude) i and column
+ * (longitude) j at index {@code i * getColumnCount() + j}.
+ */
+public class RiseSetGrid
+{
+    // The body stays above the horizon during the whole day
+    public static final int ALWAYS_ABOVE = -1;
+    // The body stays below the horizon during the whole day
+    public static final int ALWAYS_BELOW = -2;
+    // The body crosses the horizon during the day, but not in the direction of this event
+    public static final int NO_EVENT = -3;
+
+    private static final int HOURS = 24;
+    private static final double SIDEREAL_RATE = 2 * Math.PI / Time.MILLIS_PER_SIDEREAL_DAY;
+    private static final int MAX_ITERATION = 30;
+
+    private final double[] cosLon;
+    private final double[] sinLon;
+    private final double[] cosLat;
+    private final double[] sinLat;
+    private Executor executor;
+
+    /**
+     * @param longitudes Longitudes of the columns in radians, positive to the east
+     * @param latitudes  Latitudes of the rows in radians
+     */
+    public RiseSetGrid( double[] longitudes, double[] latitudes )
+    {
+        cosLon = new double[longitudes.length];
+        sinLon = new double[longitudes.length];
+        for ( int j = 0; j < longitudes.length; j++ )
+        {
+            cosLon[j] = Math.cos( longitudes[j] );
+            sinLon[j] = Math.sin( longitudes[j] );
+        }
+        cosLat = new double[latitudes.length];
+        sinLat = new double[latitudes.length];
+        for ( int i = 0; i < latitudes.length; i++ )
+        {
+            cosLat[i] = Math.cos( latitudes[i] );
+            sinLat[i] = Math.sin( latitudes[i] );
+        }
+    }
+
+    public int getRowCount()
+    {
+        return cosLat.length;
+    }
+
+    public int getColumnCount()
+    {
+        return cosLon.length;
+    }
+
+    /**
+     * @param executor Executor for the rows of the grid, or null to compute all rows on the calling thread
+     */
+    public void setExecutor( Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Compute the rise and set times within [startMillis, startMillis + 1 day).
+     *
+     * @param solarSystem Solar system used for the track of the body; its state is modified
+     * @param riseSeconds Receives the seconds from startMillis to the rise in each cell, or a negative code
+     * @param setSeconds  Receives the seconds from startMillis to the set in each cell, or a negative code
+     */
+    public void compute( SolarSystem solarSystem, Body body, long startMillis, int[] riseSeconds, int[] setSeconds )
+    {
+        if ( body == Body.EARTH )
+            throw new IllegalArgumentException( "No rise and set of the Earth" );
+        final int size = getRowCount() * getColumnCount();
+        if ( riseSeconds.length < size || setSeconds.length < size )
+            throw new IllegalArgumentException( "Output arrays shorter than " + size );
+        final Track track = new Track( solarSystem, body, startMillis );
+        if ( executor == null )
+        {
+            for ( int i = 0; i < getRowCount(); i++ )
+                computeRow( track, i, riseSeconds, setSeconds );
+            return;
+        }
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[getRowCount()];
+        for ( int i = 0; i < tasks.length; i++ )
+        {
+            final int row = i;
+            tasks[i] = CompletableFuture.runAsync( () -> computeRow( track, row, riseSeconds, setSeconds ), executor );
+        }
+        try
+        {
+            CompletableFuture.allOf( tasks ).join();
+        }
+        catch ( CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+                throw (RuntimeException)e.getCause();
+            throw e;
+        }
+    }
+
+    private void computeRow( Track track, int row, int[] riseSeconds, int[] setSeconds )
+    {
+        final double[] altitudes = new double[HOURS + 1];
+        for ( int j = 0; j < getColumnCount(); j++ )
+        {
+            final int cell = row * getColumnCount() + j;
+            boolean above = true;
+            boolean below = true;
+            for ( int hour = 0; hour <= HOURS; hour++ )
+            {
+                altitudes[hour] = track.altitude( hour, row, j );
+                above &= altitudes[hour] >= 0;
+                below &= altitudes[hour] < 0;
+            }
+            if ( above || below )
+            {
+                riseSeconds[cell] = setSeconds[cell] = above ? ALWAYS_ABOVE : ALWAYS_BELOW;
+                continue;
+            }
+            riseSeconds[cell] = setSeconds[cell] = NO_EVENT;
+            for ( int hour = 0; hour < HOURS; hour++ )
+            {
+                // The first rise and the first set of the day
+                if ( altitudes[hour] < 0 && altitudes[hour + 1] >= 0 && riseSeconds[cell] == NO_EVENT )
+                    riseSeconds[cell] = track.crossing( hour, altitudes[hour], altitudes[hour + 1], row, j );
+                else if ( altitudes[hour] >= 0 && altitudes[hour + 1] < 0 && setSeconds[cell] == NO_EVENT )
+                    setSeconds[cell] = track.crossing( hour, altitudes[hour], altitudes[hour + 1], row, j );
+            }
+        }
+    }
+
+    /**
+     * Hourly geocentric equatorial positions of the body, shared by all cells.
+     */
+    private class Track
+    {
+        private final double[] x = new double[HOURS + 2];
+        private final double[] y = new double[HOURS + 2];
+        private final double[] z = new double[HOURS + 2];
+        private final double siderealTime;
+        private final double sinHorizon;
+        private final double radius = Body.EARTH.RADIUS_MEAN_M;
+
+        Track( SolarSystem solarSystem, Body body, long startMillis )
+        {
+            final EnumSet<Body> bodies = EnumSet.of( body );
+            final Ecliptical.Cart ecliptical = new Ecliptical.Cart();
+            final Equatorial.Cart equatorial = new Equatorial.Cart();
+            final double obliquity = Ecliptic.getObliquity( startMillis + Time.MILLIS_PER_DAY / 2 );
+            double distance = 0;
+            for ( int hour = 0; hour < x.length; hour++ )
+            {
+                final long millis = startMillis + hour * Time.MILLIS_PER_HOUR;
+                solarSystem.compute( millis, bodies );
+                solarSystem.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, ecliptical );
+                ecliptical.toEquatorial( obliquity, equatorial );
+                x[hour] = equatorial.x;
+                y[hour] = equatorial.y;
+                z[hour] = equatorial.z;
+                distance += equatorial.length() / x.length;
+            }
+            siderealTime = Time.getMeanSiderealTimeRadians( startMillis );
+            // Horizon lowered by refraction and the apparent radius of the body, as in PlanetRiseSetCalculator
+            sinHorizon = Math.sin( Math.toRadians( RiseSetCalculator.OPTICAL_HORIZON_DEG ) - body.RADIUS_MEAN_M / distance );
+        }
+
+        /**
+         * Sine of the topocentric altitude minus the sine of the altitude of the horizon.
+         */
+        double altitude( double hours, int row, int column )
+        {
+            final int hour = Math.min( (int)hours, HOURS );
+            final double u = hours - hour;
+            final double localSiderealTime = siderealTime + SIDEREAL_RATE * hours * Time.MILLIS_PER_HOUR;
+            final double cosTheta = Math.cos( localSiderealTime );
+            final double sinTheta = Math.sin( localSiderealTime );
+            final double cosLst = cosTheta * cosLon[column] - sinTheta * sinLon[column];
+            final double sinLst = sinTheta * cosLon[column] + cosTheta * sinLon[column];
+            // Unit vector to the zenith of the observer
+            final double zx = cosLat[row] * cosLst;
+            final double zy = cosLat[row] * sinLst;
+            final double zz = sinLat[row];
+            final double tx = x[hour] + u * ( x[hour + 1] - x[hour] ) - radius * zx;
+            final double ty = y[hour] + u * ( y[hour + 1] - y[hour] ) - radius * zy;
+            final double tz = z[hour] + u * ( z[hour + 1] - z[hour] ) - radius * zz;
+            return ( tx * zx + ty * zy + tz * zz ) / Math.sqrt( tx * tx + ty * ty + tz * tz ) - sinHorizon;
+        }
+
+        /**
+         * Refine a change of sign of the altitude between hour and hour + 1 by the Illinois variant of regula falsi.
+         *
+         * @return Seconds since the start of the day
+         */
+        int crossing( int hour, double lowerAltitude, double upperAltitude, int row, int column )
+        {
+            double lower = hour;
+            double upper = hour + 1;
+            double fLower = lowerAltitude;
+            double fUpper = upperAltitude;
+            int side = 0;
+            double t = lower;
+            for ( int n = 0; n < MAX_ITERATION && upper - lower > 0.1 / 3600; n++ )
+            {
+                t = ( lower * fUpper - upper * fLower ) / ( fUpper - fLower );
+                final double f = altitude( t, row, column );
+                if ( ( f >= 0 ) == ( fUpper >= 0 ) )
+                {
+                    upper = t;
+                    fUpper = f;
+                    if ( side == 1 )
+                        fLower /= 2;
+                    side = 1;
+                }
+                else
+                {
+                    lower = t;
+                    fLower = f;
+                    if ( side == -1 )
+                        fUpper /= 2;
+                    side = -1;
+                }
+                if ( Math.abs( f ) < 1e-9 )
+                    break;
+            }
+            return (int)Math.round( t * 3600 );
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.mkreidl.ephemeris.sky;
+
+/**
+ * Safeguarded Newton iteration for the root of a function of time within a bracket.
+ * <p>
+ * Each step is a Newton step, unless the derivative is not positive, the step would leave the bracket,
+ * or it is not less than half of the step before the last one; then the bracket is bisected instead.
+ * Each evaluation shrinks the bracket, so the iteration converges even if the derivative is only
+ * approximate, and quadratically close to a simple root. As the iteration stops on a small step,
+ * the derivative must not be overestimated by orders of magnitude.
+ */
+final class RootFinder
+{
+    interface Function
+    {
+        /**
+         * @return Value of the function at the given time
+         */
+        double evaluate( long millis );
+
+        /**
+         * @return Derivative per millisecond at the time of the last evaluation
+         */
+        double getDerivative();
+    }
+
+    private static final int MAX_ITERATION = 60;
+
+    private final Function function;
+    private int iterations;
+
+    RootFinder( Function function )
+    {
+        this.function = function;
+    }
+
+    /**
+     * @return Number of iterations of the last call of {@link #solve}
+     */
+    int getIterations()
+    {
+        return iterations;
+    }
+
+    /**
+     * Find the root of a function which is negative at the lower and non-negative at the upper end of the bracket.
+     *
+     * @param guess       Time within the bracket at which the function was evaluated last
+     * @param value       Value of the function at guess
+     * @param derivative  Derivative of the function at guess
+     * @param precisionMs Stop as soon as a step or the bracket is smaller than this
+     */
+    long solve( long lower, long upper, long guess, double value, double derivative, long precisionMs )
+    {
+        iterations = 0;
+        double a = lower;
+        double b = upper;
+        double x = guess;
+        double f = value;
+        double df = derivative;
+        double lastStep = b - a;
+        double stepBeforeLast = b - a;
+        while ( iterations++ < MAX_ITERATION )
+        {
+            if ( f < 0 )
+                a = Math.max( a, x );
+            else
+                b = Math.min( b, x );
+            double next = x - f / df;
+            if ( !( df > 0 ) || !( next > a && next < b ) || 2 * Math.abs( next - x ) > Math.abs( stepBeforeLast ) )
+                next = a + ( b - a ) / 2;
+            final double step = next - x;
+            stepBeforeLast = lastStep;
+            lastStep = step;
+            x = next;
+            if ( Math.abs( step ) < precisionMs || b - a < precisionMs )
+                break;
+            f = function.evaluate( Math.round( x ) );
+            df = function.getDerivative();
+            if ( f == 0 )
+                break;
+        }
+        return Math.round( x );
+    }
+}
@@ -0,0 +1,232 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.EpochFrame;
+import com.mkreidl.ephemeris.solarsystem.SolarSystem;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Topocentric coordinates of several bodies for many observers at once, from one computed state
+ * of a {@link SolarSystem}.
+ * <p>
+ * The results are the same as those of {@link Position#get(Equatorial.Sphe, Position.CoordinatesCenter)}
+ * and {@link Position#get(Horizontal.Sphe, Position.CoordinatesCenter)} with topocentric center, after
+ * {@link Position#setTimeLocation(long, double, double)} for each observer. But the geocentric positions,
+ * sidereal time and obliquity are only computed once per call, and the trigonometric functions of the
+ * observers' coordinates only once in the constructor.
+ * <p>
+ * Results are written to arrays with one block of consecutive observers per body, i.e. the value for
+ * the observer i and the k-th of the requested bodies (in the order of {@link Body}) is at index
+ * {@code k * getObserverCount() + i}.
+ */
+public class TopocentricBatch
+{
+    private static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final int observerCount;
+    private final double[] cosLon;
+    private final double[] sinLon;
+    private final double[] cosLat;
+    private final double[] sinLat;
+    private final double[] radius;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private Executor executor;
+
+    /**
+     * @param longitudes Geographic longitudes of the observers in radians, positive to the east
+     * @param latitudes  Geographic latitudes of the observers in radians
+     */
+    public TopocentricBatch( double[] longitudes, double[] latitudes )
+    {
+        this( longitudes, latitudes, null );
+    }
+
+    /**
+     * @param heights Heights of the observers above the mean radius of the Earth in meters, or null
+     */
+    public TopocentricBatch( double[] longitudes, double[] latitudes, double[] heights )
+    {
+        if ( latitudes.length != longitudes.length || heights != null && heights.length != longitudes.length )
+            throw new IllegalArgumentException( "Different numbers of longitudes, latitudes and heights" );
+        observerCount = longitudes.length;
+        cosLon = new double[observerCount];
+        sinLon = new double[observerCount];
+        cosLat = new double[observerCount];
+        sinLat = new double[observerCount];
+        radius = new double[observerCount];
+        for ( int i = 0; i < observerCount; i++ )
+        {
+            cosLon[i] = Math.cos( longitudes[i] );
+            sinLon[i] = Math.sin( longitudes[i] );
+            cosLat[i] = Math.cos( latitudes[i] );
+            sinLat[i] = Math.sin( latitudes[i] );
+            radius[i] = Body.EARTH.RADIUS_MEAN_M + ( heights != null ? heights[i] : 0 );
+        }
+    }
+
+    public int getObserverCount()
+    {
+        return observerCount;
+    }
+
+    /**
+     * Let the computation run on the given executor, one task per chunk of observers.
+     *
+     * @param executor Executor for the tasks, or null to compute all observers on the calling thread
+     */
+    public void setExecutor( Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * @param chunkSize Number of observers computed by one task, 4096 by default
+     */
+    public void setChunkSize( int chunkSize )
+    {
+        if ( chunkSize <= 0 )
+            throw new IllegalArgumentException( "Invalid chunk size: " + chunkSize );
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Compute topocentric equatorial coordinates.
+     *
+     * @param solarSystem      Solar system after {@link SolarSystem#compute(long)} for the given time
+     * @param millisSinceEpoch Time of the state of the solar system
+     * @param rightAscension   Receives the right ascensions in radians, between -pi and pi
+     * @param declination      Receives the declinations in radians
+     */
+    public void computeEquatorial( SolarSystem solarSystem, long millisSinceEpoch, EnumSet<Body> bodies,
+                                   double[] rightAscension, double[] declination )
+    {
+        compute( solarSystem, millisSinceEpoch, bodies, false, rightAscension, declination );
+    }
+
+    /**
+     * Compute horizontal coordinates.
+     *
+     * @param solarSystem      Solar system after {@link SolarSystem#compute(long)} for the given time
+     * @param millisSinceEpoch Time of the state of the solar system
+     * @param azimuth          Receives the azimuths in radians as {@link Horizontal.Sphe#getAzimuth}, between 0 and 2 pi
+     * @param altitude         Receives the altitudes above the horizon in radians
+     */
+    public void computeHorizontal( SolarSystem solarSystem, long millisSinceEpoch, EnumSet<Body> bodies,
+                                   double[] azimuth, double[] altitude )
+    {
+        compute( solarSystem, millisSinceEpoch, bodies, true, azimuth, altitude );
+    }
+
+    private void compute( SolarSystem solarSystem, long millisSinceEpoch, EnumSet<Body> bodies, boolean horizontal,
+                          double[] first, double[] second )
+    {
+        final int size = bodies.size() * observerCount;
+        if ( first.length < size || second.length < size )
+            throw new IllegalArgumentException( "Output arrays shorter than " + size );
+        final EpochFrame frame = EpochFrame.of( millisSinceEpoch );
+        final double siderealTime = frame.getMeanSiderealTime();
+        final double obliquity = frame.getObliquity();
+        // Apparent geocentric positions in equatorial coordinates, shared by all observers
+        final double[] geocentric = new double[3 * bodies.size()];
+        final Ecliptical.Cart ecliptical = new Ecliptical.Cart();
+        final Equatorial.Cart equatorial = new Equatorial.Cart();
+        int k = 0;
+        for ( Body body : bodies )
+        {
+            solarSystem.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, ecliptical );
+            ecliptical.toEquatorial( obliquity, equatorial );
+            geocentric[k++] = equatorial.x;
+            geocentric[k++] = equatorial.y;
+            geocentric[k++] = equatorial.z;
+        }
+        final Chunks chunks = new Chunks( Math.cos( siderealTime ), Math.sin( siderealTime ), geocentric,
+                horizontal, first, second );
+        if ( executor == null || observerCount <= chunkSize )
+        {
+            chunks.compute( 0, observerCount );
+            return;
+        }
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[( observerCount + chunkSize - 1 ) / chunkSize];
+        for ( int t = 0; t < tasks.length; t++ )
+        {
+            final int start = t * chunkSize;
+            final int end = Math.min( start + chunkSize, observerCount );
+            tasks[t] = CompletableFuture.runAsync( () -> chunks.compute( start, end ), executor );
+        }
+        try
+        {
+            CompletableFuture.allOf( tasks ).join();
+        }
+        catch ( CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+                throw (RuntimeException)e.getCause();
+            throw e;
+        }
+    }
+
+    private class Chunks
+    {
+        private final double cosTheta;
+        private final double sinTheta;
+        private final double[] geocentric;
+        private final boolean horizontal;
+        private final double[] first;
+        private final double[] second;
+
+        Chunks( double cosTheta, double sinTheta, double[] geocentric, boolean horizontal,
+                double[] first, double[] second )
+        {
+            this.cosTheta = cosTheta;
+            this.sinTheta = sinTheta;
+            this.geocentric = geocentric;
+            this.horizontal = horizontal;
+            this.first = first;
+            this.second = second;
+        }
+
+        void compute( int start, int end )
+        {
+            final int bodyCount = geocentric.length / 3;
+            for ( int i = start; i < end; i++ )
+            {
+                // Local sidereal time is the sum of Greenwich sidereal time and longitude
+                final double cosLst = cosTheta * cosLon[i] - sinTheta * sinLon[i];
+                final double sinLst = sinTheta * cosLon[i] + cosTheta * sinLon[i];
+                final double ox = radius[i] * cosLat[i] * cosLst;
+                final double oy = radius[i] * cosLat[i] * sinLst;
+                final double oz = radius[i] * sinLat[i];
+                for ( int k = 0; k < bodyCount; k++ )
+                {
+                    double x = geocentric[3 * k] - ox;
+                    double y = geocentric[3 * k + 1] - oy;
+                    double z = geocentric[3 * k + 2] - oz;
+                    if ( horizontal )
+                    {
+                        // Rotate the meridian into the x-z-plane, then the zenith onto the z-axis,
+                        // as Equatorial.Cart.toHorizontal() does
+                        final double xm = cosLst * x + sinLst * y;
+                        final double ym = cosLst * y - sinLst * x;
+                        x = sinLat[i] * xm - cosLat[i] * z;
+                        z = cosLat[i] * xm + sinLat[i] * z;
+                        y = ym;
+                    }
+                    final double r = Math.sqrt( x * x + y * y + z * z );
+                    final double lon = Math.atan2( y, x );
+                    final int index = k * observerCount + i;
+                    // The horizontal longitude is measured from south, see Horizontal.Sphe.getAzimuth()
+                    first[index] = horizontal ? Math.PI - lon : lon;
+                    second[index] = Math.asin( z / r );
+                }
+            }
+        }
+    }
+}
@@ -7,8 +7,11 @@ import com.mkreidl.ephemeris.geometry.Spherical;
 public abstract class AbstractModelVsop87 extends OrbitalModel
 {
     protected final static int DIMENSION = 3;
-    protected double[][][][] coeff;
+    protected Vsop87Coefficients coefficients;
+    // Replaced as a whole by setAccuracy(); read once per evaluation, so concurrent evaluations stay consistent
+    private volatile int[][] truncatedEnds;
     protected double[] results = new double[2 * DIMENSION];
+    private final double[] cartesian = new double[2 * DIMENSION];
     private long timeCached = 0;
     private long timeCachedVel = 0;
 
@@ -21,68 +24,167 @@ public abstract class AbstractModelVsop87 extends OrbitalModel
     public static final String URANUS = "URANUS";
     public static final String NEPTUNE = "NEPTUNE";
 
+    /**
+     * Evaluate only as many terms of each series as are needed for a given accuracy.
+     * <p>
+     * Terms are dropped starting with the smallest amplitude, as long as the sum of the
+     * dropped amplitudes (times |t|^n for the series of power n) stays within the accuracy
+     * for all times less than {@code timeSpanMillennia} away from J2000.
+     * Velocities are computed from the same, truncated set of terms.
+     * <p>
+     * This may be called while other threads call {@link #evaluate(long, double[], int)}:
+     * each evaluation uses either the previous or the new setting for all of its terms.
+     *
+     * @param accuracy          Maximum error per coordinate in the units of this model, e.g.
+     *                          1e-7 (AU) for rectangular models, or 4.8e-6 (1 arcsec in radians)
+     *                          for the angles of spherical models; 0 selects the full series
+     * @param timeSpanMillennia Maximum distance from J2000 in Julian millennia for which the
+     *                          accuracy is guaranteed
+     */
+    public void setAccuracy( double accuracy, double timeSpanMillennia )
+    {
+        truncatedEnds = accuracy > 0 ? coefficients.truncate( accuracy, timeSpanMillennia ) : null;
+        timeCached = timeCachedVel = Long.MIN_VALUE;
+    }
+
+    /**
+     * @return Number of terms evaluated per call for the current accuracy setting
+     */
+    public int getNumberOfTerms()
+    {
+        int count = 0;
+        for ( int dim = 0; dim < DIMENSION; dim++ )
+            for ( int n = 0; n < coefficients.getNumberOfPowers( dim ); n++ )
+                count += end( dim, n ) - coefficients.start( dim, n );
+        return count;
+    }
+
+    int end( int dim, int n )
+    {
+        return end( truncatedEnds, dim, n );
+    }
+
+    private int end( int[][] ends, int dim, int n )
+    {
+        return ends != null ? ends[dim][n] : coefficients.end( dim, n );
+    }
+
     protected void compute( Time time, boolean computeVelocity )
     {
-        if ( time.getTime() != timeCached || computeVelocity && timeCachedVel != timeCached )
+        compute( time.getTime(), computeVelocity );
+    }
+
+    protected void compute( long millisSinceEpoch, boolean computeVelocity )
+    {
+        if ( millisSinceEpoch != timeCached || computeVelocity && timeCachedVel != timeCached )
         {
-            final double t = time.julianDayNumberSince( Time.J2000 ) / Time.DAYS_PER_MILLENNIUM;
-            for ( int dim = 0; dim < DIMENSION; dim++ )
+            final double t = Time.julianDayNumberSinceJ2000( millisSinceEpoch ) / Time.DAYS_PER_MILLENNIUM;
+            computeSeries( t, computeVelocity, results, 0 );
+            // remember time for which last calculation was performed
+            timeCached = millisSinceEpoch;
+            if ( computeVelocity )
+                timeCachedVel = timeCached;
+        }
+    }
+
+    @Override
+    public void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity )
+    {
+        compute( millisSinceEpoch, velocity != null );
+        System.arraycopy( results, 0, cartesian, 0, cartesian.length );
+        toCartesian( cartesian, position, velocity );
+    }
+
+    @Override
+    public void evaluate( long millis, double[] out, int offset )
+    {
+        final double t = (double)( millis - Time.J2000.getTime() ) / Time.MILLIS_PER_DAY / Time.DAYS_PER_MILLENNIUM;
+        computeSeries( t, true, out, offset );
+        toCartesian( out, offset, true );
+    }
+
+    /**
+     * Sum up the series for all coordinates and, optionally, their time derivatives.
+     * Only reads the coefficients, so it may be called concurrently.
+     */
+    private void computeSeries( double t, boolean computeVelocity, double[] out, int offset )
+    {
+        final int[][] ends = truncatedEnds;
+        for ( int dim = 0; dim < DIMENSION; dim++ )
+        {
+            double pos = 0.0;
+            double vel = 0.0;
+            for ( int n = coefficients.getNumberOfPowers( dim ) - 1; n > 0; --n )
             {
-                double pos = 0.0;
-                double vel = 0.0;
-                for ( int n = coeff[dim].length - 1; n > 0; --n )
+                final double c = cosSeries( ends, dim, n, t );
+                pos = pos * t + c;
+                if ( computeVelocity )
                 {
-                    final double c = cosSeries( dim, n, t );
-                    pos = pos * t + c;
-                    if ( computeVelocity )
-                    {
-                        final double s = sinSeries( dim, n - 1, t );
-                        vel = vel * t + s + n * c;
-                    }
+                    final double s = sinSeries( ends, dim, n - 1, t );
+                    vel = vel * t + s + n * c;
                 }
-                results[dim] = pos * t + cosSeries( dim, 0, t );
-                results[dim + DIMENSION] = vel / ( Time.DAYS_PER_MILLENNIUM * Time.SECONDS_PER_DAY );
             }
-            // remember time for which last calculation was performed
-            timeCached = time.getTime();
-            if ( computeVelocity )
-                timeCachedVel = timeCached;
+            out[offset + dim] = pos * t + cosSeries( ends, dim, 0, t );
+            out[offset + dim + DIMENSION] = vel / ( Time.DAYS_PER_MILLENNIUM * Time.SECONDS_PER_DAY );
         }
     }
 
-    private double cosSeries( int dim, int n, double time )
+    private double cosSeries( int[][] ends, int dim, int n, double time )
     {
+        final double[] amplitude = coefficients.amplitude;
+        final double[] phase = coefficients.phase;
+        final double[] frequency = coefficients.frequency;
+        final int end = end( ends, dim, n );
         double result = 0.0;
-        for ( double[] triple : coeff[dim][n] )
-            result += triple[0] * Math.cos( triple[1] + triple[2] * time );
+        for ( int i = coefficients.start( dim, n ); i < end; i++ )
+            result += amplitude[i] * Math.cos( phase[i] + frequency[i] * time );
         return result;
     }
 
-    private double sinSeries( int dim, int n, double time )
+    private double sinSeries( int[][] ends, int dim, int n, double time )
     {
+        final double[] amplitude = coefficients.amplitude;
+        final double[] phase = coefficients.phase;
+        final double[] frequency = coefficients.frequency;
+        final int end = end( ends, dim, n );
         double result = 0.0;
-        for ( double[] triple : coeff[dim][n] )
-            result -= triple[0] * triple[2] * Math.sin( triple[1] + triple[2] * time );
+        for ( int i = coefficients.start( dim, n ); i < end; i++ )
+            result -= amplitude[i] * frequency[i] * Math.sin( phase[i] + frequency[i] * time );
         return result;
     }
 
+    /**
+     * Convert raw series results (coordinates followed by their time derivatives)
+     * in place into Cartesian position and velocity.
+     */
+    abstract void toCartesian( double[] values, int offset, boolean velocity );
+
+    /**
+     * Convert raw series results, overwriting them, into Cartesian position and velocity.
+     */
+    void toCartesian( double[] values, Cartesian position, Cartesian velocity )
+    {
+        toCartesian( values, 0, velocity != null );
+        position.set( values[0], values[1], values[2] );
+        if ( velocity != null )
+            velocity.set( values[3], values[4], values[5] );
+    }
+
     public abstract static class XYZ extends AbstractModelVsop87
     {
         private final Cartesian cartesianPos = new Cartesian();
         private final Cartesian cartesianVel = new Cartesian();
 
         @Override
-        public void compute( Time time, Cartesian position, Cartesian velocity )
+        void toCartesian( double[] values, int offset, boolean velocity )
         {
-            compute( time, velocity != null );
-            position.set( results[0], results[1], results[2] );
-            if ( velocity != null )
-                velocity.set( results[3], results[4], results[5] );
+            // The series already yield rectangular coordinates
         }
 
-        public void compute( Time time, Spherical position, Spherical velocity )
+        @Override
+        public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
         {
-            compute( time, cartesianPos, velocity != null ? cartesianVel : null );
+            compute( millisSinceEpoch, cartesianPos, velocity != null ? cartesianVel : null );
             cartesianPos.transform( position );
             if ( velocity != null )
                 cartesianVel.transformVelocity( cartesianPos, velocity );
@@ -91,32 +193,27 @@ public abstract class AbstractModelVsop87 extends OrbitalModel
 
     public abstract static class LBR extends AbstractModelVsop87
     {
-        private final Spherical sphericalPos = new Spherical();
-        private final Spherical sphericalVel = new Spherical();
-
         /**
          * Calculate position and velocity in spherical coordinates
          *
-         * @param time
+         * @param millisSinceEpoch
          * @param position
-         * @param velocity Units: [rad/day], [rad], [rad]
+         * @param velocity Units: [dist/s], [rad/s], [rad/s]
          * @return
          */
         @Override
-        public void compute( Time time, Spherical position, Spherical velocity )
+        public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
         {
-            compute( time, velocity != null );
+            compute( millisSinceEpoch, velocity != null );
             position.set( results[2], results[0], results[1] );
             if ( velocity != null )
                 velocity.set( results[5], results[3], results[4] );
         }
 
-        public void compute( Time time, Cartesian position, Cartesian velocity )
+        @Override
+        void toCartesian( double[] values, int offset, boolean velocity )
         {
-            compute( time, sphericalPos, velocity != null ? sphericalVel : null );
-            sphericalPos.transform( position );
-            if ( velocity != null )
-                sphericalVel.transformVelocity( sphericalPos, velocity );
+            sphericalToCartesian( values, offset, velocity );
         }
     }
 }
@@ -10,8 +10,12 @@ public class Ecliptic {
   }
 
   public static void computeEclJ2000ToEquToDate(Time time, Matrix3x3 transformation) {
-    PrecessionMatrix.compute(time, transformation);
-    transformation.postRotateX(getObliquity(time));
+    computeEclJ2000ToEquToDate(time.getTime(), transformation);
+  }
+
+  public static void computeEclJ2000ToEquToDate(long millisSinceEpoch, Matrix3x3 transformation) {
+    PrecessionMatrix.compute(millisSinceEpoch, transformation);
+    transformation.postRotateX(getObliquity(millisSinceEpoch));
   }
 
   /**
@@ -23,18 +27,34 @@ public class Ecliptic {
    * @return Obliquity of the ecliptic in radians at the given date.
    */
   public static double getObliquity( final Time time ) {
-    return getObliquity(time.julianCenturiesSince(Time.J2000));
+    return getObliquityCenturies(time.julianCenturiesSince(Time.J2000));
+  }
+
+  public static double getObliquity(long millisSinceEpoch) {
+    return getObliquityCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
   }
-  
-  static double getObliquity( double t ) {
+
+  /**
+   * @param t Julian centuries since J2000
+   * @return Obliquity of the ecliptic in radians.
+   */
+  static double getObliquityCenturies( double t ) {
     return Math.toRadians(23.4392911111 - t * (1.30041667e-2 + t * (1.638888e-7 - t * 5.036111e-7)));
   }
 
   static Matrix3x3 getEcl2EquMatrix(Time time, Matrix3x3 output) {
-    return output.setRotation(getObliquity(time), Coordinates.Axis.X);
+    return getEcl2EquMatrix(time.getTime(), output);
+  }
+
+  static Matrix3x3 getEcl2EquMatrix(long millisSinceEpoch, Matrix3x3 output) {
+    return output.setRotation(getObliquity(millisSinceEpoch), Coordinates.Axis.X);
   }
 
   public static Matrix3x3 getEqu2EclMatrix(Time time, Matrix3x3 output) {
-    return output.setRotation(-getObliquity(time), Coordinates.Axis.X);
+    return getEqu2EclMatrix(time.getTime(), output);
+  }
+
+  public static Matrix3x3 getEqu2EclMatrix(long millisSinceEpoch, Matrix3x3 output) {
+    return output.setRotation(-getObliquity(millisSinceEpoch), Coordinates.Axis.X);
   }
 }
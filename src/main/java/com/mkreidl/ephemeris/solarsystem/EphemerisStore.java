@@ -0,0 +1,217 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Distance;
+import com.mkreidl.ephemeris.Time;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * File of precomputed positions and velocities of all bodies at equidistant nodes, read through
+ * memory mapping.
+ * <p>
+ * The file starts with a header listing, for each body, its model type and distance unit, the time of
+ * the first node, the spacing and number of nodes, and the file offset of its records. The records of a
+ * body follow each other in order of time, each holding position x, y, z and velocity x, y, z as doubles,
+ * in the distance unit of the source model and per second, as {@link OrbitalModel#evaluate(long, double[], int)}
+ * returns them. All values are little-endian.
+ * <p>
+ * Opening a store only maps the file, so the operating system shares its pages among all processes
+ * reading the same file, and nothing is computed before the first query.
+ *
+ * @see SolarSystemMapped
+ */
+public final class EphemerisStore
+{
+    public static final int MAGIC = 0x4D485045;  // "EPHM"
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 48;
+    private static final int RECORD_BYTES = 8 * ModelHermite.RECORD_SIZE;
+    private static final Body[] BODIES = Body.values();
+
+    private final Map<Body, ModelHermite> models;
+
+    private EphemerisStore( Map<Body, ModelHermite> models )
+    {
+        this.models = models;
+    }
+
+    /**
+     * Default spacing of the nodes of a body: the error of cubic Hermite interpolation grows with the
+     * fourth power of the spacing and of the angular velocity, so the Moon needs much denser nodes.
+     */
+    public static long getDefaultSpacingMillis( Body body )
+    {
+        switch ( body )
+        {
+            case MOON:
+                return Time.MILLIS_PER_HOUR;
+            case MERCURY:
+                return Time.MILLIS_PER_DAY / 4;
+            default:
+                return Time.MILLIS_PER_DAY / 2;
+        }
+    }
+
+    /**
+     * Write all bodies with their default spacing.
+     *
+     * @see #write(SolarSystem, long, long, Map, Path)
+     */
+    public static void write( SolarSystem source, long startMillis, long endMillis, Path file ) throws IOException
+    {
+        final Map<Body, Long> spacingMillis = new EnumMap<>( Body.class );
+        for ( Body body : BODIES )
+            spacingMillis.put( body, getDefaultSpacingMillis( body ) );
+        write( source, startMillis, endMillis, spacingMillis, file );
+    }
+
+    /**
+     * Evaluate the models of the source at equidistant nodes and write them to a file.
+     * The nodes of each body start at startMillis and extend up to or beyond endMillis.
+     *
+     * @param spacingMillis Spacing of the nodes for each body
+     */
+    public static void write( SolarSystem source, long startMillis, long endMillis, Map<Body, Long> spacingMillis,
+                              Path file ) throws IOException
+    {
+        if ( endMillis <= startMillis )
+            throw new IllegalArgumentException( "Empty time range: " + startMillis + " - " + endMillis );
+        final long[] nodeCounts = new long[BODIES.length];
+        final long[] offsets = new long[BODIES.length];
+        long offset = HEADER_SIZE + (long)ENTRY_SIZE * BODIES.length;
+        for ( Body body : BODIES )
+        {
+            final long spacing = spacingMillis.get( body );
+            if ( spacing <= 0 )
+                throw new IllegalArgumentException( "Invalid spacing for " + body + ": " + spacing );
+            nodeCounts[body.ordinal()] = ( endMillis - startMillis + spacing - 1 ) / spacing + 1;
+            offsets[body.ordinal()] = offset;
+            offset += nodeCounts[body.ordinal()] * RECORD_BYTES;
+        }
+        try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE ) )
+        {
+            final ByteBuffer buffer = ByteBuffer.allocate( 1 << 16 ).order( ByteOrder.LITTLE_ENDIAN );
+            buffer.putInt( MAGIC ).putInt( FORMAT_VERSION ).putInt( BODIES.length ).putInt( 0 );
+            for ( Body body : BODIES )
+            {
+                final OrbitalModel model = source.models.get( body );
+                buffer.putInt( body.ordinal() ).putInt( model.getType().ordinal() )
+                        .putInt( model.getDistanceUnit().ordinal() ).putInt( 0 );
+                buffer.putLong( startMillis ).putLong( spacingMillis.get( body ) )
+                        .putLong( nodeCounts[body.ordinal()] ).putLong( offsets[body.ordinal()] );
+            }
+            final double[] values = new double[ModelHermite.RECORD_SIZE];
+            for ( Body body : BODIES )
+            {
+                final OrbitalModel model = source.models.get( body );
+                final long spacing = spacingMillis.get( body );
+                for ( long node = 0; node < nodeCounts[body.ordinal()]; node++ )
+                {
+                    model.evaluate( startMillis + node * spacing, values, 0 );
+                    if ( buffer.remaining() < RECORD_BYTES )
+                        flush( buffer, channel );
+                    for ( double value : values )
+                        buffer.putDouble( value );
+                }
+            }
+            flush( buffer, channel );
+        }
+    }
+
+    private static void flush( ByteBuffer buffer, FileChannel channel ) throws IOException
+    {
+        buffer.flip();
+        while ( buffer.hasRemaining() )
+            channel.write( buffer );
+        buffer.clear();
+    }
+
+    /**
+     * Map a file written by {@link #write(SolarSystem, long, long, Map, Path)}.
+     * The mapping stays valid after this method has returned; the file itself is not kept open.
+     */
+    public static EphemerisStore open( Path file ) throws IOException
+    {
+        try ( FileChannel channel = FileChannel.open( file, StandardOpenOption.READ ) )
+        {
+            final long size = channel.size();
+            if ( size < HEADER_SIZE )
+                throw new IOException( "Not an ephemeris store: " + file );
+            final ByteBuffer header = channel.map( FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE )
+                    .order( ByteOrder.LITTLE_ENDIAN );
+            if ( header.getInt() != MAGIC )
+                throw new IOException( "Not an ephemeris store: " + file );
+            final int version = header.getInt();
+            if ( version != FORMAT_VERSION )
+                throw new IOException( "Unsupported format version " + version + ": " + file );
+            final int bodyCount = header.getInt();
+            if ( bodyCount < 0 || HEADER_SIZE + (long)ENTRY_SIZE * bodyCount > size )
+                throw new IOException( "Corrupt header: " + file );
+            final ByteBuffer entries = channel.map( FileChannel.MapMode.READ_ONLY, HEADER_SIZE,
+                    (long)ENTRY_SIZE * bodyCount ).order( ByteOrder.LITTLE_ENDIAN );
+            final Map<Body, ModelHermite> models = new EnumMap<>( Body.class );
+            for ( int i = 0; i < bodyCount; i++ )
+            {
+                final int body = entries.getInt();
+                final int type = entries.getInt();
+                final int distanceUnit = entries.getInt();
+                entries.getInt();
+                final long startMillis = entries.getLong();
+                final long spacingMillis = entries.getLong();
+                final long nodeCount = entries.getLong();
+                final long offset = entries.getLong();
+                if ( body < 0 || body >= BODIES.length || type < 0 || type >= OrbitalModel.Type.values().length
+                        || distanceUnit < 0 || distanceUnit >= Distance.values().length
+                        || spacingMillis <= 0 || nodeCount < 2 || nodeCount * RECORD_BYTES > Integer.MAX_VALUE
+                        || offset < 0 || offset + nodeCount * RECORD_BYTES > size )
+                    throw new IOException( "Corrupt entry " + i + ": " + file );
+                final ByteBuffer records = channel.map( FileChannel.MapMode.READ_ONLY, offset, nodeCount * RECORD_BYTES )
+                        .order( ByteOrder.LITTLE_ENDIAN );
+                models.put( BODIES[body], new ModelHermite( OrbitalModel.Type.values()[type],
+                        Distance.values()[distanceUnit], startMillis, spacingMillis, (int)nodeCount,
+                        records.asDoubleBuffer() ) );
+            }
+            for ( Body body : BODIES )
+                if ( !models.containsKey( body ) )
+                    throw new IOException( "Missing body " + body + ": " + file );
+            return new EphemerisStore( models );
+        }
+    }
+
+    public ModelHermite getModel( Body body )
+    {
+        return models.get( body );
+    }
+
+    /**
+     * @return Begin of the time range covered by all bodies
+     */
+    public long getStartMillis()
+    {
+        long start = Long.MIN_VALUE;
+        for ( ModelHermite model : models.values() )
+            start = Math.max( start, model.getStartMillis() );
+        return start;
+    }
+
+    /**
+     * @return End of the time range covered by all bodies
+     */
+    public long getEndMillis()
+    {
+        long end = Long.MAX_VALUE;
+        for ( ModelHermite model : models.values() )
+            end = Math.min( end, model.getEndMillis() );
+        return end;
+    }
+}
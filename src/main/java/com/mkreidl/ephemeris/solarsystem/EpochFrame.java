@@ -0,0 +1,196 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Matrix3x3;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The time-dependent quantities of the reference frames for one instant: obliquity of the ecliptic,
+ * nutation, precession, the transformations from ecliptical J2000 to equatorial coordinates of date,
+ * and Greenwich sidereal time.
+ * <p>
+ * Obliquity and sidereal time are computed with the frame, nutation and the matrices on first use.
+ * A frame is immutable apart from these, so it may be shared by any number of threads.
+ * Use {@link #of(long)} to reuse frames for instants that occur repeatedly.
+ */
+public final class EpochFrame
+{
+    private static final int CACHE_BITS = 6;
+    private static final int CACHE_SIZE = 1 << CACHE_BITS;
+    private static final AtomicReferenceArray<EpochFrame> cache = new AtomicReferenceArray<>( CACHE_SIZE );
+
+    private final long millisSinceEpoch;
+    private final double julianCenturies;
+    private final double obliquity;
+    private final double meanSiderealTime;
+    // Computed on first use; a race only computes equal values twice
+    private volatile double[] nutation;
+    private volatile Matrix3x3 precession;
+    private volatile Matrix3x3 eclJ2000ToMeanEquToDate;
+    private volatile Matrix3x3 eclJ2000ToTrueEquToDate;
+
+    public EpochFrame( long millisSinceEpoch )
+    {
+        this.millisSinceEpoch = millisSinceEpoch;
+        julianCenturies = Time.julianCenturiesSinceJ2000( millisSinceEpoch );
+        obliquity = Ecliptic.getObliquityCenturies( julianCenturies );
+        meanSiderealTime = Time.getMeanSiderealTimeRadians( millisSinceEpoch );
+    }
+
+    /**
+     * Get the frame for the given instant from a small cache shared by all threads,
+     * computing and caching it if it is not present.
+     * <p>
+     * The cache is direct-mapped and lock-free: a frame for a different instant mapping to the same slot
+     * simply replaces the cached one.
+     */
+    public static EpochFrame of( long millisSinceEpoch )
+    {
+        final int slot = slot( millisSinceEpoch );
+        final EpochFrame cached = cache.get( slot );
+        if ( cached != null && cached.millisSinceEpoch == millisSinceEpoch )
+            return cached;
+        final EpochFrame frame = new EpochFrame( millisSinceEpoch );
+        cache.set( slot, frame );
+        return frame;
+    }
+
+    public static EpochFrame of( Time time )
+    {
+        return of( time.getTime() );
+    }
+
+    private static int slot( long millisSinceEpoch )
+    {
+        // Instants of interest are often multiples of a second or a minute, so mix all bits into the index
+        final long hash = millisSinceEpoch * 0x9E3779B97F4A7C15L;
+        return (int)( hash >>> ( 64 - CACHE_BITS ) );
+    }
+
+    public long getTime()
+    {
+        return millisSinceEpoch;
+    }
+
+    /**
+     * @return Julian centuries since J2000
+     */
+    public double getJulianCenturies()
+    {
+        return julianCenturies;
+    }
+
+    /**
+     * @return Mean obliquity of the ecliptic in radians, same as {@link Ecliptic#getObliquity(long)}
+     */
+    public double getObliquity()
+    {
+        return obliquity;
+    }
+
+    /**
+     * @return Mean obliquity plus nutation in obliquity, in radians
+     */
+    public double getTrueObliquity()
+    {
+        return obliquity + getNutationObliquity();
+    }
+
+    /**
+     * @return Nutation in longitude in radians
+     */
+    public double getNutationLongitude()
+    {
+        return getNutation()[0];
+    }
+
+    /**
+     * @return Nutation in obliquity in radians
+     */
+    public double getNutationObliquity()
+    {
+        return getNutation()[1];
+    }
+
+    /**
+     * @return Greenwich Mean Sidereal Time in radians
+     */
+    public double getMeanSiderealTime()
+    {
+        return meanSiderealTime;
+    }
+
+    /**
+     * @return Greenwich Apparent Sidereal Time in radians, i.e. corrected by the equation of the equinoxes
+     */
+    public double getApparentSiderealTime()
+    {
+        return meanSiderealTime + getNutationLongitude() * Math.cos( getTrueObliquity() );
+    }
+
+    /**
+     * @return The precession matrix from ecliptical J2000 to ecliptical coordinates of date,
+     * same as {@link PrecessionMatrix#compute(long, Matrix3x3)}
+     */
+    public Matrix3x3 getPrecession( Matrix3x3 output )
+    {
+        return output.set( getPrecession() );
+    }
+
+    /**
+     * @return The transformation from ecliptical J2000 to mean equatorial coordinates of date,
+     * same as {@link Ecliptic#computeEclJ2000ToEquToDate(long, Matrix3x3)}
+     */
+    public Matrix3x3 getEclJ2000ToMeanEquToDate( Matrix3x3 output )
+    {
+        Matrix3x3 matrix = eclJ2000ToMeanEquToDate;
+        if ( matrix == null )
+        {
+            matrix = new Matrix3x3().set( getPrecession() ).postRotateX( obliquity );
+            eclJ2000ToMeanEquToDate = matrix;
+        }
+        return output.set( matrix );
+    }
+
+    /**
+     * @return The transformation from ecliptical J2000 to true equatorial coordinates of date,
+     * i.e. including nutation
+     */
+    public Matrix3x3 getEclJ2000ToTrueEquToDate( Matrix3x3 output )
+    {
+        Matrix3x3 matrix = eclJ2000ToTrueEquToDate;
+        if ( matrix == null )
+        {
+            matrix = new Matrix3x3().set( getPrecession() ).postRotateZ( getNutationLongitude() )
+                    .postRotateX( getTrueObliquity() );
+            eclJ2000ToTrueEquToDate = matrix;
+        }
+        return output.set( matrix );
+    }
+
+    private double[] getNutation()
+    {
+        double[] values = nutation;
+        if ( values == null )
+        {
+            final Nutation series = new Nutation();
+            series.computeCenturies( julianCenturies );
+            values = new double[]{series.getLongitude(), series.getObliquity()};
+            nutation = values;
+        }
+        return values;
+    }
+
+    private Matrix3x3 getPrecession()
+    {
+        Matrix3x3 matrix = precession;
+        if ( matrix == null )
+        {
+            matrix = new Matrix3x3();
+            PrecessionMatrix.compute( millisSinceEpoch, matrix );
+            precession = matrix;
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,309 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Distance;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.geometry.Spherical;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Piecewise Chebyshev approximation of another orbital model over a fixed time range.
+ * <p>
+ * The time range is split into segments, on each of which the Cartesian coordinates are
+ * represented by Chebyshev polynomials of a fixed degree, as in the JPL ephemerides.
+ * Segment lengths are chosen adaptively: a segment is halved until the fit deviates
+ * from the source model by no more than the requested tolerance.
+ * <p>
+ * Positions and velocities (the derivative of the polynomials) are evaluated with
+ * Clenshaw's recurrence, which costs a few dozen multiply-adds per coordinate.
+ */
+public class ModelChebyshev extends OrbitalModel
+{
+    public static final int DEFAULT_DEGREE = 13;
+    private static final long MIN_SEGMENT_MILLIS = Time.MILLIS_PER_HOUR;
+
+    private final Type type;
+    private final Distance distanceUnit;
+    private final int degree;
+
+    // Segment k spans [ boundaries[k], boundaries[k + 1] )
+    private final long[] boundaries;
+    // Coefficients of segment k and coordinate dim start at ( k * 3 + dim ) * ( degree + 1 )
+    private final double[] coefficients;
+
+    private final Cartesian cartesianPos = new Cartesian();
+    private final Cartesian cartesianVel = new Cartesian();
+    private final double[] values = new double[6];
+    private int segmentCached = 0;
+
+    private ModelChebyshev( OrbitalModel source, int degree, long[] boundaries, double[] coefficients )
+    {
+        this.type = source.getType();
+        this.distanceUnit = source.getDistanceUnit();
+        this.degree = degree;
+        this.boundaries = boundaries;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * Fit polynomials of {@link #DEFAULT_DEGREE} to the given model.
+     *
+     * @see #fit(OrbitalModel, long, long, double, int)
+     */
+    public static ModelChebyshev fit( OrbitalModel source, long startMillis, long endMillis, double toleranceMeters )
+    {
+        return fit( source, startMillis, endMillis, toleranceMeters, DEFAULT_DEGREE );
+    }
+
+    /**
+     * Sample the source model and fit piecewise Chebyshev polynomials to its positions.
+     *
+     * @param source          Model to approximate
+     * @param startMillis     Begin of the time range in milliseconds since the epoch
+     * @param endMillis       End of the time range in milliseconds since the epoch
+     * @param toleranceMeters Maximum deviation in each coordinate from the source model
+     * @param degree          Degree of the polynomials
+     */
+    public static ModelChebyshev fit( OrbitalModel source, long startMillis, long endMillis,
+                                      double toleranceMeters, int degree )
+    {
+        if ( endMillis <= startMillis )
+            throw new IllegalArgumentException( "Empty time range: " + startMillis + " - " + endMillis );
+        final Fitter fitter = new Fitter( source, degree, toleranceMeters / source.getDistanceUnit().toMeters() );
+        fitter.fit( startMillis, endMillis );
+
+        final long[] boundaries = new long[fitter.starts.size() + 1];
+        final double[] coefficients = new double[fitter.starts.size() * 3 * ( degree + 1 )];
+        for ( int k = 0; k < fitter.starts.size(); k++ )
+        {
+            boundaries[k] = fitter.starts.get( k );
+            System.arraycopy( fitter.segments.get( k ), 0, coefficients, k * 3 * ( degree + 1 ), 3 * ( degree + 1 ) );
+        }
+        boundaries[fitter.starts.size()] = endMillis;
+        return new ModelChebyshev( source, degree, boundaries, coefficients );
+    }
+
+    @Override
+    public Type getType()
+    {
+        return type;
+    }
+
+    @Override
+    public Distance getDistanceUnit()
+    {
+        return distanceUnit;
+    }
+
+    public long getStartMillis()
+    {
+        return boundaries[0];
+    }
+
+    public long getEndMillis()
+    {
+        return boundaries[boundaries.length - 1];
+    }
+
+    public int getNumberOfSegments()
+    {
+        return boundaries.length - 1;
+    }
+
+    @Override
+    public void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity )
+    {
+        evaluate( findSegment( millisSinceEpoch ), millisSinceEpoch, values, 0, velocity != null );
+        position.set( values[0], values[1], values[2] );
+        if ( velocity != null )
+            velocity.set( values[3], values[4], values[5] );
+    }
+
+    @Override
+    public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
+    {
+        compute( millisSinceEpoch, cartesianPos, velocity != null ? cartesianVel : null );
+        cartesianPos.transform( position );
+        if ( velocity != null )
+            cartesianVel.transformVelocity( cartesianPos, velocity );
+    }
+
+    @Override
+    public void evaluate( long millis, double[] out, int offset )
+    {
+        checkRange( millis );
+        evaluate( searchSegment( millis ), millis, out, offset, true );
+    }
+
+    private void evaluate( int k, long millis, double[] out, int offset, boolean velocity )
+    {
+        final long length = boundaries[k + 1] - boundaries[k];
+        final double x = 2.0 * ( millis - boundaries[k] ) / length - 1.0;
+        // Derivative with respect to x is converted to [dist/s]
+        final double dxdt = 2000.0 / length;
+        final int stride = degree + 1;
+        final int start = k * 3 * stride;
+        for ( int dim = 0; dim < 3; dim++ )
+        {
+            out[offset + dim] = evaluate( coefficients, start + dim * stride, degree, x );
+            if ( velocity )
+                out[offset + dim + 3] = evaluateDerivative( coefficients, start + dim * stride, degree, x ) * dxdt;
+        }
+    }
+
+    private int findSegment( long millis )
+    {
+        checkRange( millis );
+        int k = segmentCached;
+        if ( millis < boundaries[k] || millis >= boundaries[k + 1] )
+            k = segmentCached = searchSegment( millis );
+        return k;
+    }
+
+    private void checkRange( long millis )
+    {
+        if ( millis < boundaries[0] || millis > boundaries[boundaries.length - 1] )
+            throw new IllegalArgumentException( "Time " + millis + " outside of fitted range "
+                    + boundaries[0] + " - " + boundaries[boundaries.length - 1] );
+    }
+
+    private int searchSegment( long millis )
+    {
+        int low = 0;
+        int high = boundaries.length - 2;
+        while ( low < high )
+        {
+            final int mid = ( low + high + 1 ) >>> 1;
+            if ( boundaries[mid] <= millis )
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
+    }
+
+    /**
+     * Clenshaw's recurrence for c_0 T_0( x ) + c_1 T_1( x ) + ... + c_n T_n( x ).
+     */
+    static double evaluate( double[] c, int offset, int degree, double x )
+    {
+        double b1 = 0.0;
+        double b2 = 0.0;
+        for ( int j = degree; j > 0; --j )
+        {
+            final double b0 = c[offset + j] + 2 * x * b1 - b2;
+            b2 = b1;
+            b1 = b0;
+        }
+        return c[offset] + x * b1 - b2;
+    }
+
+    /**
+     * Derivative of Clenshaw's recurrence with respect to x.
+     */
+    static double evaluateDerivative( double[] c, int offset, int degree, double x )
+    {
+        double b1 = 0.0;
+        double b2 = 0.0;
+        double d1 = 0.0;
+        double d2 = 0.0;
+        for ( int j = degree; j > 0; --j )
+        {
+            final double d0 = 2 * b1 + 2 * x * d1 - d2;
+            final double b0 = c[offset + j] + 2 * x * b1 - b2;
+            d2 = d1;
+            d1 = d0;
+            b2 = b1;
+            b1 = b0;
+        }
+        return b1 + x * d1 - d2;
+    }
+
+    private static class Fitter
+    {
+        private final OrbitalModel source;
+        private final int degree;
+        private final double tolerance;
+        private final Time time = new Time();
+        private final Cartesian position = new Cartesian();
+        private final double[][] samples;
+        private final double[] nodes;
+
+        final List<Long> starts = new ArrayList<>();
+        final List<double[]> segments = new ArrayList<>();
+
+        Fitter( OrbitalModel source, int degree, double tolerance )
+        {
+            this.source = source;
+            this.degree = degree;
+            this.tolerance = tolerance;
+            samples = new double[3][degree + 1];
+            nodes = new double[degree + 1];
+            for ( int k = 0; k <= degree; k++ )
+                nodes[k] = Math.cos( Math.PI * ( k + 0.5 ) / ( degree + 1 ) );
+        }
+
+        void fit( long start, long end )
+        {
+            final double[] segment = fitSegment( start, end );
+            if ( end - start > MIN_SEGMENT_MILLIS && !isAccurate( segment, start, end ) )
+            {
+                final long middle = start + ( end - start ) / 2;
+                fit( start, middle );
+                fit( middle, end );
+            }
+            else
+            {
+                starts.add( start );
+                segments.add( segment );
+            }
+        }
+
+        private double[] fitSegment( long start, long end )
+        {
+            final int n = degree + 1;
+            for ( int k = 0; k < n; k++ )
+            {
+                sample( start, end, nodes[k] );
+                samples[0][k] = position.x;
+                samples[1][k] = position.y;
+                samples[2][k] = position.z;
+            }
+            final double[] segment = new double[3 * n];
+            for ( int dim = 0; dim < 3; dim++ )
+                for ( int j = 0; j < n; j++ )
+                {
+                    double sum = 0.0;
+                    for ( int k = 0; k < n; k++ )
+                        sum += samples[dim][k] * Math.cos( Math.PI * j * ( k + 0.5 ) / n );
+                    segment[dim * n + j] = ( j == 0 ? 1.0 : 2.0 ) * sum / n;
+                }
+            return segment;
+        }
+
+        /**
+         * Compare with the source model halfway between the interpolation nodes and at the ends.
+         */
+        private boolean isAccurate( double[] segment, long start, long end )
+        {
+            for ( int k = 0; k <= degree + 1; k++ )
+            {
+                final double x = Math.cos( Math.PI * k / ( degree + 1 ) );
+                sample( start, end, x );
+                if ( Math.abs( evaluate( segment, 0, degree, x ) - position.x ) > tolerance
+                        || Math.abs( evaluate( segment, degree + 1, degree, x ) - position.y ) > tolerance
+                        || Math.abs( evaluate( segment, 2 * ( degree + 1 ), degree, x ) - position.z ) > tolerance )
+                    return false;
+            }
+            return true;
+        }
+
+        private void sample( long start, long end, double x )
+        {
+            time.setTime( start + Math.round( ( x + 1 ) / 2 * ( end - start ) ) );
+            source.compute( time, position, null );
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Distance;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.geometry.Spherical;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Orbital model interpolating positions and velocities stored at equidistant nodes,
+ * as read from an {@link EphemerisStore}.
+ * <p>
+ * Between two nodes, each coordinate is the cubic Hermite polynomial matching position and velocity
+ * at both nodes, so no series has to be evaluated at all. The nodes are only read through absolute
+ * accesses of the buffer, so {@link #evaluate(long, double[], int)} may be called by any number of
+ * threads concurrently.
+ */
+public class ModelHermite extends OrbitalModel
+{
+    // Position x, y, z and velocity x, y, z of each node
+    static final int RECORD_SIZE = 6;
+
+    private final Type type;
+    private final Distance distanceUnit;
+    private final long startMillis;
+    private final long spacingMillis;
+    private final int nodeCount;
+    private final DoubleBuffer nodes;
+
+    private final Cartesian cartesianPos = new Cartesian();
+    private final Cartesian cartesianVel = new Cartesian();
+    private final double[] values = new double[RECORD_SIZE];
+
+    ModelHermite( Type type, Distance distanceUnit, long startMillis, long spacingMillis, int nodeCount, DoubleBuffer nodes )
+    {
+        this.type = type;
+        this.distanceUnit = distanceUnit;
+        this.startMillis = startMillis;
+        this.spacingMillis = spacingMillis;
+        this.nodeCount = nodeCount;
+        this.nodes = nodes;
+    }
+
+    /**
+     * Model sharing the nodes of another one, for use by another thread.
+     */
+    ModelHermite( ModelHermite other )
+    {
+        this( other.type, other.distanceUnit, other.startMillis, other.spacingMillis, other.nodeCount, other.nodes );
+    }
+
+    @Override
+    public Type getType()
+    {
+        return type;
+    }
+
+    @Override
+    public Distance getDistanceUnit()
+    {
+        return distanceUnit;
+    }
+
+    public long getStartMillis()
+    {
+        return startMillis;
+    }
+
+    public long getEndMillis()
+    {
+        return startMillis + ( nodeCount - 1 ) * spacingMillis;
+    }
+
+    public long getSpacingMillis()
+    {
+        return spacingMillis;
+    }
+
+    @Override
+    public void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity )
+    {
+        evaluate( millisSinceEpoch, values, 0 );
+        position.set( values[0], values[1], values[2] );
+        if ( velocity != null )
+            velocity.set( values[3], values[4], values[5] );
+    }
+
+    @Override
+    public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
+    {
+        compute( millisSinceEpoch, cartesianPos, velocity != null ? cartesianVel : null );
+        cartesianPos.transform( position );
+        if ( velocity != null )
+            cartesianVel.transformVelocity( cartesianPos, velocity );
+    }
+
+    @Override
+    public void evaluate( long millis, double[] out, int offset )
+    {
+        if ( millis < startMillis || millis > getEndMillis() )
+            throw new IllegalArgumentException( "Time " + millis + " outside of stored range "
+                    + startMillis + " - " + getEndMillis() );
+        final long sinceStart = millis - startMillis;
+        // The last node is only the upper end of the last interval
+        final int i = (int)Math.min( sinceStart / spacingMillis, nodeCount - 2 );
+        final double s = (double)( sinceStart - i * spacingMillis ) / spacingMillis;
+        final int lower = RECORD_SIZE * i;
+        interpolate( nodes, lower, nodes, lower + RECORD_SIZE, s, spacingMillis, out, offset );
+    }
+
+    /**
+     * Interpolate position and velocity between two records of position x, y, z and velocity x, y, z per second.
+     *
+     * @param s             Fraction of the interval from the lower to the upper node
+     * @param spacingMillis Distance of the nodes in time
+     */
+    static void interpolate( DoubleBuffer lower, int lowerOffset, DoubleBuffer upper, int upperOffset,
+                             double s, long spacingMillis, double[] out, int offset )
+    {
+        // Spacing in seconds, the time unit of the stored velocities
+        final double h = spacingMillis / 1000.0;
+        final double s2 = s * s;
+        final double s3 = s2 * s;
+        // Hermite basis functions and their derivatives with respect to s
+        final double h00 = 2 * s3 - 3 * s2 + 1;
+        final double h10 = s3 - 2 * s2 + s;
+        final double h01 = -2 * s3 + 3 * s2;
+        final double h11 = s3 - s2;
+        final double d00 = 6 * s2 - 6 * s;
+        final double d10 = 3 * s2 - 4 * s + 1;
+        final double d11 = 3 * s2 - 2 * s;
+        for ( int dim = 0; dim < 3; dim++ )
+        {
+            final double p0 = lower.get( lowerOffset + dim );
+            final double v0 = lower.get( lowerOffset + dim + 3 ) * h;
+            final double p1 = upper.get( upperOffset + dim );
+            final double v1 = upper.get( upperOffset + dim + 3 ) * h;
+            out[offset + dim] = h00 * p0 + h10 * v0 + h01 * p1 + h11 * v1;
+            out[offset + dim + 3] = ( d00 * ( p0 - p1 ) + d10 * v0 + d11 * v1 ) / h;
+        }
+    }
+}
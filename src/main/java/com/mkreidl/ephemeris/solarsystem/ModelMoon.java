@@ -2,6 +2,7 @@ package com.mkreidl.ephemeris.solarsystem;
 
 import com.mkreidl.ephemeris.Distance;
 import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Angle;
 import com.mkreidl.ephemeris.geometry.Cartesian;
 import com.mkreidl.ephemeris.geometry.ClassicalOrbitalElements;
 import com.mkreidl.ephemeris.geometry.Spherical;
@@ -21,8 +22,8 @@ import static java.lang.Math.sin;
  */
 public class ModelMoon extends OrbitalModel
 {
-    private final Cartesian pos = new Cartesian();
-    private final Cartesian vel = new Cartesian();
+    private final Spherical velSpherical = new Spherical();
+    private final double[] values = new double[6];
 
     @Override
     public Type getType()
@@ -37,30 +38,35 @@ public class ModelMoon extends OrbitalModel
     }
 
     @Override
-    public void compute( Time time, Spherical position, Spherical velocity )
+    public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
     {
-        compute( time, pos, vel );
-        pos.transform( position );
-        vel.transform( velocity );  // FIXME chain rule for diff!!!
+        compute( Time.terrestrialDynamicalTime( millisSinceEpoch ), velocity != null );
+        position.set( posSpherical );
+        if ( velocity != null )
+        {
+            // Rates are not angles, so unlike Spherical.set() they must not be standardized
+            velocity.lon = velSpherical.lon;
+            velocity.lat = velSpherical.lat;
+            velocity.dst = velSpherical.dst;
+        }
     }
 
     @Override
-    public void compute( Time time, Cartesian position, Cartesian velocity )
+    public void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity )
     {
-        compute( time );
+        compute( Time.terrestrialDynamicalTime( millisSinceEpoch ), velocity != null );
         position.set( posCartesian );
         if ( velocity != null )
-        {
-            // TODO: Implement velocity calculation for the Moon
-            // This is a dummy which sets the velocity in a qualitative way
-            // to ensure that the Moon is not retrograde
-            velocity.x = -position.y;
-            //noinspection SuspiciousNameCombination
-            velocity.y = position.x;
-            velocity.z = 0;
-            // Adjust the velocity to result in 1 rotation per 29 days (unit of velocity [m/s])
-            velocity.scale( 2 * Math.PI / ( 29 * Time.SECONDS_PER_DAY ) );
-        }
+            velSpherical.transformVelocity( posSpherical, velocity );
+    }
+
+    @Override
+    public void evaluate( long millis, double[] out, int offset )
+    {
+        compute( Time.terrestrialDynamicalTime( millis ), out, offset, true );
+        for ( int i = offset + 3; i < offset + 6; i++ )
+            out[i] /= Time.SECONDS_PER_DAY;
+        sphericalToCartesian( out, offset, true );
     }
 
     public ClassicalOrbitalElements getOrbitalElements( ClassicalOrbitalElements output )
@@ -85,25 +91,98 @@ public class ModelMoon extends OrbitalModel
      */
     protected void compute( Time time )
     {
-        final double t = time.terrestrialDynamicalTime();
+        compute( time.terrestrialDynamicalTime(), false );
+    }
 
+    private void compute( double t, boolean velocity )
+    {
+        compute( t, values, 0, velocity );
+        posSpherical.lon = values[0];
+        posSpherical.lat = values[1];
+        posSpherical.dst = values[2];
+        posSpherical.transform( posCartesian );
+        if ( velocity )
+        {
+            velSpherical.lon = values[3] / Time.SECONDS_PER_DAY;
+            velSpherical.lat = values[4] / Time.SECONDS_PER_DAY;
+            velSpherical.dst = values[5] / Time.SECONDS_PER_DAY;
+        }
         orbitalElements.set( orbElMoonSeries[1] );
         orbitalElements.times( t );
         orbitalElements.add( orbElMoonSeries[0] );
+    }
 
-        orbitalElements.computePosition();
-        orbitalElements.getPosition( posSpherical );
+    /**
+     * Compute the perturbed position of the Moon in local variables only, so it may be called concurrently.
+     *
+     * @param t        Days since J2000 (TDT)
+     * @param out      Receives lon [rad], lat [rad], dst [m] at offset, followed by their derivatives
+     *                 [rad/day], [rad/day], [m/day] if velocity is set
+     * @param velocity Whether to compute the derivatives
+     */
+    private static void compute( double t, double[] out, int offset, boolean velocity )
+    {
+        final ClassicalOrbitalElements moon0 = orbElMoonSeries[0];
+        final ClassicalOrbitalElements moon1 = orbElMoonSeries[1];
+        final ClassicalOrbitalElements sun0 = orbElSunSeries[0];
+        final ClassicalOrbitalElements sun1 = orbElSunSeries[1];
 
-        orbElSun.set( orbElSunSeries[1] );
-        orbElSun.times( t );
-        orbElSun.add( orbElSunSeries[0] );
+        // The elements change linearly with time
+        final double node = Angle.standardize( moon0.node + Angle.standardize( moon1.node * t ) );
+        final double incl = Angle.standardize( moon0.incl );
+        final double periapsis = Angle.standardize( moon0.periapsis + Angle.standardize( moon1.periapsis * t ) );
+        final double axis = moon0.axis + moon1.axis * t;
+        final double exc = moon0.exc + moon1.exc * t;
+        final double meanAnom = Angle.standardize( moon0.meanAnom + Angle.standardize( moon1.meanAnom * t ) );
+        final double sunMeanAnom = Angle.standardize( sun0.meanAnom + Angle.standardize( sun1.meanAnom * t ) );
+        final double sunMeanLongitude = Angle.standardize( sun0.node + Angle.standardize( sun1.node * t ) )
+                + Angle.standardize( sun0.periapsis + Angle.standardize( sun1.periapsis * t ) ) + sunMeanAnom;
+        // Mean elongation and argument of latitude
+        final double D = node + periapsis + meanAnom - sunMeanLongitude;
+        final double F = periapsis + meanAnom;
 
-        posSpherical.lon += longitudeCorrection();
-        posSpherical.lat += latitudeCorrection();
-        posSpherical.dst += distanceCorrection();
+        // Keplerian position in the orbital plane, rotated by the argument of periapsis and the node
+        final double eccentricAnom = ClassicalOrbitalElements.eccentricAnomaly( meanAnom, exc, 1e-15 );
+        final double cosE = cos( eccentricAnom );
+        final double sinE = sin( eccentricAnom );
+        final double rootExc = Math.sqrt( 1.0 - exc * exc );
+        final double xv = axis * ( cosE - exc );
+        final double yv = axis * ( rootExc * sinE );
+        final double cosP = cos( periapsis );
+        final double sinP = sin( periapsis );
+        final double xw = xv * cosP - yv * sinP;
+        final double yw = xv * sinP + yv * cosP;
+        final double cosN = cos( node );
+        final double sinN = sin( node );
+        final double cosI = cos( incl );
+        final double sinI = sin( incl );
+        final double x = cosN * xw - sinN * yw * cosI;
+        final double y = sinN * xw + cosN * yw * cosI;
+        final double z = yw * sinI;
+        final double rho2 = x * x + y * y;
+        final double r = Math.sqrt( rho2 + z * z );
 
-        posSpherical.standardize();
-        posSpherical.transform( posCartesian );
+        final double lat = Math.asin( z / r ) + latitudeCorrection( meanAnom, D, F );
+        out[offset] = Angle.standardize( Math.atan2( y, x ) + longitudeCorrection( meanAnom, sunMeanAnom, D, F ) );
+        out[offset + 1] = Angle.standardize( lat );
+        out[offset + 2] = r + distanceCorrection( meanAnom, D );
+
+        if ( velocity )
+        {
+            // The first-order terms of the series are the rates per day of the elements
+            final double dE = moon1.meanAnom / ( 1.0 - exc * cosE );
+            final double dxv = -axis * sinE * dE;
+            final double dyv = axis * rootExc * cosE * dE;
+            final double dxw = dxv * cosP - dyv * sinP - moon1.periapsis * yw;
+            final double dyw = dxv * sinP + dyv * cosP + moon1.periapsis * xw;
+            final double dx = cosN * dxw - sinN * dyw * cosI - moon1.node * y;
+            final double dy = sinN * dxw + cosN * dyw * cosI + moon1.node * x;
+            final double dz = dyw * sinI;
+            final double dr = ( x * dx + y * dy + z * dz ) / r;
+            out[offset + 3] = ( x * dy - y * dx ) / rho2 + longitudeCorrectionRate( meanAnom, sunMeanAnom, D, F );
+            out[offset + 4] = ( dz * r - z * dr ) / ( r * Math.sqrt( rho2 ) ) + latitudeCorrectionRate( meanAnom, D, F );
+            out[offset + 5] = dr + distanceCorrectionRate( meanAnom, D );
+        }
     }
 
     /**
@@ -119,57 +198,112 @@ public class ModelMoon extends OrbitalModel
     private final Spherical posSpherical = new Spherical();
     private final Cartesian posCartesian = new Cartesian();
 
-    private double D()
+    private static double D( ClassicalOrbitalElements moon, ClassicalOrbitalElements sun )
     {
         // Mean elongation of Moon
-        return orbitalElements.meanLongitude() - orbElSun.meanLongitude();
+        return moon.meanLongitude() - sun.meanLongitude();
     }
 
-    private double F()
+    private static double F( ClassicalOrbitalElements moon )
     {
         // Argument of latitude of Moon
-        return orbitalElements.meanLongitude() - orbitalElements.node;
+        return moon.meanLongitude() - moon.node;
     }
 
-    private double longitudeCorrection()
+    /**
+     * @param M  Mean anomaly of the Moon
+     * @param Ms Mean anomaly of the Sun
+     * @param D  Mean elongation of the Moon
+     * @param F  Argument of latitude of the Moon
+     */
+    private static double longitudeCorrection( double M, double Ms, double D, double F )
     {
-        final double D = D();
         final double DD = 2 * D;
-        return DEG * ( -1.274 * sin( orbitalElements.meanAnom - DD )
+        return DEG * ( -1.274 * sin( M - DD )
                 + 0.658 * sin( DD )
-                - 0.186 * sin( orbElSun.meanAnom )
-                - 0.059 * sin( 2 * orbitalElements.meanAnom - DD )
-                - 0.057 * sin( orbitalElements.meanAnom - DD + orbElSun.meanAnom )
-                + 0.053 * sin( orbitalElements.meanAnom + DD )
-                + 0.046 * sin( DD - orbElSun.meanAnom )
-                + 0.041 * sin( orbitalElements.meanAnom - orbElSun.meanAnom )
+                - 0.186 * sin( Ms )
+                - 0.059 * sin( 2 * M - DD )
+                - 0.057 * sin( M - DD + Ms )
+                + 0.053 * sin( M + DD )
+                + 0.046 * sin( DD - Ms )
+                + 0.041 * sin( M - Ms )
                 - 0.035 * sin( D )
-                - 0.031 * sin( orbitalElements.meanAnom + orbElSun.meanAnom )
-                - 0.015 * sin( 2 * ( F() - D ) )
-                + 0.011 * sin( orbitalElements.meanAnom - 4 * D ) );
+                - 0.031 * sin( M + Ms )
+                - 0.015 * sin( 2 * ( F - D ) )
+                + 0.011 * sin( M - 4 * D ) );
     }
 
-    private double latitudeCorrection()
+    private static double latitudeCorrection( double M, double D, double F )
     {
-        final double DD = 2 * D();
-        final double F = F();
+        final double DD = 2 * D;
         return DEG * ( -0.173 * sin( F - DD )
-                - 0.055 * sin( orbitalElements.meanAnom - F - DD )
-                - 0.046 * sin( orbitalElements.meanAnom + F - DD )
+                - 0.055 * sin( M - F - DD )
+                - 0.046 * sin( M + F - DD )
                 + 0.033 * sin( F + DD )
-                + 0.017 * sin( 2 * orbitalElements.meanAnom + F ) );
+                + 0.017 * sin( 2 * M + F ) );
     }
 
-    private double distanceCorrection()
+    private static double distanceCorrection( double M, double D )
     {
-        final double DD = 2 * D();
-        return DEG * ( -0.58 * cos( orbitalElements.meanAnom - DD )
+        final double DD = 2 * D;
+        return DEG * ( -0.58 * cos( M - DD )
                 - 0.46 * cos( DD ) );
     }
 
+    /**
+     * Derivative of {@link #longitudeCorrection} with respect to time [rad/day].
+     */
+    private static double longitudeCorrectionRate( double M, double Ms, double D, double F )
+    {
+        final double DD = 2 * D;
+        final double dM = orbElMoonSeries[1].meanAnom;
+        final double dMs = orbElSunSeries[1].meanAnom;
+        final double dD = D( orbElMoonSeries[1], orbElSunSeries[1] );
+        final double dF = F( orbElMoonSeries[1] );
+        return DEG * ( -1.274 * cos( M - DD ) * ( dM - 2 * dD )
+                + 0.658 * cos( DD ) * 2 * dD
+                - 0.186 * cos( Ms ) * dMs
+                - 0.059 * cos( 2 * M - DD ) * ( 2 * dM - 2 * dD )
+                - 0.057 * cos( M - DD + Ms ) * ( dM - 2 * dD + dMs )
+                + 0.053 * cos( M + DD ) * ( dM + 2 * dD )
+                + 0.046 * cos( DD - Ms ) * ( 2 * dD - dMs )
+                + 0.041 * cos( M - Ms ) * ( dM - dMs )
+                - 0.035 * cos( D ) * dD
+                - 0.031 * cos( M + Ms ) * ( dM + dMs )
+                - 0.015 * cos( 2 * ( F - D ) ) * 2 * ( dF - dD )
+                + 0.011 * cos( M - 4 * D ) * ( dM - 4 * dD ) );
+    }
+
+    /**
+     * Derivative of {@link #latitudeCorrection} with respect to time [rad/day].
+     */
+    private static double latitudeCorrectionRate( double M, double D, double F )
+    {
+        final double DD = 2 * D;
+        final double dM = orbElMoonSeries[1].meanAnom;
+        final double dDD = 2 * D( orbElMoonSeries[1], orbElSunSeries[1] );
+        final double dF = F( orbElMoonSeries[1] );
+        return DEG * ( -0.173 * cos( F - DD ) * ( dF - dDD )
+                - 0.055 * cos( M - F - DD ) * ( dM - dF - dDD )
+                - 0.046 * cos( M + F - DD ) * ( dM + dF - dDD )
+                + 0.033 * cos( F + DD ) * ( dF + dDD )
+                + 0.017 * cos( 2 * M + F ) * ( 2 * dM + dF ) );
+    }
+
+    /**
+     * Derivative of {@link #distanceCorrection} with respect to time [m/day].
+     */
+    private static double distanceCorrectionRate( double M, double D )
+    {
+        final double DD = 2 * D;
+        final double dM = orbElMoonSeries[1].meanAnom;
+        final double dDD = 2 * D( orbElMoonSeries[1], orbElSunSeries[1] );
+        return DEG * ( 0.58 * sin( M - DD ) * ( dM - dDD )
+                + 0.46 * sin( DD ) * dDD );
+    }
+
     private static final ClassicalOrbitalElements[] orbElMoonSeries;
     private static final ClassicalOrbitalElements[] orbElSunSeries;
-    private static final ClassicalOrbitalElements orbElSun = new ClassicalOrbitalElements();
 
     static
     {
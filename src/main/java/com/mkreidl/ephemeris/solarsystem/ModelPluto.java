@@ -8,46 +8,74 @@ public class ModelPluto extends OrbitalModel
 {
     private static final double S0 = Math.toRadians( 50.03 );
     private static final double P0 = Math.toRadians( 238.95 );
+    private static final double S1 = Math.toRadians( 0.033459652 );
+    private static final double P1 = Math.toRadians( 0.003968789 );
 
     private final Spherical posSpherical = new Spherical();
     private final Spherical velSpherical = new Spherical();
-
-    private double d;
-    private double s;
-    private double p;
-    private double s1;
-    private double p1;
+    private final double[] values = new double[6];
 
     @Override
-    public void compute( Time time, Cartesian position, Cartesian velocity )
+    public void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity )
     {
-        computeTime( time );
-        computePosition( posSpherical ).transform( position );
+        compute( Time.terrestrialDynamicalTime( millisSinceEpoch ), values, velocity != null );
+        toSpherical( values, 0, posSpherical ).transform( position );
         if ( velocity != null )
-            computeVelocity( velSpherical ).transformVelocity( posSpherical, velocity );
+            toSphericalVelocity( values, 3, velSpherical ).transformVelocity( posSpherical, velocity );
     }
 
     @Override
-    public void compute( Time time, Spherical position, Spherical velocity )
+    public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
     {
-        computeTime( time );
-        computePosition( position );
+        compute( Time.terrestrialDynamicalTime( millisSinceEpoch ), values, velocity != null );
+        toSpherical( values, 0, position );
         if ( velocity != null )
-            computeVelocity( velocity );
+            toSphericalVelocity( values, 3, velocity );
+    }
+
+    @Override
+    public void evaluate( long millis, double[] out, int offset )
+    {
+        final double d = Time.terrestrialDynamicalTime( millis );
+        computePosition( d, out, offset );
+        computeVelocity( d, out, offset + 3 );
+        for ( int i = offset + 3; i < offset + 6; i++ )
+            out[i] /= Time.SECONDS_PER_DAY;
+        sphericalToCartesian( out, offset, true );
+    }
+
+    private static void compute( double d, double[] values, boolean velocity )
+    {
+        computePosition( d, values, 0 );
+        if ( velocity )
+            computeVelocity( d, values, 3 );
+    }
+
+    private static Spherical toSpherical( double[] values, int offset, Spherical output )
+    {
+        output.lon = values[offset];
+        output.lat = values[offset + 1];
+        output.dst = values[offset + 2];
+        return output;
     }
 
-    private void computeTime( Time time )
+    private static Spherical toSphericalVelocity( double[] values, int offset, Spherical output )
     {
-        d = time.terrestrialDynamicalTime();
-        s1 = Math.toRadians( 0.033459652 );
-        p1 = Math.toRadians( 0.003968789 );
-        s = S0 + s1 * d;
-        p = P0 + p1 * d;
+        output.lon = values[offset] / Time.SECONDS_PER_DAY;
+        output.lat = values[offset + 1] / Time.SECONDS_PER_DAY;
+        output.dst = values[offset + 2] / Time.SECONDS_PER_DAY;
+        return output;
     }
 
-    private Spherical computePosition( Spherical position )
+    /**
+     * @param d Days since J2000 (TDT)
+     * @param out Receives lon [rad], lat [rad], dst [AU]
+     */
+    private static void computePosition( double d, double[] out, int offset )
     {
-        position.lon = Math.toRadians( 238.9508 + 0.00400703 * d
+        final double s = S0 + S1 * d;
+        final double p = P0 + P1 * d;
+        out[offset] = Math.toRadians( 238.9508 + 0.00400703 * d
                 - 19.799 * Math.sin( p ) + 19.848 * Math.cos( p )
                 + 0.897 * Math.sin( 2 * p ) - 4.956 * Math.cos( 2 * p )
                 + 0.610 * Math.sin( 3 * p ) + 1.211 * Math.cos( 3 * p )
@@ -55,7 +83,7 @@ public class ModelPluto extends OrbitalModel
                 + 0.128 * Math.sin( 5 * p ) - 0.034 * Math.cos( 5 * p )
                 - 0.038 * Math.sin( 6 * p ) + 0.031 * Math.cos( 6 * p )
                 + 0.020 * Math.sin( s - p ) - 0.010 * Math.cos( s - p ) );
-        position.lat = Math.toRadians( -3.9082
+        out[offset + 1] = Math.toRadians( -3.9082
                 - 5.453 * Math.sin( p ) - 14.975 * Math.cos( p )
                 + 3.527 * Math.sin( 2 * p ) + 1.673 * Math.cos( 2 * p )
                 - 1.051 * Math.sin( 3 * p ) + 0.328 * Math.cos( 3 * p )
@@ -63,35 +91,39 @@ public class ModelPluto extends OrbitalModel
                 + 0.019 * Math.sin( 5 * p ) + 0.100 * Math.cos( 5 * p )
                 - 0.031 * Math.sin( 6 * p ) - 0.026 * Math.cos( 6 * p )
                 + 0.011 * Math.cos( s - p ) );
-        position.dst = 40.72
+        out[offset + 2] = 40.72
                 + 6.68 * Math.sin( p ) + 6.90 * Math.cos( p )
                 - 1.18 * Math.sin( 2 * p ) - 0.03 * Math.cos( 2 * p )
                 + 0.15 * Math.sin( 3 * p ) - 0.14 * Math.cos( 3 * p );
-        return position;
     }
 
-    private Spherical computeVelocity( Spherical velocity )
+    /**
+     * @param d Days since J2000 (TDT)
+     * @param out Receives the derivatives of lon, lat, dst [per day]
+     */
+    private static void computeVelocity( double d, double[] out, int offset )
     {
-        velocity.lon = Math.toRadians( 0.00400703 + p1 * (
+        final double s = S0 + S1 * d;
+        final double p = P0 + P1 * d;
+        out[offset] = Math.toRadians( 0.00400703 + P1 * (
                 -19.799 * Math.cos( p ) - 19.848 * Math.sin( p )
                         + 0.897 * 2 * Math.cos( 2 * p ) + 4.956 * 2 * Math.sin( 2 * p )
                         + 0.610 * 3 * Math.cos( 3 * p ) - 1.211 * 3 * Math.sin( 3 * p )
                         - 0.341 * 4 * Math.cos( 4 * p ) + 0.190 * 4 * Math.sin( 4 * p )
                         + 0.128 * 5 * Math.cos( 5 * p ) + 0.034 * 5 * Math.sin( 5 * p )
                         - 0.038 * 6 * Math.cos( 6 * p ) - 0.031 * 6 * Math.sin( 6 * p ) )
-                + ( s1 - p1 ) * ( 0.020 * Math.cos( s - p ) + 0.010 * Math.sin( s - p ) ) );
-        velocity.lat = Math.toRadians( p1 * (
+                + ( S1 - P1 ) * ( 0.020 * Math.cos( s - p ) + 0.010 * Math.sin( s - p ) ) );
+        out[offset + 1] = Math.toRadians( P1 * (
                 -5.453 * Math.cos( p ) + 14.975 * Math.sin( p )
                         + 3.527 * 2 * Math.cos( 2 * p ) - 1.673 * 2 * Math.sin( 2 * p )
                         - 1.051 * 3 * Math.cos( 3 * p ) - 0.328 * 3 * Math.sin( 3 * p )
                         + 0.179 * 4 * Math.cos( 4 * p ) + 0.292 * 4 * Math.sin( 4 * p )
                         + 0.019 * 5 * Math.cos( 5 * p ) - 0.100 * 5 * Math.sin( 5 * p )
                         - 0.031 * 6 * Math.cos( 6 * p ) + 0.026 * 6 * Math.sin( 6 * p ) )
-                - ( s1 - p1 ) * 0.011 * Math.sin( s - p ) );
-        velocity.dst = p1 * (
+                - ( S1 - P1 ) * 0.011 * Math.sin( s - p ) );
+        out[offset + 2] = P1 * (
                 +6.68 * Math.cos( p ) - 6.90 * Math.sin( p )
                         - 1.18 * 2 * Math.cos( 2 * p ) + 0.03 * 2 * Math.sin( 2 * p )
                         + 0.15 * 3 * Math.cos( 3 * p ) + 0.14 * 3 * Math.sin( 3 * p ) );
-        return velocity;
     }
 }
@@ -1,13 +1,14 @@
 package com.mkreidl.ephemeris.solarsystem;
 
-import com.mkreidl.ephemeris.Time;
 import com.mkreidl.ephemeris.geometry.Cartesian;
 import com.mkreidl.ephemeris.geometry.Spherical;
 
+import java.util.Arrays;
+
 public class ModelSun extends OrbitalModel
 {
     @Override
-    public void compute( Time time, Cartesian position, Cartesian velocity )
+    public void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity )
     {
         position.set( 0.0, 0.0, 0.0 );
         if ( velocity != null )
@@ -15,10 +16,16 @@ public class ModelSun extends OrbitalModel
     }
 
     @Override
-    public void compute( Time time, Spherical position, Spherical velocity )
+    public void compute( long millisSinceEpoch, Spherical position, Spherical velocity )
     {
         position.set( 0.0, 0.0, 0.0 );
         if ( velocity != null )
             velocity.set( 0.0, 0.0, 0.0 );
     }
+
+    @Override
+    public void evaluate( long millis, double[] out, int offset )
+    {
+        Arrays.fill( out, offset, offset + 6, 0.0 );
+    }
 }
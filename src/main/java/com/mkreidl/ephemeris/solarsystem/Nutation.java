@@ -122,6 +122,34 @@ public class Nutation {
       { 0, 1, 0, 1, 0, 1, 0.0, 0, 0.0 }
   };
 
+  // Multiples of the fundamental arguments, in the column order of SUMMANDS: MP, M, F, D, OMEGA
+  private static final int NUM_OF_ARGUMENTS = 5;
+  private static final int MAX_MULTIPLE = 4;
+  private static final int[] MULTIPLES = new int[SUMMANDS.length * NUM_OF_ARGUMENTS];
+  // Fundamental arguments as polynomials in t, with coefficients in radians
+  private static final double[][] ARGUMENTS_RAD = { toRadians(MP), toRadians(M), toRadians(F), toRadians(D), toRadians(OMEGA) };
+  // Coefficients of the sine (longitude) and cosine (obliquity) terms in radians: constant, then factor of t
+  private static final double[] LONGITUDE_RAD = new double[2 * SUMMANDS.length];
+  private static final double[] OBLIQUITY_RAD = new double[2 * SUMMANDS.length];
+
+  static {
+    for (int i = 0; i < SUMMANDS.length; ++i) {
+      for (int k = 0; k < NUM_OF_ARGUMENTS; ++k)
+        MULTIPLES[i * NUM_OF_ARGUMENTS + k] = (int) SUMMANDS[i][k];
+      LONGITUDE_RAD[2 * i] = SUMMANDS[i][5] * TO_RAD;
+      LONGITUDE_RAD[2 * i + 1] = SUMMANDS[i][6] * TO_RAD;
+      OBLIQUITY_RAD[2 * i] = SUMMANDS[i][7] * TO_RAD;
+      OBLIQUITY_RAD[2 * i + 1] = SUMMANDS[i][8] * TO_RAD;
+    }
+  }
+
+  private static double[] toRadians(double[] polynomialArcseconds) {
+    final double[] polynomial = new double[polynomialArcseconds.length];
+    for (int i = 0; i < polynomial.length; ++i)
+      polynomial[i] = Math.toRadians(polynomialArcseconds[i] / 3600);
+    return polynomial;
+  }
+
   private static double evaluatePolynomial(double t, double[] polynomial) {
     final int deg = polynomial.length;
     double result = polynomial[deg - 1];
@@ -131,10 +159,14 @@ public class Nutation {
   }
 
   public static double getLongitude(Time time) {
-    return getLongitude(time.julianCenturiesSince(Time.J2000));
+    return getLongitudeCenturies(time.julianCenturiesSince(Time.J2000));
+  }
+
+  public static double getLongitude(long millisSinceEpoch) {
+    return getLongitudeCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
   }
 
-  public static double getLongitude(double t) {
+  public static double getLongitudeCenturies(double t) {
     final double d = evaluatePolynomial(t, D);
     final double m = evaluatePolynomial(t, M);
     final double mp = evaluatePolynomial(t, MP);
@@ -150,11 +182,57 @@ public class Nutation {
     return longitude * TO_RAD;
   }
 
+  private final boolean fullSeries;
+  private final double[] cosMultiples = new double[NUM_OF_ARGUMENTS * (MAX_MULTIPLE + 1)];
+  private final double[] sinMultiples = new double[NUM_OF_ARGUMENTS * (MAX_MULTIPLE + 1)];
   private double longitude = 0.0;
   private double obliquity = 0.0;
 
+  /**
+   * Compute nutation from the largest 13 terms of the IAU 1980 series, which is accurate to about 0.05".
+   */
+  public Nutation() {
+    this(false);
+  }
+
+  /**
+   * @param fullSeries Whether to compute all 106 terms of the IAU 1980 series instead of the largest 13
+   */
+  public Nutation(boolean fullSeries) {
+    this.fullSeries = fullSeries;
+  }
+
+  public boolean isFullSeries() {
+    return fullSeries;
+  }
+
   public void compute(Time time) {
-    final double t = time.julianCenturiesSince(Time.J2000);
+    computeCenturies(time.julianCenturiesSince(Time.J2000));
+  }
+
+  public void compute(long millisSinceEpoch) {
+    computeCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
+  }
+
+  /**
+   * @param t Julian centuries since J2000
+   */
+  public void computeCenturies(double t) {
+    if (fullSeries)
+      computeFullSeries(t);
+    else
+      computeTermByTerm(t, NUM_OF_COEFF_TO_COMPUTE);
+  }
+
+  /**
+   * Evaluate all terms of the series one by one, as for the truncated series.
+   * Slower than {@link #computeCenturies(double)} with the full series, which it serves as a reference for.
+   */
+  void computeTermByTerm(double t) {
+    computeTermByTerm(t, SUMMANDS.length);
+  }
+
+  private void computeTermByTerm(double t, int numOfTerms) {
     final double d = evaluatePolynomial(t, D);
     final double m = evaluatePolynomial(t, M);
     final double mp = evaluatePolynomial(t, MP);
@@ -163,7 +241,7 @@ public class Nutation {
 
     longitude = 0.0;
     obliquity = 0.0;
-    for (int i = 0; i < NUM_OF_COEFF_TO_COMPUTE; ++i) {
+    for (int i = 0; i < numOfTerms; ++i) {
       final double[] summand = SUMMANDS[i];
       final double arg = summand[0] * mp + summand[1] * m + summand[2] * f + summand[3] * d + summand[4] * omega;
       longitude += (summand[5] + summand[6] * t) * Math.sin(Math.toRadians(arg));
@@ -173,6 +251,49 @@ public class Nutation {
     obliquity *= TO_RAD;
   }
 
+  /**
+   * Evaluate all terms of the series. Sine and cosine are taken only of the five fundamental arguments;
+   * their multiples follow by recurrence, and the terms by the addition theorems.
+   */
+  private void computeFullSeries(double t) {
+    for (int k = 0; k < NUM_OF_ARGUMENTS; ++k) {
+      final double[] polynomial = ARGUMENTS_RAD[k];
+      double arg = polynomial[polynomial.length - 1];
+      for (int i = polynomial.length - 2; i >= 0; --i)
+        arg = arg * t + polynomial[i];
+      final int base = k * (MAX_MULTIPLE + 1);
+      final double cos = Math.cos(arg);
+      cosMultiples[base] = 1.0;
+      sinMultiples[base] = 0.0;
+      cosMultiples[base + 1] = cos;
+      sinMultiples[base + 1] = Math.sin(arg);
+      for (int j = 2; j <= MAX_MULTIPLE; ++j) {
+        cosMultiples[base + j] = 2 * cos * cosMultiples[base + j - 1] - cosMultiples[base + j - 2];
+        sinMultiples[base + j] = 2 * cos * sinMultiples[base + j - 1] - sinMultiples[base + j - 2];
+      }
+    }
+
+    longitude = 0.0;
+    obliquity = 0.0;
+    for (int i = 0; i < SUMMANDS.length; ++i) {
+      double cos = 1.0;
+      double sin = 0.0;
+      for (int k = 0; k < NUM_OF_ARGUMENTS; ++k) {
+        final int multiple = MULTIPLES[i * NUM_OF_ARGUMENTS + k];
+        if (multiple == 0)
+          continue;
+        final int index = k * (MAX_MULTIPLE + 1) + Math.abs(multiple);
+        final double cosK = cosMultiples[index];
+        final double sinK = multiple > 0 ? sinMultiples[index] : -sinMultiples[index];
+        final double cosSum = cos * cosK - sin * sinK;
+        sin = sin * cosK + cos * sinK;
+        cos = cosSum;
+      }
+      longitude += (LONGITUDE_RAD[2 * i] + LONGITUDE_RAD[2 * i + 1] * t) * sin;
+      obliquity += (OBLIQUITY_RAD[2 * i] + OBLIQUITY_RAD[2 * i + 1] * t) * cos;
+    }
+  }
+
   public double getLongitude() {
     return longitude;
   }
@@ -0,0 +1,100 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+
+/**
+ * Nutation in longitude and obliquity from the full IAU 1980 series, tabulated at equidistant times
+ * and interpolated by cubic polynomials through the four surrounding nodes.
+ * <p>
+ * The shortest periods of the series are about 5.6 days, so the interpolation error falls off with the
+ * fourth power of the spacing: for a spacing of half a day it stays below 0.0001", far below the accuracy
+ * of the series itself. A table is immutable once constructed, so it may be shared by any number of threads.
+ */
+public class NutationTable
+{
+    private final long startMillis;
+    private final long endMillis;
+    private final long spacingMillis;
+    // Node i is at startMillis + (i - 1) * spacingMillis, so every time in range has two nodes on either side
+    private final double[] longitude;
+    private final double[] obliquity;
+
+    /**
+     * @param startMillis   Start of the time range covered by the table, in milliseconds since the epoch
+     * @param endMillis     End of the time range covered by the table, in milliseconds since the epoch
+     * @param spacingMillis Distance of the nodes, e.g. {@code Time.MILLIS_PER_DAY / 2}
+     */
+    public NutationTable( long startMillis, long endMillis, long spacingMillis )
+    {
+        if ( endMillis < startMillis || spacingMillis <= 0 )
+            throw new IllegalArgumentException( "Invalid range [" + startMillis + ", " + endMillis
+                    + "] or spacing " + spacingMillis );
+        this.startMillis = startMillis;
+        this.endMillis = endMillis;
+        this.spacingMillis = spacingMillis;
+        final int intervals = (int)( ( endMillis - startMillis ) / spacingMillis );
+        longitude = new double[intervals + 4];
+        obliquity = new double[intervals + 4];
+        final Nutation nutation = new Nutation( true );
+        for ( int i = 0; i < longitude.length; i++ )
+        {
+            nutation.compute( startMillis + ( i - 1 ) * spacingMillis );
+            longitude[i] = nutation.getLongitude();
+            obliquity[i] = nutation.getObliquity();
+        }
+    }
+
+    public long getStartMillis()
+    {
+        return startMillis;
+    }
+
+    public long getEndMillis()
+    {
+        return endMillis;
+    }
+
+    /**
+     * @return Nutation in longitude in radians
+     */
+    public double getLongitude( long millisSinceEpoch )
+    {
+        return interpolate( longitude, millisSinceEpoch );
+    }
+
+    public double getLongitude( Time time )
+    {
+        return getLongitude( time.getTime() );
+    }
+
+    /**
+     * @return Nutation in obliquity in radians
+     */
+    public double getObliquity( long millisSinceEpoch )
+    {
+        return interpolate( obliquity, millisSinceEpoch );
+    }
+
+    public double getObliquity( Time time )
+    {
+        return getObliquity( time.getTime() );
+    }
+
+    private double interpolate( double[] values, long millisSinceEpoch )
+    {
+        if ( millisSinceEpoch < startMillis || millisSinceEpoch > endMillis )
+            throw new IllegalArgumentException( "Time " + millisSinceEpoch + " outside of tabulated range ["
+                    + startMillis + ", " + endMillis + "]" );
+        final long offset = millisSinceEpoch - startMillis;
+        final int i = (int)( offset / spacingMillis ) + 1;
+        final double u = (double)( offset % spacingMillis ) / spacingMillis;
+        // Lagrange polynomial through the nodes i - 1, i, i + 1, i + 2, at u = -1, 0, 1, 2
+        final double um1 = u - 1;
+        final double um2 = u - 2;
+        final double up1 = u + 1;
+        return -u * um1 * um2 / 6 * values[i - 1]
+                + up1 * um1 * um2 / 2 * values[i]
+                - up1 * u * um2 / 2 * values[i + 1]
+                + up1 * u * um1 / 6 * values[i + 2];
+    }
+}
@@ -22,7 +22,69 @@ public abstract class OrbitalModel
         return Distance.AU;
     }
 
-    public abstract void compute( Time time, Cartesian position, Cartesian velocity );
+    public void compute( Time time, Cartesian position, Cartesian velocity )
+    {
+        compute( time.getTime(), position, velocity );
+    }
+
+    public void compute( Time time, Spherical position, Spherical velocity )
+    {
+        compute( time.getTime(), position, velocity );
+    }
 
-    public abstract void compute( Time time, Spherical position, Spherical velocity );
+    /**
+     * Same as {@link #compute(Time, Cartesian, Cartesian)}, for callers holding the raw time value.
+     *
+     * @param millisSinceEpoch Time in milliseconds since the epoch
+     */
+    public abstract void compute( long millisSinceEpoch, Cartesian position, Cartesian velocity );
+
+    /**
+     * Same as {@link #compute(Time, Spherical, Spherical)}, for callers holding the raw time value.
+     *
+     * @param millisSinceEpoch Time in milliseconds since the epoch
+     * @param velocity         Units: [dist/s], [rad/s], [rad/s], like the velocity of
+     *                         {@link #evaluate(long, double[], int)}; may be null
+     */
+    public abstract void compute( long millisSinceEpoch, Spherical position, Spherical velocity );
+
+    /**
+     * Compute position and velocity without modifying any state of the model.
+     * <p>
+     * In contrast to {@link #compute(Time, Cartesian, Cartesian)}, this method keeps all intermediate
+     * results in local variables or in the output array, so a single instance may be used by any
+     * number of threads concurrently.
+     *
+     * @param millis Time in milliseconds since the epoch
+     * @param out    Receives the Cartesian coordinates x, y, z of the position, followed by those of the
+     *               velocity, in the same units as {@link #compute(Time, Cartesian, Cartesian)}
+     * @param offset Index in out of the x-coordinate of the position
+     */
+    public abstract void evaluate( long millis, double[] out, int offset );
+
+    /**
+     * Convert spherical coordinates lon, lat, dst and their derivatives [per second] at out[offset ... offset + 5]
+     * in place to Cartesian position and velocity [per second], as {@link Spherical#transform(Cartesian)}
+     * and {@link Spherical#transformVelocity(Spherical, Cartesian)} do.
+     */
+    static void sphericalToCartesian( double[] out, int offset, boolean velocity )
+    {
+        final double r = out[offset + 2];
+        final double cl = Math.cos( out[offset] );
+        final double sl = Math.sin( out[offset] );
+        final double cb = Math.cos( out[offset + 1] );
+        final double sb = Math.sin( out[offset + 1] );
+        out[offset] = r * cb * cl;
+        out[offset + 1] = r * cb * sl;
+        out[offset + 2] = r * sb;
+        if ( velocity )
+        {
+            final double lon = out[offset + 3];
+            final double lat = out[offset + 4];
+            final double dst = out[offset + 5];
+            out[offset + 3] = dst * cl * cb - r * ( lon * sl * cb + lat * cl * sb );
+            out[offset + 4] = dst * sl * cb + r * ( lon * cl * cb - lat * sl * sb );
+            out[offset + 5] = dst * sb + r * lat * cb;
+        }
+    }
 }
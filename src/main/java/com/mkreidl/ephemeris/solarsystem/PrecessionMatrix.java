@@ -11,7 +11,19 @@ public class PrecessionMatrix extends Matrix3x3
 
     public static Matrix3x3 compute( final Time time, final Matrix3x3 matrix )
     {
-        final double t = time.julianMillenniaSince( Time.J2000 );
+        return computeMillennia( time.julianMillenniaSince( Time.J2000 ), matrix );
+    }
+
+    public static Matrix3x3 compute( final long millisSinceEpoch, final Matrix3x3 matrix )
+    {
+        return computeMillennia( Time.julianMillenniaSinceJ2000( millisSinceEpoch ), matrix );
+    }
+
+    /**
+     * @param t Julian millennia since J2000
+     */
+    public static Matrix3x3 computeMillennia( final double t, final Matrix3x3 matrix )
+    {
 
         final double s11 = evaluatePolynomial( t, S11 );
         final double c11 = evaluatePolynomial( t, C11 );
@@ -8,15 +8,29 @@ import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
 import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
 
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 public abstract class SolarSystem
 {
+    // Body.values() returns a fresh copy on every call
+    private static final Body[] BODIES = Body.values();
+    private static final EnumSet<Body> ALL_BODIES = EnumSet.allOf( Body.class );
+
     protected final Map<Body, Ecliptical.Cart> positions = new EnumMap<>( Body.class );
     protected final Map<Body, Ecliptical.Cart> velocities = new EnumMap<>( Body.class );
     final Map<Body, OrbitalModel> models = new EnumMap<>( Body.class );
     private final Map<Body, Position> planetsEphemerides = new EnumMap<>( Body.class );
-    private final EnumMap<Body, Double> geocentricDistances = new EnumMap<>( Body.class );
+    private final double[] geocentricDistances = new double[BODIES.length];
+    private final Equatorial.Cart[] geocentric = new Equatorial.Cart[BODIES.length];
+    private final Ecliptical.Cart snapshotVector = new Ecliptical.Cart();
+    // One record of position and velocity per body, so bodies may be computed in parallel
+    private final double[] cachedStates = new double[6 * BODIES.length];
+    private Executor executor;
+    private StateCache cache;
 
     SolarSystem()
     {
@@ -25,9 +39,40 @@ public abstract class SolarSystem
             planetsEphemerides.put( body, new Position() );
             positions.put( body, new Ecliptical.Cart() );
             velocities.put( body, new Ecliptical.Cart() );
+            geocentric[body.ordinal()] = new Equatorial.Cart();
         }
     }
 
+    /**
+     * Let {@link #compute(Time)} run on the given executor, e.g. a {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * The Earth is computed first on the calling thread, since all geocentric positions depend on it.
+     * Then the models and the ephemerides of all other bodies are computed concurrently, one task per body.
+     * This only parallelizes a single call: the instance itself must still not be used by several threads
+     * at the same time.
+     *
+     * @param executor Executor for the tasks, or null to compute all bodies sequentially on the calling thread
+     */
+    public void setExecutor( Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Take the states of the bodies from a cache, which may be shared with other solar systems of the same class,
+     * instead of evaluating the models for each computation.
+     * The results are then interpolated, with an accuracy depending on the spacing of the nodes of the cache.
+     *
+     * @param cache Cache for the states, or null to evaluate the models directly
+     * @throws IllegalArgumentException if the cache is already used by a solar system of a different class
+     */
+    public void setCache( StateCache cache )
+    {
+        if ( cache != null )
+            cache.attach( this );
+        this.cache = cache;
+    }
+
     public Cartesian getHeliocentric( final Body body, final Cartesian output )
     {
         output.set( positions.get( body ) );
@@ -55,45 +100,181 @@ public abstract class SolarSystem
 
     public double getGeocentricDistance( Body body )
     {
-        return geocentricDistances.get( body );
+        return geocentricDistances[body.ordinal()];
     }
 
     public void compute( final Time time, final Body body )
     {
+        compute( time.getTime(), body );
+    }
+
+    public void compute( final long millisSinceEpoch, final Body body )
+    {
+        if ( cache != null )
+        {
+            final int offset = 6 * body.ordinal();
+            cache.get( this, body, millisSinceEpoch, cachedStates, offset );
+            positions.get( body ).set( cachedStates[offset], cachedStates[offset + 1], cachedStates[offset + 2] );
+            velocities.get( body ).set( cachedStates[offset + 3], cachedStates[offset + 4], cachedStates[offset + 5] );
+            return;
+        }
         final OrbitalModel model = models.get( body );
-        model.compute( time, positions.get( body ), velocities.get( body ) );
+        model.compute( millisSinceEpoch, positions.get( body ), velocities.get( body ) );
         positions.get( body ).scale( model.getDistanceUnit().toMeters() );
         velocities.get( body ).scale( model.getDistanceUnit().toMeters() );
     }
 
+    /**
+     * Compute position [m] and velocity [m/s] of a body relative to the center of its model
+     * (the Sun, or the Earth for the Moon) without modifying any state.
+     * May be called by many threads concurrently on the same instance.
+     *
+     * @see OrbitalModel#evaluate(long, double[], int)
+     */
+    public void evaluate( final Body body, final long millis, final double[] out, final int offset )
+    {
+        final OrbitalModel model = models.get( body );
+        model.evaluate( millis, out, offset );
+        final double meters = model.getDistanceUnit().toMeters();
+        for ( int i = offset; i < offset + 6; i++ )
+            out[i] *= meters;
+    }
+
     public void compute( final Time time )
     {
-        for ( final Body body : Body.values() )
+        compute( time.getTime() );
+    }
+
+    public void compute( final long millisSinceEpoch )
+    {
+        compute( millisSinceEpoch, ALL_BODIES );
+    }
+
+    public void compute( final Time time, final EnumSet<Body> bodies )
+    {
+        compute( time.getTime(), bodies );
+    }
+
+    /**
+     * Compute models and ephemerides only for the given bodies, plus the model of the Earth,
+     * which all geocentric positions depend on.
+     * The results for all other bodies are left unchanged from previous computations.
+     */
+    public void compute( final long millisSinceEpoch, final EnumSet<Body> bodies )
+    {
+        if ( executor != null )
         {
-            final OrbitalModel model = models.get( body );
-            model.compute( time, positions.get( body ), velocities.get( body ) );
-            positions.get( body ).scale( model.getDistanceUnit().toMeters() );
-            velocities.get( body ).scale( model.getDistanceUnit().toMeters() );
+            computeParallel( millisSinceEpoch, bodies );
+            return;
         }
-        final Equatorial.Cart geocentric = new Equatorial.Cart();
-        for ( final Body body : Body.values() )
+        compute( millisSinceEpoch, Body.EARTH );
+        for ( final Body body : BODIES )
+            if ( body != Body.EARTH && bodies.contains( body ) )
+                compute( millisSinceEpoch, body );
+        for ( final Body body : BODIES )
+            if ( bodies.contains( body ) )
+                computeEphemerides( body );
+    }
+
+    /**
+     * Compute all bodies like {@link #compute(long)}, and return copies of the results in an immutable snapshot
+     * that may be shared with other threads.
+     */
+    public SolarSystemSnapshot computeSnapshot( final long millisSinceEpoch )
+    {
+        compute( millisSinceEpoch );
+        final double[] values = new double[SolarSystemSnapshot.STRIDE * BODIES.length];
+        for ( final Body body : BODIES )
+            copyToSnapshot( body, values, SolarSystemSnapshot.STRIDE * body.ordinal() );
+        return new SolarSystemSnapshot( millisSinceEpoch, values );
+    }
+
+    public SolarSystemSnapshot computeSnapshot( final Time time )
+    {
+        return computeSnapshot( time.getTime() );
+    }
+
+    private void copyToSnapshot( final Body body, final double[] values, final int offset )
+    {
+        // Geocentric models (the Moon) yield positions relative to the Earth, all others relative to the Sun
+        final boolean geocentricModel = models.get( body ).getType() == OrbitalModel.Type.GEOCENTRIC;
+        copy( getHeliocentric( body, snapshotVector ), values, offset + SolarSystemSnapshot.HELIOCENTRIC_POSITION );
+        snapshotVector.set( velocities.get( body ) );
+        if ( geocentricModel )
+            snapshotVector.add( velocities.get( Body.EARTH ) );
+        copy( snapshotVector, values, offset + SolarSystemSnapshot.HELIOCENTRIC_VELOCITY );
+        planetsEphemerides.get( body ).get( snapshotVector, Position.CoordinatesCenter.GEOCENTRIC );
+        copy( snapshotVector, values, offset + SolarSystemSnapshot.GEOCENTRIC_POSITION );
+        snapshotVector.set( velocities.get( body ) );
+        if ( !geocentricModel )
+            snapshotVector.sub( velocities.get( Body.EARTH ) );
+        copy( snapshotVector, values, offset + SolarSystemSnapshot.GEOCENTRIC_VELOCITY );
+        values[offset + SolarSystemSnapshot.GEOCENTRIC_DISTANCE] = geocentricDistances[body.ordinal()];
+    }
+
+    private static void copy( final Cartesian vector, final double[] values, final int offset )
+    {
+        values[offset] = vector.x;
+        values[offset + 1] = vector.y;
+        values[offset + 2] = vector.z;
+    }
+
+    private void computeParallel( final long millisSinceEpoch, final EnumSet<Body> bodies )
+    {
+        compute( millisSinceEpoch, Body.EARTH );
+        final CompletableFuture<?>[] tasks = new CompletableFuture<?>[bodies.size()];
+        int count = 0;
+        for ( final Body body : bodies )
+            tasks[count++] = CompletableFuture.runAsync( () -> {
+                if ( body != Body.EARTH )
+                    compute( millisSinceEpoch, body );
+                computeEphemerides( body );
+            }, executor );
+        try
+        {
+            CompletableFuture.allOf( tasks ).join();
+        }
+        catch ( CompletionException e )
         {
-            getEphemerides( body, planetsEphemerides.get( body ) );
-            planetsEphemerides.get( body ).get( geocentric, Position.CoordinatesCenter.GEOCENTRIC );
-            geocentricDistances.put( body, geocentric.length() );
+            if ( e.getCause() instanceof RuntimeException )
+                throw (RuntimeException)e.getCause();
+            throw e;
         }
     }
 
+    private void computeEphemerides( final Body body )
+    {
+        final Position position = planetsEphemerides.get( body );
+        final Equatorial.Cart cartesian = geocentric[body.ordinal()];
+        getEphemerides( body, position );
+        position.get( cartesian, Position.CoordinatesCenter.GEOCENTRIC );
+        geocentricDistances[body.ordinal()] = cartesian.length();
+    }
+
     public void setTimeLocation( final Time time, double longitudeRad, double latitudeRad )
     {
-        final double localSiderealTimeRad = time.getMeanSiderealTimeRadians() + longitudeRad;
-        final double currentEclipticRad = Ecliptic.getObliquity( time );
+        setTimeLocation( time.getTime(), longitudeRad, latitudeRad );
+    }
+
+    public void setTimeLocation( final long millisSinceEpoch, double longitudeRad, double latitudeRad )
+    {
+        final double localSiderealTimeRad = Time.getMeanSiderealTimeRadians( millisSinceEpoch ) + longitudeRad;
+        final double currentEclipticRad = Ecliptic.getObliquity( millisSinceEpoch );
         setTimeLocation( currentEclipticRad, localSiderealTimeRad, latitudeRad );
     }
 
+    /**
+     * Same as {@link #setTimeLocation(long, double, double)}, with the values shared by other consumers
+     * of the frame
+     */
+    public void setTimeLocation( final EpochFrame frame, double longitudeRad, double latitudeRad )
+    {
+        setTimeLocation( frame.getObliquity(), frame.getMeanSiderealTime() + longitudeRad, latitudeRad );
+    }
+
     public void setTimeLocation( double currentEclipticRadians, double localSiderealTimeRadians, double latitudeRadians )
     {
-        for ( final Body body : Body.values() )
+        for ( final Body body : BODIES )
             planetsEphemerides.get( body ).setTimeLocation( currentEclipticRadians, localSiderealTimeRadians, latitudeRadians );
     }
 
@@ -0,0 +1,27 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+/**
+ * Solar system backed by piecewise Chebyshev approximations of another solar system's models,
+ * valid for a fixed time range.
+ */
+public class SolarSystemChebyshev extends SolarSystem
+{
+    /**
+     * Fit all bodies of the source solar system.
+     *
+     * @param source          Solar system providing the models to approximate, e.g. {@link SolarSystemVSOP87C}
+     * @param startMillis     Begin of the time range in milliseconds since the epoch
+     * @param endMillis       End of the time range in milliseconds since the epoch
+     * @param toleranceMeters Maximum deviation in each coordinate from the source models
+     */
+    public SolarSystemChebyshev( SolarSystem source, long startMillis, long endMillis, double toleranceMeters )
+    {
+        for ( Body body : Body.values() )
+            models.put( body, ModelChebyshev.fit( source.models.get( body ), startMillis, endMillis, toleranceMeters ) );
+    }
+
+    public ModelChebyshev getModel( Body body )
+    {
+        return (ModelChebyshev)models.get( body );
+    }
+}
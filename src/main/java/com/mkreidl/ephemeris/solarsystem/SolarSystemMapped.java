@@ -0,0 +1,30 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Solar system interpolating the precomputed nodes of an {@link EphemerisStore},
+ * valid for the time range of the store.
+ */
+public class SolarSystemMapped extends SolarSystem
+{
+    public SolarSystemMapped( Path file ) throws IOException
+    {
+        this( EphemerisStore.open( file ) );
+    }
+
+    /**
+     * @param store Store shared with other solar systems, which may be used by other threads
+     */
+    public SolarSystemMapped( EphemerisStore store )
+    {
+        for ( Body body : Body.values() )
+            models.put( body, new ModelHermite( store.getModel( body ) ) );
+    }
+
+    public ModelHermite getModel( Body body )
+    {
+        return (ModelHermite)models.get( body );
+    }
+}
@@ -0,0 +1,84 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.geometry.Cartesian;
+
+/**
+ * Immutable result of {@link SolarSystem#computeSnapshot(long)}: ecliptical positions [m], velocities [m/s]
+ * and geocentric distances [m] of all bodies at one instant.
+ * <p>
+ * All values are held in one flat array, with the values of each body in a block of {@link #STRIDE}
+ * elements starting at {@code STRIDE * body.ordinal()}. A snapshot never changes after construction,
+ * so it may be cached and handed to other threads without synchronization.
+ */
+public final class SolarSystemSnapshot
+{
+    public static final int HELIOCENTRIC_POSITION = 0;
+    public static final int HELIOCENTRIC_VELOCITY = 3;
+    // Apparent geocentric position, i.e. corrected for aberration like Position.get(..., GEOCENTRIC)
+    public static final int GEOCENTRIC_POSITION = 6;
+    public static final int GEOCENTRIC_VELOCITY = 9;
+    public static final int GEOCENTRIC_DISTANCE = 12;
+    public static final int STRIDE = 13;
+
+    private final long millisSinceEpoch;
+    private final double[] values;
+
+    SolarSystemSnapshot( long millisSinceEpoch, double[] values )
+    {
+        this.millisSinceEpoch = millisSinceEpoch;
+        this.values = values;
+    }
+
+    public long getTime()
+    {
+        return millisSinceEpoch;
+    }
+
+    /**
+     * @param offset One of {@link #HELIOCENTRIC_POSITION}, ..., {@link #GEOCENTRIC_DISTANCE},
+     *               plus 0, 1 or 2 for the x, y or z coordinate of a vector
+     */
+    public double get( Body body, int offset )
+    {
+        return values[STRIDE * body.ordinal() + offset];
+    }
+
+    public Cartesian getHeliocentricPosition( Body body, Cartesian output )
+    {
+        return get( body, HELIOCENTRIC_POSITION, output );
+    }
+
+    public Cartesian getHeliocentricVelocity( Body body, Cartesian output )
+    {
+        return get( body, HELIOCENTRIC_VELOCITY, output );
+    }
+
+    public Cartesian getGeocentricPosition( Body body, Cartesian output )
+    {
+        return get( body, GEOCENTRIC_POSITION, output );
+    }
+
+    public Cartesian getGeocentricVelocity( Body body, Cartesian output )
+    {
+        return get( body, GEOCENTRIC_VELOCITY, output );
+    }
+
+    public double getGeocentricDistance( Body body )
+    {
+        return get( body, GEOCENTRIC_DISTANCE );
+    }
+
+    /**
+     * @return A copy of all values, laid out as described for the class
+     */
+    public double[] toArray()
+    {
+        return values.clone();
+    }
+
+    private Cartesian get( Body body, int offset, Cartesian output )
+    {
+        final int index = STRIDE * body.ordinal() + offset;
+        return output.set( values[index], values[index + 1], values[index + 2] );
+    }
+}
@@ -9,36 +9,64 @@ public class Sun {
   }
 
   public static double getEquationOfTime(Time time) {
-    final double t = time.julianCenturiesSince(Time.J2000);
+    return getEquationOfTimeCenturies(time.julianCenturiesSince(Time.J2000));
+  }
+
+  public static double getEquationOfTime(long millisSinceEpoch) {
+    return getEquationOfTimeCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
+  }
+
+  public static double getEquationOfTime(EpochFrame frame) {
+    final double t = frame.getJulianCenturies();
+    return getEquationOfTime(t, frame.getNutationLongitude(), frame.getObliquity());
+  }
+
+  public static double getEquationOfTimeCenturies(double t) {
+    return getEquationOfTime(t, Nutation.getLongitudeCenturies(t), Ecliptic.getObliquityCenturies(t));
+  }
+
+  private static double getEquationOfTime(double t, double nutationLongitude, double obliquity) {
     return Angle.standardize(
-        getMeanLongitude(t)
+        getMeanLongitudeCenturies(t)
             - Math.toRadians(0.005_7183)
-            - getApparentRightAscension(t)
-            + Nutation.getLongitude(t) * Math.cos(Ecliptic.getObliquity(t)));
+            - getApparentRightAscensionCenturies(t)
+            + nutationLongitude * Math.cos(obliquity));
   }
 
   public static double getMeanLongitude(Time time) {
-    return getMeanLongitude(time.julianCenturiesSince(Time.J2000));
+    return getMeanLongitudeCenturies(time.julianCenturiesSince(Time.J2000));
   }
 
-  public static double getMeanLongitude(double time) {
+  public static double getMeanLongitude(long millisSinceEpoch) {
+    return getMeanLongitudeCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
+  }
+
+  public static double getMeanLongitudeCenturies(double time) {
     return Math.toRadians(evaluatePolynomial(time, L0));
   }
 
   public static double getMeanAnomaly(Time time) {
-    return getMeanAnomaly(time.julianCenturiesSince(Time.J2000));
+    return getMeanAnomalyCenturies(time.julianCenturiesSince(Time.J2000));
+  }
+
+  public static double getMeanAnomaly(long millisSinceEpoch) {
+    return getMeanAnomalyCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
   }
 
-  public static double getMeanAnomaly(double time) {
+  public static double getMeanAnomalyCenturies(double time) {
     return Math.toRadians(evaluatePolynomial(time, M));
   }
 
   public static double getEquationOfCenter(Time time) {
-    return getEquationOfCenter(time.julianCenturiesSince(Time.J2000));
+    return getEquationOfCenterCenturies(time.julianCenturiesSince(Time.J2000));
   }
 
-  public static double getEquationOfCenter(double t) {
-    final double m = getMeanAnomaly(t);
+  public static double getEquationOfCenter(long millisSinceEpoch) {
+    return getEquationOfCenterCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
+  }
+
+  public static double getEquationOfCenterCenturies(double t) {
+    final double m = getMeanAnomalyCenturies(t);
     return Math.toRadians(
         (1.914_600 - (0.004_817 - 0.000_014 * t) * t) * Math.sin(m)
             + (0.019_993 - 0.000_101 * t) * Math.sin(2 * m)
@@ -46,14 +74,18 @@ public class Sun {
   }
 
   public static double getApparentRightAscension(Time time) {
-    return getApparentRightAscension(time.julianCenturiesSince(Time.J2000));
+    return getApparentRightAscensionCenturies(time.julianCenturiesSince(Time.J2000));
+  }
+
+  public static double getApparentRightAscension(long millisSinceEpoch) {
+    return getApparentRightAscensionCenturies(Time.julianCenturiesSinceJ2000(millisSinceEpoch));
   }
 
-  public static double getApparentRightAscension(double t) {
-    final double theta = getMeanLongitude(t) + getEquationOfCenter(t);
+  public static double getApparentRightAscensionCenturies(double t) {
+    final double theta = getMeanLongitudeCenturies(t) + getEquationOfCenterCenturies(t);
     final double omega = Math.toRadians(125.04 - 1_934.136 * t);
     final double lambda = theta - Math.toRadians(0.005_69 + 0.004_78 * Math.sin(omega));
-    final double epsilon = Ecliptic.getObliquity(t) + Math.toRadians(0.002_56 * Math.cos(omega));
+    final double epsilon = Ecliptic.getObliquityCenturies(t) + Math.toRadians(0.002_56 * Math.cos(omega));
     return Math.atan2(Math.cos(epsilon) * Math.sin(lambda), Math.cos(lambda));
   }
 
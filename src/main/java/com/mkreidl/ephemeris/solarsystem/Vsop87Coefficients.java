@@ -0,0 +1,298 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Coefficients of a VSOP87 model in a flat structure-of-arrays layout.
+ * <p>
+ * Each term A * cos( B + C * t ) is stored at the same index of the three
+ * primitive arrays {@code amplitude} (A), {@code phase} (B) and {@code frequency} (C).
+ * The terms of the series for coordinate {@code dim} and power {@code n} of time
+ * are contiguous and occupy the index range [ start( dim, n ), end( dim, n ) ).
+ * Within each series the terms are sorted by decreasing amplitude, so that any
+ * prefix of a series is a truncation of it (see {@link #truncate(double, double)}).
+ * <p>
+ * The coefficients can be stored in a compact binary format (see {@link #writeTo(OutputStream)}),
+ * which is read back with a few bulk copies instead of executing large static initializers.
+ * All values are big-endian:
+ * <pre>
+ * int      MAGIC, FORMAT_VERSION
+ * int      dimension
+ * int      number of powers, for each coordinate
+ * int      number of terms, for each series
+ * double[] all amplitudes, followed by all phases and all frequencies
+ * </pre>
+ */
+public final class Vsop87Coefficients
+{
+    static final int MAGIC = 0x56534f50;  // "VSOP"
+    static final int FORMAT_VERSION = 1;
+
+    final double[] amplitude;
+    final double[] phase;
+    final double[] frequency;
+
+    // The series ( dim, n ) spans the indices offsets[dim][n] ... offsets[dim][n + 1] - 1
+    private final int[][] offsets;
+
+    /**
+     * Flatten coefficients given as nested arrays coeff[dim][n][term] = { A, B, C }.
+     */
+    public Vsop87Coefficients( double[][][][] coeff )
+    {
+        offsets = new int[coeff.length][];
+        int size = 0;
+        for ( int dim = 0; dim < coeff.length; dim++ )
+        {
+            offsets[dim] = new int[coeff[dim].length + 1];
+            for ( int n = 0; n < coeff[dim].length; n++ )
+            {
+                offsets[dim][n] = size;
+                size += coeff[dim][n].length;
+            }
+            offsets[dim][coeff[dim].length] = size;
+        }
+        amplitude = new double[size];
+        phase = new double[size];
+        frequency = new double[size];
+        final Comparator<double[]> byDecreasingAmplitude =
+                ( a, b ) -> Double.compare( Math.abs( b[0] ), Math.abs( a[0] ) );
+        int index = 0;
+        for ( double[][][] series : coeff )
+            for ( double[][] terms : series )
+            {
+                final double[][] sorted = terms.clone();
+                Arrays.sort( sorted, byDecreasingAmplitude );
+                for ( double[] triple : sorted )
+                {
+                    amplitude[index] = triple[0];
+                    phase[index] = triple[1];
+                    frequency[index] = triple[2];
+                    ++index;
+                }
+            }
+    }
+
+    private Vsop87Coefficients( int[][] offsets, double[] amplitude, double[] phase, double[] frequency )
+    {
+        this.offsets = offsets;
+        this.amplitude = amplitude;
+        this.phase = phase;
+        this.frequency = frequency;
+    }
+
+    /**
+     * Parse a file of the original VSOP87 distribution, e.g. VSOP87C.mer.
+     * <p>
+     * Each series starts with a header line containing "VARIABLE i" (1-based coordinate)
+     * and "*T**n" (power of time); the last three numbers of each term line are A, B and C.
+     */
+    public static Vsop87Coefficients parse( Reader input ) throws IOException
+    {
+        final List<List<List<double[]>>> coeff = new ArrayList<>();
+        final BufferedReader reader = new BufferedReader( input );
+        List<double[]> terms = null;
+        String line;
+        while ( ( line = reader.readLine() ) != null )
+        {
+            if ( line.trim().isEmpty() )
+                continue;
+            final String[] tokens = line.trim().split( "\\s+" );
+            if ( tokens[0].equals( "VSOP87" ) )
+            {
+                final int dim = Integer.parseInt( tokens[indexOf( tokens, "VARIABLE" ) + 1] ) - 1;
+                final int n = Integer.parseInt( line.replaceAll( ".*\\*T\\*\\*(\\d+).*", "$1" ) );
+                while ( coeff.size() <= dim )
+                    coeff.add( new ArrayList<>() );
+                while ( coeff.get( dim ).size() <= n )
+                    coeff.get( dim ).add( new ArrayList<>() );
+                terms = coeff.get( dim ).get( n );
+            }
+            else if ( terms != null )
+            {
+                final int length = tokens.length;
+                terms.add( new double[]{
+                        Double.parseDouble( tokens[length - 3] ),
+                        Double.parseDouble( tokens[length - 2] ),
+                        Double.parseDouble( tokens[length - 1] )
+                } );
+            }
+        }
+        final double[][][][] result = new double[coeff.size()][][][];
+        for ( int dim = 0; dim < result.length; dim++ )
+        {
+            result[dim] = new double[coeff.get( dim ).size()][][];
+            for ( int n = 0; n < result[dim].length; n++ )
+                result[dim][n] = coeff.get( dim ).get( n ).toArray( new double[0][] );
+        }
+        return new Vsop87Coefficients( result );
+    }
+
+    private static int indexOf( String[] tokens, String token )
+    {
+        for ( int i = 0; i < tokens.length; i++ )
+            if ( tokens[i].equals( token ) )
+                return i;
+        throw new IllegalArgumentException( "Missing " + token + " in VSOP87 header" );
+    }
+
+    /**
+     * Read coefficients in binary format from a buffer, which may also be memory-mapped.
+     */
+    public static Vsop87Coefficients read( ByteBuffer buffer )
+    {
+        if ( buffer.getInt() != MAGIC )
+            throw new IllegalArgumentException( "Not a VSOP87 coefficient file" );
+        final int version = buffer.getInt();
+        if ( version != FORMAT_VERSION )
+            throw new IllegalArgumentException( "Unsupported format version: " + version );
+        final int[][] offsets = new int[buffer.getInt()][];
+        for ( int dim = 0; dim < offsets.length; dim++ )
+            offsets[dim] = new int[buffer.getInt() + 1];
+        int size = 0;
+        for ( int[] series : offsets )
+        {
+            for ( int n = 0; n < series.length - 1; n++ )
+            {
+                series[n] = size;
+                size += buffer.getInt();
+            }
+            series[series.length - 1] = size;
+        }
+        final double[] amplitude = new double[size];
+        final double[] phase = new double[size];
+        final double[] frequency = new double[size];
+        buffer.asDoubleBuffer().get( amplitude ).get( phase ).get( frequency );
+        buffer.position( buffer.position() + 3 * size * Double.BYTES );
+        return new Vsop87Coefficients( offsets, amplitude, phase, frequency );
+    }
+
+    /**
+     * Read coefficients in binary format from a resource.
+     *
+     * @param anchor Class relative to which the resource name is resolved
+     * @throws UncheckedIOException if the resource cannot be read
+     */
+    public static Vsop87Coefficients load( Class<?> anchor, String resource )
+    {
+        try ( InputStream input = anchor.getResourceAsStream( resource ) )
+        {
+            if ( input == null )
+                throw new IOException( "Resource not found: " + resource );
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream( input.available() );
+            final byte[] chunk = new byte[1 << 16];
+            for ( int length; ( length = input.read( chunk ) ) > 0; )
+                bytes.write( chunk, 0, length );
+            return read( ByteBuffer.wrap( bytes.toByteArray() ) );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+
+    /**
+     * Write the coefficients in binary format.
+     */
+    public void writeTo( OutputStream output ) throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.allocate( getBinarySize() );
+        buffer.putInt( MAGIC ).putInt( FORMAT_VERSION ).putInt( offsets.length );
+        for ( int[] series : offsets )
+            buffer.putInt( series.length - 1 );
+        for ( int[] series : offsets )
+            for ( int n = 0; n < series.length - 1; n++ )
+                buffer.putInt( series[n + 1] - series[n] );
+        buffer.asDoubleBuffer().put( amplitude ).put( phase ).put( frequency );
+        output.write( buffer.array() );
+    }
+
+    private int getBinarySize()
+    {
+        int ints = 3 + offsets.length;
+        for ( int[] series : offsets )
+            ints += series.length - 1;
+        return ints * Integer.BYTES + 3 * size() * Double.BYTES;
+    }
+
+    /**
+     * @return Number of coordinates, i.e. 3 for all VSOP87 models
+     */
+    public int getDimension()
+    {
+        return offsets.length;
+    }
+
+    /**
+     * @return Number of series (powers of time) for the given coordinate
+     */
+    public int getNumberOfPowers( int dim )
+    {
+        return offsets[dim].length - 1;
+    }
+
+    /**
+     * @return Total number of terms in all series
+     */
+    public int size()
+    {
+        return amplitude.length;
+    }
+
+    /**
+     * Determine how many terms of each series are needed to reach a given accuracy.
+     * <p>
+     * Dropping the terms k, k+1, ... of the series for power n changes the coordinate by at most
+     * |t|^n * ( |A_k| + |A_k+1| + ... ). The accuracy budget is split evenly between the series
+     * of a coordinate, so the sum of these bounds never exceeds {@code accuracy} for |t| not larger
+     * than {@code timeSpanMillennia}.
+     *
+     * @param accuracy          Maximum error per coordinate in the units of the model
+     *                          (AU for rectangular, radians or AU for spherical coordinates)
+     * @param timeSpanMillennia Maximum distance from J2000 in Julian millennia
+     * @return ends[dim][n] is the exclusive end index of the truncated series ( dim, n )
+     */
+    int[][] truncate( double accuracy, double timeSpanMillennia )
+    {
+        final double span = Math.max( Math.abs( timeSpanMillennia ), Double.MIN_NORMAL );
+        final int[][] ends = new int[offsets.length][];
+        for ( int dim = 0; dim < offsets.length; dim++ )
+        {
+            final int powers = getNumberOfPowers( dim );
+            final double budget = accuracy / powers;
+            ends[dim] = new int[powers];
+            for ( int n = 0; n < powers; n++ )
+            {
+                final double factor = Math.pow( span, n );
+                final int start = start( dim, n );
+                int end = end( dim, n );
+                double remainder = 0.0;
+                while ( end > start && ( remainder + Math.abs( amplitude[end - 1] ) ) * factor <= budget )
+                    remainder += Math.abs( amplitude[--end] );
+                ends[dim][n] = end;
+            }
+        }
+        return ends;
+    }
+
+    int start( int dim, int n )
+    {
+        return offsets[dim][n];
+    }
+
+    int end( int dim, int n )
+    {
+        return offsets[dim][n + 1];
+    }
+}
@@ -0,0 +1,204 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+
+/**
+ * Evaluate a VSOP87 model on a uniform time grid t0, t0 + dt, t0 + 2 dt, ...
+ * <p>
+ * For each term A * cos( B + C * t ) the stepper keeps cos( B + C * t ) and sin( B + C * t )
+ * and advances them to t + dt by the angle addition theorem, rotating with the precomputed
+ * values cos( C * dt ) and sin( C * dt ). A step therefore costs a few multiply-adds per term
+ * instead of calls to {@link Math#cos(double)} and {@link Math#sin(double)}.
+ * <p>
+ * Rounding errors accumulate in the rotated values. Every {@value #RENORMALIZATION_INTERVAL} steps
+ * each pair is projected back onto the unit circle, which bounds the drift in amplitude,
+ * and every {@link #setResynchronizationInterval(int) resynchronization interval} all pairs are
+ * recomputed exactly, which bounds the drift in phase.
+ * <p>
+ * Only the terms selected by {@link AbstractModelVsop87#setAccuracy(double, double)} are evaluated.
+ * After changing the accuracy of the model, call {@link #seed(long)} before the next step.
+ */
+public class Vsop87Stepper
+{
+    static final int RENORMALIZATION_INTERVAL = 32;
+    private static final int DEFAULT_RESYNCHRONIZATION_INTERVAL = 4096;
+
+    private final AbstractModelVsop87 model;
+    private final Vsop87Coefficients coefficients;
+    private final long stepMillis;
+
+    private final double[] cos;
+    private final double[] sin;
+    private final double[] cosStep;
+    private final double[] sinStep;
+
+    private final double[] results = new double[2 * AbstractModelVsop87.DIMENSION];
+    private final double[] cosSums;
+    private final double[] sinSums;
+
+    private long timeMillis;
+    private int stepsSinceSeed;
+    private int resynchronizationInterval = DEFAULT_RESYNCHRONIZATION_INTERVAL;
+
+    /**
+     * @param model       The model to evaluate
+     * @param startMillis Start of the time grid in milliseconds since the epoch
+     * @param stepMillis  Grid spacing in milliseconds (may be negative)
+     */
+    public Vsop87Stepper( AbstractModelVsop87 model, long startMillis, long stepMillis )
+    {
+        this.model = model;
+        this.coefficients = model.coefficients;
+        this.stepMillis = stepMillis;
+
+        final int size = coefficients.size();
+        cos = new double[size];
+        sin = new double[size];
+        cosStep = new double[size];
+        sinStep = new double[size];
+
+        final double dt = (double)stepMillis / Time.MILLIS_PER_MILLENNIUM;
+        for ( int i = 0; i < size; i++ )
+        {
+            cosStep[i] = Math.cos( coefficients.frequency[i] * dt );
+            sinStep[i] = Math.sin( coefficients.frequency[i] * dt );
+        }
+
+        int maxPowers = 0;
+        for ( int dim = 0; dim < coefficients.getDimension(); dim++ )
+            maxPowers = Math.max( maxPowers, coefficients.getNumberOfPowers( dim ) );
+        cosSums = new double[maxPowers];
+        sinSums = new double[maxPowers];
+
+        seed( startMillis );
+    }
+
+    /**
+     * Number of steps after which all terms are recomputed exactly.
+     */
+    public void setResynchronizationInterval( int steps )
+    {
+        if ( steps <= 0 )
+            throw new IllegalArgumentException( "Resynchronization interval must be positive: " + steps );
+        resynchronizationInterval = steps;
+    }
+
+    /**
+     * Restart the grid at the given time, computing all terms exactly.
+     */
+    public void seed( long startMillis )
+    {
+        timeMillis = startMillis;
+        stepsSinceSeed = 0;
+        final double t = toMillennia( startMillis );
+        final double[] phase = coefficients.phase;
+        final double[] frequency = coefficients.frequency;
+        for ( int dim = 0; dim < coefficients.getDimension(); dim++ )
+            for ( int n = 0; n < coefficients.getNumberOfPowers( dim ); n++ )
+            {
+                final int end = model.end( dim, n );
+                for ( int i = coefficients.start( dim, n ); i < end; i++ )
+                {
+                    final double angle = phase[i] + frequency[i] * t;
+                    cos[i] = Math.cos( angle );
+                    sin[i] = Math.sin( angle );
+                }
+            }
+    }
+
+    /**
+     * Advance to the next point of the grid.
+     */
+    public void step()
+    {
+        timeMillis += stepMillis;
+        if ( ++stepsSinceSeed >= resynchronizationInterval )
+        {
+            seed( timeMillis );
+            return;
+        }
+        final boolean renormalize = stepsSinceSeed % RENORMALIZATION_INTERVAL == 0;
+        for ( int dim = 0; dim < coefficients.getDimension(); dim++ )
+            for ( int n = 0; n < coefficients.getNumberOfPowers( dim ); n++ )
+                if ( renormalize )
+                    rotateAndRenormalize( coefficients.start( dim, n ), model.end( dim, n ) );
+                else
+                    rotate( coefficients.start( dim, n ), model.end( dim, n ) );
+    }
+
+    private void rotate( int start, int end )
+    {
+        for ( int i = start; i < end; i++ )
+        {
+            final double c = cos[i] * cosStep[i] - sin[i] * sinStep[i];
+            sin[i] = sin[i] * cosStep[i] + cos[i] * sinStep[i];
+            cos[i] = c;
+        }
+    }
+
+    private void rotateAndRenormalize( int start, int end )
+    {
+        for ( int i = start; i < end; i++ )
+        {
+            final double c = cos[i] * cosStep[i] - sin[i] * sinStep[i];
+            final double s = sin[i] * cosStep[i] + cos[i] * sinStep[i];
+            // One Newton step towards 1 / sqrt( c^2 + s^2 ), which is very close to 1
+            final double factor = 0.5 * ( 3.0 - c * c - s * s );
+            cos[i] = c * factor;
+            sin[i] = s * factor;
+        }
+    }
+
+    public long getTime()
+    {
+        return timeMillis;
+    }
+
+    /**
+     * Compute position and velocity of the model at the current grid point.
+     *
+     * @param velocity May be null if no velocity is required
+     */
+    public void compute( Cartesian position, Cartesian velocity )
+    {
+        final double t = toMillennia( timeMillis );
+        for ( int dim = 0; dim < coefficients.getDimension(); dim++ )
+        {
+            final int powers = coefficients.getNumberOfPowers( dim );
+            for ( int n = 0; n < powers; n++ )
+                sumSeries( dim, n );
+            double pos = 0.0;
+            double vel = 0.0;
+            for ( int n = powers - 1; n > 0; --n )
+            {
+                pos = pos * t + cosSums[n];
+                vel = vel * t + sinSums[n - 1] + n * cosSums[n];
+            }
+            results[dim] = pos * t + cosSums[0];
+            results[dim + AbstractModelVsop87.DIMENSION] = vel / ( Time.DAYS_PER_MILLENNIUM * Time.SECONDS_PER_DAY );
+        }
+        model.toCartesian( results, position, velocity );
+    }
+
+    private void sumSeries( int dim, int n )
+    {
+        final double[] amplitude = coefficients.amplitude;
+        final double[] frequency = coefficients.frequency;
+        final int end = model.end( dim, n );
+        double cosSum = 0.0;
+        double sinSum = 0.0;
+        for ( int i = coefficients.start( dim, n ); i < end; i++ )
+        {
+            cosSum += amplitude[i] * cos[i];
+            sinSum -= amplitude[i] * frequency[i] * sin[i];
+        }
+        cosSums[n] = cosSum;
+        sinSums[n] = sinSum;
+    }
+
+    private static double toMillennia( long millis )
+    {
+        return (double)( millis - Time.J2000.getTime() ) / Time.MILLIS_PER_MILLENNIUM;
+    }
+}
@@ -37,7 +37,19 @@ public class Zodiac
 
     public double compute( Time time )
     {
-        obliquity = Ecliptic.getObliquity( time );
+        return compute( time.getTime() );
+    }
+
+    public double compute( long millisSinceEpoch )
+    {
+        obliquity = Ecliptic.getObliquity( millisSinceEpoch );
+        pole.lat = Math.PI / 2 - obliquity;
+        return obliquity;
+    }
+
+    public double compute( EpochFrame frame )
+    {
+        obliquity = frame.getObliquity();
         pole.lat = Math.PI / 2 - obliquity;
         return obliquity;
     }
@@ -1,6 +1,7 @@
 package com.mkreidl.ephemeris.solarsystem.meeus;
 
 import com.mkreidl.ephemeris.solarsystem.AbstractModelVsop87;
+import com.mkreidl.ephemeris.solarsystem.Vsop87Coefficients;
 
 public class Mars extends AbstractModelVsop87.LBR
 {
@@ -10,9 +11,10 @@ public class Mars extends AbstractModelVsop87.LBR
         // coeff is a member of the abstract super-class VSOP87Planet,
         // and it references different things, depending on and
         // only on the c l a s s of the instance created here.
-        coeff = classCoeff;
+        coefficients = classCoefficients;
     }
 
+    private static final Vsop87Coefficients classCoefficients;
     private static double[][][][] classCoeff = new double[DIMENSION][][][];
 
     static
@@ -36,6 +38,9 @@ public class Mars extends AbstractModelVsop87.LBR
         initialize_3_2();
         initialize_3_3();
         initialize_3_4();
+        classCoefficients = new Vsop87Coefficients( classCoeff );
+        // The nested arrays are not needed any more once the coefficients are flattened
+        classCoeff = null;
     }
 
     private static void initialize_1_0()
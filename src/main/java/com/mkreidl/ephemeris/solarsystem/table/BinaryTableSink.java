@@ -0,0 +1,97 @@
+package com.mkreidl.ephemeris.solarsystem.table;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Writes rows in a compact binary format, column by column within each block of rows:
+ * <pre>
+ * int      MAGIC, FORMAT_VERSION
+ * int      number of value columns
+ * UTF      name of each value column
+ * blocks:
+ *   int    number of rows n (greater than 0)
+ *   long   n times in milliseconds since the epoch
+ *   double n values of each column, column after column
+ * int      0, marking the end of the table
+ * </pre>
+ * All numbers are big-endian. The stream is flushed, but not closed, at the end.
+ */
+public class BinaryTableSink implements TableSink
+{
+    static final int MAGIC = 0x45504854;  // "EPHT"
+    static final int FORMAT_VERSION = 1;
+
+    private final DataOutputStream output;
+    private int columns;
+
+    public BinaryTableSink( OutputStream output )
+    {
+        this.output = new DataOutputStream( new BufferedOutputStream( output, 1 << 16 ) );
+    }
+
+    @Override
+    public void begin( String[] columnNames ) throws IOException
+    {
+        columns = columnNames.length;
+        output.writeInt( MAGIC );
+        output.writeInt( FORMAT_VERSION );
+        output.writeInt( columns );
+        for ( String name : columnNames )
+            output.writeUTF( name );
+    }
+
+    @Override
+    public void write( long[] times, double[] values, int rows ) throws IOException
+    {
+        if ( rows == 0 )
+            return;
+        output.writeInt( rows );
+        for ( int row = 0; row < rows; row++ )
+            output.writeLong( times[row] );
+        for ( int column = 0; column < columns; column++ )
+            for ( int row = 0; row < rows; row++ )
+                output.writeDouble( values[row * columns + column] );
+    }
+
+    @Override
+    public void end() throws IOException
+    {
+        output.writeInt( 0 );
+        output.flush();
+    }
+
+    /**
+     * Read a table written by a BinaryTableSink and pass its blocks of rows on to another sink.
+     */
+    public static void read( InputStream input, TableSink sink ) throws IOException
+    {
+        final DataInputStream data = new DataInputStream( new BufferedInputStream( input, 1 << 16 ) );
+        if ( data.readInt() != MAGIC )
+            throw new IOException( "Not an ephemeris table" );
+        final int version = data.readInt();
+        if ( version != FORMAT_VERSION )
+            throw new IOException( "Unsupported format version: " + version );
+        final String[] columnNames = new String[data.readInt()];
+        for ( int column = 0; column < columnNames.length; column++ )
+            columnNames[column] = data.readUTF();
+        sink.begin( columnNames );
+        for ( int rows = data.readInt(); rows > 0; rows = data.readInt() )
+        {
+            final long[] times = new long[rows];
+            final double[] values = new double[rows * columnNames.length];
+            for ( int row = 0; row < rows; row++ )
+                times[row] = data.readLong();
+            for ( int column = 0; column < columnNames.length; column++ )
+                for ( int row = 0; row < rows; row++ )
+                    values[row * columnNames.length + column] = data.readDouble();
+            sink.write( times, values, rows );
+        }
+        sink.end();
+    }
+}
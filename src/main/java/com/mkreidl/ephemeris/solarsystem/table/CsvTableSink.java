@@ -0,0 +1,51 @@
+package com.mkreidl.ephemeris.solarsystem.table;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes rows as comma separated values, with a header line and the time in milliseconds since the epoch
+ * in the first column. Values are written so that they parse back to exactly the same doubles.
+ * The writer is flushed, but not closed, at the end.
+ */
+public class CsvTableSink implements TableSink
+{
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder();
+    private int columns;
+
+    public CsvTableSink( Writer writer )
+    {
+        this.writer = writer;
+    }
+
+    @Override
+    public void begin( String[] columnNames ) throws IOException
+    {
+        columns = columnNames.length;
+        line.setLength( 0 );
+        line.append( "time" );
+        for ( String name : columnNames )
+            line.append( ',' ).append( name );
+        writer.write( line.append( '\n' ).toString() );
+    }
+
+    @Override
+    public void write( long[] times, double[] values, int rows ) throws IOException
+    {
+        for ( int row = 0; row < rows; row++ )
+        {
+            line.setLength( 0 );
+            line.append( times[row] );
+            for ( int column = 0; column < columns; column++ )
+                line.append( ',' ).append( values[row * columns + column] );
+            writer.write( line.append( '\n' ).toString() );
+        }
+    }
+
+    @Override
+    public void end() throws IOException
+    {
+        writer.flush();
+    }
+}
@@ -0,0 +1,235 @@
+package com.mkreidl.ephemeris.solarsystem.table;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystem;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Generate tables of Cartesian positions [m] of a set of bodies at equidistant times, and stream them
+ * to a {@link TableSink}.
+ * <p>
+ * The time range is split into chunks of consecutive rows. With an executor, the chunks are computed
+ * concurrently, each with its own {@link SolarSystem}, and handed to the sink in order of time.
+ * At most a fixed number of chunks is held in memory at any time, so arbitrarily long tables can be
+ * generated with bounded memory.
+ */
+public class EphemerisTableGenerator
+{
+    public enum Frame
+    {
+        ECLIPTICAL, EQUATORIAL, HORIZONTAL
+    }
+
+    private final Supplier<? extends SolarSystem> solarSystemSupplier;
+    private final EnumSet<Body> bodies;
+    private final Body[] columns;
+    private Position.CoordinatesCenter center = Position.CoordinatesCenter.GEOCENTRIC;
+    private Frame frame = Frame.ECLIPTICAL;
+    private double longitude;
+    private double latitude;
+    private int chunkRows = 1440;
+    private int maxPendingChunks = 2 * Runtime.getRuntime().availableProcessors();
+    private Executor executor;
+
+    /**
+     * @param solarSystemSupplier Creates a new SolarSystem for each chunk, e.g. {@code SolarSystemVSOP87C::new}
+     * @param bodies              Bodies to tabulate, in the order of {@link Body}
+     */
+    public EphemerisTableGenerator( Supplier<? extends SolarSystem> solarSystemSupplier, EnumSet<Body> bodies )
+    {
+        this.solarSystemSupplier = solarSystemSupplier;
+        this.bodies = EnumSet.copyOf( bodies );
+        this.columns = this.bodies.toArray( new Body[0] );
+    }
+
+    public void setCenter( Position.CoordinatesCenter center )
+    {
+        this.center = center;
+    }
+
+    public void setFrame( Frame frame )
+    {
+        this.frame = frame;
+    }
+
+    /**
+     * Set the geographic location of the observer, required for topocentric and horizontal coordinates.
+     */
+    public void setGeographicLocation( double longitudeRad, double latitudeRad )
+    {
+        this.longitude = longitudeRad;
+        this.latitude = latitudeRad;
+    }
+
+    /**
+     * @param chunkRows Number of rows computed by one task, 1440 by default
+     */
+    public void setChunkRows( int chunkRows )
+    {
+        if ( chunkRows <= 0 )
+            throw new IllegalArgumentException( "Invalid number of rows per chunk: " + chunkRows );
+        this.chunkRows = chunkRows;
+    }
+
+    /**
+     * @param maxPendingChunks Maximum number of chunks submitted to the executor, but not yet written to the sink;
+     *                         twice the number of processors by default
+     */
+    public void setMaxPendingChunks( int maxPendingChunks )
+    {
+        if ( maxPendingChunks <= 0 )
+            throw new IllegalArgumentException( "Invalid number of pending chunks: " + maxPendingChunks );
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * @param executor Executor for the chunks, or null to compute all chunks on the calling thread
+     */
+    public void setExecutor( Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * @return Names of the value columns of each row: x, y and z of each body, e.g. "MARS.x"
+     */
+    public String[] getColumnNames()
+    {
+        final String[] names = new String[3 * columns.length];
+        for ( int i = 0; i < columns.length; i++ )
+        {
+            names[3 * i] = columns[i] + ".x";
+            names[3 * i + 1] = columns[i] + ".y";
+            names[3 * i + 2] = columns[i] + ".z";
+        }
+        return names;
+    }
+
+    public void generate( Time start, Time end, long stepMillis, TableSink sink ) throws IOException
+    {
+        generate( start.getTime(), end.getTime(), stepMillis, sink );
+    }
+
+    /**
+     * Compute rows for the times start, start + step, ..., up to and including end, and write them to the sink.
+     */
+    public void generate( long startMillis, long endMillis, long stepMillis, TableSink sink ) throws IOException
+    {
+        if ( stepMillis <= 0 || endMillis < startMillis )
+            throw new IllegalArgumentException( "Invalid time range [" + startMillis + ", " + endMillis
+                    + "] or step " + stepMillis );
+        final long rows = ( endMillis - startMillis ) / stepMillis + 1;
+        final int window = executor != null ? maxPendingChunks : 1;
+        final ArrayDeque<CompletableFuture<Chunk>> pending = new ArrayDeque<>();
+        sink.begin( getColumnNames() );
+        try
+        {
+            long nextRow = 0;
+            while ( nextRow < rows || !pending.isEmpty() )
+            {
+                while ( nextRow < rows && pending.size() < window )
+                {
+                    final long chunkStart = startMillis + nextRow * stepMillis;
+                    final int count = (int)Math.min( chunkRows, rows - nextRow );
+                    pending.add( submit( () -> computeChunk( chunkStart, stepMillis, count ) ) );
+                    nextRow += count;
+                }
+                final Chunk chunk = join( pending.remove() );
+                sink.write( chunk.times, chunk.values, chunk.times.length );
+            }
+        }
+        finally
+        {
+            for ( CompletableFuture<Chunk> future : pending )
+                future.cancel( false );
+        }
+        sink.end();
+    }
+
+    private CompletableFuture<Chunk> submit( Supplier<Chunk> task )
+    {
+        if ( executor == null )
+            return CompletableFuture.completedFuture( task.get() );
+        return CompletableFuture.supplyAsync( task, executor );
+    }
+
+    private static Chunk join( CompletableFuture<Chunk> future )
+    {
+        try
+        {
+            return future.join();
+        }
+        catch ( CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+                throw (RuntimeException)e.getCause();
+            throw e;
+        }
+    }
+
+    private Chunk computeChunk( long startMillis, long stepMillis, int rows )
+    {
+        final SolarSystem solarSystem = solarSystemSupplier.get();
+        final Chunk chunk = new Chunk( rows, 3 * columns.length );
+        final Ecliptical.Cart ecliptical = new Ecliptical.Cart();
+        final Equatorial.Cart equatorial = new Equatorial.Cart();
+        final Horizontal.Cart horizontal = new Horizontal.Cart();
+        int index = 0;
+        for ( int row = 0; row < rows; row++ )
+        {
+            final long millis = startMillis + row * stepMillis;
+            chunk.times[row] = millis;
+            solarSystem.compute( millis, bodies );
+            // Also sets the obliquity of the ecliptic, which equatorial coordinates depend on
+            solarSystem.setTimeLocation( millis, longitude, latitude );
+            for ( Body body : columns )
+            {
+                final Cartesian position;
+                switch ( frame )
+                {
+                    case EQUATORIAL:
+                        solarSystem.getPosition( body, center, equatorial );
+                        position = equatorial;
+                        break;
+                    case HORIZONTAL:
+                        solarSystem.getPosition( body, center, horizontal );
+                        position = horizontal;
+                        break;
+                    default:
+                        solarSystem.getPosition( body, center, ecliptical );
+                        position = ecliptical;
+                        break;
+                }
+                chunk.values[index++] = position.x;
+                chunk.values[index++] = position.y;
+                chunk.values[index++] = position.z;
+            }
+        }
+        return chunk;
+    }
+
+    private static final class Chunk
+    {
+        final long[] times;
+        final double[] values;
+
+        Chunk( int rows, int columns )
+        {
+            times = new long[rows];
+            values = new double[rows * columns];
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mkreidl.ephemeris.solarsystem.table;
+
+import java.io.IOException;
+
+/**
+ * Receives the rows produced by an {@link EphemerisTableGenerator}, in order of time.
+ * <p>
+ * Only {@link #write(long[], double[], int)} must be implemented, so a lambda may serve as callback.
+ */
+public interface TableSink
+{
+    /**
+     * Called once before the first rows.
+     *
+     * @param columnNames Names of the value columns of each row, not including the time
+     */
+    default void begin( String[] columnNames ) throws IOException
+    {
+    }
+
+    /**
+     * Receive a block of consecutive rows. The arrays are not used by the generator after this call returns,
+     * but they are not guaranteed to be of length rows.
+     *
+     * @param times  Time of each row in milliseconds since the epoch
+     * @param values Values of the rows, row by row, with one value per column
+     * @param rows   Number of rows in the block
+     */
+    void write( long[] times, double[] values, int rows ) throws IOException;
+
+    /**
+     * Called once after the last rows.
+     */
+    default void end() throws IOException
+    {
+    }
+}
@@ -1,5707 +1,17 @@
 package com.mkreidl.ephemeris.solarsystem.vsop87c;
 
 import com.mkreidl.ephemeris.solarsystem.AbstractModelVsop87;
+import com.mkreidl.ephemeris.solarsystem.Vsop87Coefficients;
 
 public class Jupiter extends AbstractModelVsop87.XYZ
 {
     public Jupiter()
     {
-        // Here we emulate virtual static members:
-        // classCoeff is a member of the abstract super-class VSOP87Planet,
-        // and it references different things, depending on and
-        // only on the  c l a s s  of the instance created here.
-        coeff = classCoeff;
-    }
-
-    private static double[][][][] classCoeff = new double[DIMENSION][][][];
-
-    static
-    {
-        classCoeff[0] = new double[6][][];
-        classCoeff[1] = new double[6][][];
-        classCoeff[2] = new double[6][][];
-        initialize_1_0();
-        initialize_1_1();
-        initialize_1_2();
-        initialize_1_3();
-        initialize_1_4();
-        initialize_1_5();
-        initialize_2_0();
-        initialize_2_1();
-        initialize_2_2();
-        initialize_2_3();
-        initialize_2_4();
-        initialize_2_5();
-        initialize_3_0();
-        initialize_3_1();
-        initialize_3_2();
-        initialize_3_3();
-        initialize_3_4();
-        initialize_3_5();
-    }
-
-    private static void initialize_1_0()
-    {
-        classCoeff[0][0] = new double[][]{
-                {5.19591755961, 0.59954672200, 529.93478257810},
-                {0.37839498798, 3.39164799011, 0.24381748350},
-                {0.12593400247, 0.94916456487, 1059.62574767270},
-                {0.01504469362, 0.72934997067, 522.82123557730},
-                {0.01476016965, 3.61748058581, 537.04832957890},
-                {0.00457751771, 1.29886948102, 1589.31671276730},
-                {0.00301186623, 5.17699571796, 7.35736448430},
-                {0.00381996183, 1.98605213956, 102.84895673509},
-                {0.00193179179, 5.02674864982, 426.84200835950},
-                {0.00148291722, 6.15618324076, 110.45013870291},
-                {0.00142171400, 5.56556633177, 633.02755679670},
-                {0.00133443745, 0.89287673636, 213.54291292150},
-                {0.00102719450, 6.17016418155, 1052.51220067191},
-                {0.00087327523, 6.27541436099, 529.44714761109},
-                {0.00114122292, 0.01655163411, 1162.71852189130},
-                {0.00072093376, 3.96122861070, 1066.73929467350},
-                {0.00059268404, 4.46187501371, 949.41942645330},
-                {0.00068329094, 3.43833771050, 846.32665223470},
-                {0.00030209026, 2.97106959244, 205.94173095370},
-                {0.00034007392, 1.74694593876, 419.24082639170},
-                {0.00026616582, 4.85226363695, 323.74923414091},
-                {0.00019727427, 1.64894896707, 2119.00767786191},
-                {0.00017749540, 0.84241151614, 419.72846135871},
-                {0.00017560618, 1.95511771720, 316.63568714010},
-                {0.00016308761, 5.73600933766, 736.12033101530},
-                {0.00016227856, 0.86857414313, 515.70768857651},
-                {0.00014406626, 2.06284119096, 743.23387801611},
-                {0.00011421526, 3.48157539864, 544.16187657970},
-                {0.00010835166, 3.19395745172, 103.33659170210},
-                {0.00012154356, 3.75230765024, 526.00262931501},
-                {0.00011992571, 0.58508657370, 533.86693584120},
-                {0.00008455662, 3.47881139969, 640.14110379750},
-                {0.00008193182, 5.57030621208, 1479.11039154791},
-                {0.00008713455, 0.38315206501, 1692.40948698591},
-                {0.00007420814, 5.98301259011, 956.53297345411},
-                {0.00007565993, 0.90590258528, 1265.81129610991},
-                {0.00008202922, 1.41656499571, 735.63269604830},
-                {0.00007717111, 0.13134820979, 1582.20316576650},
-                {0.00005320837, 1.10497796931, 526.75338884040},
-                {0.00005217759, 3.23246701096, 533.11617631580},
-                {0.00005238212, 3.11227009303, 522.33360061030},
-                {0.00005774716, 5.03860697265, 14.47091148511},
-                {0.00005907614, 4.98319674710, 109.96250373590},
-                {0.00004575512, 3.75638993330, 1376.01761732930},
-                {0.00003939870, 4.30901425634, 1596.43025976811},
-                {0.00004568269, 2.14654320251, 95.73540973430},
-                {0.00003036375, 3.94492954790, 309.03450517230},
-                {0.00002856672, 6.01338099597, 117.56368570370},
-                {0.00002820138, 5.26515556940, 632.53992182970},
-                {0.00002442859, 4.24056243704, 433.95555536030},
-                {0.00002534517, 6.18089912855, 625.91400979590},
-                {0.00002329307, 5.93999996459, 213.05527795450},
-                {0.00002430903, 3.89413393897, 220.65645992230},
-                {0.00002673686, 3.18830432379, 1169.83206889211},
-                {0.00002396896, 5.93300784335, 1045.39865367110},
-                {0.00002503065, 1.15446452871, 1052.02456570489},
-                {0.00001817118, 2.38828009078, 838.72547026689},
-                {0.00002014206, 0.16819149452, 1155.60497489050},
-                {0.00001501452, 4.60588864812, 942.30587945250},
-                {0.00001454916, 5.75976807023, 853.44019923550},
-                {0.00001628897, 5.49183726268, 75.02541605080},
-                {0.00001106760, 4.07652960629, 6.86972951729},
-                {0.00001080777, 5.15189894960, 316.14805217309},
-                {0.00001041755, 0.10701428561, 1795.50226120450},
-                {0.00000996914, 3.08308908686, 1272.92484311070},
-                {0.00000928877, 3.11398170655, 198.82818395289},
-                {0.00000934490, 1.99952244525, 2648.69864295650},
-                {0.00000858575, 3.71317000991, 529.88659846831},
-                {0.00000858481, 0.62779584572, 529.98296668790},
-                {0.00001088006, 1.13420142953, 527.48710202330},
-                {0.00001080077, 3.20528251357, 532.38246313290},
-                {0.00000958229, 1.34776425757, 149.80701461810},
-                {0.00000830762, 3.68869745476, 625.42637482889},
-                {0.00000815889, 0.09783778677, 1059.13811270570},
-                {0.00000838684, 4.25222669612, 3.68833577960},
-                {0.00000956674, 5.34413307275, 379.88395047650},
-                {0.00000694759, 2.12065531862, 1155.11733992350},
-                {0.00000673874, 6.09243781947, 2008.80135664250},
-                {0.00000865777, 4.81335091362, 426.35437339250},
-                {0.00000897730, 0.91007512660, 1368.41643536150},
-                {0.00000667422, 1.95480301512, 1368.90407032850},
-                {0.00000747747, 4.71007343847, 330.86278114170},
-                {0.00000693620, 1.33864708601, 1063.55790093581},
-                {0.00000787813, 0.40190120466, 839.21310523390},
-                {0.00000614978, 0.12549858875, 2111.89413086110},
-                {0.00000680352, 0.29385269041, 528.97157473160},
-                {0.00000678592, 4.04690202000, 530.89799042461},
-                {0.00000574130, 0.74562235425, 2222.10045208050},
-                {0.00000644748, 1.92762797797, 412.12727939089},
-                {0.00000742423, 3.95986148740, 206.42936592071},
-                {0.00000563602, 4.06358227588, 1055.69359440960},
-                {0.00000559331, 5.87731196423, 729.00678401450},
-                {0.00000647539, 5.12542038621, 984.84414910540},
-                {0.00000460071, 3.82654707910, 1073.85284167431},
-                {0.00000403270, 0.99319532178, 412.61491435790},
-                {0.00000539827, 5.31630620093, 38.37685312130},
-                {0.00000407824, 2.98828635038, 910.06255053810},
-                {0.00000319575, 3.35886072316, 941.81824448550},
-                {0.00000301187, 4.06443054226, 1905.70858242391},
-                {0.00000330186, 3.60882237102, 948.93179148630},
-                {0.00000334161, 0.95340181567, 76.50988875911},
-                {0.00000292241, 1.85350584256, 1471.50920958009},
-                {0.00000388960, 6.06054382912, 604.71638114540},
-                {0.00000387023, 4.52724734369, 455.15318401080},
-                {0.00000303530, 5.06433323115, 529.41351771630},
-                {0.00000303139, 5.55956712580, 530.45604743991},
-                {0.00000276704, 0.65474572491, 1486.22393854870},
-                {0.00000383222, 4.89517559942, 3.42521122121},
-                {0.00000267964, 2.01438259050, 309.52214013930},
-                {0.00000270827, 1.04116519472, 1258.69774910910},
-                {0.00000264824, 2.94766261780, 536.56069461190},
-                {0.00000342262, 0.65840844301, 1684.80830501809},
-                {0.00000254392, 3.58469491330, 1062.80714141041},
-                {0.00000289891, 4.38886336303, 742.74624304909},
-                {0.00000227013, 4.65796948353, 2126.12122486270},
-                {0.00000219942, 3.05429299635, 515.22005360950},
-                {0.00000304124, 1.75362149529, 6283.31966747490},
-                {0.00000289590, 2.97007145679, 305.10235190919},
-                {0.00000225217, 3.50147007971, 1699.52303398670},
-                {0.00000192734, 1.02002841562, 508.59414157570},
-                {0.00000181955, 0.77882678658, 1898.59503542310},
-                {0.00000180824, 2.76562890852, 1265.32366114289},
-                {0.00000234431, 0.92363421460, 1056.44435393500},
-                {0.00000210412, 4.02038896426, 490.57790666290},
-                {0.00000178960, 6.10154360210, 527.01402127131},
-                {0.00000184077, 5.59641213885, 1471.99684454710},
-                {0.00000177005, 4.52323003424, 532.85554388490},
-                {0.00000197754, 6.22787965841, 1575.08961876571},
-                {0.00000201548, 1.60035448064, 728.51914904750},
-                {0.00000164871, 3.47686660224, 529.18402305270},
-                {0.00000164585, 0.86380543039, 530.68554210351},
-                {0.00000191757, 0.30748865043, 569.29165849331},
-                {0.00000155012, 1.25790672042, 519.63984183961},
-                {0.00000216423, 5.68405931071, 453.18107633550},
-                {0.00000208270, 3.39324145545, 1439.75351563271},
-                {0.00000195461, 0.69780042310, 1685.29593998510},
-                {0.00000158021, 4.32825610392, 525.74199688410},
-                {0.00000155478, 0.01448171646, 534.12756827210},
-                {0.00000142916, 2.35979415786, 11.28951774740},
-                {0.00000166137, 3.66026536347, 224.58861318540},
-                {0.00000139568, 3.35575676150, 647.25465079831},
-                {0.00000194718, 5.30500289646, 1021.49271203491},
-                {0.00000142687, 3.06398958840, 1258.21011414209},
-                {0.00000136501, 6.00364083075, 99.40443843901},
-                {0.00000155156, 5.30496926203, 845.83901726770},
-                {0.00000148749, 4.08138644957, 301.92095817150},
-                {0.00000142483, 3.75685487130, 227.77000692311},
-                {0.00000128042, 5.39609470815, 1162.23088692429},
-                {0.00000129196, 1.58923571595, 1787.90107923670},
-                {0.00000176884, 3.17597373171, 10213.52936369450},
-                {0.00000120579, 3.08299978310, 540.22972331660},
-                {0.00000163945, 2.01248197600, 1.72829019180},
-                {0.00000135003, 3.79885672041, 540.98048284201},
-                {0.00000121846, 3.78904805348, 524.30570828560},
-                {0.00000120032, 0.55319497448, 535.56385687061},
-                {0.00000124238, 3.38846678226, 983.35967639710},
-                {0.00000123682, 3.34428700111, 525.26891613211},
-                {0.00000104430, 0.57516865787, 530.09484127250},
-                {0.00000104430, 3.76551699050, 529.77472388370},
-                {0.00000136458, 0.41278945595, 2001.20017467470},
-                {0.00000115988, 3.35547392183, 750.34742501690},
-                {0.00000104731, 3.32722729895, 551.27542358051},
-                {0.00000100945, 2.35927152342, 1581.71553079950},
-                {0.00000116158, 0.99764725383, 534.60064902410},
-                {0.00000122805, 4.90630450089, 524.51815660670},
-                {0.00000103104, 4.41419723891, 963.64652045490},
-                {0.00000115142, 0.31814375241, 2325.19322629910},
-                {0.00000120928, 5.71584928874, 535.35140854951},
-                {0.00000094293, 3.24393572880, 1802.61580820530},
-                {0.00000092521, 0.02282195426, 1383.13116433011},
-                {0.00000085964, 2.53905253590, 831.61192326610},
-                {0.00000091882, 3.03470202176, 441.06910236111},
-                {0.00000090884, 2.64222941727, 4.17597074660},
-                {0.00000096153, 4.88678063240, 21.58445848590},
-                {0.00000073111, 5.81311465775, 415.79630809560},
-                {0.00000072096, 0.31807246212, 529.72233425701},
-                {0.00000072096, 4.02261318625, 530.14723089920},
-                {0.00000095408, 5.93750222727, 35.66854013560},
-                {0.00000079513, 0.68230348252, 835.28095197081},
-                {0.00000068517, 2.77354883412, 1574.60198379870},
-                {0.00000069848, 0.27519157939, 518.88908231420},
-                {0.00000073288, 0.55107431240, 832.09955823310},
-                {0.00000073790, 1.37824862036, 1044.91101870410},
-                {0.00000062635, 0.34734323123, 2214.98690507971},
-                {0.00000072372, 5.64987811590, 511.77553531340},
-                {0.00000079774, 1.04707348735, 618.80046279510},
-                {0.00000084465, 0.44987072707, 834.79331700380},
-                {0.00000082357, 2.58250672354, 531.41925528640},
-                {0.00000068826, 4.98304145215, 548.09402984280},
-                {0.00000058994, 1.32874569406, 2104.29294889330},
-                {0.00000069760, 5.12306055524, 98.91680347199},
-                {0.00000074013, 4.41911169510, 174.18603700630},
-                {0.00000055680, 4.79831502417, 644.07325706060},
-                {0.00000077878, 1.73526543836, 528.45030986980},
-                {0.00000054479, 2.02247283767, 1898.10740045609},
-                {0.00000055045, 2.14129882164, 639.65346883050},
-                {0.00000053073, 1.97157293394, 1048.58004740881},
-                {0.00000052282, 4.62008175590, 960.46512671720},
-                {0.00000051560, 1.64669753295, 514.95692905111},
-                {0.00000052703, 0.30289030550, 2641.58509595570},
-                {0.00000066188, 0.59773291524, 230.32075334190},
-                {0.00000049711, 2.69410394468, 544.91263610510},
-                {0.00000049029, 3.17600907963, 387.48513244430},
-                {0.00000065960, 1.03002405667, 1364.97191706540},
-                {0.00000052715, 1.48379190348, 1057.17806711790},
-                {0.00000058796, 4.35893030098, 39.11305843170},
-                {0.00000059809, 0.66614084819, 91.80325647120},
-                {0.00000046231, 0.25459657690, 2538.49232173710},
-                {0.00000048382, 5.62148696439, 2428.28600051770},
-                {0.00000060070, 3.77993719329, 1062.07342822750},
-                {0.00000056428, 0.17441147343, 2317.59204433130},
-                {0.00000059945, 0.89318521903, 494.51005992600},
-                {0.00000043719, 0.36566607858, 2.20386307129},
-                {0.00000048181, 3.78650322165, 618.31282782810},
-                {0.00000049751, 1.88142062033, 679.49797971270},
-                {0.00000058551, 2.31298978175, 1058.14127496441},
-                {0.00000047067, 2.35309949230, 3178.38960805111},
-                {0.00000052897, 1.94858672370, 106.78110999820},
-                {0.00000041687, 0.97719980018, 1059.67393178251},
-                {0.00000041782, 3.44686195540, 71.09326278771},
-                {0.00000043674, 1.21900999269, 430.77416162260},
-                {0.00000044776, 4.88736591079, 312.70353387701},
-                {0.00000048969, 5.94887655147, 1038.28510667030},
-                {0.00000038530, 2.27809788058, 1148.00379292269},
-                {0.00000052006, 3.46735017105, 565.35950523021},
-                {0.00000047878, 3.92919910061, 1375.52998236229},
-                {0.00000038108, 0.29006450181, 1788.38871420371},
-                {0.00000049073, 4.15252949988, 523.78444342380},
-                {0.00000038297, 5.94013989158, 106.51798543980},
-                {0.00000041687, 4.06257397973, 1059.57756356290},
-                {0.00000037366, 1.12685707466, 2751.79141717511},
-                {0.00000041634, 4.80654439187, 1478.62275658089},
-                {0.00000041532, 5.44681505603, 1514.53511420000},
-                {0.00000041308, 4.63852007603, 10.53875822200},
-                {0.00000040633, 0.18959097751, 18.40306474821},
-                {0.00000042800, 0.11312892780, 113.89465699899},
-                {0.00000048985, 6.20232924224, 3340.85624418330},
-                {0.00000044449, 0.18999902170, 536.08512173241},
-                {0.00000034928, 1.15350567398, 672.38443271190},
-                {0.00000036386, 2.02390109067, 1361.79052332771},
-                {0.00000036844, 4.88632014089, 530.19541500900},
-                {0.00000036844, 5.73755081465, 529.67415014720},
-                {0.00000034444, 2.48976796512, 1890.99385345530},
-                {0.00000041479, 1.78003006526, 1593.24886603040},
-                {0.00000046613, 3.74069024826, 1513.05064149171},
-                {0.00000032971, 3.84810585282, 522.77305146750},
-                {0.00000035418, 0.77769804196, 522.86941968710},
-                {0.00000032742, 5.83069185951, 124.67723270450},
-                {0.00000034850, 4.49564263533, 1060.58895551920},
-                {0.00000030476, 4.38612921635, 1585.38455950421},
-                {0.00000029011, 1.17948661211, 121.49583896680},
-                {0.00000033477, 2.97189030450, 629.09540353360},
-                {0.00000028909, 0.86697673022, 2001.68780964171},
-                {0.00000029909, 3.55918762072, 537.00014546910},
-                {0.00000027497, 0.49110595355, 537.09651368871},
-                {0.00000028353, 1.72487234310, 2214.49927011270},
-                {0.00000027748, 1.07211390256, 2420.68481854989},
-                {0.00000033057, 6.08453905425, 568.06781821590},
-                {0.00000027675, 5.33832022976, 528.66275819090},
-                {0.00000029521, 1.16643867883, 1361.30288836070},
-                {0.00000027586, 5.28550988684, 531.20680696530},
-                {0.00000033930, 6.20456328242, 885.68352814990},
-                {0.00000027514, 3.02979777846, 114.38229196601},
-                {0.00000024495, 2.50371137844, 99.66756299740},
-                {0.00000024344, 4.77377573492, 935.19233245171},
-                {0.00000026492, 4.72075048576, 422.90985509640},
-                {0.00000030581, 4.75568574212, 142.20583265029},
-                {0.00000032993, 0.64338422669, 1058.66253982621},
-                {0.00000026693, 5.72614338710, 747.16603127920},
-                {0.00000023218, 3.10531480612, 216.98743121760},
-                {0.00000031446, 0.08123535736, 437.88770862340},
-                {0.00000023990, 5.67950841232, 523.34250043910},
-                {0.00000025905, 1.13267038207, 10.80188278040},
-                {0.00000030584, 4.71116923713, 1024.20102502061},
-                {0.00000022355, 4.58469057077, 106.03035047280},
-                {0.00000027098, 0.93569436946, 497.69145366371},
-                {0.00000029688, 4.36436889437, 760.01171843649},
-                {0.00000026696, 3.19374047498, 1158.78636862821},
-                {0.00000025786, 5.76825883047, 636.95971005981},
-                {0.00000024825, 0.15973617739, 1134.40734624000},
-                {0.00000022840, 2.40514320530, 459.08533727390},
-                {0.00000021870, 4.94490093150, 536.52706471711},
-                {0.00000022257, 0.47018335123, 521.85802773080},
-                {0.00000026904, 6.12428331703, 299.37021175271},
-                {0.00000020168, 6.20868850257, 2104.78058386030},
-                {0.00000019591, 4.17431782455, 1603.54380676890},
-                {0.00000023983, 6.22729049577, 2633.98391398789},
-                {0.00000023778, 3.38484692408, 562.17811149250},
-                {0.00000019633, 4.12778045809, 491.80174694030},
-                {0.00000026288, 4.52163096435, 454.66554904380},
-                {0.00000021128, 3.50042367011, 934.70469748469},
-                {0.00000019074, 2.11128326565, 327.68138740401},
-                {0.00000018465, 2.01761953412, 1464.39566257930},
-                {0.00000021220, 0.04126742412, 495.99453263430},
-                {0.00000024986, 5.13828768722, 860.55374623631},
-                {0.00000018596, 2.14973780639, 5.87289177600},
-                {0.00000024136, 2.13158664025, 380.37158544351},
-                {0.00000018303, 4.62800343377, 953.35157971640},
-                {0.00000024099, 4.23660015333, 621.98185653281},
-                {0.00000019533, 1.90765352683, 1098.98262358790},
-                {0.00000017623, 2.20903684953, 2207.38572311189},
-                {0.00000018076, 1.99926940915, 600.78422788230},
-                {0.00000017281, 3.28385778370, 191.71463695210},
-                {0.00000017873, 3.86678308802, 538.01153742540},
-                {0.00000017226, 4.25912073762, 2435.39954751850},
-                {0.00000021244, 0.00678624260, 1166.65067515440},
-                {0.00000020337, 4.39625051286, 1795.01462623750},
-                {0.00000016743, 0.09936960208, 2531.37877473630},
-                {0.00000019199, 4.29791815751, 563.87503252191},
-                {0.00000016833, 4.00808166209, 24.62283987170},
-                {0.00000021175, 4.99199643071, 88.62186273350},
-                {0.00000016556, 3.85103221392, 2229.21399908130},
-                {0.00000016153, 0.18779034779, 1049.33080693420},
-                {0.00000019785, 0.93062834115, 505.55576018990},
-                {0.00000018422, 3.75327275320, 1969.44448072730},
-                {0.00000019816, 3.66020647553, 96.22304470130},
-                {0.00000016272, 3.90786214802, 527.22646959241},
-                {0.00000016170, 0.43269809157, 532.64309556381},
-                {0.00000015510, 0.95686644280, 988.77630236850},
-                {0.00000015594, 4.85697058261, 39.60069339870},
-                {0.00000015853, 3.02589971757, 501.62360692681},
-                {0.00000016153, 0.61159863731, 31.99951143090},
-                {0.00000018509, 3.41681808770, 554.31380496631},
-                {0.00000015127, 3.55269023427, 460.78225830330},
-                {0.00000016461, 2.78340595427, 220.16882495529},
-                {0.00000019878, 3.75956771122, 1691.92185201890},
-                {0.00000014712, 5.41386260565, 1059.10448281091},
-                {0.00000017901, 3.55352098378, 107.26874496520},
-                {0.00000014484, 4.85838274505, 1070.67144793660},
-                {0.00000015909, 2.53709217872, 4.90968392950},
-                {0.00000014674, 1.30453945233, 558.24595822940},
-                {0.00000014766, 5.45303717130, 2744.67787017430},
-                {0.00000018715, 0.73543610732, 523.71500745461},
-                {0.00000014896, 6.07608976526, 1588.82907780029},
-                {0.00000017816, 2.22215138151, 74.53778108379},
-                {0.00000014616, 1.43483029983, 2530.89113976930},
-                {0.00000018292, 4.97649486970, 1151.67282162740},
-                {0.00000018426, 3.60525731370, 536.15455770160},
-                {0.00000013673, 2.25783413626, 732.18817775220},
-                {0.00000013765, 4.47849985236, 67.42423408300},
-                {0.00000014986, 1.65285454596, 2015.91490364330},
-                {0.00000013750, 2.09723381259, 451.22103074770},
-                {0.00000013701, 1.07017817726, 1586.13531902961},
-                {0.00000013415, 0.81149327947, 2737.07668820650},
-                {0.00000013707, 3.60868974559, 498.91529394111},
-                {0.00000013957, 3.93496730766, 1592.49810650500},
-                {0.00000012833, 2.22104975837, 423.66061462181},
-                {0.00000012935, 0.78943775071, 599.08730685290},
-                {0.00000013524, 5.01956369633, 2655.81218995730},
-                {0.00000015347, 3.07625567879, 323.26159917390},
-                {0.00000014250, 3.29327530307, 462.26673101160},
-                {0.00000014314, 5.64098428550, 1551.18367712950},
-                {0.00000016350, 4.95142719083, 1290.19031849811},
-                {0.00000012174, 0.91067652575, 2318.07967929830},
-                {0.00000014758, 1.09361060094, 945.48727319021},
-                {0.00000013727, 5.64051351782, 113.63153244060},
-                {0.00000012014, 3.16779032587, 938.37372618940},
-                {0.00000012669, 0.88657082206, 597.60283414461},
-                {0.00000012684, 0.73280624012, 560.95427121510},
-                {0.00000012686, 2.81489159967, 528.23786154870},
-                {0.00000012686, 1.52579404870, 531.63170360751},
-                {0.00000011902, 1.87001916874, 636.20895053440},
-                {0.00000015029, 4.51212876715, 155.53915477459},
-                {0.00000014712, 5.90909648144, 1060.14701253450},
-                {0.00000013153, 5.81211132947, 34.18406742730},
-                {0.00000011492, 1.17570579774, 0.71939036300},
-                {0.00000011728, 2.23882691795, 608.64853440851},
-                {0.00000014802, 4.49062834163, 760.49935340350},
-                {0.00000014208, 0.26437682229, 151.29148732640},
-                {0.00000013247, 3.17700507895, 5.17280848790},
-                {0.00000013608, 4.18261824771, 28.06735816780},
-                {0.00000011186, 2.71818106129, 531.37107117660},
-                {0.00000011186, 1.62250458708, 528.49849397960},
-                {0.00000014801, 0.14206552505, 378.39947776819},
-                {0.00000011873, 0.97351968238, 1677.69475801730},
-                {0.00000010898, 6.16454751785, 629.84616305900},
-                {0.00000014422, 1.11940784009, 381.36842318480},
-                {0.00000010799, 0.67317304481, 1148.49142788971},
-                {0.00000010862, 4.63986010898, 248.96763557360},
-                {0.00000010584, 4.42476612376, 430.02340209721},
-                {0.00000014240, 4.58422194293, 1173.76422215520},
-                {0.00000010278, 3.13159900994, 209.87388421679},
-                {0.00000011280, 5.48473876275, 46.71424039951},
-                {0.00000010327, 1.24113581631, 606.20085385370},
-                {0.00000013270, 4.37719157411, 1041.46650040800},
-                {0.00000013786, 4.55090300929, 337.97632814250},
-                {0.00000010252, 0.92652948440, 1891.48148842230},
-                {0.00000013304, 5.56269483757, 63.49208081989},
-                {0.00000009721, 0.53326540754, 1159.53712815361},
-                {0.00000009974, 4.64682563136, 9.80504503910},
-                {0.00000010564, 3.20765136591, 1251.09656714130},
-                {0.00000012937, 0.98121958090, 944.73900579230},
-                {0.00000012666, 6.06707633877, 721.89323701370},
-                {0.00000009141, 1.74908467583, 1780.78753223589},
-                {0.00000009377, 1.95219143915, 2523.77759276850},
-                {0.00000008992, 2.62152527313, 1165.89991562901},
-                {0.00000009074, 3.84732904999, 754.27957828001},
-                {0.00000008886, 2.45050457262, 528.71094230071},
-                {0.00000008886, 1.89018107575, 531.15862285550},
-                {0.00000008815, 2.08073903214, 302.40859313851},
-                {0.00000012114, 4.85216986598, 1020.26887175750},
-                {0.00000008872, 1.62855962032, 194.89603068979},
-                {0.00000010983, 5.00727208394, 1.24065522479},
-                {0.00000012190, 6.14672657104, 72.31710306511},
-                {0.00000008635, 0.16436387127, 1056.70498636590},
-                {0.00000010308, 6.00917440923, 2950.37578364450},
-                {0.00000011595, 1.86026762055, 1289.70268353110},
-                {0.00000008931, 0.42213138869, 956.04533848709},
-                {0.00000010790, 3.70406181805, 529.04101070080},
-                {0.00000010790, 0.63662383032, 530.82855445540},
-                {0.00000008192, 3.78940462638, 13.98327651810},
-                {0.00000007989, 3.82641746989, 1058.87498814731},
-                {0.00000010336, 3.40289007586, 73.54094334250},
-                {0.00000008394, 2.58792157805, 525.79018099390},
-                {0.00000010766, 3.96400751980, 2111.40649589409},
-                {0.00000007749, 1.75600486693, 522.07047605190},
-                {0.00000008309, 1.75332287431, 534.07938416230},
-                {0.00000010415, 4.58881028655, 319.81708087780},
-                {0.00000009365, 4.84977681203, 415.30867312860},
-                {0.00000007601, 2.58490575206, 537.79908910430},
-                {0.00000008635, 4.87197749696, 1062.54650897950},
-                {0.00000007859, 0.38734357220, 1065.04237364410},
-                {0.00000007602, 0.36299136019, 1063.81853336670},
-                {0.00000010315, 3.38211998665, 456.63765671910},
-                {0.00000007989, 1.21335631002, 1060.37650719810},
-                {0.00000008083, 1.68073025462, 533.37930087419},
-                {0.00000007529, 1.15606058501, 2847.28300942589},
-                {0.00000008490, 5.93185778563, 202.00957769060},
-                {0.00000007329, 5.32490948993, 148.32254190981},
-                {0.00000007187, 4.26147498381, 30.77567115350},
-                {0.00000009756, 3.52626213949, 2008.31372167550},
-                {0.00000008727, 2.59290505793, 1202.07539780650},
-                {0.00000007941, 3.50505477575, 2332.30677329990},
-                {0.00000006801, 2.80122649992, 1054.95988122670},
-                {0.00000008387, 5.98467407510, 2957.97696561230},
-                {0.00000007512, 0.64381751060, 952.60082019101},
-                {0.00000007552, 0.20225772775, 842.39449897160},
-                {0.00000007680, 6.15861344699, 334.79493440480},
-                {0.00000009231, 0.70359932145, 2854.88419139370},
-                {0.00000008791, 1.10109597117, 483.46435966210},
-                {0.00000007389, 2.29761310414, 202.49721265760},
-                {0.00000006847, 2.25408688945, 320.56784040320},
-                {0.00000008929, 0.96089681844, 603.23190843711},
-                {0.00000006520, 0.54950232146, 3053.46855786309},
-                {0.00000006721, 0.46202136795, 1912.82212942470},
-                {0.00000008859, 3.82736358661, 217.47506618460},
-                {0.00000008710, 3.26439990653, 576.40520549410},
-                {0.00000007535, 3.00289317558, 1061.11022038100},
-                {0.00000006826, 2.18157664615, 284.39235822571},
-                {0.00000006401, 4.64009991006, 117.07605073670},
-                {0.00000006884, 5.25234540574, 277.27881122490},
-                {0.00000006632, 6.12206657880, 2.93757625420},
-                {0.00000007529, 1.69514413761, 423.17297965479},
-                {0.00000006885, 4.98621366157, 946.23803271561},
-                {0.00000006200, 5.72324814885, 1272.43720814370},
-                {0.00000006730, 2.20794164333, 531.57931398080},
-                {0.00000006730, 2.13274400504, 528.29025117541},
-                {0.00000006259, 5.74959705113, 142.69346761730},
-                {0.00000007602, 4.67235401511, 1055.43296197871},
-                {0.00000007329, 6.05862254648, 5.97595764000},
-                {0.00000005901, 1.20913339550, 1251.58420210830},
-                {0.00000006013, 0.39504567840, 1035.24672528451},
-                {0.00000005953, 4.50565796160, 498.44221318910},
-                {0.00000007833, 4.37166198972, 68.90870679129},
-                {0.00000006343, 2.74168510429, 199.31581891990},
-                {0.00000005843, 0.90437055622, 1276.85699637381},
-                {0.00000007666, 4.79082431872, 247.48316286530},
-                {0.00000005663, 4.73243855855, 1091.86907658711},
-                {0.00000005605, 2.83447163903, 513.47245634280},
-                {0.00000005524, 6.17355324978, 2847.77064439291},
-                {0.00000007612, 5.67631106398, 352.06040979221},
-                {0.00000005914, 5.25663173098, 1054.20912170131},
-                {0.00000007627, 1.64993486675, 405.50136735710},
-                {0.00000005507, 6.11802918315, 561.42735196710},
-                {0.00000005497, 5.97722134510, 810.90192958261},
-                {0.00000005666, 1.34586791176, 1064.29161411871},
-                {0.00000005378, 1.50621399976, 546.39710881341},
-                {0.00000006319, 4.76637123715, 1493.33748554950},
-                {0.00000006876, 0.37866209699, 408.19512612779},
-                {0.00000005745, 5.91871265537, 430.28652665560},
-                {0.00000006791, 4.05903259226, 303.61787920090},
-                {0.00000007093, 5.97150143560, 740.05248427840},
-                {0.00000006815, 3.11788100877, 1053.99667338020},
-                {0.00000005111, 4.19087253985, 1176.94561589290},
-                {0.00000005065, 4.11506105627, 1059.46568897830},
-                {0.00000006697, 2.00713771131, 685.23011986920},
-                {0.00000005674, 3.00549520381, 1567.48843679789},
-                {0.00000005759, 2.66366184710, 166.58485503849},
-                {0.00000004933, 5.71470503937, 245.29860686890},
-                {0.00000005446, 3.42551680794, 757.46097201770},
-                {0.00000005053, 1.65431850894, 1678.18239298430},
-                {0.00000005999, 4.09275084512, 908.57807782981},
-                {0.00000005382, 3.62538539878, 512.66930719071},
-                {0.00000004943, 1.68108509143, 2840.16946242510},
-                {0.00000005065, 0.92471272365, 1059.78580636710},
-                {0.00000005075, 3.24596774005, 508.10650660869},
-                {0.00000004955, 3.41906236842, 1069.92068841121},
-                {0.00000005153, 0.71530024343, 547.20025796550},
-                {0.00000004607, 0.55203312702, 2634.47154895491},
-                {0.00000004755, 2.46962174787, 415.04804069769},
-                {0.00000004775, 0.82589283410, 1994.08662767389},
-                {0.00000004590, 1.48644692945, 2097.17940189250},
-                {0.00000004911, 1.51731908389, 512.52629483880},
-                {0.00000004553, 3.05075479447, 509.48791345300},
-                {0.00000004672, 3.60789441008, 234.88355392390},
-                {0.00000004578, 0.86543502074, 305.58998687620},
-                {0.00000005193, 4.02461886486, 320.08020543620},
-                {0.00000006202, 4.38664626654, 26088.14695905770},
-                {0.00000005852, 3.60701404156, 2427.79836555070},
-                {0.00000004324, 1.28993084923, 550.38165170320},
-                {0.00000004410, 2.46921347430, 1127.29379923920},
-                {0.00000004238, 2.94796150753, 92.29089143820},
-                {0.00000004881, 4.47400985269, 725.07463075140},
-                {0.00000004688, 0.82987676346, 504.80500066450},
-                {0.00000004432, 4.78229538893, 1490.15609181181},
-                {0.00000004144, 3.28540589450, 970.76006745570},
-                {0.00000005737, 4.94804445005, 707.80915536400},
-                {0.00000004256, 4.52622797251, 512.40867475980},
-                {0.00000004139, 0.44147895230, 470.13103753780},
-                {0.00000004547, 2.09665176175, 857.37235249860},
-                {0.00000004431, 6.20712541641, 519.90047427050},
-                {0.00000005723, 0.80521226018, 1065.25482196520},
-                {0.00000004278, 2.08187064363, 739.30172475301},
-                {0.00000005621, 3.19131378401, 280.72332952100},
-                {0.00000005007, 6.09093261803, 492.06237937121},
-                {0.00000003987, 2.63450729840, 448.18264936190},
-                {0.00000004559, 5.79888016601, 3266.76765330109},
-                {0.00000004072, 5.22974977136, 3061.06973983091},
-                {0.00000004072, 6.09764298210, 547.46089039640},
-                {0.00000005087, 4.84521270183, 114.64292439690},
-                {0.00000004392, 3.51029744842, 555.06456449170},
-                {0.00000004733, 2.24217612600, 1087.93692332400},
-                {0.00000004590, 5.53010211558, 209.12312469139},
-                {0.00000004061, 2.41966232758, 1578.27101250340},
-                {0.00000004043, 4.88146457506, 917.17609753890},
-                {0.00000004781, 2.52650341453, 355.99256305531},
-                {0.00000003840, 1.91188325761, 479.53220639900},
-                {0.00000004229, 3.44950557661, 202.76033721600},
-                {0.00000005079, 2.53028620261, 100.40127618030},
-                {0.00000003809, 0.33163870572, 63.97971578690},
-                {0.00000003869, 0.90238558045, 3163.67487908250},
-                {0.00000004615, 5.43148824800, 8.32057233081},
-                {0.00000004615, 5.43148824800, 7.83293736379},
-                {0.00000004628, 4.53025832657, 567.80718578500},
-                {0.00000004429, 4.90564275884, 1025.68549772890},
-                {0.00000004166, 2.66734467932, 1587.83224005900},
-                {0.00000004232, 4.10293029058, 2042.74160658630},
-                {0.00000003934, 5.18155455773, 1894.66288216001},
-                {0.00000004119, 5.42073132205, 782.59075393131},
-                {0.00000004305, 4.04299412868, 237.92193530970},
-                {0.00000004647, 4.25285731978, 294.80741117069},
-                {0.00000003571, 3.65947756157, 1080.96638867510},
-                {0.00000003908, 2.16984161430, 775.47720693050},
-                {0.00000004183, 0.65593677894, 3171.27606105030},
-                {0.00000003544, 5.95475674739, 849.50804597240},
-                {0.00000004668, 2.13834164389, 391.41728570740},
-                {0.00000003825, 5.15730861384, 1013.15532475670},
-                {0.00000004490, 2.90215227898, 1066.25165970650},
-                {0.00000003497, 4.37215725203, 1059.83819599381},
-                {0.00000004592, 4.61227234774, 105.29663728990},
-                {0.00000003507, 3.90043589953, 589.73852761840},
-                {0.00000003460, 4.57095415442, 210.36151918381},
-                {0.00000003472, 2.42806893940, 580.33735875721},
-                {0.00000004742, 5.78282912740, 1214.92108496379},
-                {0.00000004236, 4.52262475548, 458.59770230690},
-                {0.00000004571, 3.28632828787, 2324.70559133209},
-                {0.00000003680, 2.78358155559, 547.34327031741},
-                {0.00000003342, 1.72110734407, 611.68691579430},
-                {0.00000003327, 2.23284112556, 416.05943265400},
-                {0.00000003357, 2.00040904789, 102.89714084490},
-                {0.00000003597, 5.41599821164, 81.50831573269},
-                {0.00000003697, 4.35495083583, 326.93062787860},
-                {0.00000003305, 0.91377513656, 3068.18328683170},
-                {0.00000003332, 5.10225181759, 102.80077262530},
-                {0.00000003850, 4.79682693839, 223.10414047710},
-                {0.00000003389, 5.97871270107, 1050.06452011710},
-                {0.00000003693, 3.87928741090, 100.88891114730},
-                {0.00000003520, 4.33292989715, 355.50492808829},
-                {0.00000003747, 1.69335109674, 101.88574888859},
-                {0.00000003497, 0.66761652789, 1059.41329935160},
-                {0.00000004041, 2.14362833723, 80.75755620730},
-                {0.00000003215, 0.53534058688, 2207.87335807890},
-                {0.00000003350, 5.33479503934, 1077.78499493740},
-                {0.00000003628, 6.13897925009, 1567.97607176490},
-                {0.00000004303, 2.23046220012, 374.15181032000},
-                {0.00000003455, 4.99170868278, 489.09343395460},
-                {0.00000004402, 4.47863845219, 987.55246209111},
-                {0.00000003638, 5.42646055999, 103.81216458159},
-                {0.00000003112, 4.34851347009, 422.42222012939},
-                {0.00000003124, 0.32512970919, 3369.86042751970},
-                {0.00000003303, 4.42204851380, 539.96909088571},
-                {0.00000003803, 2.07273212148, 852.95256426850},
-                {0.00000003982, 0.94890253623, 986.32862181370},
-                {0.00000003666, 3.00278414954, 77.99436146740},
-                {0.00000004012, 2.19807079078, 668.45227944880},
-                {0.00000003922, 2.56685919071, 1215.40871993080},
-                {0.00000003967, 2.90360763886, 486.64575339981},
-                {0.00000003197, 2.07944029870, 1169.34443392509},
-                {0.00000003122, 5.39978748620, 69.39634175830},
-                {0.00000003954, 3.61115285346, 1123.36164597610},
-                {0.00000003201, 3.66652395167, 145.87486135500},
-                {0.00000003935, 1.80977709754, 306.58682461749},
-                {0.00000002958, 4.65595664577, 531.94052014820},
-                {0.00000002958, 5.96791430978, 527.92904500800},
-                {0.00000003054, 2.21604720422, 654.36819779910},
-                {0.00000002909, 5.97782239901, 536.93645499430},
-                {0.00000002909, 4.64604855654, 522.93311016190},
-                {0.00000003738, 5.20971126454, 977.73060210460},
-                {0.00000003893, 5.83257009844, 812.38640229090},
-                {0.00000003604, 5.17763880188, 78.46993434690},
-                {0.00000002867, 1.07832422526, 1269.74344937300},
-                {0.00000003118, 5.63216227640, 570.77613120160},
-                {0.00000003676, 2.63995604671, 226.07308589371},
-                {0.00000003463, 4.17288178571, 1591.76439332211},
-                {0.00000002870, 1.83388013858, 1586.86903221250},
-                {0.00000002889, 5.88273410848, 504.66198831261},
-                {0.00000003107, 4.97048599434, 1905.22094745690},
-                {0.00000002833, 5.34654613316, 911.54702324640},
-                {0.00000003315, 4.08289970624, 1065.84552279621},
-                {0.00000003556, 1.43723870007, 573.22381175640},
-                {0.00000002918, 1.02389443723, 967.57867371801},
-                {0.00000002676, 1.60354882374, 3281.48238226970},
-                {0.00000003689, 3.27567307401, 850.25880549781},
-                {0.00000003016, 5.84238370205, 3274.36883526891},
-                {0.00000003204, 3.20846751019, 2744.19023520730},
-                {0.00000002667, 0.77811362765, 97.91996573070},
-                {0.00000002647, 2.45257224390, 134.82916109110},
-                {0.00000002715, 4.74043154929, 555.20757684360},
-                {0.00000003135, 1.58908870559, 433.46792039329},
-                {0.00000002639, 3.83183781056, 144.39038864671},
-                {0.00000002912, 2.70342002444, 1883.88030645450},
-                {0.00000003601, 2.04225476495, 991.95769610620},
-                {0.00000002745, 5.11304244810, 33.69643246030},
-                {0.00000002589, 5.15515901130, 93.28772917949},
-                {0.00000002531, 3.52886647530, 108.00245814810},
-                {0.00000002821, 2.63736215369, 503.10807963510},
-                {0.00000002585, 1.42843919503, 3156.56133208170},
-                {0.00000003142, 1.28656971724, 520.37355502251},
-                {0.00000003142, 6.19570189655, 539.49601013370},
-                {0.00000002731, 4.37970098385, 537.16020416351},
-                {0.00000002731, 6.24416997170, 522.70936099270},
-                {0.00000003288, 2.11811777567, 685.71775483620},
-                {0.00000002456, 3.04358904051, 1074.60360119970},
-                {0.00000002382, 5.50759187807, 112.89781925770},
-                {0.00000002385, 2.46238935625, 1475.17823828480},
-                {0.00000002456, 1.99618473941, 1044.64789414570},
-                {0.00000002435, 0.75544262993, 824.98601123230},
-                {0.00000002637, 1.70331908888, 556.76148552110},
-                {0.00000003031, 5.67687846191, 538.53280228720},
-                {0.00000003031, 4.94699249364, 521.33676286901},
-                {0.00000002342, 0.06228259686, 518.40144734719},
-                {0.00000002443, 1.03845059435, 749.85979004990},
-                {0.00000003226, 4.44994968410, 536.83588125780},
-                {0.00000003226, 6.17392127144, 523.03368389840},
-                {0.00000002356, 4.85533213884, 285.61619850311},
-                {0.00000002452, 2.19107576775, 1090.64523630970},
-                {0.00000002986, 4.62414537014, 491.31411197330},
-                {0.00000002323, 0.16164499756, 530.56792202451},
-                {0.00000002323, 4.17904065081, 529.30164313170},
-                {0.00000003003, 3.08627097096, 108.96566599461},
-                {0.00000003049, 4.48513403718, 1438.26904292440},
-                {0.00000003159, 0.76092054251, 457.86149699650},
-                {0.00000003023, 1.39945420180, 532.90372799470},
-                {0.00000003023, 2.94123144657, 526.96583716151},
-                {0.00000002581, 5.61581142863, 1483.04254481100},
-                {0.00000002851, 4.62796468589, 731.70054278519},
-                {0.00000002627, 3.80975501995, 1095.05047032480},
-                {0.00000002198, 1.26120223291, 2413.57127154910},
-                {0.00000002533, 1.67483276763, 12566.39551746630},
-                {0.00000002183, 6.04766236935, 2421.17245351690},
-                {0.00000002273, 1.32684908668, 1589.36489687710},
-                {0.00000002201, 5.72550531705, 2044.22607929460},
-                {0.00000002304, 4.41348832810, 1053.47540851841},
-                {0.00000002878, 2.85936483769, 28.55499313480},
-                {0.00000002523, 6.18014679261, 909.57491557110},
-                {0.00000002847, 5.46944309481, 1441.23798834100},
-                {0.00000002211, 0.29447557006, 376.43943218040},
-                {0.00000002767, 1.11249816364, 39.86132582961},
-                {0.00000002242, 0.27111162703, 6681.46867088311},
-                {0.00000002284, 3.14190849220, 902.94900353731},
-                {0.00000002122, 2.81881363812, 543.67424161270},
-                {0.00000002251, 3.73285596763, 1067.70250252000},
-                {0.00000002782, 3.62990010057, 451.69660362719},
-                {0.00000002107, 2.78853830817, 824.49837626530},
-                {0.00000002308, 6.27924595004, 732.93893727761},
-                {0.00000002055, 4.34456901846, 526.26575387340},
-                {0.00000002624, 3.68204703869, 1261.87914284680},
-                {0.00000002059, 5.93579199305, 1254.76559584600},
-                {0.00000002523, 5.46151498365, 372.77040347569},
-                {0.00000002035, 5.20593524984, 535.77630519170},
-                {0.00000002035, 5.41793570571, 524.09325996451},
-                {0.00000002005, 3.97142686370, 843.14525849700},
-                {0.00000002366, 2.81479040414, 3708.08057314570},
-                {0.00000001959, 2.33278855728, 163.14033674240},
-                {0.00000002451, 1.41485691262, 739.56484931140},
-                {0.00000002474, 2.34380492610, 2122.93983112501},
-                {0.00000001935, 5.95122170645, 3164.16251404950},
-                {0.00000002548, 2.30031435926, 1128.77827194750},
-                {0.00000002140, 5.32310438264, 408.68276109481},
-                {0.00000002089, 0.70684572014, 60.04756252381},
-                {0.00000002555, 5.75500802854, 231.80522605020},
-                {0.00000002289, 4.10142481033, 429.28968891431},
-                {0.00000002652, 3.24034861472, 405.01373239010},
-                {0.00000002044, 3.27128458744, 241.36645360580},
-                {0.00000001959, 0.64242562063, 3480.06674873909},
-                {0.00000001890, 1.30374554288, 501.48059457490},
-                {0.00000002361, 2.60496924654, 1819.88128359270},
-                {0.00000002290, 2.07662910000, 386.99749747730},
-                {0.00000001839, 1.47204895914, 511.28790034640},
-                {0.00000001873, 2.16131201791, 1209.18894480731},
-                {0.00000001837, 0.13057602825, 111.41334654940},
-                {0.00000002510, 3.56540915410, 602.00806815971},
-                {0.00000002186, 5.05661256477, 1553.89199011520},
-                {0.00000001875, 4.96409845324, 1590.27992061380},
-                {0.00000002325, 2.99238523654, 488.88098563350},
-                {0.00000001960, 2.67757828738, 109.48693085641},
-                {0.00000002511, 1.33963728695, 167.07249000551},
-                {0.00000002012, 5.57171500563, 3583.15952295770},
-                {0.00000002198, 2.81677718687, 297.98880490840},
-                {0.00000002129, 0.30008608118, 821.94762984651},
-                {0.00000002219, 3.10449171167, 2641.09746098870},
-                {0.00000001954, 0.78506313670, 1415.37449324450},
-                {0.00000001787, 5.23586420667, 1059.88638010361},
-                {0.00000001933, 3.60934798531, 1688.47733372280},
-                {0.00000002173, 0.53973434031, 1065.77608682700},
-                {0.00000002273, 4.41222326623, 1589.26852865751},
-                {0.00000002311, 0.11223855924, 36.89238041300},
-                {0.00000002005, 5.77162207371, 746.67839631219},
-                {0.00000001716, 4.22634329515, 504.07128748160},
-                {0.00000001970, 4.25083421565, 363.10611005610},
-                {0.00000001879, 1.53326034532, 1994.57426264090},
-                {0.00000001715, 0.40254693953, 2950.86341861150},
-                {0.00000001859, 4.76472866777, 2221.61281711350},
-                {0.00000001760, 5.81144237350, 1051.54899282540},
-                {0.00000001679, 0.73859095289, 2310.47849733050},
-                {0.00000002127, 5.79555857294, 945.22664075931},
-                {0.00000001827, 2.98105578454, 110.49832281271},
-                {0.00000001954, 0.06688544879, 1446.86706263350},
-                {0.00000002077, 0.12761917926, 724.58699578440},
-                {0.00000002096, 1.34829485372, 570.98857952271},
-                {0.00000001615, 0.93368590926, 1052.56038478170},
-                {0.00000001608, 0.11434235358, 555.79827767460},
-                {0.00000001681, 5.56771625121, 516.44140175940},
-                {0.00000001681, 5.05615470433, 543.42816339680},
-                {0.00000001618, 2.03312852847, 112.41018429070},
-                {0.00000001962, 5.75393639029, 836.76542467910},
-                {0.00000001962, 2.61234373671, 836.27778971210},
-                {0.00000001620, 4.04601847199, 683.43013297580},
-                {0.00000001551, 2.34280930104, 593.67068088151},
-                {0.00000001819, 2.88219564243, 3060.58210486390},
-                {0.00000001634, 4.46994256209, 56.37853381910},
-                {0.00000001791, 0.10409892110, 502.84744720420},
-                {0.00000002008, 2.52248957084, 487.39651292520},
-                {0.00000001551, 6.21389515122, 3686.25229717630},
-                {0.00000001511, 1.75866420206, 1518.46726746311},
-                {0.00000001910, 1.68897371752, 228.83628063359},
-                {0.00000001738, 0.70952679097, 1226.45442019471},
-                {0.00000001471, 6.05957994367, 350.57593708390},
-                {0.00000001466, 4.96867723168, 426.79382424970},
-                {0.00000001636, 2.43292318068, 2200.27217611110},
-                {0.00000001940, 3.42777184231, 1432.63996863190},
-                {0.00000001484, 3.98627195351, 995.88984936931},
-                {0.00000001673, 4.23658671292, 557.02211795201},
-                {0.00000002009, 3.88072147559, 417.28078080390},
-                {0.00000001573, 1.54985228466, 425.87880051300},
-                {0.00000001562, 1.17133703517, 416.54706762100},
-                {0.00000001419, 0.22434479279, 216.72430665921},
-                {0.00000001787, 6.08709488043, 1059.36511524180},
-                {0.00000001600, 3.53298161884, 1268.99268984760},
-                {0.00000001459, 1.86682228155, 426.89019246930},
-                {0.00000001860, 0.59126369009, 1160.27084133651},
-                {0.00000001409, 4.21180105945, 383.81610373959},
-                {0.00000001599, 0.99304321709, 1588.35350492080},
-                {0.00000001385, 1.96310882827, 466.19888427470},
-                {0.00000001645, 0.25601088543, 630.57987624190},
-                {0.00000001867, 3.30529498913, 1744.61205005840},
-                {0.00000001796, 2.27749593221, 424.39432780471},
-                {0.00000001802, 1.81980262725, 572.47305223100},
-                {0.00000001563, 5.91937041266, 312.21589891000},
-                {0.00000001811, 1.18645718578, 1340.59289467720},
-                {0.00000001342, 2.52735020510, 849.77117053080},
-                {0.00000001409, 1.19028163106, 3472.95320173830},
-                {0.00000001340, 5.68788468184, 1058.35372328550},
-                {0.00000001342, 5.03842872086, 3377.46160948750},
-                {0.00000001764, 4.18037485648, 312.96665843540},
-                {0.00000001801, 1.64093908538, 833.79647926250},
-                {0.00000001801, 1.64093908538, 833.30884429549},
-                {0.00000001504, 3.98849552736, 1052.46401656211},
-                {0.00000001346, 0.84106067159, 1066.78747878330},
-                {0.00000001711, 2.11130834468, 1363.48744435711},
-                {0.00000001382, 3.43383168337, 24.13520490470},
-                {0.00000001636, 0.25591141604, 422.64922266551},
-                {0.00000001714, 2.66553451397, 1165.16620244611},
-                {0.00000001547, 0.43253240963, 1097.75878331050},
-                {0.00000001706, 0.40870999807, 1696.34164024900},
-                {0.00000001293, 2.98652787499, 394.59867944510},
-                {0.00000001361, 0.44504530774, 1579.02177202880},
-                {0.00000001329, 2.37930563293, 1628.67358868250},
-                {0.00000001657, 2.95697828072, 473.31243127551},
-                {0.00000001342, 0.89798927248, 827.67977000299},
-                {0.00000001353, 4.16385577520, 2499.13544582190},
-                {0.00000001322, 4.93972524369, 1464.88329754630},
-                {0.00000001528, 0.29983648075, 138.76131435421},
-                {0.00000001507, 4.31558459369, 774.98957196349},
-                {0.00000001375, 3.98046179765, 1093.56599761650},
-                {0.00000001393, 0.72013842017, 913.99470380120},
-                {0.00000001302, 1.30247879244, 494.72250824710},
-                {0.00000001266, 0.05484214471, 1162.76670600110},
-                {0.00000001602, 3.97091760080, 611.19928082730},
-                {0.00000001243, 5.45126497249, 561.69047652550},
-                {0.00000001234, 1.89694179274, 436.40323591510},
-                {0.00000001258, 3.15497421074, 1162.67033778151},
-                {0.00000001490, 4.44362414485, 1468.06469128401},
-                {0.00000001419, 3.11151373878, 1138.33949950310},
-                {0.00000001394, 0.44413366244, 958.98065400890},
-                {0.00000001290, 5.15722188790, 990.47322339791},
-                {0.00000001199, 0.62664940478, 414.31183538731},
-                {0.00000001364, 3.81523518368, 252.89978883670},
-                {0.00000001494, 1.51661927481, 1485.73630358170},
-                {0.00000001367, 1.47066835723, 527.96267490280},
-                {0.00000001464, 3.90911748944, 1066.69111056371},
-                {0.00000001248, 3.01032171032, 9.31741007210},
-                {0.00000001194, 5.78008609111, 774.25336665311},
-                {0.00000001328, 2.33133276999, 482.97672469510},
-                {0.00000001176, 5.65248871466, 633.07574090651},
-                {0.00000001352, 0.11794612755, 696.76345510010},
-                {0.00000001235, 1.29434837440, 1027.38241875830},
-                {0.00000001192, 3.03820680249, 565.14705690910},
-                {0.00000001337, 5.18331371440, 427.80521620600},
-                {0.00000001581, 0.42492742452, 642.58878435231},
-                {0.00000001186, 4.67061724657, 2115.07552459880},
-                {0.00000001339, 6.03072294407, 1161.75531404480},
-                {0.00000001260, 2.78492021778, 633.99076464320},
-                {0.00000001309, 3.48082829130, 1163.68172973780},
-                {0.00000001221, 4.50279420601, 2538.00468677009},
-                {0.00000001133, 4.12042287083, 738.81408978600},
-                {0.00000001172, 2.47236884204, 632.97937268690},
-                {0.00000001120, 4.59706955368, 709.29362807231},
-                {0.00000001340, 5.63507440526, 1060.89777205990},
-                {0.00000001126, 1.12456010627, 2729.96314120569},
-                {0.00000001417, 0.94598908604, 1364.48428209840},
-                {0.00000001112, 5.29416320994, 1066.21802981170},
-                {0.00000001312, 1.35334544403, 981.87520368880},
-                {0.00000001496, 5.90360357966, 388.70897272171},
-                {0.00000001423, 1.37785950879, 586.55713388070},
-                {0.00000001221, 3.63981220961, 269.67762925710},
-                {0.00000001088, 1.29669383617, 1280.03839011150},
-                {0.00000001089, 5.17675407458, 946.97174589851},
-                {0.00000001132, 0.51083517505, 1664.09831133461},
-                {0.00000001433, 2.05202099214, 635.47523735150},
-                {0.00000001427, 2.97093867648, 597.11519917759},
-                {0.00000001389, 4.08780249338, 636.47207509279},
-                {0.00000001191, 5.09661092725, 1887.54933515920},
-                {0.00000001420, 3.40607940834, 1140.13948639650},
-                {0.00000001420, 0.26448675475, 1140.62712136350},
-                {0.00000001082, 0.52075379881, 915.47917650950},
-                {0.00000001134, 0.14574453315, 102.32769187330},
-                {0.00000001061, 1.90789304117, 925.04040406510},
-                {0.00000001302, 4.07370610626, 637.22034249070},
-                {0.00000001036, 2.10557063879, 1798.68365494221},
-                {0.00000001210, 1.65592259758, 31.73638687251},
-                {0.00000001210, 1.65592259758, 31.24875190549},
-                {0.00000001439, 3.00324185430, 244.07476659150},
-                {0.00000001020, 2.05257171773, 732.45130231059},
-                {0.00000001025, 0.81896733353, 951.86710700811},
-                {0.00000001018, 2.44176419905, 623.46632924110},
-                {0.00000001027, 0.61184452819, 1474.91760585390},
-                {0.00000001114, 0.64613208093, 103.37022159689},
-                {0.00000001040, 2.40824650249, 314.18800658530},
-                {0.00000001371, 1.13698163960, 4590.66636300550},
-                {0.00000001256, 3.34855371696, 73.05330837550},
-                {0.00000001059, 5.69757951835, 3590.76070492550},
-                {0.00000001008, 2.53682498993, 1140.89024592190},
-                {0.00000001288, 5.39489850289, 2004.60857094851},
-                {0.00000001033, 2.65742933066, 1028.60625903570},
-                {0.00000001085, 3.78966042020, 395.34943897051},
-                {0.00000000971, 1.34946807177, 665.27088571111},
-                {0.00000001358, 4.62268264011, 448.93340888730},
-                {0.00000000980, 3.55994269076, 961.94959942551},
-                {0.00000000994, 0.40039858601, 3796.45861839570},
-                {0.00000001202, 5.54033969791, 453.66871130251},
-                {0.00000001028, 0.48891270332, 2524.26522773550},
-                {0.00000001040, 5.47890663354, 170.51700830159},
-                {0.00000000955, 3.71242781522, 645.55772976890},
-                {0.00000001241, 4.39110413012, 1048.09241244180},
-                {0.00000001076, 2.97284479790, 2957.48933064529},
-                {0.00000001230, 2.33341924042, 1354.67697632690},
-                {0.00000001240, 5.94758800259, 610.93615626891},
-                {0.00000001240, 5.94758800259, 610.44852130189},
-                {0.00000001022, 3.69588867080, 276.79117625789},
-                {0.00000000924, 2.41983440650, 842.65762352999},
-                {0.00000001083, 1.92054379034, 1901.77642916080},
-                {0.00000001243, 4.71980053276, 671.16059243450},
-                {0.00000001013, 2.54761722905, 3376.97397452050},
-                {0.00000001100, 5.92802097748, 1053.03346553370},
-                {0.00000001099, 2.80854803975, 611.82992814620},
-                {0.00000001099, 4.67370721199, 448.03963701001},
-                {0.00000001033, 5.44055724404, 632.06434895021},
-                {0.00000000957, 3.89598622213, 2965.09051261311},
-                {0.00000001030, 3.34763414892, 1141.37788088890},
-                {0.00000001196, 2.56247891942, 8520.87605922509},
-                {0.00000000967, 0.19420587029, 829.06117684730},
-                {0.00000001166, 1.68067516200, 1511.56616878340},
-                {0.00000001147, 5.62238808631, 1390.24471133090},
-                {0.00000000873, 1.78825991988, 322.26476143261},
-                {0.00000001137, 1.25214902883, 950.90389916161},
-                {0.00000001201, 2.52928106613, 1436.29693524910},
-                {0.00000000903, 0.04697695828, 1475.92899781020},
-                {0.00000000858, 5.65232336931, 3480.55438370610},
-                {0.00000001061, 5.43420240433, 1014.37916503410},
-                {0.00000000852, 3.85820066843, 1305.16817202511},
-                {0.00000001121, 3.79729993404, 2861.99773839450},
-                {0.00000000978, 1.58128047477, 1262.62990237220},
-                {0.00000000918, 3.86741534242, 341.01470952831},
-                {0.00000000886, 2.01115688146, 1482.29178528560},
-                {0.00000001153, 1.03307352866, 1055.95671896799},
-                {0.00000001011, 2.13326219711, 1379.94977059240},
-                {0.00000000844, 4.80951949791, 231.70216018621},
-                {0.00000000939, 4.90771963793, 1703.45518724980},
-                {0.00000001029, 2.73261618718, 2545.60586873790},
-                {0.00000001042, 0.93684376629, 297.88573904440},
-                {0.00000001170, 1.11117592168, 46.22660543249},
-                {0.00000000962, 3.48479854663, 37.88921815429},
-                {0.00000000877, 2.57722816875, 357.68948408471},
-                {0.00000000988, 3.77368109282, 7211.15963597770},
-                {0.00000000892, 5.41512877404, 1571.15746550260},
-                {0.00000001109, 1.10719434979, 348.12825652910},
-                {0.00000000827, 1.26246251342, 20956.50587500010},
-                {0.00000000934, 3.64280443414, 525.51499434800},
-                {0.00000000914, 1.85188487603, 1031.31457202140},
-                {0.00000000998, 3.87130911943, 1505.93709449090},
-                {0.00000001003, 5.35180604374, 1681.36378672201},
-                {0.00000001043, 1.20439768274, 3384.57515648830},
-                {0.00000001133, 1.03655442301, 1357.85837006460},
-                {0.00000001118, 3.02473429596, 892.79707515070},
-                {0.00000000818, 3.19817529862, 1153.15729433570},
-                {0.00000000883, 4.94847300730, 533.45790092711},
-                {0.00000000883, 5.67539794824, 526.41166422910},
-                {0.00000000966, 0.88110178776, 381.85605815180},
-                {0.00000001014, 1.05859637798, 50.64639366260},
-                {0.00000001014, 1.05859637798, 50.15875869559},
-                {0.00000000977, 3.07712828393, 25035.39094090229},
-                {0.00000000933, 3.89970622027, 671.89679774490},
-                {0.00000000898, 2.17511781419, 2516.66404576769},
-                {0.00000000787, 4.25746871915, 1056.91743468700},
-                {0.00000000788, 6.10879216964, 4002.64416683289},
-                {0.00000000950, 2.54359450579, 532.62854134880},
-                {0.00000000839, 3.46904179365, 4686.64559022330},
-                {0.00000000965, 0.47908461253, 1520.16418849250},
-                {0.00000001017, 3.23008830093, 1020.00823932660},
-                {0.00000000820, 0.33194380569, 348.39138108750},
-                {0.00000000786, 3.36629143378, 178.11819026941},
-                {0.00000000929, 2.33109721672, 1130.47519297691},
-                {0.00000000779, 6.05972875769, 224.10097821840},
-                {0.00000000951, 0.17977055776, 25021.16384690069},
-                {0.00000000917, 5.17636386869, 3899.55139261430},
-                {0.00000000763, 6.06912796746, 432.25863433090},
-                {0.00000000841, 3.14888189898, 643.32249753521},
-                {0.00000000782, 2.23847303429, 1731.76636290111},
-                {0.00000000945, 5.41706658717, 758.52724572820},
-                {0.00000001032, 4.77033383542, 3075.29683383250},
-                {0.00000000899, 1.08525568253, 1053.40597254920},
-                {0.00000000822, 3.63842218035, 1354.18934135989},
-                {0.00000000742, 2.00349570279, 896.72922841380},
-                {0.00000000989, 0.49078513563, 493.28621964860},
-                {0.00000000989, 3.84990051274, 566.58334550761},
-                {0.00000000742, 4.21700173393, 948.45621860680},
-                {0.00000000743, 0.15399551563, 3267.25528826810},
-                {0.00000000785, 4.75769615946, 5091.90814063229},
-                {0.00000000735, 1.17205944527, 1689.22809324820},
-                {0.00000000902, 0.31191653892, 3487.66793070691},
-                {0.00000000766, 4.59479371633, 402.46298597130},
-                {0.00000000870, 5.19110249005, 522.29997071550},
-                {0.00000000870, 2.29117581191, 537.56959444070},
-                {0.00000000789, 1.67089119717, 950.38263429980},
-                {0.00000000729, 0.18108618274, 2226.03260534360},
-                {0.00000000967, 1.47776388922, 149.31937965110},
-                {0.00000000740, 5.30434390465, 172.00148100990},
-                {0.00000000732, 5.42947892699, 1600.36241303120},
-                {0.00000000743, 3.66751928973, 6011.68934095890},
-                {0.00000000773, 4.89422681258, 8616.85528644289},
-                {0.00000000718, 3.85060206529, 1055.20595944260},
-                {0.00000000814, 0.89760005882, 5.38525680900},
-                {0.00000000780, 1.36192178535, 949.37124234350},
-                {0.00000000736, 2.50427265642, 23968.89546371229},
-                {0.00000000703, 6.05341470629, 2108.71273712340},
-                {0.00000000705, 4.27109184095, 260.01333583751},
-                {0.00000000837, 6.23244350461, 97.43233076370},
-                {0.00000000708, 1.83471250896, 628.60776856660},
-                {0.00000000700, 3.30963068355, 78.20680978850},
-                {0.00000000704, 3.63963986047, 621.49422156580},
-                {0.00000000972, 0.79938922309, 806.96977631951},
-                {0.00000000902, 2.81734866519, 3259.39098174191},
-                {0.00000000806, 2.20722357743, 703.87700210090},
-                {0.00000000861, 0.12846059397, 215.99059347631},
-                {0.00000000761, 1.26132938995, 2310.96613229750},
-                {0.00000000705, 6.12372523380, 657.40657918490},
-                {0.00000000758, 0.59861605652, 1382.64352936309},
-                {0.00000000727, 4.99142796126, 64.71592109730},
-                {0.00000000687, 2.94155817065, 952.86394474940},
-                {0.00000000692, 2.45791725703, 10.05112325500},
-                {0.00000000963, 4.33870402832, 6916.10340678810},
-                {0.00000000906, 6.05623889142, 110.40195459310},
-                {0.00000000729, 0.96200157729, 3789.34507139489},
-                {0.00000000678, 0.26412480699, 2218.91905834281},
-                {0.00000000810, 3.48317459389, 678.01350700440},
-                {0.00000000761, 0.98944003909, 1542.84628985130},
-                {0.00000000734, 1.45019492995, 4863.44173055270},
-                {0.00000000793, 2.38971782488, 209.61075965840},
-                {0.00000000666, 3.51087567158, 4127.56521702090},
-                {0.00000000849, 0.87603037716, 368.83825021259},
-                {0.00000000815, 2.42173445767, 359.17395679300},
-                {0.00000000865, 3.38745286825, 157.02362748290},
-                {0.00000000799, 3.33480033880, 519.15220687259},
-                {0.00000000730, 5.68999754324, 98.65617104110},
-                {0.00000000923, 0.04640766407, 179.60266297770},
-                {0.00000000862, 0.85096575069, 1669.83045149109},
-                {0.00000000903, 0.10254863796, 1745.09968502540},
-                {0.00000000704, 0.48323040130, 718.85485562790},
-                {0.00000000765, 2.39228400458, 1834.85913711970},
-                {0.00000000651, 0.55942905431, 153.25153291419},
-                {0.00000000670, 5.53772543546, 5702.41101830310},
-                {0.00000000689, 4.05205162416, 540.49284787499},
-                {0.00000000677, 1.95007474747, 745.68155857090},
-                {0.00000000646, 0.12458575010, 2118.52004289490},
-                {0.00000000744, 4.47249588475, 305.85311143459},
-                {0.00000000837, 3.51443539039, 1818.39681088440},
-                {0.00000000795, 1.49835916545, 376.91500505990},
-                {0.00000000639, 0.44760408452, 5282.92637442791},
-                {0.00000000639, 0.08134772596, 651.18680406140},
-                {0.00000000791, 5.22053399158, 2432.21815378081},
-                {0.00000000666, 3.04828183923, 2439.33170078160},
-                {0.00000000699, 3.61168485832, 999.82200263240},
-                {0.00000000848, 4.72505501580, 445.00125562421},
-                {0.00000000784, 0.87407256063, 1372.34858862460},
-                {0.00000000784, 3.91355130181, 494.02242495900},
-                {0.00000000826, 5.66627016660, 1063.07026596880},
-                {0.00000000773, 1.76079397166, 3334.17258030920},
-                {0.00000000766, 3.62656366077, 927.59115048390},
-                {0.00000000629, 5.55045637886, 444.10748374690},
-                {0.00000000680, 4.21509885032, 2854.39655642670},
-                {0.00000000652, 1.27664994367, 99.92819542829},
-                {0.00000000628, 4.74686224811, 3693.85347914410},
-                {0.00000000810, 3.03838651852, 721.40560204669},
-                {0.00000000854, 6.18289625105, 1366.45638977370},
-                {0.00000000867, 5.76374497089, 10846.31310300770},
-                {0.00000000788, 6.12952239651, 1040.97886544099},
-                {0.00000000626, 4.22299641050, 841.90686400460},
-                {0.00000000630, 5.17292925619, 291.76902978489},
-                {0.00000000650, 2.73748814643, 558.38897058130},
-                {0.00000000611, 3.22751051338, 4443.95708667750},
-                {0.00000000726, 2.09447836425, 2151.25100677631},
-                {0.00000000751, 5.81420327516, 446.06752933469},
-                {0.00000000615, 5.59117038277, 208.38941150850},
-                {0.00000000745, 2.60964521069, 451.97179027311},
-                {0.00000000614, 3.69094819583, 6121.89566217830},
-                {0.00000000603, 0.30175769208, 181.56270856549},
-                {0.00000000616, 0.71796395195, 1144.07163965960},
-                {0.00000000636, 0.81670492532, 1751.29571393250},
-                {0.00000000596, 2.57571835843, 737.60480372361},
-                {0.00000000619, 4.37153268900, 326.19691469570},
-                {0.00000000787, 1.03322103547, 1802.12817323829},
-                {0.00000000781, 3.79546900139, 88.35873817511},
-                {0.00000000617, 3.74482275875, 921.10825080200},
-                {0.00000000591, 2.16133870119, 1166.16304018740},
-                {0.00000000590, 5.76599972625, 3634.37720703489},
-                {0.00000000722, 2.97658953647, 1791.57010794140},
-                {0.00000000820, 4.24711097101, 1372.08546406621},
-                {0.00000000590, 4.55770998857, 627.61093082531},
-                {0.00000000611, 2.00459977476, 392.90175841570},
-                {0.00000000611, 2.33608587361, 666.96780674051},
-                {0.00000000584, 5.71119009710, 2737.56432317350},
-                {0.00000000624, 1.77518234702, 702.18008107150},
-                {0.00000000600, 3.53895345579, 203.49405039889},
-                {0.00000000720, 3.17911251266, 3333.74269718250},
-                {0.00000000715, 6.07736623315, 3347.96979118411},
-                {0.00000000604, 0.54072229600, 427.36327322130},
-                {0.00000000578, 0.68384333266, 881.75137488680},
-                {0.00000000752, 2.27484845625, 799.36859435169},
-                {0.00000000581, 5.43194940731, 2954.04481234920},
-                {0.00000000754, 4.23362271932, 1022.97718474320},
-                {0.00000000772, 3.22944539114, 711.74130862710},
-                {0.00000000577, 3.90731032425, 700.20797339620},
-                {0.00000000736, 2.17294584865, 458.12212942741},
-                {0.00000000736, 2.16773979972, 601.74743572880},
-                {0.00000000693, 4.97718562978, 1967.96000801901},
-                {0.00000000740, 2.23775921738, 416.79314583689},
-                {0.00000000704, 2.75287525372, 425.35753565121},
-                {0.00000000708, 4.59755586960, 3391.68870348911},
-                {0.00000000607, 5.77643174191, 105.76971804189},
-                {0.00000000559, 4.05584510248, 20426.81490990550},
-                {0.00000000628, 6.14517735977, 1809.72935520611},
-                {0.00000000696, 3.48103715785, 378.88711273520},
-                {0.00000000554, 4.24043679096, 386.00065973601},
-                {0.00000000589, 2.84804112106, 3273.88120030190},
-                {0.00000000633, 5.05901975525, 131.16013238639},
-                {0.00000000562, 2.97186811483, 4803.96545844350},
-                {0.00000000560, 4.71048501869, 421.21293406700},
-                {0.00000000580, 1.24952540618, 5179.83360020930},
-                {0.00000000740, 2.67735727689, 913.50706883420},
-                {0.00000000699, 1.23224313252, 2627.35800195410},
-                {0.00000000699, 1.23224313252, 2626.87036698710},
-                {0.00000000747, 1.73127494354, 90.31878376290},
-                {0.00000000575, 1.40772978331, 1656.98476433380},
-                {0.00000000555, 2.46441478919, 6702.80431135010},
-                {0.00000000559, 5.27994346504, 388.96960515260},
-                {0.00000000672, 3.95084883531, 2417.24030025381},
-                {0.00000000606, 2.25540936996, 3693.36584417709},
-                {0.00000000538, 0.92849193558, 7564.58690325449},
-                {0.00000000539, 5.86855643077, 828.16740497000},
-                {0.00000000548, 0.57206390796, 4700.87268422489},
-                {0.00000000599, 1.91496502312, 108.47803102759},
-                {0.00000000550, 0.94455632585, 3046.35501086230},
-                {0.00000000652, 3.44170706330, 282.20780222929},
-                {0.00000000586, 4.87892797654, 878.08234618209},
-                {0.00000000622, 1.44606819015, 568.80402352629},
-                {0.00000000728, 4.06001131597, 344.45922782439},
-                {0.00000000544, 3.88849597870, 10633.01400756970},
-                {0.00000000657, 2.19781111367, 464.97504399731},
-                {0.00000000546, 0.09522235899, 4112.85048805230},
-                {0.00000000541, 2.90330545324, 121.00820399980},
-                {0.00000000695, 4.33330180196, 421.68850694650},
-                {0.00000000601, 0.02013991441, 426.32074349770},
-                {0.00000000525, 2.67444074803, 76674.39271195528},
-                {0.00000000532, 4.39556016683, 8734.17515466309},
-                {0.00000000622, 4.02967281763, 1091.38144162010},
-                {0.00000000553, 5.66376860324, 604.22874617840},
-                {0.00000000633, 3.70162370380, 2274.30301515300},
-                {0.00000000564, 1.73577608543, 241.85408857280},
-                {0.00000000516, 0.26364140815, 5599.31824408450},
-                {0.00000000645, 1.30657929230, 10110.43658947590},
-                {0.00000000509, 2.11728726417, 1159.04949318660},
-                {0.00000000507, 5.07344432036, 615.76208140930},
-                {0.00000000599, 4.14881340222, 185.23173727020},
-                {0.00000000522, 0.92209254895, 1884.36794142151},
-                {0.00000000520, 2.30383555351, 1457.28211557850},
-                {0.00000000527, 0.12531819468, 1512.56300652469},
-                {0.00000000503, 3.39203314539, 1037.79747170330},
-                {0.00000000517, 5.27606872473, 6018.80288795970},
-                {0.00000000613, 1.73070833822, 607.89777488310},
-                {0.00000000601, 1.95549963379, 700.69560836320},
-                {0.00000000505, 3.18507574383, 5908.59656674030},
-                {0.00000000679, 5.71225833484, 1357.37073509760},
-                {0.00000000496, 1.76244328747, 1048.84317196720},
-                {0.00000000602, 0.81687029998, 680.98245242101},
-                {0.00000000621, 3.11600964819, 1560.37488979710},
-                {0.00000000623, 2.89379873996, 120.01136625851},
-                {0.00000000494, 1.02217524155, 523.57199510270},
-                {0.00000000494, 0.17691775323, 536.29757005351},
-                {0.00000000500, 0.07757434568, 2840.65709739210},
-                {0.00000000657, 1.97087292015, 2351.05672139560},
-                {0.00000000587, 5.17430255862, 215.50295850929},
-                {0.00000000609, 5.71512479774, 614.86830953200},
-                {0.00000000609, 2.57353214415, 614.38067456499},
-                {0.00000000502, 4.96490318108, 1379.46213562540},
-                {0.00000000492, 1.74083007620, 419.28901050149},
-                {0.00000000485, 3.23499089371, 1937.95191133830},
-                {0.00000000484, 4.83554210114, 102.09819720970},
-                {0.00000000491, 4.82626130082, 419.19264228190},
-                {0.00000000636, 0.80534214264, 664.52012618570},
-                {0.00000000478, 2.68779652903, 204.97852310719},
-                {0.00000000494, 4.49966350328, 2758.90496417590},
-                {0.00000000495, 3.15153574636, 398.53083270820},
-                {0.00000000483, 2.53161064938, 89.10949770051},
-                {0.00000000589, 1.83933111516, 2740.74571691120},
-                {0.00000000600, 1.57257401507, 634.51202950500},
-                {0.00000000486, 5.04467319390, 2203.94120481581},
-                {0.00000000515, 6.13663617559, 1091.11831706170},
-                {0.00000000615, 1.11374614520, 3700.96702614491},
-                {0.00000000490, 1.91408549288, 8631.08238044450},
-                {0.00000000494, 4.66411522593, 984.35651413839},
-                {0.00000000475, 2.27777755361, 103.59971626049},
-                {0.00000000475, 2.59023496451, 835.54407652920},
-                {0.00000000512, 5.15116159496, 397.90018538930},
-                {0.00000000655, 1.80371823253, 127.22797912329},
-                {0.00000000468, 0.94842717325, 582.62498061761},
-                {0.00000000468, 3.39225847512, 477.24458453860},
-                {0.00000000543, 2.77376969444, 481.17673780170},
-                {0.00000000543, 1.56691595393, 578.69282735451},
-                {0.00000000517, 0.86310995182, 76.02225379210},
-                {0.00000000573, 1.37924154661, 1132.92287353170},
-                {0.00000000649, 0.37556266722, 3184.60938317460},
-                {0.00000000480, 4.52427818977, 2133.23477186350},
-                {0.00000000468, 2.06153810948, 2048.15823255770},
-                {0.00000000594, 0.39773738437, 390.92965074040},
-                {0.00000000459, 1.62165138981, 937.88609122240},
-                {0.00000000481, 2.13958103959, 1443.68566889580},
-                {0.00000000463, 5.78478013513, 429.76276966630},
-                {0.00000000545, 0.16089867082, 3157.04896704871},
-                {0.00000000475, 5.50914223201, 3907.15257458210},
-                {0.00000000609, 4.81927839884, 1595.53648789080},
-                {0.00000000473, 6.26679260619, 733.67265046051},
-                {0.00000000541, 1.14751616188, 52176.05010063190},
-                {0.00000000533, 5.98390379378, 382.85289589309},
-                {0.00000000534, 4.28038540288, 843.87897167990},
-                {0.00000000451, 2.42625593348, 5371.30441967789},
-                {0.00000000471, 4.45737409056, 2572.43257168090},
-                {0.00000000558, 2.14287458249, 594.89452115890},
-                {0.00000000588, 1.67758273586, 458.33457774851},
-                {0.00000000482, 4.23247478761, 6114.78211517750},
-                {0.00000000449, 4.70348907548, 1221.60474883790},
-                {0.00000000447, 5.21836347199, 584.26951202031},
-                {0.00000000447, 5.40550748355, 475.60005313590},
-                {0.00000000466, 3.79996346648, 632.50629193491},
-                {0.00000000624, 2.89552279007, 10529.92123335110},
-                {0.00000000605, 5.04020796752, 300.85468446100},
-                {0.00000000487, 2.27435976567, 321.30155358610},
-                {0.00000000487, 0.14720235737, 206.90493880020},
-                {0.00000000526, 1.60016547325, 1336.66074141410},
-                {0.00000000450, 4.45402230413, 518.62844988331},
-                {0.00000000450, 3.02825599783, 541.24111527290},
-                {0.00000000452, 2.45557763807, 252.41215386970},
-                {0.00000000569, 6.06714280091, 207.42620366200},
-                {0.00000000442, 0.71239558825, 10976.83498721549},
-                {0.00000000435, 2.04457315580, 218.47190392590},
-                {0.00000000536, 1.16069752348, 1781.27516720290},
-                {0.00000000606, 1.47437041783, 6599.71153713150},
-                {0.00000000430, 6.27151324176, 2535.31092799940},
-                {0.00000000465, 3.76774297614, 1084.00477006090},
-                {0.00000000528, 3.23700299396, 557.75832326239},
-                {0.00000000602, 1.89096655273, 354.76872277791},
-                {0.00000000602, 2.44971909564, 705.10084237830},
-                {0.00000000579, 2.05383962420, 462.05428269051},
-                {0.00000000579, 2.28684602417, 597.81528246570},
-                {0.00000000480, 5.15414760143, 1106.09617058870},
-                {0.00000000561, 0.48075957659, 1859.23815950790},
-                {0.00000000565, 3.20740832233, 531.89482816590},
-                {0.00000000593, 3.87608972833, 1291.67479120640},
-                {0.00000000593, 3.87608972833, 1291.18715623940},
-                {0.00000000467, 1.83754367407, 2833.05591542430},
-                {0.00000000423, 0.03642510895, 799.85622931870},
-                {0.00000000591, 2.46012843727, 1819.39364862570},
-                {0.00000000442, 1.08908006468, 1069.18697522831},
-                {0.00000000538, 1.02927939001, 1065.35788782919},
-                {0.00000000472, 2.28157145696, 460.29462333630},
-                {0.00000000432, 6.00978313661, 2080.87464222410},
-                {0.00000000415, 2.96241779304, 4760.34895633411},
-                {0.00000000455, 3.03366464226, 2527.44662147320},
-                {0.00000000506, 0.36247155090, 535.66692273460},
-                {0.00000000408, 3.08015718534, 237.43430034270},
-                {0.00000000558, 1.03001492173, 2348.08777597900},
-                {0.00000000506, 5.25352948963, 2424.35384725460},
-                {0.00000000496, 6.06044529767, 4120.45167002010},
-                {0.00000000496, 2.91885264408, 4119.96403505309},
-                {0.00000000432, 1.29582024184, 1301.23601876200},
-                {0.00000000550, 5.43475108780, 8837.26792888169},
-                {0.00000000546, 3.31132091883, 761.98382611181},
-                {0.00000000546, 0.16972826524, 761.49619114479},
-                {0.00000000435, 6.11673595133, 205.89354684390},
-                {0.00000000463, 4.32054580531, 633.54882165850},
-                {0.00000000408, 1.79247263237, 1482.55490984399},
-                {0.00000000483, 0.34268842153, 2879.26321378190},
-                {0.00000000511, 3.60313597493, 1670.58121101650},
-                {0.00000000421, 5.74575757785, 638.65663108921},
-                {0.00000000512, 4.63462743085, 1474.42997088690},
-                {0.00000000388, 5.80743867551, 2425.10460678000},
-                {0.00000000483, 5.61088897560, 154.05468206630},
-                {0.00000000412, 3.95817641351, 83.62343575990},
-                {0.00000000384, 0.10024887062, 673.86890542020},
-                {0.00000000400, 2.77474684816, 2755.72357043820},
-                {0.00000000500, 0.77216947100, 1973.37663399041},
-                {0.00000000380, 6.00308091678, 3583.64715792471},
-                {0.00000000509, 6.23294075938, 5856.23384163189},
-                {0.00000000392, 3.41709820264, 6328.08121061550},
-                {0.00000000391, 5.34392743186, 670.89996000361},
-                {0.00000000397, 5.90731747027, 50586.48957038109},
-                {0.00000000468, 5.85291318311, 1970.92895343560},
-                {0.00000000491, 6.06026074383, 1288.70584578980},
-                {0.00000000491, 2.91866809024, 1288.21821082279},
-                {0.00000000472, 5.64551789445, 416.53251340600},
-                {0.00000000491, 2.66310290421, 601.53498740770},
-                {0.00000000476, 0.29096139335, 2015.42726867629},
-        };
-    }
-
-    private static void initialize_1_1()
-    {
-        classCoeff[0][1] = new double[][]{
-                {0.01912556490, 4.23275123829, 0.24381748350},
-                {0.00634902259, 0.10706507632, 1059.62574767270},
-                {0.00600483021, 2.42939944495, 522.82123557730},
-                {0.00589005176, 1.91564604125, 537.04832957890},
-                {0.00081432741, 3.47331266459, 7.35736448430},
-                {0.00046191617, 0.45737291603, 1589.31671276730},
-                {0.00037242394, 3.38536248935, 529.93478257810},
-                {0.00032508552, 1.74680960116, 1052.51220067191},
-                {0.00031231184, 2.34701987017, 1066.73929467350},
-                {0.00025950740, 5.52780779320, 529.44714761109},
-                {0.00020232242, 4.46840569934, 110.45013870291},
-                {0.00017941640, 4.02099530935, 426.84200835950},
-                {0.00013643757, 0.30427911223, 633.02755679670},
-                {0.00012962263, 2.56767956763, 515.70768857651},
-                {0.00009123979, 1.78092724073, 544.16187657970},
-                {0.00008098978, 6.15662077289, 949.41942645330},
-                {0.00007143102, 3.17367507069, 323.74923414091},
-                {0.00004115125, 4.68496126162, 205.94173095370},
-                {0.00004370464, 1.14540545130, 736.12033101530},
-                {0.00003400571, 2.90100216943, 526.75338884040},
-                {0.00003332481, 1.43702485996, 533.11617631580},
-                {0.00003869655, 3.33803842759, 14.47091148511},
-                {0.00003043986, 1.65416267419, 526.00262931501},
-                {0.00003013156, 2.59693904643, 419.72846135871},
-                {0.00003001886, 2.68361926800, 533.86693584120},
-                {0.00002892493, 4.90922246003, 103.33659170210},
-                {0.00002393125, 3.62223412280, 316.63568714010},
-                {0.00002989944, 0.80713415295, 2119.00767786191},
-                {0.00002354966, 3.28995924205, 109.96250373590},
-                {0.00001853775, 2.76966317285, 1596.43025976811},
-                {0.00001972856, 5.08955117905, 956.53297345411},
-                {0.00001820762, 0.66887392674, 743.23387801611},
-                {0.00001810752, 3.83905864684, 95.73540973430},
-                {0.00001531701, 4.31865285485, 117.56368570370},
-                {0.00001894874, 1.86455327598, 1582.20316576650},
-                {0.00001527752, 1.49162793541, 640.14110379750},
-                {0.00001634391, 1.39765618229, 1045.39865367110},
-                {0.00001088512, 1.51681538001, 625.91400979590},
-                {0.00001025988, 2.57282118549, 433.95555536030},
-                {0.00001045564, 2.53075471830, 1265.81129610991},
-                {0.00000977087, 2.19851142066, 220.65645992230},
-                {0.00000984636, 1.42900900580, 1169.83206889211},
-                {0.00000805130, 0.01887809686, 942.30587945250},
-                {0.00000821829, 5.66460920839, 309.03450517230},
-                {0.00000798891, 1.85669438695, 1155.60497489050},
-                {0.00000834956, 5.16168526363, 522.33360061030},
-                {0.00000600935, 2.35527790752, 6.86972951729},
-                {0.00000752130, 0.12867542563, 1162.71852189130},
-                {0.00000539923, 4.24283648453, 853.44019923550},
-                {0.00000599196, 4.21898955063, 213.05527795450},
-                {0.00000497018, 4.81516413781, 198.82818395289},
-                {0.00000476930, 5.90061449066, 1692.40948698591},
-                {0.00000499703, 3.02089381667, 330.86278114170},
-                {0.00000383795, 2.17189096891, 1073.85284167431},
-                {0.00000504945, 5.88136662932, 1059.13811270570},
-                {0.00000402231, 6.21084762941, 1479.11039154791},
-                {0.00000373538, 1.28962855954, 729.00678401450},
-                {0.00000349467, 3.10812701391, 426.35437339250},
-                {0.00000316847, 2.11759539145, 839.21310523390},
-                {0.00000324562, 5.71130479446, 206.42936592071},
-                {0.00000246849, 4.10602399001, 838.72547026689},
-                {0.00000255191, 3.62607142490, 412.12727939089},
-                {0.00000230121, 2.72254614569, 508.59414157570},
-                {0.00000246851, 1.75011280000, 1272.92484311070},
-                {0.00000222270, 2.70702942772, 412.61491435790},
-                {0.00000213383, 2.90120840681, 1376.01761732930},
-                {0.00000225567, 5.42992965137, 625.42637482889},
-                {0.00000212049, 3.04058050625, 3.42521122121},
-                {0.00000181234, 3.64994746675, 1368.90407032850},
-                {0.00000174181, 1.85281706799, 1062.80714141041},
-                {0.00000189391, 1.15749117460, 2648.69864295650},
-                {0.00000161119, 3.02399692553, 519.63984183961},
-                {0.00000157874, 1.64594194339, 536.56069461190},
-                {0.00000145420, 2.71846376946, 1258.69774910910},
-                {0.00000144205, 2.08426886196, 1055.69359440960},
-                {0.00000143507, 3.70576716798, 309.52214013930},
-                {0.00000126188, 3.31694506826, 1063.55790093581},
-                {0.00000124788, 1.62052640087, 551.27542358051},
-                {0.00000125329, 1.31439998076, 540.22972331660},
-                {0.00000146669, 2.72335559452, 1056.44435393500},
-                {0.00000115893, 3.18162677570, 2126.12122486270},
-                {0.00000124485, 0.17472854156, 3.68833577960},
-                {0.00000118218, 4.80555513709, 515.22005360950},
-                {0.00000114208, 2.05820677440, 227.77000692311},
-                {0.00000113852, 2.70245764618, 742.74624304909},
-                {0.00000144447, 6.08317056171, 1486.22393854870},
-                {0.00000124849, 1.63225929060, 1575.08961876571},
-                {0.00000093951, 3.84985265371, 1155.11733992350},
-                {0.00000100599, 2.02088520418, 2111.89413086110},
-                {0.00000103583, 5.06428969516, 419.24082639170},
-                {0.00000092556, 1.85907721166, 1699.52303398670},
-                {0.00000099479, 5.78783063560, 301.92095817150},
-                {0.00000082832, 1.28886276595, 441.06910236111},
-                {0.00000086688, 5.09274860535, 941.81824448550},
-                {0.00000095969, 2.12504520091, 102.84895673509},
-                {0.00000080324, 0.88712083078, 1471.99684454710},
-                {0.00000102333, 3.18857661435, 21.58445848590},
-                {0.00000078195, 5.09322017801, 525.26891613211},
-                {0.00000074123, 1.57689883069, 647.25465079831},
-                {0.00000079270, 3.27341766644, 728.51914904750},
-                {0.00000074807, 5.52867705621, 534.60064902410},
-                {0.00000087759, 4.16413990980, 632.53992182970},
-                {0.00000069800, 2.80403510206, 618.80046279510},
-                {0.00000060886, 4.07058850374, 846.32665223470},
-                {0.00000058777, 2.25774461225, 832.09955823310},
-                {0.00000061003, 6.24178613664, 2222.10045208050},
-                {0.00000066693, 2.28288216120, 1685.29593998510},
-                {0.00000050999, 5.78085041063, 2008.80135664250},
-                {0.00000050585, 4.75410728625, 213.54291292150},
-                {0.00000045850, 4.24082041831, 831.61192326610},
-                {0.00000052339, 1.38343334733, 1038.28510667030},
-                {0.00000046409, 2.49832780835, 524.51815660670},
-                {0.00000049446, 2.75500829134, 963.64652045490},
-                {0.00000045782, 1.84235784093, 535.35140854951},
-                {0.00000061385, 2.63233647245, 1795.50226120450},
-                {0.00000058958, 2.91371154675, 316.14805217309},
-                {0.00000059833, 4.54238626333, 4.17597074660},
-                {0.00000043525, 0.40754709239, 149.80701461810},
-                {0.00000039973, 4.82513939066, 1383.13116433011},
-                {0.00000053170, 1.55759345804, 750.34742501690},
-                {0.00000039316, 3.58850609580, 1471.50920958009},
-                {0.00000040288, 1.77691319997, 948.93179148630},
-                {0.00000038303, 1.25612538854, 511.77553531340},
-                {0.00000036523, 3.08500012455, 548.09402984280},
-                {0.00000038571, 4.79060991224, 1258.21011414209},
-                {0.00000035601, 2.81741907830, 10.53875822200},
-                {0.00000036868, 1.53995872607, 527.01402127131},
-                {0.00000036603, 2.80095469601, 532.85554388490},
-                {0.00000041197, 3.47741533158, 845.83901726770},
-                {0.00000030575, 4.13554799825, 124.67723270450},
-                {0.00000027619, 1.69648523137, 1802.61580820530},
-                {0.00000032289, 5.50255743191, 618.31282782810},
-                {0.00000028470, 3.04847955006, 1044.91101870410},
-                {0.00000025452, 1.34642958378, 1265.32366114289},
-                {0.00000027183, 2.69831398387, 1898.59503542310},
-                {0.00000022512, 0.44856506675, 639.65346883050},
-                {0.00000022622, 0.18357944836, 935.19233245171},
-                {0.00000024508, 3.71033407609, 1361.79052332771},
-                {0.00000025260, 1.81233714136, 540.98048284201},
-                {0.00000020677, 3.98002843517, 1148.00379292269},
-                {0.00000028190, 3.07761522702, 1905.70858242391},
-                {0.00000020297, 3.81657536112, 1162.23088692429},
-                {0.00000025685, 1.55199744523, 735.63269604830},
-                {0.00000019769, 5.53593575435, 11.28951774740},
-                {0.00000017928, 3.04845555075, 98.91680347199},
-                {0.00000017469, 3.32708371179, 1787.90107923670},
-                {0.00000018703, 4.50425954841, 1574.60198379870},
-                {0.00000018135, 3.93430947434, 910.06255053810},
-                {0.00000017089, 2.56125921461, 1603.54380676890},
-                {0.00000017538, 6.04152227093, 525.74199688410},
-                {0.00000017368, 4.58219600456, 534.12756827210},
-                {0.00000019204, 2.23161769695, 1375.52998236229},
-                {0.00000017455, 0.10703246236, 76.50988875911},
-                {0.00000016153, 4.30082408762, 99.66756299740},
-                {0.00000016460, 2.09636027394, 1788.38871420371},
-                {0.00000015683, 3.99052583747, 2.93757625420},
-                {0.00000016034, 4.98317709627, 191.71463695210},
-                {0.00000015051, 2.78980787117, 106.03035047280},
-                {0.00000014892, 1.77707927575, 518.88908231420},
-                {0.00000015187, 6.07616641818, 1588.82907780029},
-                {0.00000017388, 4.43775098797, 18.40306474821},
-                {0.00000014796, 2.06469993479, 1049.33080693420},
-                {0.00000015408, 4.06617777635, 106.51798543980},
-                {0.00000017378, 0.47153358689, 88.62186273350},
-                {0.00000013474, 1.04099539964, 1581.71553079950},
-                {0.00000013574, 4.03698274106, 106.78110999820},
-                {0.00000017733, 3.53345150510, 860.55374623631},
-                {0.00000014099, 5.20790939624, 934.70469748469},
-                {0.00000014690, 2.86077681205, 337.97632814250},
-                {0.00000011717, 1.50309851310, 3178.38960805111},
-                {0.00000010988, 2.13993350041, 2214.98690507971},
-                {0.00000010909, 0.16362139771, 1052.02456570489},
-                {0.00000011465, 2.83736836823, 1361.30288836070},
-                {0.00000010506, 1.65935656006, 2104.78058386030},
-                {0.00000012808, 5.23966663914, 96.22304470130},
-                {0.00000013402, 1.46045916222, 721.89323701370},
-                {0.00000010003, 3.71949533579, 1464.39566257930},
-                {0.00000011029, 4.75763401948, 604.71638114540},
-                {0.00000009807, 5.38496623744, 107.26874496520},
-                {0.00000011312, 1.04980298350, 220.16882495529},
-                {0.00000010028, 5.51845919925, 497.69145366371},
-                {0.00000009515, 4.20231641978, 1890.99385345530},
-                {0.00000010988, 0.55033431492, 2015.91490364330},
-                {0.00000010134, 2.26013428987, 1592.49810650500},
-                {0.00000008954, 5.58285753900, 10.80188278040},
-                {0.00000008739, 3.10143619037, 91.80325647120},
-                {0.00000008399, 2.39323702495, 1148.49142788971},
-                {0.00000008408, 2.53671229460, 1585.38455950421},
-                {0.00000009230, 5.10523054826, 562.17811149250},
-                {0.00000008186, 3.07470498245, 2104.29294889330},
-                {0.00000008259, 3.79122069331, 302.40859313851},
-                {0.00000009900, 3.08797905190, 1478.62275658089},
-                {0.00000010878, 3.84174776466, 113.63153244060},
-                {0.00000009582, 5.95011959797, 455.15318401080},
-                {0.00000007712, 2.87491912382, 422.90985509640},
-                {0.00000007595, 1.59710858352, 629.84616305900},
-                {0.00000008496, 2.61146913566, 224.58861318540},
-                {0.00000007414, 2.03258534769, 39.11305843170},
-                {0.00000007292, 2.69782256595, 430.02340209721},
-                {0.00000007357, 3.64822171992, 2655.81218995730},
-                {0.00000007633, 1.32269581525, 636.95971005981},
-                {0.00000007369, 2.28675718790, 2229.21399908130},
-                {0.00000007258, 4.08894525395, 423.66061462181},
-                {0.00000007648, 2.32798852949, 2001.68780964171},
-                {0.00000008081, 2.88299363492, 1586.13531902961},
-                {0.00000007334, 5.14442280849, 529.18402305270},
-                {0.00000007334, 5.47944814706, 530.68554210351},
-                {0.00000007088, 2.33493448028, 13.98327651810},
-                {0.00000006944, 2.85039309523, 99.40443843901},
-                {0.00000007575, 5.37079456066, 121.49583896680},
-                {0.00000006848, 0.78796625546, 1898.10740045609},
-                {0.00000006870, 1.15013907149, 1158.78636862821},
-                {0.00000006772, 5.07892665697, 1048.58004740881},
-                {0.00000007746, 1.97831751281, 1691.92185201890},
-                {0.00000006468, 0.83654880503, 1165.89991562901},
-                {0.00000006936, 0.21365116245, 953.35157971640},
-                {0.00000006382, 2.33142676077, 1159.53712815361},
-                {0.00000006464, 3.96902820569, 113.89465699899},
-                {0.00000006270, 1.41636529387, 387.48513244430},
-                {0.00000006557, 0.09772332548, 636.20895053440},
-                {0.00000007405, 3.41801223400, 405.50136735710},
-                {0.00000006424, 2.56898493091, 312.70353387701},
-                {0.00000006311, 4.22916699759, 983.35967639710},
-                {0.00000007257, 4.97217454857, 1251.09656714130},
-                {0.00000006999, 1.52695047635, 323.26159917390},
-                {0.00000005842, 2.07617926504, 1166.65067515440},
-                {0.00000006084, 6.08154567006, 2538.49232173710},
-                {0.00000005618, 1.65396088949, 71.09326278771},
-                {0.00000005590, 1.91532661942, 234.88355392390},
-                {0.00000005829, 0.16935049171, 1041.46650040800},
-                {0.00000006815, 4.44264173400, 305.10235190919},
-                {0.00000005423, 5.67735456927, 114.38229196601},
-                {0.00000005434, 2.90645289424, 1251.58420210830},
-                {0.00000005984, 2.75504343237, 319.81708087780},
-                {0.00000005352, 2.47648610539, 415.79630809560},
-                {0.00000005826, 2.69993180753, 1891.48148842230},
-                {0.00000005519, 3.64099912123, 1593.24886603040},
-                {0.00000005189, 0.91842109203, 448.18264936190},
-                {0.00000005286, 4.46266267934, 505.55576018990},
-                {0.00000005876, 4.11769538608, 459.08533727390},
-                {0.00000005578, 4.41596318124, 437.88770862340},
-                {0.00000004953, 3.44649774547, 1780.78753223589},
-                {0.00000004928, 4.68268114080, 199.31581891990},
-                {0.00000004972, 6.16120827874, 554.31380496631},
-                {0.00000004889, 3.00346445874, 117.07605073670},
-                {0.00000005942, 3.32585444966, 512.52629483880},
-                {0.00000004807, 1.83942967124, 494.51005992600},
-                {0.00000005528, 3.37702275374, 430.77416162260},
-                {0.00000004806, 4.93123850862, 956.04533848709},
-                {0.00000006190, 0.33303059089, 2751.79141717511},
-                {0.00000005306, 1.69049301545, 1069.92068841121},
-                {0.00000004939, 3.92798617287, 2207.38572311189},
-                {0.00000005203, 1.87963213473, 498.91529394111},
-                {0.00000004397, 2.50128659500, 565.35950523021},
-                {0.00000004342, 2.91932588132, 672.38443271190},
-                {0.00000004528, 2.64641812201, 1677.69475801730},
-                {0.00000004334, 3.43386241697, 611.68691579430},
-                {0.00000004608, 0.94871692824, 679.49797971270},
-                {0.00000004812, 2.46105351857, 560.95427121510},
-                {0.00000004305, 3.17292686307, 1070.67144793660},
-                {0.00000004662, 6.19278511564, 621.98185653281},
-                {0.00000004362, 0.81856641043, 81.50831573269},
-                {0.00000004781, 0.23034918069, 600.78422788230},
-                {0.00000004148, 1.91465810869, 1080.96638867510},
-                {0.00000004478, 0.83734666663, 629.09540353360},
-                {0.00000004108, 1.85129748483, 644.07325706060},
-                {0.00000004654, 4.97986041266, 508.10650660869},
-                {0.00000004260, 4.99902513065, 209.87388421679},
-                {0.00000005131, 0.48588112186, 946.23803271561},
-                {0.00000003845, 1.59767295215, 970.76006745570},
-                {0.00000003839, 2.82406421175, 2420.68481854989},
-                {0.00000003898, 5.93876139914, 1064.29161411871},
-                {0.00000004274, 2.31117388618, 31.99951143090},
-                {0.00000003986, 5.18457061537, 952.60082019101},
-                {0.00000003880, 5.29550041805, 504.80500066450},
-                {0.00000005205, 2.65346011281, 1795.01462623750},
-                {0.00000003879, 1.78725414335, 747.16603127920},
-                {0.00000003965, 1.33979952763, 501.62360692681},
-                {0.00000004541, 1.67944661862, 757.46097201770},
-                {0.00000003663, 2.53934739854, 2318.07967929830},
-                {0.00000004938, 5.95351997396, 294.80741117069},
-                {0.00000003643, 5.32837052634, 555.06456449170},
-                {0.00000003850, 1.68007336193, 835.28095197081},
-                {0.00000003693, 3.00088611994, 558.24595822940},
-                {0.00000003818, 5.13364214511, 2325.19322629910},
-                {0.00000003422, 0.51968162936, 2214.49927011270},
-                {0.00000003726, 1.58879941368, 740.05248427840},
-                {0.00000003306, 2.13594948327, 2641.58509595570},
-                {0.00000003331, 2.97883947073, 501.48059457490},
-                {0.00000003289, 2.06996431796, 1066.25165970650},
-                {0.00000004224, 0.94453108652, 547.34327031741},
-                {0.00000003214, 6.21073356050, 498.44221318910},
-                {0.00000003771, 3.19812168530, 1493.33748554950},
-                {0.00000003357, 4.06089125495, 1272.43720814370},
-                {0.00000003469, 3.39231437882, 1678.18239298430},
-                {0.00000003147, 0.44528787143, 654.36819779910},
-                {0.00000003122, 5.26948049817, 1912.82212942470},
-                {0.00000003766, 1.55302482141, 1567.97607176490},
-                {0.00000003766, 4.69461747500, 1567.48843679789},
-                {0.00000003651, 1.76784115018, 2008.31372167550},
-                {0.00000003350, 3.60014817718, 6276.20612047410},
-                {0.00000002969, 4.41313741154, 561.42735196710},
-                {0.00000002926, 2.44841800418, 824.98601123230},
-                {0.00000003251, 3.05741893468, 6290.43321447570},
-                {0.00000003134, 5.02262053935, 10206.41581669370},
-                {0.00000003154, 2.88790610293, 483.46435966210},
-                {0.00000002968, 2.52814022000, 597.60283414461},
-                {0.00000003023, 5.26034603701, 938.37372618940},
-                {0.00000003496, 5.37662649242, 1054.95988122670},
-                {0.00000002718, 1.12612274568, 1151.67282162740},
-                {0.00000003041, 4.48045335531, 10220.64291069530},
-                {0.00000002652, 1.50411451235, 960.46512671720},
-                {0.00000002720, 2.58012487497, 326.93062787860},
-                {0.00000002672, 2.37743868437, 537.79908910430},
-                {0.00000002672, 1.96324696400, 522.07047605190},
-                {0.00000002641, 1.93870259756, 2531.37877473630},
-                {0.00000002658, 2.71532856876, 1062.07342822750},
-                {0.00000002567, 2.71690582841, 415.30867312860},
-                {0.00000002847, 2.92204886379, 1176.94561589290},
-                {0.00000002545, 0.06405909754, 1098.98262358790},
-                {0.00000002658, 0.64454112605, 1057.17806711790},
-                {0.00000003084, 4.14043630979, 320.56784040320},
-                {0.00000003075, 1.56268674394, 462.26673101160},
-                {0.00000002804, 1.45328370683, 576.40520549410},
-                {0.00000002606, 3.64826504072, 2523.77759276850},
-                {0.00000003000, 2.08528609490, 230.32075334190},
-                {0.00000002425, 2.52434943707, 422.42222012939},
-                {0.00000002483, 3.69036238721, 209.12312469139},
-                {0.00000002390, 0.07414982415, 210.36151918381},
-                {0.00000002327, 3.99650789580, 416.05943265400},
-                {0.00000002797, 1.87832948272, 2332.30677329990},
-                {0.00000002273, 4.89984409290, 945.48727319021},
-                {0.00000002980, 5.28454893190, 202.76033721600},
-                {0.00000002267, 3.20625354263, 2097.17940189250},
-                {0.00000002330, 4.18274089040, 849.50804597240},
-                {0.00000002940, 2.32020734015, 2111.40649589409},
-                {0.00000002403, 6.15190475337, 433.46792039329},
-                {0.00000002256, 2.98060305636, 1054.20912170131},
-                {0.00000002203, 5.95488550794, 217.47506618460},
-                {0.00000002189, 4.68499930418, 1514.53511420000},
-                {0.00000002120, 3.75884388832, 423.17297965479},
-                {0.00000002093, 1.34498726275, 543.67424161270},
-                {0.00000002373, 4.97528466796, 536.15455770160},
-                {0.00000002373, 5.64858628759, 523.71500745461},
-                {0.00000002040, 2.72132861555, 988.77630236850},
-                {0.00000002105, 3.22262200918, 1059.57756356290},
-                {0.00000002005, 1.80102545599, 460.78225830330},
-                {0.00000001997, 1.58652758554, 504.66198831261},
-                {0.00000002033, 2.03694665564, 1173.76422215520},
-                {0.00000001976, 3.51326639371, 46.71424039951},
-                {0.00000002284, 1.65248273100, 531.57931398080},
-                {0.00000002284, 2.68820291737, 528.29025117541},
-                {0.00000002219, 5.00103752698, 5230.56364931950},
-                {0.00000002084, 5.36575264228, 490.57790666290},
-                {0.00000002020, 4.84607190143, 568.06781821590},
-                {0.00000001939, 2.20836538491, 1065.04237364410},
-                {0.00000001972, 2.67204098380, 2428.28600051770},
-                {0.00000002080, 3.74170619496, 194.89603068979},
-                {0.00000001994, 5.72172751294, 749.85979004990},
-                {0.00000001905, 3.51155751559, 1077.78499493740},
-                {0.00000001909, 2.72297523968, 2737.07668820650},
-                {0.00000001874, 2.75415806536, 555.20757684360},
-                {0.00000002388, 4.22827702093, 334.79493440480},
-                {0.00000002111, 5.51827565803, 5216.33655531789},
-                {0.00000002086, 3.31238187572, 1062.54650897950},
-                {0.00000002063, 0.14160166361, 9160.77334553909},
-                {0.00000001930, 2.31808019838, 2207.87335807890},
-                {0.00000001877, 1.77046886437, 732.93893727761},
-                {0.00000001836, 2.50051244655, 1994.08662767389},
-                {0.00000001907, 4.49445370726, 824.49837626530},
-                {0.00000001819, 5.68655037935, 491.80174694030},
-                {0.00000001892, 5.26005735036, 569.29165849331},
-                {0.00000001770, 4.43317433717, 842.39449897160},
-                {0.00000001786, 5.25911906099, 327.68138740401},
-                {0.00000001761, 6.10459116553, 67.42423408300},
-                {0.00000001872, 0.48305166447, 1169.34443392509},
-                {0.00000001951, 1.20156127405, 142.69346761730},
-                {0.00000001737, 3.47351315761, 202.00957769060},
-                {0.00000001965, 0.65764447635, 9146.54625153749},
-                {0.00000001703, 0.22482006123, 2530.89113976930},
-                {0.00000001717, 3.13603496824, 380.37158544351},
-                {0.00000001684, 2.53972202455, 599.08730685290},
-                {0.00000001669, 2.13331218955, 2634.47154895491},
-                {0.00000001707, 4.70440451897, 92.29089143820},
-                {0.00000001666, 6.08661752005, 1058.66253982621},
-                {0.00000002249, 0.32860344346, 852.95256426850},
-                {0.00000002105, 0.13724782964, 1059.67393178251},
-                {0.00000001971, 4.40376628788, 1883.88030645450},
-                {0.00000001682, 3.48278576722, 1905.22094745690},
-                {0.00000001591, 3.28337636744, 2435.39954751850},
-                {0.00000001870, 0.19806856983, 739.30172475301},
-                {0.00000001831, 4.94275349020, 405.01373239010},
-                {0.00000001741, 5.44783098353, 1280.03839011150},
-                {0.00000001437, 1.72233118576, 1056.70498636590},
-                {0.00000001666, 3.55643756155, 1060.58895551920},
-                {0.00000001646, 4.89045222906, 299.37021175271},
-                {0.00000001423, 0.35443031090, 1464.88329754630},
-                {0.00000001879, 1.06964842472, 531.41925528640},
-                {0.00000001879, 3.27103722365, 528.45030986980},
-                {0.00000001460, 2.99740366174, 1269.74344937300},
-                {0.00000001684, 2.47723234250, 1364.97191706540},
-                {0.00000001453, 6.26510844895, 526.26575387340},
-                {0.00000001700, 0.15073432597, 725.07463075140},
-                {0.00000001360, 3.51016366749, 917.17609753890},
-                {0.00000001426, 3.38257862218, 2840.16946242510},
-                {0.00000001498, 5.40291606338, 1134.40734624000},
-                {0.00000001410, 0.25814998758, 1091.86907658711},
-                {0.00000001520, 0.66510646757, 977.73060210460},
-                {0.00000001747, 1.60904440146, 2324.70559133209},
-                {0.00000001288, 5.52938584132, 732.18817775220},
-                {0.00000001713, 2.03572918983, 2427.79836555070},
-                {0.00000001282, 0.82379362487, 1475.17823828480},
-                {0.00000001517, 3.20491072001, 1439.75351563271},
-                {0.00000001271, 5.76578238196, 843.14525849700},
-                {0.00000001308, 1.16466426738, 558.38897058130},
-                {0.00000001677, 5.68726278883, 611.19928082730},
-                {0.00000001256, 5.98835555735, 2854.88419139370},
-                {0.00000001366, 4.72040446216, 1446.86706263350},
-                {0.00000001435, 0.26721377820, 991.95769610620},
-                {0.00000001144, 0.57883702331, 1482.29178528560},
-                {0.00000001142, 2.82387136290, 408.19512612779},
-                {0.00000001147, 0.57710279821, 3068.18328683170},
-                {0.00000001501, 0.82356141490, 75.02541605080},
-                {0.00000001226, 5.02777555864, 1141.37788088890},
-                {0.00000001323, 0.45303236447, 284.39235822571},
-                {0.00000001150, 3.64731637589, 430.28652665560},
-                {0.00000001292, 3.22691222108, 1994.57426264090},
-                {0.00000001226, 0.90830574042, 372.77040347569},
-                {0.00000001132, 5.19504872814, 1063.81853336670},
-                {0.00000001079, 1.83169919397, 1483.04254481100},
-                {0.00000001111, 3.09681405003, 2413.57127154910},
-                {0.00000001252, 1.06008408031, 473.31243127551},
-                {0.00000001242, 4.51992844109, 539.49601013370},
-                {0.00000001242, 2.96234986087, 520.37355502251},
-                {0.00000001169, 0.37626190654, 386.99749747730},
-                {0.00000001003, 6.17382979199, 216.98743121760},
-                {0.00000001030, 5.35594718648, 850.25880549781},
-                {0.00000001165, 3.23424220409, 2758.90496417590},
-                {0.00000000984, 5.54057958497, 522.77305146750},
-                {0.00000000984, 1.94169871699, 537.09651368871},
-                {0.00000001015, 0.51819766710, 451.22103074770},
-                {0.00000001310, 4.02666314741, 1354.67697632690},
-                {0.00000001121, 0.67317844435, 4164.06817212950},
-                {0.00000000956, 2.02124975965, 2950.86341861150},
-                {0.00000000940, 0.33627498720, 39.60069339870},
-                {0.00000000949, 2.09328292248, 1475.92899781020},
-                {0.00000000992, 2.88019144631, 1969.44448072730},
-                {0.00000000935, 2.32097978196, 3053.46855786309},
-                {0.00000001085, 3.28059335022, 586.55713388070},
-                {0.00000000901, 2.95406440747, 248.96763557360},
-                {0.00000000894, 6.19201666773, 2847.28300942589},
-                {0.00000000948, 3.23576370557, 2221.61281711350},
-                {0.00000000923, 1.57948501053, 2421.17245351690},
-                {0.00000001070, 4.12769395162, 2200.27217611110},
-                {0.00000001169, 0.96073817242, 100.40127618030},
-                {0.00000001005, 5.20924948749, 1432.63996863190},
-                {0.00000001017, 2.10326291360, 8094.27786834910},
-                {0.00000000984, 5.02707289654, 537.00014546910},
-                {0.00000000984, 2.45520540542, 522.86941968710},
-                {0.00000001118, 2.99407073283, 416.54706762100},
-                {0.00000000914, 4.24495681812, 1140.89024592190},
-                {0.00000000977, 6.06165201031, 312.96665843540},
-                {0.00000000840, 2.42530575361, 1579.02177202880},
-                {0.00000000891, 1.62042692734, 486.64575339981},
-                {0.00000000849, 5.66050445306, 834.79331700380},
-                {0.00000000926, 1.06469662901, 532.62854134880},
-                {0.00000000832, 3.82248800441, 608.64853440851},
-                {0.00000000975, 1.83569716432, 21.09682351890},
-                {0.00000000794, 0.55277759585, 1791.57010794140},
-                {0.00000001006, 3.29673383179, 2310.96613229750},
-                {0.00000000825, 0.24960267153, 8616.85528644289},
-                {0.00000000827, 2.11307142672, 2545.60586873790},
-                {0.00000000955, 5.80717048495, 760.01171843649},
-                {0.00000000955, 5.80717048495, 760.49935340350},
-                {0.00000000936, 5.99339737103, 155.53915477459},
-                {0.00000000779, 1.83263011252, 1792.32086746680},
-                {0.00000000766, 2.28443434916, 3811.17334736430},
-                {0.00000000773, 2.27805515523, 738.81408978600},
-                {0.00000000788, 3.85951320467, 732.45130231059},
-                {0.00000000801, 1.48502354739, 77204.08367704989},
-                {0.00000000937, 4.69566509817, 297.98880490840},
-                {0.00000000779, 5.36095004640, 538.01153742540},
-                {0.00000000779, 2.12132825556, 521.85802773080},
-                {0.00000000755, 0.53346289480, 8631.08238044450},
-                {0.00000000743, 5.06914451090, 1060.14701253450},
-                {0.00000000790, 4.76601235989, 902.94900353731},
-                {0.00000000897, 5.90672024499, 1485.73630358170},
-                {0.00000000991, 1.76419853445, 2744.19023520730},
-                {0.00000000740, 0.93130456921, 277.27881122490},
-                {0.00000000780, 0.67747505651, 606.20085385370},
-                {0.00000000738, 3.53234955097, 4856.32818355191},
-                {0.00000000799, 2.72025873636, 573.22381175640},
-                {0.00000000802, 3.92777211068, 984.84414910540},
-                {0.00000000761, 2.31403909443, 2744.67787017430},
-                {0.00000000735, 5.48605031473, 4650.14263511470},
-                {0.00000000721, 2.25748057238, 731.70054278519},
-                {0.00000000850, 3.90105539794, 775.47720693050},
-                {0.00000000717, 3.64971882351, 5746.02752041250},
-                {0.00000000754, 4.58241793030, 202.49721265760},
-                {0.00000000787, 6.16479913324, 320.08020543620},
-                {0.00000000739, 5.82129294779, 967.57867371801},
-                {0.00000000744, 1.81557790720, 2847.77064439291},
-                {0.00000000684, 0.30776904368, 1798.68365494221},
-                {0.00000000700, 6.09650846364, 572.47305223100},
-                {0.00000000700, 4.52736249190, 487.39651292520},
-                {0.00000000690, 6.09169936894, 2118.52004289490},
-                {0.00000000670, 1.19443093892, 245.29860686890},
-                {0.00000000668, 3.63109061354, 739.56484931140},
-                {0.00000000667, 0.87583989763, 1013.15532475670},
-                {0.00000000762, 4.85397542040, 9153.65979853830},
-                {0.00000000711, 3.11169852570, 3156.56133208170},
-                {0.00000000679, 3.67936511602, 24498.58642880689},
-                {0.00000000729, 0.09495555814, 4547.04986089611},
-                {0.00000000692, 6.19117624873, 5062.51373198910},
-                {0.00000000649, 1.56313876075, 1799.43441446760},
-                {0.00000000677, 0.68187945383, 10.05112325500},
-                {0.00000000784, 0.71180416773, 3281.48238226970},
-                {0.00000000733, 3.85073191118, 453.66871130251},
-                {0.00000000643, 2.57202346935, 2310.47849733050},
-                {0.00000000658, 0.00955649379, 305.85311143459},
-                {0.00000000784, 0.92101367041, 74.53778108379},
-                {0.00000000704, 0.42049120814, 5165.60650620771},
-                {0.00000000648, 5.17262659684, 1382.64352936309},
-                {0.00000000786, 0.17119550214, 1290.19031849811},
-                {0.00000000844, 4.57333845552, 312.21589891000},
-                {0.00000000703, 3.18188887722, 2288.10022602790},
-                {0.00000000703, 3.68329176097, 2273.87313202630},
-                {0.00000000797, 1.30518182972, 2641.09746098870},
-                {0.00000000635, 0.57438614150, 397.90018538930},
-                {0.00000000607, 2.87691632991, 1689.22809324820},
-                {0.00000000626, 1.96304211270, 2524.26522773550},
-                {0.00000000636, 3.42015645415, 511.28790034640},
-                {0.00000000613, 5.27453086724, 1037.79747170330},
-                {0.00000000614, 4.75169588095, 2957.97696561230},
-                {0.00000000747, 3.57894990009, 5223.45010231870},
-                {0.00000000606, 5.48577834442, 1751.29571393250},
-                {0.00000000779, 5.87445673484, 523.78444342380},
-                {0.00000000779, 1.60782156712, 536.08512173241},
-                {0.00000000607, 2.92319803825, 2133.23477186350},
-                {0.00000000744, 1.33557042847, 643.32249753521},
-                {0.00000000697, 5.37775664790, 1354.18934135989},
-                {0.00000000669, 4.82929349311, 5069.62727898990},
-                {0.00000000762, 3.36471924953, 1262.62990237220},
-                {0.00000000765, 5.32617475783, 927.59115048390},
-                {0.00000000720, 3.06031913027, 3075.29683383250},
-                {0.00000000573, 1.26296826321, 394.59867944510},
-                {0.00000000634, 1.38494179693, 470.13103753780},
-                {0.00000000559, 2.49825062445, 445.00125562421},
-                {0.00000000671, 3.15851735580, 454.66554904380},
-                {0.00000000755, 6.14426019579, 105.29663728990},
-                {0.00000000567, 0.62012587567, 1887.54933515920},
-                {0.00000000593, 4.42709128942, 842.65762352999},
-                {0.00000000564, 4.09053029799, 1127.29379923920},
-                {0.00000000547, 2.00134392136, 4127.56521702090},
-                {0.00000000624, 1.38182148571, 25035.39094090229},
-                {0.00000000545, 1.38452164358, 810.90192958261},
-                {0.00000000641, 2.77533084404, 305.58998687620},
-                {0.00000000593, 6.12084605791, 1063.07026596880},
-                {0.00000000574, 4.93770315169, 1699.03539901970},
-                {0.00000000616, 1.88320700397, 25021.16384690069},
-                {0.00000000721, 3.98272042008, 1819.88128359270},
-                {0.00000000537, 3.42267089674, 782.59075393131},
-                {0.00000000597, 2.50100642147, 379.88395047650},
-                {0.00000000543, 4.69778069172, 216.72430665921},
-                {0.00000000552, 1.82100424033, 1268.99268984760},
-                {0.00000000534, 1.45757104363, 437.13694909800},
-                {0.00000000588, 3.86118609001, 460.29462333630},
-                {0.00000000524, 2.90061539997, 518.40144734719},
-                {0.00000000701, 5.29663931018, 1670.58121101650},
-                {0.00000000632, 1.12269993255, 4525.70921989370},
-                {0.00000000546, 4.73323913866, 89.10949770051},
-                {0.00000000496, 6.08219208052, 3171.27606105030},
-                {0.00000000501, 0.04295581721, 32.48714639791},
-                {0.00000000508, 3.08019966842, 827.67977000299},
-                {0.00000000493, 5.43229903686, 10022.08109758290},
-                {0.00000000550, 3.74627720943, 2516.66404576769},
-                {0.00000000546, 2.95574391589, 589.73852761840},
-                {0.00000000509, 5.07088390420, 4686.64559022330},
-                {0.00000000505, 1.78087149512, 754.27957828001},
-                {0.00000000479, 4.72565705175, 5223.93773728571},
-                {0.00000000461, 0.99543408630, 1595.94262480110},
-                {0.00000000472, 5.67013290312, 3163.67487908250},
-                {0.00000000472, 2.52854024953, 3164.16251404950},
-                {0.00000000509, 0.84552728990, 69.39634175830},
-                {0.00000000546, 2.01514901803, 2840.65709739210},
-                {0.00000000615, 5.03969710796, 519.15220687259},
-                {0.00000000579, 2.45280217192, 525.51499434800},
-                {0.00000000455, 0.84441579380, 1468.06469128401},
-                {0.00000000451, 1.84241635349, 614.86830953200},
-                {0.00000000451, 0.27109462263, 2107.96197759801},
-                {0.00000000450, 5.54300486570, 3480.06674873909},
-                {0.00000000450, 2.40141221211, 3480.55438370610},
-                {0.00000000447, 1.49071427438, 3267.25528826810},
-                {0.00000000467, 1.66996550533, 1490.15609181181},
-                {0.00000000472, 3.97777002593, 1457.28211557850},
-                {0.00000000462, 0.76906085237, 26617.83792415230},
-                {0.00000000440, 3.74033577848, 3384.08752152129},
-                {0.00000000440, 0.59874312489, 3384.57515648830},
-                {0.00000000453, 6.16538796545, 9154.14743350530},
-                {0.00000000440, 3.20211909619, 2538.00468677009},
-                {0.00000000616, 4.82336088817, 1560.37488979710},
-                {0.00000000437, 5.35668949324, 4966.53450477130},
-                {0.00000000433, 5.44090883319, 4700.87268422489},
-                {0.00000000439, 1.57953949229, 2108.71273712340},
-                {0.00000000452, 4.81735477031, 1551.18367712950},
-                {0.00000000483, 5.25822765428, 629.35852809199},
-                {0.00000000455, 0.52481636476, 1368.41643536150},
-                {0.00000000454, 2.63963867488, 1884.36794142151},
-                {0.00000000476, 1.27217476850, 3060.58210486390},
-                {0.00000000414, 4.36171182245, 533.37930087419},
-                {0.00000000434, 2.83878055329, 622.24498109120},
-                {0.00000000434, 2.83878055329, 622.73261605820},
-                {0.00000000423, 4.52676867100, 415.04804069769},
-                {0.00000000411, 0.64284710617, 4539.44867892829},
-                {0.00000000411, 3.78443975976, 4539.93631389530},
-                {0.00000000507, 0.89077366361, 3252.54055929950},
-                {0.00000000401, 5.31716419569, 1040.97886544099},
-                {0.00000000424, 1.74548317826, 1254.76559584600},
-                {0.00000000407, 3.07774750544, 665.27088571111},
-                {0.00000000428, 2.52282816585, 12036.21691740469},
-                {0.00000000487, 0.27735959651, 1901.77642916080},
-                {0.00000000484, 2.76465853394, 1357.85837006460},
-                {0.00000000435, 2.99417344584, 2729.96314120569},
-                {0.00000000435, 2.99417344584, 2730.45077617271},
-                {0.00000000393, 2.13115023199, 3803.57216539650},
-                {0.00000000393, 5.27274288558, 3804.05980036350},
-                {0.00000000396, 3.86752181242, 1020.26887175750},
-                {0.00000000413, 2.47801246921, 1902.52718868620},
-                {0.00000000438, 1.11008336467, 611.82992814620},
-                {0.00000000404, 3.24724828605, 2042.74160658630},
-                {0.00000000412, 6.18108169678, 4863.44173055270},
-                {0.00000000379, 1.72808594571, 4443.95708667750},
-                {0.00000000528, 4.53641477848, 721.40560204669},
-                {0.00000000392, 3.97639191399, 2001.20017467470},
-                {0.00000000379, 5.06316213675, 9676.23721663209},
-                {0.00000000379, 5.06316213675, 9676.72485159910},
-                {0.00000000372, 1.50891676381, 3273.88120030190},
-                {0.00000000372, 4.65050941740, 3274.36883526891},
-        };
-    }
-
-    private static void initialize_1_2()
-    {
-        classCoeff[0][2] = new double[][]{
-                {0.00202462055, 2.16872090770, 529.93478257810},
-                {0.00132313738, 5.46375601476, 0.24381748350},
-                {0.00123752958, 4.12933545743, 522.82123557730},
-                {0.00121682952, 0.20529040863, 537.04832957890},
-                {0.00035719700, 5.02591678600, 1059.62574767270},
-                {0.00011394908, 1.72910824402, 7.35736448430},
-                {0.00007053660, 0.73618974864, 1066.73929467350},
-                {0.00005684733, 3.62301903765, 1052.51220067191},
-                {0.00005262466, 4.26860629303, 515.70768857651},
-                {0.00003815469, 5.55769158033, 1589.31671276730},
-                {0.00003706857, 0.07620773039, 544.16187657970},
-                {0.00001449544, 2.64864661582, 110.45013870291},
-                {0.00001046768, 2.32475473247, 426.84200835950},
-                {0.00001322480, 1.62777310244, 14.47091148511},
-                {0.00000858857, 1.87732946593, 633.02755679670},
-                {0.00000887013, 4.66395505443, 526.75338884040},
-                {0.00000866197, 5.95310584104, 533.11617631580},
-                {0.00000997140, 1.45788897945, 323.74923414091},
-                {0.00000563455, 1.62040359556, 949.41942645330},
-                {0.00000571107, 3.15712293933, 1045.39865367110},
-                {0.00000519207, 5.96329235901, 526.00262931501},
-                {0.00000607942, 2.84828776126, 736.12033101530},
-                {0.00000506922, 4.64788690486, 533.86693584120},
-                {0.00000485331, 1.60461640700, 109.96250373590},
-                {0.00000475072, 4.21127530175, 529.44714761109},
-                {0.00000458270, 1.23999732854, 1596.43025976811},
-                {0.00000418781, 2.61159590787, 117.56368570370},
-                {0.00000525152, 0.41184029160, 102.84895673509},
-                {0.00000374437, 5.55383016603, 95.73540973430},
-                {0.00000412815, 0.32973940832, 103.33659170210},
-                {0.00000320928, 4.24368441414, 419.72846135871},
-                {0.00000322793, 5.98934797904, 2119.00767786191},
-                {0.00000302747, 0.27601683091, 205.94173095370},
-                {0.00000280926, 3.69548040149, 1582.20316576650},
-                {0.00000243003, 3.14355186105, 625.91400979590},
-                {0.00000260213, 3.67206938453, 956.53297345411},
-                {0.00000223206, 0.88087474540, 433.95555536030},
-                {0.00000219874, 1.72167133402, 942.30587945250},
-                {0.00000202904, 0.48756623733, 220.65645992230},
-                {0.00000196744, 5.99963553149, 1169.83206889211},
-                {0.00000171475, 0.62368794765, 6.86972951729},
-                {0.00000195569, 5.98737256847, 640.14110379750},
-                {0.00000165172, 5.28462686074, 316.63568714010},
-                {0.00000163913, 0.52317209564, 1073.85284167431},
-                {0.00000164904, 3.55715812496, 1155.60497489050},
-                {0.00000138497, 4.42900020166, 508.59414157570},
-                {0.00000135640, 0.24898267917, 198.82818395289},
-                {0.00000170382, 1.32273885498, 330.86278114170},
-                {0.00000123801, 5.24272600896, 743.23387801611},
-                {0.00000105922, 2.67322273860, 853.44019923550},
-                {0.00000104749, 1.04943852587, 522.33360061030},
-                {0.00000115508, 1.14912313221, 309.03450517230},
-                {0.00000127421, 2.98933095130, 729.00678401450},
-                {0.00000104374, 2.46273763192, 213.54291292150},
-                {0.00000074731, 6.19108417338, 551.27542358051},
-                {0.00000076056, 4.16147111300, 1265.81129610991},
-                {0.00000084864, 4.83454215641, 519.63984183961},
-                {0.00000085433, 2.50456948380, 213.05527795450},
-                {0.00000070250, 1.40859137196, 426.35437339250},
-                {0.00000070226, 1.17306752912, 206.42936592071},
-                {0.00000065869, 3.83439660231, 839.21310523390},
-                {0.00000062918, 4.41103639601, 412.61491435790},
-                {0.00000067605, 5.76604168472, 540.22972331660},
-                {0.00000071970, 0.19069755890, 419.24082639170},
-                {0.00000053452, 1.25726970711, 3.42521122121},
-                {0.00000052805, 5.35851382984, 412.12727939089},
-                {0.00000055599, 1.47903917952, 21.58445848590},
-                {0.00000046667, 0.35527018271, 227.77000692311},
-                {0.00000048911, 0.17388705856, 1062.80714141041},
-                {0.00000046046, 0.12865245318, 536.56069461190},
-                {0.00000049381, 4.53307122517, 1162.71852189130},
-                {0.00000039853, 4.40185904785, 1258.69774910910},
-                {0.00000038964, 5.39489558888, 309.52214013930},
-                {0.00000038082, 5.82106990307, 441.06910236111},
-                {0.00000032665, 4.64318627449, 1692.40948698591},
-                {0.00000031801, 1.71799573531, 2126.12122486270},
-                {0.00000036510, 4.40226967417, 1056.44435393500},
-                {0.00000040831, 3.33818544372, 1575.08961876571},
-                {0.00000031242, 4.56981926575, 618.80046279510},
-                {0.00000032827, 0.30468062826, 515.22005360950},
-                {0.00000028849, 0.32258423359, 1055.69359440960},
-                {0.00000032224, 0.24894992339, 1272.92484311070},
-                {0.00000028682, 3.10923644274, 1038.28510667030},
-                {0.00000029430, 4.79051983333, 1486.22393854870},
-                {0.00000034150, 1.22671657337, 301.92095817150},
-                {0.00000032088, 0.95269083826, 625.42637482889},
-                {0.00000024170, 3.96546667147, 832.09955823310},
-                {0.00000023462, 5.23275815839, 1059.13811270570},
-                {0.00000023622, 1.03079849725, 742.74624304909},
-                {0.00000025413, 5.36457820071, 1368.90407032850},
-                {0.00000025008, 0.10163753957, 2648.69864295650},
-                {0.00000019641, 4.86937041561, 1063.55790093581},
-                {0.00000020824, 0.24917335293, 1699.52303398670},
-                {0.00000018958, 6.04301166316, 838.72547026689},
-                {0.00000019085, 1.84501493463, 1479.11039154791},
-                {0.00000020467, 6.09881928033, 647.25465079831},
-                {0.00000018387, 2.47199072977, 1471.99684454710},
-                {0.00000016332, 4.98457997872, 728.51914904750},
-                {0.00000018784, 6.11069390571, 735.63269604830},
-                {0.00000013140, 1.62064062804, 1376.01761732930},
-                {0.00000014219, 2.42409257216, 124.67723270450},
-                {0.00000012676, 5.96326773737, 831.61192326610},
-                {0.00000012289, 1.04197442517, 10.53875822200},
-                {0.00000011203, 3.16486860174, 511.77553531340},
-                {0.00000012667, 1.06449203791, 963.64652045490},
-                {0.00000013805, 3.83367170604, 2111.89413086110},
-                {0.00000010749, 1.17035514019, 548.09402984280},
-                {0.00000012863, 6.04094024122, 750.34742501690},
-                {0.00000012393, 3.91459301015, 1685.29593998510},
-                {0.00000012549, 0.60189314422, 941.81824448550},
-                {0.00000010468, 1.87537642305, 935.19233245171},
-                {0.00000008995, 3.32040576908, 1383.13116433011},
-                {0.00000011159, 0.93936211173, 618.31282782810},
-                {0.00000007631, 3.48899971728, 632.53992182970},
-                {0.00000007503, 0.95949200774, 1603.54380676890},
-                {0.00000007708, 0.38373971235, 191.71463695210},
-                {0.00000007383, 5.84748639962, 1155.11733992350},
-                {0.00000008531, 5.41891495754, 1361.79052332771},
-                {0.00000008011, 1.16879967744, 337.97632814250},
-                {0.00000007223, 2.27526633054, 88.62186273350},
-                {0.00000007778, 6.08089864211, 1052.02456570489},
-                {0.00000007476, 3.16644140740, 721.89323701370},
-                {0.00000005663, 5.09194448812, 2222.10045208050},
-                {0.00000005661, 4.71699843448, 1044.91101870410},
-                {0.00000005318, 5.67177401754, 1148.00379292269},
-                {0.00000004988, 5.11228308670, 639.65346883050},
-                {0.00000005093, 1.01868695076, 106.03035047280},
-                {0.00000006533, 1.90999732711, 845.83901726770},
-                {0.00000006385, 1.92471190846, 860.55374623631},
-                {0.00000004988, 6.12592952219, 99.66756299740},
-                {0.00000005571, 4.38524037140, 1795.50226120450},
-                {0.00000005541, 3.99278179683, 1049.33080693420},
-                {0.00000005247, 0.31216331680, 1258.21011414209},
-                {0.00000004445, 5.36838660295, 846.32665223470},
-                {0.00000003990, 0.03159217662, 1802.61580820530},
-                {0.00000003926, 3.73297740864, 497.69145366371},
-                {0.00000003892, 5.41749662246, 302.40859313851},
-                {0.00000003809, 2.16830295705, 2.93757625420},
-                {0.00000003620, 0.60770824733, 562.17811149250},
-                {0.00000004760, 0.65404095225, 934.70469748469},
-                {0.00000004154, 0.58444106217, 96.22304470130},
-                {0.00000003877, 0.63005503524, 1375.52998236229},
-                {0.00000003522, 4.66663934261, 501.48059457490},
-                {0.00000003445, 4.10178765579, 1148.49142788971},
-                {0.00000003382, 0.17821445242, 234.88355392390},
-                {0.00000003592, 5.23722943024, 405.50136735710},
-                {0.00000003808, 3.92687517258, 1788.38871420371},
-                {0.00000003336, 5.59164932879, 1471.50920958009},
-                {0.00000003758, 2.02589350773, 113.63153244060},
-                {0.00000003174, 5.47701611962, 448.18264936190},
-                {0.00000003698, 5.72579798285, 220.16882495529},
-                {0.00000003101, 1.61252122505, 316.14805217309},
-                {0.00000002746, 2.60898959388, 81.50831573269},
-                {0.00000002816, 5.64817967676, 2015.91490364330},
-                {0.00000002754, 0.98878483675, 430.02340209721},
-                {0.00000002783, 3.38652113978, 2104.78058386030},
-                {0.00000003501, 6.18907958990, 1069.92068841121},
-                {0.00000002580, 1.13656236739, 98.91680347199},
-                {0.00000002605, 5.15330137752, 611.68691579430},
-                {0.00000002955, 0.62556987115, 1592.49810650500},
-                {0.00000003418, 5.62641717211, 1368.41643536150},
-                {0.00000002482, 4.62391263198, 1361.30288836070},
-                {0.00000002409, 0.93859403652, 107.26874496520},
-                {0.00000002450, 0.25718396069, 948.93179148630},
-                {0.00000002454, 4.64671390500, 1251.58420210830},
-                {0.00000002443, 5.51785304335, 1464.39566257930},
-                {0.00000002848, 4.80044770776, 1898.59503542310},
-                {0.00000002434, 0.16399375449, 1080.96638867510},
-                {0.00000002240, 3.34539121485, 629.84616305900},
-                {0.00000002676, 1.36442566154, 294.80741117069},
-                {0.00000002252, 5.77491969067, 423.66061462181},
-                {0.00000002207, 5.98168647453, 106.78110999820},
-                {0.00000002966, 2.18772217641, 106.51798543980},
-                {0.00000002114, 1.40054172319, 117.07605073670},
-                {0.00000002234, 5.28783438446, 6276.20612047410},
-                {0.00000002232, 1.36347902456, 6290.43321447570},
-                {0.00000002060, 2.18476343972, 2655.81218995730},
-                {0.00000002492, 6.26929425827, 1574.60198379870},
-                {0.00000002405, 1.83175482621, 1162.23088692429},
-                {0.00000002094, 2.69213826264, 13.98327651810},
-                {0.00000001997, 4.16493009666, 2008.80135664250},
-                {0.00000001998, 5.23976804747, 149.80701461810},
-                {0.00000002075, 0.42755107557, 10206.41581669370},
-                {0.00000002073, 2.78638288310, 10220.64291069530},
-                {0.00000001833, 4.18008301702, 824.98601123230},
-                {0.00000001940, 0.37528581380, 199.31581891990},
-                {0.00000001989, 0.05550838377, 323.26159917390},
-                {0.00000001764, 6.26232235027, 970.76006745570},
-                {0.00000002079, 1.73475090893, 1905.70858242391},
-                {0.00000001815, 0.03040681609, 1265.32366114289},
-                {0.00000001815, 5.85864386233, 558.38897058130},
-                {0.00000001819, 5.36203973035, 1165.89991562901},
-                {0.00000002303, 0.38034815736, 1251.09656714130},
-                {0.00000001797, 0.77607919875, 1585.38455950421},
-                {0.00000001785, 4.17120693216, 1159.53712815361},
-                {0.00000001719, 4.75204120917, 654.36819779910},
-                {0.00000002106, 0.43427607956, 508.10650660869},
-                {0.00000001746, 4.42490277475, 1586.13531902961},
-                {0.00000001693, 0.29049773833, 1691.92185201890},
-                {0.00000001560, 4.06032111240, 2001.68780964171},
-                {0.00000001635, 5.33907949351, 1787.90107923670},
-                {0.00000001492, 1.04533558456, 422.90985509640},
-                {0.00000001558, 4.80176978113, 636.20895053440},
-                {0.00000001753, 0.13061364698, 757.46097201770},
-                {0.00000001757, 0.60186557399, 3178.38960805111},
-                {0.00000001411, 3.25105098307, 956.04533848709},
-                {0.00000001925, 3.26959207194, 1567.97607176490},
-                {0.00000001563, 4.39444066103, 1891.48148842230},
-                {0.00000001383, 3.30206953671, 5230.56364931950},
-                {0.00000001393, 4.07489654140, 1280.03839011150},
-                {0.00000001381, 0.94379151453, 5216.33655531789},
-                {0.00000001548, 2.31717712129, 946.23803271561},
-                {0.00000001239, 6.05197725659, 543.67424161270},
-                {0.00000001373, 5.88274816049, 1890.99385345530},
-                {0.00000001198, 0.79241931733, 326.93062787860},
-                {0.00000001220, 0.92943402597, 319.81708087780},
-                {0.00000001357, 0.99707936433, 2229.21399908130},
-                {0.00000001271, 4.72505663718, 9160.77334553909},
-                {0.00000001268, 2.36679203236, 9146.54625153749},
-                {0.00000001183, 3.25890608260, 636.95971005981},
-                {0.00000001254, 4.50024168543, 433.46792039329},
-                {0.00000001180, 5.26395330152, 1780.78753223589},
-                {0.00000001421, 5.18461492344, 1678.18239298430},
-                {0.00000001111, 5.11243140232, 910.06255053810},
-                {0.00000001135, 5.56380149178, 540.98048284201},
-                {0.00000001425, 5.31039737830, 1684.80830501809},
-                {0.00000001101, 1.90347864340, 518.88908231420},
-                {0.00000001052, 2.44195881689, 1493.33748554950},
-                {0.00000000954, 0.56086592982, 1066.25165970650},
-                {0.00000001305, 2.11338311992, 5223.45010231870},
-                {0.00000000932, 3.38781033249, 952.60082019101},
-                {0.00000001152, 5.72701789718, 3281.48238226970},
-                {0.00000001271, 1.34644154763, 1478.62275658089},
-                {0.00000000993, 0.85140525988, 2427.79836555070},
-                {0.00000001202, 0.09319048042, 1567.48843679789},
-                {0.00000000952, 4.40542256077, 2325.19322629910},
-                {0.00000000904, 5.45851579572, 1158.78636862821},
-                {0.00000001185, 4.39736411513, 2214.98690507971},
-                {0.00000000965, 3.98841084090, 2428.28600051770},
-                {0.00000000862, 1.88793880359, 5753.14106741329},
-                {0.00000001183, 2.13750411181, 953.35157971640},
-                {0.00000000858, 4.03268202733, 749.85979004990},
-                {0.00000000857, 4.35000353836, 1677.69475801730},
-                {0.00000000896, 2.48010732688, 1272.43720814370},
-                {0.00000000838, 3.42424958269, 740.05248427840},
-                {0.00000000810, 3.56166190184, 732.93893727761},
-                {0.00000000899, 6.16076732455, 1581.71553079950},
-                {0.00000001107, 3.10071050352, 1912.82212942470},
-                {0.00000001099, 0.06283564514, 21.09682351890},
-                {0.00000000856, 1.83949886373, 210.36151918381},
-                {0.00000000792, 3.31088624099, 9683.35076363289},
-                {0.00000000803, 4.00091268006, 2641.58509595570},
-                {0.00000001013, 4.97621633767, 852.95256426850},
-                {0.00000000790, 4.03009368633, 1166.65067515440},
-                {0.00000000927, 0.83468452012, 202.76033721600},
-                {0.00000000955, 1.05973862416, 611.19928082730},
-                {0.00000000848, 6.24143056133, 824.49837626530},
-                {0.00000000721, 2.30689352602, 4693.75913722409},
-                {0.00000000732, 0.54378112448, 1141.37788088890},
-                {0.00000000717, 5.04553206489, 2538.49232173710},
-                {0.00000000764, 2.59169068637, 3789.83270636190},
-                {0.00000000757, 0.72064468326, 422.42222012939},
-                {0.00000000870, 3.27554624699, 3900.03902758130},
-                {0.00000000745, 5.82790167193, 416.05943265400},
-                {0.00000000786, 3.44863092226, 3590.76070492550},
-                {0.00000000722, 2.26242549861, 1809.72935520611},
-                {0.00000000731, 6.27879280918, 2008.31372167550},
-                {0.00000000784, 0.83516247967, 1795.01462623750},
-                {0.00000000655, 3.72870036603, 8623.96883344369},
-                {0.00000000859, 6.02318696083, 459.08533727390},
-                {0.00000000787, 5.46578436956, 1671.06884598351},
-                {0.00000000668, 2.03555764252, 2545.60586873790},
-                {0.00000000707, 5.16062924903, 1169.34443392509},
-                {0.00000000679, 5.40421465627, 1588.82907780029},
-                {0.00000000721, 5.17345152360, 2104.29294889330},
-                {0.00000000869, 3.62787610341, 3576.53361092390},
-                {0.00000000878, 0.78188086789, 75.02541605080},
-                {0.00000000883, 4.44629342777, 3384.57515648830},
-                {0.00000000627, 1.03465619593, 405.01373239010},
-                {0.00000000776, 0.79670919548, 927.59115048390},
-                {0.00000000751, 5.49611274777, 3597.87425192630},
-                {0.00000000821, 4.90808802861, 3487.66793070691},
-                {0.00000000603, 3.81342348025, 2318.07967929830},
-                {0.00000000766, 5.46484704372, 1354.67697632690},
-                {0.00000000679, 5.65072392656, 2207.38572311189},
-                {0.00000000820, 0.17433301545, 6283.31966747490},
-                {0.00000000638, 2.47793884910, 3370.34806248671},
-                {0.00000000711, 6.00519368625, 1883.88030645450},
-                {0.00000000666, 2.80033054652, 3693.85347914410},
-                {0.00000000785, 1.92447383793, 3149.44778508089},
-                {0.00000000566, 1.70107169172, 2861.99773839450},
-                {0.00000000781, 2.98565268549, 3796.94625336271},
-                {0.00000000719, 4.60068400707, 600.78422788230},
-                {0.00000000586, 2.40576117729, 732.45130231059},
-                {0.00000000546, 2.44839181979, 437.88770862340},
-                {0.00000000539, 1.82254051811, 209.12312469139},
-                {0.00000000659, 4.16439637438, 2207.87335807890},
-                {0.00000000617, 3.66057473715, 2744.67787017430},
-                {0.00000000617, 0.51898208356, 2744.19023520730},
-                {0.00000000687, 0.58854485387, 209.87388421679},
-                {0.00000000566, 3.13556615267, 526.26575387340},
-                {0.00000000640, 5.17909893148, 1987.46071564010},
-                {0.00000000623, 3.78657888107, 3274.36883526891},
-                {0.00000000623, 0.64498622748, 3273.88120030190},
-                {0.00000000682, 0.06918162441, 2332.30677329990},
-                {0.00000000719, 3.54267214135, 9153.65979853830},
-                {0.00000000547, 5.05475414650, 2097.17940189250},
-                {0.00000000705, 4.16571456887, 3700.96702614491},
-                {0.00000000574, 4.99043344927, 430.77416162260},
-                {0.00000000543, 5.59320658894, 1457.28211557850},
-                {0.00000000693, 5.04264798056, 2001.20017467470},
-                {0.00000000659, 4.53919606995, 3804.05980036350},
-                {0.00000000581, 0.58799150667, 2111.40649589409},
-                {0.00000000540, 4.56823438295, 2729.96314120569},
-                {0.00000000653, 4.52246789790, 2626.87036698710},
-                {0.00000000673, 4.65921419822, 416.54706762100},
-                {0.00000000541, 5.68847817907, 2214.49927011270},
-                {0.00000000463, 5.28637314313, 529.88659846831},
-                {0.00000000463, 2.20099897893, 529.98296668790},
-                {0.00000000453, 0.47524333960, 5753.62870238030},
-                {0.00000000499, 3.31827894302, 2421.17245351690},
-                {0.00000000456, 4.85909697014, 76.50988875911},
-                {0.00000000587, 2.70740471670, 527.48710202330},
-                {0.00000000505, 5.77419802762, 532.62854134880},
-                {0.00000000582, 4.77848510541, 532.38246313290},
-                {0.00000000517, 5.40871139161, 2523.77759276850},
-                {0.00000000475, 4.45896757052, 2531.37877473630},
-                {0.00000000433, 1.89229373784, 621.98185653281},
-                {0.00000000530, 4.89239591125, 512.52629483880},
-                {0.00000000530, 2.58988239071, 547.34327031741},
-                {0.00000000478, 5.07132599131, 1593.24886603040},
-                {0.00000000423, 1.89822370785, 9683.83839859990},
-                {0.00000000592, 0.09761552238, 2324.70559133209},
-                {0.00000000410, 2.56036863491, 2751.30378220809},
-                {0.00000000507, 0.52941934961, 1243.98302014049},
-                {0.00000000521, 3.03081020519, 4216.43089723790},
-                {0.00000000458, 5.60102642086, 629.09540353360},
-                {0.00000000508, 4.89635261381, 1994.57426264090},
-                {0.00000000508, 4.89635261381, 1994.08662767389},
-                {0.00000000452, 2.67905981945, 3.68833577960},
-                {0.00000000527, 4.41239342340, 597.60283414461},
-                {0.00000000527, 6.21147753215, 462.26673101160},
-                {0.00000000555, 3.37057288042, 3892.92548058051},
-                {0.00000000464, 1.74325066579, 1905.22094745690},
-                {0.00000000535, 4.17138356606, 2943.74987161071},
-                {0.00000000535, 4.17138356606, 2943.26223664369},
-                {0.00000000450, 5.30706754834, 3914.26612158291},
-                {0.00000000390, 5.69507695721, 2751.79141717511},
-                {0.00000000511, 6.03743992199, 643.32249753521},
-                {0.00000000431, 2.42207911772, 849.50804597240},
-                {0.00000000464, 4.69682366854, 2633.98391398789},
-                {0.00000000486, 4.84373317918, 2303.85258529670},
-                {0.00000000412, 1.48548182287, 2758.90496417590},
-                {0.00000000423, 5.88986413302, 1898.10740045609},
-                {0.00000000457, 3.69523724581, 519.15220687259},
-                {0.00000000530, 1.25410178254, 2221.61281711350},
-                {0.00000000443, 0.57624758775, 89.10949770051},
-                {0.00000000478, 5.10332943513, 2420.68481854989},
-        };
-    }
-
-    private static void initialize_1_3()
-    {
-        classCoeff[0][3] = new double[][]{
-                {0.00016990902, 5.84326964724, 522.82123557730},
-                {0.00016795793, 4.75643108252, 537.04832957890},
-                {0.00005535565, 0.69030286987, 0.24381748350},
-                {0.00001711756, 3.37150503700, 1059.62574767270},
-                {0.00001437893, 5.97752044582, 515.70768857651},
-                {0.00001080832, 5.40982686420, 1066.73929467350},
-                {0.00001014927, 4.64326947068, 544.16187657970},
-                {0.00001080320, 6.20988832893, 7.35736448430},
-                {0.00000700816, 5.48708920252, 1052.51220067191},
-                {0.00000245290, 4.20564828134, 1589.31671276730},
-                {0.00000301422, 6.18874877941, 14.47091148511},
-                {0.00000233420, 1.79483227465, 529.93478257810},
-                {0.00000141715, 3.21962130849, 529.44714761109},
-                {0.00000134439, 4.93447341944, 1045.39865367110},
-                {0.00000078118, 6.00083895472, 1596.43025976811},
-                {0.00000076833, 0.88537843817, 117.56368570370},
-                {0.00000092926, 5.97429663193, 323.74923414091},
-                {0.00000078223, 0.68857971258, 110.45013870291},
-                {0.00000065879, 6.20010983926, 109.96250373590},
-                {0.00000058147, 6.14329253529, 508.59414157570},
-                {0.00000051718, 1.01900575462, 95.73540973430},
-                {0.00000058000, 0.45369239592, 426.84200835950},
-                {0.00000047055, 5.14517645295, 1073.85284167431},
-                {0.00000041297, 3.61714630670, 633.02755679670},
-                {0.00000056002, 4.58170066805, 736.12033101530},
-                {0.00000040590, 3.44189359091, 942.30587945250},
-                {0.00000036838, 4.76515425506, 625.91400979590},
-                {0.00000032307, 4.46032442444, 551.27542358051},
-                {0.00000038649, 5.90144372395, 330.86278114170},
-                {0.00000031637, 5.57280111823, 1582.20316576650},
-                {0.00000032315, 5.45702982437, 433.95555536030},
-                {0.00000037135, 2.05207397741, 103.33659170210},
-                {0.00000027869, 5.02736594295, 220.65645992230},
-                {0.00000027130, 4.72533930097, 2119.00767786191},
-                {0.00000027831, 3.47658936637, 949.41942645330},
-                {0.00000026529, 4.28803355000, 1169.83206889211},
-                {0.00000026303, 5.95970150804, 419.72846135871},
-                {0.00000027724, 5.01596447062, 6.86972951729},
-                {0.00000028942, 4.70013339156, 729.00678401450},
-                {0.00000024801, 1.98471609425, 198.82818395289},
-                {0.00000022666, 5.28389674207, 1155.60497489050},
-                {0.00000022463, 2.05657515244, 956.53297345411},
-                {0.00000024855, 0.38561886393, 519.63984183961},
-                {0.00000017587, 6.09056550431, 21.58445848590},
-                {0.00000020511, 3.90902530966, 540.22972331660},
-                {0.00000017573, 2.28775742180, 205.94173095370},
-                {0.00000019314, 4.20495563145, 640.14110379750},
-                {0.00000013850, 1.05364244327, 853.44019923550},
-                {0.00000013374, 4.92762205841, 227.77000692311},
-                {0.00000012226, 3.01621301164, 522.33360061030},
-                {0.00000011511, 4.04684166302, 441.06910236111},
-                {0.00000011785, 6.11408212844, 412.61491435790},
-                {0.00000009912, 2.91727446112, 206.42936592071},
-                {0.00000009439, 0.08289221852, 618.80046279510},
-                {0.00000009398, 4.84246640550, 1038.28510667030},
-                {0.00000009377, 5.60289942767, 839.21310523390},
-                {0.00000009606, 6.01169153580, 426.35437339250},
-                {0.00000011272, 2.94227399823, 309.03450517230},
-                {0.00000008495, 4.87340017026, 536.56069461190},
-                {0.00000007775, 0.77828391265, 316.63568714010},
-                {0.00000007402, 0.87870227189, 412.12727939089},
-                {0.00000009022, 5.05061886203, 1575.08961876571},
-                {0.00000007220, 6.11239376290, 1258.69774910910},
-                {0.00000006726, 5.70739192447, 832.09955823310},
-                {0.00000006944, 0.79854239865, 309.52214013930},
-                {0.00000007778, 2.92871658834, 301.92095817150},
-                {0.00000007986, 0.83091189689, 213.05527795450},
-                {0.00000005933, 0.24709144312, 2126.12122486270},
-                {0.00000005844, 3.31006297989, 743.23387801611},
-                {0.00000005965, 2.10263322732, 515.22005360950},
-                {0.00000004458, 3.94363208534, 1059.13811270570},
-                {0.00000003905, 5.84264336718, 1265.81129610991},
-                {0.00000004118, 0.75516336086, 124.67723270450},
-                {0.00000003669, 3.41470956201, 1486.22393854870},
-                {0.00000003534, 2.81641405410, 625.42637482889},
-                {0.00000003134, 4.93499952524, 1699.52303398670},
-                {0.00000002973, 5.75709909562, 742.74624304909},
-                {0.00000002686, 4.21604360019, 88.62186273350},
-                {0.00000003079, 3.56661827942, 935.19233245171},
-                {0.00000002579, 5.52509554050, 1062.80714141041},
-                {0.00000002378, 5.22398482496, 2648.69864295650},
-                {0.00000002346, 0.57872206639, 728.51914904750},
-                {0.00000003011, 4.13745406105, 647.25465079831},
-                {0.00000002322, 5.62530333683, 1603.54380676890},
-                {0.00000002809, 5.09173475362, 1272.92484311070},
-                {0.00000002701, 4.29236849013, 1471.99684454710},
-                {0.00000002369, 4.87717253226, 721.89323701370},
-                {0.00000002359, 5.74427423810, 337.97632814250},
-                {0.00000002423, 2.71447765750, 618.31282782810},
-                {0.00000002070, 1.48052642228, 831.61192326610},
-                {0.00000001958, 5.45174663546, 526.75338884040},
-                {0.00000001935, 2.01598572418, 533.11617631580},
-                {0.00000002297, 0.82936512542, 1368.90407032850},
-                {0.00000002015, 2.11557967911, 191.71463695210},
-                {0.00000002184, 5.63673637257, 963.64652045490},
-                {0.00000001685, 0.02501611955, 1685.29593998510},
-                {0.00000001816, 3.53877940742, 1162.71852189130},
-                {0.00000001733, 4.27157077977, 750.34742501690},
-                {0.00000001699, 5.67639711035, 1055.69359440960},
-                {0.00000001717, 3.76114243385, 448.18264936190},
-                {0.00000001811, 0.22568163048, 860.55374623631},
-                {0.00000001432, 4.43210549604, 81.50831573269},
-                {0.00000001779, 4.17528036440, 1056.44435393500},
-                {0.00000001397, 0.57951822575, 611.68691579430},
-                {0.00000001563, 1.99224070438, 838.72547026689},
-                {0.00000001726, 0.87041746914, 1361.79052332771},
-                {0.00000001152, 1.70030030447, 1383.13116433011},
-                {0.00000001200, 2.12159906502, 632.53992182970},
-                {0.00000001145, 0.71912374834, 405.50136735710},
-                {0.00000001078, 3.60318956091, 1479.11039154791},
-                {0.00000001223, 4.59470445130, 21.09682351890},
-                {0.00000001051, 2.88376336111, 526.00262931501},
-                {0.00000001414, 2.28596268994, 941.81824448550},
-                {0.00000001030, 4.60899071471, 533.86693584120},
-                {0.00000001211, 4.41389386454, 1069.92068841121},
-                {0.00000001240, 2.35782844542, 934.70469748469},
-                {0.00000000944, 0.29242241358, 1044.91101870410},
-                {0.00000001091, 5.67396621358, 2111.89413086110},
-                {0.00000000986, 3.57242992336, 2097.17940189250},
-                {0.00000000967, 3.71520398332, 1588.82907780029},
-                {0.00000000939, 1.24033341734, 13.98327651810},
-                {0.00000000870, 3.50165707483, 639.65346883050},
-                {0.00000001013, 0.73509414390, 1049.33080693420},
-                {0.00000000989, 1.29758643303, 1148.00379292269},
-                {0.00000001043, 4.55359910492, 1080.96638867510},
-                {0.00000000824, 2.60527227567, 433.46792039329},
-                {0.00000001002, 5.58426670661, 1788.38871420371},
-                {0.00000000823, 3.61010169574, 654.36819779910},
-                {0.00000000801, 4.98281196861, 1375.52998236229},
-                {0.00000000890, 3.08710678609, 294.80741117069},
-                {0.00000000763, 4.57978148957, 2421.17245351690},
-                {0.00000000793, 4.53708667061, 234.88355392390},
-                {0.00000000752, 6.13454078435, 1251.58420210830},
-                {0.00000000788, 0.83160211061, 302.40859313851},
-                {0.00000000719, 1.71413188590, 1787.90107923670},
-                {0.00000000760, 5.06618363392, 2104.78058386030},
-                {0.00000000839, 0.13142328969, 1898.59503542310},
-                {0.00000000962, 0.09321612606, 2318.07967929830},
-                {0.00000000832, 0.14656820498, 2001.68780964171},
-                {0.00000000930, 2.01393320120, 96.22304470130},
-                {0.00000000879, 0.21241160083, 845.83901726770},
-                {0.00000000780, 5.93658042409, 611.19928082730},
-                {0.00000000900, 3.12757954089, 1162.23088692429},
-                {0.00000000759, 1.64043504780, 2008.31372167550},
-                {0.00000000715, 0.86869868609, 1464.39566257930},
-                {0.00000000780, 6.10062998423, 2214.98690507971},
-                {0.00000000679, 3.26847622660, 2435.39954751850},
-                {0.00000000809, 0.41722409643, 1994.57426264090},
-                {0.00000000772, 3.89077003744, 220.16882495529},
-                {0.00000000622, 0.43134297347, 316.14805217309},
-                {0.00000000612, 5.54465900470, 749.85979004990},
-                {0.00000000612, 5.84476543520, 117.07605073670},
-                {0.00000000713, 4.45141904690, 1140.89024592190},
-                {0.00000000626, 2.69322845144, 1692.40948698591},
-                {0.00000000676, 5.06415053228, 2840.65709739210},
-                {0.00000000594, 6.08554261343, 102.84895673509},
-                {0.00000000790, 1.96038787639, 1251.09656714130},
-                {0.00000000756, 6.21273062765, 1148.49142788971},
-                {0.00000000568, 2.41561339810, 1141.37788088890},
-                {0.00000000616, 5.32006450469, 2524.26522773550},
-                {0.00000000560, 1.32052284871, 2104.29294889330},
-                {0.00000000686, 6.16886011032, 2627.35800195410},
-                {0.00000000720, 2.07248159341, 1258.21011414209},
-                {0.00000000733, 1.40692108080, 1884.36794142151},
-                {0.00000000583, 3.07032575150, 2751.79141717511},
-                {0.00000000546, 4.30523957810, 543.67424161270},
-                {0.00000000530, 5.36356787938, 1066.25165970650},
-                {0.00000000581, 0.74040675650, 1780.78753223589},
-                {0.00000000523, 2.35523231154, 1471.50920958009},
-                {0.00000000508, 1.53637927432, 508.10650660869},
-                {0.00000000645, 5.04939320209, 2015.91490364330},
-                {0.00000000553, 3.77158096643, 852.95256426850},
-                {0.00000000480, 1.48751125961, 1677.69475801730},
-                {0.00000000480, 1.48751125961, 1678.18239298430},
-                {0.00000000618, 4.58568946876, 1905.70858242391},
-                {0.00000000463, 2.69346041416, 89.10949770051},
-                {0.00000000512, 1.92658763463, 1155.11733992350},
-                {0.00000000497, 5.24109179268, 1376.01761732930},
-                {0.00000000529, 3.98646203660, 1802.61580820530},
-                {0.00000000617, 6.12621305930, 2634.47154895491},
-                {0.00000000459, 4.38908201999, 1691.92185201890},
-                {0.00000000503, 5.14894098049, 948.93179148630},
-                {0.00000000547, 0.16414935856, 2310.96613229750},
-                {0.00000000432, 2.24745181738, 1567.48843679789},
-                {0.00000000432, 5.38904447097, 1567.97607176490},
-                {0.00000000419, 0.18825223729, 1361.30288836070},
-                {0.00000000415, 1.22669638769, 558.38897058130},
-                {0.00000000415, 6.25558191427, 501.48059457490},
-                {0.00000000413, 5.02515661889, 1883.88030645450},
-                {0.00000000436, 4.68517073519, 1464.88329754630},
-        };
-    }
-
-    private static void initialize_1_4()
-    {
-        classCoeff[0][4] = new double[][]{
-                {0.00001739145, 2.99660018877, 537.04832957890},
-                {0.00001740807, 1.29193923641, 522.82123557730},
-                {0.00000593812, 5.24154438099, 529.93478257810},
-                {0.00000303714, 1.42080900852, 515.70768857651},
-                {0.00000216971, 2.90416346781, 544.16187657970},
-                {0.00000201301, 2.23147367590, 0.24381748350},
-                {0.00000128314, 3.79998656469, 1066.73929467350},
-                {0.00000084519, 4.38013747176, 7.35736448430},
-                {0.00000066713, 1.02569869600, 1052.51220067191},
-                {0.00000050914, 4.46050047710, 14.47091148511},
-                {0.00000056189, 1.24300511536, 1059.62574767270},
-                {0.00000023551, 0.46257856947, 1045.39865367110},
-                {0.00000014975, 1.64416256689, 508.59414157570},
-                {0.00000012320, 2.75903076030, 1589.31671276730},
-                {0.00000010412, 3.45236443524, 1073.85284167431},
-                {0.00000010436, 4.47365597327, 1596.43025976811},
-                {0.00000010171, 5.43199507160, 117.56368570370},
-                {0.00000007028, 4.53417325848, 109.96250373590},
-                {0.00000007310, 2.57204763203, 551.27542358051},
-                {0.00000005867, 2.76327576305, 95.73540973430},
-                {0.00000005482, 4.10723362761, 323.74923414091},
-                {0.00000005308, 4.17493851179, 330.86278114170},
-                {0.00000005155, 5.15140142409, 942.30587945250},
-                {0.00000004404, 0.12688032419, 729.00678401450},
-                {0.00000003429, 0.28270437324, 625.91400979590},
-                {0.00000003596, 4.90660665484, 110.45013870291},
-                {0.00000003379, 3.68348076405, 198.82818395289},
-                {0.00000002870, 1.39677778907, 529.44714761109},
-                {0.00000003465, 0.05238096193, 736.12033101530},
-                {0.00000002781, 1.08815967748, 1582.20316576650},
-                {0.00000002710, 2.38998980124, 441.06910236111},
-                {0.00000002621, 2.53533210188, 1169.83206889211},
-                {0.00000002851, 3.77906778388, 103.33659170210},
-                {0.00000003222, 3.34043716023, 433.95555536030},
-                {0.00000002252, 0.76740108556, 1155.60497489050},
-                {0.00000002643, 4.66187220612, 426.84200835950},
-                {0.00000002565, 6.07676238286, 6.86972951729},
-                {0.00000002154, 1.93925275699, 618.80046279510},
-                {0.00000002044, 1.48052835765, 419.72846135871},
-                {0.00000001513, 3.17740670423, 220.65645992230},
-                {0.00000001619, 5.33278235904, 633.02755679670},
-                {0.00000001503, 3.23684234354, 2119.00767786191},
-                {0.00000001422, 3.21419588854, 227.77000692311},
-                {0.00000001448, 0.63548633830, 1575.08961876571},
-                {0.00000001354, 0.37531194856, 956.53297345411},
-                {0.00000001398, 4.66226122647, 301.92095817150},
-                {0.00000001551, 2.51719031322, 640.14110379750},
-                {0.00000001193, 5.69090306000, 853.44019923550},
-                {0.00000001228, 3.32529407238, 536.56069461190},
-                {0.00000001153, 4.24056902908, 426.35437339250},
-                {0.00000001111, 1.82993073798, 309.52214013930},
-                {0.00000001322, 1.52760953063, 412.61491435790},
-                {0.00000001137, 1.63346191003, 1258.69774910910},
-                {0.00000000987, 5.01376257502, 522.33360061030},
-                {0.00000000937, 1.26232145651, 618.31282782810},
-                {0.00000000830, 2.55897013457, 412.12727939089},
-                {0.00000000868, 0.67939405545, 1038.28510667030},
-                {0.00000000819, 0.85929624974, 742.74624304909},
-                {0.00000000952, 0.08637090339, 831.61192326610},
-                {0.00000000903, 5.28542287743, 949.41942645330},
-                {0.00000000740, 1.11419070098, 832.09955823310},
-                {0.00000000726, 1.10542550627, 839.21310523390},
-                {0.00000000890, 2.70182272881, 647.25465079831},
-                {0.00000000672, 3.82581500735, 102.84895673509},
-                {0.00000000598, 4.03229295405, 337.97632814250},
-                {0.00000000711, 3.79919685217, 515.22005360950},
-                {0.00000000557, 2.29520680686, 1486.22393854870},
-                {0.00000000506, 2.29510505753, 1059.13811270570},
-                {0.00000000464, 1.33006467962, 117.07605073670},
-                {0.00000000479, 6.24011460202, 526.75338884040},
-                {0.00000000451, 0.61581620782, 1471.99684454710},
-                {0.00000000466, 1.24608768657, 533.11617631580},
-                {0.00000000396, 3.90384143043, 1603.54380676890},
-        };
-    }
-
-    private static void initialize_1_5()
-    {
-        classCoeff[0][5] = new double[][]{
-                {0.00000131509, 1.09720765135, 537.04832957890},
-                {0.00000126839, 3.14566028359, 522.82123557730},
-                {0.00000048033, 3.18247744923, 515.70768857651},
-                {0.00000034241, 1.11319864554, 544.16187657970},
-                {0.00000011284, 2.13882736419, 1066.73929467350},
-                {0.00000005229, 2.44608299466, 0.24381748350},
-                {0.00000003712, 3.28596952033, 1052.51220067191},
-                {0.00000004457, 5.28755623884, 529.93478257810},
-                {0.00000001949, 1.73980382124, 1073.85284167431},
-                {0.00000001738, 4.99242464275, 1059.62574767270},
-                {0.00000001716, 3.05846955779, 1045.39865367110},
-                {0.00000000879, 3.22039268284, 508.59414157570},
-                {0.00000000886, 4.22728564482, 551.27542358051},
-                {0.00000000665, 1.57102457622, 7.35736448430},
-                {0.00000000466, 2.85877844081, 1596.43025976811},
-        };
-    }
-
-    private static void initialize_2_0()
-    {
-        classCoeff[1][0] = new double[][]{
-                {5.19591755961, 5.31193570238, 529.93478257810},
-                {0.37839498798, 1.82085166331, 0.24381748350},
-                {0.12593400247, 5.66155354525, 1059.62574767270},
-                {0.01504469362, 5.44173895105, 522.82123557730},
-                {0.01476016965, 2.04668425902, 537.04832957890},
-                {0.00457751771, 6.01125846140, 1589.31671276730},
-                {0.00301186623, 3.60619939116, 7.35736448430},
-                {0.00381996183, 3.55684846636, 102.84895673509},
-                {0.00193179179, 3.45595232302, 426.84200835950},
-                {0.00148291722, 4.58538691397, 110.45013870291},
-                {0.00142171400, 3.99477000498, 633.02755679670},
-                {0.00133443745, 5.60526571675, 213.54291292150},
-                {0.00102719450, 4.59936785476, 1052.51220067191},
-                {0.00087327523, 1.56302538060, 529.44714761109},
-                {0.00114122292, 4.72894061449, 1162.71852189130},
-                {0.00072093376, 2.39043228390, 1066.73929467350},
-                {0.00059268404, 2.89107868692, 949.41942645330},
-                {0.00068329094, 1.86754138371, 846.32665223470},
-                {0.00030209026, 4.54186591923, 205.94173095370},
-                {0.00034007392, 3.31774226555, 419.24082639170},
-                {0.00026616582, 3.28146731015, 323.74923414091},
-                {0.00019727427, 0.07815264028, 2119.00767786191},
-                {0.00017749540, 5.55480049652, 419.72846135871},
-                {0.00017560618, 0.38432139040, 316.63568714010},
-                {0.00016308761, 4.16521301086, 736.12033101530},
-                {0.00016227856, 5.58096312351, 515.70768857651},
-                {0.00014406626, 0.49204486417, 743.23387801611},
-                {0.00011421526, 1.91077907185, 544.16187657970},
-                {0.00010835166, 1.62316112493, 103.33659170210},
-                {0.00012154356, 2.18151132345, 526.00262931501},
-                {0.00011992571, 5.29747555409, 533.86693584120},
-                {0.00008455662, 1.90801507290, 640.14110379750},
-                {0.00008193182, 3.99950988528, 1479.11039154791},
-                {0.00008713455, 5.09554104540, 1692.40948698591},
-                {0.00007420814, 4.41221626331, 956.53297345411},
-                {0.00007565993, 5.61829156567, 1265.81129610991},
-                {0.00008202922, 2.98736132250, 735.63269604830},
-                {0.00007717111, 4.84373719017, 1582.20316576650},
-                {0.00005320837, 5.81736694969, 526.75338884040},
-                {0.00005217759, 1.66167068417, 533.11617631580},
-                {0.00005238212, 4.68306641983, 522.33360061030},
-                {0.00005774716, 3.46781064586, 14.47091148511},
-                {0.00005907614, 0.27080776672, 109.96250373590},
-                {0.00004575512, 2.18559360651, 1376.01761732930},
-                {0.00003939870, 2.73821792955, 1596.43025976811},
-                {0.00004568269, 3.71733952931, 95.73540973430},
-                {0.00003036375, 5.51572587470, 309.03450517230},
-                {0.00002856672, 4.44258466917, 117.56368570370},
-                {0.00002820138, 0.55276658901, 632.53992182970},
-                {0.00002442859, 2.66976611024, 433.95555536030},
-                {0.00002534517, 4.61010280175, 625.91400979590},
-                {0.00002329307, 1.22761098421, 213.05527795450},
-                {0.00002430903, 2.32333761217, 220.65645992230},
-                {0.00002673686, 1.61750799699, 1169.83206889211},
-                {0.00002396896, 4.36221151655, 1045.39865367110},
-                {0.00002503065, 2.72526085550, 1052.02456570489},
-                {0.00001817118, 3.95907641758, 838.72547026689},
-                {0.00002014206, 4.88058047490, 1155.60497489050},
-                {0.00001501452, 3.03509232132, 942.30587945250},
-                {0.00001454916, 4.18897174343, 853.44019923550},
-                {0.00001628897, 3.92104093589, 75.02541605080},
-                {0.00001106760, 5.64732593309, 6.86972951729},
-                {0.00001080777, 0.43950996921, 316.14805217309},
-                {0.00001041755, 4.81940326599, 1795.50226120450},
-                {0.00000996914, 1.51229276007, 1272.92484311070},
-                {0.00000928877, 4.68477803335, 198.82818395289},
-                {0.00000934490, 0.42872611846, 2648.69864295650},
-                {0.00000858575, 2.14237368311, 529.88659846831},
-                {0.00000858481, 5.34018482611, 529.98296668790},
-                {0.00001088006, 5.84659040992, 527.48710202330},
-                {0.00001080077, 1.63448618678, 532.38246313290},
-                {0.00000958229, 6.06015323795, 149.80701461810},
-                {0.00000830762, 5.25949378156, 625.42637482889},
-                {0.00000815889, 1.66863411356, 1059.13811270570},
-                {0.00000838684, 5.82302302292, 3.68833577960},
-                {0.00000956674, 0.63174409236, 379.88395047650},
-                {0.00000694759, 3.69145164541, 1155.11733992350},
-                {0.00000673874, 4.52164149268, 2008.80135664250},
-                {0.00000865777, 0.10096193323, 426.35437339250},
-                {0.00000897730, 2.48087145339, 1368.41643536150},
-                {0.00000667422, 0.38400668832, 1368.90407032850},
-                {0.00000747747, 3.13927711168, 330.86278114170},
-                {0.00000693620, 6.05103606639, 1063.55790093581},
-                {0.00000787813, 5.11429018504, 839.21310523390},
-                {0.00000614978, 4.83788756913, 2111.89413086110},
-                {0.00000680352, 5.00624167079, 528.97157473160},
-                {0.00000678592, 2.47610569321, 530.89799042461},
-                {0.00000574130, 5.45801133464, 2222.10045208050},
-                {0.00000644748, 3.49842430477, 412.12727939089},
-                {0.00000742423, 2.38906516060, 206.42936592071},
-                {0.00000563602, 2.49278594908, 1055.69359440960},
-                {0.00000559331, 4.30651563744, 729.00678401450},
-                {0.00000647539, 3.55462405942, 984.84414910540},
-                {0.00000460071, 2.25575075230, 1073.85284167431},
-                {0.00000403270, 5.70558430216, 412.61491435790},
-                {0.00000539827, 3.74550987414, 38.37685312130},
-                {0.00000407824, 1.41749002358, 910.06255053810},
-                {0.00000319575, 4.92965704995, 941.81824448550},
-                {0.00000301187, 2.49363421546, 1905.70858242391},
-                {0.00000330186, 5.17961869781, 948.93179148630},
-                {0.00000334161, 5.66579079606, 76.50988875911},
-                {0.00000292241, 3.42430216936, 1471.50920958009},
-                {0.00000388960, 4.48974750232, 604.71638114540},
-                {0.00000387023, 2.95645101689, 455.15318401080},
-                {0.00000303530, 3.49353690436, 529.41351771630},
-                {0.00000303139, 3.98877079900, 530.45604743991},
-                {0.00000276704, 5.36713470530, 1486.22393854870},
-                {0.00000383222, 3.32437927262, 3.42521122121},
-                {0.00000267964, 0.44358626370, 309.52214013930},
-                {0.00000270827, 5.75355417511, 1258.69774910910},
-                {0.00000264824, 4.51845894459, 536.56069461190},
-                {0.00000342262, 2.22920476980, 1684.80830501809},
-                {0.00000254392, 2.01389858651, 1062.80714141041},
-                {0.00000289891, 5.95965968983, 742.74624304909},
-                {0.00000227013, 3.08717315673, 2126.12122486270},
-                {0.00000219942, 4.62508932315, 515.22005360950},
-                {0.00000304124, 0.18282516849, 6283.31966747490},
-                {0.00000289590, 4.54086778359, 305.10235190919},
-                {0.00000225217, 1.93067375292, 1699.52303398670},
-                {0.00000192734, 5.73241739600, 508.59414157570},
-                {0.00000181955, 5.49121576696, 1898.59503542310},
-                {0.00000180824, 4.33642523532, 1265.32366114289},
-                {0.00000234431, 5.63602319498, 1056.44435393500},
-                {0.00000210412, 2.44959263747, 490.57790666290},
-                {0.00000178960, 4.53074727531, 527.01402127131},
-                {0.00000184077, 4.02561581206, 1471.99684454710},
-                {0.00000177005, 2.95243370745, 532.85554388490},
-                {0.00000197754, 4.65708333161, 1575.08961876571},
-                {0.00000201548, 3.17115080743, 728.51914904750},
-                {0.00000164871, 1.90607027544, 529.18402305270},
-                {0.00000164585, 5.57619441078, 530.68554210351},
-                {0.00000191757, 5.01987763082, 569.29165849331},
-                {0.00000155012, 5.97029570081, 519.63984183961},
-                {0.00000216423, 0.97167033032, 453.18107633550},
-                {0.00000208270, 1.82244512865, 1439.75351563271},
-                {0.00000195461, 5.41018940348, 1685.29593998510},
-                {0.00000158021, 2.75745977713, 525.74199688410},
-                {0.00000155478, 4.72687069685, 534.12756827210},
-                {0.00000142916, 0.78899783107, 11.28951774740},
-                {0.00000166137, 2.08946903667, 224.58861318540},
-                {0.00000139568, 1.78496043471, 647.25465079831},
-                {0.00000194718, 3.73420656967, 1021.49271203491},
-                {0.00000142687, 4.63478591519, 1258.21011414209},
-                {0.00000136501, 4.43284450396, 99.40443843901},
-                {0.00000155156, 0.59258028164, 845.83901726770},
-                {0.00000148749, 5.65218277636, 301.92095817150},
-                {0.00000142483, 2.18605854450, 227.77000692311},
-                {0.00000128042, 0.68370572776, 1162.23088692429},
-                {0.00000129196, 3.16003204274, 1787.90107923670},
-                {0.00000176884, 1.60517740492, 10213.52936369450},
-                {0.00000120579, 1.51220345630, 540.22972331660},
-                {0.00000163945, 0.44168564921, 1.72829019180},
-                {0.00000135003, 2.22806039362, 540.98048284201},
-                {0.00000121846, 2.21825172668, 524.30570828560},
-                {0.00000120032, 5.26558395487, 535.56385687061},
-                {0.00000124238, 1.81767045547, 983.35967639710},
-                {0.00000123682, 1.77349067432, 525.26891613211},
-                {0.00000104430, 5.28755763826, 530.09484127250},
-                {0.00000104430, 2.19472066370, 529.77472388370},
-                {0.00000136458, 1.98358578274, 2001.20017467470},
-                {0.00000115988, 1.78467759503, 750.34742501690},
-                {0.00000104731, 1.75643097216, 551.27542358051},
-                {0.00000100945, 3.93006785022, 1581.71553079950},
-                {0.00000116158, 5.71003623422, 534.60064902410},
-                {0.00000122805, 3.33550817409, 524.51815660670},
-                {0.00000103104, 2.84340091211, 963.64652045490},
-                {0.00000115142, 5.03053273280, 2325.19322629910},
-                {0.00000120928, 4.14505296195, 535.35140854951},
-                {0.00000094293, 1.67313940200, 1802.61580820530},
-                {0.00000092521, 4.73521093464, 1383.13116433011},
-                {0.00000085964, 4.10984886270, 831.61192326610},
-                {0.00000091882, 1.46390569496, 441.06910236111},
-                {0.00000090884, 1.07143309047, 4.17597074660},
-                {0.00000096153, 3.31598430560, 21.58445848590},
-                {0.00000073111, 4.24231833095, 415.79630809560},
-                {0.00000072096, 5.03046144250, 529.72233425701},
-                {0.00000072096, 2.45181685946, 530.14723089920},
-                {0.00000095408, 4.36670590047, 35.66854013560},
-                {0.00000079513, 5.39469246290, 835.28095197081},
-                {0.00000068517, 4.34434516091, 1574.60198379870},
-                {0.00000069848, 4.98758055977, 518.88908231420},
-                {0.00000073288, 5.26346329278, 832.09955823310},
-                {0.00000073790, 2.94904494716, 1044.91101870410},
-                {0.00000062635, 5.05973221161, 2214.98690507971},
-                {0.00000072372, 4.07908178910, 511.77553531340},
-                {0.00000079774, 5.75946246773, 618.80046279510},
-                {0.00000084465, 2.02066705387, 834.79331700380},
-                {0.00000082357, 1.01171039674, 531.41925528640},
-                {0.00000068826, 3.41224512535, 548.09402984280},
-                {0.00000058994, 2.89954202085, 2104.29294889330},
-                {0.00000069760, 0.41067157485, 98.91680347199},
-                {0.00000074013, 2.84831536831, 174.18603700630},
-                {0.00000055680, 3.22751869738, 644.07325706060},
-                {0.00000077878, 0.16446911156, 528.45030986980},
-                {0.00000054479, 3.59326916447, 1898.10740045609},
-                {0.00000055045, 3.71209514844, 639.65346883050},
-                {0.00000053073, 0.40077660714, 1048.58004740881},
-                {0.00000052282, 3.04928542911, 960.46512671720},
-                {0.00000051560, 0.07590120615, 514.95692905111},
-                {0.00000052703, 5.01527928588, 2641.58509595570},
-                {0.00000066188, 2.16852924204, 230.32075334190},
-                {0.00000049711, 1.12330761789, 544.91263610510},
-                {0.00000049029, 1.60521275283, 387.48513244430},
-                {0.00000065960, 5.74241303706, 1364.97191706540},
-                {0.00000052715, 6.19618088387, 1057.17806711790},
-                {0.00000058796, 5.92972662777, 39.11305843170},
-                {0.00000059809, 2.23693717498, 91.80325647120},
-                {0.00000046231, 4.96698555728, 2538.49232173710},
-                {0.00000048382, 4.05069063760, 2428.28600051770},
-                {0.00000060070, 2.20914086650, 1062.07342822750},
-                {0.00000056428, 1.74520780023, 2317.59204433130},
-                {0.00000059945, 5.60557419941, 494.51005992600},
-                {0.00000043719, 1.93646240538, 2.20386307129},
-                {0.00000048181, 5.35729954844, 618.31282782810},
-                {0.00000049751, 0.31062429353, 679.49797971270},
-                {0.00000058551, 0.74219345496, 1058.14127496441},
-                {0.00000047067, 0.78230316551, 3178.38960805111},
-                {0.00000052897, 3.51938305050, 106.78110999820},
-                {0.00000041687, 5.68958878057, 1059.67393178251},
-                {0.00000041782, 1.87606562860, 71.09326278771},
-                {0.00000043674, 5.93139897307, 430.77416162260},
-                {0.00000044776, 3.31656958399, 312.70353387701},
-                {0.00000048969, 4.37808022467, 1038.28510667030},
-                {0.00000038530, 3.84889420737, 1148.00379292269},
-                {0.00000052006, 1.89655384425, 565.35950523021},
-                {0.00000047878, 5.49999542741, 1375.52998236229},
-                {0.00000038108, 5.00245348220, 1788.38871420371},
-                {0.00000049073, 2.58173317309, 523.78444342380},
-                {0.00000038297, 4.36934356478, 106.51798543980},
-                {0.00000041687, 2.49177765294, 1059.57756356290},
-                {0.00000037366, 5.83924605505, 2751.79141717511},
-                {0.00000041634, 0.09415541149, 1478.62275658089},
-                {0.00000041532, 3.87601872923, 1514.53511420000},
-                {0.00000041308, 3.06772374924, 10.53875822200},
-                {0.00000040633, 4.90197995789, 18.40306474821},
-                {0.00000042800, 1.68392525459, 113.89465699899},
-                {0.00000048985, 4.63153291545, 3340.85624418330},
-                {0.00000044449, 4.90238800208, 536.08512173241},
-                {0.00000034928, 5.86589465436, 672.38443271190},
-                {0.00000036386, 0.45310476388, 1361.79052332771},
-                {0.00000036844, 3.31552381410, 530.19541500900},
-                {0.00000036844, 4.16675448786, 529.67415014720},
-                {0.00000034444, 4.06056429191, 1890.99385345530},
-                {0.00000041479, 0.20923373847, 1593.24886603040},
-                {0.00000046613, 2.16989392147, 1513.05064149171},
-                {0.00000032971, 2.27730952602, 522.77305146750},
-                {0.00000035418, 5.49008702234, 522.86941968710},
-                {0.00000032742, 4.25989553271, 124.67723270450},
-                {0.00000034850, 2.92484630853, 1060.58895551920},
-                {0.00000030476, 2.81533288955, 1585.38455950421},
-                {0.00000029011, 5.89187559250, 121.49583896680},
-                {0.00000033477, 1.40109397770, 629.09540353360},
-                {0.00000028909, 5.57936571060, 2001.68780964171},
-                {0.00000029909, 1.98839129392, 537.00014546910},
-                {0.00000027497, 5.20349493393, 537.09651368871},
-                {0.00000028353, 3.29566866990, 2214.49927011270},
-                {0.00000027748, 2.64291022936, 2420.68481854989},
-                {0.00000033057, 4.51374272746, 568.06781821590},
-                {0.00000027675, 3.76752390296, 528.66275819090},
-                {0.00000029521, 2.73723500563, 1361.30288836070},
-                {0.00000027586, 3.71471356005, 531.20680696530},
-                {0.00000033930, 4.63376695563, 885.68352814990},
-                {0.00000027514, 1.45900145166, 114.38229196601},
-                {0.00000024495, 4.07450770524, 99.66756299740},
-                {0.00000024344, 3.20297940813, 935.19233245171},
-                {0.00000026492, 3.14995415897, 422.90985509640},
-                {0.00000030581, 0.04329676173, 142.20583265029},
-                {0.00000032993, 5.35577320707, 1058.66253982621},
-                {0.00000026693, 4.15534706030, 747.16603127920},
-                {0.00000023218, 4.67611113291, 216.98743121760},
-                {0.00000031446, 4.79362433774, 437.88770862340},
-                {0.00000023990, 4.10871208553, 523.34250043910},
-                {0.00000025905, 2.70346670886, 10.80188278040},
-                {0.00000030584, 3.14037291034, 1024.20102502061},
-                {0.00000022355, 6.15548689757, 106.03035047280},
-                {0.00000027098, 5.64808334984, 497.69145366371},
-                {0.00000029688, 5.93516522116, 760.01171843649},
-                {0.00000026696, 1.62294414819, 1158.78636862821},
-                {0.00000025786, 4.19746250367, 636.95971005981},
-                {0.00000024825, 4.87212515778, 1134.40734624000},
-                {0.00000022840, 0.83434687851, 459.08533727390},
-                {0.00000021870, 3.37410460471, 536.52706471711},
-                {0.00000022257, 5.18257233161, 521.85802773080},
-                {0.00000026904, 4.55348699023, 299.37021175271},
-                {0.00000020168, 4.63789217577, 2104.78058386030},
-                {0.00000019591, 2.60352149776, 1603.54380676890},
-                {0.00000023983, 1.51490151538, 2633.98391398789},
-                {0.00000023778, 1.81405059728, 562.17811149250},
-                {0.00000019633, 2.55698413130, 491.80174694030},
-                {0.00000026288, 6.09242729115, 454.66554904380},
-                {0.00000021128, 5.07121999690, 934.70469748469},
-                {0.00000019074, 0.54048693886, 327.68138740401},
-                {0.00000018465, 3.58841586091, 1464.39566257930},
-                {0.00000021220, 4.75365640451, 495.99453263430},
-                {0.00000024986, 3.56749136042, 860.55374623631},
-                {0.00000018596, 0.57894147959, 5.87289177600},
-                {0.00000024136, 0.56079031346, 380.37158544351},
-                {0.00000018303, 3.05720710697, 953.35157971640},
-                {0.00000024099, 2.66580382654, 621.98185653281},
-                {0.00000019533, 0.33685720004, 1098.98262358790},
-                {0.00000017623, 3.77983317632, 2207.38572311189},
-                {0.00000018076, 0.42847308235, 600.78422788230},
-                {0.00000017281, 4.85465411050, 191.71463695210},
-                {0.00000017873, 2.29598676123, 538.01153742540},
-                {0.00000017226, 2.68832441082, 2435.39954751850},
-                {0.00000021244, 4.71917522298, 1166.65067515440},
-                {0.00000020337, 5.96704683966, 1795.01462623750},
-                {0.00000016743, 4.81175858246, 2531.37877473630},
-                {0.00000019199, 2.72712183072, 563.87503252191},
-                {0.00000016833, 2.43728533530, 24.62283987170},
-                {0.00000021175, 0.27960745033, 88.62186273350},
-                {0.00000016556, 2.28023588713, 2229.21399908130},
-                {0.00000016153, 4.90017932817, 1049.33080693420},
-                {0.00000019785, 5.64301732154, 505.55576018990},
-                {0.00000018422, 2.18247642641, 1969.44448072730},
-                {0.00000019816, 2.08941014873, 96.22304470130},
-                {0.00000016272, 2.33706582122, 527.22646959241},
-                {0.00000016170, 5.14508707196, 532.64309556381},
-                {0.00000015510, 5.66925542318, 988.77630236850},
-                {0.00000015594, 3.28617425582, 39.60069339870},
-                {0.00000015853, 1.45510339077, 501.62360692681},
-                {0.00000016153, 2.18239496410, 31.99951143090},
-                {0.00000018509, 1.84602176090, 554.31380496631},
-                {0.00000015127, 1.98189390748, 460.78225830330},
-                {0.00000016461, 4.35420228107, 220.16882495529},
-                {0.00000019878, 5.33036403802, 1691.92185201890},
-                {0.00000014712, 3.84306627886, 1059.10448281091},
-                {0.00000017901, 1.98272465699, 107.26874496520},
-                {0.00000014484, 3.28758641825, 1070.67144793660},
-                {0.00000015909, 0.96629585192, 4.90968392950},
-                {0.00000014674, 6.01692843272, 558.24595822940},
-                {0.00000014766, 3.88224084450, 2744.67787017430},
-                {0.00000018715, 5.44782508771, 523.71500745461},
-                {0.00000014896, 1.36370078487, 1588.82907780029},
-                {0.00000017816, 3.79294770830, 74.53778108379},
-                {0.00000014616, 3.00562662663, 2530.89113976930},
-                {0.00000018292, 3.40569854290, 1151.67282162740},
-                {0.00000018426, 2.03446098690, 536.15455770160},
-                {0.00000013673, 0.68703780947, 732.18817775220},
-                {0.00000013765, 6.04929617915, 67.42423408300},
-                {0.00000014986, 0.08205821916, 2015.91490364330},
-                {0.00000013750, 0.52643748579, 451.22103074770},
-                {0.00000013701, 5.78256715764, 1586.13531902961},
-                {0.00000013415, 2.38228960626, 2737.07668820650},
-                {0.00000013707, 2.03789341879, 498.91529394111},
-                {0.00000013957, 2.36417098087, 1592.49810650500},
-                {0.00000012833, 0.65025343158, 423.66061462181},
-                {0.00000012935, 5.50182673109, 599.08730685290},
-                {0.00000013524, 3.44876736954, 2655.81218995730},
-                {0.00000015347, 4.64705200559, 323.26159917390},
-                {0.00000014250, 1.72247897628, 462.26673101160},
-                {0.00000014314, 4.07018795871, 1551.18367712950},
-                {0.00000016350, 3.38063086403, 1290.19031849811},
-                {0.00000012174, 5.62306550613, 2318.07967929830},
-                {0.00000014758, 5.80599958132, 945.48727319021},
-                {0.00000013727, 4.06971719103, 113.63153244060},
-                {0.00000012014, 1.59699399907, 938.37372618940},
-                {0.00000012669, 5.59895980244, 597.60283414461},
-                {0.00000012684, 5.44519522050, 560.95427121510},
-                {0.00000012686, 1.24409527288, 528.23786154870},
-                {0.00000012686, 6.23818302908, 531.63170360751},
-                {0.00000011902, 0.29922284195, 636.20895053440},
-                {0.00000015029, 6.08292509395, 155.53915477459},
-                {0.00000014712, 4.33830015465, 1060.14701253450},
-                {0.00000013153, 4.24131500267, 34.18406742730},
-                {0.00000011492, 2.74650212454, 0.71939036300},
-                {0.00000011728, 0.66803059115, 608.64853440851},
-                {0.00000014802, 2.91983201484, 760.49935340350},
-                {0.00000014208, 4.97676580268, 151.29148732640},
-                {0.00000013247, 4.74780140574, 5.17280848790},
-                {0.00000013608, 5.75341457451, 28.06735816780},
-                {0.00000011186, 1.14738473449, 531.37107117660},
-                {0.00000011186, 0.05170826029, 528.49849397960},
-                {0.00000014801, 1.71286185185, 378.39947776819},
-                {0.00000011873, 2.54431600917, 1677.69475801730},
-                {0.00000010898, 4.59375119105, 629.84616305900},
-                {0.00000014422, 2.69020416688, 381.36842318480},
-                {0.00000010799, 5.38556202520, 1148.49142788971},
-                {0.00000010862, 3.06906378219, 248.96763557360},
-                {0.00000010584, 2.85396979697, 430.02340209721},
-                {0.00000014240, 3.01342561614, 1173.76422215520},
-                {0.00000010278, 4.70239533674, 209.87388421679},
-                {0.00000011280, 3.91394243595, 46.71424039951},
-                {0.00000010327, 5.95352479669, 606.20085385370},
-                {0.00000013270, 2.80639524732, 1041.46650040800},
-                {0.00000013786, 2.98010668249, 337.97632814250},
-                {0.00000010252, 5.63891846478, 1891.48148842230},
-                {0.00000013304, 0.85030585719, 63.49208081989},
-                {0.00000009721, 5.24565438793, 1159.53712815361},
-                {0.00000009974, 3.07602930457, 9.80504503910},
-                {0.00000010564, 4.77844769270, 1251.09656714130},
-                {0.00000012937, 2.55201590769, 944.73900579230},
-                {0.00000012666, 4.49628001198, 721.89323701370},
-                {0.00000009141, 3.31988100263, 1780.78753223589},
-                {0.00000009377, 3.52298776594, 2523.77759276850},
-                {0.00000008992, 1.05072894634, 1165.89991562901},
-                {0.00000009074, 2.27653272320, 754.27957828001},
-                {0.00000008886, 0.87970824582, 528.71094230071},
-                {0.00000008886, 0.31938474896, 531.15862285550},
-                {0.00000008815, 0.50994270535, 302.40859313851},
-                {0.00000012114, 3.28137353918, 1020.26887175750},
-                {0.00000008872, 3.19935594712, 194.89603068979},
-                {0.00000010983, 0.29488310355, 1.24065522479},
-                {0.00000012190, 4.57593024424, 72.31710306511},
-                {0.00000008635, 4.87675285165, 1056.70498636590},
-                {0.00000010308, 1.29678542884, 2950.37578364450},
-                {0.00000011595, 3.43106394734, 1289.70268353110},
-                {0.00000008931, 1.99292771548, 956.04533848709},
-                {0.00000010790, 2.13326549126, 529.04101070080},
-                {0.00000010790, 5.34901281070, 530.82855445540},
-                {0.00000008192, 5.36020095318, 13.98327651810},
-                {0.00000007989, 2.25562114310, 1058.87498814731},
-                {0.00000010336, 1.83209374906, 73.54094334250},
-                {0.00000008394, 1.01712525126, 525.79018099390},
-                {0.00000010766, 5.53480384660, 2111.40649589409},
-                {0.00000007749, 0.18520854013, 522.07047605190},
-                {0.00000008309, 0.18252654751, 534.07938416230},
-                {0.00000010415, 3.01801395976, 319.81708087780},
-                {0.00000009365, 0.13738783165, 415.30867312860},
-                {0.00000007601, 1.01410942526, 537.79908910430},
-                {0.00000008635, 3.30118117017, 1062.54650897950},
-                {0.00000007859, 5.09973255259, 1065.04237364410},
-                {0.00000007602, 5.07538034057, 1063.81853336670},
-                {0.00000010315, 1.81132365985, 456.63765671910},
-                {0.00000007989, 5.92574529041, 1060.37650719810},
-                {0.00000008083, 3.25152658141, 533.37930087419},
-                {0.00000007529, 2.72685691181, 2847.28300942589},
-                {0.00000008490, 1.21946880524, 202.00957769060},
-                {0.00000007329, 3.75411316314, 148.32254190981},
-                {0.00000007187, 5.83227131060, 30.77567115350},
-                {0.00000009756, 5.09705846628, 2008.31372167550},
-                {0.00000008727, 1.02210873113, 1202.07539780650},
-                {0.00000007941, 1.93425844896, 2332.30677329990},
-                {0.00000006801, 1.23043017312, 1054.95988122670},
-                {0.00000008387, 4.41387774831, 2957.97696561230},
-                {0.00000007512, 5.35620649098, 952.60082019101},
-                {0.00000007552, 4.91464670813, 842.39449897160},
-                {0.00000007680, 4.58781712019, 334.79493440480},
-                {0.00000009231, 5.41598830183, 2854.88419139370},
-                {0.00000008791, 5.81348495155, 483.46435966210},
-                {0.00000007389, 0.72681677735, 202.49721265760},
-                {0.00000006847, 0.68329056266, 320.56784040320},
-                {0.00000008929, 5.67328579883, 603.23190843711},
-                {0.00000006520, 2.12029864826, 3053.46855786309},
-                {0.00000006721, 5.17441034834, 1912.82212942470},
-                {0.00000008859, 2.25656725982, 217.47506618460},
-                {0.00000008710, 1.69360357974, 576.40520549410},
-                {0.00000007535, 1.43209684879, 1061.11022038100},
-                {0.00000006826, 0.61078031935, 284.39235822571},
-                {0.00000006401, 6.21089623686, 117.07605073670},
-                {0.00000006884, 3.68154907894, 277.27881122490},
-                {0.00000006632, 1.40967759841, 2.93757625420},
-                {0.00000007529, 3.26594046441, 423.17297965479},
-                {0.00000006885, 3.41541733477, 946.23803271561},
-                {0.00000006200, 1.01085916847, 1272.43720814370},
-                {0.00000006730, 0.63714531653, 531.57931398080},
-                {0.00000006730, 0.56194767825, 528.29025117541},
-                {0.00000006259, 4.17880072433, 142.69346761730},
-                {0.00000007602, 3.10155768831, 1055.43296197871},
-                {0.00000007329, 1.34623356610, 5.97595764000},
-                {0.00000005901, 5.92152237589, 1251.58420210830},
-                {0.00000006013, 5.10743465878, 1035.24672528451},
-                {0.00000005953, 2.93486163481, 498.44221318910},
-                {0.00000007833, 5.94245831651, 68.90870679129},
-                {0.00000006343, 1.17088877750, 199.31581891990},
-                {0.00000005843, 5.61675953661, 1276.85699637381},
-                {0.00000007666, 3.22002799193, 247.48316286530},
-                {0.00000005663, 3.16164223175, 1091.86907658711},
-                {0.00000005605, 1.26367531224, 513.47245634280},
-                {0.00000005524, 4.60275692299, 2847.77064439291},
-                {0.00000007612, 4.10551473719, 352.06040979221},
-                {0.00000005914, 3.68583540418, 1054.20912170131},
-                {0.00000007627, 0.07913853996, 405.50136735710},
-                {0.00000005507, 4.54723285635, 561.42735196710},
-                {0.00000005497, 4.40642501831, 810.90192958261},
-                {0.00000005666, 6.05825689215, 1064.29161411871},
-                {0.00000005378, 6.21860298014, 546.39710881341},
-                {0.00000006319, 3.19557491036, 1493.33748554950},
-                {0.00000006876, 1.94945842378, 408.19512612779},
-                {0.00000005745, 1.20632367499, 430.28652665560},
-                {0.00000006791, 5.62982891906, 303.61787920090},
-                {0.00000007093, 4.40070510881, 740.05248427840},
-                {0.00000006815, 1.54708468197, 1053.99667338020},
-                {0.00000005111, 2.62007621305, 1176.94561589290},
-                {0.00000005065, 2.54426472948, 1059.46568897830},
-                {0.00000006697, 3.57793403810, 685.23011986920},
-                {0.00000005674, 4.57629153060, 1567.48843679789},
-                {0.00000005759, 4.23445817390, 166.58485503849},
-                {0.00000004933, 1.00231605898, 245.29860686890},
-                {0.00000005446, 1.85472048115, 757.46097201770},
-                {0.00000005053, 0.08352218214, 1678.18239298430},
-                {0.00000005999, 2.52195451833, 908.57807782981},
-                {0.00000005382, 2.05458907199, 512.66930719071},
-                {0.00000004943, 3.25188141823, 2840.16946242510},
-                {0.00000005065, 5.63710170403, 1059.78580636710},
-                {0.00000005075, 4.81676406685, 508.10650660869},
-                {0.00000004955, 1.84826604162, 1069.92068841121},
-                {0.00000005153, 5.42768922381, 547.20025796550},
-                {0.00000004607, 5.26442210740, 2634.47154895491},
-                {0.00000004755, 4.04041807467, 415.04804069769},
-                {0.00000004775, 2.39668916090, 1994.08662767389},
-                {0.00000004590, 3.05724325625, 2097.17940189250},
-                {0.00000004911, 6.22970806427, 512.52629483880},
-                {0.00000004553, 1.47995846767, 509.48791345300},
-                {0.00000004672, 2.03709808328, 234.88355392390},
-                {0.00000004578, 5.57782400113, 305.58998687620},
-                {0.00000005193, 5.59541519165, 320.08020543620},
-                {0.00000006202, 2.81584993974, 26088.14695905770},
-                {0.00000005852, 5.17781036835, 2427.79836555070},
-                {0.00000004324, 6.00231982961, 550.38165170320},
-                {0.00000004410, 0.89841714751, 1127.29379923920},
-                {0.00000004238, 1.37716518074, 92.29089143820},
-                {0.00000004881, 2.90321352590, 725.07463075140},
-                {0.00000004688, 5.54226574385, 504.80500066450},
-                {0.00000004432, 3.21149906214, 1490.15609181181},
-                {0.00000004144, 1.71460956771, 970.76006745570},
-                {0.00000005737, 3.37724812325, 707.80915536400},
-                {0.00000004256, 2.95543164571, 512.40867475980},
-                {0.00000004139, 5.15386793268, 470.13103753780},
-                {0.00000004547, 0.52585543495, 857.37235249860},
-                {0.00000004431, 4.63632908961, 519.90047427050},
-                {0.00000005723, 5.51760124056, 1065.25482196520},
-                {0.00000004278, 0.51107431683, 739.30172475301},
-                {0.00000005621, 4.76211011081, 280.72332952100},
-                {0.00000005007, 4.52013629124, 492.06237937121},
-                {0.00000003987, 1.06371097161, 448.18264936190},
-                {0.00000004559, 1.08649118563, 3266.76765330109},
-                {0.00000004072, 3.65895344457, 3061.06973983091},
-                {0.00000004072, 4.52684665530, 547.46089039640},
-                {0.00000005087, 3.27441637503, 114.64292439690},
-                {0.00000004392, 1.93950112163, 555.06456449170},
-                {0.00000004733, 0.67137979921, 1087.93692332400},
-                {0.00000004590, 0.81771313519, 209.12312469139},
-                {0.00000004061, 0.84886600079, 1578.27101250340},
-                {0.00000004043, 3.31066824827, 917.17609753890},
-                {0.00000004781, 0.95570708773, 355.99256305531},
-                {0.00000003840, 0.34108693081, 479.53220639900},
-                {0.00000004229, 5.02030190341, 202.76033721600},
-                {0.00000005079, 4.10108252940, 100.40127618030},
-                {0.00000003809, 5.04402768610, 63.97971578690},
-                {0.00000003869, 2.47318190725, 3163.67487908250},
-                {0.00000004615, 3.86069192120, 8.32057233081},
-                {0.00000004615, 0.71909926761, 7.83293736379},
-                {0.00000004628, 2.95946199977, 567.80718578500},
-                {0.00000004429, 3.33484643205, 1025.68549772890},
-                {0.00000004166, 1.09654835252, 1587.83224005900},
-                {0.00000004232, 2.53213396378, 2042.74160658630},
-                {0.00000003934, 3.61075823093, 1894.66288216001},
-                {0.00000004119, 3.84993499525, 782.59075393131},
-                {0.00000004305, 2.47219780188, 237.92193530970},
-                {0.00000004647, 5.82365364657, 294.80741117069},
-                {0.00000003571, 2.08868123477, 1080.96638867510},
-                {0.00000003908, 0.59904528751, 775.47720693050},
-                {0.00000004183, 5.36832575933, 3171.27606105030},
-                {0.00000003544, 4.38396042060, 849.50804597240},
-                {0.00000004668, 0.56754531710, 391.41728570740},
-                {0.00000003825, 3.58651228704, 1013.15532475670},
-                {0.00000004490, 4.47294860578, 1066.25165970650},
-                {0.00000003497, 2.80136092523, 1059.83819599381},
-                {0.00000004592, 6.18306867454, 105.29663728990},
-                {0.00000003507, 2.32963957274, 589.73852761840},
-                {0.00000003460, 3.00015782763, 210.36151918381},
-                {0.00000003472, 0.85727261261, 580.33735875721},
-                {0.00000004742, 1.07044014702, 1214.92108496379},
-                {0.00000004236, 6.09342108227, 458.59770230690},
-                {0.00000004571, 4.85712461466, 2324.70559133209},
-                {0.00000003680, 1.21278522879, 547.34327031741},
-                {0.00000003342, 0.15031101728, 611.68691579430},
-                {0.00000003327, 3.80363745236, 416.05943265400},
-                {0.00000003357, 3.57120537469, 102.89714084490},
-                {0.00000003597, 0.70360923125, 81.50831573269},
-                {0.00000003697, 2.78415450903, 326.93062787860},
-                {0.00000003305, 5.62616411694, 3068.18328683170},
-                {0.00000003332, 0.38986283721, 102.80077262530},
-                {0.00000003850, 3.22603061160, 223.10414047710},
-                {0.00000003389, 4.40791637427, 1050.06452011710},
-                {0.00000003693, 2.30849108411, 100.88891114730},
-                {0.00000003520, 5.90372622394, 355.50492808829},
-                {0.00000003747, 3.26414742353, 101.88574888859},
-                {0.00000003497, 5.38000550828, 1059.41329935160},
-                {0.00000004041, 3.71442466403, 80.75755620730},
-                {0.00000003215, 5.24772956727, 2207.87335807890},
-                {0.00000003350, 3.76399871254, 1077.78499493740},
-                {0.00000003628, 4.56818292330, 1567.97607176490},
-                {0.00000004303, 0.65966587333, 374.15181032000},
-                {0.00000003455, 3.42091235598, 489.09343395460},
-                {0.00000004402, 2.90784212539, 987.55246209111},
-                {0.00000003638, 0.71407157961, 103.81216458159},
-                {0.00000003112, 5.91930979689, 422.42222012939},
-                {0.00000003124, 1.89592603599, 3369.86042751970},
-                {0.00000003303, 2.85125218700, 539.96909088571},
-                {0.00000003803, 3.64352844828, 852.95256426850},
-                {0.00000003982, 5.66129151662, 986.32862181370},
-                {0.00000003666, 1.43198782274, 77.99436146740},
-                {0.00000004012, 0.62727446399, 668.45227944880},
-                {0.00000003922, 0.99606286392, 1215.40871993080},
-                {0.00000003967, 1.33281131206, 486.64575339981},
-                {0.00000003197, 3.65023662550, 1169.34443392509},
-                {0.00000003122, 3.82899115941, 69.39634175830},
-                {0.00000003954, 2.04035652666, 1123.36164597610},
-                {0.00000003201, 2.09572762487, 145.87486135500},
-                {0.00000003935, 3.38057342433, 306.58682461749},
-                {0.00000002958, 3.08516031897, 531.94052014820},
-                {0.00000002958, 4.39711798299, 527.92904500800},
-                {0.00000003054, 0.64525087742, 654.36819779910},
-                {0.00000002909, 4.40702607221, 536.93645499430},
-                {0.00000002909, 3.07525222975, 522.93311016190},
-                {0.00000003738, 3.63891493774, 977.73060210460},
-                {0.00000003893, 4.26177377165, 812.38640229090},
-                {0.00000003604, 0.46524982149, 78.46993434690},
-                {0.00000002867, 5.79071320564, 1269.74344937300},
-                {0.00000003118, 4.06136594960, 570.77613120160},
-                {0.00000003676, 1.06915971991, 226.07308589371},
-                {0.00000003463, 2.60208545891, 1591.76439332211},
-                {0.00000002870, 0.26308381178, 1586.86903221250},
-                {0.00000002889, 4.31193778169, 504.66198831261},
-                {0.00000003107, 0.25809701396, 1905.22094745690},
-                {0.00000002833, 3.77574980636, 911.54702324640},
-                {0.00000003315, 2.51210337945, 1065.84552279621},
-                {0.00000003556, 6.14962768045, 573.22381175640},
-                {0.00000002918, 5.73628341762, 967.57867371801},
-                {0.00000002676, 0.03275249694, 3281.48238226970},
-                {0.00000003689, 1.70487674721, 850.25880549781},
-                {0.00000003016, 4.27158737525, 3274.36883526891},
-                {0.00000003204, 4.77926383698, 2744.19023520730},
-                {0.00000002667, 5.49050260804, 97.91996573070},
-                {0.00000002647, 0.88177591711, 134.82916109110},
-                {0.00000002715, 3.16963522250, 555.20757684360},
-                {0.00000003135, 3.15988503239, 433.46792039329},
-                {0.00000002639, 2.26104148377, 144.39038864671},
-                {0.00000002912, 4.27421635124, 1883.88030645450},
-                {0.00000003601, 0.47145843816, 991.95769610620},
-                {0.00000002745, 0.40065346771, 33.69643246030},
-                {0.00000002589, 0.44277003092, 93.28772917949},
-                {0.00000002531, 1.95807014850, 108.00245814810},
-                {0.00000002821, 1.06656582689, 503.10807963510},
-                {0.00000002585, 2.99923552183, 3156.56133208170},
-                {0.00000003142, 5.99895869762, 520.37355502251},
-                {0.00000003142, 4.62490556976, 539.49601013370},
-                {0.00000002731, 2.80890465706, 537.16020416351},
-                {0.00000002731, 4.67337364490, 522.70936099270},
-                {0.00000003288, 0.54732144888, 685.71775483620},
-                {0.00000002456, 1.47279271371, 1074.60360119970},
-                {0.00000002382, 3.93679555128, 112.89781925770},
-                {0.00000002385, 0.89159302945, 1475.17823828480},
-                {0.00000002456, 0.42538841262, 1044.64789414570},
-                {0.00000002435, 5.46783161031, 824.98601123230},
-                {0.00000002637, 0.13252276208, 556.76148552110},
-                {0.00000003031, 4.10608213511, 538.53280228720},
-                {0.00000003031, 3.37619616684, 521.33676286901},
-                {0.00000002342, 1.63307892366, 518.40144734719},
-                {0.00000002443, 2.60924692115, 749.85979004990},
-                {0.00000003226, 2.87915335731, 536.83588125780},
-                {0.00000003226, 4.60312494465, 523.03368389840},
-                {0.00000002356, 3.28453581204, 285.61619850311},
-                {0.00000002452, 0.62027944096, 1090.64523630970},
-                {0.00000002986, 6.19494169694, 491.31411197330},
-                {0.00000002323, 4.87403397794, 530.56792202451},
-                {0.00000002323, 2.60824432402, 529.30164313170},
-                {0.00000003003, 1.51547464417, 108.96566599461},
-                {0.00000003049, 2.91433771038, 1438.26904292440},
-                {0.00000003159, 5.47330952290, 457.86149699650},
-                {0.00000003023, 6.11184318218, 532.90372799470},
-                {0.00000003023, 1.37043511978, 526.96583716151},
-                {0.00000002581, 4.04501510183, 1483.04254481100},
-                {0.00000002851, 6.19876101268, 731.70054278519},
-                {0.00000002627, 2.23895869315, 1095.05047032480},
-                {0.00000002198, 2.83199855971, 2413.57127154910},
-                {0.00000002533, 0.10403644084, 12566.39551746630},
-                {0.00000002183, 4.47686604255, 2421.17245351690},
-                {0.00000002273, 6.03923806707, 1589.36489687710},
-                {0.00000002201, 4.15470899026, 2044.22607929460},
-                {0.00000002304, 2.84269200130, 1053.47540851841},
-                {0.00000002878, 1.28856851089, 28.55499313480},
-                {0.00000002523, 1.46775781223, 909.57491557110},
-                {0.00000002847, 3.89864676802, 1441.23798834100},
-                {0.00000002211, 5.00686455045, 376.43943218040},
-                {0.00000002767, 5.82488714403, 39.86132582961},
-                {0.00000002242, 4.98350060741, 6681.46867088311},
-                {0.00000002284, 1.57111216540, 902.94900353731},
-                {0.00000002122, 4.38960996491, 543.67424161270},
-                {0.00000002251, 2.16205964084, 1067.70250252000},
-                {0.00000002782, 5.20069642737, 451.69660362719},
-                {0.00000002107, 4.35933463496, 824.49837626530},
-                {0.00000002308, 4.70844962325, 732.93893727761},
-                {0.00000002055, 5.91536534525, 526.26575387340},
-                {0.00000002624, 2.11125071189, 1261.87914284680},
-                {0.00000002059, 4.36499566626, 1254.76559584600},
-                {0.00000002523, 0.74912600326, 372.77040347569},
-                {0.00000002035, 3.63513892304, 535.77630519170},
-                {0.00000002035, 3.84713937892, 524.09325996451},
-                {0.00000002005, 2.40063053691, 843.14525849700},
-                {0.00000002366, 1.24399407734, 3708.08057314570},
-                {0.00000001959, 0.76199223049, 163.14033674240},
-                {0.00000002451, 2.98565323941, 739.56484931140},
-                {0.00000002474, 0.77300859930, 2122.93983112501},
-                {0.00000001935, 4.38042537965, 3164.16251404950},
-                {0.00000002548, 0.72951803247, 1128.77827194750},
-                {0.00000002140, 3.75230805584, 408.68276109481},
-                {0.00000002089, 5.41923470052, 60.04756252381},
-                {0.00000002555, 1.04261904815, 231.80522605020},
-                {0.00000002289, 2.53062848354, 429.28968891431},
-                {0.00000002652, 4.81114494152, 405.01373239010},
-                {0.00000002044, 4.84208091423, 241.36645360580},
-                {0.00000001959, 2.21322194743, 3480.06674873909},
-                {0.00000001890, 6.01613452327, 501.48059457490},
-                {0.00000002361, 1.03417291975, 1819.88128359270},
-                {0.00000002290, 3.64742542679, 386.99749747730},
-                {0.00000001839, 3.04284528593, 511.28790034640},
-                {0.00000001873, 0.59051569111, 1209.18894480731},
-                {0.00000001837, 4.84296500864, 111.41334654940},
-                {0.00000002510, 1.99461282730, 602.00806815971},
-                {0.00000002186, 3.48581623798, 1553.89199011520},
-                {0.00000001875, 3.39330212644, 1590.27992061380},
-                {0.00000002325, 1.42158890974, 488.88098563350},
-                {0.00000001960, 1.10678196058, 109.48693085641},
-                {0.00000002511, 6.05202626734, 167.07249000551},
-                {0.00000002012, 0.85932602524, 3583.15952295770},
-                {0.00000002198, 4.38757351366, 297.98880490840},
-                {0.00000002129, 5.01247506157, 821.94762984651},
-                {0.00000002219, 4.67528803846, 2641.09746098870},
-                {0.00000001954, 5.49745211708, 1415.37449324450},
-                {0.00000001787, 3.66506787987, 1059.88638010361},
-                {0.00000001933, 2.03855165852, 1688.47733372280},
-                {0.00000002173, 5.25212332069, 1065.77608682700},
-                {0.00000002273, 2.84142693944, 1589.26852865751},
-                {0.00000002311, 4.82462753962, 36.89238041300},
-                {0.00000002005, 1.05923309333, 746.67839631219},
-                {0.00000001716, 2.65554696835, 504.07128748160},
-                {0.00000001970, 2.68003788885, 363.10611005610},
-                {0.00000001879, 6.24564932571, 1994.57426264090},
-                {0.00000001715, 5.11493591992, 2950.86341861150},
-                {0.00000001859, 0.05233968738, 2221.61281711350},
-                {0.00000001760, 4.24064604671, 1051.54899282540},
-                {0.00000001679, 2.30938727968, 2310.47849733050},
-                {0.00000002127, 4.22476224615, 945.22664075931},
-                {0.00000001827, 1.41025945774, 110.49832281271},
-                {0.00000001954, 4.77927442918, 1446.86706263350},
-                {0.00000002077, 1.69841550605, 724.58699578440},
-                {0.00000002096, 6.06068383411, 570.98857952271},
-                {0.00000001615, 5.64607488965, 1052.56038478170},
-                {0.00000001608, 4.82673133397, 555.79827767460},
-                {0.00000001681, 3.99691992442, 516.44140175940},
-                {0.00000001681, 3.48535837754, 543.42816339680},
-                {0.00000001618, 3.60392485527, 112.41018429070},
-                {0.00000001962, 4.18314006350, 836.76542467910},
-                {0.00000001962, 4.18314006350, 836.27778971210},
-                {0.00000001620, 2.47522214520, 683.43013297580},
-                {0.00000001551, 0.77201297425, 593.67068088151},
-                {0.00000001819, 4.45299196922, 3060.58210486390},
-                {0.00000001634, 6.04073888889, 56.37853381910},
-                {0.00000001791, 4.81648790148, 502.84744720420},
-                {0.00000002008, 0.95169324404, 487.39651292520},
-                {0.00000001551, 1.50150617084, 3686.25229717630},
-                {0.00000001511, 0.18786787527, 1518.46726746311},
-                {0.00000001910, 3.25977004432, 228.83628063359},
-                {0.00000001738, 5.42191577135, 1226.45442019471},
-                {0.00000001471, 4.48878361688, 350.57593708390},
-                {0.00000001466, 3.39788090489, 426.79382424970},
-                {0.00000001636, 4.00371950748, 2200.27217611110},
-                {0.00000001940, 1.85697551551, 1432.63996863190},
-                {0.00000001484, 2.41547562672, 995.88984936931},
-                {0.00000001673, 2.66579038613, 557.02211795201},
-                {0.00000002009, 2.30992514879, 417.28078080390},
-                {0.00000001573, 6.26224126504, 425.87880051300},
-                {0.00000001562, 5.88372601556, 416.54706762100},
-                {0.00000001419, 4.93673377317, 216.72430665921},
-                {0.00000001787, 4.51629855363, 1059.36511524180},
-                {0.00000001600, 1.96218529204, 1268.99268984760},
-                {0.00000001459, 0.29602595476, 426.89019246930},
-                {0.00000001860, 5.30365267047, 1160.27084133651},
-                {0.00000001409, 5.78259738624, 383.81610373959},
-                {0.00000001599, 5.70543219748, 1588.35350492080},
-                {0.00000001385, 0.39231250148, 466.19888427470},
-                {0.00000001645, 4.96839986582, 630.57987624190},
-                {0.00000001867, 4.87609131592, 1744.61205005840},
-                {0.00000001796, 0.70669960542, 424.39432780471},
-                {0.00000001802, 0.24900630046, 572.47305223100},
-                {0.00000001563, 1.20698143227, 312.21589891000},
-                {0.00000001811, 5.89884616616, 1340.59289467720},
-                {0.00000001342, 4.09814653190, 849.77117053080},
-                {0.00000001409, 2.76107795785, 3472.95320173830},
-                {0.00000001340, 4.11708835504, 1058.35372328550},
-                {0.00000001342, 3.46763239406, 3377.46160948750},
-                {0.00000001764, 5.75117118327, 312.96665843540},
-                {0.00000001801, 0.07014275858, 833.79647926250},
-                {0.00000001801, 3.21173541218, 833.30884429549},
-                {0.00000001504, 2.41769920056, 1052.46401656211},
-                {0.00000001346, 5.55344965198, 1066.78747878330},
-                {0.00000001711, 0.54051201789, 1363.48744435711},
-                {0.00000001382, 5.00462801017, 24.13520490470},
-                {0.00000001636, 4.96830039642, 422.64922266551},
-                {0.00000001714, 1.09473818717, 1165.16620244611},
-                {0.00000001547, 5.14492139001, 1097.75878331050},
-                {0.00000001706, 5.12109897845, 1696.34164024900},
-                {0.00000001293, 1.41573154819, 394.59867944510},
-                {0.00000001361, 5.15743428812, 1579.02177202880},
-                {0.00000001329, 0.80850930613, 1628.67358868250},
-                {0.00000001657, 1.38618195393, 473.31243127551},
-                {0.00000001342, 2.46878559927, 827.67977000299},
-                {0.00000001353, 2.59305944840, 2499.13544582190},
-                {0.00000001322, 3.36892891689, 1464.88329754630},
-                {0.00000001528, 5.01222546113, 138.76131435421},
-                {0.00000001507, 5.88638092049, 774.98957196349},
-                {0.00000001375, 2.40966547086, 1093.56599761650},
-                {0.00000001393, 5.43252740056, 913.99470380120},
-                {0.00000001302, 6.01486777282, 494.72250824710},
-                {0.00000001266, 4.76723112510, 1162.76670600110},
-                {0.00000001602, 5.54171392759, 611.19928082730},
-                {0.00000001243, 0.73887599211, 561.69047652550},
-                {0.00000001234, 0.32614546594, 436.40323591510},
-                {0.00000001258, 1.58417788394, 1162.67033778151},
-                {0.00000001490, 2.87282781805, 1468.06469128401},
-                {0.00000001419, 1.54071741199, 1138.33949950310},
-                {0.00000001394, 5.15652264283, 958.98065400890},
-                {0.00000001290, 3.58642556110, 990.47322339791},
-                {0.00000001199, 5.33903838516, 414.31183538731},
-                {0.00000001364, 2.24443885688, 252.89978883670},
-                {0.00000001494, 3.08741560160, 1485.73630358170},
-                {0.00000001367, 3.04146468402, 527.96267490280},
-                {0.00000001464, 2.33832116265, 1066.69111056371},
-                {0.00000001248, 4.58111803711, 9.31741007210},
-                {0.00000001194, 4.20928976432, 774.25336665311},
-                {0.00000001328, 3.90212909678, 482.97672469510},
-                {0.00000001176, 4.08169238786, 633.07574090651},
-                {0.00000001352, 4.83033510793, 696.76345510010},
-                {0.00000001235, 6.00673735479, 1027.38241875830},
-                {0.00000001192, 1.46741047570, 565.14705690910},
-                {0.00000001337, 3.61251738760, 427.80521620600},
-                {0.00000001581, 5.13731640491, 642.58878435231},
-                {0.00000001186, 3.09982091978, 2115.07552459880},
-                {0.00000001339, 4.45992661727, 1161.75531404480},
-                {0.00000001260, 1.21412389098, 633.99076464320},
-                {0.00000001309, 1.91003196451, 1163.68172973780},
-                {0.00000001221, 6.07359053280, 2538.00468677009},
-                {0.00000001133, 5.69121919762, 738.81408978600},
-                {0.00000001172, 0.90157251525, 632.97937268690},
-                {0.00000001120, 3.02627322689, 709.29362807231},
-                {0.00000001340, 4.06427807846, 1060.89777205990},
-                {0.00000001126, 2.69535643306, 2729.96314120569},
-                {0.00000001417, 2.51678541283, 1364.48428209840},
-                {0.00000001112, 3.72336688315, 1066.21802981170},
-                {0.00000001312, 6.06573442442, 981.87520368880},
-                {0.00000001496, 4.33280725286, 388.70897272171},
-                {0.00000001423, 6.09024848918, 586.55713388070},
-                {0.00000001221, 5.21060853641, 269.67762925710},
-                {0.00000001088, 6.00908281655, 1280.03839011150},
-                {0.00000001089, 3.60595774779, 946.97174589851},
-                {0.00000001132, 5.22322415543, 1664.09831133461},
-                {0.00000001433, 0.48122466534, 635.47523735150},
-                {0.00000001427, 4.54173500327, 597.11519917759},
-                {0.00000001389, 5.65859882018, 636.47207509279},
-                {0.00000001191, 3.52581460046, 1887.54933515920},
-                {0.00000001420, 4.97687573513, 1140.13948639650},
-                {0.00000001420, 4.97687573513, 1140.62712136350},
-                {0.00000001082, 5.23314277920, 915.47917650950},
-                {0.00000001134, 1.71654085995, 102.32769187330},
-                {0.00000001061, 0.33709671438, 925.04040406510},
-                {0.00000001302, 2.50290977947, 637.22034249070},
-                {0.00000001036, 0.53477431200, 1798.68365494221},
-                {0.00000001210, 0.08512627078, 31.73638687251},
-                {0.00000001210, 3.22671892437, 31.24875190549},
-                {0.00000001439, 4.57403818109, 244.07476659150},
-                {0.00000001020, 3.62336804453, 732.45130231059},
-                {0.00000001025, 5.53135631392, 951.86710700811},
-                {0.00000001018, 0.87096787225, 623.46632924110},
-                {0.00000001027, 5.32423350857, 1474.91760585390},
-                {0.00000001114, 2.21692840772, 103.37022159689},
-                {0.00000001040, 0.83745017570, 314.18800658530},
-                {0.00000001371, 2.70777796640, 4590.66636300550},
-                {0.00000001256, 4.91935004376, 73.05330837550},
-                {0.00000001059, 4.12678319156, 3590.76070492550},
-                {0.00000001008, 4.10762131673, 1140.89024592190},
-                {0.00000001288, 3.82410217609, 2004.60857094851},
-                {0.00000001033, 1.08663300387, 1028.60625903570},
-                {0.00000001085, 2.21886409341, 395.34943897051},
-                {0.00000000971, 6.06185705215, 665.27088571111},
-                {0.00000001358, 3.05188631331, 448.93340888730},
-                {0.00000000980, 1.98914636396, 961.94959942551},
-                {0.00000000994, 1.97119491280, 3796.45861839570},
-                {0.00000001202, 3.96954337111, 453.66871130251},
-                {0.00000001028, 5.20130168371, 2524.26522773550},
-                {0.00000001040, 0.76651765316, 170.51700830159},
-                {0.00000000955, 2.14163148842, 645.55772976890},
-                {0.00000001241, 5.96190045692, 1048.09241244180},
-                {0.00000001076, 4.54364112469, 2957.48933064529},
-                {0.00000001230, 0.76262291362, 1354.67697632690},
-                {0.00000001240, 4.37679167579, 610.93615626891},
-                {0.00000001240, 1.23519902220, 610.44852130189},
-                {0.00000001022, 5.26668499759, 276.79117625789},
-                {0.00000000924, 3.99063073330, 842.65762352999},
-                {0.00000001083, 0.34974746355, 1901.77642916080},
-                {0.00000001243, 3.14900420596, 671.16059243450},
-                {0.00000001013, 4.11841355585, 3376.97397452050},
-                {0.00000001100, 4.35722465068, 1053.03346553370},
-                {0.00000001099, 1.23775171296, 611.82992814620},
-                {0.00000001099, 3.10291088519, 448.03963701001},
-                {0.00000001033, 3.86976091725, 632.06434895021},
-                {0.00000000957, 2.32518989533, 2965.09051261311},
-                {0.00000001030, 1.77683782212, 1141.37788088890},
-                {0.00000001196, 4.13327524621, 8520.87605922509},
-                {0.00000000967, 4.90659485068, 829.06117684730},
-                {0.00000001166, 0.10987883520, 1511.56616878340},
-                {0.00000001147, 4.05159175951, 1390.24471133090},
-                {0.00000000873, 0.21746359309, 322.26476143261},
-                {0.00000001137, 5.96453800922, 950.90389916161},
-                {0.00000001201, 4.10007739292, 1436.29693524910},
-                {0.00000000903, 4.75936593867, 1475.92899781020},
-                {0.00000000858, 4.08152704252, 3480.55438370610},
-                {0.00000001061, 3.86340607753, 1014.37916503410},
-                {0.00000000852, 2.28740434163, 1305.16817202511},
-                {0.00000001121, 2.22650360725, 2861.99773839450},
-                {0.00000000978, 0.01048414798, 1262.62990237220},
-                {0.00000000918, 2.29661901563, 341.01470952831},
-                {0.00000000886, 0.44036055466, 1482.29178528560},
-                {0.00000001153, 2.60386985545, 1055.95671896799},
-                {0.00000001011, 0.56246587032, 1379.94977059240},
-                {0.00000000844, 3.23872317111, 231.70216018621},
-                {0.00000000939, 3.33692331113, 1703.45518724980},
-                {0.00000001029, 1.16181986038, 2545.60586873790},
-                {0.00000001042, 5.64923274668, 297.88573904440},
-                {0.00000001170, 2.68197224847, 46.22660543249},
-                {0.00000000962, 5.05559487343, 37.88921815429},
-                {0.00000000877, 1.00643184196, 357.68948408471},
-                {0.00000000988, 2.20288476603, 7211.15963597770},
-                {0.00000000892, 3.84433244725, 1571.15746550260},
-                {0.00000001109, 5.81958333017, 348.12825652910},
-                {0.00000000827, 5.97485149381, 20956.50587500010},
-                {0.00000000934, 5.21360076093, 525.51499434800},
-                {0.00000000914, 0.28108854924, 1031.31457202140},
-                {0.00000000998, 2.30051279264, 1505.93709449090},
-                {0.00000001003, 3.78100971695, 1681.36378672201},
-                {0.00000001043, 5.91678666313, 3384.57515648830},
-                {0.00000001133, 5.74894340340, 1357.85837006460},
-                {0.00000001118, 1.45393796917, 892.79707515070},
-                {0.00000000818, 1.62737897182, 1153.15729433570},
-                {0.00000000883, 3.37767668051, 533.45790092711},
-                {0.00000000883, 4.10460162145, 526.41166422910},
-                {0.00000000966, 5.59349076815, 381.85605815180},
-                {0.00000001014, 5.77098535837, 50.64639366260},
-                {0.00000001014, 2.62939270478, 50.15875869559},
-                {0.00000000977, 4.64792461073, 25035.39094090229},
-                {0.00000000933, 5.47050254707, 671.89679774490},
-                {0.00000000898, 3.74591414099, 2516.66404576769},
-                {0.00000000787, 2.68667239235, 1056.91743468700},
-                {0.00000000788, 1.39640318925, 4002.64416683289},
-                {0.00000000950, 4.11439083259, 532.62854134880},
-                {0.00000000839, 5.03983812044, 4686.64559022330},
-                {0.00000000965, 5.19147359292, 1520.16418849250},
-                {0.00000001017, 1.65929197414, 1020.00823932660},
-                {0.00000000820, 1.90274013249, 348.39138108750},
-                {0.00000000786, 1.79549510698, 178.11819026941},
-                {0.00000000929, 0.76030088993, 1130.47519297691},
-                {0.00000000779, 1.34733977730, 224.10097821840},
-                {0.00000000951, 1.75056688455, 25021.16384690069},
-                {0.00000000917, 0.46397488831, 3899.55139261430},
-                {0.00000000763, 4.49833164066, 432.25863433090},
-                {0.00000000841, 1.57808557219, 643.32249753521},
-                {0.00000000782, 0.66767670749, 1731.76636290111},
-                {0.00000000945, 0.70467760679, 758.52724572820},
-                {0.00000001032, 3.19953750862, 3075.29683383250},
-                {0.00000000899, 5.79764466292, 1053.40597254920},
-                {0.00000000822, 5.20921850714, 1354.18934135989},
-                {0.00000000742, 0.43269937600, 896.72922841380},
-                {0.00000000989, 5.20317411602, 493.28621964860},
-                {0.00000000989, 2.27910418594, 566.58334550761},
-                {0.00000000742, 2.64620540713, 948.45621860680},
-                {0.00000000743, 4.86638449602, 3267.25528826810},
-                {0.00000000785, 0.04530717907, 5091.90814063229},
-                {0.00000000735, 5.88444842565, 1689.22809324820},
-                {0.00000000902, 5.02430551931, 3487.66793070691},
-                {0.00000000766, 3.02399738953, 402.46298597130},
-                {0.00000000870, 3.62030616326, 522.29997071550},
-                {0.00000000870, 0.72037948511, 537.56959444070},
-                {0.00000000789, 0.10009487038, 950.38263429980},
-                {0.00000000729, 4.89347516312, 2226.03260534360},
-                {0.00000000967, 3.04856021602, 149.31937965110},
-                {0.00000000740, 0.59195492427, 172.00148100990},
-                {0.00000000732, 3.85868260020, 1600.36241303120},
-                {0.00000000743, 2.09672296294, 6011.68934095890},
-                {0.00000000773, 0.18183783219, 8616.85528644289},
-                {0.00000000718, 5.42139839209, 1055.20595944260},
-                {0.00000000814, 2.46839638562, 5.38525680900},
-                {0.00000000780, 6.07431076573, 949.37124234350},
-                {0.00000000736, 4.07506898321, 23968.89546371229},
-                {0.00000000703, 4.48261837950, 2108.71273712340},
-                {0.00000000705, 2.70029551415, 260.01333583751},
-                {0.00000000837, 1.52005452422, 97.43233076370},
-                {0.00000000708, 3.40550883575, 628.60776856660},
-                {0.00000000700, 1.73883435675, 78.20680978850},
-                {0.00000000704, 5.21043618727, 621.49422156580},
-                {0.00000000972, 5.51177820347, 806.96977631951},
-                {0.00000000902, 1.24655233839, 3259.39098174191},
-                {0.00000000806, 0.63642725064, 703.87700210090},
-                {0.00000000861, 4.84084957436, 215.99059347631},
-                {0.00000000761, 5.97371837033, 2310.96613229750},
-                {0.00000000705, 4.55292890701, 657.40657918490},
-                {0.00000000758, 2.16941238331, 1382.64352936309},
-                {0.00000000727, 0.27903898087, 64.71592109730},
-                {0.00000000687, 4.51235449745, 952.86394474940},
-                {0.00000000692, 4.02871358383, 10.05112325500},
-                {0.00000000963, 2.76790770152, 6916.10340678810},
-                {0.00000000906, 4.48544256463, 110.40195459310},
-                {0.00000000729, 2.53279790409, 3789.34507139489},
-                {0.00000000678, 4.97651378738, 2218.91905834281},
-                {0.00000000810, 1.91237826709, 678.01350700440},
-                {0.00000000761, 5.70182901948, 1542.84628985130},
-                {0.00000000734, 6.16258391033, 4863.44173055270},
-                {0.00000000793, 0.81892149809, 209.61075965840},
-                {0.00000000666, 1.94007934478, 4127.56521702090},
-                {0.00000000849, 2.44682670396, 368.83825021259},
-                {0.00000000815, 0.85093813087, 359.17395679300},
-                {0.00000000865, 4.95824919504, 157.02362748290},
-                {0.00000000799, 4.90559666559, 519.15220687259},
-                {0.00000000730, 0.97760856285, 98.65617104110},
-                {0.00000000923, 4.75879664446, 179.60266297770},
-                {0.00000000862, 2.42176207749, 1669.83045149109},
-                {0.00000000903, 4.81493761835, 1745.09968502540},
-                {0.00000000704, 5.19561938169, 718.85485562790},
-                {0.00000000765, 0.82148767779, 1834.85913711970},
-                {0.00000000651, 2.13022538110, 153.25153291419},
-                {0.00000000670, 3.96692910866, 5702.41101830310},
-                {0.00000000689, 5.62284795095, 540.49284787499},
-                {0.00000000677, 0.37927842067, 745.68155857090},
-                {0.00000000646, 1.69538207689, 2118.52004289490},
-                {0.00000000744, 6.04329221154, 305.85311143459},
-                {0.00000000837, 1.94363906360, 1818.39681088440},
-                {0.00000000795, 3.06915549224, 376.91500505990},
-                {0.00000000639, 5.15999306490, 5282.92637442791},
-                {0.00000000639, 4.79373670634, 651.18680406140},
-                {0.00000000791, 3.64973766479, 2432.21815378081},
-                {0.00000000666, 1.47748551243, 2439.33170078160},
-                {0.00000000699, 2.04088853152, 999.82200263240},
-                {0.00000000848, 3.15425868901, 445.00125562421},
-                {0.00000000784, 2.44486888742, 1372.34858862460},
-                {0.00000000784, 5.48434762861, 494.02242495900},
-                {0.00000000826, 0.95388118622, 1063.07026596880},
-                {0.00000000773, 0.18999764486, 3334.17258030920},
-                {0.00000000766, 5.19735998756, 927.59115048390},
-                {0.00000000629, 3.97966005206, 444.10748374690},
-                {0.00000000680, 5.78589517711, 2854.39655642670},
-                {0.00000000652, 2.84744627046, 99.92819542829},
-                {0.00000000628, 3.17606592131, 3693.85347914410},
-                {0.00000000810, 4.60918284532, 721.40560204669},
-                {0.00000000854, 4.61209992426, 1366.45638977370},
-                {0.00000000867, 4.19294864410, 10846.31310300770},
-                {0.00000000788, 1.41713341612, 1040.97886544099},
-                {0.00000000626, 5.79379273730, 841.90686400460},
-                {0.00000000630, 0.46054027581, 291.76902978489},
-                {0.00000000650, 1.16669181964, 558.38897058130},
-                {0.00000000611, 1.65671418659, 4443.95708667750},
-                {0.00000000726, 0.52368203745, 2151.25100677631},
-                {0.00000000751, 1.10181429478, 446.06752933469},
-                {0.00000000615, 0.87878140238, 208.38941150850},
-                {0.00000000745, 1.03884888390, 451.97179027311},
-                {0.00000000614, 2.12015186904, 6121.89566217830},
-                {0.00000000603, 1.87255401888, 181.56270856549},
-                {0.00000000616, 2.28876027875, 1144.07163965960},
-                {0.00000000636, 2.38750125211, 1751.29571393250},
-                {0.00000000596, 1.00492203164, 737.60480372361},
-                {0.00000000619, 2.80073636220, 326.19691469570},
-                {0.00000000787, 2.60401736226, 1802.12817323829},
-                {0.00000000781, 2.22467267459, 88.35873817511},
-                {0.00000000617, 2.17402643196, 921.10825080200},
-                {0.00000000591, 3.73213502799, 1166.16304018740},
-                {0.00000000590, 1.05361074587, 3634.37720703489},
-                {0.00000000722, 1.40579320968, 1791.57010794140},
-                {0.00000000820, 2.67631464422, 1372.08546406621},
-                {0.00000000590, 2.98691366177, 627.61093082531},
-                {0.00000000611, 0.43380344797, 392.90175841570},
-                {0.00000000611, 0.76528954681, 666.96780674051},
-                {0.00000000584, 4.14039377030, 2737.56432317350},
-                {0.00000000624, 0.20438602023, 702.18008107150},
-                {0.00000000600, 5.10974978259, 203.49405039889},
-                {0.00000000720, 1.60831618587, 3333.74269718250},
-                {0.00000000715, 4.50656990635, 3347.96979118411},
-                {0.00000000604, 5.25311127639, 427.36327322130},
-                {0.00000000578, 5.39623231304, 881.75137488680},
-                {0.00000000752, 3.84564478305, 799.36859435169},
-                {0.00000000581, 3.86115308052, 2954.04481234920},
-                {0.00000000754, 2.66282639252, 1022.97718474320},
-                {0.00000000772, 1.65864906434, 711.74130862710},
-                {0.00000000577, 5.47810665105, 700.20797339620},
-                {0.00000000736, 0.60214952186, 458.12212942741},
-                {0.00000000736, 0.59694347292, 601.74743572880},
-                {0.00000000693, 3.40638930298, 1967.96000801901},
-                {0.00000000740, 3.80855554417, 416.79314583689},
-                {0.00000000704, 1.18207892692, 425.35753565121},
-                {0.00000000708, 3.02675954280, 3391.68870348911},
-                {0.00000000607, 1.06404276153, 105.76971804189},
-                {0.00000000559, 2.48504877569, 20426.81490990550},
-                {0.00000000628, 4.57438103298, 1809.72935520611},
-                {0.00000000696, 1.91024083106, 378.88711273520},
-                {0.00000000554, 2.66964046417, 386.00065973601},
-                {0.00000000589, 4.41883744785, 3273.88120030190},
-                {0.00000000633, 0.34663077486, 131.16013238639},
-                {0.00000000562, 4.54266444163, 4803.96545844350},
-                {0.00000000560, 3.13968869190, 421.21293406700},
-                {0.00000000580, 5.96191438656, 5179.83360020930},
-                {0.00000000740, 4.24815360369, 913.50706883420},
-                {0.00000000699, 5.94463211291, 2627.35800195410},
-                {0.00000000699, 2.80303945932, 2626.87036698710},
-                {0.00000000747, 3.30207127034, 90.31878376290},
-                {0.00000000575, 6.12011876370, 1656.98476433380},
-                {0.00000000555, 0.89361846240, 6702.80431135010},
-                {0.00000000559, 3.70914713824, 388.96960515260},
-                {0.00000000672, 2.38005250851, 2417.24030025381},
-                {0.00000000606, 3.82620569675, 3693.36584417709},
-                {0.00000000538, 2.49928826237, 7564.58690325449},
-                {0.00000000539, 4.29776010398, 828.16740497000},
-                {0.00000000548, 2.14286023475, 4700.87268422489},
-                {0.00000000599, 3.48576134992, 108.47803102759},
-                {0.00000000550, 2.51535265264, 3046.35501086230},
-                {0.00000000652, 5.01250339010, 282.20780222929},
-                {0.00000000586, 0.16653899616, 878.08234618209},
-                {0.00000000622, 3.01686451694, 568.80402352629},
-                {0.00000000728, 5.63080764277, 344.45922782439},
-                {0.00000000544, 2.31769965190, 10633.01400756970},
-                {0.00000000657, 0.62701478688, 464.97504399731},
-                {0.00000000546, 1.66601868578, 4112.85048805230},
-                {0.00000000541, 4.47410178003, 121.00820399980},
-                {0.00000000695, 5.90409812875, 421.68850694650},
-                {0.00000000601, 4.73252889479, 426.32074349770},
-                {0.00000000525, 4.24523707483, 76674.39271195528},
-                {0.00000000532, 5.96635649363, 8734.17515466309},
-                {0.00000000622, 5.60046914442, 1091.38144162010},
-                {0.00000000553, 0.95137962286, 604.22874617840},
-                {0.00000000633, 5.27242003059, 2274.30301515300},
-                {0.00000000564, 0.16497975863, 241.85408857280},
-                {0.00000000516, 4.97603038853, 5599.31824408450},
-                {0.00000000645, 6.01896827268, 10110.43658947590},
-                {0.00000000509, 3.68808359097, 1159.04949318660},
-                {0.00000000507, 3.50264799357, 615.76208140930},
-                {0.00000000599, 2.57801707543, 185.23173727020},
-                {0.00000000522, 5.63448152934, 1884.36794142151},
-                {0.00000000520, 3.87463188031, 1457.28211557850},
-                {0.00000000527, 1.69611452147, 1512.56300652469},
-                {0.00000000503, 4.96282947219, 1037.79747170330},
-                {0.00000000517, 3.70527239794, 6018.80288795970},
-                {0.00000000613, 0.15991201142, 607.89777488310},
-                {0.00000000601, 0.38470330699, 700.69560836320},
-                {0.00000000505, 1.61427941704, 5908.59656674030},
-                {0.00000000679, 0.99986935446, 1357.37073509760},
-                {0.00000000496, 3.33323961426, 1048.84317196720},
-                {0.00000000602, 5.52925928036, 680.98245242101},
-                {0.00000000621, 4.68680597499, 1560.37488979710},
-                {0.00000000623, 1.32300241317, 120.01136625851},
-                {0.00000000494, 5.73456422193, 523.57199510270},
-                {0.00000000494, 4.88930673362, 536.29757005351},
-                {0.00000000500, 4.78996332607, 2840.65709739210},
-                {0.00000000657, 0.40007659336, 2351.05672139560},
-                {0.00000000587, 0.46191357824, 215.50295850929},
-                {0.00000000609, 4.14432847094, 614.86830953200},
-                {0.00000000609, 4.14432847094, 614.38067456499},
-                {0.00000000502, 0.25251420069, 1379.46213562540},
-                {0.00000000492, 3.31162640299, 419.28901050149},
-                {0.00000000485, 1.66419456691, 1937.95191133830},
-                {0.00000000484, 0.12315312076, 102.09819720970},
-                {0.00000000491, 0.11387232043, 419.19264228190},
-                {0.00000000636, 5.51773112302, 664.52012618570},
-                {0.00000000478, 4.25859285582, 204.97852310719},
-                {0.00000000494, 2.92886717648, 2758.90496417590},
-                {0.00000000495, 1.58073941957, 398.53083270820},
-                {0.00000000483, 0.96081432259, 89.10949770051},
-                {0.00000000589, 0.26853478837, 2740.74571691120},
-                {0.00000000600, 0.00177768827, 634.51202950500},
-                {0.00000000486, 3.47387686711, 2203.94120481581},
-                {0.00000000515, 4.56583984880, 1091.11831706170},
-                {0.00000000615, 5.82613512558, 3700.96702614491},
-                {0.00000000490, 3.48488181967, 8631.08238044450},
-                {0.00000000494, 6.23491155272, 984.35651413839},
-                {0.00000000475, 3.84857388040, 103.59971626049},
-                {0.00000000475, 4.16103129130, 835.54407652920},
-                {0.00000000512, 0.43877261458, 397.90018538930},
-                {0.00000000655, 3.37451455932, 127.22797912329},
-                {0.00000000468, 5.66081615363, 582.62498061761},
-                {0.00000000468, 1.82146214833, 477.24458453860},
-                {0.00000000543, 1.20297336764, 481.17673780170},
-                {0.00000000543, 6.27930493431, 578.69282735451},
-                {0.00000000517, 2.43390627861, 76.02225379210},
-                {0.00000000573, 6.09163052699, 1132.92287353170},
-                {0.00000000649, 5.08795164761, 3184.60938317460},
-                {0.00000000480, 2.95348186297, 2133.23477186350},
-                {0.00000000468, 0.49074178268, 2048.15823255770},
-                {0.00000000594, 1.96853371116, 390.92965074040},
-                {0.00000000459, 3.19244771660, 937.88609122240},
-                {0.00000000481, 0.56878471280, 1443.68566889580},
-                {0.00000000463, 4.21398380834, 429.76276966630},
-                {0.00000000545, 4.87328765120, 3157.04896704871},
-                {0.00000000475, 3.93834590521, 3907.15257458210},
-                {0.00000000609, 3.24848207205, 1595.53648789080},
-                {0.00000000473, 4.69599627940, 733.67265046051},
-                {0.00000000541, 5.85990514227, 52176.05010063190},
-                {0.00000000533, 1.27151481340, 382.85289589309},
-                {0.00000000534, 2.70958907609, 843.87897167990},
-                {0.00000000451, 3.99705226028, 5371.30441967789},
-                {0.00000000471, 2.88657776376, 2572.43257168090},
-                {0.00000000558, 0.57207825570, 594.89452115890},
-                {0.00000000588, 0.10678640907, 458.33457774851},
-                {0.00000000482, 2.66167846082, 6114.78211517750},
-                {0.00000000449, 6.27428540227, 1221.60474883790},
-                {0.00000000447, 3.64756714520, 584.26951202031},
-                {0.00000000447, 3.83471115676, 475.60005313590},
-                {0.00000000466, 2.22916713968, 632.50629193491},
-                {0.00000000624, 1.32472646328, 10529.92123335110},
-                {0.00000000605, 3.46941164072, 300.85468446100},
-                {0.00000000487, 0.70356343888, 321.30155358610},
-                {0.00000000487, 1.71799868416, 206.90493880020},
-                {0.00000000526, 0.02936914645, 1336.66074141410},
-                {0.00000000450, 2.88322597733, 518.62844988331},
-                {0.00000000450, 1.45745967104, 541.24111527290},
-                {0.00000000452, 4.02637396486, 252.41215386970},
-                {0.00000000569, 1.35475382052, 207.42620366200},
-                {0.00000000442, 2.28319191504, 10976.83498721549},
-                {0.00000000435, 3.61536948260, 218.47190392590},
-                {0.00000000536, 5.87308650386, 1781.27516720290},
-                {0.00000000606, 6.18675939821, 6599.71153713150},
-                {0.00000000430, 4.70071691496, 2535.31092799940},
-                {0.00000000465, 2.19694664935, 1084.00477006090},
-                {0.00000000528, 4.80779932075, 557.75832326239},
-                {0.00000000602, 0.32017022594, 354.76872277791},
-                {0.00000000602, 0.87892276884, 705.10084237830},
-                {0.00000000579, 0.48304329741, 462.05428269051},
-                {0.00000000579, 0.71604969737, 597.81528246570},
-                {0.00000000480, 3.58335127463, 1106.09617058870},
-                {0.00000000561, 5.19314855697, 1859.23815950790},
-                {0.00000000565, 4.77820464913, 531.89482816590},
-                {0.00000000593, 2.30529340153, 1291.67479120640},
-                {0.00000000593, 5.44688605512, 1291.18715623940},
-                {0.00000000467, 3.40834000086, 2833.05591542430},
-                {0.00000000423, 4.74881408933, 799.85622931870},
-                {0.00000000591, 4.03092476406, 1819.39364862570},
-                {0.00000000442, 5.80146904507, 1069.18697522831},
-                {0.00000000538, 2.60007571681, 1065.35788782919},
-                {0.00000000472, 3.85236778376, 460.29462333630},
-                {0.00000000432, 4.43898680981, 2080.87464222410},
-                {0.00000000415, 1.39162146625, 4760.34895633411},
-                {0.00000000455, 1.46286831547, 2527.44662147320},
-                {0.00000000506, 1.93326787770, 535.66692273460},
-                {0.00000000408, 4.65095351213, 237.43430034270},
-                {0.00000000558, 5.74240390212, 2348.08777597900},
-                {0.00000000506, 3.68273316284, 2424.35384725460},
-                {0.00000000496, 4.48964897087, 4120.45167002010},
-                {0.00000000496, 4.48964897088, 4119.96403505309},
-                {0.00000000432, 6.00820922222, 1301.23601876200},
-                {0.00000000550, 0.72236210742, 8837.26792888169},
-                {0.00000000546, 1.74052459203, 761.98382611181},
-                {0.00000000546, 1.74052459203, 761.49619114479},
-                {0.00000000435, 1.40434697094, 205.89354684390},
-                {0.00000000463, 2.74974947852, 633.54882165850},
-                {0.00000000408, 3.36326895916, 1482.55490984399},
-                {0.00000000483, 5.05507740192, 2879.26321378190},
-                {0.00000000511, 5.17393230173, 1670.58121101650},
-                {0.00000000421, 4.17496125106, 638.65663108921},
-                {0.00000000512, 6.20542375764, 1474.42997088690},
-                {0.00000000388, 4.23664234872, 2425.10460678000},
-                {0.00000000483, 0.89849999521, 154.05468206630},
-                {0.00000000412, 2.38738008672, 83.62343575990},
-                {0.00000000384, 4.81263785100, 673.86890542020},
-                {0.00000000400, 1.20395052136, 2755.72357043820},
-                {0.00000000500, 5.48455845139, 1973.37663399041},
-                {0.00000000380, 4.43228458999, 3583.64715792471},
-                {0.00000000509, 1.52055177900, 5856.23384163189},
-                {0.00000000392, 1.84630187584, 6328.08121061550},
-                {0.00000000391, 3.77313110506, 670.89996000361},
-                {0.00000000397, 1.19492848989, 50586.48957038109},
-                {0.00000000468, 4.28211685631, 1970.92895343560},
-                {0.00000000491, 4.48946441703, 1288.70584578980},
-                {0.00000000491, 4.48946441703, 1288.21821082279},
-                {0.00000000472, 0.93312891407, 416.53251340600},
-                {0.00000000491, 1.09230657741, 601.53498740770},
-                {0.00000000476, 1.86175772015, 2015.42726867629},
-        };
-    }
-
-    private static void initialize_2_1()
-    {
-        classCoeff[1][1] = new double[][]{
-                {0.01912556490, 2.66195491149, 0.24381748350},
-                {0.00634902259, 4.81945405671, 1059.62574767270},
-                {0.00600483021, 0.85860311815, 522.82123557730},
-                {0.00589005176, 0.34484971445, 537.04832957890},
-                {0.00081432741, 1.90251633780, 7.35736448430},
-                {0.00046191617, 5.16976189642, 1589.31671276730},
-                {0.00037242394, 1.81456616256, 529.93478257810},
-                {0.00032508552, 0.17601327437, 1052.51220067191},
-                {0.00031231184, 0.77622354337, 1066.73929467350},
-                {0.00025950740, 0.81541881282, 529.44714761109},
-                {0.00020232242, 2.89760937255, 110.45013870291},
-                {0.00017941640, 2.45019898255, 426.84200835950},
-                {0.00013643757, 5.01666809262, 633.02755679670},
-                {0.00012962263, 0.99688324083, 515.70768857651},
-                {0.00009123979, 0.21013091394, 544.16187657970},
-                {0.00008098978, 4.58582444610, 949.41942645330},
-                {0.00007143102, 1.60287874390, 323.74923414091},
-                {0.00004115125, 6.25575758842, 205.94173095370},
-                {0.00004370464, 5.85779443169, 736.12033101530},
-                {0.00003400571, 1.33020584264, 526.75338884040},
-                {0.00003332481, 6.14941384034, 533.11617631580},
-                {0.00003869655, 1.76724210080, 14.47091148511},
-                {0.00003043986, 0.08336634740, 526.00262931501},
-                {0.00003013156, 1.02614271964, 419.72846135871},
-                {0.00003001886, 1.11282294120, 533.86693584120},
-                {0.00002892493, 3.33842613324, 103.33659170210},
-                {0.00002393125, 2.05143779600, 316.63568714010},
-                {0.00002989944, 5.51952313334, 2119.00767786191},
-                {0.00002354966, 4.86075556884, 109.96250373590},
-                {0.00001853775, 1.19886684605, 1596.43025976811},
-                {0.00001972856, 3.51875485226, 956.53297345411},
-                {0.00001820762, 5.38126290712, 743.23387801611},
-                {0.00001810752, 5.40985497363, 95.73540973430},
-                {0.00001531701, 2.74785652806, 117.56368570370},
-                {0.00001894874, 0.29375694918, 1582.20316576650},
-                {0.00001527752, 6.20401691579, 640.14110379750},
-                {0.00001634391, 6.11004516268, 1045.39865367110},
-                {0.00001088512, 6.22920436039, 625.91400979590},
-                {0.00001025988, 1.00202485870, 433.95555536030},
-                {0.00001045564, 0.95995839150, 1265.81129610991},
-                {0.00000977087, 0.62771509387, 220.65645992230},
-                {0.00000984636, 6.14139798618, 1169.83206889211},
-                {0.00000805130, 4.73126707725, 942.30587945250},
-                {0.00000821829, 0.95222022801, 309.03450517230},
-                {0.00000798891, 0.28589806015, 1155.60497489050},
-                {0.00000834956, 0.44929628324, 522.33360061030},
-                {0.00000600935, 3.92607423432, 6.86972951729},
-                {0.00000752130, 4.84106440602, 1162.71852189130},
-                {0.00000539923, 2.67204015773, 853.44019923550},
-                {0.00000599196, 5.78978587742, 213.05527795450},
-                {0.00000497018, 0.10277515742, 198.82818395289},
-                {0.00000476930, 4.32981816387, 1692.40948698591},
-                {0.00000499703, 1.45009748987, 330.86278114170},
-                {0.00000383795, 0.60109464211, 1073.85284167431},
-                {0.00000504945, 1.16897764893, 1059.13811270570},
-                {0.00000402231, 4.64005130261, 1479.11039154791},
-                {0.00000373538, 6.00201753992, 729.00678401450},
-                {0.00000349467, 4.67892334070, 426.35437339250},
-                {0.00000316847, 0.54679906466, 839.21310523390},
-                {0.00000324562, 4.14050846767, 206.42936592071},
-                {0.00000246849, 5.67682031680, 838.72547026689},
-                {0.00000255191, 5.19686775170, 412.12727939089},
-                {0.00000230121, 1.15174981889, 508.59414157570},
-                {0.00000246851, 0.17931647320, 1272.92484311070},
-                {0.00000222270, 1.13623310093, 412.61491435790},
-                {0.00000213383, 1.33041208002, 1376.01761732930},
-                {0.00000225567, 0.71754067098, 625.42637482889},
-                {0.00000212049, 1.46978417946, 3.42521122121},
-                {0.00000181234, 2.07915113995, 1368.90407032850},
-                {0.00000174181, 0.28202074120, 1062.80714141041},
-                {0.00000189391, 5.86988015498, 2648.69864295650},
-                {0.00000161119, 1.45320059873, 519.63984183961},
-                {0.00000157874, 3.21673827019, 536.56069461190},
-                {0.00000145420, 1.14766744266, 1258.69774910910},
-                {0.00000144205, 0.51347253517, 1055.69359440960},
-                {0.00000143507, 2.13497084119, 309.52214013930},
-                {0.00000126188, 1.74614874146, 1063.55790093581},
-                {0.00000124788, 0.04973007408, 551.27542358051},
-                {0.00000125329, 6.02678896114, 540.22972331660},
-                {0.00000146669, 1.15255926772, 1056.44435393500},
-                {0.00000115893, 1.61083044890, 2126.12122486270},
-                {0.00000124485, 1.74552486835, 3.68833577960},
-                {0.00000118218, 0.09316615671, 515.22005360950},
-                {0.00000114208, 0.48741044761, 227.77000692311},
-                {0.00000113852, 4.27325397298, 742.74624304909},
-                {0.00000144447, 4.51237423492, 1486.22393854870},
-                {0.00000124849, 0.06146296380, 1575.08961876571},
-                {0.00000093951, 5.42064898050, 1155.11733992350},
-                {0.00000100599, 0.45008887739, 2111.89413086110},
-                {0.00000103583, 0.35190071477, 419.24082639170},
-                {0.00000092556, 0.28828088487, 1699.52303398670},
-                {0.00000099479, 1.07544165521, 301.92095817150},
-                {0.00000082832, 6.00125174633, 441.06910236111},
-                {0.00000086688, 0.38035962497, 941.81824448550},
-                {0.00000095969, 3.69584152771, 102.84895673509},
-                {0.00000080324, 5.59950981116, 1471.99684454710},
-                {0.00000102333, 1.61778028756, 21.58445848590},
-                {0.00000078195, 3.52242385121, 525.26891613211},
-                {0.00000074123, 0.00610250389, 647.25465079831},
-                {0.00000079270, 4.84421399324, 728.51914904750},
-                {0.00000074807, 3.95788072941, 534.60064902410},
-                {0.00000087759, 5.73493623659, 632.53992182970},
-                {0.00000069800, 1.23323877527, 618.80046279510},
-                {0.00000060886, 2.49979217695, 846.32665223470},
-                {0.00000058777, 0.68694828546, 832.09955823310},
-                {0.00000061003, 4.67098980984, 2222.10045208050},
-                {0.00000066693, 0.71208583440, 1685.29593998510},
-                {0.00000050999, 4.21005408384, 2008.80135664250},
-                {0.00000050585, 3.18331095946, 213.54291292150},
-                {0.00000045850, 5.81161674510, 831.61192326610},
-                {0.00000052339, 6.09582232771, 1038.28510667030},
-                {0.00000046409, 0.92753148155, 524.51815660670},
-                {0.00000049446, 1.18421196454, 963.64652045490},
-                {0.00000045782, 0.27156151413, 535.35140854951},
-                {0.00000061385, 1.06154014565, 1795.50226120450},
-                {0.00000058958, 4.48450787354, 316.14805217309},
-                {0.00000059833, 2.97158993654, 4.17597074660},
-                {0.00000043525, 5.11993607277, 149.80701461810},
-                {0.00000039973, 3.25434306386, 1383.13116433011},
-                {0.00000053170, 6.26998243842, 750.34742501690},
-                {0.00000039316, 5.15930242259, 1471.50920958009},
-                {0.00000040288, 3.34770952676, 948.93179148630},
-                {0.00000038303, 5.96851436892, 511.77553531340},
-                {0.00000036523, 1.51420379775, 548.09402984280},
-                {0.00000038571, 0.07822093186, 1258.21011414209},
-                {0.00000035601, 1.24662275151, 10.53875822200},
-                {0.00000036868, 6.25234770646, 527.01402127131},
-                {0.00000036603, 1.23015836922, 532.85554388490},
-                {0.00000041197, 5.04821165837, 845.83901726770},
-                {0.00000030575, 2.56475167146, 124.67723270450},
-                {0.00000027619, 0.12568890457, 1802.61580820530},
-                {0.00000032289, 0.79016845152, 618.31282782810},
-                {0.00000028470, 4.61927587685, 1044.91101870410},
-                {0.00000025452, 2.91722591057, 1265.32366114289},
-                {0.00000027183, 1.12751765708, 1898.59503542310},
-                {0.00000022512, 2.01936139354, 639.65346883050},
-                {0.00000022622, 4.89596842874, 935.19233245171},
-                {0.00000024508, 2.13953774929, 1361.79052332771},
-                {0.00000025260, 0.24154081456, 540.98048284201},
-                {0.00000020677, 5.55082476196, 1148.00379292269},
-                {0.00000028190, 1.50681890023, 1905.70858242391},
-                {0.00000020297, 5.38737168791, 1162.23088692429},
-                {0.00000025685, 3.12279377202, 735.63269604830},
-                {0.00000019769, 3.96513942756, 11.28951774740},
-                {0.00000017928, 4.61925187754, 98.91680347199},
-                {0.00000017469, 4.89788003858, 1787.90107923670},
-                {0.00000018703, 6.07505587521, 1574.60198379870},
-                {0.00000018135, 2.36351314755, 910.06255053810},
-                {0.00000017089, 0.99046288782, 1603.54380676890},
-                {0.00000017538, 4.47072594413, 525.74199688410},
-                {0.00000017368, 3.01139967776, 534.12756827210},
-                {0.00000019204, 3.80241402375, 1375.52998236229},
-                {0.00000017455, 4.81942144274, 76.50988875911},
-                {0.00000016153, 5.87162041441, 99.66756299740},
-                {0.00000016460, 0.52556394714, 1788.38871420371},
-                {0.00000015683, 5.56132216427, 2.93757625420},
-                {0.00000016034, 0.27078811588, 191.71463695210},
-                {0.00000015051, 4.36060419796, 106.03035047280},
-                {0.00000014892, 0.20628294896, 518.88908231420},
-                {0.00000015187, 1.36377743780, 1588.82907780029},
-                {0.00000017388, 2.86695466117, 18.40306474821},
-                {0.00000014796, 0.49390360799, 1049.33080693420},
-                {0.00000015408, 2.49538144956, 106.51798543980},
-                {0.00000017378, 2.04232991369, 88.62186273350},
-                {0.00000013474, 2.61179172644, 1581.71553079950},
-                {0.00000013574, 5.60777906786, 106.78110999820},
-                {0.00000017733, 1.96265517830, 860.55374623631},
-                {0.00000014099, 0.49552041586, 934.70469748469},
-                {0.00000014690, 1.28998048526, 337.97632814250},
-                {0.00000011717, 6.21548749349, 3178.38960805111},
-                {0.00000010988, 0.56913717361, 2214.98690507971},
-                {0.00000010909, 1.73441772451, 1052.02456570489},
-                {0.00000011465, 4.40816469502, 1361.30288836070},
-                {0.00000010506, 0.08856023326, 2104.78058386030},
-                {0.00000012808, 3.66887031235, 96.22304470130},
-                {0.00000013402, 6.17284814260, 721.89323701370},
-                {0.00000010003, 5.29029166259, 1464.39566257930},
-                {0.00000011029, 3.18683769269, 604.71638114540},
-                {0.00000009807, 3.81416991065, 107.26874496520},
-                {0.00000011312, 2.62059931029, 220.16882495529},
-                {0.00000010028, 3.94766287245, 497.69145366371},
-                {0.00000009515, 5.77311274657, 1890.99385345530},
-                {0.00000010988, 5.26272329530, 2015.91490364330},
-                {0.00000010134, 0.68933796308, 1592.49810650500},
-                {0.00000008954, 0.87046855862, 10.80188278040},
-                {0.00000008739, 4.67223251717, 91.80325647120},
-                {0.00000008399, 0.82244069816, 1148.49142788971},
-                {0.00000008408, 0.96591596781, 1585.38455950421},
-                {0.00000009230, 3.53443422146, 562.17811149250},
-                {0.00000008186, 4.64550130925, 2104.29294889330},
-                {0.00000008259, 2.22042436652, 302.40859313851},
-                {0.00000009900, 4.65877537869, 1478.62275658089},
-                {0.00000010878, 2.27095143786, 113.63153244060},
-                {0.00000009582, 4.37932327117, 455.15318401080},
-                {0.00000007712, 1.30412279702, 422.90985509640},
-                {0.00000007595, 0.02631225673, 629.84616305900},
-                {0.00000008496, 1.04067280887, 224.58861318540},
-                {0.00000007414, 3.60338167449, 39.11305843170},
-                {0.00000007292, 1.12702623915, 430.02340209721},
-                {0.00000007357, 2.07742539313, 2655.81218995730},
-                {0.00000007633, 6.03508479564, 636.95971005981},
-                {0.00000007369, 0.71596086110, 2229.21399908130},
-                {0.00000007258, 2.51814892716, 423.66061462181},
-                {0.00000007648, 0.75719220270, 2001.68780964171},
-                {0.00000008081, 1.31219730813, 1586.13531902961},
-                {0.00000007334, 3.57362648170, 529.18402305270},
-                {0.00000007334, 3.90865182026, 530.68554210351},
-                {0.00000007088, 3.90573080708, 13.98327651810},
-                {0.00000006944, 1.27959676844, 99.40443843901},
-                {0.00000007575, 3.79999823386, 121.49583896680},
-                {0.00000006848, 2.35876258225, 1898.10740045609},
-                {0.00000006870, 5.86252805188, 1158.78636862821},
-                {0.00000006772, 3.50813033017, 1048.58004740881},
-                {0.00000007746, 3.54911383960, 1691.92185201890},
-                {0.00000006468, 5.54893778542, 1165.89991562901},
-                {0.00000006936, 4.92604014284, 953.35157971640},
-                {0.00000006382, 0.76063043397, 1159.53712815361},
-                {0.00000006464, 5.53982453249, 113.89465699899},
-                {0.00000006270, 6.12875427425, 387.48513244430},
-                {0.00000006557, 4.81011230587, 636.20895053440},
-                {0.00000007405, 1.84721590721, 405.50136735710},
-                {0.00000006424, 0.99818860411, 312.70353387701},
-                {0.00000006311, 2.65837067079, 983.35967639710},
-                {0.00000007257, 0.25978556818, 1251.09656714130},
-                {0.00000006999, 3.09774680314, 323.26159917390},
-                {0.00000005842, 0.50538293824, 1166.65067515440},
-                {0.00000006084, 4.51074934327, 2538.49232173710},
-                {0.00000005618, 0.08316456270, 71.09326278771},
-                {0.00000005590, 0.34453029262, 234.88355392390},
-                {0.00000005829, 4.88173947209, 1041.46650040800},
-                {0.00000006815, 6.01343806079, 305.10235190919},
-                {0.00000005423, 4.10655824247, 114.38229196601},
-                {0.00000005434, 1.33565656744, 1251.58420210830},
-                {0.00000005984, 1.18424710557, 319.81708087780},
-                {0.00000005352, 0.90568977859, 415.79630809560},
-                {0.00000005826, 1.12913548074, 1891.48148842230},
-                {0.00000005519, 2.07020279444, 1593.24886603040},
-                {0.00000005189, 5.63081007242, 448.18264936190},
-                {0.00000005286, 2.89186635254, 505.55576018990},
-                {0.00000005876, 2.54689905929, 459.08533727390},
-                {0.00000005578, 2.84516685445, 437.88770862340},
-                {0.00000004953, 5.01729407226, 1780.78753223589},
-                {0.00000004928, 3.11188481400, 199.31581891990},
-                {0.00000004972, 4.59041195194, 554.31380496631},
-                {0.00000004889, 4.57426078554, 117.07605073670},
-                {0.00000005942, 1.75505812286, 512.52629483880},
-                {0.00000004807, 0.26863334445, 494.51005992600},
-                {0.00000005528, 1.80622642695, 430.77416162260},
-                {0.00000004806, 0.21884952823, 956.04533848709},
-                {0.00000006190, 5.04541957128, 2751.79141717511},
-                {0.00000005306, 0.11969668866, 1069.92068841121},
-                {0.00000004939, 5.49878249966, 2207.38572311189},
-                {0.00000005203, 0.30883580794, 498.91529394111},
-                {0.00000004397, 0.93049026820, 565.35950523021},
-                {0.00000004342, 1.34852955452, 672.38443271190},
-                {0.00000004528, 4.21721444880, 1677.69475801730},
-                {0.00000004334, 1.86306609018, 611.68691579430},
-                {0.00000004608, 5.66110590863, 679.49797971270},
-                {0.00000004812, 0.89025719177, 560.95427121510},
-                {0.00000004305, 1.60213053627, 1070.67144793660},
-                {0.00000004662, 4.62198878885, 621.98185653281},
-                {0.00000004362, 2.38936273723, 81.50831573269},
-                {0.00000004781, 4.94273816108, 600.78422788230},
-                {0.00000004148, 0.34386178190, 1080.96638867510},
-                {0.00000004478, 5.54973564701, 629.09540353360},
-                {0.00000004108, 0.28050115804, 644.07325706060},
-                {0.00000004654, 0.26747143227, 508.10650660869},
-                {0.00000004260, 0.28663615026, 209.87388421679},
-                {0.00000005131, 5.19827010225, 946.23803271561},
-                {0.00000003845, 0.02687662536, 970.76006745570},
-                {0.00000003839, 4.39486053854, 2420.68481854989},
-                {0.00000003898, 4.36796507234, 1064.29161411871},
-                {0.00000004274, 3.88197021297, 31.99951143090},
-                {0.00000003986, 3.61377428858, 952.60082019101},
-                {0.00000003880, 3.72470409125, 504.80500066450},
-                {0.00000005205, 4.22425643960, 1795.01462623750},
-                {0.00000003879, 0.21645781655, 747.16603127920},
-                {0.00000003965, 6.05218850802, 501.62360692681},
-                {0.00000004541, 0.10865029183, 757.46097201770},
-                {0.00000003663, 0.96855107175, 2318.07967929830},
-                {0.00000004938, 1.24113099358, 294.80741117069},
-                {0.00000003643, 3.75757419955, 555.06456449170},
-                {0.00000003850, 0.10927703513, 835.28095197081},
-                {0.00000003693, 1.43008979314, 558.24595822940},
-                {0.00000003818, 3.56284581831, 2325.19322629910},
-                {0.00000003422, 2.09047795615, 2214.49927011270},
-                {0.00000003726, 0.01800308688, 740.05248427840},
-                {0.00000003306, 0.56515315647, 2641.58509595570},
-                {0.00000003331, 1.40804314394, 501.48059457490},
-                {0.00000003289, 3.64076064476, 1066.25165970650},
-                {0.00000004224, 5.65692006690, 547.34327031741},
-                {0.00000003214, 4.63993723371, 498.44221318910},
-                {0.00000003771, 1.62732535851, 1493.33748554950},
-                {0.00000003357, 5.63168758175, 1272.43720814370},
-                {0.00000003469, 1.82151805203, 1678.18239298430},
-                {0.00000003147, 5.15767685182, 654.36819779910},
-                {0.00000003122, 3.69868417138, 1912.82212942470},
-                {0.00000003766, 6.26541380179, 1567.97607176490},
-                {0.00000003766, 6.26541380179, 1567.48843679789},
-                {0.00000003651, 3.33863747697, 2008.31372167550},
-                {0.00000003350, 2.02935185038, 6276.20612047410},
-                {0.00000002969, 2.84234108474, 561.42735196710},
-                {0.00000002926, 0.87762167738, 824.98601123230},
-                {0.00000003251, 1.48662260788, 6290.43321447570},
-                {0.00000003134, 3.45182421255, 10206.41581669370},
-                {0.00000003154, 1.31710977614, 483.46435966210},
-                {0.00000002968, 0.95734389320, 597.60283414461},
-                {0.00000003023, 3.68954971021, 938.37372618940},
-                {0.00000003496, 3.80583016563, 1054.95988122670},
-                {0.00000002718, 5.83851172606, 1151.67282162740},
-                {0.00000003041, 2.90965702851, 10220.64291069530},
-                {0.00000002652, 6.21650349274, 960.46512671720},
-                {0.00000002720, 1.00932854817, 326.93062787860},
-                {0.00000002672, 0.80664235757, 537.79908910430},
-                {0.00000002672, 0.39245063721, 522.07047605190},
-                {0.00000002641, 0.36790627076, 2531.37877473630},
-                {0.00000002658, 1.14453224196, 1062.07342822750},
-                {0.00000002567, 4.28770215521, 415.30867312860},
-                {0.00000002847, 1.35125253700, 1176.94561589290},
-                {0.00000002545, 4.77644807792, 1098.98262358790},
-                {0.00000002658, 5.35693010643, 1057.17806711790},
-                {0.00000003084, 2.56963998299, 320.56784040320},
-                {0.00000003075, 6.27507572432, 462.26673101160},
-                {0.00000002804, 6.16567268722, 576.40520549410},
-                {0.00000002606, 5.21906136752, 2523.77759276850},
-                {0.00000003000, 3.65608242169, 230.32075334190},
-                {0.00000002425, 4.09514576387, 422.42222012939},
-                {0.00000002483, 5.26115871401, 209.12312469139},
-                {0.00000002390, 4.78653880453, 210.36151918381},
-                {0.00000002327, 5.56730422259, 416.05943265400},
-                {0.00000002797, 0.30753315592, 2332.30677329990},
-                {0.00000002273, 3.32904776610, 945.48727319021},
-                {0.00000002980, 0.57215995151, 202.76033721600},
-                {0.00000002267, 4.77704986942, 2097.17940189250},
-                {0.00000002330, 2.61194456361, 849.50804597240},
-                {0.00000002940, 3.89100366694, 2111.40649589409},
-                {0.00000002403, 1.43951577299, 433.46792039329},
-                {0.00000002256, 1.40980672956, 1054.20912170131},
-                {0.00000002203, 4.38408918114, 217.47506618460},
-                {0.00000002189, 3.11420297739, 1514.53511420000},
-                {0.00000002120, 5.32964021512, 423.17297965479},
-                {0.00000002093, 2.91578358954, 543.67424161270},
-                {0.00000002373, 3.40448834117, 536.15455770160},
-                {0.00000002373, 4.07778996079, 523.71500745461},
-                {0.00000002040, 1.15053228876, 988.77630236850},
-                {0.00000002105, 1.65182568239, 1059.57756356290},
-                {0.00000002005, 0.23022912919, 460.78225830330},
-                {0.00000001997, 0.01573125874, 504.66198831261},
-                {0.00000002033, 0.46615032885, 1173.76422215520},
-                {0.00000001976, 1.94247006692, 46.71424039951},
-                {0.00000002284, 0.08168640420, 531.57931398080},
-                {0.00000002284, 1.11740659058, 528.29025117541},
-                {0.00000002219, 0.28864854659, 5230.56364931950},
-                {0.00000002084, 3.79495631549, 490.57790666290},
-                {0.00000002020, 3.27527557464, 568.06781821590},
-                {0.00000001939, 0.63756905811, 1065.04237364410},
-                {0.00000001972, 1.10124465701, 2428.28600051770},
-                {0.00000002080, 5.31250252176, 194.89603068979},
-                {0.00000001994, 1.00933853256, 749.85979004990},
-                {0.00000001905, 1.94076118880, 1077.78499493740},
-                {0.00000001909, 4.29377156648, 2737.07668820650},
-                {0.00000001874, 1.18336173856, 555.20757684360},
-                {0.00000002388, 2.65748069414, 334.79493440480},
-                {0.00000002111, 0.80588667765, 5216.33655531789},
-                {0.00000002086, 1.74158554893, 1062.54650897950},
-                {0.00000002063, 1.71239799040, 9160.77334553909},
-                {0.00000001930, 0.74728387158, 2207.87335807890},
-                {0.00000001877, 0.19967253757, 732.93893727761},
-                {0.00000001836, 4.07130877335, 1994.08662767389},
-                {0.00000001907, 6.06525003405, 824.49837626530},
-                {0.00000001819, 4.11575405255, 491.80174694030},
-                {0.00000001892, 3.68926102357, 569.29165849331},
-                {0.00000001770, 2.86237801037, 842.39449897160},
-                {0.00000001786, 3.68832273420, 327.68138740401},
-                {0.00000001761, 1.39220218514, 67.42423408300},
-                {0.00000001872, 2.05384799126, 1169.34443392509},
-                {0.00000001951, 5.91395025443, 142.69346761730},
-                {0.00000001737, 5.04430948440, 202.00957769060},
-                {0.00000001965, 2.22844080314, 9146.54625153749},
-                {0.00000001703, 1.79561638802, 2530.89113976930},
-                {0.00000001717, 1.56523864144, 380.37158544351},
-                {0.00000001684, 0.96892569776, 599.08730685290},
-                {0.00000001669, 0.56251586275, 2634.47154895491},
-                {0.00000001707, 3.13360819218, 92.29089143820},
-                {0.00000001666, 4.51582119325, 1058.66253982621},
-                {0.00000002249, 1.89939977026, 852.95256426850},
-                {0.00000002105, 4.84963681002, 1059.67393178251},
-                {0.00000001971, 5.97456261468, 1883.88030645450},
-                {0.00000001682, 5.05358209402, 1905.22094745690},
-                {0.00000001591, 1.71258004064, 2435.39954751850},
-                {0.00000001870, 4.91045755022, 739.30172475301},
-                {0.00000001831, 0.23036450981, 405.01373239010},
-                {0.00000001741, 3.87703465673, 1280.03839011150},
-                {0.00000001437, 0.15153485897, 1056.70498636590},
-                {0.00000001666, 1.98564123475, 1060.58895551920},
-                {0.00000001646, 3.31965590226, 299.37021175271},
-                {0.00000001423, 5.06681929129, 1464.88329754630},
-                {0.00000001879, 5.78203740511, 531.41925528640},
-                {0.00000001879, 1.70024089685, 528.45030986980},
-                {0.00000001460, 1.42660733495, 1269.74344937300},
-                {0.00000001684, 0.90643601570, 1364.97191706540},
-                {0.00000001453, 1.55271946857, 526.26575387340},
-                {0.00000001700, 4.86312330636, 725.07463075140},
-                {0.00000001360, 1.93936734070, 917.17609753890},
-                {0.00000001426, 4.95337494898, 2840.16946242510},
-                {0.00000001498, 3.83211973659, 1134.40734624000},
-                {0.00000001410, 4.97053896796, 1091.86907658711},
-                {0.00000001520, 5.37749544795, 977.73060210460},
-                {0.00000001747, 3.17984072825, 2324.70559133209},
-                {0.00000001288, 3.95858951452, 732.18817775220},
-                {0.00000001713, 3.60652551663, 2427.79836555070},
-                {0.00000001282, 5.53618260525, 1475.17823828480},
-                {0.00000001517, 1.63411439321, 1439.75351563271},
-                {0.00000001271, 4.19498605517, 843.14525849700},
-                {0.00000001308, 5.87705324776, 558.38897058130},
-                {0.00000001677, 0.97487380844, 611.19928082730},
-                {0.00000001256, 4.41755923055, 2854.88419139370},
-                {0.00000001366, 3.14960813536, 1446.86706263350},
-                {0.00000001435, 4.97960275859, 991.95769610620},
-                {0.00000001144, 5.29122600369, 1482.29178528560},
-                {0.00000001142, 4.39466768970, 408.19512612779},
-                {0.00000001147, 5.28949177860, 3068.18328683170},
-                {0.00000001501, 5.53595039529, 75.02541605080},
-                {0.00000001226, 3.45697923185, 1141.37788088890},
-                {0.00000001323, 5.16542134486, 284.39235822571},
-                {0.00000001150, 5.21811270268, 430.28652665560},
-                {0.00000001292, 1.65611589428, 1994.57426264090},
-                {0.00000001226, 2.47910206722, 372.77040347569},
-                {0.00000001132, 3.62425240134, 1063.81853336670},
-                {0.00000001079, 0.26090286718, 1483.04254481100},
-                {0.00000001111, 4.66761037682, 2413.57127154910},
-                {0.00000001252, 5.77247306070, 473.31243127551},
-                {0.00000001242, 2.94913211429, 539.49601013370},
-                {0.00000001242, 1.39155353408, 520.37355502251},
-                {0.00000001169, 1.94705823334, 386.99749747730},
-                {0.00000001003, 1.46144081160, 216.98743121760},
-                {0.00000001030, 3.78515085968, 850.25880549781},
-                {0.00000001165, 1.66344587729, 2758.90496417590},
-                {0.00000000984, 3.96978325817, 522.77305146750},
-                {0.00000000984, 0.37090239019, 537.09651368871},
-                {0.00000001015, 5.23058664749, 451.22103074770},
-                {0.00000001310, 2.45586682061, 1354.67697632690},
-                {0.00000001121, 2.24397477114, 4164.06817212950},
-                {0.00000000956, 0.45045343285, 2950.86341861150},
-                {0.00000000940, 5.04866396759, 39.60069339870},
-                {0.00000000949, 0.52248659569, 1475.92899781020},
-                {0.00000000992, 1.30939511951, 1969.44448072730},
-                {0.00000000935, 3.89177610875, 3053.46855786309},
-                {0.00000001085, 1.70979702342, 586.55713388070},
-                {0.00000000901, 1.38326808068, 248.96763557360},
-                {0.00000000894, 1.47962768735, 2847.28300942589},
-                {0.00000000948, 4.80656003236, 2221.61281711350},
-                {0.00000000923, 0.00868868373, 2421.17245351690},
-                {0.00000001070, 5.69849027842, 2200.27217611110},
-                {0.00000001169, 2.53153449921, 100.40127618030},
-                {0.00000001005, 3.63845316069, 1432.63996863190},
-                {0.00000001017, 3.67405924039, 8094.27786834910},
-                {0.00000000984, 3.45627656974, 537.00014546910},
-                {0.00000000984, 0.88440907863, 522.86941968710},
-                {0.00000001118, 1.42327440603, 416.54706762100},
-                {0.00000000914, 5.81575314491, 1140.89024592190},
-                {0.00000000977, 1.34926302993, 312.96665843540},
-                {0.00000000840, 0.85450942681, 1579.02177202880},
-                {0.00000000891, 0.04963060055, 486.64575339981},
-                {0.00000000849, 0.94811547267, 834.79331700380},
-                {0.00000000926, 2.63549295580, 532.62854134880},
-                {0.00000000832, 2.25169167762, 608.64853440851},
-                {0.00000000975, 3.40649349112, 21.09682351890},
-                {0.00000000794, 5.26516657623, 1791.57010794140},
-                {0.00000001006, 1.72593750499, 2310.96613229750},
-                {0.00000000825, 1.82039899833, 8616.85528644289},
-                {0.00000000827, 0.54227509993, 2545.60586873790},
-                {0.00000000955, 1.09478150456, 760.01171843649},
-                {0.00000000955, 4.23637415815, 760.49935340350},
-                {0.00000000936, 1.28100839064, 155.53915477459},
-                {0.00000000779, 0.26183378572, 1792.32086746680},
-                {0.00000000766, 0.71363802237, 3811.17334736430},
-                {0.00000000773, 3.84885148203, 738.81408978600},
-                {0.00000000788, 5.43030953147, 732.45130231059},
-                {0.00000000801, 3.05581987419, 77204.08367704989},
-                {0.00000000937, 6.26646142496, 297.98880490840},
-                {0.00000000779, 3.79015371961, 538.01153742540},
-                {0.00000000779, 0.55053192876, 521.85802773080},
-                {0.00000000755, 2.10425922159, 8631.08238044450},
-                {0.00000000743, 3.49834818410, 1060.14701253450},
-                {0.00000000790, 3.19521603309, 902.94900353731},
-                {0.00000000897, 1.19433126461, 1485.73630358170},
-                {0.00000000991, 3.33499486125, 2744.19023520730},
-                {0.00000000740, 5.64369354959, 277.27881122490},
-                {0.00000000780, 5.38986403689, 606.20085385370},
-                {0.00000000738, 1.96155322417, 4856.32818355191},
-                {0.00000000799, 1.14946240957, 573.22381175640},
-                {0.00000000802, 2.35697578389, 984.84414910540},
-                {0.00000000761, 0.74324276764, 2744.67787017430},
-                {0.00000000735, 3.91525398793, 4650.14263511470},
-                {0.00000000721, 3.82827689917, 731.70054278519},
-                {0.00000000850, 2.33025907115, 775.47720693050},
-                {0.00000000717, 5.22051515031, 5746.02752041250},
-                {0.00000000754, 3.01162160350, 202.49721265760},
-                {0.00000000787, 1.45241015286, 320.08020543620},
-                {0.00000000739, 4.25049662100, 967.57867371801},
-                {0.00000000744, 0.24478158041, 2847.77064439291},
-                {0.00000000684, 5.02015802407, 1798.68365494221},
-                {0.00000000700, 4.52571213685, 572.47305223100},
-                {0.00000000700, 2.95656616511, 487.39651292520},
-                {0.00000000690, 1.37931038856, 2118.52004289490},
-                {0.00000000670, 2.76522726571, 245.29860686890},
-                {0.00000000668, 5.20188694033, 739.56484931140},
-                {0.00000000667, 5.58822887801, 1013.15532475670},
-                {0.00000000762, 0.14158644002, 9153.65979853830},
-                {0.00000000711, 4.68249485250, 3156.56133208170},
-                {0.00000000679, 5.25016144281, 24498.58642880689},
-                {0.00000000729, 4.80734453852, 4547.04986089611},
-                {0.00000000692, 4.62037992194, 5062.51373198910},
-                {0.00000000649, 6.27552774113, 1799.43441446760},
-                {0.00000000677, 2.25267578062, 10.05112325500},
-                {0.00000000784, 5.42419314811, 3281.48238226970},
-                {0.00000000733, 2.27993558439, 453.66871130251},
-                {0.00000000643, 4.14281979615, 2310.47849733050},
-                {0.00000000658, 1.58035282058, 305.85311143459},
-                {0.00000000784, 2.49180999721, 74.53778108379},
-                {0.00000000704, 5.13288018853, 5165.60650620771},
-                {0.00000000648, 0.46023761646, 1382.64352936309},
-                {0.00000000786, 4.88358448252, 1290.19031849811},
-                {0.00000000844, 6.14413478231, 312.21589891000},
-                {0.00000000703, 4.75268520401, 2288.10022602790},
-                {0.00000000703, 5.25408808776, 2273.87313202630},
-                {0.00000000797, 2.87597815652, 2641.09746098870},
-                {0.00000000635, 2.14518246830, 397.90018538930},
-                {0.00000000607, 1.30612000311, 1689.22809324820},
-                {0.00000000626, 0.39224578590, 2524.26522773550},
-                {0.00000000636, 4.99095278095, 511.28790034640},
-                {0.00000000613, 0.56214188686, 1037.79747170330},
-                {0.00000000614, 3.18089955415, 2957.97696561230},
-                {0.00000000747, 5.14974622689, 5223.45010231870},
-                {0.00000000606, 0.77338936404, 1751.29571393250},
-                {0.00000000779, 4.30366040804, 523.78444342380},
-                {0.00000000779, 0.03702524033, 536.08512173241},
-                {0.00000000607, 1.35240171145, 2133.23477186350},
-                {0.00000000744, 6.04795940886, 643.32249753521},
-                {0.00000000697, 0.66536766751, 1354.18934135989},
-                {0.00000000669, 3.25849716631, 5069.62727898990},
-                {0.00000000762, 1.79392292274, 1262.62990237220},
-                {0.00000000765, 0.61378577745, 927.59115048390},
-                {0.00000000720, 1.48952280347, 3075.29683383250},
-                {0.00000000573, 5.97535724360, 394.59867944510},
-                {0.00000000634, 6.09733077732, 470.13103753780},
-                {0.00000000559, 0.92745429765, 445.00125562421},
-                {0.00000000671, 4.72931368260, 454.66554904380},
-                {0.00000000755, 1.43187121540, 105.29663728990},
-                {0.00000000567, 5.33251485606, 1887.54933515920},
-                {0.00000000593, 5.99788761622, 842.65762352999},
-                {0.00000000564, 2.51973397119, 1127.29379923920},
-                {0.00000000547, 0.43054759456, 4127.56521702090},
-                {0.00000000624, 2.95261781250, 25035.39094090229},
-                {0.00000000545, 6.09691062396, 810.90192958261},
-                {0.00000000641, 1.20453451725, 305.58998687620},
-                {0.00000000593, 1.40845707752, 1063.07026596880},
-                {0.00000000574, 0.22531417131, 1699.03539901970},
-                {0.00000000616, 3.45400333076, 25021.16384690069},
-                {0.00000000721, 2.41192409328, 1819.88128359270},
-                {0.00000000537, 1.85187456995, 782.59075393131},
-                {0.00000000597, 4.07180274826, 379.88395047650},
-                {0.00000000543, 3.12698436492, 216.72430665921},
-                {0.00000000552, 0.25020791353, 1268.99268984760},
-                {0.00000000534, 6.16996002402, 437.13694909800},
-                {0.00000000588, 5.43198241681, 460.29462333630},
-                {0.00000000524, 4.47141172676, 518.40144734719},
-                {0.00000000701, 0.58425032979, 1670.58121101650},
-                {0.00000000632, 5.83508891293, 4525.70921989370},
-                {0.00000000546, 3.16244281187, 89.10949770051},
-                {0.00000000496, 4.51139575372, 3171.27606105030},
-                {0.00000000501, 4.75534479759, 32.48714639791},
-                {0.00000000508, 4.65099599522, 827.67977000299},
-                {0.00000000493, 3.86150271006, 10022.08109758290},
-                {0.00000000550, 5.31707353623, 2516.66404576769},
-                {0.00000000546, 1.38494758910, 589.73852761840},
-                {0.00000000509, 0.35849492381, 4686.64559022330},
-                {0.00000000505, 0.21007516833, 754.27957828001},
-                {0.00000000479, 3.15486072496, 5223.93773728571},
-                {0.00000000461, 2.56623041309, 1595.94262480110},
-                {0.00000000472, 0.95774392273, 3163.67487908250},
-                {0.00000000472, 0.95774392273, 3164.16251404950},
-                {0.00000000509, 5.55791627029, 69.39634175830},
-                {0.00000000546, 0.44435269123, 2840.65709739210},
-                {0.00000000615, 0.32730812757, 519.15220687259},
-                {0.00000000579, 4.02359849872, 525.51499434800},
-                {0.00000000455, 5.55680477419, 1468.06469128401},
-                {0.00000000451, 0.27162002670, 614.86830953200},
-                {0.00000000451, 4.98348360302, 2107.96197759801},
-                {0.00000000450, 0.83061588531, 3480.06674873909},
-                {0.00000000450, 0.83061588531, 3480.55438370610},
-                {0.00000000447, 6.20310325477, 3267.25528826810},
-                {0.00000000467, 0.09916917853, 1490.15609181181},
-                {0.00000000472, 5.54856635272, 1457.28211557850},
-                {0.00000000462, 5.48144983275, 26617.83792415230},
-                {0.00000000440, 5.31113210528, 3384.08752152129},
-                {0.00000000440, 5.31113210528, 3384.57515648830},
-                {0.00000000453, 4.59459163866, 9154.14743350530},
-                {0.00000000440, 4.77291542298, 2538.00468677009},
-                {0.00000000616, 0.11097190779, 1560.37488979710},
-                {0.00000000437, 3.78589316644, 4966.53450477130},
-                {0.00000000433, 0.72851985281, 4700.87268422489},
-                {0.00000000439, 0.00874316549, 2108.71273712340},
-                {0.00000000452, 3.24655844352, 1551.18367712950},
-                {0.00000000483, 0.54583867389, 629.35852809199},
-                {0.00000000455, 2.09561269155, 1368.41643536150},
-                {0.00000000454, 1.06884234808, 1884.36794142151},
-                {0.00000000476, 2.84297109529, 3060.58210486390},
-                {0.00000000414, 5.93250814925, 533.37930087419},
-                {0.00000000434, 4.40957688009, 622.24498109120},
-                {0.00000000434, 1.26798422650, 622.73261605820},
-                {0.00000000423, 6.09756499780, 415.04804069769},
-                {0.00000000411, 2.21364343296, 4539.44867892829},
-                {0.00000000411, 2.21364343296, 4539.93631389530},
-                {0.00000000507, 2.46156999040, 3252.54055929950},
-                {0.00000000401, 0.60477521531, 1040.97886544099},
-                {0.00000000424, 0.17468685146, 1254.76559584600},
-                {0.00000000407, 1.50695117865, 665.27088571111},
-                {0.00000000428, 4.09362449264, 12036.21691740469},
-                {0.00000000487, 4.98974857689, 1901.77642916080},
-                {0.00000000484, 1.19386220714, 1357.85837006460},
-                {0.00000000435, 4.56496977263, 2729.96314120569},
-                {0.00000000435, 1.42337711904, 2730.45077617271},
-                {0.00000000393, 3.70194655878, 3803.57216539650},
-                {0.00000000393, 3.70194655878, 3804.05980036350},
-                {0.00000000396, 2.29672548563, 1020.26887175750},
-                {0.00000000413, 0.90721614242, 1902.52718868620},
-                {0.00000000438, 5.82247234506, 611.82992814620},
-                {0.00000000404, 1.67645195925, 2042.74160658630},
-                {0.00000000412, 4.61028536998, 4863.44173055270},
-                {0.00000000379, 0.15728961892, 4443.95708667750},
-                {0.00000000528, 6.10721110527, 721.40560204669},
-                {0.00000000392, 5.54718824078, 2001.20017467470},
-                {0.00000000379, 0.35077315636, 9676.23721663209},
-                {0.00000000379, 3.49236580995, 9676.72485159910},
-                {0.00000000372, 3.07971309061, 3273.88120030190},
-                {0.00000000372, 3.07971309060, 3274.36883526891},
-        };
-    }
-
-    private static void initialize_2_2()
-    {
-        classCoeff[1][2] = new double[][]{
-                {0.00202462055, 0.59792458091, 529.93478257810},
-                {0.00132313738, 3.89295968796, 0.24381748350},
-                {0.00123752958, 2.55853913064, 522.82123557730},
-                {0.00121682952, 4.91767938901, 537.04832957890},
-                {0.00035719700, 3.45512045921, 1059.62574767270},
-                {0.00011394908, 0.15831191722, 7.35736448430},
-                {0.00007053660, 5.44857872902, 1066.73929467350},
-                {0.00005684733, 2.05222271085, 1052.51220067191},
-                {0.00005262466, 2.69780996624, 515.70768857651},
-                {0.00003815469, 3.98689525353, 1589.31671276730},
-                {0.00003706857, 4.78859671078, 544.16187657970},
-                {0.00001449544, 1.07785028902, 110.45013870291},
-                {0.00001046768, 0.75395840567, 426.84200835950},
-                {0.00001322480, 0.05697677565, 14.47091148511},
-                {0.00000858857, 0.30653313914, 633.02755679670},
-                {0.00000887013, 3.09315872764, 526.75338884040},
-                {0.00000866197, 4.38230951425, 533.11617631580},
-                {0.00000997140, 6.17027795984, 323.74923414091},
-                {0.00000563455, 0.04960726876, 949.41942645330},
-                {0.00000571107, 1.58632661254, 1045.39865367110},
-                {0.00000519207, 4.39249603222, 526.00262931501},
-                {0.00000607942, 1.27749143447, 736.12033101530},
-                {0.00000506922, 3.07709057807, 533.86693584120},
-                {0.00000485331, 3.17541273379, 109.96250373590},
-                {0.00000475072, 5.78207162854, 529.44714761109},
-                {0.00000458270, 5.95238630892, 1596.43025976811},
-                {0.00000418781, 1.04079958107, 117.56368570370},
-                {0.00000525152, 1.98263661840, 102.84895673509},
-                {0.00000374437, 0.84144118564, 95.73540973430},
-                {0.00000412815, 5.04212838870, 103.33659170210},
-                {0.00000320928, 2.67288808735, 419.72846135871},
-                {0.00000322793, 4.41855165225, 2119.00767786191},
-                {0.00000302747, 1.84681315770, 205.94173095370},
-                {0.00000280926, 2.12468407469, 1582.20316576650},
-                {0.00000243003, 1.57275553426, 625.91400979590},
-                {0.00000260213, 2.10127305773, 956.53297345411},
-                {0.00000223206, 5.59326372578, 433.95555536030},
-                {0.00000219874, 0.15087500723, 942.30587945250},
-                {0.00000202904, 5.19995521771, 220.65645992230},
-                {0.00000196744, 4.42883920470, 1169.83206889211},
-                {0.00000171475, 2.19448427444, 6.86972951729},
-                {0.00000195569, 4.41657624168, 640.14110379750},
-                {0.00000165172, 3.71383053394, 316.63568714010},
-                {0.00000163913, 5.23556107603, 1073.85284167431},
-                {0.00000164904, 1.98636179817, 1155.60497489050},
-                {0.00000138497, 2.85820387486, 508.59414157570},
-                {0.00000135640, 1.81977900596, 198.82818395289},
-                {0.00000170382, 6.03512783536, 330.86278114170},
-                {0.00000123801, 3.67192968217, 743.23387801611},
-                {0.00000105922, 1.10242641180, 853.44019923550},
-                {0.00000104749, 2.62023485267, 522.33360061030},
-                {0.00000115508, 2.71991945901, 309.03450517230},
-                {0.00000127421, 1.41853462450, 729.00678401450},
-                {0.00000104374, 0.89194130513, 213.54291292150},
-                {0.00000074731, 4.62028784658, 551.27542358051},
-                {0.00000076056, 2.59067478621, 1265.81129610991},
-                {0.00000084864, 3.26374582961, 519.63984183961},
-                {0.00000085433, 4.07536581059, 213.05527795450},
-                {0.00000070250, 2.97938769876, 426.35437339250},
-                {0.00000070226, 5.88545650951, 206.42936592071},
-                {0.00000065869, 2.26360027552, 839.21310523390},
-                {0.00000062918, 2.84024006922, 412.61491435790},
-                {0.00000067605, 4.19524535793, 540.22972331660},
-                {0.00000071970, 1.76149388570, 419.24082639170},
-                {0.00000053452, 5.96965868749, 3.42521122121},
-                {0.00000052805, 0.64612484946, 412.12727939089},
-                {0.00000055599, 6.19142815990, 21.58445848590},
-                {0.00000046667, 5.06765916310, 227.77000692311},
-                {0.00000048911, 4.88627603894, 1062.80714141041},
-                {0.00000046046, 1.69944877998, 536.56069461190},
-                {0.00000049381, 2.96227489837, 1162.71852189130},
-                {0.00000039853, 2.83106272106, 1258.69774910910},
-                {0.00000038964, 3.82409926208, 309.52214013930},
-                {0.00000038082, 4.25027357628, 441.06910236111},
-                {0.00000032665, 3.07238994770, 1692.40948698591},
-                {0.00000031801, 0.14719940852, 2126.12122486270},
-                {0.00000036510, 2.83147334737, 1056.44435393500},
-                {0.00000040831, 1.76738911692, 1575.08961876571},
-                {0.00000031242, 2.99902293895, 618.80046279510},
-                {0.00000032827, 1.87547695506, 515.22005360950},
-                {0.00000028849, 5.03497321398, 1055.69359440960},
-                {0.00000032224, 4.96133890377, 1272.92484311070},
-                {0.00000028682, 1.53844011595, 1038.28510667030},
-                {0.00000029430, 3.21972350654, 1486.22393854870},
-                {0.00000034150, 2.79751290016, 301.92095817150},
-                {0.00000032088, 2.52348716505, 625.42637482889},
-                {0.00000024170, 2.39467034468, 832.09955823310},
-                {0.00000023462, 0.52036917801, 1059.13811270570},
-                {0.00000023622, 2.60159482405, 742.74624304909},
-                {0.00000025413, 3.79378187392, 1368.90407032850},
-                {0.00000025008, 4.81402651995, 2648.69864295650},
-                {0.00000019641, 3.29857408882, 1063.55790093581},
-                {0.00000020824, 4.96156233332, 1699.52303398670},
-                {0.00000018958, 1.33062268278, 838.72547026689},
-                {0.00000019085, 0.27421860784, 1479.11039154791},
-                {0.00000020467, 4.52802295353, 647.25465079831},
-                {0.00000018387, 0.90119440297, 1471.99684454710},
-                {0.00000016332, 0.27219099833, 728.51914904750},
-                {0.00000018784, 1.39830492533, 735.63269604830},
-                {0.00000013140, 0.04984430125, 1376.01761732930},
-                {0.00000014219, 0.85329624536, 124.67723270450},
-                {0.00000012676, 1.25087875699, 831.61192326610},
-                {0.00000012289, 5.75436340555, 10.53875822200},
-                {0.00000011203, 1.59407227495, 511.77553531340},
-                {0.00000012667, 5.77688101830, 963.64652045490},
-                {0.00000013805, 2.26287537924, 2111.89413086110},
-                {0.00000010749, 5.88274412057, 548.09402984280},
-                {0.00000012863, 4.47014391443, 750.34742501690},
-                {0.00000012393, 2.34379668336, 1685.29593998510},
-                {0.00000012549, 2.17268947101, 941.81824448550},
-                {0.00000010468, 0.30458009626, 935.19233245171},
-                {0.00000008995, 1.74960944229, 1383.13116433011},
-                {0.00000011159, 2.51015843852, 618.31282782810},
-                {0.00000007631, 5.05979604407, 632.53992182970},
-                {0.00000007503, 5.67188098812, 1603.54380676890},
-                {0.00000007708, 1.95453603914, 191.71463695210},
-                {0.00000007383, 1.13509741924, 1155.11733992350},
-                {0.00000008531, 3.84811863075, 1361.79052332771},
-                {0.00000008011, 5.88118865782, 337.97632814250},
-                {0.00000007223, 3.84606265734, 88.62186273350},
-                {0.00000007778, 1.36850966173, 1052.02456570489},
-                {0.00000007476, 1.59564508061, 721.89323701370},
-                {0.00000005663, 3.52114816133, 2222.10045208050},
-                {0.00000005661, 0.00460945410, 1044.91101870410},
-                {0.00000005318, 0.95938503716, 1148.00379292269},
-                {0.00000004988, 0.39989410631, 639.65346883050},
-                {0.00000005093, 2.58948327756, 106.03035047280},
-                {0.00000006533, 3.48079365390, 845.83901726770},
-                {0.00000006385, 0.35391558166, 860.55374623631},
-                {0.00000004988, 1.41354054180, 99.66756299740},
-                {0.00000005571, 2.81444404460, 1795.50226120450},
-                {0.00000005541, 2.42198547004, 1049.33080693420},
-                {0.00000005247, 1.88295964360, 1258.21011414209},
-                {0.00000004445, 3.79759027615, 846.32665223470},
-                {0.00000003990, 4.74398115700, 1802.61580820530},
-                {0.00000003926, 2.16218108184, 497.69145366371},
-                {0.00000003892, 3.84670029567, 302.40859313851},
-                {0.00000003809, 3.73909928384, 2.93757625420},
-                {0.00000003620, 5.32009722771, 562.17811149250},
-                {0.00000004760, 2.22483727905, 934.70469748469},
-                {0.00000004154, 5.29683004255, 96.22304470130},
-                {0.00000003877, 2.20085136203, 1375.52998236229},
-                {0.00000003522, 3.09584301581, 501.48059457490},
-                {0.00000003445, 2.53099132900, 1148.49142788971},
-                {0.00000003382, 4.89060343280, 234.88355392390},
-                {0.00000003592, 3.66643310344, 405.50136735710},
-                {0.00000003808, 2.35607884579, 1788.38871420371},
-                {0.00000003336, 0.87926034840, 1471.50920958009},
-                {0.00000003758, 0.45509718094, 113.63153244060},
-                {0.00000003174, 3.90621979282, 448.18264936190},
-                {0.00000003698, 1.01340900246, 220.16882495529},
-                {0.00000003101, 3.18331755184, 316.14805217309},
-                {0.00000002746, 4.17978592068, 81.50831573269},
-                {0.00000002816, 4.07738334997, 2015.91490364330},
-                {0.00000002754, 5.70117381714, 430.02340209721},
-                {0.00000002783, 1.81572481299, 2104.78058386030},
-                {0.00000003501, 4.61828326310, 1069.92068841121},
-                {0.00000002580, 2.70735869418, 98.91680347199},
-                {0.00000002605, 3.58250505073, 611.68691579430},
-                {0.00000002955, 5.33795885153, 1592.49810650500},
-                {0.00000003418, 0.91402819173, 1368.41643536150},
-                {0.00000002482, 6.19470895878, 1361.30288836070},
-                {0.00000002409, 5.65098301690, 107.26874496520},
-                {0.00000002450, 1.82798028749, 948.93179148630},
-                {0.00000002454, 3.07591757821, 1251.58420210830},
-                {0.00000002443, 0.80546406296, 1464.39566257930},
-                {0.00000002848, 3.22965138097, 1898.59503542310},
-                {0.00000002434, 4.87638273487, 1080.96638867510},
-                {0.00000002240, 1.77459488806, 629.84616305900},
-                {0.00000002676, 2.93522198834, 294.80741117069},
-                {0.00000002252, 4.20412336387, 423.66061462181},
-                {0.00000002207, 1.26929749414, 106.78110999820},
-                {0.00000002966, 0.61692584962, 106.51798543980},
-                {0.00000002114, 2.97133804999, 117.07605073670},
-                {0.00000002234, 3.71703805766, 6276.20612047410},
-                {0.00000002232, 6.07586800494, 6290.43321447570},
-                {0.00000002060, 0.61396711293, 2655.81218995730},
-                {0.00000002492, 1.55690527788, 1574.60198379870},
-                {0.00000002405, 3.40255115300, 1162.23088692429},
-                {0.00000002094, 4.26293458943, 13.98327651810},
-                {0.00000001997, 2.59413376987, 2008.80135664250},
-                {0.00000001998, 3.66897172067, 149.80701461810},
-                {0.00000002075, 5.13994005595, 10206.41581669370},
-                {0.00000002073, 1.21558655630, 10220.64291069530},
-                {0.00000001833, 2.60928669023, 824.98601123230},
-                {0.00000001940, 5.08767479418, 199.31581891990},
-                {0.00000001989, 1.62630471057, 323.26159917390},
-                {0.00000001764, 4.69152602347, 970.76006745570},
-                {0.00000002079, 0.16395458213, 1905.70858242391},
-                {0.00000001815, 1.60120314289, 1265.32366114289},
-                {0.00000001815, 4.28784753553, 558.38897058130},
-                {0.00000001819, 3.79124340355, 1165.89991562901},
-                {0.00000002303, 1.95114448415, 1251.09656714130},
-                {0.00000001797, 5.48846817914, 1585.38455950421},
-                {0.00000001785, 2.60041060537, 1159.53712815361},
-                {0.00000001719, 3.18124488238, 654.36819779910},
-                {0.00000002106, 2.00507240636, 508.10650660869},
-                {0.00000001746, 2.85410644796, 1586.13531902961},
-                {0.00000001693, 1.86129406512, 1691.92185201890},
-                {0.00000001560, 2.48952478561, 2001.68780964171},
-                {0.00000001635, 0.62669051313, 1787.90107923670},
-                {0.00000001492, 5.75772456494, 422.90985509640},
-                {0.00000001558, 3.23097345434, 636.20895053440},
-                {0.00000001753, 4.84300262737, 757.46097201770},
-                {0.00000001757, 5.31425455438, 3178.38960805111},
-                {0.00000001411, 4.82184730987, 956.04533848709},
-                {0.00000001925, 1.69879574514, 1567.97607176490},
-                {0.00000001563, 2.82364433424, 1891.48148842230},
-                {0.00000001383, 4.87286586350, 5230.56364931950},
-                {0.00000001393, 2.50410021460, 1280.03839011150},
-                {0.00000001381, 2.51458784132, 5216.33655531789},
-                {0.00000001548, 0.74638079450, 946.23803271561},
-                {0.00000001239, 1.33958827620, 543.67424161270},
-                {0.00000001373, 1.17035918011, 1890.99385345530},
-                {0.00000001198, 5.50480829771, 326.93062787860},
-                {0.00000001220, 5.64182300635, 319.81708087780},
-                {0.00000001357, 5.70946834472, 2229.21399908130},
-                {0.00000001271, 0.01266765679, 9160.77334553909},
-                {0.00000001268, 3.93758835915, 9146.54625153749},
-                {0.00000001183, 1.68810975581, 636.95971005981},
-                {0.00000001254, 6.07103801223, 433.46792039329},
-                {0.00000001180, 0.55156432114, 1780.78753223589},
-                {0.00000001421, 3.61381859664, 1678.18239298430},
-                {0.00000001111, 3.54163507553, 910.06255053810},
-                {0.00000001135, 3.99300516499, 540.98048284201},
-                {0.00000001425, 0.59800839792, 1684.80830501809},
-                {0.00000001101, 0.33268231661, 518.88908231420},
-                {0.00000001052, 0.87116249009, 1493.33748554950},
-                {0.00000000954, 2.13166225661, 1066.25165970650},
-                {0.00000001305, 3.68417944671, 5223.45010231870},
-                {0.00000000932, 1.81701400569, 952.60082019101},
-                {0.00000001152, 4.15622157039, 3281.48238226970},
-                {0.00000001271, 2.91723787442, 1478.62275658089},
-                {0.00000000993, 2.42220158667, 2427.79836555070},
-                {0.00000001202, 1.66398680721, 1567.48843679789},
-                {0.00000000952, 2.83462623397, 2325.19322629910},
-                {0.00000000904, 3.88771946892, 1158.78636862821},
-                {0.00000001185, 2.82656778833, 2214.98690507971},
-                {0.00000000965, 2.41761451411, 2428.28600051770},
-                {0.00000000862, 3.45873513038, 5753.14106741329},
-                {0.00000001183, 0.56670778502, 953.35157971640},
-                {0.00000000858, 5.60347835412, 749.85979004990},
-                {0.00000000857, 5.92079986515, 1677.69475801730},
-                {0.00000000896, 4.05090365368, 1272.43720814370},
-                {0.00000000838, 1.85345325590, 740.05248427840},
-                {0.00000000810, 1.99086557504, 732.93893727761},
-                {0.00000000899, 1.44837834416, 1581.71553079950},
-                {0.00000001107, 1.52991417673, 1912.82212942470},
-                {0.00000001099, 1.63363197193, 21.09682351890},
-                {0.00000000856, 0.26870253693, 210.36151918381},
-                {0.00000000792, 4.88168256779, 9683.35076363289},
-                {0.00000000803, 2.43011635326, 2641.58509595570},
-                {0.00000001013, 0.26382735728, 852.95256426850},
-                {0.00000000790, 2.45929735954, 1166.65067515440},
-                {0.00000000927, 2.40548084691, 202.76033721600},
-                {0.00000000955, 2.63053495096, 611.19928082730},
-                {0.00000000848, 1.52904158095, 824.49837626530},
-                {0.00000000721, 3.87768985281, 4693.75913722409},
-                {0.00000000732, 5.25617010486, 1141.37788088890},
-                {0.00000000717, 3.47473573810, 2538.49232173710},
-                {0.00000000764, 1.02089435958, 3789.83270636190},
-                {0.00000000757, 2.29144101005, 422.42222012939},
-                {0.00000000870, 1.70474992020, 3900.03902758130},
-                {0.00000000745, 1.11551269154, 416.05943265400},
-                {0.00000000786, 1.87783459546, 3590.76070492550},
-                {0.00000000722, 0.69162917181, 1809.72935520611},
-                {0.00000000731, 1.56640382879, 2008.31372167550},
-                {0.00000000784, 2.40595880647, 1795.01462623750},
-                {0.00000000655, 5.29949669283, 8623.96883344369},
-                {0.00000000859, 4.45239063404, 459.08533727390},
-                {0.00000000787, 3.89498804276, 1671.06884598351},
-                {0.00000000668, 0.46476131572, 2545.60586873790},
-                {0.00000000707, 0.44824026865, 1169.34443392509},
-                {0.00000000679, 0.69182567589, 1588.82907780029},
-                {0.00000000721, 0.46106254321, 2104.29294889330},
-                {0.00000000869, 2.05707977661, 3576.53361092390},
-                {0.00000000878, 5.49426984828, 75.02541605080},
-                {0.00000000883, 2.87549710098, 3384.57515648830},
-                {0.00000000627, 2.60545252272, 405.01373239010},
-                {0.00000000776, 2.36750552228, 927.59115048390},
-                {0.00000000751, 3.92531642097, 3597.87425192630},
-                {0.00000000821, 3.33729170182, 3487.66793070691},
-                {0.00000000603, 2.24262715346, 2318.07967929830},
-                {0.00000000766, 3.89405071692, 1354.67697632690},
-                {0.00000000679, 0.93833494617, 2207.38572311189},
-                {0.00000000820, 4.88672199584, 6283.31966747490},
-                {0.00000000638, 0.90714252231, 3370.34806248671},
-                {0.00000000711, 1.29280470587, 1883.88030645450},
-                {0.00000000666, 1.22953421972, 3693.85347914410},
-                {0.00000000785, 3.49527016473, 3149.44778508089},
-                {0.00000000566, 0.13027536492, 2861.99773839450},
-                {0.00000000781, 1.41485635870, 3796.94625336271},
-                {0.00000000719, 3.02988768028, 600.78422788230},
-                {0.00000000586, 3.97655750409, 732.45130231059},
-                {0.00000000546, 0.87759549299, 437.88770862340},
-                {0.00000000539, 3.39333684490, 209.12312469139},
-                {0.00000000659, 2.59360004759, 2207.87335807890},
-                {0.00000000617, 2.08977841036, 2744.67787017430},
-                {0.00000000617, 2.08977841036, 2744.19023520730},
-                {0.00000000687, 2.15934118066, 209.87388421679},
-                {0.00000000566, 4.70636247947, 526.26575387340},
-                {0.00000000640, 3.60830260468, 1987.46071564010},
-                {0.00000000623, 2.21578255427, 3274.36883526891},
-                {0.00000000623, 2.21578255427, 3273.88120030190},
-                {0.00000000682, 4.78157060479, 2332.30677329990},
-                {0.00000000719, 5.11346846815, 9153.65979853830},
-                {0.00000000547, 0.34236516611, 2097.17940189250},
-                {0.00000000705, 2.59491824208, 3700.96702614491},
-                {0.00000000574, 3.41963712247, 430.77416162260},
-                {0.00000000543, 0.88081760855, 1457.28211557850},
-                {0.00000000693, 0.33025900018, 2001.20017467470},
-                {0.00000000659, 2.96839974316, 3804.05980036350},
-                {0.00000000581, 2.15878783346, 2111.40649589409},
-                {0.00000000540, 6.13903070975, 2729.96314120569},
-                {0.00000000653, 6.09326422469, 2626.87036698710},
-                {0.00000000673, 3.08841787143, 416.54706762100},
-                {0.00000000541, 0.97608919869, 2214.49927011270},
-                {0.00000000463, 3.71557681634, 529.88659846831},
-                {0.00000000463, 0.63020265214, 529.98296668790},
-                {0.00000000453, 5.18763231998, 5753.62870238030},
-                {0.00000000499, 1.74748261623, 2421.17245351690},
-                {0.00000000456, 3.28830064335, 76.50988875911},
-                {0.00000000587, 1.13660838990, 527.48710202330},
-                {0.00000000505, 1.06180904724, 532.62854134880},
-                {0.00000000582, 3.20768877862, 532.38246313290},
-                {0.00000000517, 0.69632241122, 2523.77759276850},
-                {0.00000000475, 2.88817124373, 2531.37877473630},
-                {0.00000000433, 0.32149741104, 621.98185653281},
-                {0.00000000530, 3.32159958445, 512.52629483880},
-                {0.00000000530, 1.01908606392, 547.34327031741},
-                {0.00000000478, 3.50052966452, 1593.24886603040},
-                {0.00000000423, 0.32742738106, 9683.83839859990},
-                {0.00000000592, 1.66841184917, 2324.70559133209},
-                {0.00000000410, 4.13116496171, 2751.30378220809},
-                {0.00000000507, 2.10021567641, 1243.98302014049},
-                {0.00000000521, 1.46001387840, 4216.43089723790},
-                {0.00000000458, 4.03023009406, 629.09540353360},
-                {0.00000000508, 3.32555628701, 1994.57426264090},
-                {0.00000000508, 0.18396363342, 1994.08662767389},
-                {0.00000000452, 4.24985614624, 3.68833577960},
-                {0.00000000527, 2.84159709661, 597.60283414461},
-                {0.00000000527, 4.64068120535, 462.26673101160},
-                {0.00000000555, 1.79977655362, 3892.92548058051},
-                {0.00000000464, 3.31404699259, 1905.22094745690},
-                {0.00000000535, 2.60058723927, 2943.74987161071},
-                {0.00000000535, 5.74217989286, 2943.26223664369},
-                {0.00000000450, 3.73627122155, 3914.26612158291},
-                {0.00000000390, 4.12428063042, 2751.79141717511},
-                {0.00000000511, 4.46664359519, 643.32249753521},
-                {0.00000000431, 0.85128279093, 849.50804597240},
-                {0.00000000464, 6.26761999534, 2633.98391398789},
-                {0.00000000486, 3.27293685238, 2303.85258529670},
-                {0.00000000412, 6.19787080325, 2758.90496417590},
-                {0.00000000423, 1.17747515264, 1898.10740045609},
-                {0.00000000457, 5.26603357261, 519.15220687259},
-                {0.00000000530, 2.82489810933, 2221.61281711350},
-                {0.00000000443, 5.28863656813, 89.10949770051},
-                {0.00000000478, 0.39094045474, 2420.68481854989},
-        };
-    }
-
-    private static void initialize_2_3()
-    {
-        classCoeff[1][3] = new double[][]{
-                {0.00016990902, 4.27247332045, 522.82123557730},
-                {0.00016795793, 3.18563475573, 537.04832957890},
-                {0.00005535565, 5.40269185025, 0.24381748350},
-                {0.00001711756, 1.80070871020, 1059.62574767270},
-                {0.00001437893, 4.40672411903, 515.70768857651},
-                {0.00001080832, 3.83903053740, 1066.73929467350},
-                {0.00001014927, 3.07247314388, 544.16187657970},
-                {0.00001080320, 4.63909200214, 7.35736448430},
-                {0.00000700816, 3.91629287572, 1052.51220067191},
-                {0.00000245290, 2.63485195455, 1589.31671276730},
-                {0.00000301422, 4.61795245261, 14.47091148511},
-                {0.00000233420, 0.22403594785, 529.93478257810},
-                {0.00000141715, 4.79041763529, 529.44714761109},
-                {0.00000134439, 3.36367709264, 1045.39865367110},
-                {0.00000078118, 4.43004262792, 1596.43025976811},
-                {0.00000076833, 5.59776741855, 117.56368570370},
-                {0.00000092926, 4.40350030513, 323.74923414091},
-                {0.00000078223, 5.40096869297, 110.45013870291},
-                {0.00000065879, 1.48772085888, 109.96250373590},
-                {0.00000058147, 4.57249620850, 508.59414157570},
-                {0.00000051718, 2.58980208142, 95.73540973430},
-                {0.00000058000, 5.16608137630, 426.84200835950},
-                {0.00000047055, 3.57438012615, 1073.85284167431},
-                {0.00000041297, 2.04634997990, 633.02755679670},
-                {0.00000056002, 3.01090434125, 736.12033101530},
-                {0.00000040590, 1.87109726412, 942.30587945250},
-                {0.00000036838, 3.19435792826, 625.91400979590},
-                {0.00000032307, 2.88952809764, 551.27542358051},
-                {0.00000038649, 4.33064739716, 330.86278114170},
-                {0.00000031637, 4.00200479143, 1582.20316576650},
-                {0.00000032315, 3.88623349757, 433.95555536030},
-                {0.00000037135, 0.48127765061, 103.33659170210},
-                {0.00000027869, 3.45656961616, 220.65645992230},
-                {0.00000027130, 3.15454297418, 2119.00767786191},
-                {0.00000027831, 1.90579303958, 949.41942645330},
-                {0.00000026529, 2.71723722320, 1169.83206889211},
-                {0.00000026303, 4.38890518124, 419.72846135871},
-                {0.00000027724, 0.30357549024, 6.86972951729},
-                {0.00000028942, 3.12933706476, 729.00678401450},
-                {0.00000024801, 3.55551242105, 198.82818395289},
-                {0.00000022666, 3.71310041528, 1155.60497489050},
-                {0.00000022463, 0.48577882565, 956.53297345411},
-                {0.00000024855, 5.09800784432, 519.63984183961},
-                {0.00000017587, 4.51976917752, 21.58445848590},
-                {0.00000020511, 2.33822898286, 540.22972331660},
-                {0.00000017573, 3.85855374859, 205.94173095370},
-                {0.00000019314, 2.63415930465, 640.14110379750},
-                {0.00000013850, 5.76603142366, 853.44019923550},
-                {0.00000013374, 3.35682573162, 227.77000692311},
-                {0.00000012226, 4.58700933844, 522.33360061030},
-                {0.00000011511, 2.47604533623, 441.06910236111},
-                {0.00000011785, 4.54328580165, 412.61491435790},
-                {0.00000009912, 1.34647813433, 206.42936592071},
-                {0.00000009439, 4.79528119891, 618.80046279510},
-                {0.00000009398, 3.27167007870, 1038.28510667030},
-                {0.00000009377, 4.03210310088, 839.21310523390},
-                {0.00000009606, 1.29930255542, 426.35437339250},
-                {0.00000011272, 4.51307032502, 309.03450517230},
-                {0.00000008495, 0.16101118987, 536.56069461190},
-                {0.00000007775, 5.49067289304, 316.63568714010},
-                {0.00000007402, 2.44949859869, 412.12727939089},
-                {0.00000009022, 3.47982253523, 1575.08961876571},
-                {0.00000007220, 4.54159743611, 1258.69774910910},
-                {0.00000006726, 4.13659559768, 832.09955823310},
-                {0.00000006944, 5.51093137903, 309.52214013930},
-                {0.00000007778, 4.49951291514, 301.92095817150},
-                {0.00000007986, 2.40170822369, 213.05527795450},
-                {0.00000005933, 4.95948042350, 2126.12122486270},
-                {0.00000005844, 1.73926665310, 743.23387801611},
-                {0.00000005965, 3.67342955411, 515.22005360950},
-                {0.00000004458, 5.51442841213, 1059.13811270570},
-                {0.00000003905, 4.27184704039, 1265.81129610991},
-                {0.00000004118, 5.46755234125, 124.67723270450},
-                {0.00000003669, 1.84391323522, 1486.22393854870},
-                {0.00000003534, 4.38721038089, 625.42637482889},
-                {0.00000003134, 3.36420319845, 1699.52303398670},
-                {0.00000002973, 1.04471011524, 742.74624304909},
-                {0.00000002686, 5.78683992698, 88.62186273350},
-                {0.00000003079, 1.99582195262, 935.19233245171},
-                {0.00000002579, 3.95429921370, 1062.80714141041},
-                {0.00000002378, 3.65318849817, 2648.69864295650},
-                {0.00000002346, 2.14951839318, 728.51914904750},
-                {0.00000003011, 2.56665773426, 647.25465079831},
-                {0.00000002322, 4.05450701004, 1603.54380676890},
-                {0.00000002809, 3.52093842683, 1272.92484311070},
-                {0.00000002701, 2.72157216334, 1471.99684454710},
-                {0.00000002369, 3.30637620547, 721.89323701370},
-                {0.00000002359, 4.17347791131, 337.97632814250},
-                {0.00000002423, 4.28527398429, 618.31282782810},
-                {0.00000002070, 3.05132274908, 831.61192326610},
-                {0.00000001958, 3.88095030867, 526.75338884040},
-                {0.00000001935, 0.44518939738, 533.11617631580},
-                {0.00000002297, 5.54175410580, 1368.90407032850},
-                {0.00000002015, 3.68637600590, 191.71463695210},
-                {0.00000002184, 4.06594004577, 963.64652045490},
-                {0.00000001685, 4.73740509993, 1685.29593998510},
-                {0.00000001816, 1.96798308062, 1162.71852189130},
-                {0.00000001733, 2.70077445297, 750.34742501690},
-                {0.00000001699, 4.10560078356, 1055.69359440960},
-                {0.00000001717, 2.19034610706, 448.18264936190},
-                {0.00000001811, 4.93807061086, 860.55374623631},
-                {0.00000001432, 6.00290182284, 81.50831573269},
-                {0.00000001779, 2.60448403761, 1056.44435393500},
-                {0.00000001397, 5.29190720613, 611.68691579430},
-                {0.00000001563, 3.56303703117, 838.72547026689},
-                {0.00000001726, 5.58280644952, 1361.79052332771},
-                {0.00000001152, 0.12950397768, 1383.13116433011},
-                {0.00000001200, 3.69239539182, 632.53992182970},
-                {0.00000001145, 5.43151272872, 405.50136735710},
-                {0.00000001078, 2.03239323412, 1479.11039154791},
-                {0.00000001223, 6.16550077809, 21.09682351890},
-                {0.00000001051, 1.31296703432, 526.00262931501},
-                {0.00000001414, 3.85675901673, 941.81824448550},
-                {0.00000001030, 3.03819438792, 533.86693584120},
-                {0.00000001211, 2.84309753774, 1069.92068841121},
-                {0.00000001240, 3.92862477221, 934.70469748469},
-                {0.00000000944, 1.86321874038, 1044.91101870410},
-                {0.00000001091, 4.10316988679, 2111.89413086110},
-                {0.00000000986, 5.14322625016, 2097.17940189250},
-                {0.00000000967, 5.28600031012, 1588.82907780029},
-                {0.00000000939, 2.81112974414, 13.98327651810},
-                {0.00000000870, 5.07245340162, 639.65346883050},
-                {0.00000001013, 5.44748312429, 1049.33080693420},
-                {0.00000000989, 2.86838275982, 1148.00379292269},
-                {0.00000001043, 2.98280277812, 1080.96638867510},
-                {0.00000000824, 4.17606860247, 433.46792039329},
-                {0.00000001002, 4.01347037981, 1788.38871420371},
-                {0.00000000823, 2.03930536894, 654.36819779910},
-                {0.00000000801, 0.27042298823, 1375.52998236229},
-                {0.00000000890, 4.65790311289, 294.80741117069},
-                {0.00000000763, 3.00898516277, 2421.17245351690},
-                {0.00000000793, 2.96629034382, 234.88355392390},
-                {0.00000000752, 4.56374445756, 1251.58420210830},
-                {0.00000000788, 5.54399109100, 302.40859313851},
-                {0.00000000719, 3.28492821269, 1787.90107923670},
-                {0.00000000760, 3.49538730713, 2104.78058386030},
-                {0.00000000839, 4.84381227007, 1898.59503542310},
-                {0.00000000962, 4.80560510645, 2318.07967929830},
-                {0.00000000832, 4.85895718536, 2001.68780964171},
-                {0.00000000930, 0.44313687441, 96.22304470130},
-                {0.00000000879, 1.78320792762, 845.83901726770},
-                {0.00000000780, 1.22419144371, 611.19928082730},
-                {0.00000000900, 4.69837586769, 1162.23088692429},
-                {0.00000000759, 3.21123137459, 2008.31372167550},
-                {0.00000000715, 2.43949501289, 1464.39566257930},
-                {0.00000000780, 4.52983365743, 2214.98690507971},
-                {0.00000000679, 1.69767989980, 2435.39954751850},
-                {0.00000000809, 5.12961307681, 1994.57426264090},
-                {0.00000000772, 5.46156636423, 220.16882495529},
-                {0.00000000622, 2.00213930026, 316.14805217309},
-                {0.00000000612, 0.83227002431, 749.85979004990},
-                {0.00000000612, 1.13237645481, 117.07605073670},
-                {0.00000000713, 6.02221537369, 1140.89024592190},
-                {0.00000000626, 1.12243212464, 1692.40948698591},
-                {0.00000000676, 3.49335420549, 2840.65709739210},
-                {0.00000000594, 1.37315363305, 102.84895673509},
-                {0.00000000790, 3.53118420318, 1251.09656714130},
-                {0.00000000756, 4.64193430086, 1148.49142788971},
-                {0.00000000568, 0.84481707130, 1141.37788088890},
-                {0.00000000616, 3.74926817789, 2524.26522773550},
-                {0.00000000560, 2.89131917550, 2104.29294889330},
-                {0.00000000686, 4.59806378353, 2627.35800195410},
-                {0.00000000720, 3.64327792020, 1258.21011414209},
-                {0.00000000733, 6.11931006119, 1884.36794142151},
-                {0.00000000583, 1.49952942471, 2751.79141717511},
-                {0.00000000546, 5.87603590490, 543.67424161270},
-                {0.00000000530, 0.65117889899, 1066.25165970650},
-                {0.00000000581, 2.31120308329, 1780.78753223589},
-                {0.00000000523, 3.92602863833, 1471.50920958009},
-                {0.00000000508, 3.10717560112, 508.10650660869},
-                {0.00000000645, 3.47859687529, 2015.91490364330},
-                {0.00000000553, 5.34237729322, 852.95256426850},
-                {0.00000000480, 3.05830758640, 1677.69475801730},
-                {0.00000000480, 6.19990023999, 1678.18239298430},
-                {0.00000000618, 3.01489314196, 1905.70858242391},
-                {0.00000000463, 1.12266408736, 89.10949770051},
-                {0.00000000512, 3.49738396142, 1155.11733992350},
-                {0.00000000497, 3.67029546589, 1376.01761732930},
-                {0.00000000529, 2.41566570980, 1802.61580820530},
-                {0.00000000617, 4.55541673250, 2634.47154895491},
-                {0.00000000459, 5.95987834679, 1691.92185201890},
-                {0.00000000503, 0.43655200011, 948.93179148630},
-                {0.00000000547, 4.87653833894, 2310.96613229750},
-                {0.00000000432, 3.81824814417, 1567.48843679789},
-                {0.00000000432, 3.81824814417, 1567.97607176490},
-                {0.00000000419, 1.75904856409, 1361.30288836070},
-                {0.00000000415, 5.93908536808, 558.38897058130},
-                {0.00000000415, 4.68478558747, 501.48059457490},
-                {0.00000000413, 0.31276763851, 1883.88030645450},
-                {0.00000000436, 3.11437440839, 1464.88329754630},
-        };
-    }
-
-    private static void initialize_2_4()
-    {
-        classCoeff[1][4] = new double[][]{
-                {0.00001739145, 1.42580386197, 537.04832957890},
-                {0.00001740807, 6.00432821679, 522.82123557730},
-                {0.00000593812, 3.67074805419, 529.93478257810},
-                {0.00000303714, 6.13319798890, 515.70768857651},
-                {0.00000216971, 1.33336714102, 544.16187657970},
-                {0.00000201301, 0.66067734911, 0.24381748350},
-                {0.00000128314, 2.22919023790, 1066.73929467350},
-                {0.00000084519, 2.80934114497, 7.35736448430},
-                {0.00000066713, 5.73808767639, 1052.51220067191},
-                {0.00000050914, 2.88970415030, 14.47091148511},
-                {0.00000056189, 5.95539409574, 1059.62574767270},
-                {0.00000023551, 5.17496754986, 1045.39865367110},
-                {0.00000014975, 0.07336624009, 508.59414157570},
-                {0.00000012320, 1.18823443350, 1589.31671276730},
-                {0.00000010412, 1.88156810845, 1073.85284167431},
-                {0.00000010436, 2.90285964648, 1596.43025976811},
-                {0.00000010171, 3.86119874481, 117.56368570370},
-                {0.00000007028, 6.10496958528, 109.96250373590},
-                {0.00000007310, 1.00125130523, 551.27542358051},
-                {0.00000005867, 4.33407208985, 95.73540973430},
-                {0.00000005482, 2.53643730082, 323.74923414091},
-                {0.00000005308, 2.60414218500, 330.86278114170},
-                {0.00000005155, 3.58060509730, 942.30587945250},
-                {0.00000004404, 4.83926930457, 729.00678401450},
-                {0.00000003429, 4.99509335363, 625.91400979590},
-                {0.00000003596, 3.33581032804, 110.45013870291},
-                {0.00000003379, 5.25427709084, 198.82818395289},
-                {0.00000002870, 2.96757411587, 529.44714761109},
-                {0.00000003465, 4.76476994232, 736.12033101530},
-                {0.00000002781, 5.80054865786, 1582.20316576650},
-                {0.00000002710, 0.81919347445, 441.06910236111},
-                {0.00000002621, 0.96453577508, 1169.83206889211},
-                {0.00000002851, 2.20827145709, 103.33659170210},
-                {0.00000003222, 1.76964083344, 433.95555536030},
-                {0.00000002252, 5.47979006595, 1155.60497489050},
-                {0.00000002643, 3.09107587932, 426.84200835950},
-                {0.00000002565, 1.36437340248, 6.86972951729},
-                {0.00000002154, 0.36845643020, 618.80046279510},
-                {0.00000002044, 6.19291733804, 419.72846135871},
-                {0.00000001513, 1.60661037744, 220.65645992230},
-                {0.00000001619, 3.76198603224, 633.02755679670},
-                {0.00000001503, 1.66604601675, 2119.00767786191},
-                {0.00000001422, 1.64339956175, 227.77000692311},
-                {0.00000001448, 5.34787531868, 1575.08961876571},
-                {0.00000001354, 5.08770092894, 956.53297345411},
-                {0.00000001398, 6.23305755326, 301.92095817150},
-                {0.00000001551, 0.94639398642, 640.14110379750},
-                {0.00000001193, 4.12010673320, 853.44019923550},
-                {0.00000001228, 4.89609039918, 536.56069461190},
-                {0.00000001153, 5.81136535588, 426.35437339250},
-                {0.00000001111, 0.25913441118, 309.52214013930},
-                {0.00000001322, 6.23999851102, 412.61491435790},
-                {0.00000001137, 0.06266558324, 1258.69774910910},
-                {0.00000000987, 0.30137359463, 522.33360061030},
-                {0.00000000937, 2.83311778330, 618.31282782810},
-                {0.00000000830, 4.12976646136, 412.12727939089},
-                {0.00000000868, 5.39178303584, 1038.28510667030},
-                {0.00000000819, 2.43009257653, 742.74624304909},
-                {0.00000000952, 1.65716723019, 831.61192326610},
-                {0.00000000903, 3.71462655064, 949.41942645330},
-                {0.00000000740, 5.82657968137, 832.09955823310},
-                {0.00000000726, 5.81781448666, 839.21310523390},
-                {0.00000000890, 1.13102640201, 647.25465079831},
-                {0.00000000672, 5.39661133415, 102.84895673509},
-                {0.00000000598, 2.46149662725, 337.97632814250},
-                {0.00000000711, 5.36999317897, 515.22005360950},
-                {0.00000000557, 0.72441048007, 1486.22393854870},
-                {0.00000000506, 3.86590138433, 1059.13811270570},
-                {0.00000000464, 2.90086100642, 117.07605073670},
-                {0.00000000479, 4.66931827522, 526.75338884040},
-                {0.00000000451, 5.32820518820, 1471.99684454710},
-                {0.00000000466, 5.95847666696, 533.11617631580},
-                {0.00000000396, 2.33304510363, 1603.54380676890},
-        };
-    }
-
-    private static void initialize_2_5()
-    {
-        classCoeff[1][5] = new double[][]{
-                {0.00000131509, 5.80959663173, 537.04832957890},
-                {0.00000126839, 1.57486395680, 522.82123557730},
-                {0.00000048033, 1.61168112243, 515.70768857651},
-                {0.00000034241, 5.82558762592, 544.16187657970},
-                {0.00000011284, 0.56803103740, 1066.73929467350},
-                {0.00000005229, 0.87528666787, 0.24381748350},
-                {0.00000003712, 1.71517319353, 1052.51220067191},
-                {0.00000004457, 3.71675991204, 529.93478257810},
-                {0.00000001949, 0.16900749445, 1073.85284167431},
-                {0.00000001738, 3.42162831595, 1059.62574767270},
-                {0.00000001716, 1.48767323100, 1045.39865367110},
-                {0.00000000879, 1.64959635605, 508.59414157570},
-                {0.00000000886, 2.65648931803, 551.27542358051},
-                {0.00000000665, 0.00022824942, 7.35736448430},
-                {0.00000000466, 1.28798211401, 1596.43025976811},
-        };
-    }
-
-    private static void initialize_3_0()
-    {
-        classCoeff[2][0] = new double[][]{
-                {0.11823100489, 3.55844646343, 529.69096509460},
-                {0.00859031952, 0.00000000000, 0.00000000000},
-                {0.00286562094, 3.90812238338, 1059.38193018920},
-                {0.00042388592, 3.60144191032, 522.57741809380},
-                {0.00033295491, 0.30297050585, 536.80451209540},
-                {0.00010416160, 4.25764593061, 1589.07289528380},
-                {0.00007449294, 5.24213104150, 103.09277421860},
-                {0.00006910102, 1.75032945752, 7.11354700080},
-                {0.00005292012, 1.68231447192, 426.59819087600},
-                {0.00004313598, 3.70673689841, 213.29909543800},
-                {0.00003784265, 2.71522544491, 110.20632121940},
-                {0.00003798016, 2.16715743175, 632.78373931320},
-                {0.00002455385, 2.96904135659, 1052.26838318840},
-                {0.00002461547, 2.99889460411, 1162.47470440780},
-                {0.00002001451, 2.68535838309, 419.48464387520},
-                {0.00002163471, 6.26718259854, 846.08283475120},
-                {0.00001633653, 0.64194743493, 1066.49547719000},
-                {0.00001450672, 1.17108416193, 949.17560896980},
-                {0.00000693095, 5.14278041161, 316.39186965660},
-                {0.00000715042, 1.41211197820, 323.50541665740},
-                {0.00000549720, 4.84164274378, 742.99006053260},
-                {0.00000447831, 4.60746588621, 2118.76386037840},
-                {0.00000543619, 3.69636561822, 515.46387109300},
-                {0.00000483852, 4.71796110160, 735.87651353180},
-                {0.00000365100, 6.06065925437, 206.18554843720},
-                {0.00000288980, 0.40266293090, 525.75881183150},
-                {0.00000254938, 0.17978560944, 543.91805909620},
-                {0.00000195137, 3.35374802237, 1692.16566950240},
-                {0.00000253254, 3.57485315487, 533.62311835770},
-                {0.00000196691, 2.65526923569, 956.28915597060},
-                {0.00000154379, 1.47050669470, 625.67019231240},
-                {0.00000145972, 5.96112903396, 838.96928775040},
-                {0.00000162371, 3.12160596807, 1581.95934828300},
-                {0.00000135954, 2.23721600610, 1478.86657406440},
-                {0.00000135376, 4.03180075278, 1265.56747862640},
-                {0.00000118734, 6.19132554294, 532.87235883230},
-                {0.00000121147, 4.06252466827, 526.50957135690},
-                {0.00000113963, 0.34443034869, 1375.77379984580},
-                {0.00000133095, 1.61283648080, 14.22709400160},
-                {0.00000089416, 0.98707919437, 1596.18644228460},
-                {0.00000091948, 5.29521569721, 95.97922721780},
-                {0.00000071808, 2.60370257221, 117.31986822020},
-                {0.00000063527, 0.97603653343, 433.71173787680},
-                {0.00000064121, 4.63524391670, 1368.66025284500},
-                {0.00000059116, 0.42038566170, 220.41264243880},
-                {0.00000060054, 1.05875226211, 942.06206196900},
-                {0.00000054868, 6.14868344705, 1169.58825140860},
-                {0.00000047058, 2.39069042869, 853.19638175200},
-                {0.00000056617, 5.78644786940, 639.89728631400},
-                {0.00000041028, 5.07649815801, 309.27832265580},
-                {0.00000054980, 2.72414041857, 1045.15483618760},
-                {0.00000039937, 2.63014962920, 380.12776796000},
-                {0.00000034887, 3.06644858707, 412.37109687440},
-                {0.00000033112, 2.21084011524, 74.78159856730},
-                {0.00000024753, 4.09311535367, 527.24328453980},
-                {0.00000021473, 5.68324848411, 1272.68102562720},
-                {0.00000021259, 4.15648418623, 1685.05212250160},
-                {0.00000021214, 4.95749714252, 2648.45482547300},
-                {0.00000019531, 3.58685387193, 529.73914920440},
-                {0.00000024578, 6.16442414965, 532.13864564940},
-                {0.00000021217, 4.46071227915, 1155.36115740700},
-                {0.00000021279, 3.98105217713, 1795.25844372100},
-                {0.00000019533, 0.38904271302, 529.64278098480},
-                {0.00000019570, 4.37171598624, 149.56319713460},
-                {0.00000019447, 1.27663598466, 330.61896365820},
-                {0.00000015440, 0.72260027140, 530.65417294110},
-                {0.00000014562, 5.50135998822, 1471.75302706360},
-                {0.00000017624, 1.31667827871, 3.93215326310},
-                {0.00000013309, 2.77897533854, 2008.55753915900},
-                {0.00000013206, 3.64976502017, 2221.85663459700},
-                {0.00000013142, 0.72687086889, 1055.44977692610},
-                {0.00000015413, 4.31958059396, 1063.31408345230},
-                {0.00000014193, 3.67387943991, 2111.65031337760},
-                {0.00000012996, 1.31000927869, 453.42489381900},
-                {0.00000011738, 6.14331082365, 199.07200143640},
-                {0.00000015482, 3.25291782438, 528.72775724810},
-                {0.00000010389, 0.51378228980, 1073.60902419080},
-                {0.00000012990, 1.87234255615, 984.60033162190},
-                {0.00000012280, 1.99030236725, 38.13303563780},
-                {0.00000010473, 0.26689008608, 10213.28554621100},
-                {0.00000008875, 0.13793367408, 305.34616939270},
-                {0.00000007692, 5.08407965373, 1788.14489672020},
-                {0.00000007861, 3.79832245754, 76.26607127560},
-                {0.00000008714, 1.58825029218, 3.18139373770},
-                {0.00000007143, 4.01912438773, 2001.44399215820},
-                {0.00000006752, 5.50960892986, 1898.35121793960},
-                {0.00000007441, 1.30439352743, 618.55664531160},
-                {0.00000006896, 1.74025919863, 529.16970023280},
-                {0.00000007365, 3.26347830221, 1485.98012106520},
-                {0.00000006518, 0.90320354569, 1905.46476494040},
-                {0.00000008347, 5.96531853825, 909.81873305460},
-                {0.00000007728, 4.61604781975, 728.76296653100},
-                {0.00000006887, 2.23549334986, 530.21222995640},
-                {0.00000005783, 6.02338915633, 831.85574074960},
-                {0.00000005788, 0.26042181508, 1062.56332392690},
-                {0.00000005581, 6.17489228666, 1258.45393162560},
-                {0.00000005154, 1.33592252764, 2125.87740737920},
-                {0.00000004916, 0.18728472832, 1699.27921650320},
-                {0.00000005480, 3.12818768952, 604.47256366190},
-                {0.00000004967, 3.92882210242, 508.35032409220},
-                {0.00000004994, 0.03902921434, 1439.50969814920},
-                {0.00000005269, 4.06576160798, 1056.20053645150},
-                {0.00000004711, 0.87975326503, 490.33408917940},
-                {0.00000004221, 2.57304081485, 99.16062095550},
-                {0.00000004005, 2.96062737592, 526.77020378780},
-                {0.00000003959, 1.38163787157, 532.61172640140},
-                {0.00000004844, 1.47818569722, 454.90936652730},
-                {0.00000003683, 0.33555577415, 528.94020556920},
-                {0.00000003681, 4.00539820601, 530.44172462000},
-                {0.00000003623, 0.28674357330, 227.52618943960},
-                {0.00000004295, 3.45202038167, 569.04784100980},
-                {0.00000003458, 4.40401766789, 519.39602435610},
-                {0.00000003435, 5.34191505443, 11.04570026390},
-                {0.00000003355, 4.80063248866, 2104.53676637680},
-                {0.00000003535, 1.18645749024, 525.49817940060},
-                {0.00000003477, 3.15607509055, 533.88375078860},
-                {0.00000003219, 5.37130793285, 2214.74308759620},
-                {0.00000004358, 2.16300555603, 1021.24889455140},
-                {0.00000003334, 0.38640772450, 224.34479570190},
-                {0.00000002697, 6.22459411775, 539.98590583310},
-                {0.00000003143, 0.15836271478, 750.10360753340},
-                {0.00000002649, 3.80434469443, 2317.83586181480},
-                {0.00000002856, 0.29274516197, 983.11585891360},
-                {0.00000003424, 5.16456871383, 1.48447270830},
-                {0.00000002725, 0.64710955846, 524.06189080210},
-                {0.00000002623, 0.25280896703, 551.03160609700},
-                {0.00000002685, 3.69478866795, 535.32003938710},
-                {0.00000002939, 0.64629595693, 540.73666535850},
-                {0.00000002398, 4.36615854926, 2428.04218303420},
-                {0.00000002597, 1.15824869762, 963.40270297140},
-                {0.00000002769, 0.20040217534, 525.02509864860},
-                {0.00000002336, 3.71676131146, 529.85102378900},
-                {0.00000002336, 0.62392433691, 529.53090640020},
-                {0.00000002491, 2.84297287947, 1382.88734684660},
-                {0.00000002598, 4.13924061941, 534.35683154060},
-                {0.00000002747, 1.76471074936, 524.27433912320},
-                {0.00000002475, 0.99313692673, 934.94851496820},
-                {0.00000002704, 2.57406093768, 535.10759106600},
-                {0.00000002302, 5.84295144929, 1148.24761040620},
-                {0.00000002068, 5.96196623799, 440.82528487760},
-                {0.00000002012, 4.95946680265, 1361.54670584420},
-                {0.00000001987, 0.18375525793, 1802.37199072180},
-                {0.00000001934, 2.82066156035, 835.03713448730},
-                {0.00000002147, 5.96724060411, 1891.23767093880},
-                {0.00000001940, 3.63687343812, 2324.94940881560},
-                {0.00000001763, 2.57382733259, 415.55249061210},
-                {0.00000001860, 5.24230405559, 2531.13495725280},
-                {0.00000001707, 5.38883058569, 302.16477565500},
-                {0.00000002152, 1.74557444220, 21.34064100240},
-                {0.00000001613, 3.45966511571, 529.47851677350},
-                {0.00000001613, 0.88102053266, 529.90341341570},
-                {0.00000002134, 2.79657990895, 35.42472265210},
-                {0.00000001593, 1.37312370449, 1574.84580128220},
-                {0.00000001510, 3.41611736454, 518.64526483070},
-                {0.00000001579, 3.96836848379, 2420.92863603340},
-                {0.00000001630, 1.31973482281, 39.35687591520},
-                {0.00000001598, 2.53043088824, 511.53171782990},
-                {0.00000001841, 5.72475961436, 531.17543780290},
-                {0.00000001537, 1.84394223501, 547.85021235930},
-                {0.00000001771, 4.87234280655, 528.20649238630},
-                {0.00000001656, 1.27834742762, 173.94221952280},
-                {0.00000001242, 1.65064670901, 643.82943957710},
-                {0.00000001302, 3.54050271463, 3340.61242669980},
-                {0.00000001236, 5.41985106155, 107.02492748170},
-                {0.00000001165, 1.48429677606, 960.22130923370},
-                {0.00000001166, 5.12888892088, 1048.33622992530},
-                {0.00000001153, 4.78828764413, 514.71311156760},
-                {0.00000001153, 4.22743390789, 2744.43405269080},
-                {0.00000001478, 3.73912254261, 230.56457082540},
-                {0.00000001121, 6.27688038656, 387.24131496080},
-                {0.00000001112, 5.83569926578, 544.66881862160},
-                {0.00000001170, 1.05508911315, 1512.80682400820},
-                {0.00000001113, 5.74217831509, 3480.31056622260},
-                {0.00000001507, 4.16985097397, 1364.72809958190},
-                {0.00000001120, 5.02238271412, 1464.63948006280},
-                {0.00000001232, 2.83088412944, 2538.24850425360},
-                {0.00000001179, 4.62538441124, 1056.93424963440},
-                {0.00000001278, 3.86396842379, 92.04707395470},
-                {0.00000001094, 2.73378417498, 299.12639426920},
-                {0.00000001345, 0.63863230611, 1061.82961074400},
-                {0.00000000977, 3.50831165685, 2.44768055480},
-                {0.00000001323, 4.03638019689, 494.26624244250},
-                {0.00000001310, 5.45458264580, 1057.89745748090},
-                {0.00000000966, 3.51363341772, 2634.22773147140},
-                {0.00000001053, 5.49394122920, 3178.14579056760},
-                {0.00000000984, 4.22960042766, 430.53034413910},
-                {0.00000000937, 3.77590974564, 2641.34127847220},
-                {0.00000000932, 4.11879245377, 1059.43011429900},
-                {0.00000000941, 0.30660455816, 70.84944530420},
-                {0.00000000925, 1.29091785470, 2435.15573003500},
-                {0.00000000950, 3.88567620136, 3377.21779200400},
-                {0.00000001051, 5.62777473038, 2207.62954059540},
-                {0.00000001020, 1.77520625500, 312.45971639350},
-                {0.00000000946, 4.13718116942, 1677.93857550080},
-                {0.00000001080, 2.32932073464, 106.27416795630},
-                {0.00000000890, 0.03582895580, 647.01083331480},
-                {0.00000001086, 2.80157071056, 1038.04128918680},
-                {0.00000001158, 0.32499630540, 565.11568774670},
-                {0.00000001098, 1.00937080256, 523.54062594030},
-                {0.00000000932, 0.92098132614, 1059.33374607940},
-                {0.00000000821, 3.41471589329, 2950.61960112800},
-                {0.00000000929, 2.30521635468, 1514.29129671650},
-                {0.00000000915, 1.48306891526, 10.29494073850},
-                {0.00000000911, 3.32547809355, 18.15924726470},
-                {0.00000000786, 2.82286526802, 1134.16352875650},
-                {0.00000000954, 0.13401891198, 3906.90875709860},
-                {0.00000000994, 3.33159283750, 535.84130424890},
-                {0.00000000792, 5.10203109941, 2524.02141025200},
-                {0.00000000824, 1.74472748730, 529.95159752550},
-                {0.00000000824, 2.59595816107, 529.43033266370},
-                {0.00000000762, 4.30564108086, 672.14061522840},
-                {0.00000000872, 5.03498959444, 679.25416222920},
-                {0.00000000839, 3.34536065236, 124.43341522100},
-                {0.00000000927, 4.91765336511, 1593.00504854690},
-                {0.00000000826, 5.05738343335, 2847.52682690940},
-                {0.00000000738, 0.70435921398, 522.52923398400},
-        };
-    }
-
-    private static void initialize_3_1()
-    {
-        classCoeff[2][1] = new double[][]{
-                {0.00922338114, 5.70129376981, 529.69096509460},
-                {0.00016158151, 5.47088355549, 522.57741809380},
-                {0.00011443757, 4.73284385916, 536.80451209540},
-                {0.00013239917, 3.14159265359, 0.00000000000},
-                {0.00008389696, 5.77702424773, 1059.38193018920},
-                {0.00001518380, 6.17585226995, 7.11354700080},
-                {0.00000909709, 4.72812859336, 1052.26838318840},
-                {0.00000620246, 2.72253251427, 103.09277421860},
-                {0.00000608445, 5.18778213162, 1066.49547719000},
-                {0.00000532577, 3.42162653671, 632.78373931320},
-                {0.00000380990, 0.66271432082, 419.48464387520},
-                {0.00000388254, 5.49417723877, 515.46387109300},
-                {0.00000298589, 2.90253153613, 949.17560896980},
-                {0.00000349922, 0.54665309808, 110.20632121940},
-                {0.00000279305, 3.88961739871, 1589.07289528380},
-                {0.00000361932, 5.53643296927, 213.29909543800},
-                {0.00000225182, 3.89570879874, 735.87651353180},
-                {0.00000187607, 4.69299591719, 543.91805909620},
-                {0.00000179235, 5.12740491355, 1162.47470440780},
-                {0.00000200039, 6.12017192088, 316.39186965660},
-                {0.00000182523, 1.80179763504, 846.08283475120},
-                {0.00000144548, 5.86543306509, 323.50541665740},
-                {0.00000086282, 5.89687025782, 526.50957135690},
-                {0.00000089546, 5.65296765520, 533.62311835770},
-                {0.00000081378, 6.14717900879, 14.22709400160},
-                {0.00000074353, 2.14164008505, 206.18554843720},
-                {0.00000069673, 4.30083628252, 532.87235883230},
-                {0.00000062471, 4.30070044341, 525.75881183150},
-                {0.00000057223, 1.37578902299, 426.59819087600},
-                {0.00000053295, 4.89194899977, 1581.95934828300},
-                {0.00000040084, 3.76141485240, 625.67019231240},
-                {0.00000036247, 5.63125611734, 1596.18644228460},
-                {0.00000035548, 1.83858046513, 956.28915597060},
-                {0.00000041340, 4.43813420705, 1045.15483618760},
-                {0.00000031563, 0.93258298806, 95.97922721780},
-                {0.00000033208, 0.84342977892, 117.31986822020},
-                {0.00000030354, 3.48783919024, 639.89728631400},
-                {0.00000030115, 5.67382431748, 1265.56747862640},
-                {0.00000025977, 2.95191149293, 942.06206196900},
-                {0.00000033745, 3.93467189724, 2118.76386037840},
-                {0.00000022626, 5.48825527865, 433.71173787680},
-                {0.00000019878, 4.91628562475, 220.41264243880},
-                {0.00000017659, 4.23943297681, 1169.58825140860},
-                {0.00000018816, 4.88638541834, 1155.36115740700},
-                {0.00000013710, 0.75869975183, 853.19638175200},
-                {0.00000011629, 5.82902179758, 330.61896365820},
-                {0.00000009953, 3.77150415749, 1478.86657406440},
-                {0.00000009435, 5.19056014088, 412.37109687440},
-                {0.00000007949, 5.09235140984, 1073.60902419080},
-                {0.00000007394, 3.77882877747, 742.99006053260},
-                {0.00000006394, 1.73926334857, 199.07200143640},
-                {0.00000007268, 1.08212079652, 309.27832265580},
-                {0.00000006126, 5.65302722173, 508.35032409220},
-                {0.00000005709, 5.24271332802, 1692.16566950240},
-                {0.00000004446, 0.13248846755, 1063.31408345230},
-                {0.00000004664, 6.01570799148, 1795.25844372100},
-                {0.00000004631, 2.23071927945, 1368.66025284500},
-                {0.00000005404, 4.55754877469, 728.76296653100},
-                {0.00000003944, 6.15098833747, 519.39602435610},
-                {0.00000004113, 6.19598758673, 3.18139373770},
-                {0.00000003543, 3.09506092197, 618.55664531160},
-                {0.00000003392, 1.77987055903, 1375.77379984580},
-                {0.00000003322, 4.96703910975, 1062.56332392690},
-                {0.00000003774, 5.36462989641, 2111.65031337760},
-                {0.00000003799, 5.83406327157, 1056.20053645150},
-                {0.00000002813, 4.52082617477, 1272.68102562720},
-                {0.00000002782, 4.79754662680, 551.03160609700},
-                {0.00000002602, 4.23853778386, 1574.84580128220},
-                {0.00000002563, 4.89379767599, 227.52618943960},
-                {0.00000002684, 4.21379358590, 2648.45482547300},
-                {0.00000002532, 4.43605994513, 539.98590583310},
-                {0.00000002233, 3.23226667541, 1685.05212250160},
-                {0.00000002724, 4.04040213922, 74.78159856730},
-                {0.00000002366, 4.85623283641, 1055.44977692610},
-                {0.00000002278, 2.57618076227, 1485.98012106520},
-                {0.00000002080, 0.06312365899, 2125.87740737920},
-                {0.00000002460, 1.72405831407, 532.13864564940},
-                {0.00000001956, 2.23190744786, 529.64278098480},
-                {0.00000001955, 5.42971857629, 529.73914920440},
-                {0.00000002026, 1.92698506631, 525.02509864860},
-                {0.00000001820, 6.00083773693, 1258.45393162560},
-                {0.00000002478, 5.93625415892, 527.24328453980},
-                {0.00000001744, 4.12331874845, 440.82528487760},
-                {0.00000002234, 0.54491713117, 380.12776796000},
-                {0.00000002181, 6.14968267326, 149.56319713460},
-                {0.00000001629, 4.73547025109, 1699.27921650320},
-                {0.00000001576, 5.79923230523, 838.96928775040},
-                {0.00000001718, 1.47385390454, 831.85574074960},
-                {0.00000002078, 0.02343346752, 21.34064100240},
-                {0.00000001415, 6.10139082852, 2428.04218303420},
-                {0.00000001549, 5.09589374634, 528.72775724810},
-                {0.00000001415, 2.35346960340, 534.35683154060},
-                {0.00000001305, 2.13001780938, 302.16477565500},
-                {0.00000001546, 2.56584512211, 530.65417294110},
-                {0.00000001225, 4.81644489422, 535.10759106600},
-                {0.00000001227, 4.63162956792, 526.77020378780},
-                {0.00000001475, 3.64456015927, 984.60033162190},
-                {0.00000001121, 3.02317463559, 2001.44399215820},
-                {0.00000001035, 3.65466665401, 1471.75302706360},
-                {0.00000001161, 4.51697446536, 1038.04128918680},
-                {0.00000001060, 3.43347467903, 3.93215326310},
-                {0.00000001007, 4.35426216497, 511.53171782990},
-                {0.00000001025, 2.87748450885, 2317.83586181480},
-                {0.00000001112, 4.47223399610, 750.10360753340},
-                {0.00000001226, 3.74723115522, 38.13303563780},
-                {0.00000000876, 5.40141749419, 524.27433912320},
-                {0.00000000809, 1.79288461783, 2214.74308759620},
-                {0.00000000788, 5.94278119191, 10.29494073850},
-                {0.00000000931, 1.41779899532, 909.81873305460},
-                {0.00000000741, 1.37687026697, 1382.88734684660},
-                {0.00000000670, 6.15206333598, 547.85021235930},
-                {0.00000000688, 1.04145468936, 1905.46476494040},
-                {0.00000000757, 5.66593038440, 76.26607127560},
-                {0.00000000882, 4.49029761988, 604.47256366190},
-                {0.00000000690, 3.49297492409, 529.16970023280},
-                {0.00000000689, 3.98820790955, 530.21222995640},
-                {0.00000000819, 2.95686029502, 454.90936652730},
-                {0.00000000570, 1.96990183237, 1898.35121793960},
-                {0.00000000690, 0.18267926862, 6283.07584999140},
-                {0.00000000663, 4.55436664519, 305.34616939270},
-                {0.00000000477, 2.44863388631, 490.33408917940},
-                {0.00000000398, 4.50217443276, 2008.55753915900},
-                {0.00000000375, 1.90578907085, 528.94020556920},
-                {0.00000000374, 5.57619428876, 530.44172462000},
-        };
-    }
-
-    private static void initialize_3_2()
-    {
-        classCoeff[2][2] = new double[][]{
-                {0.00042203037, 1.45965899387, 529.69096509460},
-                {0.00006345355, 3.14159265359, 0.00000000000},
-                {0.00003895469, 0.95407663893, 522.57741809380},
-                {0.00002065004, 2.89817590660, 536.80451209540},
-                {0.00000893912, 1.44537531474, 1059.38193018920},
-                {0.00000193882, 0.40346918252, 1052.26838318840},
-                {0.00000177093, 4.24934061763, 7.11354700080},
-                {0.00000154339, 0.98627236886, 515.46387109300},
-                {0.00000119867, 3.48023127478, 1066.49547719000},
-                {0.00000071483, 2.91929643864, 543.91805909620},
-                {0.00000058309, 5.21153342767, 632.78373931320},
-                {0.00000049489, 1.90363556247, 1589.07289528380},
-                {0.00000033191, 4.84947257364, 949.17560896980},
-                {0.00000028865, 4.59812610654, 110.20632121940},
-                {0.00000026279, 1.43562959449, 526.50957135690},
-                {0.00000025332, 4.38538322886, 14.22709400160},
-                {0.00000017862, 1.38653335267, 533.62311835770},
-                {0.00000016652, 2.14142688267, 316.39186965660},
-                {0.00000018475, 0.44768511310, 419.48464387520},
-                {0.00000015818, 1.42318045904, 103.09277421860},
-                {0.00000020087, 6.06937699639, 735.87651353180},
-                {0.00000015944, 3.98909127597, 323.50541665740},
-                {0.00000016057, 6.20772505653, 1045.15483618760},
-                {0.00000012863, 4.00884384040, 426.59819087600},
-                {0.00000015906, 2.39783235711, 532.87235883230},
-                {0.00000013892, 0.94813323601, 213.29909543800},
-                {0.00000010214, 0.99254309899, 1162.47470440780},
-                {0.00000010216, 0.51784128572, 1581.95934828300},
-                {0.00000007926, 4.00901193840, 1596.18644228460},
-                {0.00000007954, 3.77963260387, 846.08283475120},
-                {0.00000009013, 2.24077766707, 525.75881183150},
-                {0.00000009087, 5.73971133695, 625.67019231240},
-                {0.00000006668, 4.76731608799, 942.06206196900},
-                {0.00000006568, 2.86210728523, 95.97922721780},
-                {0.00000007860, 5.36569633982, 117.31986822020},
-                {0.00000006892, 4.23401086250, 206.18554843720},
-                {0.00000005090, 0.36658695963, 1155.36115740700},
-                {0.00000004274, 3.72888580140, 433.71173787680},
-                {0.00000003753, 3.16074830315, 220.41264243880},
-                {0.00000003669, 0.07721721390, 956.28915597060},
-                {0.00000003591, 1.27574344579, 508.35032409220},
-                {0.00000003432, 5.12494175250, 742.99006053260},
-                {0.00000003262, 1.85564958119, 639.89728631400},
-                {0.00000003246, 2.42226150944, 1169.58825140860},
-                {0.00000003879, 2.47671375339, 2118.76386037840},
-                {0.00000002719, 3.57668078721, 1073.60902419080},
-                {0.00000003564, 6.14378298704, 728.76296653100},
-                {0.00000002630, 1.72012208968, 1265.56747862640},
-                {0.00000002800, 4.30633268838, 330.61896365820},
-                {0.00000002361, 5.36600615712, 853.19638175200},
-                {0.00000002261, 1.65056479007, 519.39602435610},
-                {0.00000002143, 3.59903064599, 199.07200143640},
-                {0.00000002064, 0.72183122308, 838.96928775040},
-                {0.00000002327, 1.57523321082, 412.37109687440},
-                {0.00000001483, 5.22462726605, 1478.86657406440},
-                {0.00000001392, 3.02125335643, 551.03160609700},
-                {0.00000001187, 1.24411330169, 1258.45393162560},
-                {0.00000001238, 2.56643737684, 539.98590583310},
-                {0.00000001019, 4.56433477067, 21.34064100240},
-                {0.00000000787, 3.45332815915, 227.52618943960},
-                {0.00000000789, 4.40210167179, 3.18139373770},
-                {0.00000000933, 2.99359495481, 309.27832265580},
-                {0.00000000668, 2.62794838154, 440.82528487760},
-                {0.00000000701, 3.25895071673, 1062.56332392690},
-                {0.00000000655, 2.81138161833, 1485.98012106520},
-                {0.00000000530, 1.07172768238, 1692.16566950240},
-                {0.00000000491, 1.99562035757, 1368.66025284500},
-                {0.00000000470, 0.26830712431, 1272.68102562720},
-        };
-    }
-
-    private static void initialize_3_3()
-    {
-        classCoeff[2][3] = new double[][]{
-                {0.00001302949, 3.38307505290, 529.69096509460},
-                {0.00000638849, 2.73076320051, 522.57741809380},
-                {0.00000252188, 1.03735897029, 536.80451209540},
-                {0.00000042424, 2.76335793506, 515.46387109300},
-                {0.00000028787, 2.30679311994, 1052.26838318840},
-                {0.00000018636, 1.12686228293, 543.91805909620},
-                {0.00000016037, 1.78194169646, 1066.49547719000},
-                {0.00000021893, 3.14159265359, 0.00000000000},
-                {0.00000015010, 2.24882166949, 7.11354700080},
-                {0.00000018770, 4.26444493597, 1059.38193018920},
-                {0.00000005506, 2.63836917983, 14.22709400160},
-                {0.00000004515, 1.81963459999, 1045.15483618760},
-                {0.00000004499, 0.43487771424, 632.78373931320},
-                {0.00000003150, 2.90272527852, 110.20632121940},
-                {0.00000002649, 3.67990759642, 419.48464387520},
-                {0.00000002448, 5.72936768843, 103.09277421860},
-                {0.00000003025, 1.52033973511, 735.87651353180},
-                {0.00000002257, 0.17284429054, 949.17560896980},
-                {0.00000002354, 3.18232334886, 526.50957135690},
-                {0.00000001614, 2.98017326384, 508.35032409220},
-                {0.00000001671, 4.40642025933, 532.87235883230},
-                {0.00000001483, 1.64073529408, 625.67019231240},
-                {0.00000001665, 0.44117653607, 1589.07289528380},
-                {0.00000001469, 3.11087801399, 533.62311835770},
-                {0.00000001412, 0.26761069900, 942.06206196900},
-                {0.00000001270, 0.70083660931, 426.59819087600},
-                {0.00000000899, 2.62337071525, 1596.18644228460},
-                {0.00000000951, 4.34670868038, 525.75881183150},
-                {0.00000000973, 6.07278030998, 639.89728631400},
-                {0.00000000829, 2.20068062832, 1581.95934828300},
-                {0.00000001015, 3.67348757646, 117.31986822020},
-                {0.00000000849, 1.53481384034, 323.50541665740},
-                {0.00000000681, 1.96048278513, 1073.60902419080},
-                {0.00000000665, 3.82697658502, 316.39186965660},
-                {0.00000000609, 4.70141431381, 95.97922721780},
-                {0.00000000518, 4.61207781194, 2118.76386037840},
-                {0.00000000512, 5.55216613299, 433.71173787680},
-                {0.00000000459, 3.26874502411, 213.29909543800},
-                {0.00000000401, 2.27671168160, 1162.47470440780},
-        };
-    }
-
-    private static void initialize_3_4()
-    {
-        classCoeff[2][4] = new double[][]{
-                {0.00000078889, 4.52764322985, 522.57741809380},
-                {0.00000028644, 4.45318845059, 529.69096509460},
-                {0.00000026536, 0.00000000000, 0.00000000000},
-                {0.00000023071, 5.44321158713, 536.80451209540},
-                {0.00000009686, 4.52165553359, 515.46387109300},
-                {0.00000003848, 5.59513666444, 543.91805909620},
-                {0.00000003620, 4.19174561337, 1052.26838318840},
-                {0.00000000945, 5.96517767658, 7.11354700080},
-                {0.00000000957, 6.25072054635, 1066.49547719000},
-                {0.00000000722, 3.64496080495, 1059.38193018920},
-                {0.00000000582, 1.16718383135, 14.22709400160},
-        };
-    }
-
-    private static void initialize_3_5()
-    {
-        classCoeff[2][5] = new double[][]{
-                {0.00000007519, 0.09198554072, 522.57741809380},
-                {0.00000001913, 0.00874408003, 515.46387109300},
-                {0.00000001582, 3.27902945138, 536.80451209540},
-                {0.00000000704, 0.27563461391, 529.69096509460},
-                {0.00000000495, 1.29305954542, 543.91805909620},
-        };
+        // All instances of this class share the coefficients loaded once for the class
+        coefficients = classCoefficients;
     }
 
+    // Loaded from the binary resource when the class is initialized, i.e. only for bodies in use
+    private static final Vsop87Coefficients classCoefficients =
+            Vsop87Coefficients.load( Jupiter.class, "Jupiter.bin" );
 }
-
@@ -1,7144 +1,17 @@
 package com.mkreidl.ephemeris.solarsystem.vsop87c;
 
 import com.mkreidl.ephemeris.solarsystem.AbstractModelVsop87;
+import com.mkreidl.ephemeris.solarsystem.Vsop87Coefficients;
 
 public class Uranus extends AbstractModelVsop87.XYZ
 {
     public Uranus()
     {
-        // Here we emulate virtual static members:
-        // classCoeff is a member of the abstract super-class VSOP87Planet,
-        // and it references different things, depending on and
-        // only on the  c l a s s  of the instance created here.
-        coeff = classCoeff;
-    }
-
-    private static double[][][][] classCoeff = new double[DIMENSION][][][];
-
-    static
-    {
-        classCoeff[0] = new double[6][][];
-        classCoeff[1] = new double[6][][];
-        classCoeff[2] = new double[6][][];
-        initialize_1_0();
-        initialize_1_1();
-        initialize_1_2();
-        initialize_1_3();
-        initialize_1_4();
-        initialize_1_5();
-        initialize_2_0();
-        initialize_2_1();
-        initialize_2_2();
-        initialize_2_3();
-        initialize_2_4();
-        initialize_2_5();
-        initialize_3_0();
-        initialize_3_1();
-        initialize_3_2();
-        initialize_3_3();
-        initialize_3_4();
-        initialize_3_5();
-    }
-
-    private static void initialize_1_0()
-    {
-        classCoeff[0][0] = new double[][]{
-                {19.16944479396, 5.48129363987, 75.02541605080},
-                {1.33267708718, 6.16089978558, 0.24381748350},
-                {0.44396480992, 1.65965632053, 149.80701461810},
-                {0.14712072726, 3.42449547672, 73.54094334250},
-                {0.14127113794, 4.39569319388, 76.50988875911},
-                {0.06225592204, 5.14041718059, 1.72829019180},
-                {0.01542809804, 4.12121005059, 224.58861318540},
-                {0.01443286598, 2.65100655909, 148.32254190981},
-                {0.00941982751, 1.66111566598, 11.28951774740},
-                {0.00657433967, 0.57593488766, 151.29148732640},
-                {0.00637676334, 4.21540624166, 63.97971578690},
-                {0.00621475723, 3.05878846167, 77.99436146740},
-                {0.00563553759, 4.80714363531, 72.05647063421},
-                {0.00547585874, 3.63122642205, 86.07111631471},
-                {0.00433273658, 5.66160493313, 74.53778108379},
-                {0.00458904544, 3.90806753942, 3.21276290011},
-                {0.00496011875, 0.59957126795, 529.93478257810},
-                {0.00385773622, 6.18935243085, 138.76131435421},
-                {0.00268150781, 0.96866014994, 213.54291292150},
-                {0.00215803817, 5.30879023629, 38.37685312130},
-                {0.00144768728, 2.31926691782, 71.09326278771},
-                {0.00135315426, 5.51056178199, 78.95756931390},
-                {0.00119632236, 4.10138480343, 39.86132582961},
-                {0.00124987110, 2.51425439859, 111.67397898031},
-                {0.00111232552, 5.12247819448, 223.10414047710},
-                {0.00104563861, 3.90482142702, 146.83806920150},
-                {0.00109354782, 4.45315493564, 34.92027273770},
-                {0.00063579167, 0.29966151527, 299.37021175271},
-                {0.00076241847, 2.53654184182, 63.49208081989},
-                {0.00053591167, 3.94045434980, 4.17597074660},
-                {0.00064420500, 3.72849455609, 110.18950627200},
-                {0.00044566570, 0.46052856039, 73.05330837550},
-                {0.00039200127, 2.68881030068, 4.69723560840},
-                {0.00033660673, 2.51806070888, 65.46418849521},
-                {0.00034338030, 3.03778732537, 226.07308589371},
-                {0.00034546984, 1.84696372059, 79.47883417571},
-                {0.00037552003, 4.14039081989, 202.00957769060},
-                {0.00029546886, 6.00042096798, 70.57199792590},
-                {0.00025683031, 5.30733054298, 9.80504503910},
-                {0.00023447563, 4.09774770482, 145.87486135500},
-                {0.00022948537, 5.51505103176, 84.58664360640},
-                {0.00031820127, 5.53944193731, 152.77596003471},
-                {0.00022832266, 2.29382969939, 127.22797912329},
-                {0.00028378722, 6.01789844072, 184.97110483931},
-                {0.00026655018, 6.11025984035, 160.85271488200},
-                {0.00019671485, 5.53430548402, 74.91354146621},
-                {0.00019648859, 2.28659171687, 75.13729063540},
-                {0.00019896586, 0.57662115081, 12.77399045571},
-                {0.00024486297, 1.99412405993, 1.24065522479},
-                {0.00016842912, 0.47911269541, 52.44638055600},
-                {0.00022087252, 4.59910433514, 71.56883566720},
-                {0.00020068191, 4.47381667533, 22.33521801130},
-                {0.00019913902, 1.39857362559, 113.15845168861},
-                {0.00018351147, 5.69970669527, 33.43580002939},
-                {0.00016887001, 0.21283887905, 36.89238041300},
-                {0.00015173078, 2.88404559166, 41.34579853790},
-                {0.00011242410, 6.11592492783, 71.84402231310},
-                {0.00013948685, 6.27550136313, 221.61966776881},
-                {0.00010809036, 1.69959188016, 78.20680978850},
-                {0.00013591810, 2.55400587762, 87.55558902300},
-                {0.00011997310, 0.94882794460, 1059.62574767270},
-                {0.00012401284, 6.21959182172, 72.57773549600},
-                {0.00011534891, 1.77255746394, 77.47309660560},
-                {0.00009194297, 5.13684548839, 145.35359649321},
-                {0.00008737279, 4.96955634864, 186.45557754760},
-                {0.00009136217, 3.36421968897, 127.71561409031},
-                {0.00009219832, 4.79646192202, 108.21739859670},
-                {0.00007422726, 4.95959892966, 108.70503356371},
-                {0.00007094598, 1.30379670348, 297.88573904440},
-                {0.00006261877, 1.71362082374, 153.73916788121},
-                {0.00007490650, 0.11367653768, 426.84200835950},
-                {0.00007827357, 5.83003917523, 340.52707456129},
-                {0.00006073898, 1.79808383323, 149.31937965110},
-                {0.00005510674, 3.31059818622, 140.24578706250},
-                {0.00006397195, 5.29054037494, 62.49524307860},
-                {0.00005370666, 4.12500435843, 75.54668091261},
-                {0.00005352595, 3.69257552001, 74.50415118900},
-                {0.00004493418, 1.11410223517, 66.94866120350},
-                {0.00004261392, 3.96170766253, 265.74547599400},
-                {0.00005026106, 4.68825486100, 18.40306474821},
-                {0.00004641163, 3.40278945922, 36.40474544600},
-                {0.00004448201, 0.98197743832, 183.48663213100},
-                {0.00003781540, 1.01094840328, 10.80188278040},
-                {0.00004750672, 4.95760164342, 74.06220820430},
-                {0.00004350588, 5.87369411626, 70.08436295889},
-                {0.00004446999, 0.29417874414, 114.64292439690},
-                {0.00003313232, 0.52117217508, 83.10217089810},
-                {0.00004512500, 2.88455231924, 75.98862389731},
-                {0.00003556191, 1.47647595802, 6.18170831670},
-                {0.00003266875, 0.51825947223, 220.65645992230},
-                {0.00003059638, 1.52537517070, 52.93401552300},
-                {0.00003576768, 1.12142187124, 137.27684164590},
-                {0.00002881563, 2.76127323120, 374.15181032000},
-                {0.00003196605, 4.55588965060, 76.02225379210},
-                {0.00002944255, 5.09789115860, 7.35736448430},
-                {0.00003729115, 4.96516637585, 144.86596152620},
-                {0.00002521158, 1.85148242342, 202.49721265760},
-                {0.00002595960, 0.22431012776, 97.11681657861},
-                {0.00002560051, 4.44250043160, 80.44204202221},
-                {0.00002653876, 0.04778187588, 305.10235190919},
-                {0.00002508094, 0.64297274411, 31.95132732110},
-                {0.00001961925, 0.09387541521, 20.85074530300},
-                {0.00002229736, 0.63549038852, 80.96330688400},
-                {0.00002202407, 5.20629983391, 2.93757625420},
-                {0.00001935845, 2.06583555933, 75.07360016060},
-                {0.00001935843, 5.75516004795, 74.97723194101},
-                {0.00002138399, 4.20897433466, 74.76478361991},
-                {0.00002128668, 3.61197532719, 75.28604848170},
-                {0.00002214188, 2.18592026080, 259.75270340660},
-                {0.00001890291, 5.49936650879, 300.85468446100},
-                {0.00002249087, 3.34771929967, 138.27367938720},
-                {0.00001926813, 1.29258285090, 159.36824217371},
-                {0.00001799526, 5.73284739685, 74.86535735640},
-                {0.00001794407, 2.08815174296, 75.18547474520},
-                {0.00001908592, 0.91765709548, 69.08752521760},
-                {0.00002175205, 3.14101293062, 131.64776735340},
-                {0.00001898923, 4.22364589697, 206.42936592071},
-                {0.00001654495, 3.89578357216, 277.27881122490},
-                {0.00001785247, 1.20558646138, 56.86616878610},
-                {0.00001617939, 1.98998613398, 2.69149803831},
-                {0.00001860708, 1.67531170047, 42.83027124621},
-                {0.00002180164, 1.23556883050, 479.04457143200},
-                {0.00001576477, 2.09193074602, 190.96387742670},
-                {0.00001904361, 5.83571650342, 15.22167101050},
-                {0.00002054711, 3.60264621769, 834.79331700380},
-                {0.00001834581, 6.05975047580, 106.73292588839},
-                {0.00001890085, 4.32104275484, 154.26043274300},
-                {0.00001795901, 1.73393986559, 227.55755860200},
-                {0.00001670623, 1.20607419790, 220.13519506050},
-                {0.00001347353, 5.46539883456, 288.32451148881},
-                {0.00001425992, 0.38776026293, 93.18466331550},
-                {0.00001265397, 5.63850209574, 404.26297286470},
-                {0.00001581901, 5.72246324321, 39.60069339870},
-                {0.00001269733, 2.66547740633, 142.69346761730},
-                {0.00001653676, 5.13281153725, 181.51452445570},
-                {0.00001437856, 0.72853365638, 522.82123557730},
-                {0.00001407281, 3.61754461658, 537.04832957890},
-                {0.00001359462, 3.81802154525, 62.00760811160},
-                {0.00001417609, 2.29697805296, 235.63431344930},
-                {0.00001122290, 0.14112673022, 60.04756252381},
-                {0.00001037982, 2.76177625247, 5.66044345490},
-                {0.00001164766, 2.08226620054, 82.13896305161},
-                {0.00001009353, 2.02387614580, 74.27465652540},
-                {0.00001216357, 3.41823698867, 212.05844021321},
-                {0.00000996588, 5.79711941494, 75.77617557621},
-                {0.00000983856, 1.56441672942, 129.20008679860},
-                {0.00001223267, 3.84379621710, 187.94005025590},
-                {0.00001335581, 2.17715635407, 379.88395047650},
-                {0.00001203897, 5.60031851266, 67.91186905000},
-                {0.00001146840, 2.42164879835, 296.40126633610},
-                {0.00001000425, 0.10902349258, 8.32057233081},
-                {0.00001191037, 5.58759862804, 50.64639366260},
-                {0.00001128718, 3.94259181404, 230.32075334190},
-                {0.00000930244, 3.76250779613, 276.79117625789},
-                {0.00000857081, 6.06089726967, 68.43313391180},
-                {0.00000912408, 1.69363364406, 149.69514003350},
-                {0.00001170925, 2.02859165449, 110.45013870291},
-                {0.00000857595, 1.50487359225, 90.00326957780},
-                {0.00000989091, 2.61645612487, 35.66854013560},
-                {0.00001054223, 5.53713388048, 14.25846316400},
-                {0.00000959939, 2.90123772360, 147.83490694279},
-                {0.00000957455, 4.68244742095, 64.97655352819},
-                {0.00000909789, 4.72919527392, 149.91888920271},
-                {0.00000943313, 4.77502421061, 53.93085326429},
-                {0.00000891565, 6.16624008939, 107.22056085540},
-                {0.00000775480, 2.00068126371, 70.60562782070},
-                {0.00000861039, 0.07017362216, 143.86912378490},
-                {0.00000851667, 2.07466532945, 134.82916109110},
-                {0.00000842290, 2.74294938604, 3.68833577960},
-                {0.00000893222, 3.38882447852, 23.81969071961},
-                {0.00000790626, 0.82969306173, 7.83293736379},
-                {0.00000683506, 1.80707483601, 81.61769818981},
-                {0.00000789879, 4.67531119051, 35.40790770471},
-                {0.00000669882, 1.56521412524, 50.96190784770},
-                {0.00000853775, 5.20540536482, 200.52510498229},
-                {0.00000698863, 3.36651984265, 125.74350641500},
-                {0.00000814817, 6.23437914876, 143.38148881789},
-                {0.00000862909, 5.03099273884, 162.33718759030},
-                {0.00000845548, 6.20605203929, 203.49405039889},
-                {0.00000797191, 2.22086891871, 99.40443843901},
-                {0.00000766426, 2.46431012048, 68.80564092731},
-                {0.00000609673, 4.95156945766, 24.13520490470},
-                {0.00000654550, 3.88721455407, 109.70187130500},
-                {0.00000783834, 5.30108995878, 218.16308738520},
-                {0.00000744901, 1.22651434994, 760.01171843649},
-                {0.00000643611, 1.27158746409, 89.04006173130},
-                {0.00000525538, 6.19695292650, 128.71245183160},
-                {0.00000703451, 5.35556821897, 81.24519117430},
-                {0.00000590282, 3.34460813817, 69.60879007940},
-                {0.00000528305, 2.28084002864, 146.62562088040},
-                {0.00000621414, 0.82570374928, 68.59989025060},
-                {0.00000677104, 5.66627508966, 56.37853381910},
-                {0.00000697582, 2.93128584821, 617.56206830270},
-                {0.00000597125, 2.20653215822, 182.00215942271},
-                {0.00000689780, 0.88947967570, 2.72512793310},
-                {0.00000578345, 2.48116102766, 28.81562556571},
-                {0.00000587454, 3.90812210311, 152.25469517290},
-                {0.00000670562, 3.06119354039, 5.97595764000},
-                {0.00000596736, 0.23847810121, 116.18227885939},
-                {0.00000480108, 4.14247181684, 415.30867312860},
-                {0.00000505417, 2.53324420248, 157.88376946540},
-                {0.00000551335, 1.14403413933, 261.23717611490},
-                {0.00000584839, 6.18920235362, 258.26823069831},
-                {0.00000571647, 1.12166883220, 194.89603068979},
-                {0.00000473414, 1.32843094724, 134.34152612410},
-                {0.00000551129, 5.62854491664, 59.55992755679},
-                {0.00000518895, 2.30620424068, 352.06040979221},
-                {0.00000444205, 3.75797687497, 329.48137429739},
-                {0.00000531507, 6.02129628860, 54.41848823131},
-                {0.00000449312, 1.03442910633, 542.78046973539},
-                {0.00000486453, 0.33128845125, 73.65281792710},
-                {0.00000437062, 1.29933406121, 1589.31671276730},
-                {0.00000488485, 2.40589686793, 9.31741007210},
-                {0.00000431252, 4.69836222247, 41.40068029210},
-                {0.00000435419, 3.76505789238, 372.66733761171},
-                {0.00000484495, 4.03440276126, 209.12312469139},
-                {0.00000418899, 1.97412934294, 95.63234387030},
-                {0.00000514102, 5.40821050729, 116.12739710521},
-                {0.00000388869, 5.96632177370, 152.98840835580},
-                {0.00000361158, 5.56439421115, 120.11443212250},
-                {0.00000371870, 5.67993821009, 144.39038864671},
-                {0.00000339152, 0.64656047679, 46.45360796860},
-                {0.00000373018, 3.47226296213, 73.42906875790},
-                {0.00000382930, 5.21294716380, 114.38229196601},
-                {0.00000426834, 2.46975859086, 141.73025977080},
-                {0.00000396238, 5.45517176193, 98.91680347199},
-                {0.00000396936, 0.12474175505, 180.03005174739},
-                {0.00000318113, 0.22602316909, 33.38091827520},
-                {0.00000325989, 4.18961191162, 228.52076644850},
-                {0.00000435822, 2.17402798911, 37.88921815429},
-                {0.00000392309, 1.55188964788, 155.53915477459},
-                {0.00000353063, 6.23671226488, 215.02738562980},
-                {0.00000410664, 4.20954401513, 490.57790666290},
-                {0.00000325464, 0.26699789914, 7.66618102501},
-                {0.00000299890, 3.75278581215, 45.33283355520},
-                {0.00000319736, 1.86158355595, 30.46685461280},
-                {0.00000278968, 2.37528917719, 6.34846465550},
-                {0.00000312880, 2.99684581751, 419.72846135871},
-                {0.00000386565, 5.46895169467, 254.81165031470},
-                {0.00000311788, 2.37646745038, 147.35933406330},
-                {0.00000300229, 3.46713251313, 0.71939036300},
-                {0.00000337396, 5.17753753648, 150.77022246460},
-                {0.00000253789, 1.48413722958, 19.36627259471},
-                {0.00000308097, 5.63479635439, 640.14110379750},
-                {0.00000252403, 0.29915428385, 150.32827947990},
-                {0.00000238679, 5.71090385224, 553.82616999929},
-                {0.00000266427, 1.01726382392, 105.24845318010},
-                {0.00000278375, 1.17449170388, 29.44876501211},
-                {0.00000306043, 1.75345400361, 6283.31966747490},
-                {0.00000265739, 5.77720505204, 28.06735816780},
-                {0.00000280569, 4.44867676294, 126.23114138200},
-                {0.00000300771, 1.99978996741, 984.84414910540},
-                {0.00000229063, 5.90121206501, 33.92343499640},
-                {0.00000226799, 5.35680022107, 121.23520653590},
-                {0.00000238148, 4.30420589870, 2.20386307129},
-                {0.00000198420, 4.76118534410, 69.91760662011},
-                {0.00000220174, 0.46900159784, 44.31474395451},
-                {0.00000220857, 5.01281205014, 47.93808067690},
-                {0.00000211834, 4.91315491890, 0.76508234530},
-                {0.00000257979, 5.01665522627, 1289.70268353110},
-                {0.00000240510, 4.63405186786, 756.07956517339},
-                {0.00000213870, 2.65681249594, 316.63568714010},
-                {0.00000231462, 4.35067672591, 46.71424039951},
-                {0.00000232197, 0.60568782891, 339.04260185300},
-                {0.00000214419, 2.75101540987, 189.42452296421},
-                {0.00000219049, 3.86758077039, 213.05527795450},
-                {0.00000241635, 1.97515700042, 102.84895673509},
-                {0.00000198526, 0.31867538279, 61.01077037031},
-                {0.00000237145, 1.57461819411, 342.01154726960},
-                {0.00000173496, 1.31235751133, 116.66991382640},
-                {0.00000194828, 2.42005289802, 218.65072235220},
-                {0.00000175785, 3.10552908409, 57.49930823250},
-                {0.00000167277, 0.90426589163, 30.30009827400},
-                {0.00000173400, 2.71724777154, 681.29796660610},
-                {0.00000214483, 2.48131614069, 135.79236893760},
-                {0.00000205110, 0.29778918320, 216.67861467689},
-                {0.00000168458, 3.08665425457, 80.13322548150},
-                {0.00000164308, 5.42212132676, 467.99887116810},
-                {0.00000203489, 1.11698481512, 148.84380677161},
-                {0.00000177178, 0.65075297933, 103.59722413300},
-                {0.00000165274, 0.65702158328, 155.22364058950},
-                {0.00000185802, 5.56639953504, 74.13164417351},
-                {0.00000185802, 2.25459555455, 75.91918792810},
-                {0.00000187376, 6.19888809652, 149.28574975631},
-                {0.00000153285, 1.88338215978, 17.28229033479},
-                {0.00000161572, 5.03486059863, 264.26100328570},
-                {0.00000185820, 1.04769820785, 76.39801417450},
-                {0.00000181668, 4.68053051052, 455.15318401080},
-                {0.00000175514, 2.84020133855, 333.41352756050},
-                {0.00000157908, 5.70734619944, 82.44777959230},
-                {0.00000169475, 4.34257763319, 454.66554904380},
-                {0.00000196145, 5.63627762153, 291.46021324420},
-                {0.00000177970, 5.10767427277, 685.23011986920},
-                {0.00000137738, 5.22315408886, 448.93340888730},
-                {0.00000152620, 3.60399534591, 234.14984074100},
-                {0.00000137407, 2.06690682589, 16.91859203990},
-                {0.00000150365, 6.22507689893, 294.91679362781},
-                {0.00000131039, 3.99587345412, 156.39929675710},
-                {0.00000180038, 3.58352924163, 103.33659170210},
-                {0.00000129725, 6.13605280603, 76.72233708021},
-                {0.00000142122, 4.21177012685, 224.10097821840},
-                {0.00000128982, 0.15395575367, 130.68455950690},
-                {0.00000146399, 4.63496132213, 334.53430197390},
-                {0.00000177104, 3.17890757818, 10213.52936369450},
-                {0.00000129816, 4.71661836260, 92.55152386910},
-                {0.00000171451, 4.58548960528, 156.02678974161},
-                {0.00000155457, 5.73264918423, 347.64062156210},
-                {0.00000134222, 2.12839585652, 67.60305250931},
-                {0.00000167287, 5.44444937854, 80.75755620730},
-                {0.00000126618, 4.54441723736, 55.90296093960},
-                {0.00000127892, 1.20412251150, 61.69209392650},
-                {0.00000146027, 6.20700368410, 174.18603700630},
-                {0.00000143517, 3.15339611893, 23.87457247379},
-                {0.00000139674, 6.08093937474, 286.84003878050},
-                {0.00000114667, 3.63547708752, 13.08950464080},
-                {0.00000114401, 1.06004300555, 692.34366686999},
-                {0.00000139103, 0.34979944278, 120.60206708950},
-                {0.00000124306, 2.81921095084, 111.18634401329},
-                {0.00000121491, 0.17904284099, 79.69128249680},
-                {0.00000106720, 0.32743265674, 67.16110952460},
-                {0.00000124445, 1.20141389812, 141.89701610960},
-                {0.00000150445, 3.19975890072, 77.50672650040},
-                {0.00000128748, 1.88192968286, 254.69977573010},
-                {0.00000135145, 2.72523252904, 171.89841514590},
-                {0.00000125741, 5.43013824571, 98.60128928690},
-                {0.00000106860, 1.67581101594, 375.63628302830},
-                {0.00000128791, 3.10899754760, 155.74490545130},
-                {0.00000104092, 1.66738591591, 54.57854692570},
-                {0.00000142443, 6.18206932531, 203.98168536590},
-                {0.00000109153, 3.31853315915, 1.20702533000},
-                {0.00000111788, 3.20988788864, 272.85902299479},
-                {0.00000125849, 0.73952694764, 182.99899716400},
-                {0.00000128119, 1.25401600728, 256.78375799000},
-                {0.00000101034, 1.92789553777, 363.10611005610},
-                {0.00000104496, 5.98306685829, 131.16013238639},
-                {0.00000135112, 5.89965158304, 629.09540353360},
-                {0.00000096070, 0.96004206819, 258.63192899320},
-                {0.00000102131, 0.32621877592, 88.35873817511},
-                {0.00000101524, 2.58765430562, 51.44954281471},
-                {0.00000114745, 5.56311265795, 633.02755679670},
-                {0.00000105009, 1.08881999355, 105.73608814710},
-                {0.00000106158, 4.21108150573, 302.33915716930},
-                {0.00000114559, 2.79618530706, 604.71638114540},
-                {0.00000097687, 3.08538191339, 77.03115362090},
-                {0.00000092981, 3.37398230043, 94.14787116200},
-                {0.00000092956, 3.04748798907, 43.53284666180},
-                {0.00000099120, 0.38719985960, 149.54638218720},
-                {0.00000116555, 3.87240492076, 85.58348134769},
-                {0.00000089934, 4.52722147760, 149.85519872791},
-                {0.00000089708, 4.70315697530, 217.47506618460},
-                {0.00000111015, 0.47609598811, 253.32717760639},
-                {0.00000092676, 1.28379383832, 267.22994870229},
-                {0.00000111165, 3.60094431144, 19.88753745650},
-                {0.00000089583, 2.61632627473, 295.43805848960},
-                {0.00000089934, 1.93336144673, 149.75883050830},
-                {0.00000089829, 0.03255236313, 529.44714761109},
-                {0.00000104822, 0.00646324626, 433.95555536030},
-                {0.00000097705, 6.18106020040, 1052.51220067191},
-                {0.00000107796, 1.21569499408, 100.62827871640},
-                {0.00000087921, 5.89750281232, 74.39227660440},
-                {0.00000087921, 1.92349227727, 75.65855549721},
-                {0.00000086241, 6.10142938790, 76.66994745350},
-                {0.00000115960, 2.63074702292, 1214.92108496379},
-                {0.00000112324, 0.51418420733, 229.04203131030},
-                {0.00000092049, 5.96349988177, 6.86972951729},
-                {0.00000106860, 3.13973519271, 81.92651473050},
-                {0.00000082022, 1.12030839416, 82.88972257700},
-                {0.00000083480, 4.54952756372, 149.96707331250},
-                {0.00000081598, 4.72010043651, 146.35043423450},
-                {0.00000091518, 0.69706776322, 150.80385235940},
-                {0.00000078950, 3.66249859834, 4.86399194720},
-                {0.00000107950, 0.01759566775, 1162.71852189130},
-                {0.00000080076, 2.03790828937, 73.38088464811},
-                {0.00000093643, 2.41659050778, 99.14380600810},
-                {0.00000099120, 6.07338306473, 150.06764704901},
-                {0.00000082453, 1.09950958918, 7.14491616321},
-                {0.00000076677, 1.12697999111, 73.80157577341},
-                {0.00000075891, 1.38853558210, 219.17198721400},
-                {0.00000074887, 0.96555468752, 6.83609962250},
-                {0.00000102486, 4.69327511390, 210.57396750490},
-                {0.00000100859, 0.96653178552, 219.64756009350},
-                {0.00000083480, 1.91105536061, 149.64695592370},
-                {0.00000083970, 4.85630817630, 371.18286490340},
-                {0.00000077201, 1.59554506373, 26.26737127440},
-                {0.00000073643, 6.15300341975, 95.47228517591},
-                {0.00000102191, 5.80314332396, 328.10877617370},
-                {0.00000080117, 1.27552322935, 142.38465107660},
-                {0.00000080972, 2.05291971561, 67.11541754230},
-                {0.00000071543, 3.15877821167, 189.47940471839},
-                {0.00000082381, 5.77613777190, 58.35064149440},
-                {0.00000090613, 6.17999848530, 17.02165790390},
-                {0.00000082892, 3.21408807945, 175.40987728371},
-                {0.00000069078, 0.68364339720, 119.75073382760},
-                {0.00000077925, 6.13231295495, 191.45151239371},
-                {0.00000078846, 0.01322136724, 262.72164882321},
-                {0.00000087497, 0.06139857943, 894.59706204410},
-                {0.00000070199, 4.41025707210, 819.81546347680},
-                {0.00000068577, 3.42724370622, 15.79781762650},
-                {0.00000076274, 3.42240995180, 180.51768671441},
-                {0.00000067854, 0.81718753405, 606.51636803880},
-                {0.00000077388, 4.76490704968, 310.41591201661},
-                {0.00000065829, 5.89081437901, 75.82856520290},
-                {0.00000065829, 1.93018071058, 74.22226689870},
-                {0.00000078426, 5.41224911130, 50.90702609350},
-                {0.00000071406, 6.22865606356, 12.28635548869},
-                {0.00000077423, 1.46638312463, 70.29011363560},
-                {0.00000069368, 3.96790790686, 1066.73929467350},
-                {0.00000080391, 4.69665260602, 16.70614371880},
-                {0.00000085613, 4.60014385205, 173.92540457540},
-                {0.00000072675, 1.00235377097, 44.48150029329},
-                {0.00000084563, 3.52774210442, 55.41532597260},
-                {0.00000062255, 0.31856134826, 209.61075965840},
-                {0.00000084357, 0.35171178066, 331.56535655731},
-                {0.00000070498, 4.37183477775, 76.62176334371},
-                {0.00000079016, 2.29035112753, 477.56009872370},
-                {0.00000082673, 3.24272077192, 480.52904414029},
-                {0.00000082513, 0.02775890883, 192.44835013500},
-                {0.00000080452, 2.41833994886, 333.04982926560},
-                {0.00000058904, 0.47702801943, 24.62283987170},
-                {0.00000072407, 2.95570874153, 909.57491557110},
-                {0.00000076612, 4.19475982131, 82.72966388260},
-                {0.00000075510, 3.63824154759, 67.32116821901},
-                {0.00000075555, 4.23824479480, 15.74293587230},
-                {0.00000070086, 2.85435934542, 167.96626188280},
-                {0.00000077989, 3.27374124663, 70.35954960481},
-                {0.00000066531, 4.44069547850, 61.53203523210},
-                {0.00000064336, 1.38579260364, 178.54557903910},
-                {0.00000056673, 4.77020753909, 106.51798543980},
-                {0.00000077640, 3.06328562010, 71.40207932840},
-                {0.00000062431, 1.58038361055, 25.35904518210},
-                {0.00000066444, 1.53111301715, 125.42799222991},
-                {0.00000056738, 5.97516509720, 67.42423408300},
-                {0.00000055917, 4.46821485097, 949.41942645330},
-                {0.00000076032, 4.77182769338, 60.52313540329},
-                {0.00000059000, 0.40199703694, 402.77850015639},
-                {0.00000073138, 5.40480984208, 26.84351789039},
-                {0.00000054636, 1.47333332256, 72.10465474401},
-                {0.00000064610, 4.53004325815, 471.93102443120},
-                {0.00000053942, 4.57598306501, 117.66675156770},
-                {0.00000054371, 3.70705139945, 341.01470952831},
-                {0.00000054836, 6.00184655368, 3.42521122121},
-                {0.00000072732, 4.75709331353, 78.64875277320},
-                {0.00000069223, 6.00657895059, 8.10812400971},
-                {0.00000070778, 0.72528535802, 237.43430034270},
-                {0.00000053991, 4.58226336725, 149.05625509271},
-                {0.00000051866, 0.06447646319, 77.94617735760},
-                {0.00000060750, 0.05642817034, 79.76071846601},
-                {0.00000069434, 1.15052233162, 256.29612302300},
-                {0.00000052587, 2.71406262711, 830.86116374070},
-                {0.00000056127, 4.11138293624, 65.62424718960},
-                {0.00000053925, 2.05138349837, 13.73719830221},
-                {0.00000050216, 5.16661515376, 195.38366565681},
-                {0.00000057142, 2.07134229657, 31.89644556690},
-                {0.00000055249, 1.26051053222, 75.39792306630},
-                {0.00000055249, 0.27729925019, 74.65290903530},
-                {0.00000049301, 0.68505345474, 76.24925632820},
-                {0.00000060539, 0.62920341226, 289.97574053589},
-                {0.00000064921, 3.42395602826, 846.32665223470},
-                {0.00000059034, 3.72320060052, 27.33115285740},
-                {0.00000051079, 1.42491352478, 0.35569206810},
-                {0.00000051079, 4.85827178240, 0.13194289890},
-                {0.00000056906, 1.59844453309, 143.21473247911},
-                {0.00000051926, 4.71905052001, 185.23173727020},
-                {0.00000048626, 2.61494512788, 49.16192095430},
-                {0.00000051388, 2.81765408295, 42.88515300039},
-                {0.00000064661, 5.92230270405, 910.06255053810},
-                {0.00000048885, 2.28326794620, 91.70019060721},
-                {0.00000050130, 2.68135977613, 102.11275142471},
-                {0.00000047590, 4.15725769893, 224.47673860080},
-                {0.00000057461, 1.13975618226, 303.61787920090},
-                {0.00000050603, 4.72637033906, 35.18090516859},
-                {0.00000048745, 2.56799692881, 201.01273994931},
-                {0.00000058382, 1.14571117545, 486.15811843280},
-                {0.00000049531, 1.94026883146, 44.96913526031},
-                {0.00000054462, 1.20363826712, 237.11878615761},
-                {0.00000054466, 4.07199773375, 75.67980735660},
-                {0.00000054466, 3.74899735584, 74.37102474501},
-                {0.00000060438, 1.89700849107, 266.23311096100},
-                {0.00000048443, 0.85823284795, 178.11819026941},
-                {0.00000055698, 2.09947437284, 278.76328393321},
-                {0.00000044294, 5.09757382517, 57.75994066341},
-                {0.00000048861, 0.49608314902, 122.71967924421},
-                {0.00000046778, 4.39128238600, 14.47091148511},
-                {0.00000052405, 1.63380007153, 58.98378094080},
-                {0.00000047669, 3.70988562108, 84.42658491201},
-                {0.00000059409, 4.21497001188, 117.61186981350},
-                {0.00000042464, 1.91841049036, 150.55777414350},
-                {0.00000042527, 5.16925942986, 69.39634175830},
-                {0.00000044136, 4.05039656128, 554.31380496631},
-                {0.00000056899, 2.10899559438, 25.30416342790},
-                {0.00000053440, 4.60001445986, 275.30670354960},
-                {0.00000048371, 1.92839725116, 56.01483552421},
-                {0.00000051224, 4.05673094488, 1364.48428209840},
-                {0.00000044203, 6.07482944330, 70.83263035680},
-                {0.00000041205, 4.61128278499, 124.25903370670},
-                {0.00000041202, 2.82827687638, 49.47743513939},
-                {0.00000053218, 1.97620392270, 7.46043034830},
-                {0.00000039879, 3.39793772882, 48.51422729289},
-                {0.00000039626, 3.19265463758, 72.73779419041},
-                {0.00000042269, 4.84099240112, 232.66536803271},
-                {0.00000039724, 3.77191165523, 88.51879686950},
-                {0.00000054178, 5.97029601300, 364.75733910320},
-                {0.00000047398, 0.63156941487, 74.17408278890},
-                {0.00000047398, 0.90624036754, 75.87674931271},
-                {0.00000045255, 3.53774254616, 393.21727260080},
-                {0.00000041021, 1.74616565416, 79.21820174480},
-                {0.00000040961, 2.22598462877, 306.58682461749},
-                {0.00000048986, 1.09858650309, 198.07742442750},
-                {0.00000042523, 4.44089809382, 22.39009976550},
-                {0.00000037414, 2.64496729780, 397.14942586389},
-                {0.00000043272, 4.08248091850, 28.32799059869},
-                {0.00000047477, 0.90974768312, 224.70048777000},
-                {0.00000047665, 5.63221090280, 73.32849502140},
-                {0.00000040139, 4.02740827147, 164.78486814511},
-                {0.00000037770, 0.39022145039, 91.48774228611},
-                {0.00000037294, 5.02963292331, 275.79433851660},
-                {0.00000039829, 3.07388783910, 28.98238190449},
-                {0.00000042462, 1.60057894892, 25.61967761299},
-                {0.00000038602, 1.73856338598, 91.80325647120},
-                {0.00000049996, 4.52551797919, 52.13086637091},
-                {0.00000037120, 3.30294172342, 167.33312243640},
-                {0.00000035657, 4.61504038625, 77.31303791120},
-                {0.00000046968, 5.66194598133, 836.27778971210},
-                {0.00000036770, 6.23330863408, 123.78346082721},
-                {0.00000045438, 0.21594288443, 199.04063227400},
-                {0.00000048093, 6.20387971062, 3340.85624418330},
-                {0.00000034133, 5.28355572528, 154.91482404881},
-                {0.00000040987, 5.00683283281, 411.37651986550},
-                {0.00000037167, 6.06382239637, 227.03629374021},
-                {0.00000035365, 5.35602526661, 183.85033042589},
-                {0.00000034349, 1.22331331983, 58.56308981550},
-                {0.00000044963, 4.68970697967, 833.30884429549},
-                {0.00000033485, 1.71788340603, 227.77000692311},
-                {0.00000032838, 2.93232570660, 69.12115511239},
-                {0.00000037229, 2.21578270703, 103.76398047180},
-                {0.00000033396, 2.69897029979, 92.29089143820},
-                {0.00000043914, 1.40663545062, 293.43232091950},
-                {0.00000044941, 1.33050790583, 292.94468595250},
-                {0.00000037327, 3.07443834918, 0.55933166859},
-                {0.00000032513, 0.07648721797, 136.31363379940},
-                {0.00000034574, 0.03012597295, 35.92917256650},
-                {0.00000041936, 3.73124645338, 92.06388890210},
-                {0.00000033257, 1.06857797769, 248.96763557360},
-                {0.00000044206, 1.31564656912, 767.61290040431},
-                {0.00000033118, 2.87749681035, 284.39235822571},
-                {0.00000034173, 0.10260218436, 133.13224006171},
-                {0.00000035868, 0.01050739027, 179.91817716280},
-                {0.00000037508, 5.59184408484, 94.66913602380},
-                {0.00000041561, 3.77043120506, 163.82166029861},
-                {0.00000034188, 3.60117869846, 336.01877468221},
-                {0.00000033991, 0.79141238881, 32.43896228810},
-                {0.00000030436, 5.91304525500, 31.78457098230},
-                {0.00000034876, 1.56285963223, 215.19414196860},
-                {0.00000037259, 6.20129626897, 91.06705116081},
-                {0.00000030353, 0.09307819419, 32.48714639791},
-                {0.00000031931, 0.43513268629, 205.94173095370},
-                {0.00000030008, 2.49973464553, 745.03386490949},
-                {0.00000036558, 2.58993639058, 45.96597300160},
-                {0.00000029428, 0.89723240240, 270.16526422410},
-                {0.00000036881, 4.37161776762, 75.61611688180},
-                {0.00000036881, 3.44937732197, 74.43471521981},
-                {0.00000039559, 1.15354419544, 58.87190635621},
-                {0.00000038377, 0.95780009117, 39.37369086260},
-                {0.00000032329, 2.26521239763, 80.65449034331},
-                {0.00000040007, 0.14301803428, 1744.61205005840},
-                {0.00000029388, 0.57900535447, 530.89799042461},
-                {0.00000031193, 5.34416408985, 9.15065373330},
-                {0.00000034894, 4.92668697632, 143.58723949460},
-                {0.00000029512, 6.10629740660, 958.33296034749},
-                {0.00000029255, 2.41173436056, 415.79630809560},
-                {0.00000029888, 5.08597902881, 163.14033674240},
-                {0.00000032864, 5.89146148240, 94.03599657740},
-                {0.00000035403, 1.30282799370, 31.73638687251},
-                {0.00000036501, 0.77005331472, 142.90591593840},
-                {0.00000032416, 1.28513183872, 114.69780615110},
-                {0.00000028338, 3.75891762209, 528.97157473160},
-                {0.00000031160, 5.81959220361, 118.15438653471},
-                {0.00000034324, 5.62039019983, 57.38743364790},
-                {0.00000033749, 5.83827641206, 42.78208713641},
-                {0.00000034375, 0.78267663790, 326.62430346539},
-                {0.00000029984, 0.03281857450, 90.52453443961},
-                {0.00000035105, 0.74094997285, 230.80838830890},
-                {0.00000031999, 5.07107605631, 216.51185833811},
-                {0.00000030853, 2.28294479233, 8.84183719261},
-                {0.00000034254, 5.04640211853, 228.83628063359},
-                {0.00000027044, 3.03125650197, 27.96429230381},
-                {0.00000027412, 4.74407451560, 221.40721944771},
-                {0.00000026388, 4.77835419912, 45.82046852221},
-                {0.00000032494, 1.78574998112, 1033.11455891480},
-                {0.00000035994, 4.20173334239, 4.49148493169},
-                {0.00000029345, 5.38380888199, 123.29582586020},
-                {0.00000026034, 5.84327450882, 78.46993434690},
-                {0.00000026650, 4.89722523811, 151.50393564750},
-                {0.00000031030, 3.60400127791, 66.42739634171},
-                {0.00000028238, 5.31937121882, 222.61650551010},
-                {0.00000026518, 4.41892897104, 11.40139233200},
-                {0.00000026014, 6.23229383455, 447.44893617900},
-                {0.00000025836, 5.11134834182, 68.54500849640},
-                {0.00000024852, 2.56533658439, 42.99702758500},
-                {0.00000033654, 0.21042031029, 54.53036281590},
-                {0.00000024448, 0.97333931967, 269.67762925710},
-                {0.00000033190, 1.90416729889, 141.94270809190},
-                {0.00000024034, 4.76114773513, 327.99690158910},
-                {0.00000031856, 0.25852732885, 1140.13948639650},
-                {0.00000026275, 5.82738497494, 39.91620758380},
-                {0.00000025887, 1.29578545514, 2.04380437690},
-                {0.00000023665, 3.67797605271, 21.84758304429},
-                {0.00000025701, 5.62367875742, 73.91345035801},
-                {0.00000025701, 2.19731633217, 76.13738174360},
-                {0.00000024158, 0.24782459423, 4.20960064140},
-                {0.00000032085, 0.52321152462, 368.21391948681},
-                {0.00000025732, 5.22545182629, 3.37951923889},
-                {0.00000024270, 5.33004436579, 130.19692453990},
-                {0.00000023775, 4.38064538443, 969.37866061139},
-                {0.00000022911, 1.37498134000, 117.56368570370},
-                {0.00000027148, 1.36880911424, 11.17764316280},
-                {0.00000031420, 4.91847220813, 619.04654101100},
-                {0.00000030627, 0.38544249631, 91.17892574540},
-                {0.00000029507, 1.92973953754, 565.35950523021},
-                {0.00000025369, 1.20472379976, 81.13006322279},
-                {0.00000027172, 4.46412260278, 25.51661174900},
-                {0.00000026354, 4.80557558326, 204.97852310719},
-                {0.00000022571, 3.73766875284, 70.88081446661},
-                {0.00000022904, 2.70921472298, 81.50582360521},
-                {0.00000030825, 3.40941027630, 1439.75351563271},
-                {0.00000025426, 3.23853983642, 133.34468838281},
-                {0.00000027083, 5.66221904271, 105.08169684130},
-                {0.00000023195, 5.23000166632, 90.57941619379},
-                {0.00000022062, 1.70024849278, 189.16389053330},
-                {0.00000022242, 0.31042361770, 86.18299089930},
-                {0.00000023869, 5.80511989792, 413.82420042030},
-                {0.00000021820, 5.43668576549, 34.86539098351},
-                {0.00000029143, 3.98193402828, 616.07759559439},
-                {0.00000026632, 5.56229885820, 100.88891114730},
-                {0.00000023677, 2.06825442969, 541.29599702710},
-                {0.00000030371, 6.14019922693, 401.40590203270},
-                {0.00000023717, 5.53655558593, 45.79921666280},
-                {0.00000027663, 2.55223795831, 405.74744557300},
-                {0.00000024084, 4.27906130982, 170.41394243761},
-                {0.00000025601, 2.80411540512, 31.24875190549},
-                {0.00000022288, 2.36593798640, 108.16251684250},
-                {0.00000022857, 3.29724344840, 104.23036357940},
-                {0.00000028908, 1.50679345449, 329.59324888200},
-                {0.00000024430, 0.22851414496, 49.42255338521},
-                {0.00000023008, 3.64071080504, 217.16624964391},
-                {0.00000020835, 0.36990037219, 141.20899490900},
-                {0.00000022817, 3.61760173513, 145.38722638800},
-                {0.00000020957, 4.08353082157, 79.17001763500},
-                {0.00000027954, 2.22651254688, 68.17250148091},
-                {0.00000023022, 5.92938841563, 162.65270177540},
-                {0.00000025411, 5.76699581868, 41.88831525910},
-                {0.00000025079, 2.20069442464, 92.66339845371},
-                {0.00000022779, 5.52671292313, 107.74182571721},
-                {0.00000025092, 5.30025519045, 87.87110320809},
-                {0.00000027016, 2.72752005167, 0.99457700890},
-                {0.00000020414, 5.00634045533, 222.14093263061},
-                {0.00000020185, 1.39247008619, 144.17794032560},
-                {0.00000027094, 2.53571464342, 369.69839219510},
-                {0.00000019466, 0.94793502304, 9.15735137770},
-                {0.00000020822, 2.59012459788, 72.31710306511},
-                {0.00000020822, 5.23087049171, 77.73372903651},
-                {0.00000023312, 4.27157982827, 52.39149880180},
-                {0.00000019238, 3.43567333582, 145.14114817210},
-                {0.00000022156, 0.30949345254, 64.73047531231},
-                {0.00000019648, 5.73502411840, 692.83130183700},
-                {0.00000018748, 2.81185581123, 289.80898419710},
-                {0.00000019125, 6.24717703663, 22.65073219640},
-                {0.00000024581, 4.62574787093, 20.20305164159},
-                {0.00000021617, 1.70409750584, 251.84270489810},
-                {0.00000021860, 3.58883523958, 38.11622069041},
-                {0.00000021658, 1.25465688439, 30.98811947460},
-                {0.00000021231, 2.27353854359, 55.38169607781},
-                {0.00000025483, 4.64764517239, 41.08516610701},
-                {0.00000021046, 0.38705533625, 58.07545484850},
-                {0.00000022854, 1.45857912338, 167.07249000551},
-                {0.00000018322, 4.94540136145, 165.84864972810},
-                {0.00000018466, 5.32494059479, 380.84715832300},
-                {0.00000024739, 5.59448807386, 81.87833062070},
-                {0.00000022782, 3.12770425841, 305.58998687620},
-                {0.00000018449, 2.20918468220, 378.92074262999},
-                {0.00000020493, 2.67165332200, 148.21066732521},
-                {0.00000024545, 3.35975251109, 66.46102623650},
-                {0.00000020079, 4.42522434046, 156.92056161890},
-                {0.00000017465, 2.28393103769, 312.21589891000},
-                {0.00000021567, 1.12414642509, 225.55182103190},
-                {0.00000020030, 3.79354487434, 134.30789622931},
-                {0.00000017391, 4.43131947107, 73.01967848070},
-                {0.00000019537, 2.39762567547, 140.41254340130},
-                {0.00000022517, 0.52473596856, 248.70700314271},
-                {0.00000017589, 0.35927102062, 303.30236501580},
-                {0.00000020366, 3.56741326841, 97.65933329981},
-                {0.00000022843, 2.35344003630, 758.52724572820},
-                {0.00000021264, 1.64752588071, 330.08088384900},
-                {0.00000016980, 2.73160214009, 74.56784166380},
-                {0.00000016980, 5.08939294950, 75.48299043781},
-                {0.00000019715, 5.18582165447, 531.73476947149},
-                {0.00000021989, 5.89750482501, 136.78920667889},
-                {0.00000021616, 0.96280708434, 10.32630990090},
-                {0.00000016752, 4.31140364382, 19.25439801010},
-                {0.00000021941, 2.87264335658, 624.67561530350},
-                {0.00000016246, 1.61745332834, 2119.00767786191},
-                {0.00000016279, 4.16287111598, 1.12878064019},
-                {0.00000016279, 1.02127846239, 1.61641560721},
-                {0.00000022328, 3.27882453633, 97.91996573070},
-                {0.00000019188, 4.94451945419, 14.31334491820},
-                {0.00000022519, 0.85578283496, 165.36101476110},
-                {0.00000020956, 1.59412571256, 330.96584700570},
-                {0.00000018599, 5.83146793262, 148.43441649440},
-                {0.00000018917, 2.54214892451, 255.29928528170},
-                {0.00000021299, 1.30861186159, 95.52046928571},
-                {0.00000019398, 0.43941419672, 408.19512612779},
-                {0.00000021480, 4.04620670995, 1669.83045149109},
-                {0.00000015730, 0.96946804568, 17.88179988640},
-                {0.00000015989, 2.45562453742, 132.85705341579},
-                {0.00000016213, 1.36728837925, 5.17280848790},
-                {0.00000015494, 2.11918907538, 743.23387801611},
-                {0.00000015346, 2.13158900960, 610.44852130189},
-                {0.00000019338, 0.96053560010, 363.27286639489},
-                {0.00000017882, 1.66188033865, 190.90899567250},
-                {0.00000016009, 5.51847022593, 74.19533464831},
-                {0.00000016009, 2.30252486366, 75.85549745330},
-                {0.00000018450, 3.22255276270, 135.57992061650},
-                {0.00000015066, 1.89059622287, 118.26626111931},
-                {0.00000019811, 2.43871507941, 375.95179721340},
-                {0.00000017887, 1.19130006535, 85.32035678930},
-                {0.00000015552, 1.65433821047, 5.87289177600},
-                {0.00000015552, 1.65433821047, 5.38525680900},
-                {0.00000014946, 4.66006612006, 76.46170464930},
-                {0.00000014946, 0.01933631594, 73.58912745230},
-                {0.00000018660, 1.95091917300, 107.26874496520},
-                {0.00000014573, 3.69875469397, 73.49275923270},
-                {0.00000014573, 0.98064774203, 76.55807286891},
-                {0.00000015019, 0.65840143476, 64.09159037150},
-                {0.00000017892, 2.82013610923, 231.80522605020},
-                {0.00000015543, 3.30320904812, 66.11857980100},
-                {0.00000018436, 0.47890956330, 549.89401673620},
-                {0.00000015371, 5.73614840902, 736.12033101530},
-                {0.00000017668, 3.18092258141, 378.39947776819},
-                {0.00000014688, 4.10270741432, 17.91542978119},
-                {0.00000014089, 1.33160825911, 63.86784120231},
-                {0.00000015759, 2.23574097001, 104.25161543881},
-                {0.00000016874, 5.09404028824, 84.09900863940},
-                {0.00000015468, 0.86301025949, 515.70768857651},
-                {0.00000017006, 0.51683233019, 106.25735300890},
-                {0.00000015683, 1.71904566531, 46.81730626350},
-                {0.00000015035, 3.00271084463, 490.09027169589},
-                {0.00000013767, 4.61271175472, 535.66692273460},
-                {0.00000014034, 3.68802555946, 281.21096448800},
-                {0.00000013418, 3.63644963778, 70.02948120471},
-                {0.00000013418, 4.18460952894, 80.02135089690},
-                {0.00000018602, 1.68483266458, 366.24181181149},
-                {0.00000016062, 2.15259310684, 73.28031091161},
-                {0.00000016062, 2.52680932916, 76.77052119001},
-                {0.00000018697, 4.35467835660, 130.16329464510},
-                {0.00000013830, 5.82941711627, 278.27564896620},
-                {0.00000016797, 3.58460178095, 157.51126244990},
-                {0.00000016797, 0.44300912736, 157.02362748290},
-                {0.00000013389, 0.37621077797, 118.62995941420},
-                {0.00000014382, 2.64523963261, 194.53233239490},
-                {0.00000017090, 5.34605161061, 60.79832204921},
-                {0.00000013114, 4.17991617574, 883.55136178020},
-                {0.00000016641, 0.22443011643, 118.31444522910},
-                {0.00000013074, 4.16045920009, 12.25272559390},
-                {0.00000013153, 2.76878972668, 225.10987804721},
-                {0.00000013157, 4.80246349684, 122.08653979781},
-                {0.00000016504, 0.88543342905, 285.35556607221},
-                {0.00000013716, 1.39024809565, 1096.85045721820},
-                {0.00000012748, 2.48416087520, 18.76676304310},
-                {0.00000016958, 4.29317977301, 49.00186225990},
-                {0.00000014158, 0.89623255371, 147.80127704800},
-                {0.00000014666, 4.09150859076, 0.50694204189},
-                {0.00000016964, 4.64489049535, 64.94292363340},
-                {0.00000016167, 0.81441085963, 176.89434999200},
-                {0.00000017434, 4.18185648024, 381.36842318480},
-                {0.00000012702, 0.95868773338, 141.45507312490},
-                {0.00000012494, 3.48097632144, 196.01680510321},
-                {0.00000013527, 0.03173550378, 73.70100203691},
-                {0.00000013527, 4.64766693222, 76.34983006470},
-                {0.00000014805, 3.56965005519, 97.17169833279},
-                {0.00000012844, 0.72145574815, 322.36782729660},
-                {0.00000013194, 1.14309437857, 552.34169729099},
-                {0.00000012712, 1.93345626951, 748.96601817260},
-                {0.00000013959, 6.05671842797, 60.35637906450},
-                {0.00000016442, 4.32045457497, 83.62343575990},
-                {0.00000012305, 4.99419427175, 14.73403604350},
-                {0.00000016319, 3.56734156984, 703.87700210090},
-                {0.00000012524, 4.56012598550, 501.62360692681},
-                {0.00000013101, 1.72098134216, 112.67081672160},
-                {0.00000013451, 3.28134459176, 196.38050339810},
-                {0.00000016729, 2.85149875163, 336.59492129820},
-                {0.00000015662, 5.74090488191, 124.74666867370},
-                {0.00000016361, 5.04073870288, 853.44019923550},
-                {0.00000015016, 2.24876100706, 193.41155798150},
-                {0.00000013452, 5.98440620710, 172.44093186710},
-                {0.00000014832, 2.47767910416, 115.60613224340},
-                {0.00000011802, 1.77590529063, 34.28713329129},
-                {0.00000011640, 4.47571714689, 105.13657859549},
-                {0.00000012330, 4.49348945560, 83.93225230061},
-                {0.00000011536, 6.01601210702, 241.36645360580},
-                {0.00000011526, 3.51836993689, 628.60776856660},
-                {0.00000013571, 4.79339886213, 205.46615807421},
-                {0.00000011579, 2.24790593657, 65.57606307981},
-                {0.00000011468, 0.00191176159, 416.79314583689},
-                {0.00000011443, 3.94479633517, 20.69068660860},
-                {0.00000012105, 4.85907022662, 43.84836084689},
-                {0.00000013131, 1.89137553565, 288.49126782760},
-                {0.00000014050, 6.17885749061, 323.74923414091},
-                {0.00000012885, 3.64902131797, 283.90472325870},
-                {0.00000015266, 2.99363853985, 906.13039727500},
-                {0.00000011090, 3.73542178033, 56.11540926071},
-                {0.00000015022, 0.00720412281, 438.05446496220},
-                {0.00000011690, 6.00028447424, 256.18424843839},
-                {0.00000010863, 3.14224264687, 230.00523915680},
-                {0.00000010598, 5.07035234152, 11.60503193250},
-                {0.00000010559, 0.12894495110, 466.51439845980},
-                {0.00000011670, 5.99338710443, 308.93143930831},
-                {0.00000014228, 3.18332327007, 85.10790846821},
-                {0.00000014820, 2.60745843389, 154.05468206630},
-                {0.00000011614, 2.42007432028, 140.90017836831},
-                {0.00000012388, 3.52030869410, 1171.63205578549},
-                {0.00000012580, 2.08601686331, 114.12165953510},
-                {0.00000012667, 4.44809124758, 38.85242600079},
-                {0.00000012598, 5.43444858317, 1819.39364862570},
-                {0.00000013260, 4.20791801425, 77.71917482150},
-                {0.00000014442, 4.27374278803, 82.24202891559},
-                {0.00000013709, 3.54703874690, 109.06873185860},
-                {0.00000010566, 6.07201741563, 1107.89615748210},
-                {0.00000012906, 0.41462458624, 757.56403788170},
-                {0.00000012022, 5.10417154765, 207.63865198310},
-                {0.00000011539, 0.97518052335, 75.59486502240},
-                {0.00000011539, 0.56262925906, 74.45596707921},
-                {0.00000010478, 3.97956030158, 72.09010052900},
-                {0.00000013623, 2.77502843360, 406.34695512460},
-                {0.00000010221, 5.18369595497, 66.67347455760},
-                {0.00000013400, 5.08609743155, 25.84668014910},
-                {0.00000012805, 3.30229416427, 124.53422035260},
-                {0.00000010035, 2.18243817807, 82.61453593110},
-                {0.00000009987, 2.36226793901, 115.18544111810},
-                {0.00000010797, 4.34736910404, 199.31581891990},
-                {0.00000009996, 5.23327380756, 59.03866269500},
-                {0.00000010812, 2.03480650379, 89.25251005240},
-                {0.00000013348, 5.29214999926, 139.75815209550},
-                {0.00000012606, 4.27203364948, 28.55499313480},
-                {0.00000009781, 5.57308917944, 84.47476902181},
-                {0.00000009902, 0.05888868084, 262.77653057739},
-                {0.00000010352, 2.38232189099, 361.62163734781},
-                {0.00000010581, 3.71988895032, 679.81349389780},
-                {0.00000010976, 6.13965346235, 209.08949479660},
-                {0.00000011881, 3.72150920911, 827.67977000299},
-                {0.00000010568, 2.60664396849, 177.06110633080},
-                {0.00000011169, 1.62829652213, 318.43567403349},
-                {0.00000010655, 5.22088985892, 264.20612153150},
-                {0.00000010248, 3.29930797837, 65.63094483399},
-                {0.00000009768, 4.02937576762, 422.42222012939},
-                {0.00000011423, 5.09245873399, 679.49797971270},
-                {0.00000011319, 1.06014170278, 43.79347909271},
-                {0.00000010444, 3.65292109900, 64.24034821780},
-                {0.00000010733, 1.76427675291, 89.69445303710},
-                {0.00000009435, 4.23041304178, 59.83511420271},
-                {0.00000010593, 4.05752516876, 71.94459604960},
-                {0.00000010332, 3.41106834601, 61.04440026510},
-                {0.00000010962, 3.68227156047, 526.00262931501},
-                {0.00000011184, 4.54016329366, 150.61016377020},
-                {0.00000010812, 2.19768748461, 546.71262299849},
-                {0.00000010427, 5.03449006418, 106.03035047280},
-                {0.00000009926, 4.82121666504, 767.12526543730},
-                {0.00000012114, 0.65339570824, 404.86248241631},
-                {0.00000009406, 1.01182317286, 69.55640045270},
-                {0.00000009406, 0.52598660955, 80.49443164890},
-                {0.00000010953, 1.50406511728, 57.86300652739},
-                {0.00000012472, 1.85646878831, 337.55812914470},
-                {0.00000009300, 1.19008258747, 831.34879870770},
-                {0.00000010211, 3.49614631238, 544.16187657970},
-                {0.00000009945, 4.38409935647, 192.93598510200},
-                {0.00000011250, 4.00375643631, 544.26494244370},
-                {0.00000009524, 2.76840570335, 217.68751450571},
-                {0.00000008854, 4.52273760683, 210.36151918381},
-                {0.00000010193, 1.28740045689, 443.61984877990},
-                {0.00000009954, 0.40697067708, 79.85134119120},
-                {0.00000009954, 1.13082001641, 70.19949091040},
-                {0.00000009930, 2.19978678204, 63.01650794040},
-                {0.00000008650, 3.04198602011, 533.11617631580},
-                {0.00000010719, 1.14850073361, 399.92142932440},
-                {0.00000012021, 0.45310721940, 54.89406111079},
-                {0.00000011050, 6.08929460929, 210.60759739969},
-                {0.00000010384, 2.71667758871, 30.35498002820},
-                {0.00000010014, 4.63045642556, 419.24082639170},
-                {0.00000011868, 4.54047117988, 353.54488250050},
-                {0.00000011500, 1.83332132826, 402.89037474099},
-                {0.00000010255, 0.01704274302, 30.93323772040},
-                {0.00000008996, 4.66913463180, 179.03321400610},
-                {0.00000011583, 5.69985889860, 754.59509246510},
-                {0.00000010299, 3.14377404278, 112.89781925770},
-                {0.00000008391, 0.26029466491, 231.18089532440},
-                {0.00000009702, 2.79614338200, 181.03895157621},
-                {0.00000008169, 6.13604295471, 674.18441960530},
-                {0.00000009580, 0.13644851421, 292.25666475190},
-                {0.00000008174, 3.07915003163, 121.59890483079},
-                {0.00000010408, 0.54237327390, 533.86693584120},
-                {0.00000009226, 0.54709114702, 74.11039231410},
-                {0.00000009226, 0.99071863539, 75.94043978751},
-                {0.00000008015, 1.33546656788, 350.57593708390},
-                {0.00000009330, 1.56226315938, 53.04589010760},
-                {0.00000009204, 3.60245234214, 223.62540533890},
-                {0.00000008485, 3.91173741300, 212.57970507500},
-                {0.00000008003, 5.62485208216, 1022.06885865090},
-                {0.00000008044, 2.40245968826, 77.36122202100},
-                {0.00000008044, 5.41853540133, 72.68961008061},
-                {0.00000010452, 0.41418724093, 841.90686400460},
-                {0.00000007961, 3.88224898072, 43.37278796740},
-                {0.00000008333, 2.75421683880, 152.09463647851},
-                {0.00000009216, 0.57128331684, 670.25226634220},
-                {0.00000009064, 0.56424328108, 153.43035134050},
-                {0.00000007893, 4.08557344211, 93.93542284090},
-                {0.00000009501, 5.55196701361, 156.70811329780},
-                {0.00000009347, 1.91675181106, 157.22937815961},
-                {0.00000008617, 4.16810964272, 85.81048388380},
-                {0.00000007939, 3.63926584848, 109.22629842550},
-                {0.00000008607, 6.26788179913, 63.17656663481},
-                {0.00000010579, 6.03372568697, 17.76992530181},
-                {0.00000007543, 4.71193192925, 77.26064828450},
-                {0.00000007543, 6.25065581393, 72.79018381711},
-                {0.00000008486, 4.73310682076, 78.10623605200},
-                {0.00000009532, 3.48105051561, 835.28095197081},
-                {0.00000007509, 0.24778282724, 216.72430665921},
-                {0.00000008683, 1.33880616649, 117.77862615229},
-                {0.00000007488, 3.66693161684, 90.21571789890},
-                {0.00000009008, 3.17075001642, 175.67050971460},
-                {0.00000007543, 3.74071360489, 74.29170286790},
-                {0.00000007543, 0.93868883111, 75.75912923371},
-                {0.00000008913, 6.15081816716, 683.74564716089},
-                {0.00000008280, 3.88721456088, 216.23667169220},
-                {0.00000010165, 1.03073080986, 1364.97191706540},
-                {0.00000007591, 1.52968766452, 351.57277482520},
-                {0.00000008205, 5.09744900361, 37.41364527480},
-                {0.00000007588, 4.85567964296, 198.56505939450},
-                {0.00000008473, 4.68984634698, 71.25332148210},
-                {0.00000008473, 3.13114874261, 78.79751061951},
-                {0.00000009107, 4.67464118916, 37.15301284391},
-                {0.00000007766, 5.62963711474, 1479.11039154791},
-                {0.00000008403, 2.94304661637, 253.21530302180},
-                {0.00000007642, 3.78920936733, 49.96507010641},
-                {0.00000009234, 5.87328409600, 166.84548746939},
-                {0.00000008874, 1.21562855803, 483.46435966210},
-                {0.00000007128, 5.26168401372, 173.69840203930},
-                {0.00000007872, 4.40559016099, 437.88770862340},
-                {0.00000009185, 3.56691829389, 101.04896984171},
-                {0.00000007312, 1.42644648376, 526.75338884040},
-                {0.00000009194, 0.24395127549, 97.43233076370},
-                {0.00000008182, 4.10243639384, 115.86676467430},
-                {0.00000009663, 4.58316566558, 763.19311217420},
-                {0.00000008486, 5.36038512781, 242.11472100371},
-                {0.00000008799, 1.82084099731, 366.72944677850},
-                {0.00000008458, 0.01382575407, 297.98880490840},
-                {0.00000008904, 3.41133622364, 60.20762121820},
-                {0.00000007575, 1.04449883197, 214.50612076800},
-                {0.00000006999, 0.89579766070, 144.69920518740},
-                {0.00000008000, 2.06536324132, 325.13983075710},
-                {0.00000008498, 5.46871328448, 20.73887071840},
-                {0.00000009641, 2.32432883600, 56.89979868090},
-                {0.00000007094, 1.39205091254, 49.75262178531},
-                {0.00000007954, 5.63302185515, 87.03432416121},
-                {0.00000006970, 3.53190960252, 130.79643409150},
-                {0.00000007608, 0.76489562356, 409.31590054121},
-                {0.00000007168, 0.93279559301, 1265.81129610991},
-                {0.00000008728, 1.96431386488, 78.99119920869},
-                {0.00000007572, 1.74214777176, 148.91324274080},
-                {0.00000006783, 1.46116350403, 555.31064270760},
-                {0.00000008481, 2.96221922852, 119.26309886060},
-                {0.00000007247, 4.39792712384, 33.26904369061},
-                {0.00000006911, 4.10374012893, 41.51255487670},
-                {0.00000006813, 1.07636826238, 301.17019864609},
-                {0.00000008470, 5.65128185788, 250.19147585100},
-                {0.00000006549, 3.94896050121, 129.36014549300},
-                {0.00000006543, 1.39714714677, 44.36962570870},
-                {0.00000008617, 4.71598219531, 150.70078649541},
-                {0.00000007676, 0.12204540495, 60.46825364911},
-                {0.00000008905, 1.60527300986, 749.82616015511},
-                {0.00000007175, 0.91189106023, 445.96446347071},
-                {0.00000006465, 3.89256895528, 75.50098893029},
-                {0.00000007106, 5.68687043451, 6456.63624021419},
-                {0.00000007220, 0.39640769723, 1692.40948698591},
-                {0.00000006926, 5.63023317193, 20.90562705720},
-                {0.00000007786, 1.14887986313, 100.40127618030},
-                {0.00000006164, 3.36294623636, 1376.01761732930},
-                {0.00000007312, 6.02023970623, 188.90325810240},
-                {0.00000006788, 1.55308559495, 86.87426546680},
-                {0.00000006246, 1.42620877338, 14.57397734909},
-                {0.00000006057, 0.06309705992, 267.71758366931},
-                {0.00000007767, 2.05936273306, 95.73540973430},
-                {0.00000007632, 1.14078660914, 22.22334342671},
-                {0.00000006881, 2.23862156704, 163.87654205279},
-                {0.00000006523, 5.12980083900, 368.83825021259},
-                {0.00000006006, 5.77254836616, 560.93971700010},
-                {0.00000006916, 4.01629596963, 497.69145366371},
-                {0.00000007042, 2.46549785002, 39.11305843170},
-                {0.00000007444, 1.82983001446, 396.78572756900},
-                {0.00000007949, 0.17119410374, 474.70302789170},
-                {0.00000007441, 0.32295076565, 260.01333583751},
-                {0.00000008032, 2.40925890235, 224.06734832360},
-                {0.00000005746, 4.13473916751, 193.04785968660},
-                {0.00000005743, 3.19578471830, 20201.98247923659},
-                {0.00000007757, 2.22105969633, 688.41151360689},
-                {0.00000007329, 5.57096867484, 237.17366791179},
-                {0.00000005919, 5.22221186676, 17.39416491939},
-                {0.00000006252, 0.31443956867, 132.16903221521},
-                {0.00000005870, 2.71837669898, 690.85919416170},
-                {0.00000006964, 1.45493516622, 197.55615956570},
-                {0.00000007219, 3.86376797010, 266.96931627140},
-                {0.00000007947, 4.04273198078, 514.46929408409},
-                {0.00000007626, 5.24503341118, 842.39449897160},
-                {0.00000006895, 3.05037238160, 425.35753565121},
-                {0.00000006665, 1.38387522554, 436.56999225390},
-                {0.00000006291, 0.10212516125, 343.49601997789},
-                {0.00000006140, 2.78780439407, 213.70966926030},
-                {0.00000005915, 2.43173952853, 62.75587550951},
-                {0.00000005915, 5.38925556105, 87.29495659210},
-                {0.00000006781, 5.62139692952, 647.25465079831},
-                {0.00000006309, 4.56219828589, 178.37882270030},
-                {0.00000005782, 1.65730371744, 401.29402744810},
-                {0.00000007776, 0.40754452945, 204.94489321240},
-                {0.00000006809, 2.65807547458, 291.94784821120},
-                {0.00000005680, 2.60329405000, 79.64559051450},
-                {0.00000005958, 2.08802033162, 808.76976321290},
-                {0.00000005850, 1.55616178293, 358.65269193120},
-                {0.00000005624, 2.57073308836, 42.30900638440},
-                {0.00000007759, 0.26906707780, 79.27308349900},
-                {0.00000005495, 2.40092261645, 159.20818347930},
-                {0.00000005488, 3.62340702832, 293.95358578131},
-                {0.00000007423, 0.60231124353, 139.72452220071},
-                {0.00000005570, 4.40848654037, 187.99493201010},
-                {0.00000006894, 4.85514543558, 407.83142783290},
-                {0.00000005539, 3.27596723365, 1235.36795408890},
-                {0.00000006394, 5.72210287246, 956.53297345411},
-                {0.00000005577, 5.67561703294, 168.92946972931},
-                {0.00000006276, 6.25873212243, 97.00494199400},
-                {0.00000007541, 2.51146519598, 303.87851163179},
-                {0.00000006343, 0.19031564137, 164.36417701981},
-                {0.00000006353, 5.36295948561, 370.21965705690},
-                {0.00000005390, 1.55675166817, 818.01547658340},
-                {0.00000005777, 4.25785415604, 271.37455028650},
-                {0.00000006126, 0.94260816975, 45.22976769120},
-                {0.00000005488, 3.66616025422, 136.47369249381},
-                {0.00000006742, 4.40828850034, 89.84321088341},
-                {0.00000006582, 0.85603229747, 1291.18715623940},
-                {0.00000005219, 5.16576359992, 7.62048904269},
-                {0.00000006692, 1.57725367967, 5994.75133850259},
-                {0.00000006355, 5.81946862067, 184.48346987229},
-                {0.00000007139, 2.55929105921, 359.17395679300},
-                {0.00000006215, 0.02868656789, 1582.20316576650},
-                {0.00000005605, 3.11246665067, 43.48466255200},
-                {0.00000005449, 0.56711967932, 229.09691306450},
-                {0.00000005787, 0.20970024792, 492.06237937121},
-                {0.00000006553, 4.18583913829, 1065.35788782919},
-                {0.00000005340, 4.29293326576, 27.49790919620},
-                {0.00000005124, 2.24404925860, 479.53220639900},
-                {0.00000005421, 0.30923710851, 298.88257678570},
-                {0.00000005261, 0.87883152563, 211.57080524620},
-                {0.00000006420, 5.27556145965, 489.09343395460},
-                {0.00000005889, 2.39433492737, 1514.53511420000},
-                {0.00000004956, 4.14479114010, 450.41788159561},
-                {0.00000006450, 3.02138558238, 9924.96103472219},
-                {0.00000004940, 0.52935323621, 20.95381116700},
-                {0.00000005847, 1.42358003244, 89.58257845250},
-                {0.00000005600, 3.40624847077, 241.85408857280},
-                {0.00000006152, 4.92625022847, 524.51815660670},
-                {0.00000006088, 2.72225507513, 711.69312451730},
-                {0.00000005407, 3.68956638902, 148.16248321540},
-                {0.00000006327, 3.36352822659, 300.64893378430},
-                {0.00000005490, 0.79611377485, 261.81332273089},
-                {0.00000005280, 5.56598623472, 74.42590649920},
-                {0.00000004835, 5.88731588561, 122.77456099839},
-                {0.00000005417, 3.67541639447, 34.18406742730},
-                {0.00000005465, 5.75476347267, 49.89563413720},
-                {0.00000004962, 3.25176869821, 40.49446527601},
-                {0.00000005202, 3.43757897939, 102.27950776349},
-                {0.00000005768, 0.87260894941, 237.92193530970},
-                {0.00000005794, 0.10891997847, 215.99059347631},
-                {0.00000006057, 1.62279256892, 1595.04885292380},
-                {0.00000006144, 3.15358005008, 456.95317090420},
-                {0.00000005439, 3.24285098245, 164.13717448370},
-                {0.00000006169, 1.60041197456, 2199.52141658570},
-                {0.00000005803, 3.65374412104, 476.07562601539},
-                {0.00000004737, 0.78451360563, 905.64276230799},
-                {0.00000004927, 1.69388966240, 752.89817143570},
-                {0.00000004656, 0.34442537000, 89.09494348550},
-                {0.00000005228, 2.74942181286, 112.63718682681},
-                {0.00000005103, 2.15939141750, 93.54836161040},
-                {0.00000004793, 1.96914093772, 257.14745628489},
-                {0.00000005517, 1.72811028560, 85.95924173011},
-                {0.00000005174, 2.58855661317, 460.88532416730},
-                {0.00000004600, 3.32053950440, 693.82813957829},
-                {0.00000005568, 0.53088329446, 346.15614885380},
-                {0.00000005750, 4.66927784024, 475.11241816889},
-                {0.00000005821, 3.92004054025, 331.92905485220},
-                {0.00000005474, 2.88263190253, 119.09634252180},
-                {0.00000005555, 3.07944899399, 166.58485503849},
-                {0.00000004721, 5.57665667104, 818.33099076849},
-                {0.00000004598, 3.62412165981, 155.43608891061},
-                {0.00000004983, 1.00895911835, 305.36298434010},
-                {0.00000004604, 0.67475144027, 240.63024829540},
-                {0.00000004534, 2.51553633780, 426.35437339250},
-                {0.00000006030, 4.20090275052, 928.22179780281},
-                {0.00000005073, 3.12942565704, 119.15122427600},
-                {0.00000004800, 3.95967152002, 133.82026126229},
-                {0.00000005861, 0.80317428777, 441.51104534581},
-                {0.00000004509, 3.96144988696, 106.67804413421},
-                {0.00000004990, 1.91385887833, 53.40958840249},
-                {0.00000005764, 2.06812354087, 896.08153475239},
-                {0.00000005407, 3.17620848565, 469.48334387639},
-                {0.00000005823, 2.53279154851, 29.50364676630},
-                {0.00000005944, 1.89466199570, 235.94982763440},
-                {0.00000006147, 6.16340894908, 1288.21821082279},
-                {0.00000004598, 2.84824896257, 224.32798075451},
-                {0.00000005709, 1.19300025955, 893.11258933580},
-                {0.00000004523, 0.42084353764, 530.09484127250},
-                {0.00000005024, 3.74456662203, 314.66357946480},
-                {0.00000004527, 0.18441552056, 100.29821031630},
-                {0.00000004510, 3.91932536657, 529.77472388370},
-                {0.00000005026, 2.35475688005, 74.64965566840},
-                {0.00000005303, 5.80155174455, 273.82223084130},
-                {0.00000004380, 2.56083534926, 1578.27101250340},
-                {0.00000005525, 5.57587445203, 453.18107633550},
-                {0.00000004962, 5.09899961225, 810.90192958261},
-                {0.00000004972, 4.91118746618, 334.89800026879},
-                {0.00000005401, 0.36756701975, 193.67219041240},
-                {0.00000005498, 5.42712164709, 230.58138577279},
-                {0.00000004501, 1.13664286212, 523.71500745461},
-                {0.00000004303, 1.61642146352, 1246.41365435280},
-                {0.00000005261, 0.11599202303, 170.25388374320},
-                {0.00000004481, 3.32785486855, 5.35162691421},
-                {0.00000004655, 1.22893719366, 178.43370445449},
-                {0.00000005029, 4.93286736415, 193.93282284329},
-                {0.00000005743, 5.13195285730, 246.68001371321},
-                {0.00000005652, 2.43693211690, 315.41184686271},
-                {0.00000004604, 1.52839326823, 1072.47143483000},
-                {0.00000005494, 4.72792390506, 1044.64789414570},
-                {0.00000004789, 2.23605317652, 361.78839368660},
-                {0.00000005139, 3.92903030642, 223.20720634109},
-                {0.00000005310, 5.00194088840, 444.47999076240},
-                {0.00000004815, 2.88473476458, 3041.24221494710},
-                {0.00000004119, 3.70589854610, 2120.49215057020},
-                {0.00000004552, 5.13940535692, 158.50810019120},
-                {0.00000004594, 5.30513223240, 1310.14955265620},
-                {0.00000004173, 4.27937119249, 181.40264987110},
-                {0.00000004090, 3.85142033448, 138.64943976960},
-                {0.00000004884, 3.63854055554, 6.65728119619},
-                {0.00000004740, 1.08537988908, 25788.53292982149},
-                {0.00000005699, 4.42014972948, 772.83258441960},
-                {0.00000005296, 6.13051223469, 694.79134742480},
-                {0.00000004555, 1.54916256463, 154.42718908179},
-                {0.00000004669, 0.25884741077, 127.82748867490},
-                {0.00000004509, 0.11998259133, 227.35180792530},
-                {0.00000004302, 4.07489237646, 100.08576199520},
-                {0.00000004027, 2.46764881744, 294.05665164530},
-                {0.00000004114, 1.36897521941, 383.06534421420},
-                {0.00000004552, 1.51276211559, 1361.03976380230},
-                {0.00000004653, 3.06693329591, 1019.52060435960},
-                {0.00000004849, 1.52566036879, 119.11759438120},
-                {0.00000004617, 3.31831252020, 887.48351504330},
-                {0.00000005166, 5.64256709119, 49.26498681829},
-                {0.00000005543, 0.97951125744, 296.50433220009},
-                {0.00000003936, 3.52768574626, 137.79810650771},
-                {0.00000003959, 5.50934383834, 151.17961274180},
-                {0.00000004546, 2.33233821317, 44.42661853911},
-                {0.00000004195, 6.00162241896, 305.21422649380},
-                {0.00000003911, 0.86277832354, 1020.26887175750},
-                {0.00000003906, 3.18695974498, 36.41929966101},
-                {0.00000004980, 5.69236181156, 682.78243931439},
-                {0.00000003894, 4.70455775456, 13.77082819700},
-                {0.00000004225, 3.79984325344, 310.73142620169},
-                {0.00000003999, 0.85861235733, 93.98781246761},
-                {0.00000003999, 0.67919742508, 56.06301963400},
-                {0.00000004072, 0.89973310426, 956.84848763920},
-                {0.00000004160, 3.63151901615, 138.92807069299},
-                {0.00000003870, 1.95474602032, 316.14805217309},
-                {0.00000005282, 2.92111334017, 442.99551805410},
-                {0.00000003856, 3.41183001590, 778.17096570120},
-                {0.00000005026, 3.61371361415, 252.89978883670},
-                {0.00000004872, 2.20405135166, 196.59295171920},
-                {0.00000004088, 4.88665302875, 770.58184582090},
-                {0.00000003976, 1.86804354686, 34.44469985821},
-                {0.00000003976, 1.86804354686, 33.95706489120},
-                {0.00000004425, 2.95639722479, 621.98185653281},
-                {0.00000003827, 2.58907561634, 29.81246330700},
-                {0.00000004303, 3.92882697682, 302.39403892350},
-                {0.00000004082, 1.36715410600, 76.98546163860},
-                {0.00000004775, 5.01224539274, 379.25961975071},
-                {0.00000004866, 1.48866583048, 349.12509427039},
-                {0.00000004558, 2.22201452659, 484.67364572450},
-                {0.00000003896, 5.05170610646, 525.74199688410},
-                {0.00000003790, 4.25929018143, 168.81759514471},
-                {0.00000004584, 3.59480552867, 30.41197285861},
-                {0.00000003789, 3.30651741587, 225.58545092669},
-                {0.00000003919, 2.30050922510, 367.61440993520},
-                {0.00000004495, 5.49223496970, 823.74761673989},
-                {0.00000004071, 5.88966518721, 152.28832506769},
-                {0.00000004431, 4.29789318653, 781.83999440590},
-                {0.00000003787, 4.05895470835, 96.22304470130},
-                {0.00000003738, 2.49934308138, 909.68679015570},
-                {0.00000003824, 1.72982544585, 81.01818863820},
-                {0.00000005100, 1.77501816666, 786.47472308461},
-                {0.00000004678, 3.46326949476, 294.42915866079},
-                {0.00000004456, 0.22032826250, 473.41549713950},
-                {0.00000004182, 4.89705342604, 109.96250373590},
-                {0.00000004721, 3.16039895369, 487.64259114110},
-                {0.00000004194, 2.53407050665, 135.82599883240},
-                {0.00000004150, 5.59000281909, 208.60185982960},
-                {0.00000003881, 4.75443738028, 527.48710202330},
-                {0.00000005003, 4.37961745221, 26088.14695905770},
-                {0.00000004925, 0.81517935481, 104.82106441041},
-                {0.00000004629, 0.34855620937, 324.97307441831},
-                {0.00000003764, 5.45647898824, 81.17575520511},
-                {0.00000003764, 5.50610875494, 68.87507689650},
-                {0.00000004634, 1.92952542549, 439.53893767049},
-                {0.00000004661, 2.87667311621, 1031.63008620649},
-                {0.00000004246, 0.02482008071, 290.87525790760},
-                {0.00000004701, 2.63355711377, 292.57217893700},
-                {0.00000004168, 1.50787160276, 347.68880567190},
-                {0.00000003574, 2.38256827172, 101.85211899380},
-                {0.00000004316, 3.83309032671, 1034.59903162310},
-                {0.00000004648, 6.16877789702, 701.01993126891},
-                {0.00000005000, 3.39683093071, 636.42389098300},
-                {0.00000004950, 0.01286873425, 901.71060904489},
-                {0.00000004343, 2.34864924381, 372.77040347569},
-                {0.00000003612, 5.08316127068, 154.31531449720},
-                {0.00000004180, 2.96623594157, 304.99047732459},
-                {0.00000003767, 0.18019206646, 1040.97886544099},
-                {0.00000004105, 4.59107231627, 1169.57143646120},
-                {0.00000004389, 1.49290014038, 67.63668240410},
-                {0.00000003610, 2.89127345548, 969.86629557841},
-                {0.00000003589, 0.27875915694, 1340.59289467720},
-                {0.00000004184, 6.23478790622, 1575.08961876571},
-                {0.00000004327, 5.64145082781, 470.44655172289},
-                {0.00000003635, 3.93501297739, 618.04970326970},
-                {0.00000004568, 3.41794989423, 374.46732450509},
-                {0.00000004014, 1.70084166838, 191.07575201129},
-                {0.00000003518, 1.41112167500, 812.70191647599},
-                {0.00000004543, 3.48436789856, 18.87863762769},
-                {0.00000004255, 3.36331514891, 257.78059573129},
-                {0.00000003536, 2.41329229079, 1158.78636862821},
-                {0.00000004782, 5.54428360596, 20.36311033600},
-                {0.00000003580, 3.54221700449, 155.79978720550},
-                {0.00000004461, 3.14107597585, 155.91166179010},
-                {0.00000004866, 4.52211926632, 16.85490156510},
-                {0.00000004353, 5.88270989811, 154.54231703330},
-                {0.00000003770, 3.06440812943, 238.91877305099},
-                {0.00000003780, 2.96795333847, 250.35823218980},
-                {0.00000004854, 1.95565618643, 823.12328601411},
-                {0.00000004833, 4.80754178031, 1894.66288216001},
-                {0.00000003662, 6.11416816246, 319.92014674179},
-                {0.00000003977, 0.97335262015, 326.19691469570},
-                {0.00000003861, 4.17358736891, 47.99296243110},
-                {0.00000004433, 0.71074152760, 1685.29593998510},
-                {0.00000004182, 1.56605335566, 548.40954402789},
-                {0.00000003421, 1.94916325782, 605.03189533049},
-                {0.00000003876, 2.42283968740, 302.13340649259},
-                {0.00000004008, 0.26728290195, 6137.20098863639},
-                {0.00000004500, 2.95199565386, 47.30494123050},
-                {0.00000004050, 2.87043107244, 6.46359260701},
-                {0.00000003411, 6.02869083070, 997.68983626269},
-                {0.00000004312, 5.58120507194, 847.81112494300},
-                {0.00000003428, 6.26485948451, 71.35638734610},
-                {0.00000003928, 1.52298026279, 395.30125486070},
-                {0.00000003650, 4.95207182494, 1254.27796087899},
-                {0.00000003844, 0.57682019240, 121.49583896680},
-                {0.00000003966, 6.20228771414, 761.49619114479},
-                {0.00000003497, 2.60162047401, 319.32944591080},
-                {0.00000003510, 0.82870221909, 273.34665796181},
-                {0.00000003408, 0.81896528567, 1016.33671849440},
-                {0.00000004206, 2.08946991165, 435.44002806861},
-                {0.00000003372, 0.84549509997, 213.49472881170},
-                {0.00000003369, 4.04202536168, 213.59109703130},
-                {0.00000004154, 5.53330486226, 357.16821922291},
-                {0.00000003966, 3.31508277427, 185.33480313420},
-                {0.00000004636, 3.53025378242, 6169.91739830280},
-                {0.00000004042, 1.50838388855, 432.47108265200},
-                {0.00000003366, 1.08933178457, 699.45721387080},
-                {0.00000003632, 3.02688066661, 771.05741870039},
-                {0.00000003967, 1.24490650084, 280.24775664150},
-                {0.00000003436, 0.23792026514, 182.36585771760},
-                {0.00000004588, 4.60587020989, 25483.18676042879},
-                {0.00000003825, 3.29754629533, 6129.33668211020},
-                {0.00000003243, 2.79388610647, 279.97256999560},
-                {0.00000004579, 0.12286146246, 2735.89604555439},
-                {0.00000004222, 5.57461283603, 344.94686279140},
-                {0.00000004222, 2.43302018244, 344.45922782439},
-                {0.00000003528, 1.32293950034, 187.78248368899},
-                {0.00000003976, 2.04915986842, 433.43429049850},
-                {0.00000003885, 3.16317291930, 254.33607743521},
-                {0.00000003256, 5.33196090740, 1756.14538528930},
-                {0.00000003450, 0.99685451963, 1336.66074141410},
-                {0.00000003763, 4.59733292662, 598.77849031221},
-                {0.00000003661, 5.44386390628, 523.99689174490},
-                {0.00000003764, 1.88881171881, 498.65466151020},
-                {0.00000003218, 4.24420447682, 829.37669103239},
-                {0.00000003783, 1.68999507602, 10067.41068485599},
-                {0.00000004463, 4.05993678503, 686.71459257749},
-                {0.00000003955, 5.22637518019, 386.99749747730},
-                {0.00000003269, 3.81995058967, 90.80641872990},
-                {0.00000003268, 4.00080141209, 59.24441337170},
-                {0.00000003540, 4.82265466943, 313.17910675650},
-                {0.00000003535, 3.36280834282, 78039.12081153718},
-                {0.00000003318, 5.75025984322, 522.33360061030},
-                {0.00000003173, 2.42451995202, 1475.17823828480},
-                {0.00000003156, 4.25625589255, 1596.43025976811},
-                {0.00000004282, 4.65731144409, 269.31393096221},
-                {0.00000003178, 5.76350607566, 1886.79857563380},
-                {0.00000004407, 2.37962716553, 236.74627914210},
-                {0.00000003698, 1.89962562145, 762.98066385310},
-                {0.00000003368, 3.39410364596, 196.86813836510},
-                {0.00000004221, 4.85565822083, 102.74589087111},
-                {0.00000003725, 5.21185176662, 511.28790034640},
-                {0.00000003791, 3.67873273608, 1147.74066836430},
-                {0.00000003211, 5.53866872898, 151.81275218821},
-                {0.00000003516, 0.78503990832, 470.24960976680},
-                {0.00000003947, 3.66915150826, 757.04277301989},
-                {0.00000003990, 4.04987769223, 908.09044286280},
-                {0.00000003674, 2.73741527477, 631.78916230430},
-                {0.00000003787, 0.46761206888, 798.14475407429},
-                {0.00000004369, 4.95294795394, 10100.12709452239},
-                {0.00000003536, 5.60494639394, 354.75416856289},
-                {0.00000003391, 2.25906474385, 5908.92403967139},
-                {0.00000003083, 4.48757923108, 829.06117684730},
-                {0.00000004306, 4.50722020801, 503.10807963510},
-                {0.00000003547, 1.18953274954, 38.84993387330},
-                {0.00000003214, 2.73020363368, 660.85109748100},
-                {0.00000003069, 3.57500923483, 53.56715496940},
-                {0.00000003103, 4.11072552350, 367.35377750430},
-                {0.00000003753, 2.02140889521, 486.86069384840},
-                {0.00000003982, 5.27127178209, 614.59312288610},
-                {0.00000003567, 1.58596030710, 473.21855518340},
-                {0.00000003603, 4.72020715629, 10059.54637832979},
-                {0.00000003339, 0.78854853830, 15.25530090530},
-                {0.00000003342, 4.51414863179, 391.73279989249},
-                {0.00000003638, 1.61128601114, 104.77288030060},
-                {0.00000003557, 0.14967035207, 365.86930479600},
-                {0.00000003047, 0.96929818074, 75.23786437190},
-                {0.00000003047, 3.71010425526, 74.81296772971},
-                {0.00000003632, 1.90931698611, 2175.14239419750},
-                {0.00000003727, 1.77889452064, 668.76779363389},
-                {0.00000003110, 5.05640701071, 95.68722562449},
-                {0.00000003110, 5.05640701071, 96.17486059150},
-                {0.00000003034, 2.90532445467, 98.65617104110},
-                {0.00000003292, 1.54349283302, 68.90870679129},
-                {0.00000003166, 1.24980683639, 5.69407334969},
-                {0.00000003043, 2.01164982401, 100.14064374939},
-                {0.00000003150, 3.91957783792, 6532.90231148980},
-                {0.00000003284, 0.73960261885, 138.87318893880},
-                {0.00000003008, 0.77075221627, 287.83687652179},
-                {0.00000003451, 1.61115939195, 1206.21999939070},
-                {0.00000003235, 3.99969523787, 302.65467135440},
-                {0.00000004224, 4.39410979413, 527.22646959241},
-                {0.00000002990, 1.05588985579, 182.52342428450},
-                {0.00000003383, 1.88782670005, 30.95448957981},
-                {0.00000004137, 2.73198697887, 436.40323591510},
-                {0.00000003071, 1.35070695195, 198.82818395289},
-                {0.00000003076, 3.98325926368, 608.00084074710},
-                {0.00000003557, 1.81225163838, 731.70054278519},
-                {0.00000003557, 1.81225163838, 732.18817775220},
-                {0.00000003552, 0.07771515960, 262.20038396140},
-                {0.00000004135, 5.62625626157, 195.15666312070},
-                {0.00000002951, 0.30762412341, 161.65586403411},
-                {0.00000002963, 2.39442029962, 1044.16025917870},
-                {0.00000003762, 3.72993621639, 751.31063286340},
-                {0.00000003317, 1.95763203162, 29.55183087609},
-                {0.00000003109, 4.88578496396, 1061.42573456610},
-                {0.00000002930, 6.21731762577, 60.31068708220},
-                {0.00000002938, 5.68333516250, 380.63471000190},
-                {0.00000003292, 1.40459725923, 576.40520549410},
-                {0.00000002939, 4.59146101512, 47.02975458460},
-                {0.00000002922, 0.92284575293, 55.05162767771},
-                {0.00000002922, 0.61496402948, 94.99920442390},
-                {0.00000003190, 3.68158030074, 9839.13373589100},
-                {0.00000004110, 4.80248129129, 2885.94687765600},
-                {0.00000003635, 0.86054546097, 189.96703968541},
-                {0.00000003962, 0.33365956631, 511.35159082120},
-                {0.00000002907, 5.93117000490, 373.29166833749},
-                {0.00000002911, 1.86560039627, 379.13319095109},
-                {0.00000003057, 3.85149288925, 517.66524203681},
-                {0.00000003748, 3.72709697779, 5985.19011094699},
-                {0.00000003250, 0.47551640281, 385.82184130970},
-                {0.00000003250, 0.47551640281, 386.30947627670},
-                {0.00000003118, 3.20537698563, 404.75060783170},
-                {0.00000003966, 4.01667977047, 243.59919371200},
-                {0.00000002935, 4.99774337126, 1190.54206257560},
-                {0.00000003497, 0.14584351149, 3114.53934080610},
-                {0.00000002871, 3.51272688765, 743.54939220120},
-                {0.00000002948, 3.53416941444, 78338.73484077338},
-                {0.00000003905, 4.31421378967, 669.93675215711},
-                {0.00000002937, 0.29648642653, 590.48928714380},
-                {0.00000004039, 3.00223087435, 25633.23759253039},
-                {0.00000003590, 0.30018156799, 376.70255673880},
-                {0.00000002945, 6.16606883810, 274.30986580831},
-                {0.00000003853, 2.68183358602, 224.69167904940},
-                {0.00000003805, 4.38433280473, 3117.50828622269},
-                {0.00000002874, 2.09548901827, 89.35557591640},
-                {0.00000003560, 2.89480416655, 748.34168744680},
-                {0.00000002905, 0.11587901518, 872.66572021069},
-                {0.00000003186, 3.01587158229, 53.87597151011},
-                {0.00000003567, 1.99291047052, 403.37800970800},
-                {0.00000003734, 5.74700811308, 909.46304098649},
-                {0.00000003317, 3.32499008438, 204.45725824539},
-                {0.00000003185, 5.79949438148, 5982.22116553039},
-                {0.00000002821, 2.97445175627, 116.78178841100},
-                {0.00000002821, 2.97445175627, 116.29415344400},
-                {0.00000002924, 5.47085827815, 143.90275367970},
-                {0.00000003219, 3.73062920727, 76.82540294419},
-                {0.00000002902, 6.02969827171, 102.58583217670},
-                {0.00000002902, 1.79129681788, 47.46499992491},
-                {0.00000003255, 1.03586814463, 482.61302640021},
-                {0.00000002994, 3.55361890559, 162.39206934450},
-                {0.00000003717, 4.95057674227, 6061.45618222260},
-                {0.00000003942, 0.04160332713, 6096.62027244380},
-                {0.00000003586, 3.03514042359, 983.35967639710},
-                {0.00000002803, 3.13310905329, 644.07325706060},
-                {0.00000002802, 1.97945311635, 1592.28565818390},
-                {0.00000003498, 5.94376047053, 232.29286101720},
-                {0.00000003387, 4.62847819573, 25861.83005568049},
-                {0.00000003049, 2.94693150681, 6529.93336607319},
-                {0.00000002910, 4.43764615840, 355.99256305531},
-                {0.00000003266, 4.88740891863, 265.48484356309},
-                {0.00000003868, 5.48362456906, 2124.73981801839},
-                {0.00000003667, 5.22566104677, 415.90818268021},
-                {0.00000002825, 5.24697205919, 294.31728407620},
-                {0.00000002775, 4.33278706900, 552.02618310591},
-                {0.00000003099, 2.76412505763, 436.50630177909},
-                {0.00000002858, 3.66116683929, 529.88659846831},
-                {0.00000003700, 2.58340975985, 25864.79900109709},
-                {0.00000002855, 0.67966744335, 529.98296668790},
-                {0.00000002805, 5.17536800845, 2089.05197080790},
-                {0.00000002766, 2.53840571741, 1600.36241303120},
-                {0.00000003634, 3.00439582111, 77.88248688280},
-                {0.00000003634, 1.67500661489, 72.16834521881},
-                {0.00000002849, 4.00550189531, 323.48860171000},
-                {0.00000002774, 3.80513617353, 1606.09455318770},
-                {0.00000002788, 5.07162517305, 187.03172416360},
-                {0.00000002971, 3.10045016404, 586.13318938849},
-                {0.00000002901, 2.38225620488, 62.52887297340},
-                {0.00000003856, 2.65955588851, 113.21333344280},
-                {0.00000002957, 3.89188234418, 53.82778740031},
-                {0.00000002741, 4.81447095359, 274.34349570310},
-                {0.00000002895, 5.22229317128, 151.60700151150},
-                {0.00000002827, 4.49360284571, 979.21507481291},
-                {0.00000003178, 2.47353230626, 529.67415014720},
-                {0.00000003613, 1.91993731589, 583.65187893891},
-                {0.00000003096, 1.82324058715, 530.19541500900},
-                {0.00000003630, 0.09561817703, 9991.66587844219},
-                {0.00000002778, 1.48524423298, 465.02992575149},
-                {0.00000002899, 5.75092160965, 428.32648106781},
-                {0.00000002977, 2.67097238665, 74.37772238940},
-                {0.00000003543, 0.23405199750, 764.67758488250},
-                {0.00000002975, 4.20884044975, 224.42855449101},
-                {0.00000003288, 0.65434532542, 201.04636984410},
-                {0.00000003824, 3.93883782891, 826.92901047760},
-                {0.00000003019, 3.67922796466, 829.16424271130},
-                {0.00000002780, 5.61085980857, 64.45528866639},
-                {0.00000003345, 3.85271375822, 170.46882419179},
-                {0.00000003345, 0.71112110463, 170.95645915881},
-                {0.00000003500, 5.14891828595, 9915.39980716659},
-                {0.00000003048, 6.03618648483, 409.89204715720},
-                {0.00000002854, 3.24258254247, 112.25012559630},
-                {0.00000002775, 1.35827435388, 395.34943897051},
-                {0.00000002715, 5.94386708396, 1533.49751061680},
-                {0.00000002941, 1.40585778661, 148.11009358871},
-                {0.00000002946, 1.94087119383, 430.77416162260},
-                {0.00000003426, 1.74548379376, 914.72841698410},
-                {0.00000003161, 5.61863271879, 554.42567955090},
-                {0.00000002968, 4.51598961684, 1542.09553032591},
-                {0.00000003071, 1.13353110856, 1062.80714141041},
-                {0.00000002999, 4.97086723334, 132.82342352100},
-                {0.00000003514, 3.30332079475, 6355.13232062560},
-                {0.00000002745, 1.55758551038, 482.01351684860},
-                {0.00000002850, 3.54616507843, 395.66495315560},
-                {0.00000002663, 4.35706294828, 96.48367713221},
-                {0.00000003000, 3.14530124801, 519.85229016070},
-                {0.00000002655, 1.19029556060, 1160.58635552159},
-                {0.00000003001, 3.75883031715, 253.81481257341},
-                {0.00000002983, 0.93935356188, 9912.43086174999},
-                {0.00000002641, 4.81011847825, 487.39651292520},
-                {0.00000003712, 1.46420419890, 10026.82996866339},
-                {0.00000003062, 3.91142249915, 789.70430093210},
-                {0.00000003147, 1.22318621690, 394.70174530910},
-                {0.00000002712, 4.23397123966, 78.16111780620},
-                {0.00000002692, 1.62673300086, 161.16822906709},
-                {0.00000003303, 1.79828372577, 7.94806531530},
-                {0.00000002747, 2.81204346965, 1372.40097825130},
-                {0.00000003011, 2.22464119257, 1605.83142862930},
-                {0.00000002807, 5.73736217285, 208.12628695010},
-                {0.00000002631, 5.99241143684, 271.64973693240},
-                {0.00000003688, 2.66246767657, 26543.05632558499},
-                {0.00000003416, 3.60662433619, 331.07772159029},
-                {0.00000002951, 2.78355300655, 12564.91104475801},
-                {0.00000002727, 0.43905805953, 1064.07916579760},
-                {0.00000002902, 3.07188287999, 1540.87418217599},
-                {0.00000002728, 4.59132510744, 109.55636682560},
-                {0.00000002999, 5.77659280033, 219.27505307800},
-                {0.00000002764, 1.07670855016, 142.20583265029},
-                {0.00000002586, 2.07825454401, 959.81743305580},
-                {0.00000002719, 0.45061432224, 52325.61329776649},
-                {0.00000003042, 5.84610070395, 752.79510557170},
-                {0.00000003089, 0.78770097881, 93.28772917949},
-                {0.00000003647, 5.21958279042, 697.56335088530},
-                {0.00000003492, 2.77297949310, 580.91350537320},
-                {0.00000003597, 0.24187824789, 132.28090679980},
-                {0.00000002974, 3.91006313529, 444.58305662640},
-                {0.00000002572, 2.67254064624, 2117.52320515360},
-                {0.00000002572, 2.59845311288, 23.33205575259},
-                {0.00000003167, 3.77971757660, 12567.87999017460},
-                {0.00000003382, 4.72616841526, 10285.34201684520},
-                {0.00000002555, 4.34804949360, 678.11657286839},
-                {0.00000003300, 2.15244356490, 440.65090336330},
-                {0.00000002831, 4.29539679381, 540.01727499551},
-                {0.00000003189, 3.69749797847, 769.86363900301},
-                {0.00000003190, 5.54179110621, 2424.35384725460},
-                {0.00000003280, 0.39508288314, 86.38663049980},
-                {0.00000002780, 3.71874153588, 1586.34776735071},
-                {0.00000002594, 4.89957913206, 1373.88545095959},
-                {0.00000002782, 1.02745709962, 1268.99268984760},
-                {0.00000003010, 4.04370467440, 1543.84312759260},
-                {0.00000003022, 4.32583593317, 181.29958400710},
-                {0.00000003022, 1.18424327958, 180.81194904009},
-                {0.00000002833, 2.10884741514, 555.79827767460},
-                {0.00000003293, 0.26036305872, 463.49057128900},
-                {0.00000003316, 2.51263252063, 807.99667464080},
-                {0.00000003300, 0.73760471241, 649.80539721709},
-                {0.00000002983, 0.24641616415, 936.40161851410},
-                {0.00000002865, 4.91220221036, 2192.40786958489},
-                {0.00000003356, 5.11523694385, 247.58622872930},
-                {0.00000002506, 5.30544660690, 40.85816357090},
-                {0.00000003114, 5.11220642057, 1553.89199011520},
-                {0.00000003268, 0.04975503988, 737.66849419841},
-                {0.00000003100, 4.07790490748, 657.66721161581},
-                {0.00000002510, 1.43422723324, 20278.24855051219},
-                {0.00000002833, 3.12964283648, 539.81152431880},
-                {0.00000002554, 5.25801939266, 826.19529729470},
-                {0.00000002806, 5.71817066352, 351.94853520760},
-                {0.00000002633, 0.82117751455, 1448.66704952690},
-                {0.00000002482, 2.35351578734, 1159.10188281330},
-                {0.00000003088, 3.64065375900, 245.78624183590},
-                {0.00000003458, 4.58072564831, 809.48114734910},
-                {0.00000003385, 0.97492846896, 1056.44435393500},
-                {0.00000003050, 2.24338368884, 52174.56562792359},
-                {0.00000002571, 2.13979409339, 584.58502620540},
-                {0.00000002506, 6.23219506154, 381.88968804659},
-                {0.00000002718, 2.48384899075, 352.17228437681},
-                {0.00000003112, 5.17420301794, 481.12855369190},
-                {0.00000002427, 0.46160779810, 20275.27960509559},
-                {0.00000002660, 3.11456525410, 587.55397162200},
-                {0.00000003031, 2.65730851569, 106.62105130379},
-                {0.00000002876, 4.25326612876, 837.76226242039},
-                {0.00000002876, 4.25326612876, 838.24989738740},
-                {0.00000002493, 4.86549248982, 339.53023682000},
-                {0.00000003071, 2.94134266397, 264.74863825270},
-                {0.00000002956, 4.36010712190, 561.64229241569},
-                {0.00000002956, 4.36010712190, 562.12992738271},
-                {0.00000002675, 4.82615405372, 257.66872114670},
-                {0.00000002412, 0.21644968354, 537.15139544289},
-                {0.00000002425, 5.98792108916, 243.65407546620},
-                {0.00000003094, 0.89516329895, 911.75947156750},
-                {0.00000002916, 5.65344305695, 627.12329585830},
-                {0.00000002461, 0.76674192255, 672.69994689699},
-                {0.00000003109, 6.09716177778, 45.27795180100},
-                {0.00000003239, 0.98686936775, 412.33972771199},
-                {0.00000002930, 1.53043345203, 173.38288785421},
-                {0.00000002377, 2.36768270315, 1927.95543844240},
-                {0.00000002783, 2.17600324391, 888.96798775160},
-                {0.00000002572, 0.26643251840, 1536.46645603341},
-                {0.00000002447, 1.98626338075, 1327.57508673799},
-                {0.00000002533, 2.95752298614, 1330.54403215460},
-                {0.00000002951, 2.80925054018, 328.59641114070},
-                {0.00000002474, 2.81613373048, 1407.51018671831},
-                {0.00000002518, 3.82616998392, 175.57663362249},
-                {0.00000002678, 4.15340303192, 180.40581212981},
-                {0.00000003251, 1.90510984540, 83.41098743880},
-                {0.00000002327, 0.66127447858, 325.54922103430},
-                {0.00000002802, 0.16897738467, 121.81135315189},
-                {0.00000002675, 5.49343148274, 105.62421356250},
-                {0.00000002909, 0.78041431577, 651.18680406140},
-                {0.00000002358, 1.30452169405, 377.87821290640},
-                {0.00000002780, 3.88186933893, 291.29345690540},
-                {0.00000002876, 5.63710538659, 6813.01063256950},
-                {0.00000002523, 2.55630283191, 440.91153579420},
-                {0.00000003239, 3.10119943091, 724.84762821529},
-                {0.00000002532, 2.35901341471, 39.34006096781},
-                {0.00000002503, 3.49357090208, 360.30392097830},
-                {0.00000002568, 3.49872926031, 1699.52303398670},
-                {0.00000002570, 5.29329193342, 299.47327761669},
-                {0.00000003223, 4.19015476099, 442.39600850250},
-                {0.00000002316, 2.75922843554, 714.92270236481},
-                {0.00000002457, 1.15216748085, 552.82933225800},
-                {0.00000002319, 0.77064178822, 290.12449838219},
-                {0.00000002922, 4.03553902122, 1600.20235433680},
-                {0.00000002297, 1.88640861087, 1811.52934209949},
-                {0.00000002674, 1.18404012894, 519.26158932971},
-                {0.00000002585, 1.04419941319, 754.27957828001},
-                {0.00000002277, 6.00831997160, 386.10372559999},
-                {0.00000002326, 3.39783484366, 172.80463016199},
-                {0.00000003163, 2.18762574676, 476.18750059999},
-                {0.00000003127, 5.74767332186, 652.98679095480},
-                {0.00000003015, 4.60083877410, 3190.80541208169},
-                {0.00000003015, 4.60083877410, 3191.29304704871},
-                {0.00000002772, 4.21896384049, 431.08967580769},
-                {0.00000002329, 1.38342611870, 759.01488069520},
-                {0.00000002334, 2.76557699620, 837.97471074149},
-                {0.00000002991, 0.49950728589, 458.81015062800},
-                {0.00000003166, 4.75068391337, 26161.44408491669},
-                {0.00000002566, 4.39543350128, 63.23144838899},
-                {0.00000002282, 5.65971495881, 811.21744376770},
-                {0.00000002423, 3.92143505564, 103.10958916600},
-                {0.00000003125, 4.47876249023, 939.37056393069},
-                {0.00000002277, 3.94882643258, 0.27744737829},
-                {0.00000002982, 3.78210055675, 37.85558825950},
-                {0.00000002982, 3.78210055675, 37.36795329250},
-                {0.00000002437, 0.38702218640, 377.12075573661},
-                {0.00000002672, 6.00980899009, 412.07909528109},
-                {0.00000002289, 1.03807449021, 1258.69774910910},
-                {0.00000002259, 4.68066906641, 113.63153244060},
-                {0.00000003098, 4.89446319562, 612.42062897720},
-                {0.00000003098, 1.75287054203, 611.93299401020},
-                {0.00000003157, 4.46324746103, 3795.76561071060},
-                {0.00000002795, 0.77242359455, 10743.22032878910},
-                {0.00000002777, 4.75646431289, 211.09523236671},
-                {0.00000003088, 5.58047807216, 230.52650401861},
-                {0.00000002940, 3.51648675050, 714.66206993390},
-                {0.00000002685, 2.97936141724, 303.82362987761},
-                {0.00000002260, 4.95371521477, 124.20415195250},
-                {0.00000003092, 0.26856203052, 3414.15337004230},
-                {0.00000003015, 1.58292445535, 342.49918223660},
-                {0.00000003083, 3.86343122317, 206.95063078250},
-                {0.00000003083, 0.72183856958, 206.46299581550},
-                {0.00000002331, 5.55613356200, 820.56622300220},
-                {0.00000002712, 1.33807664445, 770.30665917500},
-                {0.00000002587, 5.71194398470, 636.20895053440},
-                {0.00000002587, 2.57035133111, 635.72131556739},
-                {0.00000002803, 2.76934913754, 25938.09612695609},
-                {0.00000002803, 2.76934913754, 25938.58376192310},
-                {0.00000002405, 5.05357423584, 488.60579898760},
-                {0.00000002359, 2.98384806596, 87.06795405600},
-                {0.00000002160, 3.91324321531, 199.52826724100},
-                {0.00000002362, 5.50921508396, 1222.03463196460},
-                {0.00000002362, 5.50921508396, 1222.52226693161},
-                {0.00000002740, 0.85654894869, 627.61093082531},
-                {0.00000002798, 2.35367531012, 771.34811171130},
-                {0.00000002798, 5.49526796371, 770.86047674430},
-                {0.00000002435, 2.36446205622, 350.08830211689},
-                {0.00000002357, 1.46842067912, 355.24180352990},
-                {0.00000002485, 3.78369829663, 142.41828097139},
-                {0.00000002521, 1.03497131510, 129.67565967810},
-                {0.00000002089, 5.45017034742, 74.58596519360},
-                {0.00000002302, 3.23730533014, 52177.04693837319},
-                {0.00000002302, 3.23730533014, 52177.53457334019},
-                {0.00000002619, 4.76291733303, 1321.68288788710},
-                {0.00000002572, 3.16528157166, 659.43031524749},
-                {0.00000002225, 1.53417972319, 59.52629766200},
-                {0.00000002835, 0.16315666564, 59.34747923569},
-                {0.00000002282, 5.64376298083, 295.91363136910},
-                {0.00000001992, 0.17905928659, 765.64079272899},
-                {0.00000001992, 3.32065194018, 766.12842769600},
-                {0.00000002574, 3.32754474496, 192.56022471960},
-                {0.00000002264, 4.07388420311, 75.05904594560},
-                {0.00000002089, 2.85631372853, 74.48959697400},
-                {0.00000002032, 4.97430667920, 215.68177693560},
-                {0.00000001982, 3.59359575315, 898.52921530720},
-                {0.00000001982, 0.45200309956, 899.01685027420},
-                {0.00000002374, 4.72352640183, 550.96909916730},
-                {0.00000002374, 4.72352640183, 551.45673413431},
-                {0.00000002352, 0.06708062177, 24.36220744081},
-                {0.00000002591, 3.75715375752, 367.72628451979},
-                {0.00000002230, 1.52395191838, 329.96900926440},
-                {0.00000002610, 2.73849324439, 66.15220969580},
-                {0.00000002610, 2.73849324439, 66.63984466281},
-                {0.00000001942, 5.47218005624, 74.69783977820},
-                {0.00000002217, 2.71427205276, 353.05724753350},
-                {0.00000002034, 1.30593331214, 527.96267490280},
-                {0.00000002034, 1.30593331214, 528.45030986980},
-                {0.00000002025, 1.90306188675, 94.98465020890},
-                {0.00000002220, 0.06407550248, 160.36507991500},
-                {0.00000002205, 5.46838417109, 460.78225830330},
-                {0.00000002205, 5.46838417109, 460.29462333630},
-                {0.00000001903, 5.26788824520, 170.51700830159},
-                {0.00000001903, 5.26788824520, 171.00464326860},
-                {0.00000001880, 5.91981669441, 845.83901726770},
-                {0.00000001879, 1.52960331705, 810.41429461559},
-                {0.00000001918, 4.29742245145, 980.42436087530},
-                {0.00000001918, 1.15582979786, 980.91199584231},
-                {0.00000002012, 4.58948418435, 482.97672469510},
-                {0.00000002408, 3.65417851763, 673.56008887950},
-                {0.00000002408, 3.65417851763, 673.07245391250},
-                {0.00000001917, 4.50882706137, 464.22677659940},
-                {0.00000001917, 4.50882706137, 464.71441156640},
-                {0.00000002523, 3.82677029026, 207.11738712130},
-                {0.00000002235, 4.73973227208, 156.28742217250},
-                {0.00000001889, 6.20777223595, 96.62918161160},
-                {0.00000002163, 4.45487815975, 1325.12740618320},
-                {0.00000002163, 1.31328550616, 1325.61504115020},
-                {0.00000002041, 4.71231705875, 753.38580640270},
-                {0.00000002385, 0.51948475769, 589.10213480510},
-                {0.00000002385, 3.66107741128, 589.58976977210},
-                {0.00000002320, 4.52095470178, 153.77279777600},
-                {0.00000001825, 4.34973286546, 241.62708603669},
-                {0.00000001938, 5.90510178691, 989.98558843089},
-                {0.00000001938, 5.90510178691, 990.47322339791},
-                {0.00000001801, 1.59469951538, 386.47623261550},
-                {0.00000001801, 1.59469951538, 386.96386758251},
-                {0.00000001870, 0.33398234764, 814.08332332030},
-                {0.00000001870, 0.33398234764, 813.59568835330},
-                {0.00000001820, 2.95417643509, 194.42045781031},
-                {0.00000002331, 3.49571982266, 229.20878764910},
-                {0.00000001846, 5.53844865127, 1310.63718762320},
-                {0.00000001813, 3.46850679276, 242.85092631409},
-                {0.00000001813, 0.32691413917, 243.33856128110},
-                {0.00000002125, 0.90702543941, 927.73416283579},
-                {0.00000001841, 0.75141045449, 114.15528942990},
-                {0.00000001770, 5.79168127546, 113.89465699899},
-                {0.00000001797, 1.81953146289, 286.35240381350},
-                {0.00000002348, 0.72588619615, 838.46234570850},
-                {0.00000002341, 0.85296576676, 80.47567191700},
-                {0.00000002214, 5.39273615306, 355.50492808829},
-                {0.00000001986, 5.86961068002, 180.55131660920},
-                {0.00000001742, 6.12132593481, 380.37158544351},
-                {0.00000001858, 5.61326911538, 1471.50920958009},
-                {0.00000001858, 5.61326911538, 1471.99684454710},
-                {0.00000001883, 3.44892554698, 102.76714273050},
-                {0.00000002209, 4.52058460762, 658.40341692619},
-                {0.00000002209, 1.37899195403, 658.89105189320},
-                {0.00000001942, 2.25463899399, 703.38936713389},
-                {0.00000001915, 3.44323535772, 423.17297965479},
-                {0.00000001915, 3.44323535772, 423.66061462181},
-                {0.00000002166, 3.23067903187, 79.53371592989},
-                {0.00000001755, 2.27265833368, 152.50077338879},
-                {0.00000001700, 4.83117512138, 50.15875869559},
-                {0.00000002051, 2.99945701352, 807.96661406080},
-                {0.00000002051, 2.99945701352, 808.45424902780},
-                {0.00000001839, 5.75757356379, 756.56720014041},
-                {0.00000001682, 4.06333599913, 1049.57688515010},
-                {0.00000001682, 0.92174334554, 1050.06452011710},
-                {0.00000001706, 4.77079031354, 832.34563644899},
-                {0.00000001706, 4.77079031354, 832.83327141600},
-                {0.00000001776, 3.76195690472, 1384.93115122349},
-                {0.00000001776, 0.62036425113, 1385.41878619050},
-                {0.00000001811, 4.64985456293, 454.55367445919},
-                {0.00000001811, 4.64985456293, 455.04130942620},
-                {0.00000001692, 4.72965893305, 271.16210196539},
-                {0.00000002206, 6.17339592873, 132.33578855399},
-                {0.00000001658, 3.45028228993, 184.33796539290},
-                {0.00000001875, 5.27331155633, 1282.58913653029},
-                {0.00000001875, 2.13171890274, 1283.07677149730},
-                {0.00000001686, 0.45014900270, 406.71065341949},
-                {0.00000001686, 0.45014900270, 407.19828838650},
-                {0.00000002083, 4.25600154596, 119.63885924300},
-                {0.00000002240, 3.90434509762, 404.37484744930},
-                {0.00000001952, 0.24163677359, 458.33457774851},
-                {0.00000001952, 0.24163677359, 457.84694278150},
-                {0.00000002288, 5.51294457419, 135.30473397060},
-                {0.00000001949, 3.26830580660, 1056.16916728910},
-                {0.00000001949, 0.12671315301, 1056.65680225610},
-                {0.00000001974, 1.88730039824, 269.93826168799},
-                {0.00000001974, 5.02889305183, 270.42589665501},
-                {0.00000001659, 5.45360392276, 1450.31158092960},
-                {0.00000001659, 5.45360392276, 1450.79921589661},
-                {0.00000002309, 0.71286416918, 74.79841351470},
-                {0.00000001644, 3.45713257957, 321.51649403470},
-                {0.00000001644, 0.31553992598, 322.00412900171},
-                {0.00000001656, 0.89488112289, 516.91697463890},
-                {0.00000001656, 0.89488112289, 517.40460960590},
-                {0.00000002034, 1.27659765222, 274.87931477991},
-                {0.00000002034, 1.27659765222, 274.39167981289},
-                {0.00000002154, 3.29965728228, 516.29264391310},
-                {0.00000002154, 0.15806462869, 515.80500894610},
-                {0.00000001711, 1.53733627594, 885.99904233499},
-                {0.00000001711, 1.53733627594, 886.48667730201},
-                {0.00000001826, 2.44969882307, 398.43695661610},
-                {0.00000001826, 2.44969882307, 398.92459158310},
-                {0.00000001966, 4.10423736234, 15.90969221110},
-                {0.00000001966, 0.96264470875, 16.39732717810},
-                {0.00000001678, 3.69519426870, 1182.67775604939},
-                {0.00000001678, 0.55360161511, 1183.16539101641},
-                {0.00000002098, 4.85173961477, 630.09224127489},
-                {0.00000002098, 1.71014696118, 630.57987624190},
-                {0.00000002239, 2.53095817704, 446.55516430170},
-                {0.00000002239, 2.53095817704, 446.06752933469},
-                {0.00000001889, 1.07863762669, 86.69544704049},
-                {0.00000001889, 1.07863762669, 87.18308200751},
-                {0.00000001759, 3.42836121936, 614.11755000660},
-                {0.00000001759, 0.28676856577, 613.62991503960},
-                {0.00000001673, 3.25241882006, 231.06902073981},
-                {0.00000001607, 5.76189875081, 412.12727939089},
-                {0.00000001607, 2.62030609722, 412.61491435790},
-                {0.00000002070, 3.82797801425, 824.23525170691},
-                {0.00000001835, 3.95891079221, 146.87169909629},
-                {0.00000001580, 4.75553561047, 2002.73703700969},
-                {0.00000001580, 1.61394295688, 2003.22467197670},
-                {0.00000001979, 5.88730379340, 407.23191828129},
-                {0.00000001979, 5.88730379340, 407.71955324831},
-                {0.00000001764, 5.38315884955, 544.75257741070},
-                {0.00000001815, 2.11042594430, 174.92224231670},
-                {0.00000001808, 1.40200347339, 454.77742362840},
-                {0.00000001808, 1.40200347339, 455.26505859540},
-                {0.00000001667, 4.30345024075, 409.67959883610},
-                {0.00000001667, 1.16185758716, 410.16723380310},
-                {0.00000001739, 0.21471955910, 271.42273439630},
-                {0.00000001739, 0.21471955910, 271.91036936330},
-                {0.00000001764, 2.87177593963, 625.42637482889},
-                {0.00000001764, 6.01336859322, 625.91400979590},
-                {0.00000001578, 5.77840141165, 1321.19525292009},
-                {0.00000002105, 2.76721779750, 348.12825652910},
-                {0.00000001602, 4.08797383059, 1133.91971127299},
-                {0.00000001602, 0.94638117700, 1134.40734624000},
-                {0.00000001690, 0.70280224085, 2.24955505361},
-                {0.00000001690, 0.70280224085, 1.76192008660},
-                {0.00000001611, 3.21423971704, 1442.23482608230},
-                {0.00000001611, 3.21423971704, 1442.72246104930},
-                {0.00000001553, 0.42212828385, 550.85722458270},
-                {0.00000001553, 0.42212828385, 551.34485954970},
-                {0.00000001801, 0.30318768980, 450.47276334980},
-                {0.00000001801, 3.44478034339, 450.96039831681},
-                {0.00000002000, 4.23137559040, 239.14577558710},
-                {0.00000002000, 4.23137559040, 238.65814062010},
-                {0.00000001610, 2.64143743565, 1274.72483000410},
-                {0.00000001610, 2.64143743565, 1275.21246497110},
-                {0.00000001669, 2.95148684971, 839.24673512870},
-                {0.00000001669, 2.95148684971, 839.73437009571},
-                {0.00000001618, 1.79025814071, 376.91500505990},
-                {0.00000001618, 1.79025814071, 377.40264002690},
-                {0.00000001986, 2.19226936272, 980.39073098050},
-                {0.00000001986, 5.33386201631, 979.90309601349},
-                {0.00000001523, 6.09198787084, 67.94549894479},
-                {0.00000001625, 0.48907210790, 72.94143379089},
-                {0.00000001699, 3.06470005459, 418.27761854520},
-                {0.00000001699, 3.06470005459, 418.76525351221},
-                {0.00000001699, 4.85438710621, 991.47006113920},
-                {0.00000001699, 4.85438710621, 991.95769610620},
-                {0.00000002140, 4.60009132464, 468.89264304540},
-                {0.00000002140, 1.45849867105, 469.38027801241},
-                {0.00000001943, 3.84559085346, 55.52720055719},
-                {0.00000001887, 1.39886028887, 250.92768116140},
-                {0.00000001887, 1.39886028887, 251.41531612840},
-                {0.00000001500, 2.05004005131, 63.60395540450},
-                {0.00000001595, 2.85027634129, 440.17533048380},
-                {0.00000001595, 2.85027634129, 439.68769551680},
-                {0.00000001499, 0.58296033612, 309.03450517230},
-                {0.00000001499, 3.72455298971, 309.52214013930},
-                {0.00000001554, 1.79217885440, 759.04851059000},
-                {0.00000001554, 4.93377150799, 759.53614555700},
-                {0.00000001834, 3.07143289100, 1.45310354590},
-                {0.00000001834, 3.07143289100, 1.94073851290},
-                {0.00000002054, 5.70588193100, 549.97226142600},
-                {0.00000002054, 2.56428927741, 549.48462645899},
-                {0.00000001488, 2.83790861898, 1095.36598450990},
-                {0.00000001488, 5.97950127257, 1095.85361947691},
-                {0.00000001484, 3.96898705243, 68.12431737110},
-                {0.00000001818, 4.87903340292, 587.61766209680},
-                {0.00000001818, 4.87903340292, 588.10529706381},
-                {0.00000001714, 3.60683578110, 245.03548231051},
-                {0.00000001714, 0.46524312751, 244.54784734349},
-                {0.00000001920, 2.50542705831, 675.04456158780},
-                {0.00000001920, 2.50542705831, 674.55692662080},
-                {0.00000001504, 1.02910554577, 833.79647926250},
-                {0.00000002044, 3.94263526988, 6662.95980046789},
-                {0.00000002044, 0.80104261629, 6663.44743543490},
-                {0.00000001648, 3.48244866747, 438.54209992920},
-                {0.00000001466, 0.25731804451, 304.36614659881},
-                {0.00000001472, 1.73963754908, 1257.45935461670},
-                {0.00000001472, 4.88123020267, 1257.94698958370},
-                {0.00000001615, 5.47975458652, 984.35651413839},
-                {0.00000001625, 3.50840756791, 949.19242391720},
-                {0.00000001625, 3.50840756791, 949.68005888420},
-                {0.00000001715, 1.35099907342, 349.61272923740},
-                {0.00000001931, 2.40467498858, 1819.88128359270},
-                {0.00000001450, 3.78546043220, 493.75930040060},
-                {0.00000001450, 0.64386777861, 493.27166543360},
-                {0.00000001436, 5.92306997669, 430.02340209721},
-                {0.00000001436, 2.78147732310, 429.53576713020},
-                {0.00000001945, 4.63182275077, 131.68139724819},
-                {0.00000001431, 4.50116477345, 157.39613449839},
-                {0.00000001662, 4.80337367540, 6209.53490664889},
-                {0.00000001662, 4.80337367540, 6210.02254161590},
-                {0.00000001819, 3.50918818351, 1008.73553652659},
-                {0.00000001819, 3.50918818351, 1009.22317149361},
-                {0.00000001518, 1.15354810143, 328.67822514530},
-                {0.00000001518, 4.29514075502, 329.16586011230},
-                {0.00000001638, 1.43556938440, 519.88592005549},
-                {0.00000001638, 4.57716203799, 520.37355502251},
-                {0.00000001680, 4.46803343205, 359.64952967250},
-                {0.00000001680, 4.46803343205, 360.13716463950},
-                {0.00000001843, 0.96654134734, 478.15960827531},
-                {0.00000001843, 4.10813400093, 477.67197330830},
-                {0.00000001489, 1.97136538075, 400.49087829599},
-                {0.00000001489, 1.97136538075, 400.97851326301},
-                {0.00000001752, 4.88043742079, 6271.78633224399},
-                {0.00000001752, 1.73884476720, 6272.27396721100},
-                {0.00000001895, 4.56971312882, 1055.17232954780},
-                {0.00000001895, 1.42812047523, 1054.68469458080},
-                {0.00000001717, 3.59655571468, 536.56069461190},
-                {0.00000001758, 1.02130969978, 1095.05047032480},
-                {0.00000001758, 4.16290235337, 1094.56283535780},
-                {0.00000001721, 4.15981655427, 104.33342944339},
-                {0.00000001713, 4.47285479740, 621.49422156580},
-                {0.00000001460, 3.44943623014, 341.12658411290},
-                {0.00000001460, 0.30784357655, 340.63894914589},
-                {0.00000001780, 5.09342203154, 1668.83361374980},
-                {0.00000001780, 5.09342203154, 1668.34597878280},
-                {0.00000001401, 2.09081885651, 451.48415530609},
-                {0.00000001401, 2.09081885651, 451.97179027311},
-                {0.00000001394, 1.22796389725, 252.41215386970},
-                {0.00000001942, 5.36682846266, 10593.16949668749},
-                {0.00000001942, 2.22523580907, 10593.65713165450},
-                {0.00000001427, 5.28628705446, 228.21194990781},
-                {0.00000001427, 2.14469440087, 227.72431494079},
-                {0.00000001395, 0.11161595772, 697.76029284139},
-                {0.00000001395, 3.25320861131, 698.24792780840},
-                {0.00000001403, 2.45154329677, 281.24459438279},
-                {0.00000001403, 5.59313595036, 281.73222934980},
-                {0.00000001507, 0.19523124567, 193.89919294850},
-                {0.00000001401, 2.18053804948, 47.45044570990},
-                {0.00000001458, 2.87243635260, 214.19730422731},
-                {0.00000001408, 3.27849545936, 105.76971804189},
-                {0.00000001545, 3.36846576185, 912.54386098770},
-                {0.00000001545, 3.36846576185, 913.03149595471},
-                {0.00000001780, 3.98299757592, 623.19114259520},
-                {0.00000001780, 0.84140492233, 623.67877756220},
-                {0.00000001421, 4.99710506357, 1349.50642857140},
-                {0.00000001421, 4.99710506357, 1349.99406353840},
-                {0.00000001421, 2.01327407687, 1447.18257681859},
-                {0.00000001421, 5.15486673046, 1447.67021178560},
-        };
-    }
-
-    private static void initialize_1_1()
-    {
-        classCoeff[0][1] = new double[][]{
-                {0.02225113750, 1.80968682072, 0.24381748350},
-                {0.00738897387, 6.01007226305, 149.80701461810},
-                {0.00239408407, 5.33797172897, 73.54094334250},
-                {0.00229359688, 2.48132547665, 76.50988875911},
-                {0.00110583560, 5.57527703898, 11.28951774740},
-                {0.00095657865, 0.35447716429, 63.97971578690},
-                {0.00081488096, 1.21038214498, 86.07111631471},
-                {0.00045577241, 2.29785938115, 138.76131435421},
-                {0.00051354528, 2.18905169391, 224.58861318540},
-                {0.00038568000, 0.30675960989, 71.09326278771},
-                {0.00037681305, 0.07581737994, 75.02541605080},
-                {0.00041920157, 4.16572993198, 74.53778108379},
-                {0.00036154364, 1.23626010875, 78.95756931390},
-                {0.00021671035, 4.93673342225, 151.29148732640},
-                {0.00019425371, 1.30586488933, 77.99436146740},
-                {0.00017377170, 0.24648496590, 72.05647063421},
-                {0.00015101686, 5.53695908680, 4.17597074660},
-                {0.00007734175, 1.61342909349, 71.84402231310},
-                {0.00007431784, 6.20301472189, 78.20680978850},
-                {0.00006987545, 2.40718117644, 145.87486135500},
-                {0.00007298813, 2.23506175232, 3.21276290011},
-                {0.00007589358, 2.76776928200, 148.32254190981},
-                {0.00004377580, 3.74279342397, 160.85271488200},
-                {0.00003947976, 4.74495586893, 65.46418849521},
-                {0.00004122455, 1.48583809368, 22.33521801130},
-                {0.00002797759, 4.90690786558, 213.54291292150},
-                {0.00002617647, 3.36386956187, 9.80504503910},
-                {0.00002637599, 4.54174637500, 12.77399045571},
-                {0.00003175281, 4.65202774219, 299.37021175271},
-                {0.00002245280, 3.50167279614, 52.44638055600},
-                {0.00002227953, 0.18128254666, 87.55558902300},
-                {0.00002822936, 3.40176644427, 84.58664360640},
-                {0.00002517942, 2.84033057389, 18.40306474821},
-                {0.00002220819, 4.78480068974, 72.57773549600},
-                {0.00001622656, 3.75786744204, 153.73916788121},
-                {0.00001925669, 2.39938534926, 39.86132582961},
-                {0.00001555527, 4.13751627934, 74.06220820430},
-                {0.00001901819, 0.07719535510, 127.71561409031},
-                {0.00001598284, 0.08347749781, 79.47883417571},
-                {0.00001476433, 3.67237467967, 75.98862389731},
-                {0.00001532412, 3.71778823462, 152.77596003471},
-                {0.00001440833, 5.32095275949, 127.22797912329},
-                {0.00001745915, 3.24923390980, 77.47309660560},
-                {0.00001713773, 3.39380823601, 223.10414047710},
-                {0.00001706344, 1.11295016517, 226.07308589371},
-                {0.00001357973, 1.46850463244, 70.57199792590},
-                {0.00001738426, 5.39623683669, 146.83806920150},
-                {0.00001467571, 3.53057221654, 2.93757625420},
-                {0.00001179806, 5.13920013032, 220.65645992230},
-                {0.00001236409, 0.98112016066, 4.69723560840},
-                {0.00001067152, 1.38177304653, 62.49524307860},
-                {0.00000977123, 1.01847642495, 74.91354146621},
-                {0.00000977123, 0.51933335746, 75.13729063540},
-                {0.00000937717, 3.09490503051, 56.86616878610},
-                {0.00001087876, 4.99233413497, 131.64776735340},
-                {0.00000890295, 4.27308702685, 426.84200835950},
-                {0.00001040906, 5.41835035760, 110.18950627200},
-                {0.00000935342, 0.35022350257, 149.31937965110},
-                {0.00000862611, 4.50957284182, 52.93401552300},
-                {0.00000777859, 6.15240216459, 63.49208081989},
-                {0.00000746826, 4.78455196521, 93.18466331550},
-                {0.00000747709, 5.93971377228, 206.42936592071},
-                {0.00000648200, 0.20345060980, 80.44204202221},
-                {0.00000640350, 6.10288292956, 1.24065522479},
-                {0.00000794750, 3.28971980546, 7.35736448430},
-                {0.00000605254, 0.10549865294, 1059.62574767270},
-                {0.00000615326, 4.84518689972, 10.80188278040},
-                {0.00000569613, 4.62358405921, 73.05330837550},
-                {0.00000665795, 3.49783402516, 97.11681657861},
-                {0.00000575875, 2.42879950405, 522.82123557730},
-                {0.00000563041, 1.91595270042, 537.04832957890},
-                {0.00000493956, 3.50296492994, 137.27684164590},
-                {0.00000477372, 1.15766007580, 41.34579853790},
-                {0.00000445046, 3.65108277717, 2.69149803831},
-                {0.00000441333, 1.07480656636, 67.91186905000},
-                {0.00000413028, 3.78904491456, 66.94866120350},
-                {0.00000408718, 0.33871031527, 82.13896305161},
-                {0.00000393354, 1.58833529143, 15.22167101050},
-                {0.00000347208, 4.09740245991, 146.62562088040},
-                {0.00000350848, 3.06941415154, 76.02225379210},
-                {0.00000311934, 1.33402230480, 1.72829019180},
-                {0.00000307527, 4.70379249427, 202.49721265760},
-                {0.00000343437, 4.42179382418, 142.69346761730},
-                {0.00000291412, 4.41796460350, 5.66044345490},
-                {0.00000327071, 5.84215236142, 113.15845168861},
-                {0.00000283053, 1.12281740456, 138.27367938720},
-                {0.00000276688, 0.37637007386, 70.60562782070},
-                {0.00000279650, 4.09523616178, 83.10217089810},
-                {0.00000294524, 0.50203802366, 145.35359649321},
-                {0.00000254666, 6.25426492940, 235.63431344930},
-                {0.00000294078, 1.06082719798, 33.43580002939},
-                {0.00000275813, 1.12612561421, 56.37853381910},
-                {0.00000255740, 0.71777505890, 265.74547599400},
-                {0.00000273184, 1.96036359915, 36.89238041300},
-                {0.00000246560, 5.32039073182, 159.36824217371},
-                {0.00000235614, 3.63128451947, 20.85074530300},
-                {0.00000217300, 4.25375853714, 152.98840835580},
-                {0.00000233552, 0.39323553377, 108.70503356371},
-                {0.00000209062, 4.64314195946, 140.24578706250},
-                {0.00000229061, 2.81847049652, 194.89603068979},
-                {0.00000197502, 5.13942008569, 190.96387742670},
-                {0.00000194913, 2.32796285072, 209.12312469139},
-                {0.00000192549, 0.45945144783, 23.81969071961},
-                {0.00000228047, 5.73826756793, 297.88573904440},
-                {0.00000167442, 6.01751680724, 134.34152612410},
-                {0.00000169219, 3.75680402327, 59.55992755679},
-                {0.00000182817, 0.00711215290, 134.82916109110},
-                {0.00000154035, 0.91123613328, 288.32451148881},
-                {0.00000165598, 6.03173268563, 6.18170831670},
-                {0.00000153435, 2.70033880330, 162.33718759030},
-                {0.00000191930, 0.83163790645, 374.15181032000},
-                {0.00000154136, 3.25486116088, 14.25846316400},
-                {0.00000152205, 1.12920055542, 120.11443212250},
-                {0.00000179814, 4.00847058700, 60.04756252381},
-                {0.00000143557, 5.80170507906, 212.05844021321},
-                {0.00000141934, 1.31057170313, 69.60879007940},
-                {0.00000140696, 5.35688361188, 29.44876501211},
-                {0.00000140277, 5.15925499975, 80.96330688400},
-                {0.00000134345, 0.43302660999, 39.60069339870},
-                {0.00000148026, 3.01875910211, 186.45557754760},
-                {0.00000138037, 4.87862613958, 3.68833577960},
-                {0.00000122748, 4.43345211218, 129.20008679860},
-                {0.00000132977, 1.16919209454, 68.80564092731},
-                {0.00000141987, 4.72628475671, 114.64292439690},
-                {0.00000132318, 3.93114176785, 90.00326957780},
-                {0.00000116010, 3.50661004031, 33.38091827520},
-                {0.00000119775, 2.67306209327, 69.08752521760},
-                {0.00000120027, 0.98279379047, 305.10235190919},
-                {0.00000117279, 0.70638047167, 277.27881122490},
-                {0.00000120086, 2.88322008541, 50.64639366260},
-                {0.00000109599, 5.23026989145, 89.04006173130},
-                {0.00000121041, 2.51714662354, 154.26043274300},
-                {0.00000118779, 0.36869567507, 81.24519117430},
-                {0.00000103250, 3.71412105335, 144.39038864671},
-                {0.00000118351, 1.42159512933, 41.40068029210},
-                {0.00000116406, 3.28187465983, 116.18227885939},
-                {0.00000136248, 5.73853005968, 45.33283355520},
-                {0.00000104859, 2.65494895117, 54.41848823131},
-                {0.00000096225, 4.45558403980, 50.96190784770},
-                {0.00000116279, 6.16263593711, 227.55755860200},
-                {0.00000122913, 3.57188437917, 300.85468446100},
-                {0.00000093159, 1.08143702108, 110.45013870291},
-                {0.00000102738, 5.34762722745, 152.25469517290},
-                {0.00000086724, 4.81341834361, 7.83293736379},
-                {0.00000081743, 6.27044958652, 228.52076644850},
-                {0.00000084795, 6.21044885379, 42.83027124621},
-                {0.00000075252, 0.08318536070, 2.20386307129},
-                {0.00000074096, 0.25759751910, 148.84380677161},
-                {0.00000074141, 6.12651431950, 150.77022246460},
-                {0.00000080549, 4.94365526521, 99.40443843901},
-                {0.00000073326, 3.51729985830, 640.14110379750},
-                {0.00000081866, 2.33249180877, 31.95132732110},
-                {0.00000073049, 0.08899713731, 9.31741007210},
-                {0.00000074334, 4.73265453188, 8.32057233081},
-                {0.00000073323, 5.35768135167, 95.63234387030},
-                {0.00000069283, 2.45721425737, 120.60206708950},
-                {0.00000067771, 0.24277166907, 16.91859203990},
-                {0.00000071013, 1.85476079726, 24.13520490470},
-                {0.00000075802, 1.43483468727, 36.40474544600},
-                {0.00000079127, 4.41984040421, 5.97595764000},
-                {0.00000072170, 2.40889219421, 404.26297286470},
-                {0.00000067065, 4.84209324295, 28.81562556571},
-                {0.00000072371, 5.06657435408, 230.32075334190},
-                {0.00000086876, 4.81292247832, 419.72846135871},
-                {0.00000062861, 4.86097820142, 202.00957769060},
-                {0.00000070935, 2.67374366940, 183.48663213100},
-                {0.00000069304, 4.51347223027, 333.41352756050},
-                {0.00000060612, 4.31236105540, 116.66991382640},
-                {0.00000060708, 5.84738885486, 70.35954960481},
-                {0.00000070577, 1.23478501009, 70.08436295889},
-                {0.00000060413, 2.93879448663, 149.91888920271},
-                {0.00000056872, 0.78979170331, 53.93085326429},
-                {0.00000056665, 5.11299964404, 79.69128249680},
-                {0.00000056672, 0.54290142404, 73.32849502140},
-                {0.00000053385, 0.53928334859, 329.48137429739},
-                {0.00000060881, 1.12038902225, 126.23114138200},
-                {0.00000055720, 4.13440106405, 76.72233708021},
-                {0.00000055712, 0.10603963574, 157.88376946540},
-                {0.00000060449, 4.04220409451, 347.64062156210},
-                {0.00000051883, 1.22311412430, 147.35933406330},
-                {0.00000053514, 4.48532885411, 433.95555536030},
-                {0.00000049248, 3.09071508357, 68.43313391180},
-                {0.00000048173, 1.33565042584, 128.71245183160},
-                {0.00000057429, 1.74516578840, 19.88753745650},
-                {0.00000045855, 1.83493312947, 8.10812400971},
-                {0.00000045035, 4.03985804524, 6.86972951729},
-                {0.00000045638, 1.36951355984, 415.30867312860},
-                {0.00000043941, 4.22289924597, 75.77617557621},
-                {0.00000043941, 3.59810035804, 74.27465652540},
-                {0.00000052767, 1.19129920562, 147.83490694279},
-                {0.00000040257, 2.70867032624, 155.22364058950},
-                {0.00000042861, 1.61841225493, 107.22056085540},
-                {0.00000039791, 2.79302647335, 258.63192899320},
-                {0.00000039522, 4.43426945929, 98.91680347199},
-                {0.00000039676, 2.43777338987, 276.79117625789},
-                {0.00000041680, 1.56627991706, 272.85902299479},
-                {0.00000049985, 6.15572302327, 125.74350641500},
-                {0.00000039779, 1.76579064544, 143.86912378490},
-                {0.00000047193, 4.34084191086, 67.16110952460},
-                {0.00000042716, 0.45899696552, 1589.31671276730},
-                {0.00000036533, 4.68392419441, 81.61769818981},
-                {0.00000046283, 0.57532354052, 62.00760811160},
-                {0.00000036873, 2.17201422211, 46.71424039951},
-                {0.00000035335, 4.81939505521, 135.79236893760},
-                {0.00000036570, 0.97919259316, 167.96626188280},
-                {0.00000033878, 2.56857021871, 14.47091148511},
-                {0.00000033444, 3.72411302136, 149.69514003350},
-                {0.00000040027, 1.96239717900, 187.94005025590},
-                {0.00000033511, 2.62937481855, 61.01077037031},
-                {0.00000037402, 0.21188675855, 259.75270340660},
-                {0.00000034209, 3.38154632289, 529.93478257810},
-                {0.00000031617, 2.82544568008, 224.10097821840},
-                {0.00000042780, 1.30383338598, 58.35064149440},
-                {0.00000030892, 1.73608557912, 1052.51220067191},
-                {0.00000030724, 5.69827217624, 103.33659170210},
-                {0.00000037429, 0.79282523594, 74.13164417351},
-                {0.00000037429, 0.74498454647, 75.91918792810},
-                {0.00000030708, 0.24881030437, 72.73779419041},
-                {0.00000030708, 1.28899947804, 77.31303791120},
-                {0.00000035364, 3.42228139592, 82.88972257700},
-                {0.00000028175, 0.90754643164, 295.43805848960},
-                {0.00000029578, 2.34251637992, 1066.73929467350},
-                {0.00000029606, 3.07274976796, 121.23520653590},
-                {0.00000028770, 5.93764446818, 6.34846465550},
-                {0.00000032637, 2.82392002724, 155.53915477459},
-                {0.00000031706, 1.92242975115, 38.37685312130},
-                {0.00000026723, 4.75188318045, 43.53284666180},
-                {0.00000027442, 3.02987836624, 220.13519506050},
-                {0.00000036094, 5.82060940307, 340.52707456129},
-                {0.00000028308, 1.87170058153, 85.58348134769},
-                {0.00000030388, 3.04166414826, 184.97110483931},
-                {0.00000033909, 6.02618077188, 171.89841514590},
-                {0.00000028512, 5.60849102784, 51.44954281471},
-                {0.00000028765, 2.64529774267, 64.97655352819},
-                {0.00000031960, 3.10259498469, 221.61966776881},
-                {0.00000026763, 0.36818165170, 217.47506618460},
-                {0.00000024737, 2.60957039175, 47.93808067690},
-                {0.00000031097, 2.39335860911, 98.60128928690},
-                {0.00000023919, 5.91490770857, 219.17198721400},
-                {0.00000029056, 1.38484676611, 106.73292588839},
-                {0.00000023488, 0.57419956660, 28.06735816780},
-                {0.00000023868, 0.00422826975, 57.49930823250},
-                {0.00000026140, 0.51337177220, 91.70019060721},
-                {0.00000024837, 2.69236553781, 25.51661174900},
-                {0.00000028239, 1.50901261149, 131.16013238639},
-                {0.00000025242, 6.21367764022, 471.93102443120},
-                {0.00000023194, 3.05542590412, 553.82616999929},
-                {0.00000023342, 4.42887541532, 61.69209392650},
-                {0.00000023751, 4.09923036421, 542.78046973539},
-                {0.00000022911, 1.29984079692, 234.14984074100},
-                {0.00000022260, 6.14564001783, 227.77000692311},
-                {0.00000021787, 4.61743304596, 19.36627259471},
-                {0.00000020991, 3.73437162386, 316.63568714010},
-                {0.00000024652, 5.52981795171, 529.44714761109},
-                {0.00000023384, 4.90996648905, 254.69977573010},
-                {0.00000021352, 4.81173625387, 7.66618102501},
-                {0.00000020300, 2.08272474890, 467.99887116810},
-                {0.00000021096, 6.10072201079, 141.94270809190},
-                {0.00000019957, 4.95453887653, 209.61075965840},
-                {0.00000022156, 2.51690657915, 68.59989025060},
-                {0.00000027098, 5.67372992575, 111.67397898031},
-                {0.00000026932, 6.04273389615, 35.40790770471},
-                {0.00000023041, 5.74991815262, 486.15811843280},
-                {0.00000023558, 0.87109649175, 195.38366565681},
-                {0.00000019352, 2.46209752291, 17.02165790390},
-                {0.00000018710, 2.07001816127, 69.91760662011},
-                {0.00000018292, 3.74192034003, 46.45360796860},
-                {0.00000018185, 1.53550218920, 92.55152386910},
-                {0.00000020489, 3.55935460916, 116.12739710521},
-                {0.00000018124, 3.38460274859, 88.35873817511},
-                {0.00000017311, 3.10967389974, 106.51798543980},
-                {0.00000019722, 0.37725290787, 296.40126633610},
-                {0.00000017322, 3.58150916447, 100.62827871640},
-                {0.00000017131, 4.71716216087, 99.14380600810},
-                {0.00000021450, 2.84014990759, 191.45151239371},
-                {0.00000016758, 0.69775418663, 210.57396750490},
-                {0.00000017082, 5.75097694023, 80.13322548150},
-                {0.00000019774, 0.48633289327, 80.75755620730},
-                {0.00000018159, 3.24022378066, 151.50393564750},
-                {0.00000016166, 4.43388054341, 397.14942586389},
-                {0.00000016332, 3.65718289491, 94.66913602380},
-                {0.00000017336, 0.34233495912, 13.08950464080},
-                {0.00000016300, 5.58189501765, 23.87457247379},
-                {0.00000018165, 5.60556739075, 198.07742442750},
-                {0.00000016506, 4.69351492032, 73.38088464811},
-                {0.00000016506, 3.12748016927, 76.66994745350},
-                {0.00000018503, 5.93375894816, 156.02678974161},
-                {0.00000017934, 3.85540024938, 182.00215942271},
-                {0.00000015839, 3.12530503781, 13.73719830221},
-                {0.00000015946, 1.30849298209, 55.90296093960},
-                {0.00000016546, 5.55355094997, 150.80385235940},
-                {0.00000017819, 0.27595854333, 221.40721944771},
-                {0.00000015752, 3.89703455623, 67.60305250931},
-                {0.00000021162, 1.87088890253, 372.66733761171},
-                {0.00000019517, 1.11006773425, 479.04457143200},
-                {0.00000017205, 2.71359950788, 213.05527795450},
-                {0.00000015267, 5.79293754979, 68.12431737110},
-                {0.00000015236, 3.72448728433, 30.30009827400},
-                {0.00000015262, 1.79781862562, 67.42423408300},
-                {0.00000014562, 3.11386923384, 50.90702609350},
-                {0.00000015149, 5.07527743555, 135.57992061650},
-                {0.00000015898, 3.22516048145, 174.18603700630},
-                {0.00000015347, 0.45031815988, 16.70614371880},
-                {0.00000014302, 2.42986138277, 310.41591201661},
-                {0.00000017345, 5.49231862434, 261.23717611490},
-                {0.00000017208, 0.99198084016, 183.85033042589},
-                {0.00000017305, 1.74803865372, 77.50672650040},
-                {0.00000014612, 3.56947733384, 30.46685461280},
-                {0.00000013603, 2.07215319428, 286.84003878050},
-                {0.00000015382, 3.33099430620, 411.37651986550},
-                {0.00000013708, 3.51368533450, 352.06040979221},
-                {0.00000013683, 3.92221596093, 82.44777959230},
-                {0.00000016002, 1.88175647624, 133.13224006171},
-                {0.00000013766, 4.97884966758, 44.31474395451},
-                {0.00000013284, 2.82193356482, 7.14491616321},
-                {0.00000012988, 0.75322804380, 173.92540457540},
-                {0.00000017441, 0.75477790662, 60.79832204921},
-                {0.00000016261, 1.99911970336, 64.73047531231},
-                {0.00000012734, 2.97731330561, 75.54668091261},
-                {0.00000012734, 1.70208913039, 74.50415118900},
-                {0.00000012700, 1.71027593315, 57.75994066341},
-                {0.00000014302, 0.72178151343, 45.82046852221},
-                {0.00000012678, 5.21256052974, 81.92651473050},
-                {0.00000016549, 2.78519168402, 760.01171843649},
-                {0.00000012720, 2.81709441807, 270.16526422410},
-                {0.00000013453, 3.75052891994, 12.28635548869},
-                {0.00000012225, 1.22978831724, 284.39235822571},
-                {0.00000011971, 1.77290743684, 32.48714639791},
-                {0.00000012357, 2.56239278409, 515.70768857651},
-                {0.00000012069, 6.21182865124, 633.02755679670},
-                {0.00000013087, 1.80415855132, 109.70187130500},
-                {0.00000011341, 6.09688210298, 189.47940471839},
-                {0.00000015361, 0.60509201896, 200.52510498229},
-                {0.00000012491, 1.18576138349, 33.92343499640},
-                {0.00000014227, 4.47775362086, 203.49405039889},
-                {0.00000011094, 2.98683187494, 267.22994870229},
-                {0.00000012080, 2.65683685185, 75.67980735660},
-                {0.00000012080, 5.16415823774, 74.37102474501},
-                {0.00000013196, 1.55647786503, 143.38148881789},
-                {0.00000013530, 5.82185773287, 85.32035678930},
-                {0.00000010739, 0.24603800620, 94.14787116200},
-                {0.00000010888, 4.54493098814, 2.72512793310},
-                {0.00000013830, 5.36492110746, 31.89644556690},
-                {0.00000011969, 4.16293798397, 42.78208713641},
-                {0.00000011212, 2.68331450691, 61.53203523210},
-                {0.00000011583, 5.07324345893, 124.53422035260},
-                {0.00000012891, 4.94162673731, 266.23311096100},
-                {0.00000010738, 3.25988549780, 35.66854013560},
-                {0.00000013803, 4.23791127410, 26.26737127440},
-                {0.00000010459, 5.12191321154, 145.14114817210},
-                {0.00000010474, 4.75504662292, 692.34366686999},
-                {0.00000010123, 5.18571320702, 237.11878615761},
-                {0.00000009800, 6.07581528627, 92.29089143820},
-                {0.00000010121, 1.17089552104, 156.39929675710},
-                {0.00000009888, 5.73883644068, 42.88515300039},
-                {0.00000010092, 3.96119852956, 215.02738562980},
-                {0.00000010098, 1.26158239056, 533.11617631580},
-                {0.00000010667, 3.37369147427, 91.80325647120},
-                {0.00000010954, 0.56363643422, 89.25251005240},
-                {0.00000009630, 4.20178830544, 55.38169607781},
-                {0.00000009631, 3.24507538918, 130.68455950690},
-                {0.00000009832, 2.83130973684, 54.57854692570},
-                {0.00000009739, 5.68100585654, 76.62176334371},
-                {0.00000009739, 5.28158188664, 73.42906875790},
-                {0.00000010658, 1.14021240327, 31.24875190549},
-                {0.00000009264, 0.06980096659, 27.33115285740},
-                {0.00000011861, 1.56797219001, 264.26100328570},
-                {0.00000009015, 2.20482574279, 17.91542978119},
-                {0.00000009170, 2.03311846559, 203.98168536590},
-                {0.00000008989, 1.27026973997, 69.12115511239},
-                {0.00000009028, 5.58743285195, 141.45507312490},
-                {0.00000009664, 2.39178937690, 41.88831525910},
-                {0.00000008940, 5.01256462910, 17.28229033479},
-                {0.00000010494, 1.17131913276, 624.67561530350},
-                {0.00000010035, 3.29686320022, 448.93340888730},
-                {0.00000010076, 0.25849068019, 685.23011986920},
-                {0.00000008857, 4.96386104548, 44.48150029329},
-                {0.00000008598, 6.06606880520, 199.31581891990},
-                {0.00000009805, 6.15923742380, 130.16329464510},
-                {0.00000008882, 2.75549341652, 105.24845318010},
-                {0.00000008882, 2.75549341652, 105.73608814710},
-                {0.00000008493, 1.04668491872, 104.23036357940},
-                {0.00000008845, 5.13692463782, 88.51879686950},
-                {0.00000008246, 2.68751890723, 269.67762925710},
-                {0.00000008157, 1.41280465589, 163.82166029861},
-                {0.00000008392, 5.83503369760, 681.29796660610},
-                {0.00000009056, 2.62794754205, 617.56206830270},
-                {0.00000008249, 3.44796441477, 454.66554904380},
-                {0.00000008521, 1.30623024759, 155.74490545130},
-                {0.00000010211, 1.78694722678, 145.38722638800},
-                {0.00000007859, 4.05422578891, 119.75073382760},
-                {0.00000008216, 1.79455339352, 544.16187657970},
-                {0.00000008454, 0.22947250972, 393.21727260080},
-                {0.00000008005, 0.46907750935, 141.73025977080},
-                {0.00000008848, 3.95115689507, 193.41155798150},
-                {0.00000007843, 3.54311700587, 46.81730626350},
-                {0.00000007556, 3.58717505818, 66.67347455760},
-                {0.00000007436, 1.91784517551, 178.11819026941},
-                {0.00000009047, 3.51401146870, 3.42521122121},
-                {0.00000007519, 0.50643097415, 341.01470952831},
-                {0.00000007416, 3.89859514324, 606.51636803880},
-                {0.00000007453, 5.63849048468, 175.40987728371},
-                {0.00000007475, 4.80425272291, 58.07545484850},
-                {0.00000008741, 4.78639260740, 58.98378094080},
-                {0.00000008749, 3.03655779976, 179.91817716280},
-                {0.00000007892, 3.40393008709, 207.63865198310},
-                {0.00000008402, 6.21287302099, 70.29011363560},
-                {0.00000008402, 1.60812206860, 79.76071846601},
-                {0.00000008251, 5.10906071911, 58.56308981550},
-                {0.00000008140, 2.58466669254, 39.91620758380},
-                {0.00000007045, 6.16222014109, 949.41942645330},
-                {0.00000007070, 1.85983109705, 610.44852130189},
-                {0.00000007791, 4.85392265583, 196.38050339810},
-                {0.00000006907, 3.58477670994, 107.74182571721},
-                {0.00000007730, 0.65447053669, 111.18634401329},
-                {0.00000007449, 2.87976997493, 142.38465107660},
-                {0.00000006733, 3.14579027954, 49.75262178531},
-                {0.00000007683, 5.01616370789, 201.01273994931},
-                {0.00000007711, 4.34156872682, 210.60759739969},
-                {0.00000006780, 0.65490353399, 78.64875277320},
-                {0.00000006780, 0.88290624842, 71.40207932840},
-                {0.00000006908, 0.77950341628, 21.84758304429},
-                {0.00000006741, 3.00729837927, 363.10611005610},
-                {0.00000006686, 5.64257628839, 109.06873185860},
-                {0.00000006572, 4.85673617912, 216.72430665921},
-                {0.00000006803, 4.98968550869, 95.47228517591},
-                {0.00000006560, 5.82455888933, 117.56368570370},
-                {0.00000007044, 4.28026207681, 114.69780615110},
-                {0.00000006442, 5.74121457797, 49.47743513939},
-                {0.00000006451, 2.26015709937, 118.62995941420},
-                {0.00000006473, 0.00551268255, 37.88921815429},
-                {0.00000006192, 3.54435368886, 380.84715832300},
-                {0.00000006192, 5.54162291567, 528.97157473160},
-                {0.00000006479, 0.93518082353, 133.34468838281},
-                {0.00000006479, 0.93518082353, 132.85705341579},
-                {0.00000006351, 0.15072906836, 45.96597300160},
-                {0.00000006402, 0.01370420311, 535.66692273460},
-                {0.00000007995, 2.91398983172, 35.18090516859},
-                {0.00000006129, 4.68773030835, 136.31363379940},
-                {0.00000006460, 2.19114059601, 216.23667169220},
-                {0.00000006081, 5.07641530470, 530.89799042461},
-                {0.00000006081, 4.00956079286, 378.92074262999},
-                {0.00000006809, 5.72263495940, 237.43430034270},
-                {0.00000007057, 3.30830104174, 526.75338884040},
-                {0.00000007100, 4.41290399848, 71.56883566720},
-                {0.00000006155, 5.05323034597, 142.90591593840},
-                {0.00000006607, 1.89479128516, 192.44835013500},
-                {0.00000006635, 3.99115479596, 34.28713329129},
-                {0.00000006319, 3.57711620849, 143.58723949460},
-                {0.00000006200, 5.67320056167, 455.15318401080},
-                {0.00000006495, 3.28083835466, 24.62283987170},
-                {0.00000007911, 2.50242282775, 77.71917482150},
-                {0.00000005852, 4.64831077945, 405.74744557300},
-                {0.00000006837, 6.06157563262, 375.63628302830},
-                {0.00000005864, 5.60462038691, 108.16251684250},
-                {0.00000007485, 1.15010416646, 48.51422729289},
-                {0.00000005956, 4.74593134277, 28.98238190449},
-                {0.00000006512, 5.04955849957, 549.89401673620},
-                {0.00000006744, 1.08072004510, 27.96429230381},
-                {0.00000005515, 2.08339216933, 232.66536803271},
-                {0.00000005532, 0.31890406514, 164.78486814511},
-                {0.00000006345, 2.71756249318, 91.48774228611},
-                {0.00000006490, 1.76744850978, 180.03005174739},
-                {0.00000005431, 0.43190359607, 28.55499313480},
-                {0.00000005425, 4.51559573958, 73.65281792710},
-                {0.00000005425, 0.16380669642, 76.39801417450},
-                {0.00000005562, 5.40559445337, 125.42799222991},
-                {0.00000005415, 0.23454091581, 15.79781762650},
-                {0.00000006477, 3.03489812985, 91.06705116081},
-                {0.00000005588, 2.33528771267, 408.19512612779},
-                {0.00000005776, 4.10655662159, 218.65072235220},
-                {0.00000005350, 5.53830738326, 30.98811947460},
-                {0.00000005255, 4.37451988017, 49.42255338521},
-                {0.00000005759, 4.69888388132, 35.92917256650},
-                {0.00000005412, 0.49313502322, 22.39009976550},
-                {0.00000006770, 2.47861246297, 118.15438653471},
-                {0.00000005380, 2.58879305933, 234.25290660500},
-                {0.00000005209, 6.26374262154, 210.36151918381},
-                {0.00000005177, 2.42407399027, 34.86539098351},
-                {0.00000005160, 0.76362512485, 312.21589891000},
-                {0.00000005191, 2.89795037802, 853.44019923550},
-                {0.00000005099, 5.96759889760, 248.96763557360},
-                {0.00000005267, 3.95527262737, 167.07249000551},
-                {0.00000005553, 4.22057884827, 756.07956517339},
-                {0.00000005467, 4.39069254467, 301.17019864609},
-                {0.00000004979, 0.39632287951, 82.61453593110},
-                {0.00000004890, 4.28174925638, 114.38229196601},
-                {0.00000004949, 2.32780688360, 72.09010052900},
-                {0.00000006602, 3.50824637161, 123.29582586020},
-                {0.00000006602, 3.50824637161, 123.78346082721},
-                {0.00000005370, 2.46922478726, 293.95358578131},
-                {0.00000005201, 3.74659188258, 67.11541754230},
-                {0.00000005872, 0.96808951269, 406.34695512460},
-                {0.00000005250, 0.24305505446, 830.86116374070},
-                {0.00000004889, 0.96967547082, 319.32944591080},
-                {0.00000005168, 2.97658265378, 148.11009358871},
-                {0.00000006514, 2.35520859919, 302.33915716930},
-                {0.00000005080, 1.86039634355, 163.14033674240},
-                {0.00000004695, 1.08205169196, 105.13657859549},
-                {0.00000005583, 1.97933911711, 283.90472325870},
-                {0.00000004645, 1.73959984601, 87.87110320809},
-                {0.00000005916, 0.89454328694, 117.66675156770},
-                {0.00000004506, 4.68119964918, 100.29821031630},
-                {0.00000004545, 1.88213954631, 52.39149880180},
-                {0.00000004927, 1.84093010860, 78.46993434690},
-                {0.00000005394, 4.06857911814, 231.80522605020},
-                {0.00000005223, 1.80728120886, 376.70255673880},
-                {0.00000004438, 3.54909482913, 748.96601817260},
-                {0.00000005514, 4.87130555529, 281.21096448800},
-                {0.00000005215, 1.09888503990, 336.59492129820},
-                {0.00000005879, 3.19764906565, 402.77850015639},
-                {0.00000005420, 2.66878339450, 322.36782729660},
-                {0.00000004308, 4.56314648517, 122.71967924421},
-                {0.00000004264, 3.90016849877, 257.14745628489},
-                {0.00000004520, 1.63248491800, 49.00186225990},
-                {0.00000004775, 3.17635591657, 57.86300652739},
-                {0.00000004774, 5.43704799780, 827.67977000299},
-                {0.00000004196, 3.75278965356, 222.14093263061},
-                {0.00000004391, 3.97300698545, 103.59722413300},
-                {0.00000005698, 0.61058889672, 43.84836084689},
-                {0.00000004161, 3.08172700119, 43.79347909271},
-                {0.00000004435, 5.04812695927, 102.11275142471},
-                {0.00000004326, 3.86651430250, 25.35904518210},
-                {0.00000004344, 4.06256630733, 49.89563413720},
-                {0.00000005029, 0.85995505548, 189.42452296421},
-                {0.00000004148, 2.58868726006, 271.37455028650},
-                {0.00000004154, 1.32034817135, 170.41394243761},
-                {0.00000005131, 3.49343840091, 107.26874496520},
-                {0.00000004194, 5.10678907780, 383.06534421420},
-                {0.00000004307, 3.42628980232, 106.03035047280},
-                {0.00000004419, 2.19876844402, 422.42222012939},
-                {0.00000004369, 5.90195130694, 596.11836143630},
-                {0.00000004317, 5.38430845148, 610.34545543790},
-                {0.00000003889, 3.08485433387, 501.62360692681},
-                {0.00000003870, 1.71101422686, 196.01680510321},
-                {0.00000004439, 3.94878447089, 302.13340649259},
-                {0.00000005072, 5.15076461582, 841.90686400460},
-                {0.00000004570, 5.48306410732, 25.30416342790},
-                {0.00000003853, 1.39776017808, 327.99690158910},
-                {0.00000004468, 2.54860791860, 20.95381116700},
-                {0.00000003811, 4.72636380146, 121.59890483079},
-                {0.00000004526, 5.54057803341, 223.20720634109},
-                {0.00000004482, 5.83135585848, 30.35498002820},
-                {0.00000003991, 1.28311117198, 227.03629374021},
-                {0.00000003731, 6.12095489341, 379.88395047650},
-                {0.00000003956, 4.56824830678, 995.88984936931},
-                {0.00000003718, 3.65666608721, 323.74923414091},
-                {0.00000004018, 3.19895348695, 136.78920667889},
-                {0.00000004001, 3.56100095575, 1887.54933515920},
-                {0.00000003691, 1.41771281486, 219.27505307800},
-                {0.00000004238, 1.44245928396, 487.64259114110},
-                {0.00000004319, 0.96541270679, 470.44655172289},
-                {0.00000003696, 4.06633350945, 95.73540973430},
-                {0.00000003585, 3.51009891487, 647.25465079831},
-                {0.00000003615, 0.20591103864, 38.85242600079},
-                {0.00000004508, 2.90546350140, 763.19311217420},
-                {0.00000004774, 2.46832397929, 205.94173095370},
-                {0.00000003585, 1.34007514641, 819.81546347680},
-                {0.00000003631, 2.10367195809, 310.73142620169},
-                {0.00000003713, 4.67112895523, 906.60597015449},
-                {0.00000004069, 5.59978544475, 331.92905485220},
-                {0.00000003909, 2.27593546539, 204.94489321240},
-                {0.00000003826, 6.01055375896, 253.21530302180},
-                {0.00000004459, 0.93566957933, 49.26498681829},
-                {0.00000003398, 2.96372890711, 548.09402984280},
-                {0.00000004440, 1.94179155953, 54.89406111079},
-                {0.00000003614, 0.30233234299, 511.28790034640},
-                {0.00000003347, 1.29886958053, 672.38443271190},
-                {0.00000003809, 4.51178738730, 328.59641114070},
-                {0.00000003555, 3.61696917256, 1368.90407032850},
-                {0.00000004016, 1.13955629148, 442.99551805410},
-                {0.00000003311, 3.53242079712, 185.23173727020},
-                {0.00000003338, 2.31470330186, 90.21571789890},
-                {0.00000003346, 5.43284733631, 10022.08109758290},
-                {0.00000003379, 2.85060290289, 1051.02772796360},
-                {0.00000003359, 5.72116664423, 40.82453367610},
-                {0.00000003472, 2.97502666152, 141.89701610960},
-                {0.00000003470, 4.38415952735, 1068.22376738181},
-                {0.00000003246, 4.22017131096, 30.93323772040},
-                {0.00000003583, 1.73082339999, 297.98880490840},
-                {0.00000004055, 0.36258365907, 228.83628063359},
-                {0.00000003241, 0.13111768083, 34.44469985821},
-                {0.00000003616, 1.14515654777, 736.12033101530},
-                {0.00000003560, 0.27670779076, 334.89800026879},
-                {0.00000004091, 1.17441098516, 913.50706883420},
-                {0.00000003191, 1.16792482000, 374.46732450509},
-                {0.00000003544, 0.49055376796, 484.67364572450},
-                {0.00000003559, 2.60397878803, 781.83999440590},
-                {0.00000003813, 6.05894981328, 342.01154726960},
-                {0.00000003256, 5.96135741097, 97.17169833279},
-                {0.00000003256, 5.96135741097, 97.65933329981},
-                {0.00000003853, 0.47025651359, 122.08653979781},
-                {0.00000004122, 2.34292957523, 339.04260185300},
-                {0.00000003135, 1.41353750131, 674.18441960530},
-                {0.00000003359, 0.15532049803, 369.80145805910},
-                {0.00000004038, 2.34720338930, 146.35043423450},
-                {0.00000004010, 6.22343326461, 60.52313540329},
-                {0.00000003941, 1.29255732924, 729.00678401450},
-                {0.00000003097, 5.41601825571, 115.18544111810},
-                {0.00000003291, 1.11683648084, 2424.35384725460},
-                {0.00000003582, 6.04348598778, 349.12509427039},
-                {0.00000003393, 1.72165904584, 290.87525790760},
-                {0.00000003127, 2.23294920715, 582.13734565059},
-                {0.00000003177, 0.19583207281, 194.53233239490},
-                {0.00000003592, 2.40358939188, 1512.56300652469},
-                {0.00000003448, 2.88793959605, 630.57987624190},
-                {0.00000003156, 5.03361932450, 555.31064270760},
-                {0.00000003587, 0.58158301767, 333.04982926560},
-                {0.00000003671, 1.45655426897, 480.52904414029},
-                {0.00000003505, 1.64838416510, 52.13086637091},
-                {0.00000003028, 6.26872130718, 260.11640170150},
-                {0.00000003021, 5.57108092759, 745.03386490949},
-                {0.00000003015, 3.89416639328, 1053.99667338020},
-                {0.00000003255, 3.12462674297, 114.12165953510},
-                {0.00000003582, 5.88445674452, 292.94468595250},
-                {0.00000004061, 3.95340643388, 758.52724572820},
-                {0.00000003736, 0.36613852781, 5983.70563823870},
-                {0.00000003303, 1.28155244731, 532.38246313290},
-                {0.00000004088, 5.55402436617, 1265.06053658450},
-                {0.00000002960, 1.72706602311, 15.74293587230},
-                {0.00000003705, 1.47926124922, 604.71638114540},
-                {0.00000003156, 5.92521270548, 657.40657918490},
-                {0.00000003133, 5.04870054324, 346.15614885380},
-                {0.00000003653, 0.63048648313, 601.74743572880},
-                {0.00000003119, 1.91614513517, 969.37866061139},
-                {0.00000002876, 2.35938981628, 61.04440026510},
-                {0.00000002838, 2.74193803313, 595.15515358980},
-                {0.00000003359, 4.95035468643, 229.04203131030},
-                {0.00000003882, 1.38177660207, 275.79433851660},
-                {0.00000003259, 1.01400972497, 184.48346987229},
-                {0.00000003003, 1.83095192956, 531.73476947149},
-                {0.00000002904, 4.01411287559, 90.52453443961},
-                {0.00000003653, 2.96914294937, 34.92027273770},
-                {0.00000003037, 5.20432039185, 432.57414851600},
-                {0.00000002813, 4.72918594081, 106.25735300890},
-                {0.00000003621, 3.22439526217, 156.92056161890},
-                {0.00000003602, 3.15871536713, 162.65270177540},
-                {0.00000003499, 2.67172150269, 296.50433220009},
-                {0.00000003773, 4.08436936009, 357.79254994869},
-                {0.00000003503, 1.78954865420, 9913.91533445829},
-                {0.00000003442, 3.60672329365, 689.16227313230},
-                {0.00000002741, 1.22562559151, 279.97256999560},
-                {0.00000002811, 1.78185455227, 526.00262931501},
-                {0.00000002811, 4.92344720586, 525.51499434800},
-                {0.00000002855, 5.71771141107, 49.16192095430},
-                {0.00000003389, 4.67259709450, 1471.24608502170},
-                {0.00000002713, 5.56428665950, 395.66495315560},
-                {0.00000002786, 1.34350771854, 121.49583896680},
-                {0.00000002898, 6.21681698735, 101.04896984171},
-                {0.00000002865, 6.01164299992, 525.48136445320},
-                {0.00000003424, 5.73901886785, 1065.35788782919},
-                {0.00000002851, 0.54853216378, 344.94686279140},
-                {0.00000003251, 1.45328025834, 4.20960064140},
-                {0.00000002737, 3.42458700601, 1065.25482196520},
-                {0.00000002950, 4.98027465475, 256.08118257441},
-                {0.00000002631, 0.78267027234, 833.30884429549},
-                {0.00000003298, 5.06593115911, 469.48334387639},
-                {0.00000003109, 6.28117696143, 626.16008801179},
-                {0.00000003056, 3.68463096730, 222.61650551010},
-                {0.00000002887, 2.43495358759, 241.36645360580},
-                {0.00000002880, 3.68589687520, 370.21965705690},
-                {0.00000002756, 3.92430653721, 103.76398047180},
-                {0.00000002886, 2.58668498001, 668.45227944880},
-                {0.00000003592, 0.47803095441, 1062.59469308931},
-                {0.00000003123, 5.91118856963, 384.02855206069},
-                {0.00000002750, 1.59375992485, 628.60776856660},
-                {0.00000002877, 2.89340756487, 6058.48723680599},
-                {0.00000002805, 2.02053605529, 2111.89413086110},
-                {0.00000002563, 3.56308780594, 440.43845504219},
-                {0.00000002563, 0.42149515235, 440.92609000920},
-                {0.00000002696, 2.96689095835, 187.78248368899},
-                {0.00000002619, 4.26306664613, 218.16308738520},
-                {0.00000003250, 2.54781834108, 608.96404859360},
-                {0.00000002535, 4.28939637077, 546.71262299849},
-                {0.00000002863, 2.93725449249, 637.69342324271},
-                {0.00000002510, 2.72205634566, 1258.69774910910},
-                {0.00000002502, 0.12173637336, 766.12842769600},
-                {0.00000002501, 3.95752847987, 108.21739859670},
-                {0.00000002522, 4.54787198105, 115.60613224340},
-                {0.00000002695, 1.46434656788, 592.18620817320},
-                {0.00000002760, 1.05454060387, 631.78916230430},
-                {0.00000002903, 2.53838707555, 620.49738382450},
-                {0.00000002884, 4.72874609806, 5.17280848790},
-                {0.00000002890, 3.31519233579, 361.62163734781},
-                {0.00000002464, 3.09248623775, 416.79314583689},
-                {0.00000003268, 2.53292811337, 39.37369086260},
-                {0.00000002473, 0.08779249635, 368.83825021259},
-                {0.00000003222, 0.65044985311, 421.21293406700},
-                {0.00000002626, 1.10132862735, 135.82599883240},
-                {0.00000002497, 2.08712349497, 109.22629842550},
-                {0.00000002634, 0.11373538142, 159.47130803769},
-                {0.00000003221, 0.89035575469, 124.25903370670},
-                {0.00000002517, 4.16137803488, 389.96644289390},
-                {0.00000002921, 3.40506832572, 109.96250373590},
-                {0.00000003208, 4.58577380818, 436.50630177909},
-                {0.00000002416, 3.47591283723, 531.41925528640},
-                {0.00000003214, 2.54161801429, 256.18424843839},
-                {0.00000002505, 3.99534621400, 460.88532416730},
-                {0.00000002681, 4.31478466061, 9988.69693302559},
-                {0.00000002782, 0.78003425566, 947.28726008359},
-                {0.00000002409, 5.18542514143, 1228.25440708809},
-                {0.00000002353, 5.50653116579, 75.23786437190},
-                {0.00000002353, 5.45605657739, 74.81296772971},
-                {0.00000002440, 5.74974436995, 894.59706204410},
-                {0.00000002656, 3.45452000558, 623.46632924110},
-                {0.00000002337, 2.77425938866, 533.86693584120},
-                {0.00000002402, 1.96391904397, 843.87897167990},
-                {0.00000003239, 5.50110511166, 956.53297345411},
-                {0.00000003017, 1.71602977265, 2043.73844432759},
-                {0.00000003017, 4.85762242624, 2044.22607929460},
-                {0.00000002405, 0.69226746482, 59.03866269500},
-                {0.00000002405, 0.69226746482, 59.52629766200},
-                {0.00000002976, 4.98106512921, 80.65449034331},
-                {0.00000002378, 2.81529183944, 223.62540533890},
-                {0.00000002317, 1.17777954553, 247.22253043440},
-                {0.00000002571, 1.89573446400, 595.47066777489},
-                {0.00000002545, 0.42139208830, 450.21213091890},
-                {0.00000002346, 1.76423659089, 60.31068708220},
-                {0.00000002905, 5.55552157075, 344.45922782439},
-                {0.00000002979, 1.27048702580, 370.32272292090},
-                {0.00000002400, 1.68813814874, 14.73403604350},
-                {0.00000002717, 1.31138458381, 479.64408098360},
-                {0.00000002611, 0.99388014320, 3116.02381351440},
-                {0.00000002621, 0.25841040278, 78.99119920869},
-                {0.00000002223, 1.90165447185, 53.82778740031},
-                {0.00000002402, 5.03538910572, 298.88257678570},
-                {0.00000002990, 3.95961598379, 1812.28010162490},
-                {0.00000002451, 1.91418865833, 230.80838830890},
-                {0.00000002234, 2.22641223106, 6144.31453563720},
-                {0.00000002327, 1.84267006744, 756.56720014041},
-                {0.00000002505, 5.12227466803, 98.65617104110},
-                {0.00000002409, 1.84825229471, 248.48000060659},
-                {0.00000002564, 0.59724352209, 554.31380496631},
-                {0.00000002094, 5.43602058182, 451.22103074770},
-                {0.00000002094, 5.43602058182, 450.73339578069},
-                {0.00000002295, 2.50743217001, 767.12526543730},
-                {0.00000002295, 2.50743217001, 767.61290040431},
-                {0.00000002066, 1.46552725443, 518.40144734719},
-                {0.00000002066, 1.46552725442, 518.88908231420},
-                {0.00000002137, 1.06481249549, 192.93598510200},
-                {0.00000002874, 1.42201513450, 1336.17310644710},
-                {0.00000002325, 5.15816119219, 217.16624964391},
-                {0.00000002325, 2.01656853860, 216.67861467689},
-                {0.00000002567, 2.28998100536, 980.42436087530},
-                {0.00000002617, 5.90003632196, 130.19692453990},
-                {0.00000002128, 5.11811294529, 180.51768671441},
-                {0.00000002474, 2.38064815315, 124.74666867370},
-                {0.00000002195, 5.26620078093, 449.52410971830},
-                {0.00000002195, 5.26620078093, 449.03647475130},
-                {0.00000002135, 5.71566208623, 112.67081672160},
-                {0.00000001942, 5.33502835135, 196.86813836510},
-                {0.00000001912, 3.62510337339, 119.11759438120},
-                {0.00000002139, 6.13537221304, 179.03321400610},
-                {0.00000002139, 2.99377955945, 178.54557903910},
-                {0.00000001950, 5.27659816322, 39.11305843170},
-                {0.00000001854, 0.40784304859, 355.24180352990},
-                {0.00000001854, 3.54943570218, 354.75416856289},
-                {0.00000001854, 3.15413689271, 198.82818395289},
-                {0.00000001965, 2.90831551828, 84.09900863940},
-                {0.00000002359, 6.02456565449, 31.73638687251},
-                {0.00000001903, 4.02163891252, 153.25153291419},
-                {0.00000002125, 4.46822209107, 490.57790666290},
-                {0.00000002125, 1.32662943748, 490.09027169589},
-                {0.00000001914, 2.80943361629, 331.45348197271},
-                {0.00000001914, 2.80943361629, 330.96584700570},
-                {0.00000002417, 3.62587768999, 139.75815209550},
-                {0.00000002146, 4.80060249860, 463.26356875290},
-                {0.00000002146, 4.80060249860, 463.75120371991},
-                {0.00000001907, 0.29413995146, 458.12212942741},
-                {0.00000001907, 0.29413995146, 457.63449446040},
-                {0.00000001967, 5.78363534283, 180.81194904009},
-                {0.00000001967, 2.64204268924, 181.29958400710},
-                {0.00000002145, 0.14136422951, 66.42739634171},
-                {0.00000002145, 3.28295688310, 65.93976137470},
-                {0.00000001797, 2.39944522660, 757.56403788170},
-                {0.00000001797, 2.39944522659, 758.05167284870},
-                {0.00000001750, 4.28600192557, 144.86596152620},
-                {0.00000002036, 2.34392479937, 304.10551416790},
-                {0.00000002036, 2.34392479937, 303.61787920090},
-                {0.00000001797, 0.32134026487, 704.87383984220},
-                {0.00000001797, 0.32134026487, 705.36147480921},
-                {0.00000001894, 0.87966092565, 910.06255053810},
-                {0.00000001894, 0.87966092565, 909.57491557110},
-                {0.00000001722, 5.49208647911, 67.63668240410},
-                {0.00000001837, 6.09149650375, 544.26494244370},
-                {0.00000001837, 2.94990385016, 544.75257741070},
-                {0.00000001726, 6.28245115060, 1507.42156719921},
-                {0.00000001726, 3.14085849702, 1506.93393223219},
-                {0.00000001730, 6.03213855973, 565.35950523021},
-                {0.00000001730, 2.89054590614, 564.87187026320},
-                {0.00000001877, 0.39026248475, 582.62498061761},
-                {0.00000001795, 0.24875732404, 681.78560157310},
-                {0.00000001921, 5.53736958606, 699.45721387080},
-                {0.00000001983, 2.54851132238, 256.78375799000},
-                {0.00000001983, 5.69010397597, 256.29612302300},
-                {0.00000001763, 0.62072025706, 1521.64866120080},
-                {0.00000001763, 3.76231291065, 1521.16102623379},
-                {0.00000002238, 3.66188523153, 699.94484883781},
-                {0.00000001965, 0.50815651093, 1317.26309965699},
-                {0.00000001965, 0.50815651092, 1317.75073462401},
-                {0.00000001641, 2.64526934415, 76.98546163860},
-                {0.00000001645, 3.22138588883, 237.92193530970},
-                {0.00000001880, 1.89024853051, 71.35638734610},
-                {0.00000002123, 3.24947752102, 528.45030986980},
-                {0.00000002123, 0.10788486743, 527.96267490280},
-                {0.00000002071, 0.60877130052, 688.41151360689},
-                {0.00000002071, 3.75036395411, 688.89914857391},
-                {0.00000002066, 5.47736990001, 182.99899716400},
-                {0.00000002080, 4.96628697356, 415.79630809560},
-                {0.00000001610, 5.00948478905, 173.69840203930},
-                {0.00000001624, 2.10483095182, 683.74564716089},
-                {0.00000001624, 2.10483095182, 684.23328212791},
-                {0.00000001582, 0.64155462640, 349.09146437560},
-                {0.00000001582, 0.64155462640, 348.60382940860},
-                {0.00000001525, 3.24207905299, 555.79827767460},
-                {0.00000001823, 5.40830199356, 290.46337550291},
-                {0.00000001823, 5.40830199356, 289.97574053589},
-                {0.00000001524, 1.14769098014, 1303.03600565540},
-                {0.00000001524, 1.14769098014, 1303.52364062241},
-                {0.00000001902, 5.79795457847, 351.57277482520},
-                {0.00000001683, 3.65104607633, 477.56009872370},
-                {0.00000001683, 0.50945342274, 478.04773369070},
-                {0.00000001652, 5.08038518118, 473.90313210650},
-                {0.00000001652, 1.93879252759, 473.41549713950},
-                {0.00000001475, 2.15788763961, 406.71065341949},
-                {0.00000001475, 5.29948029320, 407.19828838650},
-                {0.00000001473, 4.76013578848, 376.43943218040},
-                {0.00000001473, 1.61854313489, 375.95179721340},
-                {0.00000001646, 3.41010170818, 330.08088384900},
-                {0.00000001646, 0.26850905460, 329.59324888200},
-                {0.00000002036, 3.51391687030, 402.46298597130},
-                {0.00000002036, 3.51391687030, 401.97535100430},
-                {0.00000001806, 1.95017105531, 105.62421356250},
-                {0.00000001436, 4.41744820869, 384.30373870660},
-                {0.00000001436, 4.41744820869, 383.81610373959},
-                {0.00000001436, 4.16082568297, 192.56022471960},
-                {0.00000001436, 4.16082568297, 193.04785968660},
-                {0.00000001579, 3.84792179756, 74.64965566840},
-                {0.00000001983, 5.87547482444, 28.32799059869},
-                {0.00000001517, 3.89748087769, 696.76345510010},
-                {0.00000001517, 3.89748087769, 696.27582013310},
-                {0.00000001512, 5.37436432179, 482.97672469510},
-                {0.00000001512, 2.23277166820, 483.46435966210},
-                {0.00000001507, 1.08636660761, 420.93774742110},
-                {0.00000001507, 4.22795926120, 421.42538238810},
-                {0.00000001461, 3.02594666056, 6208.53806890760},
-                {0.00000001461, 6.16753931415, 6208.05043394060},
-                {0.00000001593, 4.09159297487, 1441.23798834100},
-                {0.00000001593, 4.09159297487, 1440.75035337400},
-                {0.00000001473, 5.46192054865, 818.33099076849},
-                {0.00000001473, 5.46192054865, 818.81862573550},
-                {0.00000001672, 2.10061200490, 1598.71788162851},
-                {0.00000001672, 2.10061200490, 1598.23024666149},
-                {0.00000001531, 5.12947393362, 1737.98613802460},
-                {0.00000001531, 1.98788128003, 1737.49850305759},
-                {0.00000001912, 5.97684430410, 486.64575339981},
-        };
-    }
-
-    private static void initialize_1_2()
-    {
-        classCoeff[0][2] = new double[][]{
-                {0.01016618950, 0.77056492682, 75.02541605080},
-                {0.00038040244, 1.27157972349, 0.24381748350},
-                {0.00034677856, 3.16763307609, 149.80701461810},
-                {0.00012364786, 5.85713505816, 76.50988875911},
-                {0.00007910801, 3.80553695138, 11.28951774740},
-                {0.00007671667, 2.54030927271, 63.97971578690},
-                {0.00005406463, 4.76691460989, 71.09326278771},
-                {0.00007007650, 5.30773139768, 86.07111631471},
-                {0.00004975036, 3.03470499387, 78.95756931390},
-                {0.00003201017, 6.01127265738, 74.53778108379},
-                {0.00003151344, 4.54344132198, 73.54094334250},
-                {0.00002824019, 4.03409221161, 138.76131435421},
-                {0.00003389631, 0.43008591381, 1.72829019180},
-                {0.00002518149, 3.35779148690, 71.84402231310},
-                {0.00002418298, 4.45586602451, 78.20680978850},
-                {0.00002201666, 0.86216177570, 4.17597074660},
-                {0.00001870514, 5.78094816572, 224.58861318540},
-                {0.00001040809, 0.72139231899, 145.87486135500},
-                {0.00000825679, 4.57404708700, 148.32254190981},
-                {0.00000856424, 2.19300534976, 151.29148732640},
-                {0.00000661761, 1.01323912739, 18.40306474821},
-                {0.00000687998, 4.93411449420, 77.99436146740},
-                {0.00000504683, 5.29540359205, 22.33521801130},
-                {0.00000477418, 3.17731628846, 72.57773549600},
-                {0.00000476558, 1.85582546952, 2.93757625420},
-                {0.00000417277, 1.55648119928, 160.85271488200},
-                {0.00000385934, 4.71654989644, 77.47309660560},
-                {0.00000325076, 0.00844871452, 65.46418849521},
-                {0.00000284902, 0.53316205138, 131.64776735340},
-                {0.00000257868, 4.97326431366, 56.86616878610},
-                {0.00000334260, 5.52076636592, 3.21276290011},
-                {0.00000227240, 2.58050408018, 127.71561409031},
-                {0.00000308306, 1.74334590495, 84.58664360640},
-                {0.00000220448, 3.46259685462, 220.65645992230},
-                {0.00000207595, 2.68871981891, 12.77399045571},
-                {0.00000206410, 2.89659870733, 93.18466331550},
-                {0.00000207522, 1.83273630503, 213.54291292150},
-                {0.00000209061, 5.56996462509, 153.73916788121},
-                {0.00000215886, 1.45032322858, 72.05647063421},
-                {0.00000212084, 4.24531706023, 87.55558902300},
-                {0.00000208906, 5.76818344719, 52.44638055600},
-                {0.00000151875, 1.37030417137, 206.42936592071},
-                {0.00000148298, 1.59631432822, 9.80504503910},
-                {0.00000192262, 2.16356274415, 529.93478257810},
-                {0.00000119051, 2.12938419254, 299.37021175271},
-                {0.00000132408, 0.84833790409, 52.93401552300},
-                {0.00000117583, 4.12588726472, 522.82123557730},
-                {0.00000114530, 0.20480870043, 537.04832957890},
-                {0.00000105238, 0.95165369617, 127.22797912329},
-                {0.00000098089, 2.01372348892, 80.44204202221},
-                {0.00000114250, 1.45343138159, 7.35736448430},
-                {0.00000097881, 0.88047242223, 97.11681657861},
-                {0.00000106194, 5.89144138305, 146.62562088040},
-                {0.00000089216, 2.74785227203, 67.91186905000},
-                {0.00000116340, 0.59881354910, 38.37685312130},
-                {0.00000077574, 4.98371791372, 82.13896305161},
-                {0.00000084483, 0.53008500607, 223.10414047710},
-                {0.00000098707, 3.60232211559, 62.49524307860},
-                {0.00000068606, 2.46240164068, 426.84200835950},
-                {0.00000066709, 5.05989525693, 2.69149803831},
-                {0.00000065809, 3.54607627462, 15.22167101050},
-                {0.00000067096, 4.82707195481, 226.07308589371},
-                {0.00000087378, 5.70834290687, 39.86132582961},
-                {0.00000062935, 2.33622388716, 149.31937965110},
-                {0.00000061638, 2.56105139517, 152.98840835580},
-                {0.00000065914, 3.96068940502, 79.47883417571},
-                {0.00000059769, 2.39173625701, 10.80188278040},
-                {0.00000059691, 2.89597337716, 56.37853381910},
-                {0.00000056598, 1.25875671662, 152.77596003471},
-                {0.00000052271, 5.01620205161, 70.60562782070},
-                {0.00000067381, 4.08745585432, 111.67397898031},
-                {0.00000048944, 1.98442603431, 63.49208081989},
-                {0.00000048935, 4.54101314556, 194.89603068979},
-                {0.00000058953, 2.87996709683, 34.92027273770},
-                {0.00000042178, 5.74275407313, 146.83806920150},
-                {0.00000041131, 0.64777803124, 209.12312469139},
-                {0.00000048341, 6.17208956617, 142.69346761730},
-                {0.00000039938, 3.21570509181, 29.44876501211},
-                {0.00000035504, 4.35546434528, 73.05330837550},
-                {0.00000035998, 5.79742738847, 69.60879007940},
-                {0.00000035709, 1.54618860768, 45.33283355520},
-                {0.00000034365, 3.33620594444, 70.57199792590},
-                {0.00000040938, 4.61497618218, 4.69723560840},
-                {0.00000033246, 5.01331392267, 1059.62574767270},
-                {0.00000034076, 5.46577508001, 137.27684164590},
-                {0.00000034342, 6.08604337798, 5.66044345490},
-                {0.00000034750, 2.99991330176, 120.11443212250},
-                {0.00000029609, 4.31333582780, 134.82916109110},
-                {0.00000029214, 4.33169131521, 134.34152612410},
-                {0.00000027728, 0.58899684764, 202.49721265760},
-                {0.00000026015, 1.44667967680, 20.85074530300},
-                {0.00000025423, 4.18101350243, 23.81969071961},
-                {0.00000025360, 1.97190987769, 60.04756252381},
-                {0.00000027639, 0.63901286173, 152.25469517290},
-                {0.00000024633, 1.98871425552, 59.55992755679},
-                {0.00000026033, 4.07056770292, 235.63431344930},
-                {0.00000022264, 5.20786731153, 76.02225379210},
-                {0.00000020549, 5.58659383272, 138.27367938720},
-                {0.00000022051, 0.79574466032, 33.38091827520},
-                {0.00000019406, 3.47975672795, 159.36824217371},
-                {0.00000020190, 1.31242826249, 70.35954960481},
-                {0.00000022751, 5.38605025058, 110.18950627200},
-                {0.00000020572, 4.61541897614, 120.60206708950},
-                {0.00000019010, 1.13202069249, 14.47091148511},
-                {0.00000018238, 0.76330726538, 3.68833577960},
-                {0.00000018044, 2.65389705259, 265.74547599400},
-                {0.00000018132, 5.82700586339, 90.00326957780},
-                {0.00000018837, 3.36592790957, 79.69128249680},
-                {0.00000017966, 2.30154733724, 73.32849502140},
-                {0.00000017619, 2.37679027189, 76.72233708021},
-                {0.00000015431, 5.76818140157, 1.24065522479},
-                {0.00000017688, 4.07867858977, 41.40068029210},
-                {0.00000015101, 4.88508430106, 16.91859203990},
-                {0.00000015248, 6.07362345688, 3.42521122121},
-                {0.00000014771, 6.23530181561, 333.41352756050},
-                {0.00000014325, 6.07731251478, 19.88753745650},
-                {0.00000013703, 5.74950760055, 116.18227885939},
-                {0.00000015398, 0.55165142555, 162.33718759030},
-                {0.00000013837, 2.81469028445, 433.95555536030},
-                {0.00000013525, 1.82049184184, 144.39038864671},
-                {0.00000015125, 5.47781650962, 147.35933406330},
-                {0.00000015394, 4.75630456170, 41.34579853790},
-                {0.00000013487, 2.33365398351, 347.64062156210},
-                {0.00000017344, 1.14035051184, 190.96387742670},
-                {0.00000012741, 0.49316850236, 419.72846135871},
-                {0.00000015299, 1.30791646464, 184.97110483931},
-                {0.00000014796, 2.98132078729, 113.15845168861},
-                {0.00000011042, 0.89444511328, 25.51661174900},
-                {0.00000010803, 6.10809462182, 140.24578706250},
-                {0.00000010475, 2.21239506785, 6.86972951729},
-                {0.00000011185, 0.75741549234, 116.66991382640},
-                {0.00000011147, 4.98644870698, 54.41848823131},
-                {0.00000013346, 4.08247597684, 33.43580002939},
-                {0.00000009592, 1.22752159642, 212.05844021321},
-                {0.00000010605, 0.82432336974, 74.91354146621},
-                {0.00000010593, 3.85979493686, 75.13729063540},
-                {0.00000011833, 2.92629549746, 89.04006173130},
-                {0.00000009674, 0.15663016702, 129.20008679860},
-                {0.00000009261, 5.39380503857, 167.96626188280},
-                {0.00000009431, 1.62655798238, 640.14110379750},
-                {0.00000010948, 5.84704956948, 202.00957769060},
-                {0.00000010470, 3.21728620233, 71.56883566720},
-                {0.00000008486, 2.71064949590, 277.27881122490},
-                {0.00000009140, 1.81085828444, 228.52076644850},
-                {0.00000008941, 4.65640678923, 258.63192899320},
-                {0.00000008140, 2.93786869433, 60.79832204921},
-                {0.00000007518, 3.72398919720, 126.23114138200},
-                {0.00000007532, 4.84171458960, 89.25251005240},
-                {0.00000007736, 6.14746801790, 272.85902299479},
-                {0.00000008693, 1.27494883068, 221.61966776881},
-                {0.00000006861, 3.28548607175, 195.38366565681},
-                {0.00000008704, 0.49510828703, 50.96190784770},
-                {0.00000007676, 3.18883684041, 58.35064149440},
-                {0.00000007545, 2.72894616317, 53.93085326429},
-                {0.00000007394, 2.88313029524, 95.63234387030},
-                {0.00000006681, 5.42279212849, 66.94866120350},
-                {0.00000006264, 1.99748477436, 39.60069339870},
-                {0.00000007026, 1.90422724178, 51.44954281471},
-                {0.00000006150, 4.80885665481, 374.15181032000},
-                {0.00000006356, 4.52111917010, 155.22364058950},
-                {0.00000005982, 2.01491416824, 125.74350641500},
-                {0.00000006068, 0.40878107182, 135.57992061650},
-                {0.00000006766, 1.53737992411, 151.50393564750},
-                {0.00000007931, 3.18839879732, 288.32451148881},
-                {0.00000006447, 2.96047986448, 297.88573904440},
-                {0.00000006043, 0.77132741272, 1066.73929467350},
-                {0.00000005769, 0.22669318121, 213.05527795450},
-                {0.00000005884, 0.89035454231, 24.13520490470},
-                {0.00000005760, 0.98271147838, 103.33659170210},
-                {0.00000005890, 0.68025338272, 46.71424039951},
-                {0.00000006180, 2.84467959186, 45.82046852221},
-                {0.00000006347, 4.26496745804, 227.77000692311},
-                {0.00000005285, 2.38608402940, 305.10235190919},
-                {0.00000005176, 3.56268834670, 1052.51220067191},
-                {0.00000005443, 1.65371041202, 471.93102443120},
-                {0.00000005222, 0.59481167464, 124.53422035260},
-                {0.00000005424, 4.52802960517, 91.70019060721},
-                {0.00000005814, 1.36394366099, 340.52707456129},
-                {0.00000005051, 4.26199970891, 515.70768857651},
-                {0.00000004924, 4.31596399692, 404.26297286470},
-                {0.00000005332, 2.58586292511, 83.10217089810},
-                {0.00000005189, 5.10948461536, 61.01077037031},
-                {0.00000005198, 4.05963240944, 486.15811843280},
-                {0.00000004404, 3.47905723669, 171.89841514590},
-                {0.00000005159, 4.18184292472, 383.06534421420},
-                {0.00000004708, 5.52448195325, 110.45013870291},
-                {0.00000004387, 3.15889315302, 209.61075965840},
-                {0.00000004748, 5.94194450321, 98.60128928690},
-                {0.00000004248, 1.30011269774, 230.32075334190},
-                {0.00000005145, 1.65634530989, 74.06220820430},
-                {0.00000004114, 5.01485142282, 2.20386307129},
-                {0.00000005063, 2.99988089960, 75.98862389731},
-                {0.00000003940, 5.91769063408, 55.38169607781},
-                {0.00000004565, 0.81573485480, 223.20720634109},
-                {0.00000003744, 0.15879098262, 43.53284666180},
-                {0.00000004710, 0.25957456206, 186.45557754760},
-                {0.00000003710, 1.73137944713, 94.66913602380},
-                {0.00000003673, 2.68570227818, 80.65449034331},
-                {0.00000003673, 5.13529281141, 69.39634175830},
-                {0.00000003912, 3.10734552053, 183.85033042589},
-                {0.00000003744, 4.08326458184, 155.53915477459},
-                {0.00000004397, 6.10187638345, 902.19824401191},
-                {0.00000004340, 3.39324127850, 131.16013238639},
-                {0.00000003600, 1.76146036337, 61.69209392650},
-                {0.00000004967, 3.22509645861, 108.21739859670},
-                {0.00000003476, 1.54136017705, 199.31581891990},
-                {0.00000003658, 4.79206377689, 849.50804597240},
-                {0.00000003523, 3.69437187603, 451.22103074770},
-                {0.00000004488, 2.74277410385, 329.48137429739},
-                {0.00000003980, 1.95932786654, 36.89238041300},
-                {0.00000003375, 5.91720302986, 415.30867312860},
-                {0.00000003410, 1.87951443558, 4.20960064140},
-                {0.00000003568, 6.07468170604, 446.06752933469},
-                {0.00000004379, 1.89351588041, 145.35359649321},
-                {0.00000003342, 5.45803791124, 295.43805848960},
-                {0.00000003570, 6.04818504684, 50.64639366260},
-                {0.00000003501, 2.14476824270, 460.29462333630},
-                {0.00000003555, 0.03884741871, 397.14942586389},
-                {0.00000003345, 0.09439746136, 544.16187657970},
-                {0.00000003245, 4.46873398006, 428.32648106781},
-                {0.00000003326, 2.20835247016, 354.75416856289},
-                {0.00000003517, 2.35139644667, 204.94489321240},
-                {0.00000003209, 2.99492291709, 237.43430034270},
-                {0.00000003283, 1.61893390630, 32.48714639791},
-                {0.00000003195, 6.27817675624, 1058.14127496441},
-                {0.00000003291, 3.75210973869, 504.80500066450},
-                {0.00000003210, 1.96285885557, 323.74923414091},
-                {0.00000003632, 5.42847493228, 57.75994066341},
-                {0.00000003617, 4.97056941864, 104.23036357940},
-                {0.00000003794, 6.10025129416, 294.05665164530},
-                {0.00000003164, 6.16087797760, 1819.39364862570},
-                {0.00000003165, 3.65964152483, 216.72430665921},
-                {0.00000003165, 0.51804887124, 216.23667169220},
-                {0.00000003073, 5.18145172576, 41.88831525910},
-                {0.00000003059, 5.35132993250, 905.64276230799},
-                {0.00000003362, 5.69676404259, 85.58348134769},
-                {0.00000003541, 3.69183627724, 956.53297345411},
-                {0.00000003541, 5.63801834999, 191.45151239371},
-                {0.00000003260, 3.54321329291, 227.55755860200},
-                {0.00000003047, 0.50860086202, 531.41925528640},
-                {0.00000002983, 5.52362556155, 1589.31671276730},
-                {0.00000003264, 5.67637422985, 336.59492129820},
-                {0.00000003273, 3.54065334147, 60.31068708220},
-                {0.00000003052, 1.58893349421, 411.37651986550},
-                {0.00000002957, 3.38662804009, 207.91383862900},
-                {0.00000003082, 1.86722969180, 217.47506618460},
-                {0.00000003147, 6.00497294061, 1169.83206889211},
-                {0.00000003055, 5.34963236447, 381.36842318480},
-                {0.00000003006, 3.41332999286, 290.87525790760},
-                {0.00000002859, 0.87412339321, 276.79117625789},
-                {0.00000002836, 6.05953478189, 88.35873817511},
-                {0.00000002790, 2.75758754465, 62.00760811160},
-                {0.00000003077, 1.58786085482, 109.06873185860},
-                {0.00000002839, 1.72539635996, 942.30587945250},
-                {0.00000002822, 3.28498999245, 128.71245183160},
-                {0.00000003374, 2.87502037309, 736.12033101530},
-                {0.00000002933, 2.23835900787, 306.58682461749},
-                {0.00000002763, 5.42861535964, 1282.58913653029},
-                {0.00000002895, 5.69820720276, 75.54668091261},
-                {0.00000003459, 2.93102396110, 610.44852130189},
-                {0.00000002886, 5.26577859528, 74.50415118900},
-                {0.00000002638, 3.75521976789, 198.07742442750},
-                {0.00000002939, 5.73905357521, 179.91817716280},
-                {0.00000002556, 1.29879665561, 430.02340209721},
-                {0.00000002743, 3.82938065661, 141.94270809190},
-                {0.00000002743, 3.82938065661, 141.45507312490},
-                {0.00000002525, 4.29423148270, 219.17198721400},
-                {0.00000002654, 4.61997728072, 475.86317769430},
-                {0.00000003424, 3.63115669579, 133.13224006171},
-                {0.00000002448, 3.34099164118, 358.68632182600},
-                {0.00000002613, 3.56416070170, 1155.60497489050},
-                {0.00000002428, 0.92534350100, 714.92270236481},
-                {0.00000003038, 0.02659248152, 145.38722638800},
-                {0.00000002558, 0.15484452507, 460.88532416730},
-                {0.00000002602, 0.97639397784, 4.90968392950},
-                {0.00000002602, 0.56141580457, 145.14114817210},
-                {0.00000002603, 4.00253973196, 343.46239008310},
-                {0.00000003095, 4.96470959339, 269.67762925710},
-                {0.00000003095, 4.96470959339, 270.16526422410},
-                {0.00000002576, 0.29697709235, 988.02554284310},
-                {0.00000002387, 5.04233641349, 346.43133549971},
-                {0.00000002643, 3.31153040747, 376.70255673880},
-                {0.00000002290, 5.05227824278, 275.30670354960},
-                {0.00000003061, 6.15240912134, 606.51636803880},
-                {0.00000002264, 0.83314819323, 323.26159917390},
-                {0.00000002638, 0.79175765980, 77.71917482150},
-                {0.00000002246, 5.55551202459, 143.90275367970},
-                {0.00000002334, 2.10308783101, 49.26498681829},
-                {0.00000002334, 5.24468048460, 49.75262178531},
-                {0.00000002696, 4.28534164626, 70.08436295889},
-                {0.00000002327, 3.06369666366, 479.04457143200},
-                {0.00000002398, 2.55511918128, 183.48663213100},
-                {0.00000002040, 1.27681238416, 1968.95684576030},
-                {0.00000002040, 1.27681238416, 1969.44448072730},
-                {0.00000001960, 5.72020707325, 894.59706204410},
-                {0.00000001960, 2.57861441966, 895.08469701110},
-                {0.00000002286, 2.84819442391, 147.83490694279},
-                {0.00000002536, 1.61730292038, 108.70503356371},
-                {0.00000001832, 6.16198387079, 379.88395047650},
-                {0.00000001977, 3.03212060303, 5.17280848790},
-                {0.00000002397, 1.86738161703, 114.64292439690},
-                {0.00000002450, 4.54363281495, 203.98168536590},
-                {0.00000002258, 2.03199421502, 201.01273994931},
-                {0.00000001767, 0.29075268819, 1514.04747923300},
-                {0.00000001767, 3.43234534178, 1514.53511420000},
-                {0.00000001978, 2.12934272436, 2.72512793310},
-                {0.00000001763, 3.56951955484, 275.79433851660},
-                {0.00000001714, 5.14400730282, 440.43845504219},
-                {0.00000001714, 5.14400730282, 440.92609000920},
-                {0.00000001710, 0.74103984530, 309.03450517230},
-                {0.00000001710, 0.74103984530, 309.52214013930},
-                {0.00000001917, 3.04967782266, 6.18170831670},
-                {0.00000001613, 0.68793280970, 1044.16025917870},
-                {0.00000001613, 0.68793280970, 1044.64789414570},
-                {0.00000001722, 4.76110262034, 752.89817143570},
-                {0.00000001722, 1.61950996675, 753.38580640270},
-                {0.00000001656, 3.95388550783, 21.84758304429},
-                {0.00000002072, 1.38441205546, 203.49405039889},
-                {0.00000001528, 1.43661391386, 106.51798543980},
-                {0.00000001528, 4.57820656745, 106.03035047280},
-                {0.00000001802, 0.72583106929, 344.45922782439},
-                {0.00000001802, 0.72583106929, 344.94686279140},
-                {0.00000001610, 0.77273753295, 266.23311096100},
-                {0.00000001509, 2.15678911314, 924.28964453971},
-                {0.00000001509, 2.15678911314, 923.80200957270},
-                {0.00000001727, 2.66552748343, 625.16325027050},
-                {0.00000001727, 5.80712013702, 624.67561530350},
-                {0.00000001491, 4.05516091832, 422.90985509640},
-                {0.00000001491, 0.91356826473, 422.42222012939},
-                {0.00000001766, 5.63078579097, 224.10097821840},
-                {0.00000002006, 3.39755981160, 144.86596152620},
-                {0.00000001470, 5.47870687186, 284.39235822571},
-                {0.00000001470, 2.33711421827, 283.90472325870},
-                {0.00000001482, 0.38832219784, 17.91542978119},
-                {0.00000001585, 3.24031630932, 710.99054910171},
-                {0.00000001585, 0.09872365573, 710.50291413470},
-                {0.00000001415, 0.78027163232, 13.98327651810},
-                {0.00000001408, 1.20663638110, 254.69977573010},
-                {0.00000001408, 4.34822903469, 255.18741069710},
-                {0.00000001517, 2.68660553420, 976.97984257920},
-                {0.00000001517, 2.68660553420, 976.49220761220},
-        };
-    }
-
-    private static void initialize_1_3()
-    {
-        classCoeff[0][3] = new double[][]{
-                {0.00000937647, 1.00888984070, 149.80701461810},
-                {0.00000967548, 1.42552804346, 0.24381748350},
-                {0.00000892089, 0.79608202303, 75.02541605080},
-                {0.00000684660, 2.90453472816, 71.09326278771},
-                {0.00000623727, 4.86286247873, 78.95756931390},
-                {0.00000525597, 3.81206896615, 76.50988875911},
-                {0.00000507791, 4.64109877567, 63.97971578690},
-                {0.00000496551, 3.13919316435, 86.07111631471},
-                {0.00000445874, 4.99904086064, 71.84402231310},
-                {0.00000424392, 2.80391306791, 78.20680978850},
-                {0.00000366041, 2.07755748247, 11.28951774740},
-                {0.00000313023, 4.23932450493, 73.54094334250},
-                {0.00000249030, 2.48148146374, 4.17597074660},
-                {0.00000209150, 1.40893371766, 74.53778108379},
-                {0.00000127465, 5.54018220786, 138.76131435421},
-                {0.00000120647, 5.46876561078, 18.40306474821},
-                {0.00000121784, 5.29001670826, 145.87486135500},
-                {0.00000078251, 3.48103273393, 224.58861318540},
-                {0.00000084577, 0.33560464127, 2.93757625420},
-                {0.00000050491, 2.35623662812, 131.64776735340},
-                {0.00000045951, 6.24540196810, 151.29148732640},
-                {0.00000046649, 0.55435911040, 56.86616878610},
-                {0.00000048261, 2.93721017694, 22.33521801130},
-                {0.00000034791, 1.00162978861, 93.18466331550},
-                {0.00000029328, 1.75294089893, 220.65645992230},
-                {0.00000030594, 5.68097375758, 160.85271488200},
-                {0.00000025988, 1.11718356254, 153.73916788121},
-                {0.00000020587, 3.04578219289, 206.42936592071},
-                {0.00000018718, 3.43630968031, 82.13896305161},
-                {0.00000018634, 4.35949046286, 67.91186905000},
-                {0.00000016697, 2.01487108353, 87.55558902300},
-                {0.00000020883, 0.13997936753, 84.58664360640},
-                {0.00000020072, 1.42313946401, 65.46418849521},
-                {0.00000015729, 5.83349115204, 522.82123557730},
-                {0.00000015573, 4.75214345059, 537.04832957890},
-                {0.00000019429, 4.90609476184, 127.71561409031},
-                {0.00000014513, 1.55811447849, 52.44638055600},
-                {0.00000014273, 3.15874513195, 52.93401552300},
-                {0.00000017225, 1.23506274281, 146.62562088040},
-                {0.00000014135, 2.83531205367, 77.99436146740},
-                {0.00000013035, 1.86446595495, 72.05647063421},
-                {0.00000014349, 5.92118700781, 148.32254190981},
-                {0.00000009002, 4.74037798245, 97.11681657861},
-                {0.00000008798, 4.52661827695, 56.37853381910},
-                {0.00000008208, 5.82435206434, 62.49524307860},
-                {0.00000007603, 1.13885911665, 152.98840835580},
-                {0.00000007140, 6.25024559600, 194.89603068979},
-                {0.00000006892, 1.11490592145, 80.65449034331},
-                {0.00000006892, 0.42290386096, 69.39634175830},
-                {0.00000006511, 3.55251442874, 45.33283355520},
-                {0.00000006477, 5.17331047084, 209.12312469139},
-                {0.00000005804, 3.28871244212, 70.60562782070},
-                {0.00000005326, 2.66683839862, 127.22797912329},
-                {0.00000005029, 4.10585397027, 149.31937965110},
-                {0.00000005009, 5.03201863198, 297.98880490840},
-                {0.00000005452, 1.62029053066, 72.57773549600},
-                {0.00000006294, 6.09382218854, 10.80188278040},
-                {0.00000005251, 3.00689879881, 77.47309660560},
-                {0.00000004684, 3.18410902200, 202.49721265760},
-                {0.00000004291, 2.72886332432, 134.34152612410},
-                {0.00000005421, 4.86504346481, 120.11443212250},
-                {0.00000004058, 3.84771327094, 312.21589891000},
-                {0.00000003926, 0.20635932899, 59.55992755679},
-                {0.00000004419, 0.79082946257, 69.60879007940},
-                {0.00000004250, 3.81801389997, 80.44204202221},
-                {0.00000004556, 1.09930492481, 29.44876501211},
-                {0.00000003592, 3.12402973242, 199.31581891990},
-                {0.00000003523, 3.84292492170, 636.20895053440},
-                {0.00000003428, 4.80416729358, 621.98185653281},
-                {0.00000003942, 3.83644807496, 3.21276290011},
-                {0.00000003620, 3.64168879156, 3.42521122121},
-                {0.00000003227, 2.36250033807, 3.68833577960},
-                {0.00000003564, 2.97403981009, 70.35954960481},
-                {0.00000003564, 1.70536262591, 79.69128249680},
-                {0.00000003552, 0.48986762414, 426.84200835950},
-                {0.00000003245, 4.05425635175, 611.82992814620},
-                {0.00000003090, 2.27444674300, 486.15811843280},
-                {0.00000003149, 3.23221666282, 471.93102443120},
-                {0.00000002864, 4.40034684781, 272.85902299479},
-                {0.00000003756, 0.28897263531, 258.63192899320},
-                {0.00000002808, 6.27609619511, 647.25465079831},
-                {0.00000002640, 2.22066140796, 288.32451148881},
-                {0.00000002544, 0.39091843469, 76.02225379210},
-                {0.00000002670, 2.78782481368, 375.95179721340},
-                {0.00000002998, 0.71551145066, 76.72233708021},
-                {0.00000002998, 3.96389098534, 73.32849502140},
-                {0.00000003125, 1.93972182076, 408.68276109481},
-                {0.00000002330, 0.87729499827, 433.95555536030},
-                {0.00000002645, 0.46205095531, 120.60206708950},
-                {0.00000002219, 3.00549424798, 390.92965074040},
-                {0.00000002517, 1.04902375688, 213.54291292150},
-                {0.00000002074, 3.43164566806, 63.49208081989},
-                {0.00000001894, 1.69172880285, 213.05527795450},
-                {0.00000001849, 2.61330239059, 134.82916109110},
-                {0.00000001838, 5.57764928554, 73.05330837550},
-                {0.00000002214, 0.39891007096, 1.72829019180},
-                {0.00000001644, 4.66534694390, 384.30373870660},
-                {0.00000001644, 4.66534694390, 383.81610373959},
-                {0.00000001553, 5.52374457077, 462.26673101160},
-                {0.00000001553, 2.38215191718, 461.77909604459},
-                {0.00000001419, 5.77169479025, 422.90985509640},
-                {0.00000001419, 2.63010213666, 422.42222012939},
-                {0.00000001411, 4.93713727855, 9.80504503910},
-                {0.00000001443, 5.13235693386, 195.38366565681},
-                {0.00000001402, 4.46431718602, 984.84414910540},
-                {0.00000001402, 4.46431718602, 984.35651413839},
-        };
-    }
-
-    private static void initialize_1_4()
-    {
-        classCoeff[0][4] = new double[][]{
-                {0.00002203535, 3.78800316770, 75.02541605080},
-                {0.00000128370, 4.00299274369, 0.24381748350},
-                {0.00000072353, 5.87048427972, 149.80701461810},
-                {0.00000030194, 0.37339777366, 63.97971578690},
-                {0.00000030655, 1.07320659320, 86.07111631471},
-                {0.00000016471, 3.60870796009, 18.40306474821},
-                {0.00000016067, 2.53660745454, 76.50988875911},
-                {0.00000016064, 1.88841261109, 73.54094334250},
-                {0.00000010244, 3.15336566765, 74.53778108379},
-                {0.00000006697, 4.11208833064, 131.64776735340},
-                {0.00000007164, 3.44355611982, 1.72829019180},
-                {0.00000006834, 2.38206416682, 56.86616878610},
-                {0.00000004835, 5.58205045904, 11.28951774740},
-                {0.00000005294, 5.39389664747, 93.18466331550},
-                {0.00000003031, 0.09710279040, 71.09326278771},
-                {0.00000002817, 4.57947190523, 78.95756931390},
-                {0.00000002343, 0.07235611013, 220.65645992230},
-                {0.00000002389, 0.73257610170, 283.90472325870},
-                {0.00000002294, 3.03614566251, 365.65685647490},
-                {0.00000002237, 4.80048540778, 206.42936592071},
-                {0.00000001842, 5.42341768633, 138.76131435421},
-                {0.00000002009, 2.15212981432, 224.58861318540},
-                {0.00000001813, 0.96578276317, 148.32254190981},
-        };
-    }
-
-    private static void initialize_1_5()
-    {
-        classCoeff[0][5] = new double[][]{
-                {0.00000016766, 3.88666258140, 75.02541605080},
-                {0.00000001843, 6.11677355708, 0.24381748350},
-        };
-    }
-
-    private static void initialize_2_0()
-    {
-        classCoeff[1][0] = new double[][]{
-                {19.16944479396, 3.91049731307, 75.02541605080},
-                {1.33267708718, 4.59010345878, 0.24381748350},
-                {0.44396480992, 0.08885999374, 149.80701461810},
-                {0.14712072726, 1.85369914992, 73.54094334250},
-                {0.14127113794, 2.82489686708, 76.50988875911},
-                {0.06225592204, 3.56962085379, 1.72829019180},
-                {0.01542809804, 2.55041372379, 224.58861318540},
-                {0.01443286598, 1.08021023229, 148.32254190981},
-                {0.00941982751, 0.09031933919, 11.28951774740},
-                {0.00657433967, 5.28832386804, 151.29148732640},
-                {0.00637676334, 2.64460991486, 63.97971578690},
-                {0.00621475723, 1.48799213488, 77.99436146740},
-                {0.00563553759, 3.23634730851, 72.05647063421},
-                {0.00547585874, 2.06043009525, 86.07111631471},
-                {0.00433273658, 0.94921595274, 74.53778108379},
-                {0.00458904544, 2.33727121263, 3.21276290011},
-                {0.00496011875, 5.31196024834, 529.93478257810},
-                {0.00385773622, 4.61855610406, 138.76131435421},
-                {0.00268150781, 5.68104913033, 213.54291292150},
-                {0.00215803817, 3.73799390950, 38.37685312130},
-                {0.00144768728, 0.74847059103, 71.09326278771},
-                {0.00135315426, 3.93976545519, 78.95756931390},
-                {0.00119632236, 2.53058847664, 39.86132582961},
-                {0.00124987110, 0.94345807180, 111.67397898031},
-                {0.00111232552, 3.55168186769, 223.10414047710},
-                {0.00104563861, 2.33402510023, 146.83806920150},
-                {0.00109354782, 6.02395126243, 34.92027273770},
-                {0.00063579167, 5.01205049565, 299.37021175271},
-                {0.00076241847, 4.10733816861, 63.49208081989},
-                {0.00053591167, 2.36965802300, 4.17597074660},
-                {0.00064420500, 2.15769822929, 110.18950627200},
-                {0.00044566570, 2.03132488718, 73.05330837550},
-                {0.00039200127, 1.11801397388, 4.69723560840},
-                {0.00033660673, 0.94726438208, 65.46418849521},
-                {0.00034338030, 1.46699099857, 226.07308589371},
-                {0.00034546984, 0.27616739379, 79.47883417571},
-                {0.00037552003, 5.71118714669, 202.00957769060},
-                {0.00029546886, 4.42962464119, 70.57199792590},
-                {0.00025683031, 3.73653421618, 9.80504503910},
-                {0.00023447563, 2.52695137802, 145.87486135500},
-                {0.00022948537, 3.94425470497, 84.58664360640},
-                {0.00031820127, 3.96864561052, 152.77596003471},
-                {0.00022832266, 3.86462602619, 127.22797912329},
-                {0.00028378722, 4.44710211392, 184.97110483931},
-                {0.00026655018, 4.53946351355, 160.85271488200},
-                {0.00019671485, 3.96350915722, 74.91354146621},
-                {0.00019648859, 0.71579539008, 75.13729063540},
-                {0.00019896586, 5.28901013119, 12.77399045571},
-                {0.00024486297, 3.56492038672, 1.24065522479},
-                {0.00016842912, 2.04990902220, 52.44638055600},
-                {0.00022087252, 6.16990066193, 71.56883566720},
-                {0.00020068191, 2.90302034853, 22.33521801130},
-                {0.00019913902, 6.11096260597, 113.15845168861},
-                {0.00018351147, 0.98731771489, 33.43580002939},
-                {0.00016887001, 4.92522785944, 36.89238041300},
-                {0.00015173078, 1.31324926487, 41.34579853790},
-                {0.00011242410, 4.54512860104, 71.84402231310},
-                {0.00013948685, 4.70470503634, 221.61966776881},
-                {0.00010809036, 0.12879555337, 78.20680978850},
-                {0.00013591810, 0.98320955083, 87.55558902300},
-                {0.00011997310, 5.66121692499, 1059.62574767270},
-                {0.00012401284, 4.64879549493, 72.57773549600},
-                {0.00011534891, 0.20176113714, 77.47309660560},
-                {0.00009194297, 3.56604916160, 145.35359649321},
-                {0.00008737279, 3.39876002185, 186.45557754760},
-                {0.00009136217, 1.79342336217, 127.71561409031},
-                {0.00009219832, 0.08407294164, 108.21739859670},
-                {0.00007422726, 3.38880260286, 108.70503356371},
-                {0.00007094598, 6.01618568387, 297.88573904440},
-                {0.00006261877, 0.14282449694, 153.73916788121},
-                {0.00007490650, 4.82606551806, 426.84200835950},
-                {0.00007827357, 1.11765019484, 340.52707456129},
-                {0.00006073898, 3.36888016003, 149.31937965110},
-                {0.00005510674, 1.73980185942, 140.24578706250},
-                {0.00006397195, 3.71974404814, 62.49524307860},
-                {0.00005370666, 2.55420803164, 75.54668091261},
-                {0.00005352595, 2.12177919322, 74.50415118900},
-                {0.00004493418, 5.82649121556, 66.94866120350},
-                {0.00004261392, 5.53250398932, 265.74547599400},
-                {0.00005026106, 3.11745853421, 18.40306474821},
-                {0.00004641163, 4.97358578602, 36.40474544600},
-                {0.00004448201, 5.69436641871, 183.48663213100},
-                {0.00003781540, 2.58174473007, 10.80188278040},
-                {0.00004750672, 3.38680531662, 74.06220820430},
-                {0.00004350588, 1.16130513588, 70.08436295889},
-                {0.00004446999, 5.00656772452, 114.64292439690},
-                {0.00003313232, 5.23356115546, 83.10217089810},
-                {0.00004512500, 1.31375599245, 75.98862389731},
-                {0.00003556191, 6.18886493840, 6.18170831670},
-                {0.00003266875, 5.23064845262, 220.65645992230},
-                {0.00003059638, 6.23776415109, 52.93401552300},
-                {0.00003576768, 5.83381085162, 137.27684164590},
-                {0.00002881563, 1.19047690440, 374.15181032000},
-                {0.00003196605, 6.12668597740, 76.02225379210},
-                {0.00002944255, 3.52709483180, 7.35736448430},
-                {0.00003729115, 0.25277739547, 144.86596152620},
-                {0.00002521158, 0.28068609662, 202.49721265760},
-                {0.00002595960, 4.93669910815, 97.11681657861},
-                {0.00002560051, 2.87170410480, 80.44204202221},
-                {0.00002653876, 1.61857820268, 305.10235190919},
-                {0.00002508094, 2.21376907090, 31.95132732110},
-                {0.00001961925, 4.80626439560, 20.85074530300},
-                {0.00002229736, 5.34787936891, 80.96330688400},
-                {0.00002202407, 0.49391085353, 2.93757625420},
-                {0.00001935845, 0.49503923254, 75.07360016060},
-                {0.00001935843, 4.18436372115, 74.97723194101},
-                {0.00002138399, 2.63817800787, 74.76478361991},
-                {0.00002128668, 2.04117900040, 75.28604848170},
-                {0.00002214188, 0.61512393401, 259.75270340660},
-                {0.00001890291, 3.92857018200, 300.85468446100},
-                {0.00002249087, 4.91851562646, 138.27367938720},
-                {0.00001926813, 6.00497183129, 159.36824217371},
-                {0.00001799526, 4.16205107006, 74.86535735640},
-                {0.00001794407, 0.51735541616, 75.18547474520},
-                {0.00001908592, 5.63004607587, 69.08752521760},
-                {0.00002175205, 1.57021660383, 131.64776735340},
-                {0.00001898923, 2.65284957017, 206.42936592071},
-                {0.00001654495, 2.32498724537, 277.27881122490},
-                {0.00001785247, 5.91797544176, 56.86616878610},
-                {0.00001617939, 0.41918980719, 2.69149803831},
-                {0.00001860708, 0.10451537367, 42.83027124621},
-                {0.00002180164, 2.80636515730, 479.04457143200},
-                {0.00001576477, 3.66272707282, 190.96387742670},
-                {0.00001904361, 4.26492017662, 15.22167101050},
-                {0.00002054711, 5.17344254449, 834.79331700380},
-                {0.00001834581, 1.34736149542, 106.73292588839},
-                {0.00001890085, 2.75024642804, 154.26043274300},
-                {0.00001795901, 0.16314353880, 227.55755860200},
-                {0.00001670623, 5.91846317829, 220.13519506050},
-                {0.00001347353, 3.89460250777, 288.32451148881},
-                {0.00001425992, 5.10014924331, 93.18466331550},
-                {0.00001265397, 0.92611311536, 404.26297286470},
-                {0.00001581901, 4.15166691641, 39.60069339870},
-                {0.00001269733, 1.09468107953, 142.69346761730},
-                {0.00001653676, 0.42042255686, 181.51452445570},
-                {0.00001437856, 5.44092263677, 522.82123557730},
-                {0.00001407281, 2.04674828978, 537.04832957890},
-                {0.00001359462, 5.38881787204, 62.00760811160},
-                {0.00001417609, 0.72618172617, 235.63431344930},
-                {0.00001122290, 4.85351571060, 60.04756252381},
-                {0.00001037982, 1.19097992567, 5.66044345490},
-                {0.00001164766, 0.51146987374, 82.13896305161},
-                {0.00001009353, 0.45307981900, 74.27465652540},
-                {0.00001216357, 1.84744066187, 212.05844021321},
-                {0.00000996588, 4.22632308814, 75.77617557621},
-                {0.00000983856, 6.27680570981, 129.20008679860},
-                {0.00001223267, 2.27299989031, 187.94005025590},
-                {0.00001335581, 3.74795268087, 379.88395047650},
-                {0.00001203897, 4.02952218586, 67.91186905000},
-                {0.00001146840, 0.85085247156, 296.40126633610},
-                {0.00001000425, 4.82141247296, 8.32057233081},
-                {0.00001191037, 4.01680230124, 50.64639366260},
-                {0.00001128718, 5.51338814083, 230.32075334190},
-                {0.00000930244, 5.33330412293, 276.79117625789},
-                {0.00000857081, 4.49010094287, 68.43313391180},
-                {0.00000912408, 0.12283731726, 149.69514003350},
-                {0.00001170925, 0.45779532770, 110.45013870291},
-                {0.00000857595, 6.21726257263, 90.00326957780},
-                {0.00000989091, 1.04565979808, 35.66854013560},
-                {0.00001054223, 3.96633755369, 14.25846316400},
-                {0.00000959939, 4.47203405039, 147.83490694279},
-                {0.00000957455, 6.25324374775, 64.97655352819},
-                {0.00000909789, 3.15839894712, 149.91888920271},
-                {0.00000943313, 0.06263523023, 53.93085326429},
-                {0.00000891565, 4.59544376260, 107.22056085540},
-                {0.00000775480, 3.57147759051, 70.60562782070},
-                {0.00000861039, 4.78256260255, 143.86912378490},
-                {0.00000851667, 0.50386900265, 134.82916109110},
-                {0.00000842290, 4.31374571284, 3.68833577960},
-                {0.00000893222, 1.81802815173, 23.81969071961},
-                {0.00000790626, 2.40048938853, 7.83293736379},
-                {0.00000683506, 0.23627850921, 81.61769818981},
-                {0.00000789879, 3.10451486371, 35.40790770471},
-                {0.00000669882, 3.13601045204, 50.96190784770},
-                {0.00000853775, 0.49301638444, 200.52510498229},
-                {0.00000698863, 4.93731616945, 125.74350641500},
-                {0.00000814817, 1.52199016837, 143.38148881789},
-                {0.00000862909, 3.46019641204, 162.33718759030},
-                {0.00000845548, 1.49366305890, 203.49405039889},
-                {0.00000797191, 0.65007259191, 99.40443843901},
-                {0.00000766426, 0.89351379369, 68.80564092731},
-                {0.00000609673, 0.23918047727, 24.13520490470},
-                {0.00000654550, 5.45801088086, 109.70187130500},
-                {0.00000783834, 0.58870097840, 218.16308738520},
-                {0.00000744901, 2.79731067673, 760.01171843649},
-                {0.00000643611, 5.98397644447, 89.04006173130},
-                {0.00000525538, 1.48456394611, 128.71245183160},
-                {0.00000703451, 3.78477189218, 81.24519117430},
-                {0.00000590282, 1.77381181137, 69.60879007940},
-                {0.00000528305, 0.71004370185, 146.62562088040},
-                {0.00000621414, 2.39650007607, 68.59989025060},
-                {0.00000677104, 0.95388610928, 56.37853381910},
-                {0.00000697582, 4.50208217501, 617.56206830270},
-                {0.00000597125, 0.63573583143, 182.00215942271},
-                {0.00000689780, 2.46027600250, 2.72512793310},
-                {0.00000578345, 0.91036470086, 28.81562556571},
-                {0.00000587454, 2.33732577632, 152.25469517290},
-                {0.00000670562, 4.63198986719, 5.97595764000},
-                {0.00000596736, 1.80927442800, 116.18227885939},
-                {0.00000480108, 5.71326814363, 415.30867312860},
-                {0.00000505417, 0.96244787568, 157.88376946540},
-                {0.00000551335, 5.85642311971, 261.23717611490},
-                {0.00000584839, 4.61840602682, 258.26823069831},
-                {0.00000571647, 2.69246515899, 194.89603068979},
-                {0.00000473414, 2.89922727404, 134.34152612410},
-                {0.00000551129, 0.91615593626, 59.55992755679},
-                {0.00000518895, 0.73540791389, 352.06040979221},
-                {0.00000444205, 5.32877320177, 329.48137429739},
-                {0.00000531507, 4.45049996181, 54.41848823131},
-                {0.00000449312, 2.60522543313, 542.78046973539},
-                {0.00000486453, 5.04367743163, 73.65281792710},
-                {0.00000437062, 6.01172304160, 1589.31671276730},
-                {0.00000488485, 3.97669319472, 9.31741007210},
-                {0.00000431252, 6.26915854927, 41.40068029210},
-                {0.00000435419, 2.19426156558, 372.66733761171},
-                {0.00000484495, 5.60519908806, 209.12312469139},
-                {0.00000418899, 0.40333301614, 95.63234387030},
-                {0.00000514102, 3.83741418050, 116.12739710521},
-                {0.00000388869, 4.39552544690, 152.98840835580},
-                {0.00000361158, 0.85200523076, 120.11443212250},
-                {0.00000371870, 4.10914188330, 144.39038864671},
-                {0.00000339152, 5.35894945718, 46.45360796860},
-                {0.00000373018, 1.90146663534, 73.42906875790},
-                {0.00000382930, 3.64215083700, 114.38229196601},
-                {0.00000426834, 0.89896226407, 141.73025977080},
-                {0.00000396238, 0.74278278155, 98.91680347199},
-                {0.00000396936, 1.69553808184, 180.03005174739},
-                {0.00000318113, 4.93841214947, 33.38091827520},
-                {0.00000325989, 2.61881558482, 228.52076644850},
-                {0.00000435822, 3.74482431590, 37.88921815429},
-                {0.00000392309, 3.12268597468, 155.53915477459},
-                {0.00000353063, 4.66591593809, 215.02738562980},
-                {0.00000410664, 2.63874768833, 490.57790666290},
-                {0.00000325464, 4.97938687953, 7.66618102501},
-                {0.00000299890, 5.32358213894, 45.33283355520},
-                {0.00000319736, 3.43237988274, 30.46685461280},
-                {0.00000278968, 3.94608550399, 6.34846465550},
-                {0.00000312880, 1.42604949071, 419.72846135871},
-                {0.00000386565, 0.75656271428, 254.81165031470},
-                {0.00000311788, 0.80567112359, 147.35933406330},
-                {0.00000300229, 5.03792883993, 0.71939036300},
-                {0.00000337396, 3.60674120968, 150.77022246460},
-                {0.00000253789, 6.19652620996, 19.36627259471},
-                {0.00000308097, 4.06400002760, 640.14110379750},
-                {0.00000252403, 5.01154326423, 150.32827947990},
-                {0.00000238679, 0.99851487185, 553.82616999929},
-                {0.00000266427, 2.58806015071, 105.24845318010},
-                {0.00000278375, 5.88688068426, 29.44876501211},
-                {0.00000306043, 0.18265767681, 6283.31966747490},
-                {0.00000265739, 1.06481607166, 28.06735816780},
-                {0.00000280569, 2.87788043615, 126.23114138200},
-                {0.00000300771, 0.42899364062, 984.84414910540},
-                {0.00000229063, 4.33041573821, 33.92343499640},
-                {0.00000226799, 3.78600389427, 121.23520653590},
-                {0.00000238148, 5.87500222549, 2.20386307129},
-                {0.00000198420, 3.19038901730, 69.91760662011},
-                {0.00000220174, 5.18139057822, 44.31474395451},
-                {0.00000220857, 3.44201572334, 47.93808067690},
-                {0.00000211834, 3.34235859210, 0.76508234530},
-                {0.00000257979, 0.30426624589, 1289.70268353110},
-                {0.00000240510, 6.20484819466, 756.07956517339},
-                {0.00000213870, 1.08601616914, 316.63568714010},
-                {0.00000231462, 2.77988039912, 46.71424039951},
-                {0.00000232197, 2.17648415571, 339.04260185300},
-                {0.00000214419, 1.18021908307, 189.42452296421},
-                {0.00000219049, 5.43837709719, 213.05527795450},
-                {0.00000241635, 3.54595332721, 102.84895673509},
-                {0.00000198526, 5.03106436317, 61.01077037031},
-                {0.00000237145, 3.14541452090, 342.01154726960},
-                {0.00000173496, 6.02474649172, 116.66991382640},
-                {0.00000194828, 0.84925657122, 218.65072235220},
-                {0.00000175785, 1.53473275730, 57.49930823250},
-                {0.00000167277, 5.61665487201, 30.30009827400},
-                {0.00000173400, 4.28804409833, 681.29796660610},
-                {0.00000214483, 0.91051981390, 135.79236893760},
-                {0.00000205110, 1.86858550999, 216.67861467689},
-                {0.00000168458, 1.51585792778, 80.13322548150},
-                {0.00000164308, 0.70973234637, 467.99887116810},
-                {0.00000203489, 5.82937379550, 148.84380677161},
-                {0.00000177178, 5.36314195972, 103.59722413300},
-                {0.00000165274, 5.36941056367, 155.22364058950},
-                {0.00000185802, 3.99560320824, 74.13164417351},
-                {0.00000185802, 0.68379922776, 75.91918792810},
-                {0.00000187376, 4.62809176973, 149.28574975631},
-                {0.00000153285, 3.45417848657, 17.28229033479},
-                {0.00000161572, 0.32247161825, 264.26100328570},
-                {0.00000185820, 5.76008718824, 76.39801417450},
-                {0.00000181668, 3.10973418373, 455.15318401080},
-                {0.00000175514, 4.41099766534, 333.41352756050},
-                {0.00000157908, 4.13654987265, 82.44777959230},
-                {0.00000169475, 5.91337395999, 454.66554904380},
-                {0.00000196145, 0.92388864115, 291.46021324420},
-                {0.00000177970, 0.39528529238, 685.23011986920},
-                {0.00000137738, 3.65235776206, 448.93340888730},
-                {0.00000152620, 2.03319901912, 234.14984074100},
-                {0.00000137407, 0.49611049910, 16.91859203990},
-                {0.00000150365, 4.65428057213, 294.91679362781},
-                {0.00000131039, 2.42507712732, 156.39929675710},
-                {0.00000180038, 2.01273291483, 103.33659170210},
-                {0.00000129725, 4.56525647923, 76.72233708021},
-                {0.00000142122, 5.78256645364, 224.10097821840},
-                {0.00000128982, 4.86634473406, 130.68455950690},
-                {0.00000146399, 3.06416499534, 334.53430197390},
-                {0.00000177104, 1.60811125139, 10213.52936369450},
-                {0.00000129816, 3.14582203581, 92.55152386910},
-                {0.00000171451, 3.01469327848, 156.02678974161},
-                {0.00000155457, 1.02026020385, 347.64062156210},
-                {0.00000134222, 0.55759952973, 67.60305250931},
-                {0.00000167287, 0.73206039815, 80.75755620730},
-                {0.00000126618, 2.97362091056, 55.90296093960},
-                {0.00000127892, 5.91651149188, 61.69209392650},
-                {0.00000146027, 4.63620735731, 174.18603700630},
-                {0.00000143517, 4.72419244572, 23.87457247379},
-                {0.00000139674, 4.51014304795, 286.84003878050},
-                {0.00000114667, 5.20627341431, 13.08950464080},
-                {0.00000114401, 2.63083933234, 692.34366686999},
-                {0.00000139103, 5.06218842316, 120.60206708950},
-                {0.00000124306, 4.39000727764, 111.18634401329},
-                {0.00000121491, 4.89143182138, 79.69128249680},
-                {0.00000106720, 5.03982163712, 67.16110952460},
-                {0.00000124445, 2.77221022491, 141.89701610960},
-                {0.00000150445, 4.77055522751, 77.50672650040},
-                {0.00000128748, 3.45272600965, 254.69977573010},
-                {0.00000135145, 1.15443620224, 171.89841514590},
-                {0.00000125741, 3.85934191891, 98.60128928690},
-                {0.00000106860, 0.10501468915, 375.63628302830},
-                {0.00000128791, 1.53820122080, 155.74490545130},
-                {0.00000104092, 0.09658958912, 54.57854692570},
-                {0.00000142443, 4.61127299852, 203.98168536590},
-                {0.00000109153, 1.74773683236, 1.20702533000},
-                {0.00000111788, 4.78068421543, 272.85902299479},
-                {0.00000125849, 2.31032327443, 182.99899716400},
-                {0.00000128119, 5.96640498766, 256.78375799000},
-                {0.00000101034, 0.35709921098, 363.10611005610},
-                {0.00000104496, 1.27067787791, 131.16013238639},
-                {0.00000135112, 4.32885525625, 629.09540353360},
-                {0.00000096070, 2.53083839499, 258.63192899320},
-                {0.00000102131, 5.03860775630, 88.35873817511},
-                {0.00000101524, 1.01685797883, 51.44954281471},
-                {0.00000114745, 3.99231633115, 633.02755679670},
-                {0.00000105009, 5.80120897394, 105.73608814710},
-                {0.00000106158, 2.64028517894, 302.33915716930},
-                {0.00000114559, 1.22538898026, 604.71638114540},
-                {0.00000097687, 1.51458558660, 77.03115362090},
-                {0.00000092981, 1.80318597364, 94.14787116200},
-                {0.00000092956, 1.47669166228, 43.53284666180},
-                {0.00000099120, 5.09958883998, 149.54638218720},
-                {0.00000116555, 5.44320124755, 85.58348134769},
-                {0.00000089934, 2.95642515081, 149.85519872791},
-                {0.00000089708, 3.13236064850, 217.47506618460},
-                {0.00000111015, 2.04689231490, 253.32717760639},
-                {0.00000092676, 2.85459016512, 267.22994870229},
-                {0.00000111165, 2.03014798464, 19.88753745650},
-                {0.00000089583, 1.04552994794, 295.43805848960},
-                {0.00000089934, 0.36256511993, 149.75883050830},
-                {0.00000089829, 1.60334868993, 529.44714761109},
-                {0.00000104822, 4.71885222665, 433.95555536030},
-                {0.00000097705, 4.61026387361, 1052.51220067191},
-                {0.00000107796, 5.92808397447, 100.62827871640},
-                {0.00000087921, 4.32670648553, 74.39227660440},
-                {0.00000087921, 0.35269595047, 75.65855549721},
-                {0.00000086241, 4.53063306110, 76.66994745350},
-                {0.00000115960, 4.20154334971, 1214.92108496379},
-                {0.00000112324, 5.22657318772, 229.04203131030},
-                {0.00000092049, 1.25111090139, 6.86972951729},
-                {0.00000106860, 1.56893886591, 81.92651473050},
-                {0.00000082022, 5.83269737454, 82.88972257700},
-                {0.00000083480, 2.97873123693, 149.96707331250},
-                {0.00000081598, 0.00771145613, 146.35043423450},
-                {0.00000091518, 2.26786409002, 150.80385235940},
-                {0.00000078950, 5.23329492514, 4.86399194720},
-                {0.00000107950, 4.72998464814, 1162.71852189130},
-                {0.00000080076, 0.46711196257, 73.38088464811},
-                {0.00000093643, 0.84579418099, 99.14380600810},
-                {0.00000099120, 4.50258673794, 150.06764704901},
-                {0.00000082453, 5.81189856956, 7.14491616321},
-                {0.00000076677, 5.83936897150, 73.80157577341},
-                {0.00000075891, 6.10092456248, 219.17198721400},
-                {0.00000074887, 5.67794366791, 6.83609962250},
-                {0.00000102486, 3.12247878711, 210.57396750490},
-                {0.00000100859, 2.53732811231, 219.64756009350},
-                {0.00000083480, 0.34025903382, 149.64695592370},
-                {0.00000083970, 3.28551184950, 371.18286490340},
-                {0.00000077201, 0.02474873694, 26.26737127440},
-                {0.00000073643, 4.58220709295, 95.47228517591},
-                {0.00000102191, 1.09075434358, 328.10877617370},
-                {0.00000080117, 5.98791220974, 142.38465107660},
-                {0.00000080972, 3.62371604241, 67.11541754230},
-                {0.00000071543, 4.72957453846, 189.47940471839},
-                {0.00000082381, 4.20534144511, 58.35064149440},
-                {0.00000090613, 1.46760950491, 17.02165790390},
-                {0.00000082892, 1.64329175266, 175.40987728371},
-                {0.00000069078, 5.39603237759, 119.75073382760},
-                {0.00000077925, 4.56151662815, 191.45151239371},
-                {0.00000078846, 4.72561034763, 262.72164882321},
-                {0.00000087497, 1.63219490623, 894.59706204410},
-                {0.00000070199, 5.98105339890, 819.81546347680},
-                {0.00000068577, 4.99804003301, 15.79781762650},
-                {0.00000076274, 1.85161362500, 180.51768671441},
-                {0.00000067854, 2.38798386084, 606.51636803880},
-                {0.00000077388, 3.19411072289, 310.41591201661},
-                {0.00000065829, 4.32001805221, 75.82856520290},
-                {0.00000065829, 0.35938438379, 74.22226689870},
-                {0.00000078426, 3.84145278450, 50.90702609350},
-                {0.00000071406, 1.51626708317, 12.28635548869},
-                {0.00000077423, 6.17877210501, 70.29011363560},
-                {0.00000069368, 2.39711158006, 1066.73929467350},
-                {0.00000080391, 3.12585627922, 16.70614371880},
-                {0.00000085613, 3.02934752525, 173.92540457540},
-                {0.00000072675, 2.57315009777, 44.48150029329},
-                {0.00000084563, 5.09853843122, 55.41532597260},
-                {0.00000062255, 5.03095032865, 209.61075965840},
-                {0.00000084357, 5.06410076104, 331.56535655731},
-                {0.00000070498, 2.80103845095, 76.62176334371},
-                {0.00000079016, 3.86114745433, 477.56009872370},
-                {0.00000082673, 4.81351709872, 480.52904414029},
-                {0.00000082513, 1.59855523562, 192.44835013500},
-                {0.00000080452, 0.84754362206, 333.04982926560},
-                {0.00000058904, 5.18941699981, 24.62283987170},
-                {0.00000072407, 4.52650506832, 909.57491557110},
-                {0.00000076612, 2.62396349451, 82.72966388260},
-                {0.00000075510, 2.06744522079, 67.32116821901},
-                {0.00000075555, 2.66744846800, 15.74293587230},
-                {0.00000070086, 1.28356301862, 167.96626188280},
-                {0.00000077989, 1.70294491984, 70.35954960481},
-                {0.00000066531, 2.86989915171, 61.53203523210},
-                {0.00000064336, 2.95658893043, 178.54557903910},
-                {0.00000056673, 3.19941121229, 106.51798543980},
-                {0.00000077640, 1.49248929330, 71.40207932840},
-                {0.00000062431, 3.15117993734, 25.35904518210},
-                {0.00000066444, 6.24350199754, 125.42799222991},
-                {0.00000056738, 1.26277611682, 67.42423408300},
-                {0.00000055917, 2.89741852417, 949.41942645330},
-                {0.00000076032, 0.05943871300, 60.52313540329},
-                {0.00000059000, 1.97279336373, 402.77850015639},
-                {0.00000073138, 0.69242086169, 26.84351789039},
-                {0.00000054636, 6.18572230294, 72.10465474401},
-                {0.00000064610, 6.10083958494, 471.93102443120},
-                {0.00000053942, 6.14677939181, 117.66675156770},
-                {0.00000054371, 2.13625507265, 341.01470952831},
-                {0.00000054836, 4.43105022688, 3.42521122121},
-                {0.00000072732, 3.18629698674, 78.64875277320},
-                {0.00000069223, 4.43578262380, 8.10812400971},
-                {0.00000070778, 2.29608168481, 237.43430034270},
-                {0.00000053991, 3.01146704045, 149.05625509271},
-                {0.00000051866, 4.77686544357, 77.94617735760},
-                {0.00000060750, 4.76881715073, 79.76071846601},
-                {0.00000069434, 2.72131865841, 256.29612302300},
-                {0.00000052587, 4.28485895391, 830.86116374070},
-                {0.00000056127, 2.54058660944, 65.62424718960},
-                {0.00000053925, 0.48058717157, 13.73719830221},
-                {0.00000050216, 3.59581882696, 195.38366565681},
-                {0.00000057142, 0.50054596978, 31.89644556690},
-                {0.00000055249, 5.97289951260, 75.39792306630},
-                {0.00000055249, 4.98968823058, 74.65290903530},
-                {0.00000049301, 5.39744243512, 76.24925632820},
-                {0.00000060539, 2.19999973905, 289.97574053589},
-                {0.00000064921, 1.85315970147, 846.32665223470},
-                {0.00000059034, 2.15240427373, 27.33115285740},
-                {0.00000051079, 6.13730250517, 0.35569206810},
-                {0.00000051079, 3.28747545560, 0.13194289890},
-                {0.00000056906, 0.02764820630, 143.21473247911},
-                {0.00000051926, 3.14825419321, 185.23173727020},
-                {0.00000048626, 1.04414880109, 49.16192095430},
-                {0.00000051388, 4.38845040975, 42.88515300039},
-                {0.00000064661, 4.35150637725, 910.06255053810},
-                {0.00000048885, 0.71247161940, 91.70019060721},
-                {0.00000050130, 1.11056344933, 102.11275142471},
-                {0.00000047590, 2.58646137213, 224.47673860080},
-                {0.00000057461, 2.71055250906, 303.61787920090},
-                {0.00000050603, 0.01398135868, 35.18090516859},
-                {0.00000048745, 0.99720060201, 201.01273994931},
-                {0.00000058382, 2.71650750224, 486.15811843280},
-                {0.00000049531, 0.36947250466, 44.96913526031},
-                {0.00000054462, 5.91602724751, 237.11878615761},
-                {0.00000054466, 2.50120140695, 75.67980735660},
-                {0.00000054466, 2.17820102905, 74.37102474501},
-                {0.00000060438, 0.32621216428, 266.23311096100},
-                {0.00000048443, 5.57062182834, 178.11819026941},
-                {0.00000055698, 0.52867804605, 278.76328393321},
-                {0.00000044294, 3.52677749838, 57.75994066341},
-                {0.00000048861, 5.20847212940, 122.71967924421},
-                {0.00000046778, 2.82048605921, 14.47091148511},
-                {0.00000052405, 0.06300374474, 58.98378094080},
-                {0.00000047669, 2.13908929429, 84.42658491201},
-                {0.00000059409, 2.64417368509, 117.61186981350},
-                {0.00000042464, 0.34761416357, 150.55777414350},
-                {0.00000042527, 3.59846310307, 69.39634175830},
-                {0.00000044136, 2.47960023448, 554.31380496631},
-                {0.00000056899, 0.53819926759, 25.30416342790},
-                {0.00000053440, 6.17081078665, 275.30670354960},
-                {0.00000048371, 0.35760092436, 56.01483552421},
-                {0.00000051224, 5.62752727167, 1364.48428209840},
-                {0.00000044203, 4.50403311651, 70.83263035680},
-                {0.00000041205, 6.18207911178, 124.25903370670},
-                {0.00000041202, 4.39907320318, 49.47743513939},
-                {0.00000053218, 3.54700024950, 7.46043034830},
-                {0.00000039879, 4.96873405562, 48.51422729289},
-                {0.00000039626, 1.62185831078, 72.73779419041},
-                {0.00000042269, 3.27019607433, 232.66536803271},
-                {0.00000039724, 2.20111532844, 88.51879686950},
-                {0.00000054178, 1.25790703261, 364.75733910320},
-                {0.00000047398, 5.34395839525, 74.17408278890},
-                {0.00000047398, 5.61862934792, 75.87674931271},
-                {0.00000045255, 5.10853887295, 393.21727260080},
-                {0.00000041021, 0.17536932736, 79.21820174480},
-                {0.00000040961, 3.79678095557, 306.58682461749},
-                {0.00000048986, 2.66938282989, 198.07742442750},
-                {0.00000042523, 6.01169442061, 22.39009976550},
-                {0.00000037414, 4.21576362460, 397.14942586389},
-                {0.00000043272, 5.65327724529, 28.32799059869},
-                {0.00000047477, 5.62213666350, 224.70048777000},
-                {0.00000047665, 4.06141457601, 73.32849502140},
-                {0.00000040139, 2.45661194468, 164.78486814511},
-                {0.00000037770, 5.10261043077, 91.48774228611},
-                {0.00000037294, 3.45883659652, 275.79433851660},
-                {0.00000039829, 4.64468416590, 28.98238190449},
-                {0.00000042462, 3.17137527571, 25.61967761299},
-                {0.00000038602, 3.30935971278, 91.80325647120},
-                {0.00000049996, 2.95472165240, 52.13086637091},
-                {0.00000037120, 1.73214539662, 167.33312243640},
-                {0.00000035657, 3.04424405945, 77.31303791120},
-                {0.00000046968, 0.94955700094, 836.27778971210},
-                {0.00000036770, 4.66251230729, 123.78346082721},
-                {0.00000045438, 1.78673921122, 199.04063227400},
-                {0.00000048093, 4.63308338383, 3340.85624418330},
-                {0.00000034133, 3.71275939849, 154.91482404881},
-                {0.00000040987, 0.29444385242, 411.37651986550},
-                {0.00000037167, 4.49302606958, 227.03629374021},
-                {0.00000035365, 0.64363628623, 183.85033042589},
-                {0.00000034349, 5.93570230021, 58.56308981550},
-                {0.00000044963, 6.26050330647, 833.30884429549},
-                {0.00000033485, 0.14708707923, 227.77000692311},
-                {0.00000032838, 4.50312203340, 69.12115511239},
-                {0.00000037229, 3.78657903383, 103.76398047180},
-                {0.00000033396, 1.12817397300, 92.29089143820},
-                {0.00000043914, 6.11902443100, 293.43232091950},
-                {0.00000044941, 2.90130423263, 292.94468595250},
-                {0.00000037327, 4.64523467597, 0.55933166859},
-                {0.00000032513, 4.78887619836, 136.31363379940},
-                {0.00000034574, 4.74251495333, 35.92917256650},
-                {0.00000041936, 5.30204278018, 92.06388890210},
-                {0.00000033257, 5.78096695807, 248.96763557360},
-                {0.00000044206, 6.02803554950, 767.61290040431},
-                {0.00000033118, 1.30670048356, 284.39235822571},
-                {0.00000034173, 4.81499116474, 133.13224006171},
-                {0.00000035868, 1.58130371706, 179.91817716280},
-                {0.00000037508, 4.02104775804, 94.66913602380},
-                {0.00000041561, 2.19963487826, 163.82166029861},
-                {0.00000034188, 2.03038237166, 336.01877468221},
-                {0.00000033991, 5.50380136919, 32.43896228810},
-                {0.00000030436, 4.34224892820, 31.78457098230},
-                {0.00000034876, 3.13365595903, 215.19414196860},
-                {0.00000037259, 4.63049994218, 91.06705116081},
-                {0.00000030353, 4.80546717458, 32.48714639791},
-                {0.00000031931, 2.00592901309, 205.94173095370},
-                {0.00000030008, 4.07053097233, 745.03386490949},
-                {0.00000036558, 4.16073271737, 45.96597300160},
-                {0.00000029428, 5.60962138278, 270.16526422410},
-                {0.00000036881, 2.80082144083, 75.61611688180},
-                {0.00000036881, 1.87858099517, 74.43471521981},
-                {0.00000039559, 5.86593317582, 58.87190635621},
-                {0.00000038377, 2.52859641796, 39.37369086260},
-                {0.00000032329, 0.69441607084, 80.65449034331},
-                {0.00000040007, 1.71381436107, 1744.61205005840},
-                {0.00000029388, 5.29139433485, 530.89799042461},
-                {0.00000031193, 3.77336776305, 9.15065373330},
-                {0.00000034894, 3.35589064953, 143.58723949460},
-                {0.00000029512, 1.39390842622, 958.33296034749},
-                {0.00000029255, 0.84093803376, 415.79630809560},
-                {0.00000029888, 3.51518270201, 163.14033674240},
-                {0.00000032864, 4.32066515560, 94.03599657740},
-                {0.00000035403, 6.01521697408, 31.73638687251},
-                {0.00000036501, 5.48244229511, 142.90591593840},
-                {0.00000032416, 2.85592816552, 114.69780615110},
-                {0.00000028338, 2.18812129530, 528.97157473160},
-                {0.00000031160, 4.24879587681, 118.15438653471},
-                {0.00000034324, 4.04959387303, 57.38743364790},
-                {0.00000033749, 4.26748008527, 42.78208713641},
-                {0.00000034375, 2.35347296470, 326.62430346539},
-                {0.00000029984, 4.74520755489, 90.52453443961},
-                {0.00000035105, 5.45333895324, 230.80838830890},
-                {0.00000031999, 3.50027972951, 216.51185833811},
-                {0.00000030853, 0.71214846554, 8.84183719261},
-                {0.00000034254, 0.33401313814, 228.83628063359},
-                {0.00000027044, 1.46046017518, 27.96429230381},
-                {0.00000027412, 3.17327818880, 221.40721944771},
-                {0.00000026388, 3.20755787232, 45.82046852221},
-                {0.00000032494, 3.35654630791, 1033.11455891480},
-                {0.00000035994, 5.77252966919, 4.49148493169},
-                {0.00000029345, 0.67141990161, 123.29582586020},
-                {0.00000026034, 1.13088552844, 78.46993434690},
-                {0.00000026650, 3.32642891132, 151.50393564750},
-                {0.00000031030, 2.03320495111, 66.42739634171},
-                {0.00000028238, 0.60698223844, 222.61650551010},
-                {0.00000026518, 2.84813264424, 11.40139233200},
-                {0.00000026014, 4.66149750775, 447.44893617900},
-                {0.00000025836, 3.54055201502, 68.54500849640},
-                {0.00000024852, 4.13613291119, 42.99702758500},
-                {0.00000033654, 4.92280929068, 54.53036281590},
-                {0.00000024448, 2.54413564647, 269.67762925710},
-                {0.00000033190, 0.33337097209, 141.94270809190},
-                {0.00000024034, 0.04875875474, 327.99690158910},
-                {0.00000031856, 1.82932365564, 1140.13948639650},
-                {0.00000026275, 1.11499599456, 39.91620758380},
-                {0.00000025887, 2.86658178193, 2.04380437690},
-                {0.00000023665, 5.24877237951, 21.84758304429},
-                {0.00000025701, 4.05288243063, 73.91345035801},
-                {0.00000025701, 0.62652000537, 76.13738174360},
-                {0.00000024158, 1.81862092102, 4.20960064140},
-                {0.00000032085, 5.23560050501, 368.21391948681},
-                {0.00000025732, 0.51306284591, 3.37951923889},
-                {0.00000024270, 0.61765538541, 130.19692453990},
-                {0.00000023775, 5.95144171122, 969.37866061139},
-                {0.00000022911, 6.08737032038, 117.56368570370},
-                {0.00000027148, 6.08119809462, 11.17764316280},
-                {0.00000031420, 0.20608322775, 619.04654101100},
-                {0.00000030627, 5.09783147670, 91.17892574540},
-                {0.00000029507, 0.35894321075, 565.35950523021},
-                {0.00000025369, 2.77552012656, 81.13006322279},
-                {0.00000027172, 2.89332627598, 25.51661174900},
-                {0.00000026354, 0.09318660287, 204.97852310719},
-                {0.00000022571, 2.16687242605, 70.88081446661},
-                {0.00000022904, 1.13841839619, 81.50582360521},
-                {0.00000030825, 1.83861394951, 1439.75351563271},
-                {0.00000025426, 1.66774350963, 133.34468838281},
-                {0.00000027083, 4.09142271592, 105.08169684130},
-                {0.00000023195, 0.51761268593, 90.57941619379},
-                {0.00000022062, 0.12945216599, 189.16389053330},
-                {0.00000022242, 5.02281259808, 86.18299089930},
-                {0.00000023869, 1.09273091754, 413.82420042030},
-                {0.00000021820, 3.86588943870, 34.86539098351},
-                {0.00000029143, 5.55273035507, 616.07759559439},
-                {0.00000026632, 3.99150253140, 100.88891114730},
-                {0.00000023677, 3.63905075648, 541.29599702710},
-                {0.00000030371, 1.42781024655, 401.40590203270},
-                {0.00000023717, 3.96575925914, 45.79921666280},
-                {0.00000027663, 4.12303428511, 405.74744557300},
-                {0.00000024084, 2.70826498302, 170.41394243761},
-                {0.00000025601, 4.37491173191, 31.24875190549},
-                {0.00000022288, 0.79514165960, 108.16251684250},
-                {0.00000022857, 1.72644712161, 104.23036357940},
-                {0.00000028908, 3.07758978128, 329.59324888200},
-                {0.00000024430, 4.94090312535, 49.42255338521},
-                {0.00000023008, 2.06991447825, 217.16624964391},
-                {0.00000020835, 5.08228935258, 141.20899490900},
-                {0.00000022817, 5.18839806192, 145.38722638800},
-                {0.00000020957, 2.51273449478, 79.17001763500},
-                {0.00000027954, 0.65571622008, 68.17250148091},
-                {0.00000023022, 1.21699943524, 162.65270177540},
-                {0.00000025411, 4.19619949189, 41.88831525910},
-                {0.00000025079, 0.62989809784, 92.66339845371},
-                {0.00000022779, 3.95591659633, 107.74182571721},
-                {0.00000025092, 0.58786621007, 87.87110320809},
-                {0.00000027016, 1.15672372488, 0.99457700890},
-                {0.00000020414, 3.43554412854, 222.14093263061},
-                {0.00000020185, 6.10485906657, 144.17794032560},
-                {0.00000027094, 0.96491831662, 369.69839219510},
-                {0.00000019466, 2.51873134984, 9.15735137770},
-                {0.00000020822, 1.01932827109, 72.31710306511},
-                {0.00000020822, 3.66007416491, 77.73372903651},
-                {0.00000023312, 2.70078350147, 52.39149880180},
-                {0.00000019238, 1.86487700903, 145.14114817210},
-                {0.00000022156, 5.02188243292, 64.73047531231},
-                {0.00000019648, 4.16422779161, 692.83130183700},
-                {0.00000018748, 1.24105948443, 289.80898419710},
-                {0.00000019125, 1.53478805624, 22.65073219640},
-                {0.00000024581, 6.19654419773, 20.20305164159},
-                {0.00000021617, 3.27489383263, 251.84270489810},
-                {0.00000021860, 2.01803891279, 38.11622069041},
-                {0.00000021658, 2.82545321119, 30.98811947460},
-                {0.00000021231, 0.70274221680, 55.38169607781},
-                {0.00000025483, 3.07684884560, 41.08516610701},
-                {0.00000021046, 1.95785166305, 58.07545484850},
-                {0.00000022854, 6.17096810376, 167.07249000551},
-                {0.00000018322, 3.37460503465, 165.84864972810},
-                {0.00000018466, 0.61255161441, 380.84715832300},
-                {0.00000024739, 4.02369174706, 81.87833062070},
-                {0.00000022782, 1.55690793162, 305.58998687620},
-                {0.00000018449, 3.77998100899, 378.92074262999},
-                {0.00000020493, 1.10085699520, 148.21066732521},
-                {0.00000024545, 4.93054883789, 66.46102623650},
-                {0.00000020079, 2.85442801367, 156.92056161890},
-                {0.00000017465, 3.85472736449, 312.21589891000},
-                {0.00000021567, 5.83653540547, 225.55182103190},
-                {0.00000020030, 2.22274854754, 134.30789622931},
-                {0.00000017391, 2.86052314428, 73.01967848070},
-                {0.00000019537, 3.96842200227, 140.41254340130},
-                {0.00000022517, 5.23712494895, 248.70700314271},
-                {0.00000017589, 5.07166000101, 303.30236501580},
-                {0.00000020366, 1.99661694162, 97.65933329981},
-                {0.00000022843, 3.92423636309, 758.52724572820},
-                {0.00000021264, 0.07672955391, 330.08088384900},
-                {0.00000016980, 1.16080581329, 74.56784166380},
-                {0.00000016980, 3.51859662271, 75.48299043781},
-                {0.00000019715, 0.47343267408, 531.73476947149},
-                {0.00000021989, 1.18511584463, 136.78920667889},
-                {0.00000021616, 5.67519606472, 10.32630990090},
-                {0.00000016752, 2.74060731702, 19.25439801010},
-                {0.00000021941, 4.44343968337, 624.67561530350},
-                {0.00000016246, 0.04665700154, 2119.00767786191},
-                {0.00000016279, 5.73366744278, 1.12878064019},
-                {0.00000016279, 5.73366744278, 1.61641560721},
-                {0.00000022328, 1.70802820953, 97.91996573070},
-                {0.00000019188, 0.23213047381, 14.31334491820},
-                {0.00000022519, 2.42657916175, 165.36101476110},
-                {0.00000020956, 3.16492203936, 330.96584700570},
-                {0.00000018599, 4.26067160583, 148.43441649440},
-                {0.00000018917, 0.97135259771, 255.29928528170},
-                {0.00000021299, 6.02100084197, 95.52046928571},
-                {0.00000019398, 2.01021052352, 408.19512612779},
-                {0.00000021480, 5.61700303674, 1669.83045149109},
-                {0.00000015730, 5.68185702607, 17.88179988640},
-                {0.00000015989, 4.02642086421, 132.85705341579},
-                {0.00000016213, 2.93808470604, 5.17280848790},
-                {0.00000015494, 0.54839274859, 743.23387801611},
-                {0.00000015346, 3.70238533639, 610.44852130189},
-                {0.00000019338, 2.53133192689, 363.27286639489},
-                {0.00000017882, 0.09108401185, 190.90899567250},
-                {0.00000016009, 3.94767389914, 74.19533464831},
-                {0.00000016009, 0.73172853686, 75.85549745330},
-                {0.00000018450, 1.65175643591, 135.57992061650},
-                {0.00000015066, 0.31979989608, 118.26626111931},
-                {0.00000019811, 4.00951140620, 375.95179721340},
-                {0.00000017887, 5.90368904573, 85.32035678930},
-                {0.00000015552, 0.08354188367, 5.87289177600},
-                {0.00000015552, 3.22513453726, 5.38525680900},
-                {0.00000014946, 3.08926979326, 76.46170464930},
-                {0.00000014946, 4.73172529633, 73.58912745230},
-                {0.00000018660, 0.38012284620, 107.26874496520},
-                {0.00000014573, 2.12795836718, 73.49275923270},
-                {0.00000014573, 5.69303672241, 76.55807286891},
-                {0.00000015019, 5.37079041514, 64.09159037150},
-                {0.00000017892, 4.39093243602, 231.80522605020},
-                {0.00000015543, 1.73241272133, 66.11857980100},
-                {0.00000018436, 2.04970589009, 549.89401673620},
-                {0.00000015371, 4.16535208222, 736.12033101530},
-                {0.00000017668, 4.75171890820, 378.39947776819},
-                {0.00000014688, 5.67350374112, 17.91542978119},
-                {0.00000014089, 6.04399723949, 63.86784120231},
-                {0.00000015759, 0.66494464321, 104.25161543881},
-                {0.00000016874, 0.38165130786, 84.09900863940},
-                {0.00000015468, 5.57539923988, 515.70768857651},
-                {0.00000017006, 5.22922131058, 106.25735300890},
-                {0.00000015683, 3.28984199210, 46.81730626350},
-                {0.00000015035, 4.57350717142, 490.09027169589},
-                {0.00000013767, 6.18350808152, 535.66692273460},
-                {0.00000014034, 2.11722923267, 281.21096448800},
-                {0.00000013418, 2.06565331098, 70.02948120471},
-                {0.00000013418, 2.61381320215, 80.02135089690},
-                {0.00000018602, 3.25562899138, 366.24181181149},
-                {0.00000016062, 0.58179678004, 73.28031091161},
-                {0.00000016062, 0.95601300237, 76.77052119001},
-                {0.00000018697, 2.78388202981, 130.16329464510},
-                {0.00000013830, 1.11702813589, 278.27564896620},
-                {0.00000016797, 2.01380545416, 157.51126244990},
-                {0.00000016797, 2.01380545416, 157.02362748290},
-                {0.00000013389, 1.94700710476, 118.62995941420},
-                {0.00000014382, 1.07444330581, 194.53233239490},
-                {0.00000017090, 3.77525528381, 60.79832204921},
-                {0.00000013114, 5.75071250253, 883.55136178020},
-                {0.00000016641, 4.93681909681, 118.31444522910},
-                {0.00000013074, 2.58966287329, 12.25272559390},
-                {0.00000013153, 1.19799339989, 225.10987804721},
-                {0.00000013157, 3.23166717004, 122.08653979781},
-                {0.00000016504, 5.59782240944, 285.35556607221},
-                {0.00000013716, 2.96104442245, 1096.85045721820},
-                {0.00000012748, 4.05495720199, 18.76676304310},
-                {0.00000016958, 2.72238344622, 49.00186225990},
-                {0.00000014158, 5.60862153409, 147.80127704800},
-                {0.00000014666, 5.66230491756, 0.50694204189},
-                {0.00000016964, 3.07409416856, 64.94292363340},
-                {0.00000016167, 5.52679984001, 176.89434999200},
-                {0.00000017434, 5.75265280703, 381.36842318480},
-                {0.00000012702, 2.52948406017, 141.45507312490},
-                {0.00000012494, 1.91017999465, 196.01680510321},
-                {0.00000013527, 4.74412448417, 73.70100203691},
-                {0.00000013527, 3.07687060542, 76.34983006470},
-                {0.00000014805, 5.14044638199, 97.17169833279},
-                {0.00000012844, 2.29225207494, 322.36782729660},
-                {0.00000013194, 2.71389070536, 552.34169729099},
-                {0.00000012712, 3.50425259630, 748.96601817260},
-                {0.00000013959, 4.48592210118, 60.35637906450},
-                {0.00000016442, 2.74965824817, 83.62343575990},
-                {0.00000012305, 0.28180529137, 14.73403604350},
-                {0.00000016319, 1.99654524305, 703.87700210090},
-                {0.00000012524, 2.98932965871, 501.62360692681},
-                {0.00000013101, 3.29177766895, 112.67081672160},
-                {0.00000013451, 4.85214091855, 196.38050339810},
-                {0.00000016729, 4.42229507842, 336.59492129820},
-                {0.00000015662, 4.17010855511, 124.74666867370},
-                {0.00000016361, 3.46994237608, 853.44019923550},
-                {0.00000015016, 3.81955733385, 193.41155798150},
-                {0.00000013452, 4.41360988031, 172.44093186710},
-                {0.00000014832, 0.90688277736, 115.60613224340},
-                {0.00000011802, 3.34670161742, 34.28713329129},
-                {0.00000011640, 6.04651347369, 105.13657859549},
-                {0.00000012330, 2.92269312880, 83.93225230061},
-                {0.00000011536, 1.30362312663, 241.36645360580},
-                {0.00000011526, 5.08916626368, 628.60776856660},
-                {0.00000013571, 3.22260253533, 205.46615807421},
-                {0.00000011579, 0.67710960978, 65.57606307981},
-                {0.00000011468, 1.57270808839, 416.79314583689},
-                {0.00000011443, 2.37400000837, 20.69068660860},
-                {0.00000012105, 0.14668124624, 43.84836084689},
-                {0.00000013131, 3.46217186244, 288.49126782760},
-                {0.00000014050, 4.60806116381, 323.74923414091},
-                {0.00000012885, 5.21981764477, 283.90472325870},
-                {0.00000015266, 1.42284221306, 906.13039727500},
-                {0.00000011090, 2.16462545354, 56.11540926071},
-                {0.00000015022, 1.57800044960, 438.05446496220},
-                {0.00000011690, 1.28789549386, 256.18424843839},
-                {0.00000010863, 1.57144632008, 230.00523915680},
-                {0.00000010598, 0.35796336114, 11.60503193250},
-                {0.00000010559, 1.69974127789, 466.51439845980},
-                {0.00000011670, 4.42259077763, 308.93143930831},
-                {0.00000014228, 1.61252694327, 85.10790846821},
-                {0.00000014820, 4.17825476069, 154.05468206630},
-                {0.00000011614, 0.84927799349, 140.90017836831},
-                {0.00000012388, 5.09110502089, 1171.63205578549},
-                {0.00000012580, 0.51522053651, 114.12165953510},
-                {0.00000012667, 6.01888757437, 38.85242600079},
-                {0.00000012598, 0.72205960279, 1819.39364862570},
-                {0.00000013260, 5.77871434104, 77.71917482150},
-                {0.00000014442, 5.84453911482, 82.24202891559},
-                {0.00000013709, 5.11783507369, 109.06873185860},
-                {0.00000010566, 1.35962843525, 1107.89615748210},
-                {0.00000012906, 1.98542091304, 757.56403788170},
-                {0.00000012022, 0.39178256727, 207.63865198310},
-                {0.00000011539, 5.68756950373, 75.59486502240},
-                {0.00000011539, 5.27501823945, 74.45596707921},
-                {0.00000010478, 5.55035662837, 72.09010052900},
-                {0.00000013623, 1.20423210680, 406.34695512460},
-                {0.00000010221, 0.47130697459, 66.67347455760},
-                {0.00000013400, 3.51530110476, 25.84668014910},
-                {0.00000012805, 1.73149783747, 124.53422035260},
-                {0.00000010035, 3.75323450486, 82.61453593110},
-                {0.00000009987, 0.79147161221, 115.18544111810},
-                {0.00000010797, 2.77657277725, 199.31581891990},
-                {0.00000009996, 0.52088482718, 59.03866269500},
-                {0.00000010812, 0.46401017699, 89.25251005240},
-                {0.00000013348, 0.57976101887, 139.75815209550},
-                {0.00000012606, 2.70123732269, 28.55499313480},
-                {0.00000009781, 4.00229285265, 84.47476902181},
-                {0.00000009902, 1.62968500763, 262.77653057739},
-                {0.00000010352, 0.81152556420, 361.62163734781},
-                {0.00000010581, 5.29068527712, 679.81349389780},
-                {0.00000010976, 4.56885713555, 209.08949479660},
-                {0.00000011881, 5.29230553590, 827.67977000299},
-                {0.00000010568, 4.17744029529, 177.06110633080},
-                {0.00000011169, 3.19909284892, 318.43567403349},
-                {0.00000010655, 3.65009353213, 264.20612153150},
-                {0.00000010248, 4.87010430516, 65.63094483399},
-                {0.00000009768, 5.60017209442, 422.42222012939},
-                {0.00000011423, 3.52166240719, 679.49797971270},
-                {0.00000011319, 5.77253068317, 43.79347909271},
-                {0.00000010444, 2.08212477220, 64.24034821780},
-                {0.00000010733, 0.19348042611, 89.69445303710},
-                {0.00000009435, 2.65961671499, 59.83511420271},
-                {0.00000010593, 2.48672884196, 71.94459604960},
-                {0.00000010332, 4.98186467280, 61.04440026510},
-                {0.00000010962, 2.11147523367, 526.00262931501},
-                {0.00000011184, 2.96936696687, 150.61016377020},
-                {0.00000010812, 3.76848381140, 546.71262299849},
-                {0.00000010427, 0.32210108380, 106.03035047280},
-                {0.00000009926, 0.10882768465, 767.12526543730},
-                {0.00000012114, 5.36578468862, 404.86248241631},
-                {0.00000009406, 5.72421215324, 69.55640045270},
-                {0.00000009406, 5.23837558994, 80.49443164890},
-                {0.00000010953, 3.07486144408, 57.86300652739},
-                {0.00000012472, 3.42726511510, 337.55812914470},
-                {0.00000009300, 5.90247156785, 831.34879870770},
-                {0.00000010211, 1.92534998559, 544.16187657970},
-                {0.00000009945, 2.81330302968, 192.93598510200},
-                {0.00000011250, 5.57455276310, 544.26494244370},
-                {0.00000009524, 1.19760937655, 217.68751450571},
-                {0.00000008854, 2.95194128004, 210.36151918381},
-                {0.00000010193, 2.85819678368, 443.61984877990},
-                {0.00000009954, 5.11935965746, 79.85134119120},
-                {0.00000009954, 5.84320899680, 70.19949091040},
-                {0.00000009930, 0.62899045525, 63.01650794040},
-                {0.00000008650, 1.47118969332, 533.11617631580},
-                {0.00000010719, 2.71929706040, 399.92142932440},
-                {0.00000012021, 2.02390354619, 54.89406111079},
-                {0.00000011050, 1.37690562890, 210.60759739969},
-                {0.00000010384, 4.28747391550, 30.35498002820},
-                {0.00000010014, 6.20125275236, 419.24082639170},
-                {0.00000011868, 2.96967485309, 353.54488250050},
-                {0.00000011500, 3.40411765505, 402.89037474099},
-                {0.00000010255, 4.72943172340, 30.93323772040},
-                {0.00000008996, 3.09833830500, 179.03321400610},
-                {0.00000011583, 0.98746991822, 754.59509246510},
-                {0.00000010299, 1.57297771598, 112.89781925770},
-                {0.00000008391, 4.97268364529, 231.18089532440},
-                {0.00000009702, 1.22534705521, 181.03895157621},
-                {0.00000008169, 1.42365397432, 674.18441960530},
-                {0.00000009580, 4.84883749459, 292.25666475190},
-                {0.00000008174, 4.64994635843, 121.59890483079},
-                {0.00000010408, 5.25476225428, 533.86693584120},
-                {0.00000009226, 5.25948012740, 74.11039231410},
-                {0.00000009226, 5.70310761578, 75.94043978751},
-                {0.00000008015, 6.04785554826, 350.57593708390},
-                {0.00000009330, 6.27465213976, 53.04589010760},
-                {0.00000009204, 2.03165601534, 223.62540533890},
-                {0.00000008485, 2.34094108621, 212.57970507500},
-                {0.00000008003, 0.91246310178, 1022.06885865090},
-                {0.00000008044, 0.83166336147, 77.36122202100},
-                {0.00000008044, 3.84773907453, 72.68961008061},
-                {0.00000010452, 1.98498356773, 841.90686400460},
-                {0.00000007961, 2.31145265393, 43.37278796740},
-                {0.00000008333, 1.18342051201, 152.09463647851},
-                {0.00000009216, 2.14207964363, 670.25226634220},
-                {0.00000009064, 5.27663226147, 153.43035134050},
-                {0.00000007893, 2.51477711531, 93.93542284090},
-                {0.00000009501, 3.98117068682, 156.70811329780},
-                {0.00000009347, 0.34595548426, 157.22937815961},
-                {0.00000008617, 2.59731331592, 85.81048388380},
-                {0.00000007939, 2.06846952168, 109.22629842550},
-                {0.00000008607, 4.69708547234, 63.17656663481},
-                {0.00000010579, 4.46292936018, 17.76992530181},
-                {0.00000007543, 3.14113560246, 77.26064828450},
-                {0.00000007543, 4.67985948713, 72.79018381711},
-                {0.00000008486, 3.16231049397, 78.10623605200},
-                {0.00000009532, 1.91025418881, 835.28095197081},
-                {0.00000007509, 4.96017180762, 216.72430665921},
-                {0.00000008683, 2.90960249329, 117.77862615229},
-                {0.00000007488, 2.09613529005, 90.21571789890},
-                {0.00000009008, 1.59995368963, 175.67050971460},
-                {0.00000007543, 2.16991727809, 74.29170286790},
-                {0.00000007543, 5.65107781150, 75.75912923371},
-                {0.00000008913, 1.43842918678, 683.74564716089},
-                {0.00000008280, 5.45801088768, 216.23667169220},
-                {0.00000010165, 5.74311979024, 1364.97191706540},
-                {0.00000007591, 3.10048399132, 351.57277482520},
-                {0.00000008205, 3.52665267682, 37.41364527480},
-                {0.00000007588, 3.28488331617, 198.56505939450},
-                {0.00000008473, 3.11905002019, 71.25332148210},
-                {0.00000008473, 1.56035241581, 78.79751061951},
-                {0.00000009107, 3.10384486237, 37.15301284391},
-                {0.00000007766, 4.05884078794, 1479.11039154791},
-                {0.00000008403, 4.51384294317, 253.21530302180},
-                {0.00000007642, 2.21841304053, 49.96507010641},
-                {0.00000009234, 1.16089511561, 166.84548746939},
-                {0.00000008874, 5.92801753842, 483.46435966210},
-                {0.00000007128, 0.54929503334, 173.69840203930},
-                {0.00000007872, 2.83479383420, 437.88770862340},
-                {0.00000009185, 1.99612196710, 101.04896984171},
-                {0.00000007312, 6.13883546415, 526.75338884040},
-                {0.00000009194, 1.81474760228, 97.43233076370},
-                {0.00000008182, 2.53164006705, 115.86676467430},
-                {0.00000009663, 6.15396199238, 763.19311217420},
-                {0.00000008486, 3.78958880101, 242.11472100371},
-                {0.00000008799, 0.25004467051, 366.72944677850},
-                {0.00000008458, 1.58462208087, 297.98880490840},
-                {0.00000008904, 1.84053989684, 60.20762121820},
-                {0.00000007575, 5.75688781236, 214.50612076800},
-                {0.00000006999, 5.60818664108, 144.69920518740},
-                {0.00000008000, 3.63615956812, 325.13983075710},
-                {0.00000008498, 3.89791695768, 20.73887071840},
-                {0.00000009641, 3.89512516279, 56.89979868090},
-                {0.00000007094, 6.10443989292, 49.75262178531},
-                {0.00000007954, 4.06222552835, 87.03432416121},
-                {0.00000006970, 1.96111327573, 130.79643409150},
-                {0.00000007608, 5.47728460394, 409.31590054121},
-                {0.00000007168, 5.64518457340, 1265.81129610991},
-                {0.00000008728, 3.53511019168, 78.99119920869},
-                {0.00000007572, 0.17135144497, 148.91324274080},
-                {0.00000006783, 3.03195983082, 555.31064270760},
-                {0.00000008481, 4.53301555531, 119.26309886060},
-                {0.00000007247, 2.82713079705, 33.26904369061},
-                {0.00000006911, 5.67453645573, 41.51255487670},
-                {0.00000006813, 2.64716458917, 301.17019864609},
-                {0.00000008470, 4.08048553109, 250.19147585100},
-                {0.00000006549, 2.37816417441, 129.36014549300},
-                {0.00000006543, 2.96794347356, 44.36962570870},
-                {0.00000008617, 3.14518586851, 150.70078649541},
-                {0.00000007676, 4.83443438533, 60.46825364911},
-                {0.00000008905, 0.03447668306, 749.82616015511},
-                {0.00000007175, 5.62428004061, 445.96446347071},
-                {0.00000006465, 5.46336528208, 75.50098893029},
-                {0.00000007106, 0.97448145412, 6456.63624021419},
-                {0.00000007220, 5.10879667762, 1692.40948698591},
-                {0.00000006926, 0.91784419155, 20.90562705720},
-                {0.00000007786, 2.71967618992, 100.40127618030},
-                {0.00000006164, 1.79214990956, 1376.01761732930},
-                {0.00000007312, 4.44944337943, 188.90325810240},
-                {0.00000006788, 6.26547457533, 86.87426546680},
-                {0.00000006246, 2.99700510018, 14.57397734909},
-                {0.00000006057, 4.77548604030, 267.71758366931},
-                {0.00000007767, 3.63015905985, 95.73540973430},
-                {0.00000007632, 5.85317558953, 22.22334342671},
-                {0.00000006881, 3.80941789384, 163.87654205279},
-                {0.00000006523, 0.41741185861, 368.83825021259},
-                {0.00000006006, 1.06015938578, 560.93971700010},
-                {0.00000006916, 2.44549964284, 497.69145366371},
-                {0.00000007042, 4.03629417682, 39.11305843170},
-                {0.00000007444, 0.25903368767, 396.78572756900},
-                {0.00000007949, 1.74199043054, 474.70302789170},
-                {0.00000007441, 5.03533974603, 260.01333583751},
-                {0.00000008032, 0.83846257555, 224.06734832360},
-                {0.00000005746, 2.56394284072, 193.04785968660},
-                {0.00000005743, 4.76658104509, 20201.98247923659},
-                {0.00000007757, 3.79185602312, 688.41151360689},
-                {0.00000007329, 0.85857969446, 237.17366791179},
-                {0.00000005919, 0.50982288637, 17.39416491939},
-                {0.00000006252, 5.02682854905, 132.16903221521},
-                {0.00000005870, 4.28917302578, 690.85919416170},
-                {0.00000006964, 3.02573149302, 197.55615956570},
-                {0.00000007219, 5.43456429689, 266.96931627140},
-                {0.00000007947, 5.61352830758, 514.46929408409},
-                {0.00000007626, 3.67423708438, 842.39449897160},
-                {0.00000006895, 1.47957605481, 425.35753565121},
-                {0.00000006665, 2.95467155233, 436.56999225390},
-                {0.00000006291, 1.67292148805, 343.49601997789},
-                {0.00000006140, 4.35860072087, 213.70966926030},
-                {0.00000005915, 0.86094320174, 62.75587550951},
-                {0.00000005915, 3.81845923426, 87.29495659210},
-                {0.00000006781, 4.05060060272, 647.25465079831},
-                {0.00000006309, 2.99140195909, 178.37882270030},
-                {0.00000005782, 3.22810004423, 401.29402744810},
-                {0.00000007776, 5.11993350983, 204.94489321240},
-                {0.00000006809, 1.08727914779, 291.94784821120},
-                {0.00000005680, 4.17409037680, 79.64559051450},
-                {0.00000005958, 3.65881665841, 808.76976321290},
-                {0.00000005850, 6.26855076332, 358.65269193120},
-                {0.00000005624, 0.99993676157, 42.30900638440},
-                {0.00000007759, 1.83986340459, 79.27308349900},
-                {0.00000005495, 0.83012628966, 159.20818347930},
-                {0.00000005488, 2.05261070153, 293.95358578131},
-                {0.00000007423, 5.31470022391, 139.72452220071},
-                {0.00000005570, 5.97928286717, 187.99493201010},
-                {0.00000006894, 3.28434910878, 407.83142783290},
-                {0.00000005539, 4.84676356044, 1235.36795408890},
-                {0.00000006394, 4.15130654566, 956.53297345411},
-                {0.00000005577, 4.10482070615, 168.92946972931},
-                {0.00000006276, 4.68793579564, 97.00494199400},
-                {0.00000007541, 4.08226152277, 303.87851163179},
-                {0.00000006343, 4.90270462176, 164.36417701981},
-                {0.00000006353, 3.79216315882, 370.21965705690},
-                {0.00000005390, 6.26914064855, 818.01547658340},
-                {0.00000005777, 5.82865048284, 271.37455028650},
-                {0.00000006126, 5.65499715014, 45.22976769120},
-                {0.00000005488, 2.09536392742, 136.47369249381},
-                {0.00000006742, 2.83749217354, 89.84321088341},
-                {0.00000006582, 2.42682862426, 1291.18715623940},
-                {0.00000005219, 0.45337461954, 7.62048904269},
-                {0.00000006692, 3.14805000647, 5994.75133850259},
-                {0.00000006355, 1.10707964029, 184.48346987229},
-                {0.00000007139, 0.98849473241, 359.17395679300},
-                {0.00000006215, 4.74107554828, 1582.20316576650},
-                {0.00000005605, 1.54167032387, 43.48466255200},
-                {0.00000005449, 2.13791600611, 229.09691306450},
-                {0.00000005787, 4.92208922830, 492.06237937121},
-                {0.00000006553, 5.75663546509, 1065.35788782919},
-                {0.00000005340, 5.86372959256, 27.49790919620},
-                {0.00000005124, 0.67325293181, 479.53220639900},
-                {0.00000005421, 1.88003343531, 298.88257678570},
-                {0.00000005261, 2.44962785242, 211.57080524620},
-                {0.00000006420, 3.70476513286, 489.09343395460},
-                {0.00000005889, 0.82353860057, 1514.53511420000},
-                {0.00000004956, 2.57399481330, 450.41788159561},
-                {0.00000006450, 4.59218190917, 9924.96103472219},
-                {0.00000004940, 2.10014956300, 20.95381116700},
-                {0.00000005847, 6.13596901282, 89.58257845250},
-                {0.00000005600, 1.83545214397, 241.85408857280},
-                {0.00000006152, 3.35545390167, 524.51815660670},
-                {0.00000006088, 1.15145874834, 711.69312451730},
-                {0.00000005407, 2.11877006223, 148.16248321540},
-                {0.00000006327, 4.93432455338, 300.64893378430},
-                {0.00000005490, 2.36691010165, 261.81332273089},
-                {0.00000005280, 0.85359725433, 74.42590649920},
-                {0.00000004835, 1.17492690523, 122.77456099839},
-                {0.00000005417, 2.10462006768, 34.18406742730},
-                {0.00000005465, 4.18396714587, 49.89563413720},
-                {0.00000004962, 1.68097237142, 40.49446527601},
-                {0.00000005202, 5.00837530618, 102.27950776349},
-                {0.00000005768, 5.58499792979, 237.92193530970},
-                {0.00000005794, 4.82130895886, 215.99059347631},
-                {0.00000006057, 3.19358889572, 1595.04885292380},
-                {0.00000006144, 4.72437637687, 456.95317090420},
-                {0.00000005439, 4.81364730924, 164.13717448370},
-                {0.00000006169, 3.17120830135, 2199.52141658570},
-                {0.00000005803, 5.22454044783, 476.07562601539},
-                {0.00000004737, 2.35530993243, 905.64276230799},
-                {0.00000004927, 3.26468598920, 752.89817143570},
-                {0.00000004656, 1.91522169679, 89.09494348550},
-                {0.00000005228, 1.17862548607, 112.63718682681},
-                {0.00000005103, 3.73018774429, 93.54836161040},
-                {0.00000004793, 3.53993726451, 257.14745628489},
-                {0.00000005517, 0.15731395881, 85.95924173011},
-                {0.00000005174, 4.15935293996, 460.88532416730},
-                {0.00000004600, 4.89133583119, 693.82813957829},
-                {0.00000005568, 2.10167962126, 346.15614885380},
-                {0.00000005750, 6.24007416703, 475.11241816889},
-                {0.00000005821, 5.49083686705, 331.92905485220},
-                {0.00000005474, 1.31183557573, 119.09634252180},
-                {0.00000005555, 4.65024532079, 166.58485503849},
-                {0.00000004721, 0.86426769065, 818.33099076849},
-                {0.00000004598, 2.05332533302, 155.43608891061},
-                {0.00000004983, 2.57975544514, 305.36298434010},
-                {0.00000004604, 5.38714042066, 240.63024829540},
-                {0.00000004534, 4.08633266459, 426.35437339250},
-                {0.00000006030, 2.63010642372, 928.22179780281},
-                {0.00000005073, 4.70022198384, 119.15122427600},
-                {0.00000004800, 5.53046784681, 133.82026126229},
-                {0.00000005861, 5.51556326816, 441.51104534581},
-                {0.00000004509, 2.39065356016, 106.67804413421},
-                {0.00000004990, 3.48465520513, 53.40958840249},
-                {0.00000005764, 3.63891986766, 896.08153475239},
-                {0.00000005407, 4.74700481244, 469.48334387639},
-                {0.00000005823, 4.10358787531, 29.50364676630},
-                {0.00000005944, 3.46545832250, 235.94982763440},
-                {0.00000006147, 1.45101996869, 1288.21821082279},
-                {0.00000004598, 1.27745263577, 224.32798075451},
-                {0.00000005709, 2.76379658634, 893.11258933580},
-                {0.00000004523, 5.13323251802, 530.09484127250},
-                {0.00000005024, 5.31536294883, 314.66357946480},
-                {0.00000004527, 4.89680450095, 100.29821031630},
-                {0.00000004510, 2.34852903978, 529.77472388370},
-                {0.00000005026, 3.92555320684, 74.64965566840},
-                {0.00000005303, 1.08916276416, 273.82223084130},
-                {0.00000004380, 0.99003902246, 1578.27101250340},
-                {0.00000005525, 0.86348547164, 453.18107633550},
-                {0.00000004962, 3.52820328545, 810.90192958261},
-                {0.00000004972, 0.19879848580, 334.89800026879},
-                {0.00000005401, 1.93836334655, 193.67219041240},
-                {0.00000005498, 0.71473266670, 230.58138577279},
-                {0.00000004501, 5.84903184251, 523.71500745461},
-                {0.00000004303, 3.18721779031, 1246.41365435280},
-                {0.00000005261, 4.82838100342, 170.25388374320},
-                {0.00000004481, 1.75705854176, 5.35162691421},
-                {0.00000004655, 2.79973352045, 178.43370445449},
-                {0.00000005029, 0.22047838377, 193.93282284329},
-                {0.00000005743, 3.56115653050, 246.68001371321},
-                {0.00000005652, 0.86613579011, 315.41184686271},
-                {0.00000004604, 3.09918959502, 1072.47143483000},
-                {0.00000005494, 3.15712757827, 1044.64789414570},
-                {0.00000004789, 3.80684950331, 361.78839368660},
-                {0.00000005139, 5.49982663321, 223.20720634109},
-                {0.00000005310, 3.43114456160, 444.47999076240},
-                {0.00000004815, 4.45553109137, 3041.24221494710},
-                {0.00000004119, 2.13510221930, 2120.49215057020},
-                {0.00000004552, 0.42701637654, 158.50810019120},
-                {0.00000004594, 0.59274325201, 1310.14955265620},
-                {0.00000004173, 5.85016751929, 181.40264987110},
-                {0.00000004090, 2.28062400769, 138.64943976960},
-                {0.00000004884, 5.20933688234, 6.65728119619},
-                {0.00000004740, 2.65617621588, 25788.53292982149},
-                {0.00000005699, 2.84935340269, 772.83258441960},
-                {0.00000005296, 1.41812325430, 694.79134742480},
-                {0.00000004555, 3.11995889142, 154.42718908179},
-                {0.00000004669, 4.97123639115, 127.82748867490},
-                {0.00000004509, 1.69077891813, 227.35180792530},
-                {0.00000004302, 2.50409604966, 100.08576199520},
-                {0.00000004027, 4.03844514423, 294.05665164530},
-                {0.00000004114, 2.93977154621, 383.06534421420},
-                {0.00000004552, 6.22515109598, 1361.03976380230},
-                {0.00000004653, 4.63772962271, 1019.52060435960},
-                {0.00000004849, 6.23804934917, 119.11759438120},
-                {0.00000004617, 4.88910884699, 887.48351504330},
-                {0.00000005166, 0.93017811080, 49.26498681829},
-                {0.00000005543, 2.55030758424, 296.50433220009},
-                {0.00000003936, 1.95688941946, 137.79810650771},
-                {0.00000003959, 3.93854751155, 151.17961274180},
-                {0.00000004546, 0.76154188637, 44.42661853911},
-                {0.00000004195, 1.28923343857, 305.21422649380},
-                {0.00000003911, 5.57516730393, 1020.26887175750},
-                {0.00000003906, 1.61616341819, 36.41929966101},
-                {0.00000004980, 0.97997283118, 682.78243931439},
-                {0.00000003894, 6.27535408135, 13.77082819700},
-                {0.00000004225, 5.37063958024, 310.73142620169},
-                {0.00000003999, 5.57100133771, 93.98781246761},
-                {0.00000003999, 5.39158640547, 56.06301963400},
-                {0.00000004072, 2.47052943106, 956.84848763920},
-                {0.00000004160, 5.20231534295, 138.92807069299},
-                {0.00000003870, 3.52554234711, 316.14805217309},
-                {0.00000005282, 1.35031701337, 442.99551805410},
-                {0.00000003856, 4.98262634270, 778.17096570120},
-                {0.00000005026, 2.04291728735, 252.89978883670},
-                {0.00000004872, 3.77484767846, 196.59295171920},
-                {0.00000004088, 3.31585670195, 770.58184582090},
-                {0.00000003976, 0.29724722006, 34.44469985821},
-                {0.00000003976, 3.43883987365, 33.95706489120},
-                {0.00000004425, 1.38560089800, 621.98185653281},
-                {0.00000003827, 4.15987194313, 29.81246330700},
-                {0.00000004303, 5.49962330361, 302.39403892350},
-                {0.00000004082, 2.93795043280, 76.98546163860},
-                {0.00000004775, 3.44144906594, 379.25961975071},
-                {0.00000004866, 3.05946215728, 349.12509427039},
-                {0.00000004558, 3.79281085339, 484.67364572450},
-                {0.00000003896, 3.48090977966, 525.74199688410},
-                {0.00000003790, 2.68849385464, 168.81759514471},
-                {0.00000004584, 2.02400920188, 30.41197285861},
-                {0.00000003789, 4.87731374266, 225.58545092669},
-                {0.00000003919, 3.87130555190, 367.61440993520},
-                {0.00000004495, 0.77984598931, 823.74761673989},
-                {0.00000004071, 1.17727620682, 152.28832506769},
-                {0.00000004431, 2.72709685973, 781.83999440590},
-                {0.00000003787, 2.48815838156, 96.22304470130},
-                {0.00000003738, 4.07013940817, 909.68679015570},
-                {0.00000003824, 3.30062177264, 81.01818863820},
-                {0.00000005100, 0.20422183986, 786.47472308461},
-                {0.00000004678, 5.03406582155, 294.42915866079},
-                {0.00000004456, 1.79112458929, 473.41549713950},
-                {0.00000004182, 0.18466444565, 109.96250373590},
-                {0.00000004721, 4.73119528048, 487.64259114110},
-                {0.00000004194, 4.10486683345, 135.82599883240},
-                {0.00000004150, 0.87761383870, 208.60185982960},
-                {0.00000003881, 3.18364105348, 527.48710202330},
-                {0.00000005003, 2.80882112541, 26088.14695905770},
-                {0.00000004925, 5.52756833519, 104.82106441041},
-                {0.00000004629, 5.06094518975, 324.97307441831},
-                {0.00000003764, 3.88568266144, 81.17575520511},
-                {0.00000003764, 3.93531242815, 68.87507689650},
-                {0.00000004634, 3.50032175228, 439.53893767049},
-                {0.00000004661, 4.44746944301, 1031.63008620649},
-                {0.00000004246, 1.59561640750, 290.87525790760},
-                {0.00000004701, 4.20435344056, 292.57217893700},
-                {0.00000004168, 3.07866792955, 347.68880567190},
-                {0.00000003574, 0.81177194493, 101.85211899380},
-                {0.00000004316, 5.40388665351, 1034.59903162310},
-                {0.00000004648, 4.59798157023, 701.01993126891},
-                {0.00000005000, 4.96762725751, 636.42389098300},
-                {0.00000004950, 1.58366506104, 901.71060904489},
-                {0.00000004343, 3.91944557060, 372.77040347569},
-                {0.00000003612, 0.37077229030, 154.31531449720},
-                {0.00000004180, 4.53703226837, 304.99047732459},
-                {0.00000003767, 1.75098839325, 1040.97886544099},
-                {0.00000004105, 3.02027598948, 1169.57143646120},
-                {0.00000004389, 3.06369646718, 67.63668240410},
-                {0.00000003610, 1.32047712869, 969.86629557841},
-                {0.00000003589, 4.99114813732, 1340.59289467720},
-                {0.00000004184, 4.66399157943, 1575.08961876571},
-                {0.00000004327, 0.92906184743, 470.44655172289},
-                {0.00000003635, 2.36421665060, 618.04970326970},
-                {0.00000004568, 4.98874622103, 374.46732450509},
-                {0.00000004014, 3.27163799518, 191.07575201129},
-                {0.00000003518, 2.98191800179, 812.70191647599},
-                {0.00000004543, 5.05516422535, 18.87863762769},
-                {0.00000004255, 4.93411147571, 257.78059573129},
-                {0.00000003536, 0.84249596400, 1158.78636862821},
-                {0.00000004782, 0.83189462557, 20.36311033600},
-                {0.00000003580, 5.11301333129, 155.79978720550},
-                {0.00000004461, 4.71187230264, 155.91166179010},
-                {0.00000004866, 2.95132293953, 16.85490156510},
-                {0.00000004353, 4.31191357131, 154.54231703330},
-                {0.00000003770, 4.63520445622, 238.91877305099},
-                {0.00000003780, 4.53874966526, 250.35823218980},
-                {0.00000004854, 0.38485985963, 823.12328601411},
-                {0.00000004833, 3.23674545351, 1894.66288216001},
-                {0.00000003662, 1.40177918208, 319.92014674179},
-                {0.00000003977, 5.68574160053, 326.19691469570},
-                {0.00000003861, 5.74438369570, 47.99296243110},
-                {0.00000004433, 5.42313050798, 1685.29593998510},
-                {0.00000004182, 3.13684968245, 548.40954402789},
-                {0.00000003421, 3.51995958462, 605.03189533049},
-                {0.00000003876, 3.99363601420, 302.13340649259},
-                {0.00000004008, 1.83807922875, 6137.20098863639},
-                {0.00000004500, 1.38119932706, 47.30494123050},
-                {0.00000004050, 1.29963474565, 6.46359260701},
-                {0.00000003411, 1.31630185032, 997.68983626269},
-                {0.00000004312, 4.01040874514, 847.81112494300},
-                {0.00000003428, 1.55247050413, 71.35638734610},
-                {0.00000003928, 6.23536924317, 395.30125486070},
-                {0.00000003650, 0.23968284456, 1254.27796087899},
-                {0.00000003844, 5.28920917279, 121.49583896680},
-                {0.00000003966, 1.48989873375, 761.49619114479},
-                {0.00000003497, 4.17241680080, 319.32944591080},
-                {0.00000003510, 5.54109119947, 273.34665796181},
-                {0.00000003408, 5.53135426605, 1016.33671849440},
-                {0.00000004206, 0.51867358485, 435.44002806861},
-                {0.00000003372, 5.55788408036, 213.49472881170},
-                {0.00000003369, 2.47122903489, 213.59109703130},
-                {0.00000004154, 3.96250853547, 357.16821922291},
-                {0.00000003966, 4.88587910106, 185.33480313420},
-                {0.00000004636, 5.10105010921, 6169.91739830280},
-                {0.00000004042, 6.22077286894, 432.47108265200},
-                {0.00000003366, 2.66012811137, 699.45721387080},
-                {0.00000003632, 4.59767699340, 771.05741870039},
-                {0.00000003967, 5.95729548122, 280.24775664150},
-                {0.00000003436, 1.80871659193, 182.36585771760},
-                {0.00000004588, 6.17666653669, 25483.18676042879},
-                {0.00000003825, 4.86834262213, 6129.33668211020},
-                {0.00000003243, 4.36468243327, 279.97256999560},
-                {0.00000004579, 1.69365778926, 2735.89604555439},
-                {0.00000004222, 4.00381650923, 344.94686279140},
-                {0.00000004222, 4.00381650923, 344.45922782439},
-                {0.00000003528, 2.89373582714, 187.78248368899},
-                {0.00000003976, 0.47836354163, 433.43429049850},
-                {0.00000003885, 1.59237659251, 254.33607743521},
-                {0.00000003256, 3.76116458060, 1756.14538528930},
-                {0.00000003450, 5.70924350001, 1336.66074141410},
-                {0.00000003763, 3.02653659982, 598.77849031221},
-                {0.00000003661, 3.87306757949, 523.99689174490},
-                {0.00000003764, 0.31801539201, 498.65466151020},
-                {0.00000003218, 5.81500080361, 829.37669103239},
-                {0.00000003783, 3.26079140282, 10067.41068485599},
-                {0.00000004463, 5.63073311182, 686.71459257749},
-                {0.00000003955, 0.51398619980, 386.99749747730},
-                {0.00000003269, 2.24915426287, 90.80641872990},
-                {0.00000003268, 2.43000508529, 59.24441337170},
-                {0.00000003540, 0.11026568904, 313.17910675650},
-                {0.00000003535, 4.93360466961, 78039.12081153718},
-                {0.00000003318, 1.03787086284, 522.33360061030},
-                {0.00000003173, 0.85372362523, 1475.17823828480},
-                {0.00000003156, 2.68545956575, 1596.43025976811},
-                {0.00000004282, 3.08651511729, 269.31393096221},
-                {0.00000003178, 4.19270974886, 1886.79857563380},
-                {0.00000004407, 0.80883083873, 236.74627914210},
-                {0.00000003698, 3.47042194825, 762.98066385310},
-                {0.00000003368, 1.82330731917, 196.86813836510},
-                {0.00000004221, 3.28486189404, 102.74589087111},
-                {0.00000003725, 0.49946278623, 511.28790034640},
-                {0.00000003791, 2.10793640929, 1147.74066836430},
-                {0.00000003211, 3.96787240218, 151.81275218821},
-                {0.00000003516, 2.35583623511, 470.24960976680},
-                {0.00000003947, 5.23994783505, 757.04277301989},
-                {0.00000003990, 5.62067401902, 908.09044286280},
-                {0.00000003674, 4.30821160157, 631.78916230430},
-                {0.00000003787, 2.03840839568, 798.14475407429},
-                {0.00000004369, 0.24055897355, 10100.12709452239},
-                {0.00000003536, 0.89255741356, 354.75416856289},
-                {0.00000003391, 3.82986107065, 5908.92403967139},
-                {0.00000003083, 2.91678290429, 829.06117684730},
-                {0.00000004306, 2.93642388121, 503.10807963510},
-                {0.00000003547, 5.90192172992, 38.84993387330},
-                {0.00000003214, 4.30099996048, 660.85109748100},
-                {0.00000003069, 2.00421290803, 53.56715496940},
-                {0.00000003103, 5.68152185030, 367.35377750430},
-                {0.00000003753, 3.59220522200, 486.86069384840},
-                {0.00000003982, 0.55888280170, 614.59312288610},
-                {0.00000003567, 3.15675663390, 473.21855518340},
-                {0.00000003603, 0.00781817590, 10059.54637832979},
-                {0.00000003339, 2.35934486509, 15.25530090530},
-                {0.00000003342, 6.08494495859, 391.73279989249},
-                {0.00000003638, 0.04048968434, 104.77288030060},
-                {0.00000003557, 1.72046667887, 365.86930479600},
-                {0.00000003047, 5.68168716112, 75.23786437190},
-                {0.00000003047, 2.13930792847, 74.81296772971},
-                {0.00000003632, 3.48011331291, 2175.14239419750},
-                {0.00000003727, 3.34969084744, 668.76779363389},
-                {0.00000003110, 0.34401803032, 95.68722562449},
-                {0.00000003110, 3.48561068391, 96.17486059150},
-                {0.00000003034, 4.47612078147, 98.65617104110},
-                {0.00000003292, 3.11428915982, 68.90870679129},
-                {0.00000003166, 2.82060316319, 5.69407334969},
-                {0.00000003043, 3.58244615080, 100.14064374939},
-                {0.00000003150, 5.49037416472, 6532.90231148980},
-                {0.00000003284, 5.45199159924, 138.87318893880},
-                {0.00000003008, 2.34154854306, 287.83687652179},
-                {0.00000003451, 0.04036306515, 1206.21999939070},
-                {0.00000003235, 5.57049156467, 302.65467135440},
-                {0.00000004224, 2.82331346733, 527.22646959241},
-                {0.00000002990, 5.76827883617, 182.52342428450},
-                {0.00000003383, 0.31703037326, 30.95448957981},
-                {0.00000004137, 1.16119065208, 436.40323591510},
-                {0.00000003071, 2.92150327875, 198.82818395289},
-                {0.00000003076, 5.55405559047, 608.00084074710},
-                {0.00000003557, 3.38304796517, 731.70054278519},
-                {0.00000003557, 0.24145531158, 732.18817775220},
-                {0.00000003552, 4.79010413998, 262.20038396140},
-                {0.00000004135, 0.91386728119, 195.15666312070},
-                {0.00000002951, 5.02001310379, 161.65586403411},
-                {0.00000002963, 3.96521662641, 1044.16025917870},
-                {0.00000003762, 2.15913988960, 751.31063286340},
-                {0.00000003317, 3.52842835842, 29.55183087609},
-                {0.00000003109, 0.17339598358, 1061.42573456610},
-                {0.00000002930, 1.50492864538, 60.31068708220},
-                {0.00000002938, 0.97094618212, 380.63471000190},
-                {0.00000003292, 6.11698623962, 576.40520549410},
-                {0.00000002939, 6.16225734191, 47.02975458460},
-                {0.00000002922, 5.63523473331, 55.05162767771},
-                {0.00000002922, 5.32735300987, 94.99920442390},
-                {0.00000003190, 5.25237662753, 9839.13373589100},
-                {0.00000004110, 3.23168496449, 2885.94687765600},
-                {0.00000003635, 5.57293444136, 189.96703968541},
-                {0.00000003962, 1.90445589310, 511.35159082120},
-                {0.00000002907, 1.21878102451, 373.29166833749},
-                {0.00000002911, 3.43639672306, 379.13319095109},
-                {0.00000003057, 2.28069656246, 517.66524203681},
-                {0.00000003748, 5.29789330458, 5985.19011094699},
-                {0.00000003250, 2.04631272961, 385.82184130970},
-                {0.00000003250, 5.18790538319, 386.30947627670},
-                {0.00000003118, 1.63458065883, 404.75060783170},
-                {0.00000003966, 2.44588344367, 243.59919371200},
-                {0.00000002935, 0.28535439087, 1190.54206257560},
-                {0.00000003497, 1.71663983829, 3114.53934080610},
-                {0.00000002871, 5.08352321445, 743.54939220120},
-                {0.00000002948, 1.96337308764, 78338.73484077338},
-                {0.00000003905, 2.74341746288, 669.93675215711},
-                {0.00000002937, 5.00887540692, 590.48928714380},
-                {0.00000004039, 1.43143454755, 25633.23759253039},
-                {0.00000003590, 1.87097789478, 376.70255673880},
-                {0.00000002945, 4.59527251130, 274.30986580831},
-                {0.00000003853, 4.25262991282, 224.69167904940},
-                {0.00000003805, 5.95512913152, 3117.50828622269},
-                {0.00000002874, 3.66628534507, 89.35557591640},
-                {0.00000003560, 1.32400783975, 748.34168744680},
-                {0.00000002905, 1.68667534198, 872.66572021069},
-                {0.00000003186, 1.44507525550, 53.87597151011},
-                {0.00000003567, 0.42211414373, 403.37800970800},
-                {0.00000003734, 1.03461913269, 909.46304098649},
-                {0.00000003317, 4.89578641117, 204.45725824539},
-                {0.00000003185, 1.08710540110, 5982.22116553039},
-                {0.00000002821, 1.40365542947, 116.78178841100},
-                {0.00000002821, 4.54524808306, 116.29415344400},
-                {0.00000002924, 0.75846929777, 143.90275367970},
-                {0.00000003219, 5.30142553407, 76.82540294419},
-                {0.00000002902, 4.45890194491, 102.58583217670},
-                {0.00000002902, 0.22050049109, 47.46499992491},
-                {0.00000003255, 5.74825712501, 482.61302640021},
-                {0.00000002994, 5.12441523239, 162.39206934450},
-                {0.00000003717, 0.23818776188, 6061.45618222260},
-                {0.00000003942, 1.61239965392, 6096.62027244380},
-                {0.00000003586, 1.46434409680, 983.35967639710},
-                {0.00000002803, 1.56231272650, 644.07325706060},
-                {0.00000002802, 0.40865678955, 1592.28565818390},
-                {0.00000003498, 4.37296414373, 232.29286101720},
-                {0.00000003387, 6.19927452252, 25861.83005568049},
-                {0.00000003049, 4.51772783361, 6529.93336607319},
-                {0.00000002910, 2.86684983161, 355.99256305531},
-                {0.00000003266, 0.17501993824, 265.48484356309},
-                {0.00000003868, 0.77123558868, 2124.73981801839},
-                {0.00000003667, 3.65486471998, 415.90818268021},
-                {0.00000002825, 0.53458307880, 294.31728407620},
-                {0.00000002775, 2.76199074220, 552.02618310591},
-                {0.00000003099, 4.33492138442, 436.50630177909},
-                {0.00000002858, 2.09037051250, 529.88659846831},
-                {0.00000003700, 4.15420608664, 25864.79900109709},
-                {0.00000002855, 5.39205642374, 529.98296668790},
-                {0.00000002805, 3.60457168165, 2089.05197080790},
-                {0.00000002766, 0.96760939061, 1600.36241303120},
-                {0.00000003634, 1.43359949431, 77.88248688280},
-                {0.00000003634, 0.10421028810, 72.16834521881},
-                {0.00000002849, 2.43470556852, 323.48860171000},
-                {0.00000002774, 5.37593250032, 1606.09455318770},
-                {0.00000002788, 0.35923619267, 187.03172416360},
-                {0.00000002971, 4.67124649084, 586.13318938849},
-                {0.00000002901, 3.95305253167, 62.52887297340},
-                {0.00000003856, 4.23035221531, 113.21333344280},
-                {0.00000002957, 2.32108601739, 53.82778740031},
-                {0.00000002741, 0.10208197320, 274.34349570310},
-                {0.00000002895, 0.50990419090, 151.60700151150},
-                {0.00000002827, 2.92280651892, 979.21507481291},
-                {0.00000003178, 0.90273597947, 529.67415014720},
-                {0.00000003613, 0.34914098910, 583.65187893891},
-                {0.00000003096, 0.25244426036, 530.19541500900},
-                {0.00000003630, 1.66641450382, 9991.66587844219},
-                {0.00000002778, 3.05604055978, 465.02992575149},
-                {0.00000002899, 4.18012528286, 428.32648106781},
-                {0.00000002977, 4.24176871345, 74.37772238940},
-                {0.00000003543, 1.80484832429, 764.67758488250},
-                {0.00000002975, 2.63804412296, 224.42855449101},
-                {0.00000003288, 2.22514165222, 201.04636984410},
-                {0.00000003824, 5.50963415570, 826.92901047760},
-                {0.00000003019, 5.25002429145, 829.16424271130},
-                {0.00000002780, 0.89847082818, 64.45528866639},
-                {0.00000003345, 5.42351008501, 170.46882419179},
-                {0.00000003345, 5.42351008501, 170.95645915881},
-                {0.00000003500, 0.43652930557, 9915.39980716659},
-                {0.00000003048, 1.32379750445, 409.89204715720},
-                {0.00000002854, 4.81337886926, 112.25012559630},
-                {0.00000002775, 6.07066333426, 395.34943897051},
-                {0.00000002715, 4.37307075717, 1533.49751061680},
-                {0.00000002941, 6.11824676700, 148.11009358871},
-                {0.00000002946, 0.37007486704, 430.77416162260},
-                {0.00000003426, 0.17468746696, 914.72841698410},
-                {0.00000003161, 4.04783639199, 554.42567955090},
-                {0.00000002968, 2.94519329004, 1542.09553032591},
-                {0.00000003071, 5.84592008895, 1062.80714141041},
-                {0.00000002999, 3.40007090655, 132.82342352100},
-                {0.00000003514, 1.73252446796, 6355.13232062560},
-                {0.00000002745, 3.12838183717, 482.01351684860},
-                {0.00000002850, 5.11696140522, 395.66495315560},
-                {0.00000002663, 2.78626662149, 96.48367713221},
-                {0.00000003000, 1.57450492122, 519.85229016070},
-                {0.00000002655, 2.76109188739, 1160.58635552159},
-                {0.00000003001, 2.18803399036, 253.81481257341},
-                {0.00000002983, 2.51014988868, 9912.43086174999},
-                {0.00000002641, 3.23932215146, 487.39651292520},
-                {0.00000003712, 3.03500052569, 10026.82996866339},
-                {0.00000003062, 2.34062617235, 789.70430093210},
-                {0.00000003147, 2.79398254369, 394.70174530910},
-                {0.00000002712, 5.80476756645, 78.16111780620},
-                {0.00000002692, 3.19752932766, 161.16822906709},
-                {0.00000003303, 0.22748739897, 7.94806531530},
-                {0.00000002747, 4.38283979645, 1372.40097825130},
-                {0.00000003011, 0.65384486578, 1605.83142862930},
-                {0.00000002807, 4.16656584606, 208.12628695010},
-                {0.00000002631, 4.42161511005, 271.64973693240},
-                {0.00000003688, 1.09167134977, 26543.05632558499},
-                {0.00000003416, 5.17742066298, 331.07772159029},
-                {0.00000002951, 1.21275667976, 12564.91104475801},
-                {0.00000002727, 5.15144703991, 1064.07916579760},
-                {0.00000002902, 4.64267920679, 1540.87418217599},
-                {0.00000002728, 3.02052878065, 109.55636682560},
-                {0.00000002999, 1.06420381994, 219.27505307800},
-                {0.00000002764, 2.64750487696, 142.20583265029},
-                {0.00000002586, 3.64905087080, 959.81743305580},
-                {0.00000002719, 5.16300330262, 52325.61329776649},
-                {0.00000003042, 4.27530437715, 752.79510557170},
-                {0.00000003089, 2.35849730561, 93.28772917949},
-                {0.00000003647, 0.50719381004, 697.56335088530},
-                {0.00000003492, 4.34377581989, 580.91350537320},
-                {0.00000003597, 4.95426722828, 132.28090679980},
-                {0.00000002974, 5.48085946209, 444.58305662640},
-                {0.00000002572, 1.10174431945, 2117.52320515360},
-                {0.00000002572, 4.16924943967, 23.33205575259},
-                {0.00000003167, 2.20892124981, 12567.87999017460},
-                {0.00000003382, 3.15537208847, 10285.34201684520},
-                {0.00000002555, 5.91884582039, 678.11657286839},
-                {0.00000003300, 3.72323989169, 440.65090336330},
-                {0.00000002831, 2.72460046701, 540.01727499551},
-                {0.00000003189, 2.12670165168, 769.86363900301},
-                {0.00000003190, 3.97099477941, 2424.35384725460},
-                {0.00000003280, 1.96587920993, 86.38663049980},
-                {0.00000002780, 2.14794520908, 1586.34776735071},
-                {0.00000002594, 0.18719015167, 1373.88545095959},
-                {0.00000002782, 5.73984608000, 1268.99268984760},
-                {0.00000003010, 5.61450100119, 1543.84312759260},
-                {0.00000003022, 2.75503960638, 181.29958400710},
-                {0.00000003022, 2.75503960638, 180.81194904009},
-                {0.00000002833, 0.53805108835, 555.79827767460},
-                {0.00000003293, 4.97275203910, 463.49057128900},
-                {0.00000003316, 0.94183619384, 807.99667464080},
-                {0.00000003300, 2.30840103920, 649.80539721709},
-                {0.00000002983, 1.81721249094, 936.40161851410},
-                {0.00000002865, 0.19981322997, 2192.40786958489},
-                {0.00000003356, 0.40284796347, 247.58622872930},
-                {0.00000002506, 0.59305762652, 40.85816357090},
-                {0.00000003114, 3.54141009377, 1553.89199011520},
-                {0.00000003268, 4.76214402026, 737.66849419841},
-                {0.00000003100, 2.50710858069, 657.66721161581},
-                {0.00000002510, 3.00502356004, 20278.24855051219},
-                {0.00000002833, 4.70043916327, 539.81152431880},
-                {0.00000002554, 0.54563041227, 826.19529729470},
-                {0.00000002806, 4.14737433673, 351.94853520760},
-                {0.00000002633, 2.39197384134, 1448.66704952690},
-                {0.00000002482, 3.92431211413, 1159.10188281330},
-                {0.00000003088, 2.06985743220, 245.78624183590},
-                {0.00000003458, 3.00992932151, 809.48114734910},
-                {0.00000003385, 5.68731744934, 1056.44435393500},
-                {0.00000003050, 0.67258736204, 52174.56562792359},
-                {0.00000002571, 3.71059042018, 584.58502620540},
-                {0.00000002506, 1.51980608116, 381.88968804659},
-                {0.00000002718, 0.91305266395, 352.17228437681},
-                {0.00000003112, 3.60340669115, 481.12855369190},
-                {0.00000002427, 2.03240412489, 20275.27960509559},
-                {0.00000002660, 4.68536158090, 587.55397162200},
-                {0.00000003031, 4.22810484249, 106.62105130379},
-                {0.00000002876, 5.82406245556, 837.76226242039},
-                {0.00000002876, 2.68246980196, 838.24989738740},
-                {0.00000002493, 3.29469616302, 339.53023682000},
-                {0.00000003071, 1.37054633718, 264.74863825270},
-                {0.00000002956, 5.93090344870, 561.64229241569},
-                {0.00000002956, 2.78931079511, 562.12992738271},
-                {0.00000002675, 0.11376507333, 257.66872114670},
-                {0.00000002412, 1.78724601033, 537.15139544289},
-                {0.00000002425, 1.27553210878, 243.65407546620},
-                {0.00000003094, 5.60755227933, 911.75947156750},
-                {0.00000002916, 0.94105407657, 627.12329585830},
-                {0.00000002461, 2.33753824934, 672.69994689699},
-                {0.00000003109, 4.52636545098, 45.27795180100},
-                {0.00000003239, 2.55766569454, 412.33972771199},
-                {0.00000002930, 6.24282243242, 173.38288785421},
-                {0.00000002377, 3.93847902994, 1927.95543844240},
-                {0.00000002783, 3.74679957070, 888.96798775160},
-                {0.00000002572, 4.97882149879, 1536.46645603341},
-                {0.00000002447, 3.55705970755, 1327.57508673799},
-                {0.00000002533, 4.52831931294, 1330.54403215460},
-                {0.00000002951, 1.23845421338, 328.59641114070},
-                {0.00000002474, 1.24533740369, 1407.51018671831},
-                {0.00000002518, 5.39696631071, 175.57663362249},
-                {0.00000002678, 2.58260670513, 180.40581212981},
-                {0.00000003251, 0.33431351861, 83.41098743880},
-                {0.00000002327, 2.23207080538, 325.54922103430},
-                {0.00000002802, 1.73977371146, 121.81135315189},
-                {0.00000002675, 3.92263515595, 105.62421356250},
-                {0.00000002909, 5.49280329616, 651.18680406140},
-                {0.00000002358, 2.87531802084, 377.87821290640},
-                {0.00000002780, 2.31107301213, 291.29345690540},
-                {0.00000002876, 4.06630905979, 6813.01063256950},
-                {0.00000002523, 4.12709915871, 440.91153579420},
-                {0.00000003239, 4.67199575771, 724.84762821529},
-                {0.00000002532, 0.78821708791, 39.34006096781},
-                {0.00000002503, 5.06436722887, 360.30392097830},
-                {0.00000002568, 1.92793293351, 1699.52303398670},
-                {0.00000002570, 0.58090295304, 299.47327761669},
-                {0.00000003223, 5.76095108778, 442.39600850250},
-                {0.00000002316, 1.18843210875, 714.92270236481},
-                {0.00000002457, 5.86455646124, 552.82933225800},
-                {0.00000002319, 2.34143811502, 290.12449838219},
-                {0.00000002922, 2.46474269442, 1600.20235433680},
-                {0.00000002297, 3.45720493767, 1811.52934209949},
-                {0.00000002674, 5.89642910933, 519.26158932971},
-                {0.00000002585, 5.75658839358, 754.27957828001},
-                {0.00000002277, 1.29593099122, 386.10372559999},
-                {0.00000002326, 4.96863117046, 172.80463016199},
-                {0.00000003163, 3.75842207356, 476.18750059999},
-                {0.00000003127, 1.03528434148, 652.98679095480},
-                {0.00000003015, 6.17163510089, 3190.80541208169},
-                {0.00000003015, 3.03004244730, 3191.29304704871},
-                {0.00000002772, 5.78976016729, 431.08967580769},
-                {0.00000002329, 6.09581509908, 759.01488069520},
-                {0.00000002334, 4.33637332299, 837.97471074149},
-                {0.00000002991, 2.07030361268, 458.81015062800},
-                {0.00000003166, 3.17988758658, 26161.44408491669},
-                {0.00000002566, 5.96622982807, 63.23144838899},
-                {0.00000002282, 0.94732597842, 811.21744376770},
-                {0.00000002423, 5.49223138244, 103.10958916600},
-                {0.00000003125, 6.04955881702, 939.37056393069},
-                {0.00000002277, 5.51962275937, 0.27744737829},
-                {0.00000002982, 2.21130422996, 37.85558825950},
-                {0.00000002982, 5.35289688355, 37.36795329250},
-                {0.00000002437, 5.09941116678, 377.12075573661},
-                {0.00000002672, 1.29742000970, 412.07909528109},
-                {0.00000002289, 5.75046347059, 1258.69774910910},
-                {0.00000002259, 3.10987273961, 113.63153244060},
-                {0.00000003098, 3.32366686883, 612.42062897720},
-                {0.00000003098, 3.32366686883, 611.93299401020},
-                {0.00000003157, 2.89245113423, 3795.76561071060},
-                {0.00000002795, 5.48481257493, 10743.22032878910},
-                {0.00000002777, 3.18566798610, 211.09523236671},
-                {0.00000003088, 4.00968174537, 230.52650401861},
-                {0.00000002940, 1.94569042371, 714.66206993390},
-                {0.00000002685, 1.40856509045, 303.82362987761},
-                {0.00000002260, 3.38291888798, 124.20415195250},
-                {0.00000003092, 4.98095101091, 3414.15337004230},
-                {0.00000003015, 0.01212812855, 342.49918223660},
-                {0.00000003083, 2.29263489637, 206.95063078250},
-                {0.00000003083, 2.29263489637, 206.46299581550},
-                {0.00000002331, 0.84374458161, 820.56622300220},
-                {0.00000002712, 2.90887297124, 770.30665917500},
-                {0.00000002587, 4.14114765790, 636.20895053440},
-                {0.00000002587, 4.14114765790, 635.72131556739},
-                {0.00000002803, 4.34014546433, 25938.09612695609},
-                {0.00000002803, 1.19855281074, 25938.58376192310},
-                {0.00000002405, 0.34118525545, 488.60579898760},
-                {0.00000002359, 4.55464439275, 87.06795405600},
-                {0.00000002160, 2.34244688851, 199.52826724100},
-                {0.00000002362, 0.79682610358, 1222.03463196460},
-                {0.00000002362, 3.93841875717, 1222.52226693161},
-                {0.00000002740, 5.56893792908, 627.61093082531},
-                {0.00000002798, 0.78287898333, 771.34811171130},
-                {0.00000002798, 0.78287898333, 770.86047674430},
-                {0.00000002435, 3.93525838301, 350.08830211689},
-                {0.00000002357, 6.18080965950, 355.24180352990},
-                {0.00000002485, 5.35449462342, 142.41828097139},
-                {0.00000002521, 2.60576764189, 129.67565967810},
-                {0.00000002089, 0.73778136703, 74.58596519360},
-                {0.00000002302, 4.80810165693, 52177.04693837319},
-                {0.00000002302, 1.66650900334, 52177.53457334019},
-                {0.00000002619, 3.19212100623, 1321.68288788710},
-                {0.00000002572, 4.73607789846, 659.43031524749},
-                {0.00000002225, 6.24656870358, 59.52629766200},
-                {0.00000002835, 1.73395299243, 59.34747923569},
-                {0.00000002282, 0.93137400045, 295.91363136910},
-                {0.00000001992, 1.74985561339, 765.64079272899},
-                {0.00000001992, 1.74985561339, 766.12842769600},
-                {0.00000002574, 4.89834107176, 192.56022471960},
-                {0.00000002264, 5.64468052990, 75.05904594560},
-                {0.00000002089, 4.42711005532, 74.48959697400},
-                {0.00000002032, 3.40351035240, 215.68177693560},
-                {0.00000001982, 5.16439207994, 898.52921530720},
-                {0.00000001982, 5.16439207994, 899.01685027420},
-                {0.00000002374, 0.01113742145, 550.96909916730},
-                {0.00000002374, 3.15273007504, 551.45673413431},
-                {0.00000002352, 4.77946960216, 24.36220744081},
-                {0.00000002591, 5.32795008432, 367.72628451979},
-                {0.00000002230, 6.23634089876, 329.96900926440},
-                {0.00000002610, 4.30928957119, 66.15220969580},
-                {0.00000002610, 1.16769691760, 66.63984466281},
-                {0.00000001942, 0.75979107585, 74.69783977820},
-                {0.00000002217, 4.28506837956, 353.05724753350},
-                {0.00000002034, 2.87672963893, 527.96267490280},
-                {0.00000002034, 6.01832229252, 528.45030986980},
-                {0.00000002025, 3.47385821354, 94.98465020890},
-                {0.00000002220, 1.63487182927, 160.36507991500},
-                {0.00000002205, 3.89758784429, 460.78225830330},
-                {0.00000002205, 0.75599519071, 460.29462333630},
-                {0.00000001903, 0.55549926481, 170.51700830159},
-                {0.00000001903, 3.69709191840, 171.00464326860},
-                {0.00000001880, 1.20742771402, 845.83901726770},
-                {0.00000001879, 3.10039964385, 810.41429461559},
-                {0.00000001918, 5.86821877824, 980.42436087530},
-                {0.00000001918, 5.86821877824, 980.91199584231},
-                {0.00000002012, 6.16028051115, 482.97672469510},
-                {0.00000002408, 2.08338219083, 673.56008887950},
-                {0.00000002408, 5.22497484442, 673.07245391250},
-                {0.00000001917, 6.07962338817, 464.22677659940},
-                {0.00000001917, 2.93803073458, 464.71441156640},
-                {0.00000002523, 5.39756661705, 207.11738712130},
-                {0.00000002235, 3.16893594529, 156.28742217250},
-                {0.00000001889, 1.49538325556, 96.62918161160},
-                {0.00000002163, 6.02567448655, 1325.12740618320},
-                {0.00000002163, 6.02567448655, 1325.61504115020},
-                {0.00000002041, 3.14152073195, 753.38580640270},
-                {0.00000002385, 2.09028108448, 589.10213480510},
-                {0.00000002385, 2.09028108448, 589.58976977210},
-                {0.00000002320, 6.09175102857, 153.77279777600},
-                {0.00000001825, 5.92052919225, 241.62708603669},
-                {0.00000001938, 1.19271280652, 989.98558843089},
-                {0.00000001938, 4.33430546011, 990.47322339791},
-                {0.00000001801, 3.16549584218, 386.47623261550},
-                {0.00000001801, 0.02390318859, 386.96386758251},
-                {0.00000001870, 5.04637132802, 814.08332332030},
-                {0.00000001870, 1.90477867443, 813.59568835330},
-                {0.00000001820, 1.38338010829, 194.42045781031},
-                {0.00000002331, 5.06651614946, 229.20878764910},
-                {0.00000001846, 3.96765232448, 1310.63718762320},
-                {0.00000001813, 5.03930311956, 242.85092631409},
-                {0.00000001813, 5.03930311956, 243.33856128110},
-                {0.00000002125, 2.47782176621, 927.73416283579},
-                {0.00000001841, 2.32220678128, 114.15528942990},
-                {0.00000001770, 1.07929229507, 113.89465699899},
-                {0.00000001797, 3.39032778968, 286.35240381350},
-                {0.00000002348, 5.43827517653, 838.46234570850},
-                {0.00000002341, 2.42376209355, 80.47567191700},
-                {0.00000002214, 0.68034717267, 355.50492808829},
-                {0.00000001986, 1.15722169964, 180.55131660920},
-                {0.00000001742, 4.55052960802, 380.37158544351},
-                {0.00000001858, 0.90088013499, 1471.50920958009},
-                {0.00000001858, 4.04247278858, 1471.99684454710},
-                {0.00000001883, 1.87812922018, 102.76714273050},
-                {0.00000002209, 6.09138093441, 658.40341692619},
-                {0.00000002209, 6.09138093441, 658.89105189320},
-                {0.00000001942, 3.82543532079, 703.38936713389},
-                {0.00000001915, 5.01403168451, 423.17297965479},
-                {0.00000001915, 1.87243903092, 423.66061462181},
-                {0.00000002166, 4.80147535867, 79.53371592989},
-                {0.00000001755, 3.84345466047, 152.50077338879},
-                {0.00000001700, 0.11878614099, 50.15875869559},
-                {0.00000002051, 4.57025334031, 807.96661406080},
-                {0.00000002051, 1.42866068672, 808.45424902780},
-                {0.00000001839, 4.18677723700, 756.56720014041},
-                {0.00000001682, 5.63413232593, 1049.57688515010},
-                {0.00000001682, 5.63413232593, 1050.06452011710},
-                {0.00000001706, 0.05840133316, 832.34563644899},
-                {0.00000001706, 3.19999398675, 832.83327141600},
-                {0.00000001776, 5.33275323151, 1384.93115122349},
-                {0.00000001776, 5.33275323151, 1385.41878619050},
-                {0.00000001811, 6.22065088973, 454.55367445919},
-                {0.00000001811, 3.07905823614, 455.04130942620},
-                {0.00000001692, 0.01726995267, 271.16210196539},
-                {0.00000002206, 1.46100694835, 132.33578855399},
-                {0.00000001658, 1.87948596313, 184.33796539290},
-                {0.00000001875, 0.56092257594, 1282.58913653029},
-                {0.00000001875, 0.56092257594, 1283.07677149730},
-                {0.00000001686, 2.02094532949, 406.71065341949},
-                {0.00000001686, 5.16253798308, 407.19828838650},
-                {0.00000002083, 2.68520521916, 119.63885924300},
-                {0.00000002240, 5.47514142442, 404.37484744930},
-                {0.00000001952, 4.95402575397, 458.33457774851},
-                {0.00000001952, 1.81243310038, 457.84694278150},
-                {0.00000002288, 0.80055559380, 135.30473397060},
-                {0.00000001949, 4.83910213339, 1056.16916728910},
-                {0.00000001949, 4.83910213339, 1056.65680225610},
-                {0.00000001974, 3.45809672503, 269.93826168799},
-                {0.00000001974, 3.45809672503, 270.42589665501},
-                {0.00000001659, 0.74121494237, 1450.31158092960},
-                {0.00000001659, 3.88280759596, 1450.79921589661},
-                {0.00000002309, 2.28366049597, 74.79841351470},
-                {0.00000001644, 5.02792890637, 321.51649403470},
-                {0.00000001644, 5.02792890637, 322.00412900171},
-                {0.00000001656, 2.46567744969, 516.91697463890},
-                {0.00000001656, 5.60727010328, 517.40460960590},
-                {0.00000002034, 5.98898663260, 274.87931477991},
-                {0.00000002034, 2.84739397901, 274.39167981289},
-                {0.00000002154, 1.72886095548, 516.29264391310},
-                {0.00000002154, 1.72886095548, 515.80500894610},
-                {0.00000001711, 3.10813260274, 885.99904233499},
-                {0.00000001711, 6.24972525633, 886.48667730201},
-                {0.00000001826, 4.02049514986, 398.43695661610},
-                {0.00000001826, 0.87890249627, 398.92459158310},
-                {0.00000001966, 5.67503368913, 15.90969221110},
-                {0.00000001966, 5.67503368913, 16.39732717810},
-                {0.00000001678, 5.26599059550, 1182.67775604939},
-                {0.00000001678, 5.26599059550, 1183.16539101641},
-                {0.00000002098, 0.13935063439, 630.09224127489},
-                {0.00000002098, 0.13935063439, 630.57987624190},
-                {0.00000002239, 0.96016185025, 446.55516430170},
-                {0.00000002239, 4.10175450384, 446.06752933469},
-                {0.00000001889, 2.64943395349, 86.69544704049},
-                {0.00000001889, 5.79102660707, 87.18308200751},
-                {0.00000001759, 1.85756489257, 614.11755000660},
-                {0.00000001759, 1.85756489257, 613.62991503960},
-                {0.00000001673, 1.68162249326, 231.06902073981},
-                {0.00000001607, 1.04950977043, 412.12727939089},
-                {0.00000001607, 1.04950977043, 412.61491435790},
-                {0.00000002070, 2.25718168745, 824.23525170691},
-                {0.00000001835, 5.52970711900, 146.87169909629},
-                {0.00000001580, 0.04314663008, 2002.73703700969},
-                {0.00000001580, 0.04314663008, 2003.22467197670},
-                {0.00000001979, 1.17491481301, 407.23191828129},
-                {0.00000001979, 4.31650746660, 407.71955324831},
-                {0.00000001764, 3.81236252275, 544.75257741070},
-                {0.00000001815, 3.68122227110, 174.92224231670},
-                {0.00000001808, 2.97279980018, 454.77742362840},
-                {0.00000001808, 6.11439245377, 455.26505859540},
-                {0.00000001667, 5.87424656754, 409.67959883610},
-                {0.00000001667, 5.87424656754, 410.16723380310},
-                {0.00000001739, 1.78551588590, 271.42273439630},
-                {0.00000001739, 4.92710853949, 271.91036936330},
-                {0.00000001764, 4.44257226642, 625.42637482889},
-                {0.00000001764, 4.44257226642, 625.91400979590},
-                {0.00000001578, 1.06601243126, 1321.19525292009},
-                {0.00000002105, 1.19642147071, 348.12825652910},
-                {0.00000001602, 5.65877015739, 1133.91971127299},
-                {0.00000001602, 5.65877015738, 1134.40734624000},
-                {0.00000001690, 5.41519122123, 2.24955505361},
-                {0.00000001690, 2.27359856764, 1.76192008660},
-                {0.00000001611, 4.78503604384, 1442.23482608230},
-                {0.00000001611, 1.64344339025, 1442.72246104930},
-                {0.00000001553, 1.99292461065, 550.85722458270},
-                {0.00000001553, 5.13451726423, 551.34485954970},
-                {0.00000001801, 1.87398401660, 450.47276334980},
-                {0.00000001801, 1.87398401659, 450.96039831681},
-                {0.00000002000, 2.66057926360, 239.14577558710},
-                {0.00000002000, 5.80217191719, 238.65814062010},
-                {0.00000001610, 4.21223376244, 1274.72483000410},
-                {0.00000001610, 1.07064110885, 1275.21246497110},
-                {0.00000001669, 4.52228317651, 839.24673512870},
-                {0.00000001669, 1.38069052292, 839.73437009571},
-                {0.00000001618, 3.36105446751, 376.91500505990},
-                {0.00000001618, 0.21946181392, 377.40264002690},
-                {0.00000001986, 0.62147303592, 980.39073098050},
-                {0.00000001986, 0.62147303592, 979.90309601349},
-                {0.00000001523, 1.37959889046, 67.94549894479},
-                {0.00000001625, 2.05986843470, 72.94143379089},
-                {0.00000001699, 4.63549638138, 418.27761854520},
-                {0.00000001699, 1.49390372779, 418.76525351221},
-                {0.00000001699, 0.14199812582, 991.47006113920},
-                {0.00000001699, 3.28359077941, 991.95769610620},
-                {0.00000002140, 6.17088765144, 468.89264304540},
-                {0.00000002140, 6.17088765144, 469.38027801241},
-                {0.00000001943, 5.41638718025, 55.52720055719},
-                {0.00000001887, 2.96965661566, 250.92768116140},
-                {0.00000001887, 6.11124926925, 251.41531612840},
-                {0.00000001500, 3.62083637810, 63.60395540450},
-                {0.00000001595, 1.27948001449, 440.17533048380},
-                {0.00000001595, 4.42107266808, 439.68769551680},
-                {0.00000001499, 2.15375666291, 309.03450517230},
-                {0.00000001499, 2.15375666291, 309.52214013930},
-                {0.00000001554, 3.36297518119, 759.04851059000},
-                {0.00000001554, 3.36297518119, 759.53614555700},
-                {0.00000001834, 4.64222921780, 1.45310354590},
-                {0.00000001834, 1.50063656421, 1.94073851290},
-                {0.00000002054, 4.13508560420, 549.97226142600},
-                {0.00000002054, 4.13508560420, 549.48462645899},
-                {0.00000001488, 4.40870494577, 1095.36598450990},
-                {0.00000001488, 4.40870494577, 1095.85361947691},
-                {0.00000001484, 2.39819072564, 68.12431737110},
-                {0.00000001818, 0.16664442254, 587.61766209680},
-                {0.00000001818, 3.30823707613, 588.10529706381},
-                {0.00000001714, 2.03603945431, 245.03548231051},
-                {0.00000001714, 2.03603945431, 244.54784734349},
-                {0.00000001920, 0.93463073151, 675.04456158780},
-                {0.00000001920, 4.07622338510, 674.55692662080},
-                {0.00000001504, 5.74149452616, 833.79647926250},
-                {0.00000002044, 5.51343159668, 6662.95980046789},
-                {0.00000002044, 5.51343159668, 6663.44743543490},
-                {0.00000001648, 1.91165234067, 438.54209992920},
-                {0.00000001466, 4.96970702490, 304.36614659881},
-                {0.00000001472, 3.31043387588, 1257.45935461670},
-                {0.00000001472, 3.31043387588, 1257.94698958370},
-                {0.00000001615, 0.76736560614, 984.35651413839},
-                {0.00000001625, 5.07920389470, 949.19242391720},
-                {0.00000001625, 1.93761124111, 949.68005888420},
-                {0.00000001715, 6.06338805381, 349.61272923740},
-                {0.00000001931, 0.83387866179, 1819.88128359270},
-                {0.00000001450, 2.21466410541, 493.75930040060},
-                {0.00000001450, 2.21466410541, 493.27166543360},
-                {0.00000001436, 4.35227364990, 430.02340209721},
-                {0.00000001436, 4.35227364990, 429.53576713020},
-                {0.00000001945, 6.20261907757, 131.68139724819},
-                {0.00000001431, 6.07196110025, 157.39613449839},
-                {0.00000001662, 0.09098469501, 6209.53490664889},
-                {0.00000001662, 3.23257734860, 6210.02254161590},
-                {0.00000001819, 5.07998451030, 1008.73553652659},
-                {0.00000001819, 1.93839185671, 1009.22317149361},
-                {0.00000001518, 2.72434442822, 328.67822514530},
-                {0.00000001518, 2.72434442822, 329.16586011230},
-                {0.00000001638, 3.00636571119, 519.88592005549},
-                {0.00000001638, 3.00636571119, 520.37355502251},
-                {0.00000001680, 6.03882975885, 359.64952967250},
-                {0.00000001680, 2.89723710526, 360.13716463950},
-                {0.00000001843, 5.67893032773, 478.15960827531},
-                {0.00000001843, 5.67893032773, 477.67197330830},
-                {0.00000001489, 3.54216170755, 400.49087829599},
-                {0.00000001489, 0.40056905396, 400.97851326301},
-                {0.00000001752, 0.16804844040, 6271.78633224399},
-                {0.00000001752, 0.16804844040, 6272.27396721100},
-                {0.00000001895, 2.99891680203, 1055.17232954780},
-                {0.00000001895, 2.99891680203, 1054.68469458080},
-                {0.00000001717, 5.16735204147, 536.56069461190},
-                {0.00000001758, 5.73369868016, 1095.05047032480},
-                {0.00000001758, 5.73369868016, 1094.56283535780},
-                {0.00000001721, 5.73061288107, 104.33342944339},
-                {0.00000001713, 6.04365112420, 621.49422156580},
-                {0.00000001460, 1.87863990334, 341.12658411290},
-                {0.00000001460, 1.87863990334, 340.63894914589},
-                {0.00000001780, 3.52262570474, 1668.83361374980},
-                {0.00000001780, 0.38103305115, 1668.34597878280},
-                {0.00000001401, 3.66161518331, 451.48415530609},
-                {0.00000001401, 0.52002252972, 451.97179027311},
-                {0.00000001394, 2.79876022404, 252.41215386970},
-                {0.00000001942, 0.65443948228, 10593.16949668749},
-                {0.00000001942, 0.65443948228, 10593.65713165450},
-                {0.00000001427, 3.71549072767, 228.21194990781},
-                {0.00000001427, 3.71549072767, 227.72431494079},
-                {0.00000001395, 1.68241228451, 697.76029284139},
-                {0.00000001395, 1.68241228451, 698.24792780840},
-                {0.00000001403, 4.02233962356, 281.24459438279},
-                {0.00000001403, 4.02233962356, 281.73222934980},
-                {0.00000001507, 4.90762022605, 193.89919294850},
-                {0.00000001401, 3.75133437627, 47.45044570990},
-                {0.00000001458, 1.30164002580, 214.19730422731},
-                {0.00000001408, 4.84929178616, 105.76971804189},
-                {0.00000001545, 4.93926208865, 912.54386098770},
-                {0.00000001545, 1.79766943506, 913.03149595471},
-                {0.00000001780, 5.55379390271, 623.19114259520},
-                {0.00000001780, 5.55379390271, 623.67877756220},
-                {0.00000001421, 0.28471608319, 1349.50642857140},
-                {0.00000001421, 3.42630873678, 1349.99406353840},
-                {0.00000001421, 3.58407040366, 1447.18257681859},
-                {0.00000001421, 3.58407040366, 1447.67021178560},
-        };
-    }
-
-    private static void initialize_2_1()
-    {
-        classCoeff[1][1] = new double[][]{
-                {0.02225113750, 0.23889049392, 0.24381748350},
-                {0.00738897387, 4.43927593626, 149.80701461810},
-                {0.00239408407, 3.76717540218, 73.54094334250},
-                {0.00229359688, 0.91052914986, 76.50988875911},
-                {0.00110583560, 4.00448071218, 11.28951774740},
-                {0.00095657865, 5.06686614467, 63.97971578690},
-                {0.00081488096, 5.92277112536, 86.07111631471},
-                {0.00045577241, 0.72706305435, 138.76131435421},
-                {0.00051354528, 0.61825536711, 224.58861318540},
-                {0.00038568000, 5.01914859027, 71.09326278771},
-                {0.00037681305, 4.78820636032, 75.02541605080},
-                {0.00041920157, 5.73652625878, 74.53778108379},
-                {0.00036154364, 5.94864908914, 78.95756931390},
-                {0.00021671035, 3.36593709546, 151.29148732640},
-                {0.00019425371, 6.01825386971, 77.99436146740},
-                {0.00017377170, 4.95887394628, 72.05647063421},
-                {0.00015101686, 3.96616276000, 4.17597074660},
-                {0.00007734175, 0.04263276670, 71.84402231310},
-                {0.00007431784, 4.63221839509, 78.20680978850},
-                {0.00006987545, 0.83638484964, 145.87486135500},
-                {0.00007298813, 0.66426542553, 3.21276290011},
-                {0.00007589358, 1.19697295521, 148.32254190981},
-                {0.00004377580, 2.17199709718, 160.85271488200},
-                {0.00003947976, 3.17415954213, 65.46418849521},
-                {0.00004122455, 6.19822707406, 22.33521801130},
-                {0.00002797759, 3.33611153878, 213.54291292150},
-                {0.00002617647, 1.79307323508, 9.80504503910},
-                {0.00002637599, 2.97095004820, 12.77399045571},
-                {0.00003175281, 3.08123141539, 299.37021175271},
-                {0.00002245280, 5.07246912294, 52.44638055600},
-                {0.00002227953, 4.89367152704, 87.55558902300},
-                {0.00002822936, 1.83097011748, 84.58664360640},
-                {0.00002517942, 1.26953424709, 18.40306474821},
-                {0.00002220819, 3.21400436294, 72.57773549600},
-                {0.00001622656, 2.18707111524, 153.73916788121},
-                {0.00001925669, 0.82858902246, 39.86132582961},
-                {0.00001555527, 2.56671995255, 74.06220820430},
-                {0.00001901819, 4.78958433549, 127.71561409031},
-                {0.00001598284, 4.79586647820, 79.47883417571},
-                {0.00001476433, 2.10157835287, 75.98862389731},
-                {0.00001532412, 2.14699190783, 152.77596003471},
-                {0.00001440833, 0.60856377911, 127.22797912329},
-                {0.00001745915, 1.67843758301, 77.47309660560},
-                {0.00001713773, 1.82301190922, 223.10414047710},
-                {0.00001706344, 5.82533914555, 226.07308589371},
-                {0.00001357973, 6.18089361282, 70.57199792590},
-                {0.00001738426, 3.82544050989, 146.83806920150},
-                {0.00001467571, 5.10136854333, 2.93757625420},
-                {0.00001179806, 3.56840380352, 220.65645992230},
-                {0.00001236409, 5.69350914104, 4.69723560840},
-                {0.00001067152, 6.09416202691, 62.49524307860},
-                {0.00000977123, 5.73086540533, 74.91354146621},
-                {0.00000977123, 5.23172233785, 75.13729063540},
-                {0.00000937717, 1.52410870371, 56.86616878610},
-                {0.00001087876, 3.42153780818, 131.64776735340},
-                {0.00000890295, 2.70229070005, 426.84200835950},
-                {0.00001040906, 3.84755403081, 110.18950627200},
-                {0.00000935342, 1.92101982937, 149.31937965110},
-                {0.00000862611, 2.93877651502, 52.93401552300},
-                {0.00000777859, 1.44001318420, 63.49208081989},
-                {0.00000746826, 3.21375563841, 93.18466331550},
-                {0.00000747709, 4.36891744549, 206.42936592071},
-                {0.00000648200, 4.91583959018, 80.44204202221},
-                {0.00000640350, 1.39049394918, 1.24065522479},
-                {0.00000794750, 1.71892347867, 7.35736448430},
-                {0.00000605254, 4.81788763333, 1059.62574767270},
-                {0.00000615326, 0.13279791934, 10.80188278040},
-                {0.00000569613, 6.19438038601, 73.05330837550},
-                {0.00000665795, 1.92703769837, 97.11681657861},
-                {0.00000575875, 0.85800317726, 522.82123557730},
-                {0.00000563041, 0.34515637363, 537.04832957890},
-                {0.00000493956, 1.93216860314, 137.27684164590},
-                {0.00000477372, 5.87004905618, 41.34579853790},
-                {0.00000445046, 2.08028645037, 2.69149803831},
-                {0.00000441333, 5.78719554674, 67.91186905000},
-                {0.00000413028, 2.21824858776, 66.94866120350},
-                {0.00000408718, 5.05109929565, 82.13896305161},
-                {0.00000393354, 0.01753896463, 15.22167101050},
-                {0.00000347208, 2.52660613312, 146.62562088040},
-                {0.00000350848, 4.64021047834, 76.02225379210},
-                {0.00000311934, 6.04641128519, 1.72829019180},
-                {0.00000307527, 3.13299616747, 202.49721265760},
-                {0.00000343437, 2.85099749738, 142.69346761730},
-                {0.00000291412, 2.84716827670, 5.66044345490},
-                {0.00000327071, 4.27135603462, 113.15845168861},
-                {0.00000283053, 2.69361373135, 138.27367938720},
-                {0.00000276688, 1.94716640065, 70.60562782070},
-                {0.00000279650, 2.52443983499, 83.10217089810},
-                {0.00000294524, 5.21442700405, 145.35359649321},
-                {0.00000254666, 4.68346860260, 235.63431344930},
-                {0.00000294078, 2.63162352478, 33.43580002939},
-                {0.00000275813, 2.69692194100, 56.37853381910},
-                {0.00000255740, 2.28857138569, 265.74547599400},
-                {0.00000273184, 0.38956727235, 36.89238041300},
-                {0.00000246560, 3.74959440503, 159.36824217371},
-                {0.00000235614, 2.06048819267, 20.85074530300},
-                {0.00000217300, 2.68296221034, 152.98840835580},
-                {0.00000233552, 5.10562451416, 108.70503356371},
-                {0.00000209062, 3.07234563267, 140.24578706250},
-                {0.00000229061, 4.38926682332, 194.89603068979},
-                {0.00000197502, 0.42703110531, 190.96387742670},
-                {0.00000194913, 3.89875917751, 209.12312469139},
-                {0.00000192549, 5.17184042822, 23.81969071961},
-                {0.00000228047, 4.16747124114, 297.88573904440},
-                {0.00000167442, 1.30512782686, 134.34152612410},
-                {0.00000169219, 5.32760035006, 59.55992755679},
-                {0.00000182817, 4.71950113329, 134.82916109110},
-                {0.00000154035, 5.62362511366, 288.32451148881},
-                {0.00000165598, 4.46093635884, 6.18170831670},
-                {0.00000153435, 1.12954247651, 162.33718759030},
-                {0.00000191930, 5.54402688683, 374.15181032000},
-                {0.00000154136, 1.68406483408, 14.25846316400},
-                {0.00000152205, 2.69999688221, 120.11443212250},
-                {0.00000179814, 2.43767426020, 60.04756252381},
-                {0.00000143557, 4.23090875226, 212.05844021321},
-                {0.00000141934, 6.02296068352, 69.60879007940},
-                {0.00000140696, 3.78608728509, 29.44876501211},
-                {0.00000140277, 3.58845867295, 80.96330688400},
-                {0.00000134345, 5.14541559038, 39.60069339870},
-                {0.00000148026, 1.44796277531, 186.45557754760},
-                {0.00000138037, 0.16623715920, 3.68833577960},
-                {0.00000122748, 2.86265578538, 129.20008679860},
-                {0.00000132977, 5.88158107492, 68.80564092731},
-                {0.00000141987, 3.15548842991, 114.64292439690},
-                {0.00000132318, 2.36034544105, 90.00326957780},
-                {0.00000116010, 1.93581371352, 33.38091827520},
-                {0.00000119775, 1.10226576648, 69.08752521760},
-                {0.00000120027, 2.55359011727, 305.10235190919},
-                {0.00000117279, 5.41876945206, 277.27881122490},
-                {0.00000120086, 1.31242375861, 50.64639366260},
-                {0.00000109599, 3.65947356465, 89.04006173130},
-                {0.00000121041, 0.94635029675, 154.26043274300},
-                {0.00000118779, 5.08108465545, 81.24519117430},
-                {0.00000103250, 2.14332472656, 144.39038864671},
-                {0.00000118351, 2.99239145613, 41.40068029210},
-                {0.00000116406, 4.85267098663, 116.18227885939},
-                {0.00000136248, 1.02614107930, 45.33283355520},
-                {0.00000104859, 1.08415262437, 54.41848823131},
-                {0.00000096225, 6.02638036659, 50.96190784770},
-                {0.00000116279, 4.59183961032, 227.55755860200},
-                {0.00000122913, 2.00108805237, 300.85468446100},
-                {0.00000093159, 5.79382600147, 110.45013870291},
-                {0.00000102738, 3.77683090065, 152.25469517290},
-                {0.00000086724, 0.10102936322, 7.83293736379},
-                {0.00000081743, 4.69965325972, 228.52076644850},
-                {0.00000084795, 4.63965252699, 42.83027124621},
-                {0.00000075252, 1.65398168749, 2.20386307129},
-                {0.00000074096, 4.96998649948, 148.84380677161},
-                {0.00000074141, 4.55571799271, 150.77022246460},
-                {0.00000080549, 3.37285893842, 99.40443843901},
-                {0.00000073326, 1.94650353151, 640.14110379750},
-                {0.00000081866, 3.90328813556, 31.95132732110},
-                {0.00000073049, 1.65979346411, 9.31741007210},
-                {0.00000074334, 3.16185820508, 8.32057233081},
-                {0.00000073323, 3.78688502488, 95.63234387030},
-                {0.00000069283, 0.88641793058, 120.60206708950},
-                {0.00000067771, 4.95516064946, 16.91859203990},
-                {0.00000071013, 3.42555712405, 24.13520490470},
-                {0.00000075802, 3.00563101406, 36.40474544600},
-                {0.00000079127, 5.99063673101, 5.97595764000},
-                {0.00000072170, 3.97968852101, 404.26297286470},
-                {0.00000067065, 3.27129691616, 28.81562556571},
-                {0.00000072371, 0.35418537369, 230.32075334190},
-                {0.00000086876, 3.24212615152, 419.72846135871},
-                {0.00000062861, 0.14858922104, 202.00957769060},
-                {0.00000070935, 1.10294734261, 183.48663213100},
-                {0.00000069304, 6.08426855707, 333.41352756050},
-                {0.00000060612, 2.74156472861, 116.66991382640},
-                {0.00000060708, 4.27659252807, 70.35954960481},
-                {0.00000070577, 2.80558133688, 70.08436295889},
-                {0.00000060413, 1.36799815983, 149.91888920271},
-                {0.00000056872, 2.36058803010, 53.93085326429},
-                {0.00000056665, 3.54220331724, 79.69128249680},
-                {0.00000056672, 5.25529040442, 73.32849502140},
-                {0.00000053385, 2.11007967538, 329.48137429739},
-                {0.00000060881, 5.83277800264, 126.23114138200},
-                {0.00000055720, 2.56360473726, 76.72233708021},
-                {0.00000055712, 4.81842861613, 157.88376946540},
-                {0.00000060449, 5.61300042131, 347.64062156210},
-                {0.00000051883, 5.93550310468, 147.35933406330},
-                {0.00000053514, 2.91453252731, 433.95555536030},
-                {0.00000049248, 1.51991875678, 68.43313391180},
-                {0.00000048173, 2.90644675264, 128.71245183160},
-                {0.00000057429, 0.17436946160, 19.88753745650},
-                {0.00000045855, 0.26413680268, 8.10812400971},
-                {0.00000045035, 5.61065437203, 6.86972951729},
-                {0.00000045638, 2.94030988664, 415.30867312860},
-                {0.00000043941, 2.65210291918, 75.77617557621},
-                {0.00000043941, 2.02730403124, 74.27465652540},
-                {0.00000052767, 2.76209553241, 147.83490694279},
-                {0.00000040257, 1.13787399944, 155.22364058950},
-                {0.00000042861, 0.04761592814, 107.22056085540},
-                {0.00000039791, 4.36382280015, 258.63192899320},
-                {0.00000039522, 6.00506578609, 98.91680347199},
-                {0.00000039676, 4.00856971667, 276.79117625789},
-                {0.00000041680, 3.13707624385, 272.85902299479},
-                {0.00000049985, 1.44333404289, 125.74350641500},
-                {0.00000039779, 0.19499431864, 143.86912378490},
-                {0.00000047193, 2.77004558406, 67.16110952460},
-                {0.00000042716, 5.17138594591, 1589.31671276730},
-                {0.00000036533, 3.11312786761, 81.61769818981},
-                {0.00000046283, 2.14611986732, 62.00760811160},
-                {0.00000036873, 0.60121789532, 46.71424039951},
-                {0.00000035335, 3.24859872841, 135.79236893760},
-                {0.00000036570, 5.69158157354, 167.96626188280},
-                {0.00000033878, 0.99777389192, 14.47091148511},
-                {0.00000033444, 2.15331669456, 149.69514003350},
-                {0.00000040027, 0.39160085220, 187.94005025590},
-                {0.00000033511, 1.05857849175, 61.01077037031},
-                {0.00000037402, 4.92427573893, 259.75270340660},
-                {0.00000034209, 1.81074999609, 529.93478257810},
-                {0.00000031617, 4.39624200688, 224.10097821840},
-                {0.00000042780, 6.01622236636, 58.35064149440},
-                {0.00000030892, 0.16528925233, 1052.51220067191},
-                {0.00000030724, 4.12747584944, 103.33659170210},
-                {0.00000037429, 5.50521421633, 74.13164417351},
-                {0.00000037429, 5.45737352685, 75.91918792810},
-                {0.00000030708, 4.96119928476, 72.73779419041},
-                {0.00000030708, 6.00138845842, 77.31303791120},
-                {0.00000035364, 1.85148506912, 82.88972257700},
-                {0.00000028175, 5.61993541202, 295.43805848960},
-                {0.00000029578, 0.77172005313, 1066.73929467350},
-                {0.00000029606, 1.50195344116, 121.23520653590},
-                {0.00000028770, 1.22525548779, 6.34846465550},
-                {0.00000032637, 4.39471635403, 155.53915477459},
-                {0.00000031706, 0.35163342435, 38.37685312130},
-                {0.00000026723, 3.18108685366, 43.53284666180},
-                {0.00000027442, 1.45908203944, 220.13519506050},
-                {0.00000036094, 1.10822042269, 340.52707456129},
-                {0.00000028308, 3.44249690833, 85.58348134769},
-                {0.00000030388, 1.47086782147, 184.97110483931},
-                {0.00000033909, 4.45538444508, 171.89841514590},
-                {0.00000028512, 4.03769470105, 51.44954281471},
-                {0.00000028765, 4.21609406946, 64.97655352819},
-                {0.00000031960, 1.53179865789, 221.61966776881},
-                {0.00000026763, 5.08057063209, 217.47506618460},
-                {0.00000024737, 1.03877406496, 47.93808067690},
-                {0.00000031097, 0.82256228232, 98.60128928690},
-                {0.00000023919, 4.34411138178, 219.17198721400},
-                {0.00000029056, 2.95564309290, 106.73292588839},
-                {0.00000023488, 2.14499589339, 28.06735816780},
-                {0.00000023868, 4.71661725014, 57.49930823250},
-                {0.00000026140, 5.22576075259, 91.70019060721},
-                {0.00000024837, 1.12156921102, 25.51661174900},
-                {0.00000028239, 3.07980893828, 131.16013238639},
-                {0.00000025242, 1.50128865984, 471.93102443120},
-                {0.00000023194, 4.62622223092, 553.82616999929},
-                {0.00000023342, 2.85807908852, 61.69209392650},
-                {0.00000023751, 5.67002669100, 542.78046973539},
-                {0.00000022911, 6.01222977731, 234.14984074100},
-                {0.00000022260, 4.57484369104, 227.77000692311},
-                {0.00000021787, 3.04663671917, 19.36627259471},
-                {0.00000020991, 2.16357529707, 316.63568714010},
-                {0.00000024652, 0.81742897132, 529.44714761109},
-                {0.00000023384, 0.19757750866, 254.69977573010},
-                {0.00000021352, 3.24093992707, 7.66618102501},
-                {0.00000020300, 3.65352107570, 467.99887116810},
-                {0.00000021096, 4.52992568399, 141.94270809190},
-                {0.00000019957, 3.38374254974, 209.61075965840},
-                {0.00000022156, 4.08770290595, 68.59989025060},
-                {0.00000027098, 4.10293359896, 111.67397898031},
-                {0.00000026932, 4.47193756936, 35.40790770471},
-                {0.00000023041, 1.03752917223, 486.15811843280},
-                {0.00000023558, 5.58348547213, 195.38366565681},
-                {0.00000019352, 4.03289384970, 17.02165790390},
-                {0.00000018710, 0.49922183447, 69.91760662011},
-                {0.00000018292, 2.17112401323, 46.45360796860},
-                {0.00000018185, 6.24789116958, 92.55152386910},
-                {0.00000020489, 1.98855828236, 116.12739710521},
-                {0.00000018124, 1.81380642180, 88.35873817511},
-                {0.00000017311, 1.53887757294, 106.51798543980},
-                {0.00000019722, 5.08964188825, 296.40126633610},
-                {0.00000017322, 2.01071283768, 100.62827871640},
-                {0.00000017131, 3.14636583407, 99.14380600810},
-                {0.00000021450, 1.26935358079, 191.45151239371},
-                {0.00000016758, 5.41014316701, 210.57396750490},
-                {0.00000017082, 4.18018061343, 80.13322548150},
-                {0.00000019774, 2.05712922006, 80.75755620730},
-                {0.00000018159, 1.66942745387, 151.50393564750},
-                {0.00000016166, 6.00467687020, 397.14942586389},
-                {0.00000016332, 2.08638656812, 94.66913602380},
-                {0.00000017336, 1.91313128591, 13.08950464080},
-                {0.00000016300, 0.86950603727, 23.87457247379},
-                {0.00000018165, 0.89317841037, 198.07742442750},
-                {0.00000016506, 3.12271859353, 73.38088464811},
-                {0.00000016506, 1.55668384247, 76.66994745350},
-                {0.00000018503, 4.36296262136, 156.02678974161},
-                {0.00000017934, 2.28460392259, 182.00215942271},
-                {0.00000015839, 1.55450871101, 13.73719830221},
-                {0.00000015946, 6.02088196247, 55.90296093960},
-                {0.00000016546, 0.84116196958, 150.80385235940},
-                {0.00000017819, 4.98834752372, 221.40721944771},
-                {0.00000015752, 2.32623822944, 67.60305250931},
-                {0.00000021162, 0.30009257573, 372.66733761171},
-                {0.00000019517, 2.68086406105, 479.04457143200},
-                {0.00000017205, 4.28439583468, 213.05527795450},
-                {0.00000015267, 4.22214122299, 68.12431737110},
-                {0.00000015236, 2.15369095754, 30.30009827400},
-                {0.00000015262, 3.36861495242, 67.42423408300},
-                {0.00000014562, 1.54307290705, 50.90702609350},
-                {0.00000015149, 3.50448110876, 135.57992061650},
-                {0.00000015898, 1.65436415466, 174.18603700630},
-                {0.00000015347, 5.16270714026, 16.70614371880},
-                {0.00000014302, 0.85906505598, 310.41591201661},
-                {0.00000017345, 3.92152229754, 261.23717611490},
-                {0.00000017208, 2.56277716695, 183.85033042589},
-                {0.00000017305, 3.31883498051, 77.50672650040},
-                {0.00000014612, 5.14027366063, 30.46685461280},
-                {0.00000013603, 0.50135686748, 286.84003878050},
-                {0.00000015382, 4.90179063300, 411.37651986550},
-                {0.00000013708, 1.94288900771, 352.06040979221},
-                {0.00000013683, 2.35141963414, 82.44777959230},
-                {0.00000016002, 0.31096014945, 133.13224006171},
-                {0.00000013766, 3.40805334079, 44.31474395451},
-                {0.00000013284, 1.25113723802, 7.14491616321},
-                {0.00000012988, 5.46561702418, 173.92540457540},
-                {0.00000017441, 5.46716688700, 60.79832204921},
-                {0.00000016261, 0.42832337657, 64.73047531231},
-                {0.00000012734, 1.40651697882, 75.54668091261},
-                {0.00000012734, 0.13129280359, 74.50415118900},
-                {0.00000012700, 0.13947960635, 57.75994066341},
-                {0.00000014302, 5.43417049382, 45.82046852221},
-                {0.00000012678, 3.64176420295, 81.92651473050},
-                {0.00000016549, 4.35598801081, 760.01171843649},
-                {0.00000012720, 1.24629809128, 270.16526422410},
-                {0.00000013453, 5.32132524673, 12.28635548869},
-                {0.00000012225, 5.94217729762, 284.39235822571},
-                {0.00000011971, 0.20211111004, 32.48714639791},
-                {0.00000012357, 0.99159645729, 515.70768857651},
-                {0.00000012069, 4.64103232444, 633.02755679670},
-                {0.00000013087, 3.37495487812, 109.70187130500},
-                {0.00000011341, 1.38449312260, 189.47940471839},
-                {0.00000015361, 2.17588834575, 200.52510498229},
-                {0.00000012491, 5.89815036388, 33.92343499640},
-                {0.00000014227, 6.04854994765, 203.49405039889},
-                {0.00000011094, 4.55762820174, 267.22994870229},
-                {0.00000012080, 1.08604052506, 75.67980735660},
-                {0.00000012080, 3.59336191094, 74.37102474501},
-                {0.00000013196, 3.12727419182, 143.38148881789},
-                {0.00000013530, 4.25106140608, 85.32035678930},
-                {0.00000010739, 4.95842698659, 94.14787116200},
-                {0.00000010888, 6.11572731494, 2.72512793310},
-                {0.00000013830, 3.79412478066, 31.89644556690},
-                {0.00000011969, 2.59214165717, 42.78208713641},
-                {0.00000011212, 1.11251818011, 61.53203523210},
-                {0.00000011583, 3.50244713214, 124.53422035260},
-                {0.00000012891, 3.37083041051, 266.23311096100},
-                {0.00000010738, 1.68908917101, 35.66854013560},
-                {0.00000013803, 2.66711494730, 26.26737127440},
-                {0.00000010459, 3.55111688475, 145.14114817210},
-                {0.00000010474, 0.04265764253, 692.34366686999},
-                {0.00000010123, 3.61491688022, 237.11878615761},
-                {0.00000009800, 4.50501895948, 92.29089143820},
-                {0.00000010121, 5.88328450143, 156.39929675710},
-                {0.00000009888, 1.02644746029, 42.88515300039},
-                {0.00000010092, 2.39040220276, 215.02738562980},
-                {0.00000010098, 5.97397137094, 533.11617631580},
-                {0.00000010667, 4.94448780106, 91.80325647120},
-                {0.00000010954, 5.27602541461, 89.25251005240},
-                {0.00000009630, 2.63099197865, 55.38169607781},
-                {0.00000009631, 1.67427906238, 130.68455950690},
-                {0.00000009832, 1.26051341005, 54.57854692570},
-                {0.00000009739, 4.11020952975, 76.62176334371},
-                {0.00000009739, 3.71078555984, 73.42906875790},
-                {0.00000010658, 2.71100873007, 31.24875190549},
-                {0.00000009264, 4.78218994698, 27.33115285740},
-                {0.00000011861, 3.13876851681, 264.26100328570},
-                {0.00000009015, 3.77562206958, 17.91542978119},
-                {0.00000009170, 0.46232213879, 203.98168536590},
-                {0.00000008989, 2.84106606677, 69.12115511239},
-                {0.00000009028, 0.87504387157, 141.45507312490},
-                {0.00000009664, 0.82099305011, 41.88831525910},
-                {0.00000008940, 0.30017564872, 17.28229033479},
-                {0.00000010494, 2.74211545956, 624.67561530350},
-                {0.00000010035, 1.72606687342, 448.93340888730},
-                {0.00000010076, 1.82928700699, 685.23011986920},
-                {0.00000008857, 0.25147206510, 44.48150029329},
-                {0.00000008598, 4.49527247841, 199.31581891990},
-                {0.00000009805, 4.58844109700, 130.16329464510},
-                {0.00000008882, 4.32628974331, 105.24845318010},
-                {0.00000008882, 1.18469708972, 105.73608814710},
-                {0.00000008493, 5.75907389910, 104.23036357940},
-                {0.00000008845, 3.56612831103, 88.51879686950},
-                {0.00000008246, 4.25831523402, 269.67762925710},
-                {0.00000008157, 6.12519363628, 163.82166029861},
-                {0.00000008392, 1.12264471721, 681.29796660610},
-                {0.00000009056, 4.19874386884, 617.56206830270},
-                {0.00000008249, 5.01876074157, 454.66554904380},
-                {0.00000008521, 6.01861922798, 155.74490545130},
-                {0.00000010211, 3.35774355357, 145.38722638800},
-                {0.00000007859, 2.48342946211, 119.75073382760},
-                {0.00000008216, 0.22375706672, 544.16187657970},
-                {0.00000008454, 1.80026883651, 393.21727260080},
-                {0.00000008005, 5.18146648973, 141.73025977080},
-                {0.00000008848, 5.52195322186, 193.41155798150},
-                {0.00000007843, 5.11391333266, 46.81730626350},
-                {0.00000007556, 5.15797138498, 66.67347455760},
-                {0.00000007436, 0.34704884871, 178.11819026941},
-                {0.00000009047, 1.94321514190, 3.42521122121},
-                {0.00000007519, 5.21881995453, 341.01470952831},
-                {0.00000007416, 5.46939147004, 606.51636803880},
-                {0.00000007453, 4.06769415789, 175.40987728371},
-                {0.00000007475, 0.09186374252, 58.07545484850},
-                {0.00000008741, 3.21559628060, 58.98378094080},
-                {0.00000008749, 4.60735412655, 179.91817716280},
-                {0.00000007892, 4.97472641388, 207.63865198310},
-                {0.00000008402, 4.64207669420, 70.29011363560},
-                {0.00000008402, 0.03732574180, 79.76071846601},
-                {0.00000008251, 3.53826439231, 58.56308981550},
-                {0.00000008140, 4.15546301933, 39.91620758380},
-                {0.00000007045, 4.59142381429, 949.41942645330},
-                {0.00000007070, 3.43062742384, 610.44852130189},
-                {0.00000007791, 0.14153367545, 196.38050339810},
-                {0.00000006907, 2.01398038315, 107.74182571721},
-                {0.00000007730, 2.22526686348, 111.18634401329},
-                {0.00000007449, 1.30897364813, 142.38465107660},
-                {0.00000006733, 1.57499395274, 49.75262178531},
-                {0.00000007683, 3.44536738109, 201.01273994931},
-                {0.00000007711, 5.91236505361, 210.60759739969},
-                {0.00000006780, 5.36729251438, 78.64875277320},
-                {0.00000006780, 5.59529522880, 71.40207932840},
-                {0.00000006908, 2.35029974307, 21.84758304429},
-                {0.00000006741, 1.43650205247, 363.10611005610},
-                {0.00000006686, 0.93018730801, 109.06873185860},
-                {0.00000006572, 3.28593985233, 216.72430665921},
-                {0.00000006803, 3.41888918190, 95.47228517591},
-                {0.00000006560, 4.25376256253, 117.56368570370},
-                {0.00000007044, 5.85105840360, 114.69780615110},
-                {0.00000006442, 1.02882559759, 49.47743513939},
-                {0.00000006451, 3.83095342617, 118.62995941420},
-                {0.00000006473, 1.57630900935, 37.88921815429},
-                {0.00000006192, 5.11515001565, 380.84715832300},
-                {0.00000006192, 3.97082658887, 528.97157473160},
-                {0.00000006479, 5.64756980391, 133.34468838281},
-                {0.00000006479, 2.50597715032, 132.85705341579},
-                {0.00000006351, 1.72152539515, 45.96597300160},
-                {0.00000006402, 1.58450052990, 535.66692273460},
-                {0.00000007995, 4.48478615852, 35.18090516859},
-                {0.00000006129, 3.11693398156, 136.31363379940},
-                {0.00000006460, 3.76193692281, 216.23667169220},
-                {0.00000006081, 3.50561897791, 530.89799042461},
-                {0.00000006081, 5.58035711965, 378.92074262999},
-                {0.00000006809, 1.01024597901, 237.43430034270},
-                {0.00000007057, 1.73750471495, 526.75338884040},
-                {0.00000007100, 5.98370032528, 71.56883566720},
-                {0.00000006155, 3.48243401917, 142.90591593840},
-                {0.00000006607, 3.46558761195, 192.44835013500},
-                {0.00000006635, 5.56195112276, 34.28713329129},
-                {0.00000006319, 2.00631988170, 143.58723949460},
-                {0.00000006200, 4.10240423487, 455.15318401080},
-                {0.00000006495, 1.71004202786, 24.62283987170},
-                {0.00000007911, 4.07321915455, 77.71917482150},
-                {0.00000005852, 6.21910710624, 405.74744557300},
-                {0.00000006837, 4.49077930583, 375.63628302830},
-                {0.00000005864, 4.03382406011, 108.16251684250},
-                {0.00000007485, 2.72090049326, 48.51422729289},
-                {0.00000005956, 0.03354236238, 28.98238190449},
-                {0.00000006512, 0.33716951919, 549.89401673620},
-                {0.00000006744, 5.79310902549, 27.96429230381},
-                {0.00000005515, 0.51259584253, 232.66536803271},
-                {0.00000005532, 5.03129304553, 164.78486814511},
-                {0.00000006345, 1.14676616638, 91.48774228611},
-                {0.00000006490, 3.33824483658, 180.03005174739},
-                {0.00000005431, 5.14429257646, 28.55499313480},
-                {0.00000005425, 2.94479941279, 73.65281792710},
-                {0.00000005425, 4.87619567680, 76.39801417450},
-                {0.00000005562, 3.83479812657, 125.42799222991},
-                {0.00000005415, 1.80533724260, 15.79781762650},
-                {0.00000006477, 1.46410180306, 91.06705116081},
-                {0.00000005588, 3.90608403947, 408.19512612779},
-                {0.00000005776, 2.53576029480, 218.65072235220},
-                {0.00000005350, 0.82591840288, 30.98811947460},
-                {0.00000005255, 2.80372355337, 49.42255338521},
-                {0.00000005759, 3.12808755452, 35.92917256650},
-                {0.00000005412, 2.06393135001, 22.39009976550},
-                {0.00000006770, 0.90781613617, 118.15438653471},
-                {0.00000005380, 4.15958938612, 234.25290660500},
-                {0.00000005209, 4.69294629475, 210.36151918381},
-                {0.00000005177, 0.85327766347, 34.86539098351},
-                {0.00000005160, 2.33442145165, 312.21589891000},
-                {0.00000005191, 1.32715405123, 853.44019923550},
-                {0.00000005099, 4.39680257081, 248.96763557360},
-                {0.00000005267, 2.38447630057, 167.07249000551},
-                {0.00000005553, 5.79137517506, 756.07956517339},
-                {0.00000005467, 5.96148887147, 301.17019864609},
-                {0.00000004979, 1.96711920630, 82.61453593110},
-                {0.00000004890, 2.71095292959, 114.38229196601},
-                {0.00000004949, 3.89860321039, 72.09010052900},
-                {0.00000006602, 5.07904269840, 123.29582586020},
-                {0.00000006602, 1.93745004481, 123.78346082721},
-                {0.00000005370, 0.89842846047, 293.95358578131},
-                {0.00000005201, 5.31738820937, 67.11541754230},
-                {0.00000005872, 5.68047849308, 406.34695512460},
-                {0.00000005250, 1.81385138125, 830.86116374070},
-                {0.00000004889, 2.54047179761, 319.32944591080},
-                {0.00000005168, 1.40578632698, 148.11009358871},
-                {0.00000006514, 0.78441227240, 302.33915716930},
-                {0.00000005080, 0.28960001676, 163.14033674240},
-                {0.00000004695, 2.65284801875, 105.13657859549},
-                {0.00000005583, 3.55013544390, 283.90472325870},
-                {0.00000004645, 3.31039617280, 87.87110320809},
-                {0.00000005916, 2.46533961374, 117.66675156770},
-                {0.00000004506, 3.11040332239, 100.29821031630},
-                {0.00000004545, 0.31134321952, 52.39149880180},
-                {0.00000004927, 3.41172643540, 78.46993434690},
-                {0.00000005394, 5.63937544494, 231.80522605020},
-                {0.00000005223, 3.37807753565, 376.70255673880},
-                {0.00000004438, 5.11989115592, 748.96601817260},
-                {0.00000005514, 3.30050922849, 281.21096448800},
-                {0.00000005215, 2.66968136670, 336.59492129820},
-                {0.00000005879, 4.76844539244, 402.77850015639},
-                {0.00000005420, 4.23957972129, 322.36782729660},
-                {0.00000004308, 2.99235015837, 122.71967924421},
-                {0.00000004264, 5.47096482557, 257.14745628489},
-                {0.00000004520, 0.06168859120, 49.00186225990},
-                {0.00000004775, 4.74715224337, 57.86300652739},
-                {0.00000004774, 0.72465901741, 827.67977000299},
-                {0.00000004196, 2.18199332677, 222.14093263061},
-                {0.00000004391, 2.40221065865, 103.59722413300},
-                {0.00000005698, 2.18138522351, 43.84836084689},
-                {0.00000004161, 1.51093067440, 43.79347909271},
-                {0.00000004435, 3.47733063247, 102.11275142471},
-                {0.00000004326, 5.43731062929, 25.35904518210},
-                {0.00000004344, 2.49176998053, 49.89563413720},
-                {0.00000005029, 5.57234403587, 189.42452296421},
-                {0.00000004148, 4.15948358685, 271.37455028650},
-                {0.00000004154, 6.03273715174, 170.41394243761},
-                {0.00000005131, 1.92264207412, 107.26874496520},
-                {0.00000004194, 0.39440009742, 383.06534421420},
-                {0.00000004307, 4.99708612912, 106.03035047280},
-                {0.00000004419, 3.76956477081, 422.42222012939},
-                {0.00000004369, 4.33115498014, 596.11836143630},
-                {0.00000004317, 3.81351212469, 610.34545543790},
-                {0.00000003889, 1.51405800707, 501.62360692681},
-                {0.00000003870, 0.14021790007, 196.01680510321},
-                {0.00000004439, 5.51958079768, 302.13340649259},
-                {0.00000005072, 0.43837563544, 841.90686400460},
-                {0.00000004570, 3.91226778053, 25.30416342790},
-                {0.00000003853, 2.96855650488, 327.99690158910},
-                {0.00000004468, 4.11940424540, 20.95381116700},
-                {0.00000003811, 0.01397482107, 121.59890483079},
-                {0.00000004526, 0.82818905303, 223.20720634109},
-                {0.00000004482, 1.11896687809, 30.35498002820},
-                {0.00000003991, 5.99550015236, 227.03629374021},
-                {0.00000003731, 1.40856591302, 379.88395047650},
-                {0.00000003956, 2.99745197998, 995.88984936931},
-                {0.00000003718, 2.08586976042, 323.74923414091},
-                {0.00000004018, 4.76974981374, 136.78920667889},
-                {0.00000004001, 1.99020462896, 1887.54933515920},
-                {0.00000003691, 2.98850914165, 219.27505307800},
-                {0.00000004238, 3.01325561075, 487.64259114110},
-                {0.00000004319, 2.53620903359, 470.44655172289},
-                {0.00000003696, 5.63712983624, 95.73540973430},
-                {0.00000003585, 1.93930258808, 647.25465079831},
-                {0.00000003615, 1.77670736543, 38.85242600079},
-                {0.00000004508, 4.47625982819, 763.19311217420},
-                {0.00000004774, 4.03912030608, 205.94173095370},
-                {0.00000003585, 2.91087147320, 819.81546347680},
-                {0.00000003631, 3.67446828489, 310.73142620169},
-                {0.00000003713, 6.24192528203, 906.60597015449},
-                {0.00000004069, 0.88739646436, 331.92905485220},
-                {0.00000003909, 0.70513913859, 204.94489321240},
-                {0.00000003826, 1.29816477857, 253.21530302180},
-                {0.00000004459, 2.50646590612, 49.26498681829},
-                {0.00000003398, 1.39293258032, 548.09402984280},
-                {0.00000004440, 3.51258788632, 54.89406111079},
-                {0.00000003614, 1.87312866978, 511.28790034640},
-                {0.00000003347, 6.01125856091, 672.38443271190},
-                {0.00000003809, 2.94099106051, 328.59641114070},
-                {0.00000003555, 2.04617284577, 1368.90407032850},
-                {0.00000004016, 5.85194527186, 442.99551805410},
-                {0.00000003311, 1.96162447032, 185.23173727020},
-                {0.00000003338, 0.74390697506, 90.21571789890},
-                {0.00000003346, 3.86205100951, 10022.08109758290},
-                {0.00000003379, 1.27980657609, 1051.02772796360},
-                {0.00000003359, 4.15037031744, 40.82453367610},
-                {0.00000003472, 4.54582298831, 141.89701610960},
-                {0.00000003470, 2.81336320056, 1068.22376738181},
-                {0.00000003246, 2.64937498416, 30.93323772040},
-                {0.00000003583, 3.30161972679, 297.98880490840},
-                {0.00000004055, 1.93337998586, 228.83628063359},
-                {0.00000003241, 4.84350666121, 34.44469985821},
-                {0.00000003616, 5.85754552815, 736.12033101530},
-                {0.00000003560, 1.84750411756, 334.89800026879},
-                {0.00000004091, 2.74520731196, 913.50706883420},
-                {0.00000003191, 2.73872114679, 374.46732450509},
-                {0.00000003544, 2.06135009476, 484.67364572450},
-                {0.00000003559, 1.03318246123, 781.83999440590},
-                {0.00000003813, 1.34656083290, 342.01154726960},
-                {0.00000003256, 1.24896843058, 97.17169833279},
-                {0.00000003256, 4.39056108417, 97.65933329981},
-                {0.00000003853, 5.18264549398, 122.08653979781},
-                {0.00000004122, 3.91372590203, 339.04260185300},
-                {0.00000003135, 2.98433382810, 674.18441960530},
-                {0.00000003359, 1.72611682483, 369.80145805910},
-                {0.00000004038, 3.91799971610, 146.35043423450},
-                {0.00000004010, 1.51104428423, 60.52313540329},
-                {0.00000003941, 6.00494630962, 729.00678401450},
-                {0.00000003097, 3.84522192892, 115.18544111810},
-                {0.00000003291, 5.82922546122, 2424.35384725460},
-                {0.00000003582, 1.33109700739, 349.12509427039},
-                {0.00000003393, 3.29245537264, 290.87525790760},
-                {0.00000003127, 3.80374553395, 582.13734565059},
-                {0.00000003177, 4.90822105320, 194.53233239490},
-                {0.00000003592, 3.97438571867, 1512.56300652469},
-                {0.00000003448, 1.31714326925, 630.57987624190},
-                {0.00000003156, 0.32123034412, 555.31064270760},
-                {0.00000003587, 5.29397199806, 333.04982926560},
-                {0.00000003671, 3.02735059577, 480.52904414029},
-                {0.00000003505, 0.07758783831, 52.13086637091},
-                {0.00000003028, 1.55633232680, 260.11640170150},
-                {0.00000003021, 0.85869194720, 745.03386490949},
-                {0.00000003015, 2.32337006649, 1053.99667338020},
-                {0.00000003255, 1.55383041618, 114.12165953510},
-                {0.00000003582, 1.17206776414, 292.94468595250},
-                {0.00000004061, 5.52420276067, 758.52724572820},
-                {0.00000003736, 1.93693485461, 5983.70563823870},
-                {0.00000003303, 5.99394142769, 532.38246313290},
-                {0.00000004088, 3.98322803937, 1265.06053658450},
-                {0.00000002960, 0.15626969632, 15.74293587230},
-                {0.00000003705, 6.19165022961, 604.71638114540},
-                {0.00000003156, 4.35441637869, 657.40657918490},
-                {0.00000003133, 0.33631156286, 346.15614885380},
-                {0.00000003653, 5.34287546352, 601.74743572880},
-                {0.00000003119, 3.48694146196, 969.37866061139},
-                {0.00000002876, 3.93018614308, 61.04440026510},
-                {0.00000002838, 1.17114170634, 595.15515358980},
-                {0.00000003359, 3.37955835963, 229.04203131030},
-                {0.00000003882, 6.09416558245, 275.79433851660},
-                {0.00000003259, 2.58480605176, 184.48346987229},
-                {0.00000003003, 3.40174825635, 531.73476947149},
-                {0.00000002904, 2.44331654879, 90.52453443961},
-                {0.00000003653, 4.53993927617, 34.92027273770},
-                {0.00000003037, 0.49193141146, 432.57414851600},
-                {0.00000002813, 3.15838961401, 106.25735300890},
-                {0.00000003621, 1.65359893537, 156.92056161890},
-                {0.00000003602, 4.72951169393, 162.65270177540},
-                {0.00000003499, 4.24251782948, 296.50433220009},
-                {0.00000003773, 5.65516568689, 357.79254994869},
-                {0.00000003503, 3.36034498099, 9913.91533445829},
-                {0.00000003442, 5.17751962044, 689.16227313230},
-                {0.00000002741, 2.79642191830, 279.97256999560},
-                {0.00000002811, 0.21105822548, 526.00262931501},
-                {0.00000002811, 0.21105822548, 525.51499434800},
-                {0.00000002855, 4.14691508428, 49.16192095430},
-                {0.00000003389, 3.10180076770, 1471.24608502170},
-                {0.00000002713, 0.85189767911, 395.66495315560},
-                {0.00000002786, 6.05589669892, 121.49583896680},
-                {0.00000002898, 4.64602066056, 101.04896984171},
-                {0.00000002865, 4.44084667312, 525.48136445320},
-                {0.00000003424, 1.02662988746, 1065.35788782919},
-                {0.00000002851, 5.26092114416, 344.94686279140},
-                {0.00000003251, 3.02407658514, 4.20960064140},
-                {0.00000002737, 1.85379067922, 1065.25482196520},
-                {0.00000002950, 3.40947832795, 256.08118257441},
-                {0.00000002631, 2.35346659913, 833.30884429549},
-                {0.00000003298, 0.35354217872, 469.48334387639},
-                {0.00000003109, 1.56878798104, 626.16008801179},
-                {0.00000003056, 5.25542729410, 222.61650551010},
-                {0.00000002887, 4.00574991438, 241.36645360580},
-                {0.00000002880, 2.11510054841, 370.21965705690},
-                {0.00000002756, 5.49510286400, 103.76398047180},
-                {0.00000002886, 1.01588865321, 668.45227944880},
-                {0.00000003592, 5.19041993480, 1062.59469308931},
-                {0.00000003123, 1.19879958924, 384.02855206069},
-                {0.00000002750, 3.16455625165, 628.60776856660},
-                {0.00000002877, 4.46420389167, 6058.48723680599},
-                {0.00000002805, 0.44973972850, 2111.89413086110},
-                {0.00000002563, 5.13388413274, 440.43845504219},
-                {0.00000002563, 5.13388413274, 440.92609000920},
-                {0.00000002696, 4.53768728515, 187.78248368899},
-                {0.00000002619, 5.83386297293, 218.16308738520},
-                {0.00000003250, 4.11861466788, 608.96404859360},
-                {0.00000002535, 5.86019269756, 546.71262299849},
-                {0.00000002863, 1.36645816570, 637.69342324271},
-                {0.00000002510, 1.15126001886, 1258.69774910910},
-                {0.00000002502, 4.83412535374, 766.12842769600},
-                {0.00000002501, 5.52832480667, 108.21739859670},
-                {0.00000002522, 2.97707565426, 115.60613224340},
-                {0.00000002695, 6.17673554826, 592.18620817320},
-                {0.00000002760, 2.62533693066, 631.78916230430},
-                {0.00000002903, 0.96759074876, 620.49738382450},
-                {0.00000002884, 0.01635711768, 5.17280848790},
-                {0.00000002890, 1.74439600900, 361.62163734781},
-                {0.00000002464, 4.66328256455, 416.79314583689},
-                {0.00000003268, 4.10372444017, 39.37369086260},
-                {0.00000002473, 1.65858882314, 368.83825021259},
-                {0.00000003222, 5.36283883350, 421.21293406700},
-                {0.00000002626, 2.67212495415, 135.82599883240},
-                {0.00000002497, 0.51632716818, 109.22629842550},
-                {0.00000002634, 1.68453170822, 159.47130803769},
-                {0.00000003221, 2.46115208149, 124.25903370670},
-                {0.00000002517, 5.73217436168, 389.96644289390},
-                {0.00000002921, 4.97586465251, 109.96250373590},
-                {0.00000003208, 6.15657013497, 436.50630177909},
-                {0.00000002416, 1.90511651044, 531.41925528640},
-                {0.00000003214, 4.11241434108, 256.18424843839},
-                {0.00000002505, 5.56614254079, 460.88532416730},
-                {0.00000002681, 5.88558098740, 9988.69693302559},
-                {0.00000002782, 2.35083058245, 947.28726008359},
-                {0.00000002409, 0.47303616104, 1228.25440708809},
-                {0.00000002353, 3.93573483899, 75.23786437190},
-                {0.00000002353, 3.88526025060, 74.81296772971},
-                {0.00000002440, 1.03735538956, 894.59706204410},
-                {0.00000002656, 1.88372367878, 623.46632924110},
-                {0.00000002337, 1.20346306186, 533.86693584120},
-                {0.00000002402, 0.39312271717, 843.87897167990},
-                {0.00000003239, 3.93030878487, 956.53297345411},
-                {0.00000003017, 3.28682609944, 2043.73844432759},
-                {0.00000003017, 3.28682609944, 2044.22607929460},
-                {0.00000002405, 2.26306379161, 59.03866269500},
-                {0.00000002405, 5.40465644520, 59.52629766200},
-                {0.00000002976, 3.41026880242, 80.65449034331},
-                {0.00000002378, 1.24449551265, 223.62540533890},
-                {0.00000002317, 5.89016852592, 247.22253043440},
-                {0.00000002571, 3.46653079079, 595.47066777489},
-                {0.00000002545, 1.99218841509, 450.21213091890},
-                {0.00000002346, 3.33503291769, 60.31068708220},
-                {0.00000002905, 0.84313259036, 344.45922782439},
-                {0.00000002979, 2.84128335260, 370.32272292090},
-                {0.00000002400, 3.25893447553, 14.73403604350},
-                {0.00000002717, 6.02377356419, 479.64408098360},
-                {0.00000002611, 2.56467646999, 3116.02381351440},
-                {0.00000002621, 1.82920672957, 78.99119920869},
-                {0.00000002223, 0.33085814506, 53.82778740031},
-                {0.00000002402, 0.32300012534, 298.88257678570},
-                {0.00000002990, 5.53041231058, 1812.28010162490},
-                {0.00000002451, 0.34339233154, 230.80838830890},
-                {0.00000002234, 3.79720855786, 6144.31453563720},
-                {0.00000002327, 0.27187374064, 756.56720014041},
-                {0.00000002505, 0.40988568764, 98.65617104110},
-                {0.00000002409, 3.41904862150, 248.48000060659},
-                {0.00000002564, 5.30963250248, 554.31380496631},
-                {0.00000002094, 3.86522425502, 451.22103074770},
-                {0.00000002094, 0.72363160144, 450.73339578069},
-                {0.00000002295, 4.07822849681, 767.12526543730},
-                {0.00000002295, 0.93663584322, 767.61290040431},
-                {0.00000002066, 3.03632358122, 518.40144734719},
-                {0.00000002066, 6.17791623481, 518.88908231420},
-                {0.00000002137, 5.77720147587, 192.93598510200},
-                {0.00000002874, 2.99281146129, 1336.17310644710},
-                {0.00000002325, 3.58736486540, 217.16624964391},
-                {0.00000002325, 3.58736486540, 216.67861467689},
-                {0.00000002567, 3.86077733216, 980.42436087530},
-                {0.00000002617, 1.18764734158, 130.19692453990},
-                {0.00000002128, 3.54731661850, 180.51768671441},
-                {0.00000002474, 0.80985182636, 124.74666867370},
-                {0.00000002195, 3.69540445414, 449.52410971830},
-                {0.00000002195, 0.55381180055, 449.03647475130},
-                {0.00000002135, 1.00327310585, 112.67081672160},
-                {0.00000001942, 3.76423202456, 196.86813836510},
-                {0.00000001912, 2.05430704660, 119.11759438120},
-                {0.00000002139, 4.56457588625, 179.03321400610},
-                {0.00000002139, 4.56457588625, 178.54557903910},
-                {0.00000001950, 0.56420918284, 39.11305843170},
-                {0.00000001854, 5.12023202898, 355.24180352990},
-                {0.00000001854, 5.12023202898, 354.75416856289},
-                {0.00000001854, 4.72493321950, 198.82818395289},
-                {0.00000001965, 4.47911184507, 84.09900863940},
-                {0.00000002359, 4.45376932769, 31.73638687251},
-                {0.00000001903, 5.59243523932, 153.25153291419},
-                {0.00000002125, 2.89742576427, 490.57790666290},
-                {0.00000002125, 2.89742576428, 490.09027169589},
-                {0.00000001914, 1.23863728949, 331.45348197271},
-                {0.00000001914, 4.38022994308, 330.96584700570},
-                {0.00000002417, 5.19667401678, 139.75815209550},
-                {0.00000002146, 0.08821351821, 463.26356875290},
-                {0.00000002146, 3.22980617180, 463.75120371991},
-                {0.00000001907, 5.00652893184, 458.12212942741},
-                {0.00000001907, 1.86493627825, 457.63449446040},
-                {0.00000001967, 1.07124636244, 180.81194904009},
-                {0.00000001967, 1.07124636244, 181.29958400710},
-                {0.00000002145, 4.85375320990, 66.42739634171},
-                {0.00000002145, 4.85375320990, 65.93976137470},
-                {0.00000001797, 3.97024155339, 757.56403788170},
-                {0.00000001797, 0.82864889980, 758.05167284870},
-                {0.00000001750, 5.85679825237, 144.86596152620},
-                {0.00000002036, 0.77312847257, 304.10551416790},
-                {0.00000002036, 3.91472112616, 303.61787920090},
-                {0.00000001797, 1.89213659166, 704.87383984220},
-                {0.00000001797, 5.03372924525, 705.36147480921},
-                {0.00000001894, 5.59204990603, 910.06255053810},
-                {0.00000001894, 2.45045725245, 909.57491557110},
-                {0.00000001722, 0.77969749873, 67.63668240410},
-                {0.00000001837, 1.37910752336, 544.26494244370},
-                {0.00000001837, 1.37910752336, 544.75257741070},
-                {0.00000001726, 4.71165482381, 1507.42156719921},
-                {0.00000001726, 4.71165482381, 1506.93393223219},
-                {0.00000001730, 4.46134223293, 565.35950523021},
-                {0.00000001730, 4.46134223293, 564.87187026320},
-                {0.00000001877, 5.10265146514, 582.62498061761},
-                {0.00000001795, 4.96114630442, 681.78560157310},
-                {0.00000001921, 0.82498060567, 699.45721387080},
-                {0.00000001983, 0.97771499558, 256.78375799000},
-                {0.00000001983, 0.97771499559, 256.29612302300},
-                {0.00000001763, 5.33310923745, 1521.64866120080},
-                {0.00000001763, 5.33310923745, 1521.16102623379},
-                {0.00000002238, 2.09108890473, 699.94484883781},
-                {0.00000001965, 2.07895283772, 1317.26309965699},
-                {0.00000001965, 5.22054549131, 1317.75073462401},
-                {0.00000001641, 4.21606567095, 76.98546163860},
-                {0.00000001645, 1.65058956203, 237.92193530970},
-                {0.00000001880, 3.46104485730, 71.35638734610},
-                {0.00000002123, 1.67868119422, 528.45030986980},
-                {0.00000002123, 1.67868119422, 527.96267490280},
-                {0.00000002071, 2.17956762731, 688.41151360689},
-                {0.00000002071, 2.17956762731, 688.89914857391},
-                {0.00000002066, 0.76498091962, 182.99899716400},
-                {0.00000002080, 3.39549064677, 415.79630809560},
-                {0.00000001610, 0.29709580866, 173.69840203930},
-                {0.00000001624, 3.67562727861, 683.74564716089},
-                {0.00000001624, 0.53403462502, 684.23328212791},
-                {0.00000001582, 5.35394360679, 349.09146437560},
-                {0.00000001582, 2.21235095320, 348.60382940860},
-                {0.00000001525, 1.67128272620, 555.79827767460},
-                {0.00000001823, 3.83750566677, 290.46337550291},
-                {0.00000001823, 0.69591301318, 289.97574053589},
-                {0.00000001524, 2.71848730694, 1303.03600565540},
-                {0.00000001524, 5.86007996053, 1303.52364062241},
-                {0.00000001902, 1.08556559808, 351.57277482520},
-                {0.00000001683, 5.22184240312, 477.56009872370},
-                {0.00000001683, 5.22184240312, 478.04773369070},
-                {0.00000001652, 3.50958885438, 473.90313210650},
-                {0.00000001652, 3.50958885438, 473.41549713950},
-                {0.00000001475, 3.72868396640, 406.71065341949},
-                {0.00000001475, 3.72868396640, 407.19828838650},
-                {0.00000001473, 3.18933946169, 376.43943218040},
-                {0.00000001473, 3.18933946169, 375.95179721340},
-                {0.00000001646, 1.83930538139, 330.08088384900},
-                {0.00000001646, 1.83930538139, 329.59324888200},
-                {0.00000002036, 1.94312054350, 402.46298597130},
-                {0.00000002036, 5.08471319709, 401.97535100430},
-                {0.00000001806, 0.37937472852, 105.62421356250},
-                {0.00000001436, 2.84665188190, 384.30373870660},
-                {0.00000001436, 5.98824453549, 383.81610373959},
-                {0.00000001436, 5.73162200977, 192.56022471960},
-                {0.00000001436, 2.59002935618, 193.04785968660},
-                {0.00000001579, 5.41871812435, 74.64965566840},
-                {0.00000001983, 1.16308584406, 28.32799059869},
-                {0.00000001517, 2.32668455089, 696.76345510010},
-                {0.00000001517, 5.46827720448, 696.27582013310},
-                {0.00000001512, 0.66197534140, 482.97672469510},
-                {0.00000001512, 0.66197534140, 483.46435966210},
-                {0.00000001507, 2.65716293440, 420.93774742110},
-                {0.00000001507, 2.65716293440, 421.42538238810},
-                {0.00000001461, 1.45515033376, 6208.53806890760},
-                {0.00000001461, 1.45515033376, 6208.05043394060},
-                {0.00000001593, 2.52079664808, 1441.23798834100},
-                {0.00000001593, 5.66238930167, 1440.75035337400},
-                {0.00000001473, 0.74953156826, 818.33099076849},
-                {0.00000001473, 3.89112422185, 818.81862573550},
-                {0.00000001672, 0.52981567811, 1598.71788162851},
-                {0.00000001672, 3.67140833170, 1598.23024666149},
-                {0.00000001531, 3.55867760683, 1737.98613802460},
-                {0.00000001531, 3.55867760683, 1737.49850305759},
-                {0.00000001912, 4.40604797730, 486.64575339981},
-        };
-    }
-
-    private static void initialize_2_2()
-    {
-        classCoeff[1][2] = new double[][]{
-                {0.01016618950, 5.48295390720, 75.02541605080},
-                {0.00038040244, 5.98396870387, 0.24381748350},
-                {0.00034677856, 1.59683674929, 149.80701461810},
-                {0.00012364786, 4.28633873136, 76.50988875911},
-                {0.00007910801, 2.23474062458, 11.28951774740},
-                {0.00007671667, 0.96951294592, 63.97971578690},
-                {0.00005406463, 3.19611828309, 71.09326278771},
-                {0.00007007650, 3.73693507089, 86.07111631471},
-                {0.00004975036, 1.46390866707, 78.95756931390},
-                {0.00003201017, 1.29888367700, 74.53778108379},
-                {0.00003151344, 2.97264499518, 73.54094334250},
-                {0.00002824019, 2.46329588481, 138.76131435421},
-                {0.00003389631, 5.14247489420, 1.72829019180},
-                {0.00002518149, 1.78699516010, 71.84402231310},
-                {0.00002418298, 2.88506969771, 78.20680978850},
-                {0.00002201666, 5.57455075609, 4.17597074660},
-                {0.00001870514, 4.21015183892, 224.58861318540},
-                {0.00001040809, 5.43378129938, 145.87486135500},
-                {0.00000825679, 3.00325076020, 148.32254190981},
-                {0.00000856424, 0.62220902296, 151.29148732640},
-                {0.00000661761, 5.72562810777, 18.40306474821},
-                {0.00000687998, 3.36331816740, 77.99436146740},
-                {0.00000504683, 3.72460726525, 22.33521801130},
-                {0.00000477418, 1.60651996166, 72.57773549600},
-                {0.00000476558, 3.42662179631, 2.93757625420},
-                {0.00000417277, 6.26887017967, 160.85271488200},
-                {0.00000385934, 3.14575356964, 77.47309660560},
-                {0.00000325076, 4.72083769491, 65.46418849521},
-                {0.00000284902, 5.24555103176, 131.64776735340},
-                {0.00000257868, 3.40246798687, 56.86616878610},
-                {0.00000334260, 3.94997003912, 3.21276290011},
-                {0.00000227240, 1.00970775338, 127.71561409031},
-                {0.00000308306, 0.17254957815, 84.58664360640},
-                {0.00000220448, 1.89180052783, 220.65645992230},
-                {0.00000207595, 1.11792349211, 12.77399045571},
-                {0.00000206410, 1.32580238054, 93.18466331550},
-                {0.00000207522, 0.26193997823, 213.54291292150},
-                {0.00000209061, 3.99916829829, 153.73916788121},
-                {0.00000215886, 6.16271220897, 72.05647063421},
-                {0.00000212084, 2.67452073343, 87.55558902300},
-                {0.00000208906, 1.05579446681, 52.44638055600},
-                {0.00000151875, 6.08269315176, 206.42936592071},
-                {0.00000148298, 0.02551800142, 9.80504503910},
-                {0.00000192262, 0.59276641736, 529.93478257810},
-                {0.00000119051, 0.55858786575, 299.37021175271},
-                {0.00000132408, 5.56072688448, 52.93401552300},
-                {0.00000117583, 2.55509093793, 522.82123557730},
-                {0.00000114530, 4.91719768081, 537.04832957890},
-                {0.00000105238, 2.52245002296, 127.22797912329},
-                {0.00000098089, 0.44292716212, 80.44204202221},
-                {0.00000114250, 6.16582036197, 7.35736448430},
-                {0.00000097881, 5.59286140261, 97.11681657861},
-                {0.00000106194, 4.32064505626, 146.62562088040},
-                {0.00000089216, 1.17705594524, 67.91186905000},
-                {0.00000116340, 5.31120252949, 38.37685312130},
-                {0.00000077574, 3.41292158693, 82.13896305161},
-                {0.00000084483, 5.24247398645, 223.10414047710},
-                {0.00000098707, 2.03152578880, 62.49524307860},
-                {0.00000068606, 0.89160531388, 426.84200835950},
-                {0.00000066709, 3.48909893013, 2.69149803831},
-                {0.00000065809, 1.97527994783, 15.22167101050},
-                {0.00000067096, 3.25627562801, 226.07308589371},
-                {0.00000087378, 4.13754658007, 39.86132582961},
-                {0.00000062935, 3.90702021396, 149.31937965110},
-                {0.00000061638, 0.99025506838, 152.98840835580},
-                {0.00000065914, 2.38989307822, 79.47883417571},
-                {0.00000059769, 3.96253258380, 10.80188278040},
-                {0.00000059691, 4.46676970396, 56.37853381910},
-                {0.00000056598, 5.97114569701, 152.77596003471},
-                {0.00000052271, 0.30381307123, 70.60562782070},
-                {0.00000067381, 2.51665952752, 111.67397898031},
-                {0.00000048944, 3.55522236110, 63.49208081989},
-                {0.00000048935, 6.11180947236, 194.89603068979},
-                {0.00000058953, 4.45076342362, 34.92027273770},
-                {0.00000042178, 4.17195774633, 146.83806920150},
-                {0.00000041131, 2.21857435803, 209.12312469139},
-                {0.00000048341, 4.60129323937, 142.69346761730},
-                {0.00000039938, 1.64490876502, 29.44876501211},
-                {0.00000035504, 5.92626067208, 73.05330837550},
-                {0.00000035998, 4.22663106168, 69.60879007940},
-                {0.00000035709, 3.11698493448, 45.33283355520},
-                {0.00000034365, 1.76540961765, 70.57199792590},
-                {0.00000040938, 3.04417985538, 4.69723560840},
-                {0.00000033246, 3.44251759587, 1059.62574767270},
-                {0.00000034076, 3.89497875321, 137.27684164590},
-                {0.00000034342, 4.51524705118, 5.66044345490},
-                {0.00000034750, 4.57070962856, 120.11443212250},
-                {0.00000029609, 2.74253950101, 134.82916109110},
-                {0.00000029214, 5.90248764200, 134.34152612410},
-                {0.00000027728, 5.30138582803, 202.49721265760},
-                {0.00000026015, 6.15906865719, 20.85074530300},
-                {0.00000025423, 2.61021717564, 23.81969071961},
-                {0.00000025360, 0.40111355089, 60.04756252381},
-                {0.00000027639, 5.35140184211, 152.25469517290},
-                {0.00000024633, 3.55951058232, 59.55992755679},
-                {0.00000026033, 2.49977137612, 235.63431344930},
-                {0.00000022264, 0.49547833115, 76.02225379210},
-                {0.00000020549, 0.87420485234, 138.27367938720},
-                {0.00000022051, 5.50813364070, 33.38091827520},
-                {0.00000019406, 1.90896040115, 159.36824217371},
-                {0.00000020190, 6.02481724288, 70.35954960481},
-                {0.00000022751, 3.81525392379, 110.18950627200},
-                {0.00000020572, 3.04462264934, 120.60206708950},
-                {0.00000019010, 5.84440967288, 14.47091148511},
-                {0.00000018238, 2.33410359218, 3.68833577960},
-                {0.00000018044, 4.22469337938, 265.74547599400},
-                {0.00000018132, 4.25620953660, 90.00326957780},
-                {0.00000018837, 1.79513158278, 79.69128249680},
-                {0.00000017966, 0.73075101045, 73.32849502140},
-                {0.00000017619, 0.80599394510, 76.72233708021},
-                {0.00000015431, 1.05579242119, 1.24065522479},
-                {0.00000017688, 5.64947491656, 41.40068029210},
-                {0.00000015101, 3.31428797427, 16.91859203990},
-                {0.00000015248, 4.50282713009, 3.42521122121},
-                {0.00000014771, 1.52291283523, 333.41352756050},
-                {0.00000014325, 4.50651618798, 19.88753745650},
-                {0.00000013703, 1.03711862016, 116.18227885939},
-                {0.00000015398, 5.26404040593, 162.33718759030},
-                {0.00000013837, 1.24389395766, 433.95555536030},
-                {0.00000013525, 0.24969551504, 144.39038864671},
-                {0.00000015125, 3.90702018283, 147.35933406330},
-                {0.00000015394, 3.18550823490, 41.34579853790},
-                {0.00000013487, 3.90445031030, 347.64062156210},
-                {0.00000017344, 2.71114683863, 190.96387742670},
-                {0.00000012741, 5.20555748274, 419.72846135871},
-                {0.00000015299, 6.02030544502, 184.97110483931},
-                {0.00000014796, 1.41052446050, 113.15845168861},
-                {0.00000011042, 5.60683409366, 25.51661174900},
-                {0.00000010803, 4.53729829502, 140.24578706250},
-                {0.00000010475, 3.78319139464, 6.86972951729},
-                {0.00000011185, 5.46980447272, 116.66991382640},
-                {0.00000011147, 3.41565238019, 54.41848823131},
-                {0.00000013346, 5.65327230364, 33.43580002939},
-                {0.00000009592, 5.93991057680, 212.05844021321},
-                {0.00000010605, 5.53671235012, 74.91354146621},
-                {0.00000010593, 2.28899861007, 75.13729063540},
-                {0.00000011833, 1.35549917067, 89.04006173130},
-                {0.00000009674, 4.86901914741, 129.20008679860},
-                {0.00000009261, 3.82300871178, 167.96626188280},
-                {0.00000009431, 0.05576165559, 640.14110379750},
-                {0.00000010948, 1.13466058909, 202.00957769060},
-                {0.00000010470, 4.78808252913, 71.56883566720},
-                {0.00000008486, 1.13985316911, 277.27881122490},
-                {0.00000009140, 0.24006195765, 228.52076644850},
-                {0.00000008941, 6.22720311602, 258.63192899320},
-                {0.00000008140, 1.36707236754, 60.79832204921},
-                {0.00000007518, 2.15319287040, 126.23114138200},
-                {0.00000007532, 3.27091826281, 89.25251005240},
-                {0.00000007736, 1.43507903752, 272.85902299479},
-                {0.00000008693, 5.98733781106, 221.61966776881},
-                {0.00000006861, 1.71468974496, 195.38366565681},
-                {0.00000008704, 2.06590461383, 50.96190784770},
-                {0.00000007676, 1.61804051361, 58.35064149440},
-                {0.00000007545, 4.29974248997, 53.93085326429},
-                {0.00000007394, 1.31233396844, 95.63234387030},
-                {0.00000006681, 3.85199580169, 66.94866120350},
-                {0.00000006264, 0.42668844756, 39.60069339870},
-                {0.00000007026, 0.33343091499, 51.44954281471},
-                {0.00000006150, 3.23806032802, 374.15181032000},
-                {0.00000006356, 2.95032284330, 155.22364058950},
-                {0.00000005982, 3.58571049504, 125.74350641500},
-                {0.00000006068, 5.12117005220, 135.57992061650},
-                {0.00000006766, 6.24976890449, 151.50393564750},
-                {0.00000007931, 1.61760247052, 288.32451148881},
-                {0.00000006447, 1.38968353769, 297.88573904440},
-                {0.00000006043, 5.48371639310, 1066.73929467350},
-                {0.00000005769, 1.79748950801, 213.05527795450},
-                {0.00000005884, 2.46115086910, 24.13520490470},
-                {0.00000005760, 5.69510045876, 103.33659170210},
-                {0.00000005890, 5.39264236310, 46.71424039951},
-                {0.00000006180, 1.27388326507, 45.82046852221},
-                {0.00000006347, 2.69417113124, 227.77000692311},
-                {0.00000005285, 3.95688035619, 305.10235190919},
-                {0.00000005176, 1.99189201991, 1052.51220067191},
-                {0.00000005443, 3.22450673881, 471.93102443120},
-                {0.00000005222, 5.30720065503, 124.53422035260},
-                {0.00000005424, 2.95723327837, 91.70019060721},
-                {0.00000005814, 2.93473998779, 340.52707456129},
-                {0.00000005051, 2.69120338212, 515.70768857651},
-                {0.00000004924, 5.88676032371, 404.26297286470},
-                {0.00000005332, 1.01506659832, 83.10217089810},
-                {0.00000005189, 3.53868828856, 61.01077037031},
-                {0.00000005198, 5.63042873624, 486.15811843280},
-                {0.00000004404, 1.90826090989, 171.89841514590},
-                {0.00000005159, 5.75263925151, 383.06534421420},
-                {0.00000004708, 3.95368562646, 110.45013870291},
-                {0.00000004387, 1.58809682622, 209.61075965840},
-                {0.00000004748, 4.37114817642, 98.60128928690},
-                {0.00000004248, 2.87090902454, 230.32075334190},
-                {0.00000005145, 0.08554898309, 74.06220820430},
-                {0.00000004114, 0.30246244243, 2.20386307129},
-                {0.00000005063, 1.42908457281, 75.98862389731},
-                {0.00000003940, 4.34689430728, 55.38169607781},
-                {0.00000004565, 2.38653118160, 223.20720634109},
-                {0.00000003744, 4.87117996301, 43.53284666180},
-                {0.00000004710, 4.97196354244, 186.45557754760},
-                {0.00000003710, 0.16058312034, 94.66913602380},
-                {0.00000003673, 1.11490595138, 80.65449034331},
-                {0.00000003673, 3.56449648462, 69.39634175830},
-                {0.00000003912, 4.67814184732, 183.85033042589},
-                {0.00000003744, 5.65406090864, 155.53915477459},
-                {0.00000004397, 4.53108005666, 902.19824401191},
-                {0.00000004340, 4.96403760529, 131.16013238639},
-                {0.00000003600, 0.19066403657, 61.69209392650},
-                {0.00000004967, 4.79589278540, 108.21739859670},
-                {0.00000003476, 6.25374915743, 199.31581891990},
-                {0.00000003658, 3.22126745009, 849.50804597240},
-                {0.00000003523, 2.12357554923, 451.22103074770},
-                {0.00000004488, 4.31357043065, 329.48137429739},
-                {0.00000003980, 0.38853153974, 36.89238041300},
-                {0.00000003375, 1.20481404948, 415.30867312860},
-                {0.00000003410, 3.45031076238, 4.20960064140},
-                {0.00000003568, 1.36229272566, 446.06752933469},
-                {0.00000004379, 0.32271955362, 145.35359649321},
-                {0.00000003342, 3.88724158445, 295.43805848960},
-                {0.00000003570, 4.47738872004, 50.64639366260},
-                {0.00000003501, 3.71556456950, 460.29462333630},
-                {0.00000003555, 1.60964374551, 397.14942586389},
-                {0.00000003345, 4.80678644174, 544.16187657970},
-                {0.00000003245, 2.89793765327, 428.32648106781},
-                {0.00000003326, 3.77914879695, 354.75416856289},
-                {0.00000003517, 0.78060011988, 204.94489321240},
-                {0.00000003209, 4.56571924389, 237.43430034270},
-                {0.00000003283, 0.04813757950, 32.48714639791},
-                {0.00000003195, 4.70738042945, 1058.14127496441},
-                {0.00000003291, 2.18131341190, 504.80500066450},
-                {0.00000003210, 0.39206252877, 323.74923414091},
-                {0.00000003632, 3.85767860548, 57.75994066341},
-                {0.00000003617, 3.39977309184, 104.23036357940},
-                {0.00000003794, 1.38786231377, 294.05665164530},
-                {0.00000003164, 1.44848899722, 1819.39364862570},
-                {0.00000003165, 2.08884519803, 216.72430665921},
-                {0.00000003165, 2.08884519803, 216.23667169220},
-                {0.00000003073, 3.61065539896, 41.88831525910},
-                {0.00000003059, 0.63894095212, 905.64276230799},
-                {0.00000003362, 0.98437506221, 85.58348134769},
-                {0.00000003541, 2.12103995044, 956.53297345411},
-                {0.00000003541, 4.06722202320, 191.45151239371},
-                {0.00000003260, 1.97241696611, 227.55755860200},
-                {0.00000003047, 5.22098984240, 531.41925528640},
-                {0.00000002983, 3.95282923476, 1589.31671276730},
-                {0.00000003264, 0.96398524947, 336.59492129820},
-                {0.00000003273, 5.11144966826, 60.31068708220},
-                {0.00000003052, 3.15972982100, 411.37651986550},
-                {0.00000002957, 1.81583171330, 207.91383862900},
-                {0.00000003082, 0.29643336501, 217.47506618460},
-                {0.00000003147, 4.43417661382, 1169.83206889211},
-                {0.00000003055, 0.63724338409, 381.36842318480},
-                {0.00000003006, 4.98412631966, 290.87525790760},
-                {0.00000002859, 2.44491972000, 276.79117625789},
-                {0.00000002836, 4.48873845510, 88.35873817511},
-                {0.00000002790, 4.32838387144, 62.00760811160},
-                {0.00000003077, 3.15865718162, 109.06873185860},
-                {0.00000002839, 0.15460003317, 942.30587945250},
-                {0.00000002822, 4.85578631925, 128.71245183160},
-                {0.00000003374, 1.30422404629, 736.12033101530},
-                {0.00000002933, 3.80915533467, 306.58682461749},
-                {0.00000002763, 0.71622637926, 1282.58913653029},
-                {0.00000002895, 4.12741087597, 75.54668091261},
-                {0.00000003459, 4.50182028789, 610.44852130189},
-                {0.00000002886, 3.69498226849, 74.50415118900},
-                {0.00000002638, 5.32601609468, 198.07742442750},
-                {0.00000002939, 1.02666459482, 179.91817716280},
-                {0.00000002556, 6.01118563599, 430.02340209721},
-                {0.00000002743, 2.25858432981, 141.94270809190},
-                {0.00000002743, 5.40017698340, 141.45507312490},
-                {0.00000002525, 2.72343515591, 219.17198721400},
-                {0.00000002654, 6.19077360752, 475.86317769430},
-                {0.00000003424, 2.06036036899, 133.13224006171},
-                {0.00000002448, 4.91178796797, 358.68632182600},
-                {0.00000002613, 1.99336437491, 1155.60497489050},
-                {0.00000002428, 5.63773248138, 714.92270236481},
-                {0.00000003038, 1.59738880832, 145.38722638800},
-                {0.00000002558, 1.72564085187, 460.88532416730},
-                {0.00000002602, 5.68878295822, 4.90968392950},
-                {0.00000002602, 5.27380478496, 145.14114817210},
-                {0.00000002603, 2.43174340516, 343.46239008310},
-                {0.00000003095, 0.25232061301, 269.67762925710},
-                {0.00000003095, 3.39391326660, 270.16526422410},
-                {0.00000002576, 5.00936607273, 988.02554284310},
-                {0.00000002387, 3.47154008670, 346.43133549971},
-                {0.00000002643, 4.88232673426, 376.70255673880},
-                {0.00000002290, 0.33988926240, 275.30670354960},
-                {0.00000003061, 1.44002014095, 606.51636803880},
-                {0.00000002264, 2.40394452003, 323.26159917390},
-                {0.00000002638, 2.36255398659, 77.71917482150},
-                {0.00000002246, 0.84312304421, 143.90275367970},
-                {0.00000002334, 3.67388415780, 49.26498681829},
-                {0.00000002334, 3.67388415780, 49.75262178531},
-                {0.00000002696, 5.85613797305, 70.08436295889},
-                {0.00000002327, 4.63449299045, 479.04457143200},
-                {0.00000002398, 0.98432285449, 183.48663213100},
-                {0.00000002040, 2.84760871096, 1968.95684576030},
-                {0.00000002040, 5.98920136455, 1969.44448072730},
-                {0.00000001960, 1.00781809287, 894.59706204410},
-                {0.00000001960, 1.00781809287, 895.08469701110},
-                {0.00000002286, 4.41899075071, 147.83490694279},
-                {0.00000002536, 0.04650659359, 108.70503356371},
-                {0.00000001832, 1.44959489041, 379.88395047650},
-                {0.00000001977, 4.60291692983, 5.17280848790},
-                {0.00000002397, 0.29658529023, 114.64292439690},
-                {0.00000002450, 2.97283648816, 203.98168536590},
-                {0.00000002258, 0.46119788822, 201.01273994931},
-                {0.00000001767, 1.86154901498, 1514.04747923300},
-                {0.00000001767, 1.86154901498, 1514.53511420000},
-                {0.00000001978, 3.70013905116, 2.72512793310},
-                {0.00000001763, 1.99872322805, 275.79433851660},
-                {0.00000001714, 0.43161832244, 440.43845504219},
-                {0.00000001714, 3.57321097603, 440.92609000920},
-                {0.00000001710, 2.31183617210, 309.03450517230},
-                {0.00000001710, 5.45342882568, 309.52214013930},
-                {0.00000001917, 1.47888149586, 6.18170831670},
-                {0.00000001613, 2.25872913649, 1044.16025917870},
-                {0.00000001613, 5.40032179008, 1044.64789414570},
-                {0.00000001722, 0.04871363996, 752.89817143570},
-                {0.00000001722, 0.04871363996, 753.38580640270},
-                {0.00000001656, 5.52468183462, 21.84758304429},
-                {0.00000002072, 2.95520838225, 203.49405039889},
-                {0.00000001528, 6.14900289425, 106.51798543980},
-                {0.00000001528, 6.14900289425, 106.03035047280},
-                {0.00000001802, 2.29662739609, 344.45922782439},
-                {0.00000001802, 5.43822004968, 344.94686279140},
-                {0.00000001610, 5.48512651333, 266.23311096100},
-                {0.00000001509, 0.58599278635, 924.28964453971},
-                {0.00000001509, 3.72758543994, 923.80200957270},
-                {0.00000001727, 1.09473115664, 625.16325027050},
-                {0.00000001727, 1.09473115664, 624.67561530350},
-                {0.00000001491, 2.48436459152, 422.90985509640},
-                {0.00000001491, 2.48436459152, 422.42222012939},
-                {0.00000001766, 0.91839681059, 224.10097821840},
-                {0.00000002006, 4.96835613839, 144.86596152620},
-                {0.00000001470, 3.90791054506, 284.39235822571},
-                {0.00000001470, 3.90791054506, 283.90472325870},
-                {0.00000001482, 1.95911852464, 17.91542978119},
-                {0.00000001585, 1.66951998253, 710.99054910171},
-                {0.00000001585, 1.66951998253, 710.50291413470},
-                {0.00000001415, 2.35106795911, 13.98327651810},
-                {0.00000001408, 2.77743270790, 254.69977573010},
-                {0.00000001408, 2.77743270790, 255.18741069710},
-                {0.00000001517, 1.11580920740, 976.97984257920},
-                {0.00000001517, 4.25740186099, 976.49220761220},
-        };
-    }
-
-    private static void initialize_2_3()
-    {
-        classCoeff[1][3] = new double[][]{
-                {0.00000937647, 5.72127882108, 149.80701461810},
-                {0.00000967548, 6.13791702385, 0.24381748350},
-                {0.00000892089, 5.50847100342, 75.02541605080},
-                {0.00000684660, 1.33373840136, 71.09326278771},
-                {0.00000623727, 3.29206615194, 78.95756931390},
-                {0.00000525597, 2.24127263936, 76.50988875911},
-                {0.00000507791, 3.07030244888, 63.97971578690},
-                {0.00000496551, 1.56839683755, 86.07111631471},
-                {0.00000445874, 3.42824453385, 71.84402231310},
-                {0.00000424392, 1.23311674112, 78.20680978850},
-                {0.00000366041, 0.50676115568, 11.28951774740},
-                {0.00000313023, 2.66852817813, 73.54094334250},
-                {0.00000249030, 0.91068513695, 4.17597074660},
-                {0.00000209150, 2.97973004445, 74.53778108379},
-                {0.00000127465, 3.96938588107, 138.76131435421},
-                {0.00000120647, 3.89796928399, 18.40306474821},
-                {0.00000121784, 3.71922038147, 145.87486135500},
-                {0.00000078251, 1.91023640713, 224.58861318540},
-                {0.00000084577, 1.90640096807, 2.93757625420},
-                {0.00000050491, 0.78544030133, 131.64776735340},
-                {0.00000045951, 4.67460564130, 151.29148732640},
-                {0.00000046649, 5.26674809079, 56.86616878610},
-                {0.00000048261, 1.36641385015, 22.33521801130},
-                {0.00000034791, 5.71401876900, 93.18466331550},
-                {0.00000029328, 0.18214457213, 220.65645992230},
-                {0.00000030594, 4.11017743079, 160.85271488200},
-                {0.00000025988, 5.82957254292, 153.73916788121},
-                {0.00000020587, 1.47498586610, 206.42936592071},
-                {0.00000018718, 1.86551335351, 82.13896305161},
-                {0.00000018634, 2.78869413607, 67.91186905000},
-                {0.00000016697, 0.44407475674, 87.55558902300},
-                {0.00000020883, 4.85236834792, 84.58664360640},
-                {0.00000020072, 6.13552844440, 65.46418849521},
-                {0.00000015729, 4.26269482524, 522.82123557730},
-                {0.00000015573, 3.18134712379, 537.04832957890},
-                {0.00000019429, 3.33529843504, 127.71561409031},
-                {0.00000014513, 3.12891080528, 52.44638055600},
-                {0.00000014273, 1.58794880516, 52.93401552300},
-                {0.00000017225, 5.94745172319, 146.62562088040},
-                {0.00000014135, 1.26451572688, 77.99436146740},
-                {0.00000013035, 0.29366962816, 72.05647063421},
-                {0.00000014349, 4.35039068102, 148.32254190981},
-                {0.00000009002, 3.16958165565, 97.11681657861},
-                {0.00000008798, 6.09741460374, 56.37853381910},
-                {0.00000008208, 4.25355573755, 62.49524307860},
-                {0.00000007603, 5.85124809704, 152.98840835580},
-                {0.00000007140, 1.53785661561, 194.89603068979},
-                {0.00000006892, 5.82729490183, 80.65449034331},
-                {0.00000006892, 5.13529284134, 69.39634175830},
-                {0.00000006511, 5.12331075553, 45.33283355520},
-                {0.00000006477, 0.46092149045, 209.12312469139},
-                {0.00000005804, 4.85950876891, 70.60562782070},
-                {0.00000005326, 4.23763472541, 127.22797912329},
-                {0.00000005029, 5.67665029706, 149.31937965110},
-                {0.00000005009, 0.31962965160, 297.98880490840},
-                {0.00000005452, 0.04949420386, 72.57773549600},
-                {0.00000006294, 1.38143320816, 10.80188278040},
-                {0.00000005251, 1.43610247201, 77.47309660560},
-                {0.00000004684, 1.61331269521, 202.49721265760},
-                {0.00000004291, 4.29965965111, 134.34152612410},
-                {0.00000005421, 0.15265448442, 120.11443212250},
-                {0.00000004058, 5.41850959774, 312.21589891000},
-                {0.00000003926, 1.77715565579, 59.55992755679},
-                {0.00000004419, 5.50321844296, 69.60879007940},
-                {0.00000004250, 2.24721757318, 80.44204202221},
-                {0.00000004556, 5.81169390520, 29.44876501211},
-                {0.00000003592, 1.55323340563, 199.31581891990},
-                {0.00000003523, 2.27212859490, 636.20895053440},
-                {0.00000003428, 3.23337096678, 621.98185653281},
-                {0.00000003942, 2.26565174816, 3.21276290011},
-                {0.00000003620, 2.07089246477, 3.42521122121},
-                {0.00000003227, 3.93329666486, 3.68833577960},
-                {0.00000003564, 1.40324348330, 70.35954960481},
-                {0.00000003564, 0.13456629911, 79.69128249680},
-                {0.00000003552, 5.20225660452, 426.84200835950},
-                {0.00000003245, 2.48346002496, 611.82992814620},
-                {0.00000003090, 3.84524306979, 486.15811843280},
-                {0.00000003149, 4.80301298962, 471.93102443120},
-                {0.00000002864, 5.97114317460, 272.85902299479},
-                {0.00000003756, 1.85976896210, 258.63192899320},
-                {0.00000002808, 4.70529986831, 647.25465079831},
-                {0.00000002640, 0.64986508116, 288.32451148881},
-                {0.00000002544, 1.96171476149, 76.02225379210},
-                {0.00000002670, 4.35862114048, 375.95179721340},
-                {0.00000002998, 5.42790043104, 76.72233708021},
-                {0.00000002998, 2.39309465855, 73.32849502140},
-                {0.00000003125, 0.36892549396, 408.68276109481},
-                {0.00000002330, 5.58968397865, 433.95555536030},
-                {0.00000002645, 5.17443993569, 120.60206708950},
-                {0.00000002219, 4.57629057477, 390.92965074040},
-                {0.00000002517, 5.76141273726, 213.54291292150},
-                {0.00000002074, 5.00244199485, 63.49208081989},
-                {0.00000001894, 3.26252512964, 213.05527795450},
-                {0.00000001849, 1.04250606380, 134.82916109110},
-                {0.00000001838, 0.86526030515, 73.05330837550},
-                {0.00000002214, 5.11129905135, 1.72829019180},
-                {0.00000001644, 3.09455061710, 384.30373870660},
-                {0.00000001644, 6.23614327069, 383.81610373959},
-                {0.00000001553, 3.95294824397, 462.26673101160},
-                {0.00000001553, 3.95294824397, 461.77909604459},
-                {0.00000001419, 4.20089846346, 422.90985509640},
-                {0.00000001419, 4.20089846346, 422.42222012939},
-                {0.00000001411, 3.36634095175, 9.80504503910},
-                {0.00000001443, 3.56156060706, 195.38366565681},
-                {0.00000001402, 2.89352085922, 984.84414910540},
-                {0.00000001402, 6.03511351281, 984.35651413839},
-        };
-    }
-
-    private static void initialize_2_4()
-    {
-        classCoeff[1][4] = new double[][]{
-                {0.00002203535, 2.21720684091, 75.02541605080},
-                {0.00000128370, 2.43219641689, 0.24381748350},
-                {0.00000072353, 4.29968795292, 149.80701461810},
-                {0.00000030194, 5.08578675405, 63.97971578690},
-                {0.00000030655, 5.78559557359, 86.07111631471},
-                {0.00000016471, 2.03791163330, 18.40306474821},
-                {0.00000016067, 0.96581112775, 76.50988875911},
-                {0.00000016064, 0.31761628429, 73.54094334250},
-                {0.00000010244, 4.72416199445, 74.53778108379},
-                {0.00000006697, 2.54129200384, 131.64776735340},
-                {0.00000007164, 1.87275979303, 1.72829019180},
-                {0.00000006834, 0.81126784003, 56.86616878610},
-                {0.00000004835, 4.01125413225, 11.28951774740},
-                {0.00000005294, 3.82310032068, 93.18466331550},
-                {0.00000003031, 4.80949177079, 71.09326278771},
-                {0.00000002817, 3.00867557843, 78.95756931390},
-                {0.00000002343, 4.78474509052, 220.65645992230},
-                {0.00000002389, 2.30337242849, 283.90472325870},
-                {0.00000002294, 4.60694198931, 365.65685647490},
-                {0.00000002237, 3.22968908099, 206.42936592071},
-                {0.00000001842, 3.85262135953, 138.76131435421},
-                {0.00000002009, 0.58133348752, 224.58861318540},
-                {0.00000001813, 5.67817174356, 148.32254190981},
-        };
-    }
-
-    private static void initialize_2_5()
-    {
-        classCoeff[1][5] = new double[][]{
-                {0.00000016766, 2.31586625461, 75.02541605080},
-                {0.00000001843, 4.54597723029, 0.24381748350},
-        };
-    }
-
-    private static void initialize_3_0()
-    {
-        classCoeff[2][0] = new double[][]{
-                {0.25878127698, 2.61861272578, 74.78159856730},
-                {0.01774318778, 3.14159265359, 0.00000000000},
-                {0.00599316131, 5.08119500585, 149.56319713460},
-                {0.00190281890, 1.61643841193, 76.26607127560},
-                {0.00190881685, 0.57869575952, 73.29712585900},
-                {0.00084626761, 2.26030150166, 1.48447270830},
-                {0.00030734257, 0.23571721555, 63.73589830340},
-                {0.00020842052, 1.26054208091, 224.34479570190},
-                {0.00019734273, 6.04314677688, 148.07872442630},
-                {0.00012537530, 5.17169051466, 11.04570026390},
-                {0.00014582864, 6.14852037212, 71.81265315070},
-                {0.00010407529, 3.65320417038, 213.29909543800},
-                {0.00011261541, 3.55973769686, 529.69096509460},
-                {0.00008855669, 4.03774505739, 151.04766984290},
-                {0.00008239460, 0.34225652715, 77.75054398390},
-                {0.00007950169, 0.72564903051, 85.82729883120},
-                {0.00006867469, 0.81417174224, 2.96894541660},
-                {0.00005648720, 3.45324719543, 138.51749687070},
-                {0.00004581938, 1.69668682344, 38.13303563780},
-                {0.00002578399, 5.19696447390, 111.43016149680},
-                {0.00002964070, 6.14338802239, 35.16409022120},
-                {0.00001884104, 2.61192472648, 78.71375183040},
-                {0.00002330304, 5.72640226150, 70.84944530420},
-                {0.00001985215, 0.76408839812, 39.61750834610},
-                {0.00001743154, 1.20586281789, 146.59425171800},
-                {0.00002037011, 0.95353587037, 70.32818044240},
-                {0.00001508924, 2.26195448553, 222.86032299360},
-                {0.00001082736, 2.62872874057, 108.46121608020},
-                {0.00001051968, 0.75560753840, 109.94568878850},
-                {0.00000860142, 3.72285572975, 299.12639426920},
-                {0.00000816182, 3.95303779460, 52.69019803950},
-                {0.00000661249, 3.83459160939, 36.64856292950},
-                {0.00000712421, 1.08343941878, 3.93215326310},
-                {0.00000561959, 1.87601204328, 351.81659230870},
-                {0.00000618657, 5.77033241076, 4.45341812490},
-                {0.00000526378, 3.88178280084, 112.91463420510},
-                {0.00000624327, 5.55998063360, 202.25339517410},
-                {0.00000464130, 0.20598822419, 225.82926841020},
-                {0.00000448110, 2.70547740286, 145.10977900970},
-                {0.00000421562, 3.66721349765, 184.72728735580},
-                {0.00000458133, 5.49113221489, 79.23501669220},
-                {0.00000437386, 1.24892718921, 33.67961751290},
-                {0.00000393617, 1.25018492386, 62.25142559510},
-                {0.00000424721, 2.73945218102, 152.53214255120},
-                {0.00000465359, 3.24015058631, 127.47179660680},
-                {0.00000350450, 2.57788261436, 84.34282612290},
-                {0.00000346833, 2.91261394620, 426.59819087600},
-                {0.00000375747, 3.20459646801, 160.60889739850},
-                {0.00000313152, 1.32117543131, 145.63104387150},
-                {0.00000284456, 1.70356835837, 22.09140052780},
-                {0.00000265517, 2.67172684401, 74.66972398270},
-                {0.00000258948, 4.12921582346, 12.53017297220},
-                {0.00000274419, 3.90646620441, 1059.38193018920},
-                {0.00000325409, 2.48214857847, 9.56122755560},
-                {0.00000260666, 5.78699886075, 41.10198105440},
-                {0.00000237721, 0.80288483705, 65.22037101170},
-                {0.00000223998, 3.91250165407, 221.37585028530},
-                {0.00000220626, 3.93529110558, 106.97674337190},
-                {0.00000265210, 5.70721287265, 74.89347315190},
-                {0.00000260727, 0.26432051819, 277.03499374140},
-                {0.00000201268, 5.94906398723, 87.31177153950},
-                {0.00000165472, 3.54108848226, 490.33408917940},
-                {0.00000216763, 2.14355016573, 68.84370773410},
-                {0.00000166510, 3.37208863092, 72.33391801250},
-                {0.00000144942, 3.24374054293, 56.62235130260},
-                {0.00000151752, 3.25335981894, 71.60020482960},
-                {0.00000145795, 5.12147352849, 77.96299230500},
-                {0.00000155998, 5.19284812595, 77.22927912210},
-                {0.00000123397, 2.06100256833, 186.21176006410},
-                {0.00000123620, 1.96019194023, 288.08069400530},
-                {0.00000100136, 2.82301109906, 114.39910691340},
-                {0.00000095939, 4.72085119752, 297.64192156090},
-                {0.00000093120, 2.91989514468, 181.75834193920},
-                {0.00000095640, 3.53906186354, 220.41264243880},
-                {0.00000109824, 3.74385247499, 67.66805156650},
-                {0.00000085882, 5.10268841297, 153.49535039770},
-                {0.00000087546, 5.06531594976, 183.24281464750},
-                {0.00000107550, 1.08025777979, 340.77089204480},
-                {0.00000081507, 4.03891440133, 143.62530630140},
-                {0.00000072499, 1.26231939492, 75.30286342910},
-                {0.00000080746, 0.64185046064, 206.18554843720},
-                {0.00000066852, 5.37638250776, 265.98929347750},
-                {0.00000061441, 1.93112217884, 18.15924726470},
-                {0.00000062039, 4.48334461215, 66.70484372000},
-                {0.00000073016, 1.75514255931, 415.55249061210},
-                {0.00000064039, 2.09527812031, 73.81839072080},
-                {0.00000056535, 5.23288988461, 628.85158605010},
-                {0.00000070290, 4.25243387975, 137.03302416240},
-                {0.00000062161, 0.01243451360, 75.74480641380},
-                {0.00000072251, 0.83002325085, 74.26033370550},
-                {0.00000054171, 2.56946172290, 32.19514480460},
-                {0.00000051593, 2.16146254563, 54.17467074780},
-                {0.00000057081, 4.52969105049, 5.93789083320},
-                {0.00000050182, 3.95193155421, 82.85835341460},
-                {0.00000059321, 0.59787435734, 140.00196957900},
-                {0.00000048938, 3.50893151896, 7.11354700080},
-                {0.00000046178, 0.49809404707, 131.40394986990},
-                {0.00000046517, 3.03683183762, 59.80374504030},
-                {0.00000042340, 3.04902220404, 218.40690486870},
-                {0.00000039090, 6.17926332920, 373.90799283650},
-                {0.00000043400, 4.99216593131, 258.02441321480},
-                {0.00000039572, 5.35887385465, 219.89137757700},
-                {0.00000034900, 1.59769199954, 80.19822453870},
-                {0.00000034920, 3.23679252932, 380.12776796000},
-                {0.00000036403, 1.98850437514, 81.89514556810},
-                {0.00000040711, 3.59792341256, 522.57741809380},
-                {0.00000032126, 3.27298565306, 191.20769491020},
-                {0.00000034349, 5.21152504802, 105.49227066360},
-                {0.00000032231, 3.61065476446, 20.60692781950},
-                {0.00000036837, 3.48760382716, 96.87299909510},
-                {0.00000030915, 4.60433376269, 42.58645376270},
-                {0.00000028644, 5.75510160651, 259.50888592310},
-                {0.00000028856, 1.34653259405, 74.52096613640},
-                {0.00000028208, 4.66642323140, 159.12442469020},
-                {0.00000029731, 4.37509990489, 80.71948940050},
-                {0.00000029315, 5.03629852507, 51.20572533120},
-                {0.00000025879, 3.05776566988, 8.07675484730},
-                {0.00000026096, 5.48691240270, 74.82978267710},
-                {0.00000025646, 2.63747057104, 300.61086697750},
-                {0.00000025720, 2.42332626332, 305.34616939270},
-                {0.00000025191, 6.16170714892, 99.16062095550},
-                {0.00000026096, 2.89305157919, 74.73341445750},
-                {0.00000025722, 4.26142211768, 180.27386923090},
-                {0.00000024190, 5.50922979275, 74.94165726170},
-                {0.00000026128, 0.13440940381, 835.03713448730},
-                {0.00000025366, 0.26521632573, 536.80451209540},
-                {0.00000024161, 5.19499722816, 227.31374111850},
-                {0.00000027066, 3.36936938207, 554.06998748280},
-                {0.00000029888, 1.80973859163, 3.18139373770},
-                {0.00000025184, 1.53219969036, 154.01661525950},
-                {0.00000029189, 2.73786672090, 479.28838891550},
-                {0.00000026685, 2.98667762458, 14.97785352700},
-                {0.00000022295, 3.75337744344, 39.35687591520},
-                {0.00000028696, 0.74986873597, 75.04223099820},
-                {0.00000020972, 3.17916896424, 255.05546779820},
-                {0.00000021014, 0.66302313851, 767.36908292080},
-                {0.00000020577, 0.98634295841, 116.42609634290},
-                {0.00000024248, 2.87116663203, 74.62153987290},
-                {0.00000021752, 5.26140008123, 294.67297614430},
-                {0.00000023545, 3.16204155741, 67.35923502580},
-                {0.00000019430, 5.66067717228, 235.39049596580},
-                {0.00000022220, 3.72262913359, 92.94084583200},
-                {0.00000021468, 5.59192826712, 2.44768055480},
-                {0.00000016392, 0.73044725202, 142.44965013380},
-                {0.00000017210, 0.87217558692, 404.50679034820},
-                {0.00000015780, 5.95091393024, 296.15744885260},
-                {0.00000018777, 0.60348363638, 211.81462272970},
-                {0.00000015523, 1.76138162430, 41.64449777560},
-                {0.00000017311, 0.80301716069, 187.69623277240},
-                {0.00000016318, 3.13602300249, 28.31117565130},
-                {0.00000015443, 2.76173273635, 14.01464568050},
-                {0.00000014941, 1.86976831313, 203.73786788240},
-                {0.00000013508, 1.11474597705, 984.60033162190},
-                {0.00000014962, 4.21276743909, 454.90936652730},
-                {0.00000013681, 2.06636726694, 639.89728631400},
-                {0.00000015178, 2.79287665181, 50.40257617910},
-                {0.00000013092, 5.16479782395, 74.03083904190},
-                {0.00000013024, 1.54167247979, 115.88357962170},
-                {0.00000013756, 4.44130044058, 216.92243216040},
-                {0.00000012912, 2.65544175682, 75.53235809270},
-                {0.00000014560, 0.31573630495, 200.76892246580},
-                {0.00000016675, 4.45252615374, 125.98732389850},
-                {0.00000013750, 6.21844937284, 5.41662597140},
-                {0.00000013992, 2.89612356381, 60.76695288680},
-                {0.00000013034, 0.55043059925, 23.57587323610},
-                {0.00000011409, 3.39650826181, 291.70403072770},
-                {0.00000011138, 2.91935975246, 68.18931642830},
-                {0.00000011850, 4.83551999164, 149.45132255000},
-                {0.00000011862, 5.50185243281, 331.32153907380},
-                {0.00000012269, 2.11880702802, 162.09337010680},
-                {0.00000011814, 5.31010267521, 142.14083359310},
-                {0.00000010875, 0.14632073584, 128.95626931510},
-                {0.00000010636, 3.41354811558, 286.59622129700},
-                {0.00000010932, 0.17212866351, 230.56457082540},
-                {0.00000013012, 6.00108633545, 256.53994050650},
-                {0.00000010662, 5.52797089925, 35.42472265210},
-                {0.00000011802, 1.58760278423, 149.67507171920},
-                {0.00000009878, 5.76116968524, 110.20632121940},
-                {0.00000009583, 4.26743788620, 1589.07289528380},
-                {0.00000011677, 2.40931590777, 81.00137369080},
-                {0.00000009947, 4.00367169516, 760.25553592000},
-                {0.00000011956, 5.08786325344, 89.75945209430},
-                {0.00000009140, 4.92826513743, 81.37388070630},
-                {0.00000009041, 5.71300476219, 419.48464387520},
-                {0.00000008569, 5.36608418229, 28.57180808220},
-                {0.00000009334, 0.45928779675, 120.35824960600},
-                {0.00000009162, 3.71396614183, 362.86229257260},
-                {0.00000008487, 1.72924017920, 24.37902238820},
-                {0.00000007594, 6.10246512358, 103.09277421860},
-                {0.00000009947, 5.60590635849, 68.56182344380},
-                {0.00000007461, 2.32031732682, 905.88657979150},
-                {0.00000008997, 2.37965677543, 195.13984817330},
-                {0.00000008243, 4.74708765747, 316.39186965660},
-                {0.00000007366, 6.15565920052, 135.54855145410},
-                {0.00000007592, 0.05052252659, 69.36497259590},
-                {0.00000009926, 4.65530352311, 88.79624424780},
-                {0.00000007471, 5.67091902966, 367.97010200330},
-                {0.00000009010, 5.15786385091, 692.58748435350},
-                {0.00000006852, 5.42203185877, 146.38180339690},
-                {0.00000006805, 3.79379417792, 214.78356814630},
-                {0.00000007423, 0.10794595769, 293.18850343600},
-                {0.00000007905, 4.25870316750, 260.99335863140},
-                {0.00000008094, 4.30080188984, 617.80588578620},
-                {0.00000007684, 1.67030681336, 114.13847448250},
-                {0.00000007620, 0.76643908895, 152.01087768940},
-                {0.00000006240, 3.84416768971, 30.71067209630},
-                {0.00000008334, 0.23758565081, 565.11568774670},
-                {0.00000006097, 5.10863235559, 329.72519178090},
-                {0.00000005988, 1.11565079117, 372.42352012820},
-                {0.00000007252, 6.05773736503, 6.21977512350},
-                {0.00000006028, 5.24025259251, 95.38852638680},
-                {0.00000006289, 3.47252263966, 73.40900044360},
-                {0.00000006000, 5.61195390119, 157.63995198190},
-                {0.00000005425, 1.81773059325, 647.01083331480},
-                {0.00000005756, 0.60729000613, 45.57665103870},
-                {0.00000005331, 0.57774785878, 462.02291352810},
-                {0.00000005807, 2.22669544081, 358.93013930950},
-                {0.00000005826, 5.23125320066, 284.14854074220},
-                {0.00000006314, 0.18733033209, 10213.28554621100},
-                {0.00000006532, 3.68538415222, 278.51946644970},
-                {0.00000005337, 2.55697146693, 543.02428721890},
-                {0.00000005214, 3.23506131011, 7.42236354150},
-                {0.00000005726, 0.79025128961, 483.22054217860},
-                {0.00000006176, 4.09929403804, 328.35259365720},
-                {0.00000006858, 5.69002837482, 141.48644228730},
-                {0.00000005025, 2.82710574399, 152.74459087230},
-                {0.00000004960, 3.86366490265, 46.20979048510},
-                {0.00000005299, 0.28596890733, 0.96320784650},
-                {0.00000004711, 1.04008534095, 1332.48477066750},
-                {0.00000005322, 5.53930777799, 477.91579079180},
-                {0.00000004560, 5.18525746864, 1215.16490244730},
-                {0.00000004528, 5.38100183232, 983.11585891360},
-                {0.00000004640, 1.37720813333, 121.25202148330},
-                {0.00000004414, 5.22232716227, 909.81873305460},
-                {0.00000004365, 2.15062971711, 611.58611066270},
-        };
-    }
-
-    private static void initialize_3_1()
-    {
-        classCoeff[2][1] = new double[][]{
-                {0.03962262983, 4.12418900865, 74.78159856730},
-                {0.00082241017, 0.33841633701, 149.56319713460},
-                {0.00033563127, 2.12025871831, 73.29712585900},
-                {0.00039689344, 0.00000000000, 0.00000000000},
-                {0.00026107421, 3.06937675063, 76.26607127560},
-                {0.00012908640, 3.77705052097, 1.48447270830},
-                {0.00003540856, 3.75158221944, 63.73589830340},
-                {0.00002531606, 2.84542573949, 224.34479570190},
-                {0.00003003205, 1.25505343184, 148.07872442630},
-                {0.00001622011, 3.59519265641, 71.81265315070},
-                {0.00001113725, 5.37716047615, 138.51749687070},
-                {0.00001221565, 1.20355053543, 11.04570026390},
-                {0.00001076837, 5.57432235156, 151.04766984290},
-                {0.00000957872, 3.39246978049, 85.82729883120},
-                {0.00000881547, 5.69920992505, 529.69096509460},
-                {0.00000942010, 5.40707153970, 213.29909543800},
-                {0.00001015398, 1.70749191167, 77.75054398390},
-                {0.00000762361, 4.44942686053, 78.71375183040},
-                {0.00000861921, 2.56138068523, 2.96894541660},
-                {0.00000414164, 3.67975318141, 70.84944530420},
-                {0.00000468225, 3.85273975522, 38.13303563780},
-                {0.00000312200, 2.64302370891, 3.93215326310},
-                {0.00000270537, 1.07042111099, 111.43016149680},
-                {0.00000229316, 2.48137482804, 146.59425171800},
-                {0.00000211208, 5.63209083386, 35.16409022120},
-                {0.00000206882, 3.77563841652, 222.86032299360},
-                {0.00000226153, 2.76382998968, 39.61750834610},
-                {0.00000152516, 1.15795669733, 65.22037101170},
-                {0.00000143635, 2.29883148753, 109.94568878850},
-                {0.00000137496, 1.27325091137, 52.69019803950},
-                {0.00000126912, 4.98433527702, 71.60020482960},
-                {0.00000091423, 5.37075683718, 299.12639426920},
-                {0.00000078168, 3.30117226546, 77.96299230500},
-                {0.00000071984, 4.77848755964, 70.32818044240},
-                {0.00000053505, 4.24118032837, 74.66972398270},
-                {0.00000056461, 4.74607474496, 184.72728735580},
-                {0.00000064129, 1.40401800165, 4.45341812490},
-                {0.00000060190, 4.25563172540, 22.09140052780},
-                {0.00000049324, 1.81501026461, 225.82926841020},
-                {0.00000051044, 4.39586820753, 36.64856292950},
-                {0.00000052135, 5.22811836344, 56.62235130260},
-                {0.00000045079, 5.97279472842, 145.63104387150},
-                {0.00000047486, 0.40482409134, 77.22927912210},
-                {0.00000042020, 5.25755630615, 202.25339517410},
-                {0.00000045284, 4.24607325536, 152.53214255120},
-                {0.00000038647, 3.45355985008, 351.81659230870},
-                {0.00000050009, 0.53909767456, 79.23501669220},
-                {0.00000039778, 4.81127483225, 62.25142559510},
-                {0.00000040898, 0.10596214023, 112.91463420510},
-                {0.00000045145, 5.98712490700, 160.60889739850},
-                {0.00000035920, 2.17013246060, 127.47179660680},
-                {0.00000031263, 0.58715748016, 153.49535039770},
-                {0.00000031754, 2.81745075870, 277.03499374140},
-                {0.00000036970, 2.35222730494, 206.18554843720},
-                {0.00000031783, 4.79422665078, 221.37585028530},
-                {0.00000036288, 0.84576342160, 33.67961751290},
-                {0.00000028318, 6.06676080756, 426.59819087600},
-                {0.00000029023, 1.00910858838, 75.74480641380},
-                {0.00000025619, 1.75329899148, 220.41264243880},
-                {0.00000028552, 5.54335981183, 67.66805156650},
-                {0.00000025386, 5.13375412515, 84.34282612290},
-                {0.00000025695, 1.62197123657, 41.10198105440},
-                {0.00000027612, 0.99170994448, 74.89347315190},
-                {0.00000020608, 2.21883575454, 131.40394986990},
-                {0.00000024067, 4.33103426983, 9.56122755560},
-                {0.00000023899, 2.43498266206, 87.31177153950},
-                {0.00000023625, 6.27443196421, 18.15924726470},
-                {0.00000024706, 0.26779002293, 12.53017297220},
-                {0.00000024563, 0.18402440195, 3.18139373770},
-                {0.00000019905, 3.48825148521, 186.21176006410},
-                {0.00000015547, 0.20397814976, 137.03302416240},
-                {0.00000015494, 4.31583400109, 288.08069400530},
-                {0.00000013835, 0.02174450243, 81.89514556810},
-                {0.00000013597, 0.15357754975, 297.64192156090},
-                {0.00000013359, 3.17889804773, 80.19822453870},
-                {0.00000013294, 3.87688117315, 145.10977900970},
-                {0.00000017024, 1.81428109960, 73.81839072080},
-                {0.00000014748, 0.03189985172, 66.70484372000},
-                {0.00000012232, 2.64378420008, 75.30286342910},
-                {0.00000011124, 5.08426227737, 490.33408917940},
-                {0.00000012563, 1.82692572459, 140.00196957900},
-                {0.00000013411, 5.39551143522, 522.57741809380},
-                {0.00000012192, 2.21125075603, 74.26033370550},
-                {0.00000011266, 0.79673017651, 340.77089204480},
-                {0.00000009590, 6.09094318692, 96.87299909510},
-                {0.00000009224, 2.14550163776, 7.11354700080},
-                {0.00000008877, 0.46929853551, 2.44768055480},
-                {0.00000009874, 5.79572540180, 183.24281464750},
-                {0.00000010128, 5.09593396273, 114.39910691340},
-                {0.00000008837, 4.70446704205, 14.97785352700},
-                {0.00000009469, 6.21249255999, 108.46121608020},
-                {0.00000007547, 5.32002357346, 82.85835341460},
-                {0.00000007560, 4.69622310205, 536.80451209540},
-                {0.00000007550, 4.37352817861, 415.55249061210},
-                {0.00000007800, 1.81108816316, 92.94084583200},
-                {0.00000008448, 5.75611469277, 1059.38193018920},
-                {0.00000008261, 2.80861697520, 72.33391801250},
-                {0.00000008096, 6.27869649292, 5.93789083320},
-                {0.00000006564, 1.27991694625, 373.90799283650},
-                {0.00000005973, 3.96626028042, 617.80588578620},
-                {0.00000005775, 2.43822838062, 142.44965013380},
-                {0.00000005356, 4.89393300983, 41.64449777560},
-                {0.00000007123, 5.82803873586, 191.20769491020},
-                {0.00000006074, 1.61805362044, 305.34616939270},
-                {0.00000005023, 1.26471022025, 703.63318461740},
-                {0.00000004868, 0.30672295767, 33.13710079170},
-                {0.00000004986, 4.65490725829, 195.13984817330},
-                {0.00000005616, 2.21173751117, 32.19514480460},
-                {0.00000004445, 4.80807045815, 20.60692781950},
-                {0.00000005055, 5.34765264557, 80.71948940050},
-                {0.00000004398, 0.49529839431, 74.82978267710},
-                {0.00000004398, 4.18462288684, 74.73341445750},
-                {0.00000004853, 2.63817804331, 74.52096613640},
-                {0.00000004836, 2.04143912495, 75.04223099820},
-                {0.00000005022, 0.61491281306, 259.50888592310},
-                {0.00000004288, 3.92852240171, 300.61086697750},
-                {0.00000004371, 6.00527473515, 159.12442469020},
-                {0.00000004091, 4.16218259902, 74.62153987290},
-                {0.00000004076, 0.51761494342, 74.94165726170},
-                {0.00000005085, 0.47739127862, 181.75834193920},
-                {0.00000004223, 0.10445996392, 42.58645376270},
-                {0.00000004941, 2.80437422101, 479.28838891550},
-                {0.00000003301, 4.32752251719, 116.42609634290},
-                {0.00000004284, 2.75000237791, 154.01661525950},
-                {0.00000004073, 0.16290844853, 227.31374111850},
-                {0.00000003569, 5.93367812903, 219.89137757700},
-                {0.00000002877, 0.92771324396, 404.50679034820},
-                {0.00000003606, 4.15115668974, 39.35687591520},
-                {0.00000002930, 5.67425699047, 68.84370773410},
-                {0.00000003216, 0.72597245494, 235.39049596580},
-                {0.00000002349, 1.20639876458, 5.41662597140},
-                {0.00000002291, 0.45375065997, 74.03083904190},
-                {0.00000002770, 1.84988185963, 211.81462272970},
-                {0.00000002264, 4.22640788890, 75.53235809270},
-                {0.00000002775, 2.27306099902, 187.69623277240},
-                {0.00000003034, 3.74888989756, 380.12776796000},
-                {0.00000002614, 0.46579056125, 128.95626931510},
-                {0.00000002608, 0.85101218281, 296.15744885260},
-                {0.00000002641, 5.51157783762, 230.56457082540},
-                {0.00000002427, 0.21201331744, 835.03713448730},
-                {0.00000002706, 0.68084398426, 99.16062095550},
-                {0.00000002700, 4.01778306134, 50.40257617910},
-                {0.00000002306, 1.00290501307, 35.42472265210},
-                {0.00000002095, 5.76874685766, 54.17467074780},
-                {0.00000001942, 4.49004561030, 68.18931642830},
-                {0.00000002068, 0.12254293382, 149.45132255000},
-                {0.00000002666, 0.45683512473, 110.20632121940},
-                {0.00000001945, 6.21758865027, 89.75945209430},
-                {0.00000002386, 3.96907647535, 14.01464568050},
-                {0.00000001896, 5.34437105960, 59.80374504030},
-                {0.00000002065, 3.15839878322, 149.67507171920},
-                {0.00000001777, 4.00647819013, 265.98929347750},
-                {0.00000002209, 0.64028748776, 218.40690486870},
-                {0.00000002162, 1.24773830053, 106.97674337190},
-                {0.00000002023, 1.82007872482, 23.57587323610},
-                {0.00000002035, 0.51927845768, 200.76892246580},
-                {0.00000001504, 0.25796780548, 81.37388070630},
-                {0.00000001960, 3.46041862039, 162.09337010680},
-                {0.00000001414, 2.99649402595, 51.20572533120},
-        };
-    }
-
-    private static void initialize_3_2()
-    {
-        classCoeff[2][2] = new double[][]{
-                {0.00177117836, 5.80022816704, 74.78159856730},
-                {0.00016035660, 0.00000000000, 0.00000000000},
-                {0.00002755730, 2.17676848750, 149.56319713460},
-                {0.00001828256, 3.84635676237, 73.29712585900},
-                {0.00000868510, 4.87897232400, 76.26607127560},
-                {0.00000572523, 5.46404733048, 1.48447270830},
-                {0.00000285628, 5.08160639995, 63.73589830340},
-                {0.00000157189, 0.91294082225, 138.51749687070},
-                {0.00000152299, 6.26275017065, 78.71375183040},
-                {0.00000141686, 2.84004707284, 148.07872442630},
-                {0.00000093961, 3.52447729329, 11.04570026390},
-                {0.00000092321, 5.16432077685, 71.81265315070},
-                {0.00000065470, 0.00153662660, 85.82729883120},
-                {0.00000066123, 4.23405260860, 3.93215326310},
-                {0.00000059402, 5.03486983197, 224.34479570190},
-                {0.00000050738, 0.41363094297, 71.60020482960},
-                {0.00000039303, 1.43398963413, 529.69096509460},
-                {0.00000041691, 0.60405160402, 213.29909543800},
-                {0.00000028845, 4.32177165196, 2.96894541660},
-                {0.00000024452, 1.45233443794, 151.04766984290},
-                {0.00000022558, 3.68734701846, 77.75054398390},
-                {0.00000020948, 5.56707525527, 38.13303563780},
-                {0.00000018328, 1.52738789991, 77.96299230500},
-                {0.00000014050, 4.09291571100, 146.59425171800},
-                {0.00000012166, 2.77134894443, 111.43016149680},
-                {0.00000012047, 3.14714635296, 65.22037101170},
-                {0.00000010691, 4.20068087609, 35.16409022120},
-                {0.00000008575, 1.32099488216, 70.84944530420},
-                {0.00000008712, 3.96782908270, 109.94568878850},
-                {0.00000008425, 2.12601661788, 56.62235130260},
-                {0.00000009384, 5.01391767290, 3.18139373770},
-                {0.00000007268, 5.60415789247, 127.47179660680},
-                {0.00000007110, 3.80523625157, 454.90936652730},
-                {0.00000007227, 5.55318237104, 222.86032299360},
-                {0.00000006941, 0.53699361276, 22.09140052780},
-                {0.00000007547, 4.53131604233, 39.61750834610},
-                {0.00000007103, 3.99578891327, 52.69019803950},
-                {0.00000006166, 6.23459907887, 70.32818044240},
-                {0.00000005037, 2.75663731170, 12.53017297220},
-                {0.00000005681, 2.88511085602, 160.60889739850},
-                {0.00000004463, 4.73686825389, 87.31177153950},
-                {0.00000004239, 1.56497120608, 9.56122755560},
-                {0.00000004139, 5.80700510713, 74.66972398270},
-                {0.00000004953, 1.62290961095, 84.34282612290},
-                {0.00000003989, 3.71609335244, 18.15924726470},
-                {0.00000005068, 1.82574036051, 77.22927912210},
-                {0.00000004044, 3.72554698482, 202.25339517410},
-                {0.00000003751, 2.22353174536, 153.49535039770},
-                {0.00000003700, 2.26416938160, 75.74480641380},
-                {0.00000003670, 2.32544430817, 145.63104387150},
-                {0.00000003643, 2.14599111308, 299.12639426920},
-                {0.00000003263, 2.75844544119, 73.81839072080},
-                {0.00000002446, 6.17908901556, 62.25142559510},
-                {0.00000002232, 6.26646620658, 220.41264243880},
-                {0.00000002529, 3.41304662369, 131.40394986990},
-                {0.00000002669, 6.01785430306, 184.72728735580},
-                {0.00000001937, 4.88080111657, 225.82926841020},
-                {0.00000002394, 6.16425420001, 72.33391801250},
-                {0.00000001693, 3.21375560117, 92.94084583200},
-                {0.00000001730, 0.61525482065, 36.64856292950},
-                {0.00000001868, 5.20707362099, 145.10977900970},
-                {0.00000001707, 4.36686229005, 206.18554843720},
-                {0.00000001555, 2.47637875795, 426.59819087600},
-                {0.00000001473, 4.91621635684, 80.19822453870},
-                {0.00000001409, 3.59004232634, 4.45341812490},
-        };
-    }
-
-    private static void initialize_3_3()
-    {
-        classCoeff[2][3] = new double[][]{
-                {0.00005141166, 1.25274291045, 74.78159856730},
-                {0.00000316609, 3.14159265359, 0.00000000000},
-                {0.00000065271, 5.77590506888, 73.29712585900},
-                {0.00000059071, 4.00961080499, 149.56319713460},
-                {0.00000034006, 1.04273395751, 63.73589830340},
-                {0.00000023565, 1.66204476861, 78.71375183040},
-                {0.00000020797, 0.28508462597, 76.26607127560},
-                {0.00000017194, 0.82951296239, 1.48447270830},
-                {0.00000012086, 2.51385690941, 138.51749687070},
-                {0.00000012289, 1.87238784591, 71.60020482960},
-                {0.00000006582, 5.70015947451, 3.93215326310},
-                {0.00000004929, 4.05567973712, 85.82729883120},
-                {0.00000003901, 0.60406901282, 71.81265315070},
-                {0.00000004647, 4.41312919070, 148.07872442630},
-                {0.00000003312, 4.65337102453, 70.84944530420},
-                {0.00000003697, 2.79328856468, 11.04570026390},
-                {0.00000001714, 5.43238781955, 145.63104387150},
-                {0.00000001496, 5.73048296712, 18.15924726470},
-        };
-    }
-
-    private static void initialize_3_4()
-    {
-        classCoeff[2][4] = new double[][]{
-                {0.00000109765, 2.85499529315, 74.78159856730},
-                {0.00000007890, 3.14159265359, 0.00000000000},
-                {0.00000002125, 2.94706053740, 63.73589830340},
-                {0.00000002092, 1.68142886919, 73.29712585900},
-                {0.00000001559, 5.50762023733, 149.56319713460},
-                {0.00000001558, 1.27604541567, 70.84944530420},
-        };
-    }
-
-    private static void initialize_3_5()
-    {
-        classCoeff[2][5] = new double[][]{
-                {0.00000002165, 4.87604439769, 74.78159856730},
-        };
+        // All instances of this class share the coefficients loaded once for the class
+        coefficients = classCoefficients;
     }
 
+    // Loaded from the binary resource when the class is initialized, i.e. only for bodies in use
+    private static final Vsop87Coefficients classCoefficients =
+            Vsop87Coefficients.load( Uranus.class, "Uranus.bin" );
 }
-
@@ -1,3056 +1,17 @@
 package com.mkreidl.ephemeris.solarsystem.vsop87c;
 
 import com.mkreidl.ephemeris.solarsystem.AbstractModelVsop87;
+import com.mkreidl.ephemeris.solarsystem.Vsop87Coefficients;
 
 public class Venus extends AbstractModelVsop87.XYZ
 {
     public Venus()
     {
-        // Here we emulate virtual static members:
-        // classCoeff is a member of the abstract super-class VSOP87Planet,
-        // and it references different things, depending on and
-        // only on the  c l a s s  of the instance created here.
-        coeff = classCoeff;
-    }
-
-    private static double[][][][] classCoeff = new double[DIMENSION][][][];
-
-    static
-    {
-        classCoeff[0] = new double[6][][];
-        classCoeff[1] = new double[6][][];
-        classCoeff[2] = new double[6][][];
-        initialize_1_0();
-        initialize_1_1();
-        initialize_1_2();
-        initialize_1_3();
-        initialize_1_4();
-        initialize_1_5();
-        initialize_2_0();
-        initialize_2_1();
-        initialize_2_2();
-        initialize_2_3();
-        initialize_2_4();
-        initialize_2_5();
-        initialize_3_0();
-        initialize_3_1();
-        initialize_3_2();
-        initialize_3_3();
-        initialize_3_4();
-        initialize_3_5();
-    }
-
-    private static void initialize_1_0()
-    {
-        classCoeff[0][0] = new double[][]{
-                {0.72268045621, 3.17614669179, 10213.52936369450},
-                {0.00733886107, 5.43699242686, 0.24381748350},
-                {0.00244692613, 4.05605630888, 20426.81490990550},
-                {0.00063317702, 0.49335411201, 10213.04172872750},
-                {0.00002795043, 0.33061720033, 2353.10997125530},
-                {0.00001941766, 4.23356531450, 1577.09972496430},
-                {0.00001242687, 4.93613589610, 30640.10045611650},
-                {0.00001163369, 2.88004293502, 18073.94875613370},
-                {0.00001044280, 1.75322105845, 6283.31966747490},
-                {0.00000767420, 0.59253172189, 529.93478257810},
-                {0.00000669994, 1.45757409332, 14143.73905991410},
-                {0.00000657435, 0.50103996032, 8636.18582124671},
-                {0.00000476814, 5.84349432310, 10187.23104389470},
-                {0.00000475078, 3.65048802648, 10239.82768349430},
-                {0.00000559353, 1.16579177696, 22004.15845235330},
-                {0.00000544577, 2.71804028246, 11790.87290614230},
-                {0.00000408020, 3.92608771235, 775.76642880750},
-                {0.00000281345, 2.80298571306, 9683.83839859990},
-                {0.00000270035, 3.67770752796, 9438.00675237050},
-                {0.00000268860, 0.41990030277, 10743.22032878910},
-                {0.00000299980, 5.65601998711, 5507.30942118390},
-                {0.00000214307, 0.74923674788, 10022.08109758290},
-                {0.00000241347, 5.80682329886, 10989.05197501850},
-                {0.00000208372, 2.46285909236, 10404.97762980610},
-                {0.00000271224, 2.62417096158, 19897.12394481090},
-                {0.00000264276, 5.12064283406, 9153.65979853830},
-                {0.00000214535, 1.37526779747, 20426.32727493849},
-                {0.00000175488, 6.12331394777, 191.20444862810},
-                {0.00000123055, 1.58857792634, 1059.62574767270},
-                {0.00000154230, 5.35560161427, 4705.97612502710},
-                {0.00000147037, 5.55854050911, 19651.29229858150},
-                {0.00000100153, 0.79332045392, 9437.51911740350},
-                {0.00000069555, 0.09311754829, 9104.15081160110},
-                {0.00000060317, 3.11675324526, 11322.90791578790},
-                {0.00000081789, 4.14338512686, 15721.08260236190},
-                {0.00000058874, 3.05764615349, 20618.26317601710},
-                {0.00000060776, 3.78470873239, 4552.19731454230},
-                {0.00000046411, 0.52070218977, 10192.75396820210},
-                {0.00000046285, 2.68960619882, 10234.30475918690},
-                {0.00000062288, 2.59109725374, 25934.36814857290},
-                {0.00000050365, 4.75194275844, 8623.96883344369},
-                {0.00000057275, 0.64239189151, 3154.44326741210},
-                {0.00000044993, 1.63208209330, 19367.43297971630},
-                {0.00000040167, 3.21167128301, 9411.70843257070},
-                {0.00000047716, 0.86304453306, 213.54291292150},
-                {0.00000039763, 1.64025153322, 801.57711364030},
-                {0.00000036106, 0.00294457034, 11015.35029481830},
-                {0.00000045150, 2.05121968981, 29580.71852592730},
-                {0.00000036973, 4.39488677348, 7058.84227879890},
-                {0.00000044928, 2.21932487684, 13367.72881362310},
-                {0.00000027822, 1.80340755563, 1109.13473460990},
-                {0.00000031714, 5.71016699928, 15874.86141284670},
-                {0.00000036279, 3.91641576039, 10000.23026825651},
-                {0.00000035360, 5.58217966591, 10426.82845913250},
-                {0.00000025530, 5.55124903584, 7860.66320992270},
-                {0.00000024951, 5.10701160912, 13368.21644859010},
-                {0.00000020285, 2.70230185537, 10220.64291069530},
-                {0.00000020275, 0.50470014586, 10206.41581669370},
-                {0.00000021291, 2.94920881997, 3128.63258257930},
-                {0.00000019173, 2.04473251084, 7.35736448430},
-                {0.00000018901, 5.32807743689, 26.05450231630},
-                {0.00000021874, 3.64157746468, 17297.93850984270},
-                {0.00000019888, 2.97802303514, 3930.45351370310},
-                {0.00000015237, 4.38451579542, 9830.63283147130},
-                {0.00000017432, 0.19412655939, 3531.81687532789},
-                {0.00000014522, 5.10931707627, 10596.42589591770},
-                {0.00000016153, 2.06702370588, 7084.65296363170},
-                {0.00000016091, 2.35723470212, 20213.51581446750},
-                {0.00000014842, 4.06993785667, 29864.57784479250},
-                {0.00000011112, 3.77156689319, 28287.23430234470},
-                {0.00000012828, 2.04993681745, 1589.31671276730},
-                {0.00000011212, 2.47660347576, 9154.14743350530},
-                {0.00000014376, 3.86295510498, 23581.50199480110},
-                {0.00000012175, 4.86624913254, 21228.63584102931},
-                {0.00000009393, 0.62322150367, 11272.91129388371},
-                {0.00000012824, 1.41267695017, 18837.25437965469},
-                {0.00000009207, 0.63567894131, 5661.57586663570},
-                {0.00000008622, 4.96988848671, 21536.19346199890},
-                {0.00000011653, 6.20176223180, 3340.85624418330},
-                {0.00000011496, 5.06383150221, 21228.14820606230},
-                {0.00000009511, 0.26562072904, 17298.42614480970},
-                {0.00000011281, 4.58316811302, 9786.44353785149},
-                {0.00000008498, 3.85640563749, 1577.58735993130},
-                {0.00000010763, 1.23302415918, 9929.67004482930},
-                {0.00000008847, 1.67978485166, 29051.02756083270},
-                {0.00000010378, 1.97768679369, 10497.38868255971},
-                {0.00000007498, 5.81617198925, 40853.38600232750},
-                {0.00000007375, 0.80020428978, 16496.60521368590},
-                {0.00000008792, 0.46879154707, 10208.00643938710},
-                {0.00000008786, 2.74189610123, 10219.05228800190},
-                {0.00000007423, 4.16147581059, 10175.50169105870},
-                {0.00000007386, 5.33241732891, 10251.55703633031},
-                {0.00000006692, 4.38326911706, 8094.27786834910},
-                {0.00000006531, 1.17040611406, 20419.70136290470},
-                {0.00000005876, 2.02888635328, 32217.44399856430},
-                {0.00000007945, 3.46479056876, 12566.39551746630},
-                {0.00000005723, 2.30960586444, 24357.02460612510},
-                {0.00000005960, 0.33603622534, 6681.46867088311},
-                {0.00000005974, 2.16510174683, 426.84200835950},
-                {0.00000005761, 0.76064746748, 2352.62233628830},
-                {0.00000007279, 3.49868729640, 11014.86265985130},
-                {0.00000004942, 3.65960075191, 3149.40797807170},
-                {0.00000005638, 2.37982075471, 382.65271473970},
-                {0.00000006069, 2.45567436191, 9683.35076363289},
-                {0.00000004581, 2.63348121114, 14765.48286075331},
-                {0.00000006372, 0.20312515446, 25158.35790228190},
-                {0.00000004902, 1.17139302409, 18837.74201462170},
-                {0.00000004698, 0.27470947352, 18849.47136745770},
-                {0.00000005371, 4.44585316652, 26088.14695905770},
-                {0.00000005495, 3.29251136036, 17086.20248320570},
-                {0.00000005381, 5.41096356380, 33794.78754101210},
-                {0.00000004870, 2.78487952662, 20453.11322970530},
-                {0.00000003922, 2.87932422455, 13745.59005650590},
-                {0.00000004608, 4.34320749688, 5661.08823166870},
-                {0.00000003970, 3.08739367796, 4731.78680985990},
-                {0.00000003556, 0.34805582338, 1551.28904013150},
-                {0.00000004329, 3.40536513934, 23958.87560271690},
-                {0.00000003274, 3.43453378712, 529.44714761109},
-                {0.00000003328, 1.04776147690, 18307.56341456009},
-                {0.00000002787, 2.05633948048, 11790.38527117530},
-                {0.00000003603, 4.92117852022, 14945.07235607090},
-                {0.00000002949, 2.82363129219, 10198.27689250950},
-                {0.00000002944, 0.38707318449, 10228.78183487951},
-                {0.00000003221, 0.43638422425, 20400.51659010570},
-                {0.00000003653, 1.62294150568, 29088.56759850150},
-                {0.00000002683, 2.20899209567, 6282.83203250789},
-                {0.00000002848, 0.52334662875, 11322.42028082089},
-                {0.00000002745, 1.78121493204, 5481.49873635110},
-                {0.00000002426, 2.81466312460, 6872.91693699471},
-                {0.00000002262, 3.48344118262, 7860.17557495569},
-                {0.00000002431, 3.85595069475, 30110.40949102190},
-                {0.00000002218, 5.83392361752, 17277.65074931730},
-                {0.00000002955, 5.30083680831, 27511.71169102070},
-                {0.00000002300, 3.89687853440, 3442.81876244891},
-                {0.00000002424, 0.96902068311, 20956.50587500010},
-                {0.00000002622, 3.74514898210, 9580.74562438130},
-                {0.00000002032, 1.05319678961, 20000.21671902950},
-                {0.00000002206, 3.60536125643, 537.04832957890},
-                {0.00000002010, 0.56779046000, 21202.33752122950},
-                {0.00000002471, 5.74733670645, 10846.31310300770},
-                {0.00000002315, 5.33473916529, 9573.14444241349},
-                {0.00000002188, 5.98208918864, 9967.69771746511},
-                {0.00000002278, 4.39189942690, 10110.43658947590},
-                {0.00000002278, 5.10198662047, 10316.62213791310},
-                {0.00000001808, 4.00370769986, 22779.68106367730},
-                {0.00000002244, 2.44298085439, 5507.79705615090},
-                {0.00000001796, 3.09913214862, 7063.87756813929},
-                {0.00000002118, 3.51159951397, 10459.36100992390},
-                {0.00000001908, 5.61152019917, 20809.71144212870},
-                {0.00000002093, 0.69713061337, 522.82123557730},
-                {0.00000001753, 0.39797312506, 13554.14179039430},
-                {0.00000002072, 4.26049243578, 9690.95194560070},
-                {0.00000001993, 3.55209979851, 10404.48999483909},
-                {0.00000002160, 3.04497475534, 33018.77729472110},
-                {0.00000001962, 5.23488234630, 10736.10678178830},
-                {0.00000001484, 2.74179945598, 3723.26514143949},
-                {0.00000001997, 0.06145988645, 18875.28205229050},
-                {0.00000002057, 1.98619862343, 102.84895673509},
-                {0.00000002016, 0.55406656183, 37724.99723723170},
-                {0.00000001618, 4.87669871338, 7085.14059859870},
-                {0.00000001659, 1.57309690432, 20235.36664379391},
-                {0.00000001553, 1.42749385034, 14945.55999103790},
-                {0.00000001873, 1.50254912801, 30213.50226524050},
-                {0.00000001542, 4.02240332746, 6490.02040477150},
-                {0.00000001360, 5.79998899684, 10233.19912459430},
-                {0.00000001360, 3.69389705053, 10193.85960279471},
-                {0.00000001592, 0.72118861666, 10138.74776512720},
-                {0.00000001592, 2.48951212353, 10288.31096226180},
-                {0.00000001368, 2.85917999065, 18875.76968725751},
-                {0.00000001235, 3.79205714927, 20.53157800890},
-                {0.00000001485, 4.99009504257, 9160.77334553909},
-                {0.00000001516, 2.06896537087, 9146.54625153749},
-                {0.00000001233, 0.18739466393, 18073.46112116669},
-                {0.00000001560, 0.36404331783, 9897.13749403790},
-                {0.00000001560, 2.84665742236, 10529.92123335110},
-                {0.00000001179, 6.01432548499, 14919.26167123810},
-                {0.00000001213, 1.30457787805, 28521.33659573810},
-                {0.00000001182, 5.63437933479, 9794.04471981930},
-                {0.00000001402, 4.53367387536, 8661.99650607950},
-                {0.00000001158, 3.85902457723, 10633.01400756970},
-                {0.00000001257, 4.23637984727, 2378.92065608810},
-                {0.00000001089, 2.26544798668, 30639.61282114949},
-                {0.00000001402, 5.00395460415, 10640.12755457050},
-                {0.00000001483, 5.56946826365, 21535.70582703189},
-                {0.00000001079, 4.38415798738, 775.27879384050},
-                {0.00000001370, 4.61207624622, 9786.93117281850},
-                {0.00000001064, 5.60167497040, 16984.23996494010},
-                {0.00000001158, 4.33523311867, 3929.96587873609},
-                {0.00000000967, 1.59661459457, 640.14110379750},
-                {0.00000000995, 1.12539751877, 8662.48414104651},
-                {0.00000001305, 4.46692235351, 36948.98699094070},
-                {0.00000001191, 4.52742138803, 39264.31310704370},
-                {0.00000001010, 1.09565332862, 10007.34381525730},
-                {0.00000001010, 2.11504740292, 10419.71491213170},
-                {0.00000000950, 4.36909872600, 1109.62236957690},
-                {0.00000001221, 5.50189153252, 75.02541605080},
-                {0.00000000987, 5.46991186463, 13937.03832261750},
-                {0.00000001164, 1.47388964891, 22805.49174851010},
-                {0.00000000845, 4.27255310755, 6770.46678376209},
-                {0.00000000996, 4.53838005508, 13341.91812879030},
-                {0.00000001123, 1.83377276818, 246.07546371290},
-                {0.00000001139, 2.43198497783, 2119.00767786191},
-                {0.00000001046, 0.31602811545, 31441.92138724031},
-                {0.00000000879, 3.85735462170, 15720.59496739490},
-                {0.00000000761, 4.01867784780, 7564.58690325449},
-                {0.00000000814, 6.07006670549, 9676.72485159910},
-                {0.00000000786, 2.08315748724, 11764.57458634250},
-                {0.00000000883, 0.01404050923, 25158.84553724890},
-                {0.00000000795, 3.42432291896, 10750.33387578991},
-                {0.00000000770, 0.68478801852, 7834.36489012290},
-                {0.00000000825, 2.06778751923, 191.69208359510},
-                {0.00000000696, 3.39721023806, 36147.65369478390},
-                {0.00000000941, 3.99222118800, 28520.84896077109},
-                {0.00000000787, 5.89002484288, 19890.01039781010},
-                {0.00000000788, 0.18085455233, 7994.77225950771},
-                {0.00000000624, 2.84762425105, 39794.00407213830},
-                {0.00000000609, 2.15716574588, 8624.45646841071},
-                {0.00000000836, 1.97255748877, 41655.20693345130},
-                {0.00000000744, 2.51526655235, 19904.23749181170},
-                {0.00000000689, 4.60442929527, 1066.73929467350},
-                {0.00000000803, 5.88878266978, 40879.19668716030},
-                {0.00000000692, 0.54636447385, 6770.95441872910},
-                {0.00000000585, 5.02593807559, 14143.25142494710},
-                {0.00000000678, 5.96525738921, 12592.20620229910},
-                {0.00000000573, 2.52291476260, 12592.69383726610},
-                {0.00000000670, 0.92908106036, 10239.34004852730},
-                {0.00000000655, 4.98008645111, 19366.94534474929},
-                {0.00000000626, 1.17708461387, 52176.05010063190},
-                {0.00000000548, 0.67624288629, 17777.87244946549},
-                {0.00000000709, 2.90326183951, 26735.70144472970},
-                {0.00000000531, 3.09187361677, 110.45013870291},
-                {0.00000000605, 4.63445748441, 10059.75055320970},
-                {0.00000000676, 5.20222552429, 20529.90768412410},
-                {0.00000000598, 3.03085156721, 12432.28646788130},
-                {0.00000000593, 4.85950569906, 10367.30817417930},
-                {0.00000000663, 0.05389382712, 1162.71852189130},
-                {0.00000000466, 5.52080701144, 8631.08238044450},
-                {0.00000000468, 3.02762841033, 16983.75232997309},
-                {0.00000000454, 0.79241866785, 10042.85649307530},
-                {0.00000000462, 5.82955181248, 6.86972951729},
-                {0.00000000444, 2.41828213333, 10384.20223431370},
-                {0.00000000460, 0.69082886296, 11802.60225897830},
-                {0.00000000436, 1.85693465963, 9639.18456535971},
-                {0.00000000565, 5.70677906646, 8520.87605922509},
-                {0.00000000416, 1.72605691131, 10225.25871653050},
-                {0.00000000416, 1.48464382888, 10201.80001085851},
-                {0.00000000414, 3.17556892991, 10186.74340892770},
-                {0.00000000431, 1.73079752624, 8616.85528644289},
-                {0.00000000393, 2.42848511919, 3532.30451029490},
-                {0.00000000406, 1.35364773044, 10787.87416202930},
-                {0.00000000380, 0.22739133734, 19317.43635781211},
-                {0.00000000458, 1.71416676029, 2218.51328670329},
-                {0.00000000433, 5.30346380915, 19650.80466361450},
-                {0.00000000377, 5.67314793766, 149.80701461810},
-                {0.00000000390, 0.06912441711, 13936.55068765050},
-                {0.00000000360, 5.95509031178, 24150.32386882850},
-                {0.00000000359, 4.26088296989, 30831.54872222810},
-                {0.00000000501, 1.02737770483, 44809.40638337990},
-                {0.00000000409, 1.77188267484, 27197.03787618409},
-                {0.00000000354, 2.84306437211, 10323.73568491390},
-                {0.00000000354, 0.36763636808, 10103.32304247510},
-                {0.00000000428, 2.67107743725, 13656.10430865991},
-                {0.00000000467, 5.30307476925, 38.37685312130},
-                {0.00000000343, 1.61330776142, 19786.91762359150},
-                {0.00000000457, 0.79025821347, 18308.05104952710},
-                {0.00000000399, 0.98531427210, 1052.51220067191},
-                {0.00000000445, 4.32811724206, 30665.91114094930},
-                {0.00000000344, 0.03854207192, 27490.93629552830},
-                {0.00000000315, 0.01870495544, 20640.11400534350},
-                {0.00000000399, 4.24912842655, 10212.04489098620},
-                {0.00000000399, 5.24475762082, 10215.01383640280},
-                {0.00000000390, 2.28211006759, 30000.20316980250},
-                {0.00000000340, 1.17434519565, 22805.97938347710},
-                {0.00000000398, 3.64836715501, 9836.15575577870},
-                {0.00000000311, 4.76207516886, 22003.67081738630},
-                {0.00000000404, 3.98593080978, 20352.03331133820},
-                {0.00000000366, 1.12867710261, 16522.41589851870},
-                {0.00000000350, 2.99077020749, 15874.37377787969},
-                {0.00000000385, 1.36867906917, 20180.98326367610},
-                {0.00000000379, 5.84551902141, 10590.90297161030},
-                {0.00000000395, 0.41318733253, 17277.16311435029},
-                {0.00000000383, 1.78033504479, 35372.13108345990},
-                {0.00000000277, 3.16062357954, 10988.56434005150},
-                {0.00000000365, 1.42467845102, 10349.15468870450},
-                {0.00000000365, 1.78602228917, 10077.90403868451},
-                {0.00000000336, 0.74013259732, 220.65645992230},
-                {0.00000000313, 5.66612603850, 6309.13035230770},
-                {0.00000000276, 5.59087067643, 26709.89075989690},
-                {0.00000000283, 5.53432657905, 3904.15519390330},
-                {0.00000000271, 3.85648651665, 9745.56437334010},
-                {0.00000000321, 4.20436094748, 38734.62214194910},
-                {0.00000000327, 6.11821528186, 9359.84534697549},
-                {0.00000000264, 5.16095616548, 76.50988875911},
-                {0.00000000310, 3.61551590451, 27991.15799567649},
-                {0.00000000359, 3.38306212619, 45585.41662967090},
-                {0.00000000326, 5.59092073268, 633.02755679670},
-                {0.00000000314, 1.40080599663, 20406.03951441310},
-                {0.00000000306, 1.12609450630, 2957.95971196010},
-                {0.00000000266, 4.09083877114, 8635.69818627969},
-                {0.00000000254, 5.63745242067, 10681.49435404891},
-                {0.00000000343, 4.64295996667, 8106.49485615210},
-                {0.00000000300, 4.12771906867, 206.42936592071},
-                {0.00000000250, 3.04073965857, 283.61550138170},
-                {0.00000000336, 0.68541596989, 23581.01435983410},
-                {0.00000000236, 5.97871163742, 10595.93826095070},
-                {0.00000000234, 3.82015244691, 19624.99397878170},
-                {0.00000000255, 2.78388035745, 213.05527795450},
-                {0.00000000281, 0.78332195796, 9399.97907973470},
-                {0.00000000314, 0.56852266937, 19786.42998862449},
-                {0.00000000229, 4.91536328985, 574.10098085129},
-                {0.00000000295, 3.93680452053, 31749.47900820990},
-                {0.00000000316, 2.45044363511, 48739.61607959950},
-                {0.00000000229, 4.45667675327, 949.41942645330},
-                {0.00000000229, 6.25019131093, 19896.63630984389},
-                {0.00000000257, 4.89479846572, 19360.31943271550},
-                {0.00000000231, 4.38656769900, 9264.35375472471},
-                {0.00000000255, 4.03464641753, 9993.11672125570},
-                {0.00000000255, 5.45923962984, 10433.94200613330},
-                {0.00000000291, 0.75030918802, 9999.74263328950},
-                {0.00000000285, 5.75179047399, 34596.12083716890},
-                {0.00000000211, 0.18276464350, 10249.55723037191},
-                {0.00000000211, 3.02793609669, 10177.50149701710},
-                {0.00000000255, 2.42745847719, 11027.07964765431},
-                {0.00000000220, 0.56223178729, 37.78385515230},
-                {0.00000000280, 0.52583614761, 37410.32342239509},
-                {0.00000000258, 5.27008173054, 29573.60497892650},
-                {0.00000000247, 1.90810058449, 29587.83207292810},
-                {0.00000000206, 3.37472645930, 30426.80136067850},
-                {0.00000000263, 3.16130275876, 20433.92845690630},
-                {0.00000000212, 3.16045353079, 10206.90080479450},
-                {0.00000000212, 0.05024720940, 10220.15792259451},
-                {0.00000000202, 0.82632204894, 16894.75421709410},
-                {0.00000000272, 4.85092349120, 12320.56387123691},
-                {0.00000000211, 5.11529334983, 11162.70497266430},
-                {0.00000000197, 1.28459142755, 8734.17515466309},
-                {0.00000000267, 4.30013889854, 377.61742539930},
-                {0.00000000224, 3.35322427637, 9051.05465928671},
-                {0.00000000186, 4.53704574212, 10251.66239933230},
-                {0.00000000186, 4.95684030525, 10175.39632805670},
-                {0.00000000258, 2.52339474378, 9864.60494324651},
-                {0.00000000186, 4.77906943206, 40077.86339100350},
-                {0.00000000233, 1.49242697658, 29089.05523346850},
-                {0.00000000186, 4.86984152157, 17272.12782500990},
-                {0.00000000254, 3.15931132763, 19264.34020549770},
-                {0.00000000246, 0.68740453037, 10562.45378414250},
-                {0.00000000211, 6.16254771086, 11376.00406810230},
-                {0.00000000178, 0.50910605505, 10949.40587722630},
-                {0.00000000178, 2.70159468514, 9477.65285016271},
-                {0.00000000197, 0.95969377699, 1692.40948698591},
-                {0.00000000177, 0.12290786955, 20316.60858868610},
-                {0.00000000216, 2.56868513559, 20452.62559473830},
-                {0.00000000197, 0.19093764884, 9050.56702431969},
-                {0.00000000159, 1.16783306054, 27197.52551115110},
-                {0.00000000167, 5.81167464279, 4705.48849006010},
-                {0.00000000213, 2.13389038075, 27511.22405605370},
-                {0.00000000154, 0.72358681867, 10199.30226969290},
-                {0.00000000154, 2.48711392152, 10227.75645769610},
-                {0.00000000174, 1.89882712841, 14.47091148511},
-                {0.00000000209, 1.65966829596, 10063.47853159290},
-                {0.00000000167, 3.57558694059, 6872.42930202769},
-                {0.00000000185, 0.68349269134, 9256.75257275689},
-                {0.00000000166, 3.75162140471, 10263.28638916630},
-                {0.00000000166, 5.74226464266, 10163.77233822270},
-                {0.00000000168, 5.33662556430, 7991.18509413049},
-                {0.00000000174, 3.76838134579, 9161.26098050610},
-                {0.00000000197, 3.44221896080, 846.32665223470},
-                {0.00000000176, 4.69215492733, 9779.32999085069},
-                {0.00000000198, 3.88553571350, 52669.82577581910},
-                {0.00000000169, 5.71918201676, 11265.79774688290},
-                {0.00000000188, 0.90560199287, 38526.33053338850},
-                {0.00000000140, 0.96666880637, 27991.64563064350},
-                {0.00000000194, 2.26842216085, 8837.26792888169},
-                {0.00000000173, 1.30662690057, 9793.55708485230},
-                {0.00000000140, 0.33029139370, 10191.67853436810},
-                {0.00000000140, 2.88040934649, 10235.38019302090},
-                {0.00000000196, 2.27385726594, 1293.24040609909},
-                {0.00000000180, 4.38252963041, 10021.59346261590},
-                {0.00000000138, 0.38495137130, 10217.46151695760},
-                {0.00000000138, 2.82574936889, 10209.59721043140},
-                {0.00000000148, 2.31505492408, 19374.54652671710},
-                {0.00000000137, 3.95061609635, 16522.90353348570},
-                {0.00000000143, 1.40332876782, 20447.59030539790},
-                {0.00000000139, 5.72624016073, 7255.32583425090},
-                {0.00000000126, 3.82073811345, 20277.25171277090},
-                {0.00000000164, 4.79111675703, 49515.62632589050},
-                {0.00000000149, 2.18564631641, 10135.85559326650},
-                {0.00000000149, 1.02505442378, 10291.20313412251},
-                {0.00000000118, 1.12766998844, 4551.70967957530},
-                {0.00000000117, 0.93680170584, 1582.20316576650},
-                {0.00000000151, 0.84241735172, 10246.06191448590},
-                {0.00000000151, 2.36828338847, 10180.99681290311},
-                {0.00000000152, 3.18276216864, 39302.34077967950},
-                {0.00000000144, 3.82694942167, 9986.05323090550},
-                {0.00000000144, 5.66693662570, 10441.00549648351},
-                {0.00000000136, 2.08219853379, 17469.09901542890},
-                {0.00000000119, 3.32943340593, 20809.22380716170},
-                {0.00000000130, 5.57171941495, 10236.30456514530},
-                {0.00000000130, 3.92216663242, 10190.75416224370},
-                {0.00000000156, 4.19081128787, 20388.68187426770},
-                {0.00000000132, 2.35919234539, 9580.25798941430},
-                {0.00000000155, 0.85940280671, 8238.03681783850},
-                {0.00000000142, 3.58430646945, 31441.43375227330},
-                {0.00000000131, 5.39629404064, 8101.39141534989},
-                {0.00000000133, 4.00547577050, 24382.83529095790},
-                {0.00000000105, 4.23077158650, 32858.36992533629},
-                {0.00000000105, 3.82110715168, 1059.13811270570},
-                {0.00000000101, 4.35357648238, 24978.76840696430},
-                {0.00000000126, 4.90495452705, 22645.57201409229},
-                {0.00000000101, 5.26437713251, 20043.91837768230},
-                {0.00000000110, 2.97625385917, 43071.65547154729},
-                {0.00000000103, 0.46440823619, 12431.79883291429},
-                {0.00000000136, 6.07687689635, 5999.46034860970},
-                {0.00000000097, 0.92055841324, 853.44019923550},
-                {0.00000000130, 3.21780638112, 4176.28515993250},
-                {0.00000000113, 3.93650904588, 19794.03117059230},
-                {0.00000000093, 5.48927852030, 22645.08437912529},
-                {0.00000000124, 2.32988224429, 42456.54022960810},
-                {0.00000000107, 4.30116108617, 3.68833577960},
-                {0.00000000127, 3.54954178661, 284.10313634870},
-                {0.00000000112, 2.47056814408, 20206.40226746670},
-                {0.00000000097, 4.21617446768, 78263.95324220609},
-                {0.00000000093, 0.23349714961, 8204.48418956850},
-                {0.00000000127, 5.30922609526, 56600.03547203870},
-                {0.00000000111, 4.68533396525, 18830.14083265389},
-                {0.00000000098, 3.12531862236, 11059.61219844570},
-                {0.00000000098, 0.08567718624, 9367.44652894330},
-                {0.00000000103, 5.15240336002, 10244.44348932950},
-                {0.00000000103, 4.34148268734, 10182.61523805950},
-                {0.00000000111, 1.30087873837, 18844.36792665549},
-                {0.00000000125, 2.35130115448, 12189.02190955050},
-                {0.00000000088, 4.33292988106, 20350.54883862990},
-                {0.00000000088, 2.43603338900, 29058.14110783350},
-                {0.00000000096, 3.91338437973, 2333.44021035551},
-                {0.00000000122, 5.43206767869, 2636.96929012050},
-                {0.00000000087, 1.36103886488, 8087.16432134830},
-                {0.00000000086, 3.64796343622, 7034.89593815990},
-                {0.00000000095, 2.03086124785, 10202.48366343060},
-                {0.00000000095, 1.17983949234, 10224.57506395840},
-                {0.00000000084, 1.22799614537, 10401.45451145710},
-                {0.00000000084, 1.98270459482, 10025.60421593190},
-                {0.00000000085, 5.03727591626, 19477.63930093570},
-                {0.00000000086, 4.48909813316, 29864.09020982550},
-                {0.00000000099, 2.80223352440, 2648.69864295650},
-                {0.00000000082, 1.04973324929, 802.06474860730},
-                {0.00000000087, 0.60735009545, 13745.10242153889},
-                {0.00000000081, 0.59637598254, 1550.80140516450},
-                {0.00000000083, 3.04079971271, 25933.88051360590},
-                {0.00000000079, 6.14325401892, 44008.07308722310},
-                {0.00000000078, 6.11312046046, 9573.63207738050},
-                {0.00000000098, 5.37191506696, 20220.62936146830},
-                {0.00000000108, 3.66133732652, 24149.83623386150},
-                {0.00000000100, 5.07064547333, 1596.43025976811},
-                {0.00000000095, 3.35135945156, 29477.62575170870},
-                {0.00000000078, 3.03881688108, 205.94173095370},
-                {0.00000000096, 1.62154425800, 30206.38871823969},
-                {0.00000000079, 4.07943333749, 3340.36860921629},
-                {0.00000000095, 4.51771749335, 30220.61581224130},
-                {0.00000000082, 4.95983920368, 29043.91401383189},
-                {0.00000000077, 2.97497430839, 17468.61138046190},
-                {0.00000000100, 4.43773436133, 38500.51984855570},
-                {0.00000000107, 4.65407793574, 2069.25065239010},
-                {0.00000000077, 3.58586905737, 10853.42665000850},
-                {0.00000000087, 4.37137980512, 5.27910682390},
-                {0.00000000076, 4.87466102622, 10243.35080184331},
-                {0.00000000076, 4.61922502115, 10183.70792554570},
-                {0.00000000076, 6.08417794379, 956.53297345411},
-                {0.00000000100, 2.63929709585, 28947.93478661410},
-                {0.00000000096, 4.86017307249, 35371.64344849290},
-                {0.00000000073, 0.32640489167, 17248.18148437089},
-                {0.00000000073, 1.84890257629, 21001.15970824030},
-                {0.00000000081, 2.26124411922, 18734.64924040310},
-                {0.00000000076, 5.51994215698, 103.33659170210},
-                {0.00000000085, 5.27676110314, 3914.71340755109},
-                {0.00000000074, 1.92420691865, 8827.63408735830},
-                {0.00000000070, 1.49155151362, 6298.57213865991},
-                {0.00000000087, 2.91040927813, 33019.26492968810},
-                {0.00000000071, 3.95908921272, 34172.16114892790},
-                {0.00000000079, 2.65919074354, 10018.55797923390},
-                {0.00000000079, 0.55150999665, 10408.50074815510},
-                {0.00000000069, 6.05632855781, 33794.29990604510},
-                {0.00000000087, 1.54753819207, 29050.53992586569},
-                {0.00000000069, 0.90459565864, 41044.83426843910},
-                {0.00000000069, 2.25427054035, 9644.70748966710},
-                {0.00000000069, 0.95643019984, 10782.35123772190},
-                {0.00000000087, 5.46685094593, 28313.04498717750},
-                {0.00000000085, 3.77767527899, 46386.74992582770},
-                {0.00000000083, 5.79338403589, 9721.86607123571},
-                {0.00000000083, 3.70050201148, 10705.19265615330},
-                {0.00000000090, 5.18770728347, 20049.44130198970},
-                {0.00000000064, 5.86320987239, 9147.03388650451},
-                {0.00000000076, 1.05201656383, 21486.19684009470},
-                {0.00000000085, 1.34427023572, 19573.13089318649},
-                {0.00000000063, 1.61314796366, 18314.67696156089},
-                {0.00000000071, 6.14562384557, 1573.57660661529},
-                {0.00000000070, 5.46351961493, 1580.62284331330},
-                {0.00000000080, 6.26741884849, 39301.85314471250},
-                {0.00000000067, 0.48701132675, 3956.26419853590},
-                {0.00000000087, 5.47908021981, 29264.32665627070},
-                {0.00000000063, 3.37584641365, 27461.46703058189},
-                {0.00000000070, 5.75487124049, 1479.11039154791},
-                {0.00000000081, 0.05555806146, 10205.92818172669},
-                {0.00000000080, 0.23956461858, 38204.44354188749},
-                {0.00000000060, 1.34871003737, 20421.29198559810},
-                {0.00000000064, 4.30292059849, 18300.44986755929},
-                {0.00000000076, 3.93986568359, 29683.81130014589},
-                {0.00000000082, 0.44981983060, 60530.24516825830},
-                {0.00000000077, 6.19200892946, 53445.83602211010},
-                {0.00000000062, 1.28649446141, 11599.42464003070},
-                {0.00000000058, 3.08211963404, 7576.80389105750},
-                {0.00000000057, 3.67915137516, 11280.02484088450},
-                {0.00000000059, 1.26040809465, 10255.08015467930},
-                {0.00000000059, 1.95029264554, 10171.97857270970},
-                {0.00000000057, 4.06263183264, 20464.84258254131},
-                {0.00000000079, 1.97866126955, 10136.77565745190},
-                {0.00000000066, 2.33925448441, 14169.54974474690},
-                {0.00000000063, 3.68749019288, 18099.75944096650},
-                {0.00000000060, 3.19857198519, 29786.90407436450},
-                {0.00000000064, 5.57155183718, 30007.31671680330},
-                {0.00000000054, 3.67263578488, 30666.39877591630},
-                {0.00000000058, 3.05733553465, 75449.75065697990},
-                {0.00000000073, 3.85067322628, 51449.56808076170},
-                {0.00000000074, 5.48458129044, 21720.29913348810},
-                {0.00000000063, 2.67652037589, 26736.18907969670},
-                {0.00000000054, 3.91509939932, 38204.93117685450},
-                {0.00000000072, 4.47140350205, 100608.35237674530},
-                {0.00000000053, 3.80804701502, 419.72846135871},
-                {0.00000000052, 2.09262980178, 40426.78781145150},
-                {0.00000000052, 5.73445119519, 29580.23089096029},
-                {0.00000000053, 1.24051301926, 419.24082639170},
-                {0.00000000058, 1.31187367842, 20412.58781590390},
-                {0.00000000054, 3.26242420831, 9366.95889397630},
-                {0.00000000055, 3.59360279993, 9103.66317663410},
-                {0.00000000050, 2.37895606630, 34570.31015233610},
-                {0.00000000067, 2.64494428691, 632.53992182970},
-                {0.00000000050, 1.18004520961, 37724.50960226470},
-                {0.00000000069, 1.73296667148, 53284.94101775829},
-                {0.00000000057, 1.89823008385, 8307.57696378710},
-                {0.00000000050, 4.69860484886, 8417.78328500650},
-                {0.00000000049, 1.91804881602, 26087.65932409069},
-                {0.00000000064, 2.02816930105, 7064.36520310630},
-                {0.00000000049, 1.71661686491, 14128.48658872910},
-                {0.00000000056, 2.23445542422, 28418.24382151950},
-                {0.00000000066, 6.05166710265, 19580.73207515430},
-                {0.00000000047, 2.93855195986, 10742.73269382209},
-                {0.00000000061, 1.41947943365, 43232.06284093210},
-                {0.00000000061, 4.56107208724, 43232.55047589910},
-                {0.00000000047, 4.81852576439, 38741.73568894990},
-                {0.00000000050, 1.33989551475, 59161.19323437110},
-                {0.00000000046, 2.23137394571, 18844.85556162250},
-                {0.00000000054, 0.69428675399, 48947.90768816010},
-                {0.00000000046, 4.63842079862, 3154.93090237910},
-                {0.00000000046, 4.21170546636, 194.72756697710},
-                {0.00000000056, 1.07866938616, 9936.78359183010},
-                {0.00000000056, 2.13203135403, 10490.27513555891},
-                {0.00000000054, 4.49664827025, 9922.55649782850},
-                {0.00000000054, 4.99723777712, 10504.50222956051},
-                {0.00000000059, 2.01423634465, 18204.47064034149},
-                {0.00000000048, 1.22734670146, 38727.50859494830},
-                {0.00000000057, 5.20275648643, 50316.95962204730},
-                {0.00000000061, 5.98664723657, 10140.23223783550},
-                {0.00000000061, 3.50723881080, 10286.82648955350},
-                {0.00000000061, 0.57175194941, 6567.17898634010},
-                {0.00000000048, 3.35196537073, 9246.55848625890},
-                {0.00000000060, 2.77045228898, 3684.13423250670},
-                {0.00000000060, 3.41701763721, 14427.59837877930},
-                {0.00000000051, 2.29628619637, 47623.60896860609},
-                {0.00000000051, 5.43142352332, 9566.03089541269},
-                {0.00000000052, 0.06151623743, 8727.06160766230},
-                {0.00000000057, 0.62091438086, 32243.25468339710},
-                {0.00000000048, 2.05408316319, 433.95555536030},
-                {0.00000000045, 5.52086086974, 10263.52598559870},
-                {0.00000000045, 3.97302517763, 10163.53274179031},
-                {0.00000000049, 1.65627933457, 9794.60496479390},
-                {0.00000000049, 1.55442140562, 10632.45376259511},
-                {0.00000000058, 6.19349919374, 1860.95904382949},
-                {0.00000000047, 1.50917280490, 20142.95559104030},
-                {0.00000000046, 5.38397167897, 2349.58685290630},
-                {0.00000000044, 2.04804189558, 30632.98690911569},
-                {0.00000000046, 4.70186674108, 2356.63308960431},
-                {0.00000000041, 0.12858083101, 12850.25483633150},
-                {0.00000000041, 1.71656432171, 8094.76550331610},
-                {0.00000000042, 5.08304675769, 77802.61681075170},
-                {0.00000000042, 2.81186817738, 25132.54721744910},
-                {0.00000000043, 2.37147053321, 19359.83179774849},
-                {0.00000000040, 3.89496191683, 10192.26633323510},
-                {0.00000000042, 3.28822065771, 34363.60941503950},
-                {0.00000000039, 4.35089840905, 109.96250373590},
-                {0.00000000044, 4.46863580810, 79379.96035319949},
-                {0.00000000043, 4.38742720144, 38734.13450698209},
-                {0.00000000046, 0.42463075467, 17778.36008443250},
-                {0.00000000039, 6.01839872141, 12565.90788249930},
-                {0.00000000041, 0.30408875222, 27681.89692667289},
-                {0.00000000053, 1.87369351531, 64460.45486447790},
-                {0.00000000039, 3.44426638934, 28631.54291695750},
-                {0.00000000052, 5.20963176413, 38631.52936773050},
-                {0.00000000043, 6.14192058418, 11180.50024113010},
-                {0.00000000039, 1.02239033953, 1265.81129610991},
-                {0.00000000039, 3.80918822366, 7879.84533585549},
-                {0.00000000039, 0.66759557007, 7880.33297082250},
-                {0.00000000052, 1.99450435156, 1.72829019180},
-                {0.00000000039, 0.47445196924, 54981.62877357310},
-                {0.00000000047, 4.89376316808, 187.68133027909},
-                {0.00000000044, 1.17091466926, 10168.38814405790},
-                {0.00000000044, 2.03978607093, 10258.67058333111},
-                {0.00000000048, 4.68507697395, 10063.96616655990},
-                {0.00000000043, 5.12159413101, 22029.96913718610},
-                {0.00000000051, 5.89313258670, 104538.56207296489},
-                {0.00000000051, 6.27593957045, 16250.77356745650},
-                {0.00000000037, 4.48693750961, 29161.23388205210},
-                {0.00000000043, 4.92338640427, 10363.09256082911},
-                {0.00000000038, 4.13589046896, 47917.50738795030},
-                {0.00000000049, 4.56271718314, 66037.79840692569},
-                {0.00000000037, 4.41298098667, 6257.02134767510},
-                {0.00000000036, 2.97028336578, 8674.21349388250},
-                {0.00000000045, 2.00823427492, 522.33360061030},
-                {0.00000000049, 1.96278700412, 491.90710994230},
-                {0.00000000042, 2.95264046208, 115674.52048208468},
-                {0.00000000040, 6.06388400822, 10233.81712421990},
-                {0.00000000036, 1.27578830807, 47938.28278344270},
-                {0.00000000035, 2.75316747179, 12546.72575656651},
-                {0.00000000048, 2.91217379208, 90395.06683053430},
-                {0.00000000040, 2.61778472956, 14127.99895376209},
-                {0.00000000044, 4.30648713686, 9698.06549260150},
-                {0.00000000044, 5.18739891051, 10728.99323478751},
-                {0.00000000036, 2.23668112498, 69942.19741831250},
-                {0.00000000035, 2.59567778333, 41654.71929848429},
-                {0.00000000034, 4.26526324958, 55798.70217588190},
-                {0.00000000037, 3.25219443320, 35192.05395317530},
-                {0.00000000046, 2.90936826705, 36301.43250526870},
-                {0.00000000047, 1.48071490743, 86464.85713431469},
-                {0.00000000035, 5.44812994648, 48732.98752069949},
-                {0.00000000035, 4.79214932619, 10011.27596852040},
-                {0.00000000035, 4.70173672118, 10415.78275886861},
-                {0.00000000034, 6.17898420868, 37410.81105736210},
-                {0.00000000033, 5.38008686554, 49477.59865325469},
-                {0.00000000042, 4.39944587348, 18830.62846762090},
-                {0.00000000035, 5.27547059803, 49515.13869092350},
-                {0.00000000047, 0.65352099169, 31022.50935337269},
-                {0.00000000034, 4.90000292698, 100909.28143881488},
-                {0.00000000033, 3.74889730790, 10117.55013647670},
-                {0.00000000033, 5.74498873947, 10309.50859091230},
-                {0.00000000034, 4.93693556191, 7461.49412903589},
-                {0.00000000034, 3.87169740614, 45584.92899470390},
-                {0.00000000032, 0.10155743123, 9676.23721663209},
-                {0.00000000039, 2.72509244693, 316.63568714010},
-                {0.00000000033, 4.45732662556, 31748.99137324289},
-                {0.00000000031, 3.44787752858, 30103.29594402109},
-                {0.00000000035, 4.20052948408, 58946.27306691049},
-                {0.00000000032, 3.76438941046, 21977.86013255350},
-                {0.00000000036, 1.22867623820, 20430.74706316860},
-                {0.00000000032, 0.22256920805, 81732.82650697129},
-                {0.00000000030, 2.28012493395, 19573.61852815350},
-                {0.00000000031, 2.48999281964, 11.28951774740},
-                {0.00000000038, 4.94526723480, 20617.77554105009},
-                {0.00000000033, 5.88114654745, 83310.17004941910},
-                {0.00000000029, 0.24041771274, 11752.84523350650},
-                {0.00000000029, 5.51688017902, 9801.15826682010},
-                {0.00000000029, 3.97700586835, 10625.90046056890},
-                {0.00000000030, 3.62180540908, 20432.33783421290},
-                {0.00000000031, 4.94266626401, 7255.81346921790},
-                {0.00000000029, 4.41071491793, 9889.53631207009},
-                {0.00000000029, 1.77595651133, 224.58861318540},
-                {0.00000000028, 0.27335698936, 10099.09007500929},
-                {0.00000000028, 2.93734375083, 10327.96865237972},
-                {0.00000000037, 0.01012570970, 47964.09346827550},
-                {0.00000000029, 1.93091525734, 10426.34082416550},
-                {0.00000000034, 4.22987244572, 1539.55968729550},
-                {0.00000000039, 5.18936044570, 30563.83438484090},
-                {0.00000000039, 1.33268449559, 5791.16874004909},
-                {0.00000000028, 5.43649843683, 1178.95072155610},
-                {0.00000000031, 5.46650886390, 39786.89052513750},
-                {0.00000000028, 3.65949505965, 73872.40711453209},
-                {0.00000000027, 0.53018129778, 9411.22079760369},
-                {0.00000000028, 0.41914594254, 15694.78428256210},
-                {0.00000000034, 3.67856303130, 40213.48871601350},
-                {0.00000000037, 4.44226497286, 36949.47462590770},
-                {0.00000000035, 3.56301256331, 37704.22184173930},
-                {0.00000000028, 5.98328888184, 4732.27444482690},
-                {0.00000000037, 2.63889784222, 13859.87974104890},
-                {0.00000000035, 2.72288729195, 18093.13088206649},
-                {0.00000000035, 5.86447994554, 18093.61851703350},
-                {0.00000000031, 2.99968207636, 42430.72954477530},
-                {0.00000000026, 4.09923425337, 8734.66278963010},
-                {0.00000000028, 1.92482741603, 7886.47389475550},
-                {0.00000000031, 0.27204438582, 25960.17883340570},
-        };
-    }
-
-    private static void initialize_1_1()
-    {
-        classCoeff[0][1] = new double[][]{
-                {0.00051880979, 2.28175279050, 0.24381748350},
-                {0.00017260820, 0.92558492780, 20426.81490990550},
-                {0.00011049864, 2.03460665124, 10213.04172872750},
-                {0.00004831725, 4.77621954273, 10213.52936369450},
-                {0.00000175352, 1.80600884943, 30640.10045611650},
-                {0.00000060293, 4.92800632264, 8636.18582124671},
-                {0.00000062982, 2.09113961987, 10187.23104389470},
-                {0.00000062707, 1.11859002578, 10239.82768349430},
-                {0.00000049342, 4.57448643960, 11790.87290614230},
-                {0.00000036826, 2.07066164376, 775.76642880750},
-                {0.00000039689, 3.30583760303, 20426.32727493849},
-                {0.00000030101, 5.32708077931, 10022.08109758290},
-                {0.00000029330, 4.16541909519, 10404.97762980610},
-                {0.00000019990, 1.15893210018, 9438.00675237050},
-                {0.00000017877, 2.07736309994, 10989.05197501850},
-                {0.00000014175, 3.70557013555, 9683.83839859990},
-                {0.00000013388, 1.33844459770, 191.20444862810},
-                {0.00000013513, 5.77342390577, 10743.22032878910},
-                {0.00000014034, 3.49932313102, 4705.97612502710},
-                {0.00000013385, 1.15013591011, 19651.29229858150},
-                {0.00000006873, 4.83631203632, 9104.15081160110},
-                {0.00000007547, 5.57551333367, 1059.62574767270},
-                {0.00000007388, 6.00037338177, 15721.08260236190},
-                {0.00000005971, 4.65746818072, 11322.90791578790},
-                {0.00000005966, 1.10731222776, 10220.64291069530},
-                {0.00000005965, 2.10389967659, 10206.41581669370},
-                {0.00000005155, 2.49611854501, 3154.44326741210},
-                {0.00000004571, 4.59065584437, 20618.26317601710},
-                {0.00000004246, 6.05417599890, 10000.23026825651},
-                {0.00000004157, 3.43981648730, 10426.82845913250},
-                {0.00000004649, 2.86570769042, 9830.63283147130},
-                {0.00000004431, 0.34499590120, 10596.42589591770},
-                {0.00000003938, 0.35777611387, 7.35736448430},
-                {0.00000003399, 2.39541457575, 7860.66320992270},
-                {0.00000002758, 3.91101238225, 19367.43297971630},
-                {0.00000002699, 0.65662263221, 7058.84227879890},
-                {0.00000002515, 5.65192320935, 8623.96883344369},
-                {0.00000002725, 4.96638871958, 801.57711364030},
-                {0.00000002539, 5.96953617871, 9411.70843257070},
-                {0.00000001822, 3.32629702713, 1109.13473460990},
-                {0.00000002300, 3.51596869326, 11015.35029481830},
-                {0.00000001816, 2.53054405922, 13368.21644859010},
-                {0.00000001814, 4.85812202292, 3930.45351370310},
-                {0.00000001586, 2.69305924606, 40853.38600232750},
-                {0.00000001999, 2.52624662737, 26.05450231630},
-                {0.00000001745, 2.26492854011, 4552.19731454230},
-                {0.00000001503, 0.63999417521, 12566.39551746630},
-                {0.00000001446, 3.91665476010, 7084.65296363170},
-                {0.00000001400, 6.24730767768, 11272.91129388371},
-                {0.00000001282, 4.66310117053, 10219.05228800190},
-                {0.00000001282, 4.83078487684, 10208.00643938710},
-                {0.00000001352, 2.86394052328, 20419.70136290470},
-                {0.00000001475, 5.68356978914, 3128.63258257930},
-                {0.00000001235, 2.12083036469, 1577.58735993130},
-                {0.00000001286, 5.69421578243, 23581.50199480110},
-                {0.00000001283, 3.88408958331, 382.65271473970},
-                {0.00000001171, 3.28848400510, 9154.14743350530},
-                {0.00000001084, 4.35524384671, 10198.27689250950},
-                {0.00000001084, 5.13864220066, 10228.78183487951},
-                {0.00000001198, 4.95985546788, 16496.60521368590},
-                {0.00000000869, 2.39926268528, 2352.62233628830},
-                {0.00000001112, 0.28321011044, 1589.31671276730},
-                {0.00000000922, 0.95607730643, 15874.86141284670},
-                {0.00000000743, 0.68161454240, 28287.23430234470},
-                {0.00000000746, 2.15375090404, 3149.40797807170},
-                {0.00000000797, 5.11193244020, 426.84200835950},
-                {0.00000000625, 3.18531726606, 20400.51659010570},
-                {0.00000000615, 0.22278918989, 21536.19346199890},
-                {0.00000000832, 1.92436994458, 21228.63584102931},
-                {0.00000000656, 5.34274867064, 11014.86265985130},
-                {0.00000000586, 2.16720042671, 5661.57586663570},
-                {0.00000000648, 1.91289793451, 537.04832957890},
-                {0.00000000674, 5.27695637784, 8094.27786834910},
-                {0.00000000636, 0.25111675779, 18849.47136745770},
-                {0.00000000655, 3.80934378726, 17298.42614480970},
-                {0.00000000615, 2.39412529972, 522.82123557730},
-                {0.00000000507, 0.55272313227, 20453.11322970530},
-                {0.00000000451, 5.12854697169, 32217.44399856430},
-                {0.00000000480, 2.46182518074, 529.44714761109},
-                {0.00000000439, 3.76528392741, 6282.83203250789},
-                {0.00000000439, 2.58129029648, 29051.02756083270},
-                {0.00000000410, 5.46936106504, 24357.02460612510},
-                {0.00000000452, 3.76215759010, 9146.54625153749},
-                {0.00000000417, 4.91991688397, 6681.46867088311},
-                {0.00000000434, 3.29962044494, 9160.77334553909},
-                {0.00000000364, 2.71580018519, 10640.12755457050},
-                {0.00000000363, 0.47492285209, 9786.93117281850},
-                {0.00000000428, 0.81939944524, 20809.71144212870},
-                {0.00000000440, 2.47378943911, 9690.95194560070},
-                {0.00000000440, 0.73691128332, 10736.10678178830},
-                {0.00000000372, 0.50265145827, 10251.55703633031},
-                {0.00000000372, 2.70804928192, 10175.50169105870},
-                {0.00000000319, 1.05799277323, 17277.65074931730},
-                {0.00000000427, 2.95582453815, 18837.74201462170},
-                {0.00000000319, 0.18812390399, 7860.17557495569},
-                {0.00000000303, 1.07261427828, 14765.48286075331},
-                {0.00000000351, 2.50811815863, 6490.02040477150},
-                {0.00000000287, 0.13453811680, 1577.09972496430},
-                {0.00000000318, 0.48117169551, 14945.07235607090},
-                {0.00000000297, 1.06831804424, 10233.19912459430},
-                {0.00000000297, 2.14238269595, 10193.85960279471},
-                {0.00000000372, 5.93165702933, 22004.15845235330},
-                {0.00000000311, 1.29581017314, 9683.35076363289},
-                {0.00000000284, 2.36025817240, 3442.81876244891},
-                {0.00000000269, 1.16222638968, 9573.14444241349},
-                {0.00000000262, 3.22424327301, 21202.33752122950},
-                {0.00000000285, 4.56673097639, 13745.59005650590},
-                {0.00000000276, 1.42552468909, 9676.72485159910},
-                {0.00000000289, 5.78612487399, 20235.36664379391},
-                {0.00000000263, 5.63102915308, 22779.68106367730},
-                {0.00000000280, 5.09544909614, 14919.26167123810},
-                {0.00000000262, 1.80492967584, 10750.33387578991},
-                {0.00000000256, 4.41502652709, 10234.30475918690},
-                {0.00000000239, 4.74729006212, 5507.79705615090},
-                {0.00000000253, 5.07523059777, 10192.75396820210},
-                {0.00000000268, 0.81556729812, 27511.71169102070},
-                {0.00000000282, 6.23856358633, 4731.78680985990},
-                {0.00000000232, 4.24398296621, 3723.26514143949},
-                {0.00000000285, 5.52678704563, 20956.50587500010},
-                {0.00000000244, 3.89280464375, 2353.10997125530},
-                {0.00000000272, 4.39654535286, 20000.21671902950},
-                {0.00000000254, 4.68153309834, 6283.31966747490},
-                {0.00000000238, 4.49319488898, 30639.61282114949},
-                {0.00000000232, 1.29928686548, 19890.01039781010},
-                {0.00000000210, 1.76685272207, 18073.46112116669},
-                {0.00000000216, 4.76667969992, 18073.94875613370},
-                {0.00000000199, 0.33116574732, 9639.18456535971},
-                {0.00000000218, 0.81835363281, 19904.23749181170},
-                {0.00000000225, 0.70271153327, 13937.03832261750},
-                {0.00000000235, 3.30083410129, 1551.28904013150},
-                {0.00000000191, 4.33367506839, 6872.91693699471},
-                {0.00000000179, 0.13296789433, 30110.40949102190},
-                {0.00000000185, 2.87950187226, 10787.87416202930},
-                {0.00000000235, 2.81621171423, 1066.73929467350},
-                {0.00000000208, 5.61842788521, 10007.34381525730},
-                {0.00000000208, 3.87545816216, 10419.71491213170},
-                {0.00000000179, 1.93004567854, 18875.28205229050},
-                {0.00000000184, 1.66108282172, 9967.69771746511},
-                {0.00000000166, 1.92550152422, 18307.56341456009},
-                {0.00000000163, 4.95974146969, 10225.25871653050},
-                {0.00000000163, 4.53414457768, 10201.80001085851},
-                {0.00000000156, 6.06699266861, 10316.62213791310},
-                {0.00000000156, 3.42689337876, 10110.43658947590},
-                {0.00000000178, 1.54946223064, 10459.36100992390},
-                {0.00000000172, 4.28587752330, 14143.73905991410},
-                {0.00000000163, 3.33734155709, 8616.85528644289},
-                {0.00000000163, 4.34265322302, 6.86972951729},
-                {0.00000000157, 5.15568499427, 13554.14179039430},
-                {0.00000000152, 5.19097050991, 640.14110379750},
-                {0.00000000149, 4.59659252448, 7063.87756813929},
-                {0.00000000179, 2.57671187060, 29864.57784479250},
-                {0.00000000140, 3.74361509193, 8631.08238044450},
-                {0.00000000140, 1.47790992779, 529.93478257810},
-                {0.00000000131, 4.02274509510, 9794.04471981930},
-                {0.00000000170, 1.92390663066, 9153.65979853830},
-                {0.00000000128, 5.46982761491, 10633.01400756970},
-                {0.00000000177, 4.60925492420, 5481.49873635110},
-                {0.00000000154, 0.98130891951, 2119.00767786191},
-                {0.00000000131, 0.85435524802, 16984.23996494010},
-                {0.00000000131, 2.78432814801, 9437.51911740350},
-                {0.00000000118, 0.33770416850, 11790.38527117530},
-                {0.00000000140, 3.57821725968, 191.69208359510},
-                {0.00000000143, 4.89084114003, 7994.77225950771},
-                {0.00000000123, 2.80558057017, 213.54291292150},
-                {0.00000000111, 1.17808071549, 8661.99650607950},
-                {0.00000000121, 2.21290119959, 28521.33659573810},
-                {0.00000000119, 1.63506882892, 3929.96587873609},
-                {0.00000000106, 5.90822125685, 1109.62236957690},
-                {0.00000000099, 2.30048706584, 20.53157800890},
-                {0.00000000104, 6.17530863971, 36147.65369478390},
-                {0.00000000107, 3.35632619038, 22805.49174851010},
-                {0.00000000125, 4.66656170776, 12432.28646788130},
-                {0.00000000101, 3.14294490163, 1052.51220067191},
-                {0.00000000093, 0.14824204033, 574.10098085129},
-                {0.00000000129, 4.90531185126, 7564.58690325449},
-                {0.00000000092, 1.92722181403, 9359.84534697549},
-                {0.00000000099, 2.32246660439, 31441.92138724031},
-                {0.00000000091, 6.18685264626, 775.27879384050},
-                {0.00000000112, 5.12786964903, 10186.74340892770},
-                {0.00000000095, 3.66782801204, 10433.94200613330},
-                {0.00000000095, 5.82605803532, 9993.11672125570},
-                {0.00000000092, 0.35578303465, 14143.25142494710},
-                {0.00000000096, 5.32806010513, 220.65645992230},
-                {0.00000000084, 5.80809189896, 6770.46678376209},
-                {0.00000000088, 1.99015323508, 11322.42028082089},
-                {0.00000000110, 0.30263518591, 11802.60225897830},
-                {0.00000000108, 5.13400336320, 29580.71852592730},
-                {0.00000000093, 5.89321185295, 2957.95971196010},
-                {0.00000000101, 2.09186878730, 6770.95441872910},
-                {0.00000000105, 4.75827384051, 8662.48414104651},
-                {0.00000000094, 1.47978763830, 20433.92845690630},
-                {0.00000000089, 2.27805851709, 15720.59496739490},
-                {0.00000000088, 5.79703525886, 206.42936592071},
-                {0.00000000101, 2.08027263650, 7085.14059859870},
-                {0.00000000077, 4.50520624769, 10177.50149701710},
-                {0.00000000077, 4.98867979968, 10249.55723037191},
-                {0.00000000087, 1.15473517110, 2378.92065608810},
-                {0.00000000080, 1.30578005980, 5507.30942118390},
-                {0.00000000100, 4.88512859986, 14945.55999103790},
-                {0.00000000096, 2.91515384440, 8624.45646841071},
-                {0.00000000071, 1.17266085434, 24150.32386882850},
-                {0.00000000089, 6.18976687503, 18875.76968725751},
-                {0.00000000071, 0.26607557139, 29043.91401383189},
-                {0.00000000075, 6.05522319041, 19897.12394481090},
-                {0.00000000068, 3.96046123295, 10384.20223431370},
-                {0.00000000068, 5.53342481442, 10042.85649307530},
-                {0.00000000077, 0.65929723000, 29573.60497892650},
-                {0.00000000073, 0.21801456964, 29587.83207292810},
-                {0.00000000063, 3.39603171816, 10239.34004852730},
-                {0.00000000086, 3.93300049009, 19650.80466361450},
-                {0.00000000086, 0.41942430117, 19360.31943271550},
-                {0.00000000061, 0.66096242131, 29058.14110783350},
-                {0.00000000081, 4.74585662186, 11764.57458634250},
-                {0.00000000066, 4.80481512048, 26735.70144472970},
-                {0.00000000075, 1.14917066460, 25934.36814857290},
-                {0.00000000067, 1.15917986378, 40077.86339100350},
-                {0.00000000059, 4.95335370099, 10988.56434005150},
-                {0.00000000077, 0.71010883429, 20213.51581446750},
-                {0.00000000077, 3.31402335732, 7834.36489012290},
-                {0.00000000057, 1.06828917998, 10404.48999483909},
-                {0.00000000057, 1.40187066473, 110.45013870291},
-                {0.00000000067, 1.57273164979, 17777.87244946549},
-                {0.00000000060, 6.21424049877, 30831.54872222810},
-                {0.00000000058, 2.47733285182, 12592.20620229910},
-                {0.00000000054, 4.90109601900, 19317.43635781211},
-                {0.00000000065, 3.16919569918, 25158.84553724890},
-                {0.00000000064, 2.20893920610, 18308.05104952710},
-                {0.00000000059, 0.10111317126, 9779.32999085069},
-                {0.00000000053, 1.51934336072, 27490.93629552830},
-                {0.00000000050, 1.75539922827, 10103.32304247510},
-                {0.00000000050, 1.45530151192, 10323.73568491390},
-                {0.00000000050, 6.21018693293, 39794.00407213830},
-                {0.00000000055, 5.90009200198, 9793.55708485230},
-                {0.00000000048, 4.23138520787, 29089.05523346850},
-                {0.00000000051, 0.59694211544, 26709.89075989690},
-                {0.00000000047, 3.85157632106, 16522.41589851870},
-                {0.00000000060, 6.18581659700, 12592.69383726610},
-                {0.00000000057, 3.26039666468, 2218.51328670329},
-                {0.00000000047, 3.62423252693, 20640.11400534350},
-                {0.00000000046, 4.31718986476, 19786.91762359150},
-                {0.00000000047, 2.61830291086, 57836.89451481709},
-                {0.00000000045, 3.93917249780, 3532.30451029490},
-                {0.00000000047, 0.02859294876, 22003.67081738630},
-                {0.00000000045, 4.38533780662, 30000.20316980250},
-                {0.00000000043, 5.13871521232, 29786.90407436450},
-                {0.00000000051, 2.50512066478, 44008.07308722310},
-                {0.00000000042, 4.64511163321, 9999.74263328950},
-                {0.00000000050, 5.23051268807, 23581.01435983410},
-                {0.00000000051, 1.29476911793, 13341.91812879030},
-                {0.00000000040, 5.56163575062, 33019.26492968810},
-                {0.00000000051, 1.12826192024, 13656.10430865991},
-                {0.00000000048, 5.72986884882, 213.05527795450},
-                {0.00000000039, 5.77845089286, 20447.59030539790},
-                {0.00000000039, 1.18630935880, 10595.93826095070},
-                {0.00000000042, 6.23472824067, 30665.91114094930},
-                {0.00000000042, 0.50469059035, 3914.71340755109},
-                {0.00000000042, 4.77756101392, 38204.93117685450},
-                {0.00000000041, 3.60025537560, 17469.09901542890},
-                {0.00000000036, 5.95301096335, 10077.90403868451},
-                {0.00000000036, 3.54087508402, 10349.15468870450},
-                {0.00000000040, 0.08435320836, 18830.14083265389},
-                {0.00000000039, 5.88165362901, 18844.36792665549},
-                {0.00000000034, 3.36376891454, 21001.15970824030},
-                {0.00000000034, 1.57325955329, 13936.55068765050},
-                {0.00000000032, 0.62824969555, 36949.47462590770},
-                {0.00000000033, 4.53469110076, 16983.75232997309},
-                {0.00000000040, 3.88665965181, 47938.28278344270},
-                {0.00000000032, 5.46497273946, 39301.85314471250},
-                {0.00000000032, 5.46497273946, 39302.34077967950},
-                {0.00000000036, 0.13872965215, 19374.54652671710},
-                {0.00000000032, 5.49940747482, 16894.75421709410},
-                {0.00000000042, 0.37006377215, 55798.70217588190},
-                {0.00000000031, 3.51648880247, 20043.91837768230},
-                {0.00000000033, 1.44339512827, 48418.21672306549},
-                {0.00000000031, 1.24271036891, 9573.63207738050},
-                {0.00000000034, 5.27191504099, 54247.16931826690},
-                {0.00000000032, 2.12080485437, 10191.67853436810},
-                {0.00000000032, 1.08989588581, 10235.38019302090},
-                {0.00000000031, 2.88701937696, 8087.16432134830},
-                {0.00000000032, 1.43989537444, 19896.63630984389},
-                {0.00000000036, 0.86097595428, 7255.32583425090},
-                {0.00000000030, 1.96661961760, 10853.42665000850},
-                {0.00000000037, 0.40709954927, 27511.22405605370},
-                {0.00000000032, 3.94523183143, 19366.94534474929},
-                {0.00000000029, 5.21162982204, 10291.20313412251},
-                {0.00000000029, 4.28225622533, 10135.85559326650},
-                {0.00000000028, 5.74069429835, 104351.85638378029},
-                {0.00000000032, 4.16582591800, 20206.40226746670},
-                {0.00000000029, 6.04399510869, 29864.09020982550},
-                {0.00000000029, 3.70427099153, 49515.13869092350},
-                {0.00000000027, 5.20809241529, 5661.08823166870},
-                {0.00000000034, 2.13914627667, 9161.26098050610},
-                {0.00000000027, 2.35964005449, 6872.42930202769},
-                {0.00000000032, 5.37255836333, 9836.15575577870},
-                {0.00000000032, 4.12132768404, 10590.90297161030},
-                {0.00000000027, 6.25293311610, 6298.57213865991},
-                {0.00000000035, 5.35069959846, 9986.05323090550},
-                {0.00000000035, 4.14318644891, 10441.00549648351},
-                {0.00000000033, 2.06705744681, 31441.43375227330},
-                {0.00000000026, 1.99269274261, 40879.68432212730},
-                {0.00000000034, 2.86141693506, 1059.13811270570},
-                {0.00000000028, 3.27143415157, 27197.03787618409},
-                {0.00000000026, 4.77604105797, 34363.60941503950},
-                {0.00000000032, 1.06669637529, 11265.79774688290},
-                {0.00000000029, 3.31179813455, 30206.38871823969},
-                {0.00000000032, 5.28518925051, 51868.49247966230},
-                {0.00000000029, 3.60960317836, 35371.64344849290},
-                {0.00000000029, 3.60960317836, 35372.13108345990},
-                {0.00000000027, 1.39820608512, 34596.12083716890},
-                {0.00000000033, 1.79087945691, 59728.91187210151},
-                {0.00000000029, 3.70229059266, 20220.62936146830},
-                {0.00000000025, 4.71719114041, 25933.88051360590},
-                {0.00000000024, 5.85674327230, 8734.17515466309},
-                {0.00000000027, 2.50446352876, 66813.80865321669},
-                {0.00000000024, 1.21352192025, 36173.46437961670},
-                {0.00000000024, 4.42282415616, 31022.99698833970},
-                {0.00000000023, 0.26441959495, 24382.83529095790},
-                {0.00000000028, 1.01958443856, 27461.46703058189},
-                {0.00000000027, 2.82757763572, 30220.61581224130},
-                {0.00000000023, 2.71148449796, 10367.30817417930},
-                {0.00000000023, 0.49921624223, 10059.75055320970},
-                {0.00000000023, 5.14356401989, 20452.62559473830},
-                {0.00000000026, 2.79748800924, 39271.42665404450},
-                {0.00000000026, 3.27996977321, 39257.19956004290},
-                {0.00000000022, 0.64539022706, 43232.06284093210},
-                {0.00000000022, 0.64539022706, 43232.55047589910},
-                {0.00000000026, 3.68377277974, 8101.39141534989},
-                {0.00000000022, 2.92850972756, 24978.76840696430},
-                {0.00000000022, 2.54378881371, 25158.35790228190},
-                {0.00000000030, 4.35689894819, 17248.18148437089},
-                {0.00000000022, 4.40135816223, 27991.15799567649},
-                {0.00000000022, 1.75419561511, 30426.80136067850},
-                {0.00000000022, 5.61039853516, 802.06474860730},
-                {0.00000000028, 5.29619670984, 17297.93850984270},
-                {0.00000000021, 1.01517564916, 9147.03388650451},
-                {0.00000000024, 5.57258032099, 46386.74992582770},
-                {0.00000000021, 2.72351924355, 27197.52551115110},
-                {0.00000000021, 3.36801059218, 44809.89401834690},
-                {0.00000000024, 5.90015079750, 52176.05010063190},
-                {0.00000000025, 4.38058629438, 22805.97938347710},
-                {0.00000000022, 0.93569574784, 9566.03089541269},
-                {0.00000000023, 2.47187255983, 6309.13035230770},
-                {0.00000000021, 2.05775290145, 10949.40587722630},
-                {0.00000000021, 1.15294783874, 9477.65285016271},
-                {0.00000000024, 0.56697771725, 10288.31096226180},
-                {0.00000000024, 2.64372302294, 10138.74776512720},
-                {0.00000000027, 0.54831840561, 9580.25798941430},
-                {0.00000000020, 5.88803150614, 8635.69818627969},
-                {0.00000000020, 2.21258610934, 11280.02484088450},
-                {0.00000000021, 3.74792739506, 3531.81687532789},
-                {0.00000000022, 1.10471815077, 62883.59895699710},
-                {0.00000000020, 4.47242869756, 17468.61138046190},
-                {0.00000000023, 2.67526294292, 10263.28638916630},
-                {0.00000000023, 0.53543779727, 10163.77233822270},
-                {0.00000000027, 4.35265351175, 32216.95636359729},
-                {0.00000000021, 0.20196459716, 47624.09660357310},
-                {0.00000000023, 4.44238440406, 55022.69192959090},
-                {0.00000000021, 5.91319275029, 18300.44986755929},
-                {0.00000000026, 3.21324974687, 63659.12156832110},
-                {0.00000000021, 1.29300419185, 43071.65547154729},
-                {0.00000000019, 1.80883011026, 20316.60858868610},
-                {0.00000000027, 2.91239597616, 28286.74666737769},
-                {0.00000000020, 0.92201397306, 62081.77802587330},
-                {0.00000000021, 3.71520409064, 24341.77213494010},
-                {0.00000000020, 2.70818412083, 49477.59865325469},
-                {0.00000000020, 3.92540543269, 70744.01834943630},
-                {0.00000000018, 3.24042993488, 14128.48658872910},
-                {0.00000000022, 1.96762524944, 27991.64563064350},
-                {0.00000000018, 5.40557069193, 9050.56702431969},
-                {0.00000000018, 1.21555571929, 4705.48849006010},
-                {0.00000000017, 1.63173823644, 28313.04498717750},
-                {0.00000000017, 4.46941749243, 10497.38868255971},
-                {0.00000000017, 5.02446855494, 9929.67004482930},
-                {0.00000000017, 0.77261247444, 19624.99397878170},
-                {0.00000000018, 5.82240394487, 29050.53992586569},
-                {0.00000000017, 6.13439373448, 18314.67696156089},
-                {0.00000000016, 4.75152522759, 48740.10371456650},
-                {0.00000000018, 2.82811097731, 38526.33053338850},
-                {0.00000000018, 0.02896271913, 42430.72954477530},
-                {0.00000000018, 4.17302923646, 42456.54022960810},
-                {0.00000000018, 1.01249884206, 33794.29990604510},
-                {0.00000000018, 1.01249884206, 33794.78754101210},
-                {0.00000000016, 5.43519924864, 9745.56437334010},
-                {0.00000000016, 4.05868679873, 10681.49435404891},
-                {0.00000000016, 4.91307958316, 38734.62214194910},
-                {0.00000000016, 1.98563978946, 47162.27253715170},
-                {0.00000000016, 1.98563978946, 47162.76017211870},
-                {0.00000000015, 5.40287159543, 10199.30226969290},
-                {0.00000000015, 4.09101445194, 10227.75645769610},
-                {0.00000000015, 4.40286421658, 41654.71929848429},
-                {0.00000000017, 0.71063741169, 50316.95962204730},
-                {0.00000000015, 2.70406423385, 53285.42865272530},
-                {0.00000000015, 2.34568334494, 66011.98772209289},
-                {0.00000000015, 2.83728676171, 38727.50859494830},
-                {0.00000000015, 1.51871369727, 46360.93924099490},
-                {0.00000000019, 4.60379625756, 67589.33126454070},
-                {0.00000000014, 1.35244180937, 21228.14820606230},
-                {0.00000000014, 0.37440411348, 40000.18962057550},
-                {0.00000000014, 1.52734358006, 11027.07964765431},
-                {0.00000000014, 1.68335716013, 9399.97907973470},
-                {0.00000000014, 1.39514541459, 37895.67010785090},
-                {0.00000000014, 1.44888424284, 37410.81105736210},
-                {0.00000000014, 2.94215733290, 50291.14893721450},
-                {0.00000000013, 4.17219621815, 12565.90788249930},
-                {0.00000000015, 6.22361957178, 21486.19684009470},
-                {0.00000000013, 6.14132227253, 52670.31341078610},
-        };
-    }
-
-    private static void initialize_1_2()
-    {
-        classCoeff[0][2] = new double[][]{
-                {0.00039116576, 4.74721085665, 10213.52936369450},
-                {0.00001782208, 4.51495547304, 0.24381748350},
-                {0.00000953335, 3.63516488566, 10213.04172872750},
-                {0.00000818754, 5.17913474548, 20426.81490990550},
-                {0.00000012014, 5.55504004602, 30640.10045611650},
-                {0.00000008598, 0.48030487437, 10239.82768349430},
-                {0.00000008636, 2.67172999291, 10187.23104389470},
-                {0.00000003631, 5.13091719462, 20426.32727493849},
-                {0.00000002965, 3.11794464067, 8636.18582124671},
-                {0.00000003797, 0.73505869096, 9438.00675237050},
-                {0.00000003421, 2.39489149839, 10989.05197501850},
-                {0.00000002218, 3.69616749811, 10022.08109758290},
-                {0.00000002134, 5.69388419448, 10404.97762980610},
-                {0.00000002187, 6.14628758046, 11790.87290614230},
-                {0.00000001794, 0.26131314165, 775.76642880750},
-                {0.00000001421, 1.89983182794, 2353.10997125530},
-                {0.00000000972, 2.65726077013, 1577.09972496430},
-                {0.00000000682, 1.68817935727, 4705.97612502710},
-                {0.00000000658, 4.84602149726, 9683.83839859990},
-                {0.00000000715, 1.34290194955, 9830.63283147130},
-                {0.00000000683, 1.84498400268, 10596.42589591770},
-                {0.00000000568, 2.68352094618, 19651.29229858150},
-                {0.00000000544, 3.07694729173, 191.20444862810},
-                {0.00000000678, 4.45588465096, 18073.94875613370},
-                {0.00000000574, 5.09706238916, 801.57711364030},
-                {0.00000000418, 4.31488544265, 10743.22032878910},
-                {0.00000000561, 3.32645295084, 6283.31966747490},
-                {0.00000000531, 0.97430911335, 7058.84227879890},
-                {0.00000000371, 5.86501171146, 9411.70843257070},
-                {0.00000000414, 2.16574465889, 529.93478257810},
-                {0.00000000287, 3.12423584879, 9104.15081160110},
-                {0.00000000314, 1.28037944612, 15721.08260236190},
-                {0.00000000301, 2.30568402177, 26.05450231630},
-                {0.00000000354, 2.15592461692, 13368.21644859010},
-                {0.00000000361, 3.03077999717, 14143.73905991410},
-                {0.00000000349, 2.69866467882, 22004.15845235330},
-                {0.00000000253, 3.49550693096, 1059.62574767270},
-                {0.00000000253, 6.11019925201, 11322.90791578790},
-                {0.00000000253, 4.31046856084, 3154.44326741210},
-                {0.00000000321, 3.51926077378, 11015.35029481830},
-                {0.00000000305, 5.79665591896, 3128.63258257930},
-                {0.00000000202, 1.70860223309, 10426.82845913250},
-                {0.00000000195, 6.03063629123, 20618.26317601710},
-                {0.00000000178, 1.34005224381, 10000.23026825651},
-                {0.00000000157, 6.22467540109, 40853.38600232750},
-                {0.00000000159, 5.43308713463, 382.65271473970},
-                {0.00000000177, 1.96418161194, 21228.63584102931},
-                {0.00000000126, 2.62766766451, 18849.47136745770},
-                {0.00000000131, 0.73006046049, 1577.58735993130},
-                {0.00000000148, 4.01019073124, 5507.30942118390},
-                {0.00000000139, 4.55765675380, 7860.66320992270},
-                {0.00000000146, 4.19737673183, 19897.12394481090},
-                {0.00000000133, 3.60550981906, 17298.42614480970},
-                {0.00000000088, 0.74174526538, 8623.96883344369},
-                {0.00000000116, 3.56002594290, 9153.65979853830},
-                {0.00000000111, 5.81554919476, 20453.11322970530},
-                {0.00000000077, 5.72141298699, 7084.65296363170},
-                {0.00000000081, 3.85700349092, 2352.62233628830},
-                {0.00000000088, 0.02333507058, 3930.45351370310},
-                {0.00000000077, 3.12509816452, 16496.60521368590},
-                {0.00000000069, 1.03046490507, 23581.50199480110},
-                {0.00000000058, 4.44021603496, 9154.14743350530},
-                {0.00000000062, 5.17807799754, 1109.13473460990},
-                {0.00000000063, 5.42244602531, 9437.51911740350},
-                {0.00000000047, 3.73566941706, 29051.02756083270},
-                {0.00000000054, 2.34590128189, 20809.71144212870},
-                {0.00000000055, 0.27212302992, 4731.78680985990},
-                {0.00000000046, 5.56053620908, 19367.43297971630},
-                {0.00000000044, 4.38854627107, 10787.87416202930},
-                {0.00000000044, 5.10533977629, 9639.18456535971},
-                {0.00000000040, 0.19406822983, 8094.27786834910},
-                {0.00000000041, 0.23997896197, 3929.96587873609},
-                {0.00000000047, 4.99296496795, 12566.39551746630},
-                {0.00000000038, 5.33087019939, 6282.83203250789},
-                {0.00000000045, 4.21174903018, 25934.36814857290},
-                {0.00000000034, 4.95079079946, 28287.23430234470},
-                {0.00000000033, 0.84076094156, 11014.86265985130},
-                {0.00000000034, 1.04665276837, 14919.26167123810},
-                {0.00000000032, 3.42124102189, 24357.02460612510},
-                {0.00000000028, 3.83338891686, 20235.36664379391},
-                {0.00000000040, 3.61668312604, 29580.71852592730},
-                {0.00000000033, 5.35791701104, 4552.19731454230},
-                {0.00000000033, 0.97035705954, 6490.02040477150},
-                {0.00000000027, 0.80253867623, 10640.12755457050},
-                {0.00000000026, 2.37794131191, 9786.93117281850},
-                {0.00000000026, 0.52950336946, 3149.40797807170},
-                {0.00000000025, 2.09390807595, 10192.75396820210},
-                {0.00000000025, 4.26281208500, 10234.30475918690},
-                {0.00000000024, 1.66809456061, 21536.19346199890},
-                {0.00000000026, 5.00411416070, 14143.25142494710},
-                {0.00000000024, 6.24637715602, 18307.56341456009},
-                {0.00000000024, 6.23872379023, 5507.79705615090},
-                {0.00000000025, 0.42768275114, 18875.28205229050},
-                {0.00000000030, 3.82426253554, 20400.51659010570},
-                {0.00000000025, 2.48440063286, 27511.71169102070},
-                {0.00000000025, 1.71524233724, 8661.99650607950},
-                {0.00000000019, 5.30003473361, 11272.91129388371},
-                {0.00000000022, 0.30636210636, 30639.61282114949},
-                {0.00000000026, 2.43625052079, 213.54291292150},
-                {0.00000000018, 3.34143186430, 28521.33659573810},
-                {0.00000000023, 2.19310017282, 13937.03832261750},
-                {0.00000000024, 0.64478935102, 13367.72881362310},
-                {0.00000000021, 0.38789416530, 10186.74340892770},
-                {0.00000000019, 2.13540095490, 10988.56434005150},
-                {0.00000000018, 3.02877957634, 32217.44399856430},
-                {0.00000000020, 5.05892110724, 191.69208359510},
-                {0.00000000017, 1.00021130316, 15874.86141284670},
-                {0.00000000014, 3.13205445097, 21202.33752122950},
-                {0.00000000014, 2.49765103801, 17277.65074931730},
-                {0.00000000015, 0.11837091281, 18073.46112116669},
-                {0.00000000014, 4.77259175609, 10239.34004852730},
-                {0.00000000014, 2.38979050420, 14945.07235607090},
-                {0.00000000014, 4.18962126273, 8662.48414104651},
-                {0.00000000014, 5.23413049702, 11764.57458634250},
-                {0.00000000013, 1.93488532828, 34570.31015233610},
-                {0.00000000013, 0.61222694816, 22779.68106367730},
-                {0.00000000012, 3.85463106546, 31441.92138724031},
-                {0.00000000011, 4.27550517900, 10220.64291069530},
-                {0.00000000011, 2.07789625538, 10206.41581669370},
-                {0.00000000010, 3.61798826402, 7.35736448430},
-                {0.00000000010, 1.57784029028, 22003.67081738630},
-                {0.00000000012, 3.46936245747, 25158.84553724890},
-                {0.00000000009, 3.35948007941, 38500.51984855570},
-                {0.00000000010, 2.93060547107, 11790.38527117530},
-                {0.00000000012, 2.06733085074, 17297.93850984270},
-                {0.00000000008, 2.77292844888, 10404.48999483909},
-                {0.00000000009, 4.94797813171, 29089.05523346850},
-                {0.00000000007, 1.94867772097, 43232.55047589910},
-                {0.00000000007, 6.01401025413, 30000.20316980250},
-                {0.00000000009, 4.47573265145, 7860.17557495569},
-                {0.00000000009, 4.90406740797, 3531.81687532789},
-                {0.00000000007, 1.80027626747, 22805.49174851010},
-                {0.00000000007, 1.18159563994, 529.44714761109},
-        };
-    }
-
-    private static void initialize_1_3()
-    {
-        classCoeff[0][3] = new double[][]{
-                {0.00000055518, 5.27636048864, 10213.04172872750},
-                {0.00000057047, 5.87936770190, 0.24381748350},
-                {0.00000032093, 3.05612494200, 20426.81490990550},
-                {0.00000018867, 4.86548938285, 10213.52936369450},
-                {0.00000000716, 3.26370970167, 30640.10045611650},
-                {0.00000000218, 0.66337297711, 20426.32727493849},
-                {0.00000000032, 0.22308629368, 8636.18582124671},
-                {0.00000000034, 2.69459006102, 10239.82768349430},
-                {0.00000000034, 3.66311278763, 10187.23104389470},
-                {0.00000000027, 6.14322148767, 11790.87290614230},
-                {0.00000000020, 3.64902570031, 775.76642880750},
-                {0.00000000016, 0.61723457662, 10022.08109758290},
-                {0.00000000016, 5.73871486925, 10404.97762980610},
-                {0.00000000010, 3.76695027338, 40853.38600232750},
-                {0.00000000010, 2.80431500839, 9438.00675237050},
-                {0.00000000010, 3.65133831937, 10989.05197501850},
-                {0.00000000008, 5.27853417078, 9683.83839859990},
-                {0.00000000007, 6.04834530223, 191.20444862810},
-                {0.00000000007, 1.06297780672, 10743.22032878910},
-                {0.00000000008, 5.07274318566, 4705.97612502710},
-                {0.00000000007, 2.72342831598, 19651.29229858150},
-                {0.00000000004, 0.12637968025, 9104.15081160110},
-                {0.00000000004, 0.86625328320, 1059.62574767270},
-                {0.00000000004, 1.29045440101, 15721.08260236190},
-                {0.00000000003, 6.23075905972, 11322.90791578790},
-        };
-    }
-
-    private static void initialize_1_4()
-    {
-        classCoeff[0][4] = new double[][]{
-                {0.00000083081, 1.47755047593, 10213.52936369450},
-                {0.00000002486, 0.71777141614, 10213.04172872750},
-                {0.00000000657, 1.07128766548, 20426.81490990550},
-                {0.00000000217, 3.60535760515, 0.24381748350},
-                {0.00000000035, 0.98556560154, 30640.10045611650},
-                {0.00000000011, 2.44309012697, 20426.32727493849},
-                {0.00000000005, 2.06924437235, 10239.82768349430},
-                {0.00000000005, 4.26079266220, 10187.23104389470},
-                {0.00000000003, 4.92755555887, 2353.10997125530},
-                {0.00000000002, 4.89604781036, 8636.18582124671},
-                {0.00000000002, 5.91399711778, 1577.09972496430},
-                {0.00000000002, 2.29946508014, 9438.00675237050},
-        };
-    }
-
-    private static void initialize_1_5()
-    {
-        classCoeff[0][5] = new double[][]{
-                {0.00000000631, 1.59925460860, 10213.52936369450},
-                {0.00000000095, 2.54586723363, 10213.04172872750},
-                {0.00000000088, 1.72183649952, 0.24381748350},
-                {0.00000000040, 5.81128931245, 20426.81490990550},
-        };
-    }
-
-    private static void initialize_2_0()
-    {
-        classCoeff[1][0] = new double[][]{
-                {0.72268045621, 1.60535036499, 10213.52936369450},
-                {0.00733886107, 3.86619610007, 0.24381748350},
-                {0.00244692613, 2.48525998209, 20426.81490990550},
-                {0.00063317702, 2.06415043880, 10213.04172872750},
-                {0.00002795043, 5.04300618072, 2353.10997125530},
-                {0.00001941766, 5.80436164129, 1577.09972496430},
-                {0.00001242687, 3.36533956931, 30640.10045611650},
-                {0.00001163369, 1.30924660823, 18073.94875613370},
-                {0.00001044280, 0.18242473165, 6283.31966747490},
-                {0.00000767420, 5.30492070227, 529.93478257810},
-                {0.00000669994, 6.16996307370, 14143.73905991410},
-                {0.00000657435, 5.21342894071, 8636.18582124671},
-                {0.00000476814, 4.27269799631, 10187.23104389470},
-                {0.00000475078, 2.07969169968, 10239.82768349430},
-                {0.00000559353, 5.87818075735, 22004.15845235330},
-                {0.00000544577, 1.14724395566, 11790.87290614230},
-                {0.00000408020, 2.35529138555, 775.76642880750},
-                {0.00000281345, 1.23218938626, 9683.83839859990},
-                {0.00000270035, 2.10691120117, 9438.00675237050},
-                {0.00000268860, 5.13228928315, 10743.22032878910},
-                {0.00000299980, 0.94363100672, 5507.30942118390},
-                {0.00000214307, 5.46162572826, 10022.08109758290},
-                {0.00000241347, 4.23602697206, 10989.05197501850},
-                {0.00000208372, 0.89206276557, 10404.97762980610},
-                {0.00000271224, 1.05337463479, 19897.12394481090},
-                {0.00000264276, 0.40825385367, 9153.65979853830},
-                {0.00000214535, 2.94606412427, 20426.32727493849},
-                {0.00000175488, 1.41092496739, 191.20444862810},
-                {0.00000123055, 0.01778159955, 1059.62574767270},
-                {0.00000154230, 3.78480528747, 4705.97612502710},
-                {0.00000147037, 3.98774418232, 19651.29229858150},
-                {0.00000100153, 2.36411678071, 9437.51911740350},
-                {0.00000069555, 4.80550652867, 9104.15081160110},
-                {0.00000060317, 1.54595691846, 11322.90791578790},
-                {0.00000081789, 2.57258880007, 15721.08260236190},
-                {0.00000058874, 1.48684982669, 20618.26317601710},
-                {0.00000060776, 2.21391240560, 4552.19731454230},
-                {0.00000046411, 5.23309117015, 10192.75396820210},
-                {0.00000046285, 1.11880987202, 10234.30475918690},
-                {0.00000062288, 1.02030092694, 25934.36814857290},
-                {0.00000050365, 0.03955377805, 8623.96883344369},
-                {0.00000057275, 2.21318821830, 3154.44326741210},
-                {0.00000044993, 0.06128576651, 19367.43297971630},
-                {0.00000040167, 1.64087495621, 9411.70843257070},
-                {0.00000047716, 5.57543351345, 213.54291292150},
-                {0.00000039763, 3.21104786001, 801.57711364030},
-                {0.00000036106, 4.71533355073, 11015.35029481830},
-                {0.00000045150, 0.48042336302, 29580.71852592730},
-                {0.00000036973, 2.82409044668, 7058.84227879890},
-                {0.00000044928, 3.79012120364, 13367.72881362310},
-                {0.00000027822, 3.37420388243, 1109.13473460990},
-                {0.00000031714, 4.13937067249, 15874.86141284670},
-                {0.00000036279, 2.34561943360, 10000.23026825651},
-                {0.00000035360, 4.01138333911, 10426.82845913250},
-                {0.00000025530, 3.98045270905, 7860.66320992270},
-                {0.00000024951, 3.53621528232, 13368.21644859010},
-                {0.00000020285, 1.13150552857, 10220.64291069530},
-                {0.00000020275, 5.21708912625, 10206.41581669370},
-                {0.00000021291, 1.37841249317, 3128.63258257930},
-                {0.00000019173, 0.47393618404, 7.35736448430},
-                {0.00000018901, 0.61568845651, 26.05450231630},
-                {0.00000021874, 5.21237379147, 17297.93850984270},
-                {0.00000019888, 1.40722670834, 3930.45351370310},
-                {0.00000015237, 2.81371946863, 9830.63283147130},
-                {0.00000017432, 1.76492288618, 3531.81687532789},
-                {0.00000014522, 3.53852074947, 10596.42589591770},
-                {0.00000016153, 3.63782003268, 7084.65296363170},
-                {0.00000016091, 0.78643837533, 20213.51581446750},
-                {0.00000014842, 2.49914152987, 29864.57784479250},
-                {0.00000011112, 2.20077056640, 28287.23430234470},
-                {0.00000012828, 0.47914049065, 1589.31671276730},
-                {0.00000011212, 0.90580714897, 9154.14743350530},
-                {0.00000014376, 2.29215877818, 23581.50199480110},
-                {0.00000012175, 3.29545280575, 21228.63584102931},
-                {0.00000009393, 5.33561048405, 11272.91129388371},
-                {0.00000012824, 2.98347327697, 18837.25437965469},
-                {0.00000009207, 5.34806792169, 5661.57586663570},
-                {0.00000008622, 3.39909215992, 21536.19346199890},
-                {0.00000011653, 4.63096590501, 3340.85624418330},
-                {0.00000011496, 0.35144252183, 21228.14820606230},
-                {0.00000009511, 4.97800970942, 17298.42614480970},
-                {0.00000011281, 6.15396443981, 9786.44353785149},
-                {0.00000008498, 2.28560931070, 1577.58735993130},
-                {0.00000010763, 5.94541313957, 9929.67004482930},
-                {0.00000008847, 0.10898852487, 29051.02756083270},
-                {0.00000010378, 0.40689046689, 10497.38868255971},
-                {0.00000007498, 4.24537566245, 40853.38600232750},
-                {0.00000007375, 5.51259327017, 16496.60521368590},
-                {0.00000008792, 5.18118052745, 10208.00643938710},
-                {0.00000008786, 1.17109977444, 10219.05228800190},
-                {0.00000007423, 2.59067948380, 10175.50169105870},
-                {0.00000007386, 3.76162100212, 10251.55703633031},
-                {0.00000006692, 5.95406544386, 8094.27786834910},
-                {0.00000006531, 5.88279509444, 20419.70136290470},
-                {0.00000005876, 0.45809002649, 32217.44399856430},
-                {0.00000007945, 1.89399424197, 12566.39551746630},
-                {0.00000005723, 0.73880953765, 24357.02460612510},
-                {0.00000005960, 5.04842520573, 6681.46867088311},
-                {0.00000005974, 0.59430542004, 426.84200835950},
-                {0.00000005761, 2.33144379428, 2352.62233628830},
-                {0.00000007279, 5.06948362320, 11014.86265985130},
-                {0.00000004942, 2.08880442511, 3149.40797807170},
-                {0.00000005638, 3.95061708151, 382.65271473970},
-                {0.00000006069, 4.02647068871, 9683.35076363289},
-                {0.00000004581, 1.06268488434, 14765.48286075331},
-                {0.00000006372, 1.77392148125, 25158.35790228190},
-                {0.00000004902, 5.88378200448, 18837.74201462170},
-                {0.00000004698, 4.98709845390, 18849.47136745770},
-                {0.00000005371, 2.87505683972, 26088.14695905770},
-                {0.00000005495, 1.72171503357, 17086.20248320570},
-                {0.00000005381, 3.84016723700, 33794.78754101210},
-                {0.00000004870, 1.21408319983, 20453.11322970530},
-                {0.00000003922, 1.30852789776, 13745.59005650590},
-                {0.00000004608, 5.91400382368, 5661.08823166870},
-                {0.00000003970, 4.65819000475, 4731.78680985990},
-                {0.00000003556, 5.06044480376, 1551.28904013150},
-                {0.00000004329, 1.83456881254, 23958.87560271690},
-                {0.00000003274, 5.00533011391, 529.44714761109},
-                {0.00000003328, 2.61855780370, 18307.56341456009},
-                {0.00000002787, 3.62713580728, 11790.38527117530},
-                {0.00000003603, 0.20878953983, 14945.07235607090},
-                {0.00000002949, 1.25283496540, 10198.27689250950},
-                {0.00000002944, 5.09946216488, 10228.78183487951},
-                {0.00000003221, 5.14877320464, 20400.51659010570},
-                {0.00000003653, 3.19373783247, 29088.56759850150},
-                {0.00000002683, 3.77978842246, 6282.83203250789},
-                {0.00000002848, 2.09414295555, 11322.42028082089},
-                {0.00000002745, 0.21041860525, 5481.49873635110},
-                {0.00000002426, 1.24386679781, 6872.91693699471},
-                {0.00000002262, 5.05423750942, 7860.17557495569},
-                {0.00000002431, 2.28515436796, 30110.40949102190},
-                {0.00000002218, 4.26312729072, 17277.65074931730},
-                {0.00000002955, 3.73004048151, 27511.71169102070},
-                {0.00000002300, 2.32608220761, 3442.81876244891},
-                {0.00000002424, 5.68140966349, 20956.50587500010},
-                {0.00000002622, 2.17435265531, 9580.74562438130},
-                {0.00000002032, 5.76558577000, 20000.21671902950},
-                {0.00000002206, 2.03456492963, 537.04832957890},
-                {0.00000002010, 5.28017944038, 21202.33752122950},
-                {0.00000002471, 4.17654037966, 10846.31310300770},
-                {0.00000002315, 0.62235018491, 9573.14444241349},
-                {0.00000002188, 4.41129286184, 9967.69771746511},
-                {0.00000002278, 2.82110310010, 10110.43658947590},
-                {0.00000002278, 3.53119029368, 10316.62213791310},
-                {0.00000001808, 2.43291137306, 22779.68106367730},
-                {0.00000002244, 0.87218452760, 5507.79705615090},
-                {0.00000001796, 4.66992847541, 7063.87756813929},
-                {0.00000002118, 1.94080318718, 10459.36100992390},
-                {0.00000001908, 4.04072387238, 20809.71144212870},
-                {0.00000002093, 5.40951959375, 522.82123557730},
-                {0.00000001753, 5.11036210545, 13554.14179039430},
-                {0.00000002072, 2.68969610898, 9690.95194560070},
-                {0.00000001993, 5.12289612530, 10404.48999483909},
-                {0.00000002160, 4.61577108214, 33018.77729472110},
-                {0.00000001962, 3.66408601951, 10736.10678178830},
-                {0.00000001484, 4.31259578278, 3723.26514143949},
-                {0.00000001997, 1.63225621325, 18875.28205229050},
-                {0.00000002057, 3.55699495023, 102.84895673509},
-                {0.00000002016, 5.26645554222, 37724.99723723170},
-                {0.00000001618, 3.30590238659, 7085.14059859870},
-                {0.00000001659, 0.00230057752, 20235.36664379391},
-                {0.00000001553, 6.13988283072, 14945.55999103790},
-                {0.00000001873, 6.21493810839, 30213.50226524050},
-                {0.00000001542, 2.45160700066, 6490.02040477150},
-                {0.00000001360, 4.22919267004, 10233.19912459430},
-                {0.00000001360, 2.12310072374, 10193.85960279471},
-                {0.00000001592, 5.43357759705, 10138.74776512720},
-                {0.00000001592, 0.91871579673, 10288.31096226180},
-                {0.00000001368, 1.28838366385, 18875.76968725751},
-                {0.00000001235, 5.36285347606, 20.53157800890},
-                {0.00000001485, 0.27770606219, 9160.77334553909},
-                {0.00000001516, 3.63976169766, 9146.54625153749},
-                {0.00000001233, 1.75819099072, 18073.46112116669},
-                {0.00000001560, 5.07643229822, 9897.13749403790},
-                {0.00000001560, 1.27586109556, 10529.92123335110},
-                {0.00000001179, 4.44352915820, 14919.26167123810},
-                {0.00000001213, 6.01696685843, 28521.33659573810},
-                {0.00000001182, 4.06358300800, 9794.04471981930},
-                {0.00000001402, 6.10447020216, 8661.99650607950},
-                {0.00000001158, 2.28822825043, 10633.01400756970},
-                {0.00000001257, 5.80717617406, 2378.92065608810},
-                {0.00000001089, 3.83624431348, 30639.61282114949},
-                {0.00000001402, 3.43315827736, 10640.12755457050},
-                {0.00000001483, 0.85707928326, 21535.70582703189},
-                {0.00000001079, 5.95495431418, 775.27879384050},
-                {0.00000001370, 3.04127991943, 9786.93117281850},
-                {0.00000001064, 4.03087864361, 16984.23996494010},
-                {0.00000001158, 5.90602944547, 3929.96587873609},
-                {0.00000000967, 0.02581826777, 640.14110379750},
-                {0.00000000995, 5.83778649915, 8662.48414104651},
-                {0.00000001305, 6.03771868030, 36948.98699094070},
-                {0.00000001191, 2.95662506124, 39264.31310704370},
-                {0.00000001010, 5.80804230901, 10007.34381525730},
-                {0.00000001010, 0.54425107612, 10419.71491213170},
-                {0.00000000950, 2.79830239920, 1109.62236957690},
-                {0.00000001221, 3.93109520572, 75.02541605080},
-                {0.00000000987, 3.89911553784, 13937.03832261750},
-                {0.00000001164, 3.04468597570, 22805.49174851010},
-                {0.00000000845, 5.84334943435, 6770.46678376209},
-                {0.00000000996, 2.96758372829, 13341.91812879030},
-                {0.00000001123, 0.26297644138, 246.07546371290},
-                {0.00000001139, 0.86118865103, 2119.00767786191},
-                {0.00000001046, 5.02841709583, 31441.92138724031},
-                {0.00000000879, 5.42815094849, 15720.59496739490},
-                {0.00000000761, 5.58947417459, 7564.58690325449},
-                {0.00000000814, 4.49927037870, 9676.72485159910},
-                {0.00000000786, 0.51236116044, 11764.57458634250},
-                {0.00000000883, 4.72642948961, 25158.84553724890},
-                {0.00000000795, 1.85352659217, 10750.33387578991},
-                {0.00000000770, 5.39717699890, 7834.36489012290},
-                {0.00000000825, 0.49699119244, 191.69208359510},
-                {0.00000000696, 1.82641391127, 36147.65369478390},
-                {0.00000000941, 5.56301751479, 28520.84896077109},
-                {0.00000000787, 4.31922851608, 19890.01039781010},
-                {0.00000000788, 4.89324353272, 7994.77225950771},
-                {0.00000000624, 1.27682792425, 39794.00407213830},
-                {0.00000000609, 0.58636941909, 8624.45646841071},
-                {0.00000000836, 0.40176116197, 41655.20693345130},
-                {0.00000000744, 0.94447022556, 19904.23749181170},
-                {0.00000000689, 3.03363296847, 1066.73929467350},
-                {0.00000000803, 1.17639368940, 40879.19668716030},
-                {0.00000000692, 5.25875345423, 6770.95441872910},
-                {0.00000000585, 0.31354909520, 14143.25142494710},
-                {0.00000000678, 1.25286840883, 12592.20620229910},
-                {0.00000000573, 0.95211843581, 12592.69383726610},
-                {0.00000000670, 2.49987738716, 10239.34004852730},
-                {0.00000000655, 0.26769747072, 19366.94534474929},
-                {0.00000000626, 5.88947359425, 52176.05010063190},
-                {0.00000000548, 2.24703921308, 17777.87244946549},
-                {0.00000000709, 4.47405816630, 26735.70144472970},
-                {0.00000000531, 1.52107728998, 110.45013870291},
-                {0.00000000605, 3.06366115762, 10059.75055320970},
-                {0.00000000676, 3.63142919749, 20529.90768412410},
-                {0.00000000598, 1.46005524042, 12432.28646788130},
-                {0.00000000593, 3.28870937227, 10367.30817417930},
-                {0.00000000663, 4.76628280750, 1162.71852189130},
-                {0.00000000466, 0.80841803105, 8631.08238044450},
-                {0.00000000468, 4.59842473713, 16983.75232997309},
-                {0.00000000454, 5.50480764823, 10042.85649307530},
-                {0.00000000462, 1.11716283210, 6.86972951729},
-                {0.00000000444, 0.84748580654, 10384.20223431370},
-                {0.00000000460, 5.40321784334, 11802.60225897830},
-                {0.00000000436, 0.28613833283, 9639.18456535971},
-                {0.00000000565, 0.99439008608, 8520.87605922509},
-                {0.00000000416, 0.15526058452, 10225.25871653050},
-                {0.00000000416, 6.19703280926, 10201.80001085851},
-                {0.00000000414, 4.74636525670, 10186.74340892770},
-                {0.00000000431, 3.30159385303, 8616.85528644289},
-                {0.00000000393, 0.85768879239, 3532.30451029490},
-                {0.00000000406, 6.06603671083, 10787.87416202930},
-                {0.00000000380, 4.93978031772, 19317.43635781211},
-                {0.00000000458, 3.28496308708, 2218.51328670329},
-                {0.00000000433, 0.59107482876, 19650.80466361450},
-                {0.00000000377, 4.10235161087, 149.80701461810},
-                {0.00000000390, 1.63992074391, 13936.55068765050},
-                {0.00000000360, 4.38429398498, 24150.32386882850},
-                {0.00000000359, 2.69008664310, 30831.54872222810},
-                {0.00000000501, 2.59817403162, 44809.40638337990},
-                {0.00000000409, 3.34267900163, 27197.03787618409},
-                {0.00000000354, 1.27226804531, 10323.73568491390},
-                {0.00000000354, 5.08002534847, 10103.32304247510},
-                {0.00000000428, 1.10028111046, 13656.10430865991},
-                {0.00000000467, 3.73227844246, 38.37685312130},
-                {0.00000000343, 0.04251143462, 19786.91762359150},
-                {0.00000000457, 5.50264719385, 18308.05104952710},
-                {0.00000000399, 5.69770325248, 1052.51220067191},
-                {0.00000000445, 5.89891356885, 30665.91114094930},
-                {0.00000000344, 4.75093105230, 27490.93629552830},
-                {0.00000000315, 4.73109393582, 20640.11400534350},
-                {0.00000000399, 2.67833209975, 10212.04489098620},
-                {0.00000000399, 3.67396129403, 10215.01383640280},
-                {0.00000000390, 0.71131374079, 30000.20316980250},
-                {0.00000000340, 5.88673417604, 22805.97938347710},
-                {0.00000000398, 2.07757082821, 9836.15575577870},
-                {0.00000000311, 0.04968618848, 22003.67081738630},
-                {0.00000000404, 2.41513448299, 20352.03331133820},
-                {0.00000000366, 2.69947342940, 16522.41589851870},
-                {0.00000000350, 4.56156653428, 15874.37377787969},
-                {0.00000000385, 6.08106804956, 20180.98326367610},
-                {0.00000000379, 4.27472269461, 10590.90297161030},
-                {0.00000000395, 1.98398365933, 17277.16311435029},
-                {0.00000000383, 0.20953871800, 35372.13108345990},
-                {0.00000000277, 4.73141990633, 10988.56434005150},
-                {0.00000000365, 6.13706743141, 10349.15468870450},
-                {0.00000000365, 0.21522596237, 10077.90403868451},
-                {0.00000000336, 5.45252157770, 220.65645992230},
-                {0.00000000313, 0.95373705811, 6309.13035230770},
-                {0.00000000276, 4.02007434964, 26709.89075989690},
-                {0.00000000283, 3.96353025226, 3904.15519390330},
-                {0.00000000271, 2.28569018986, 9745.56437334010},
-                {0.00000000321, 2.63356462069, 38734.62214194910},
-                {0.00000000327, 1.40582630148, 9359.84534697549},
-                {0.00000000264, 3.59015983869, 76.50988875911},
-                {0.00000000310, 5.18631223131, 27991.15799567649},
-                {0.00000000359, 1.81226579939, 45585.41662967090},
-                {0.00000000326, 4.02012440588, 633.02755679670},
-                {0.00000000314, 6.11319497702, 20406.03951441310},
-                {0.00000000306, 5.83848348668, 2957.95971196010},
-                {0.00000000266, 5.66163509794, 8635.69818627969},
-                {0.00000000254, 4.06665609388, 10681.49435404891},
-                {0.00000000343, 3.07216363987, 8106.49485615210},
-                {0.00000000300, 2.55692274187, 206.42936592071},
-                {0.00000000250, 4.61153598536, 283.61550138170},
-                {0.00000000336, 2.25621229669, 23581.01435983410},
-                {0.00000000236, 1.26632265704, 10595.93826095070},
-                {0.00000000234, 2.24935612012, 19624.99397878170},
-                {0.00000000255, 4.35467668425, 213.05527795450},
-                {0.00000000281, 5.49571093835, 9399.97907973470},
-                {0.00000000314, 2.13931899616, 19786.42998862449},
-                {0.00000000229, 0.20297430947, 574.10098085129},
-                {0.00000000295, 2.36600819373, 31749.47900820990},
-                {0.00000000316, 4.02123996191, 48739.61607959950},
-                {0.00000000229, 2.88588042648, 949.41942645330},
-                {0.00000000229, 1.53780233055, 19896.63630984389},
-                {0.00000000257, 3.32400213893, 19360.31943271550},
-                {0.00000000231, 2.81577137220, 9264.35375472471},
-                {0.00000000255, 2.46385009073, 9993.11672125570},
-                {0.00000000255, 3.88844330305, 10433.94200613330},
-                {0.00000000291, 2.32110551482, 9999.74263328950},
-                {0.00000000285, 1.03940149360, 34596.12083716890},
-                {0.00000000211, 4.89515362389, 10249.55723037191},
-                {0.00000000211, 1.45713976989, 10177.50149701710},
-                {0.00000000255, 0.85666215039, 11027.07964765431},
-                {0.00000000220, 2.13302811409, 37.78385515230},
-                {0.00000000280, 2.09663247440, 37410.32342239509},
-                {0.00000000258, 3.69928540375, 29573.60497892650},
-                {0.00000000247, 0.33730425769, 29587.83207292810},
-                {0.00000000206, 1.80393013250, 30426.80136067850},
-                {0.00000000263, 1.59050643196, 20433.92845690630},
-                {0.00000000212, 1.58965720399, 10206.90080479450},
-                {0.00000000212, 4.76263618979, 10220.15792259451},
-                {0.00000000202, 5.53871102932, 16894.75421709410},
-                {0.00000000272, 3.28012716441, 12320.56387123691},
-                {0.00000000211, 3.54449702303, 11162.70497266430},
-                {0.00000000197, 2.85538775435, 8734.17515466309},
-                {0.00000000267, 2.72934257174, 377.61742539930},
-                {0.00000000224, 1.78242794958, 9051.05465928671},
-                {0.00000000186, 2.96624941532, 10251.66239933230},
-                {0.00000000186, 3.38604397846, 10175.39632805670},
-                {0.00000000258, 0.95259841698, 9864.60494324651},
-                {0.00000000186, 3.20827310527, 40077.86339100350},
-                {0.00000000233, 6.20481595696, 29089.05523346850},
-                {0.00000000186, 3.29904519478, 17272.12782500990},
-                {0.00000000254, 1.58851500083, 19264.34020549770},
-                {0.00000000246, 5.39979351075, 10562.45378414250},
-                {0.00000000211, 4.59175138406, 11376.00406810230},
-                {0.00000000178, 5.22149503543, 10949.40587722630},
-                {0.00000000178, 1.13079835835, 9477.65285016271},
-                {0.00000000197, 5.67208275737, 1692.40948698591},
-                {0.00000000177, 4.83529684993, 20316.60858868610},
-                {0.00000000216, 4.13948146239, 20452.62559473830},
-                {0.00000000197, 1.76173397564, 9050.56702431969},
-                {0.00000000159, 5.88022204093, 27197.52551115110},
-                {0.00000000167, 1.09928566241, 4705.48849006010},
-                {0.00000000213, 3.70468670755, 27511.22405605370},
-                {0.00000000154, 5.43597579906, 10199.30226969290},
-                {0.00000000154, 0.91631759472, 10227.75645769610},
-                {0.00000000174, 0.32803080161, 14.47091148511},
-                {0.00000000209, 3.23046462275, 10063.47853159290},
-                {0.00000000167, 5.14638326738, 6872.42930202769},
-                {0.00000000185, 2.25428901814, 9256.75257275689},
-                {0.00000000166, 2.18082507791, 10263.28638916630},
-                {0.00000000166, 4.17146831587, 10163.77233822270},
-                {0.00000000168, 0.62423658392, 7991.18509413049},
-                {0.00000000174, 2.19758501900, 9161.26098050610},
-                {0.00000000197, 1.87142263401, 846.32665223470},
-                {0.00000000176, 6.26295125412, 9779.32999085069},
-                {0.00000000198, 5.45633204029, 52669.82577581910},
-                {0.00000000169, 4.14838568997, 11265.79774688290},
-                {0.00000000188, 2.47639831966, 38526.33053338850},
-                {0.00000000140, 5.67905778675, 27991.64563064350},
-                {0.00000000194, 3.83921848765, 8837.26792888169},
-                {0.00000000173, 2.87742322736, 9793.55708485230},
-                {0.00000000140, 5.04268037408, 10191.67853436810},
-                {0.00000000140, 1.30961301970, 10235.38019302090},
-                {0.00000000196, 3.84465359273, 1293.24040609909},
-                {0.00000000180, 5.95332595720, 10021.59346261590},
-                {0.00000000138, 5.09734035169, 10217.46151695760},
-                {0.00000000138, 1.25495304209, 10209.59721043140},
-                {0.00000000148, 0.74425859729, 19374.54652671710},
-                {0.00000000137, 2.37981976955, 16522.90353348570},
-                {0.00000000143, 6.11571774821, 20447.59030539790},
-                {0.00000000139, 1.01385118035, 7255.32583425090},
-                {0.00000000126, 2.24994178665, 20277.25171277090},
-                {0.00000000164, 3.22032043024, 49515.62632589050},
-                {0.00000000149, 0.61484998961, 10135.85559326650},
-                {0.00000000149, 5.73744340417, 10291.20313412251},
-                {0.00000000118, 2.69846631523, 4551.70967957530},
-                {0.00000000117, 5.64919068623, 1582.20316576650},
-                {0.00000000151, 5.55480633210, 10246.06191448590},
-                {0.00000000151, 0.79748706168, 10180.99681290311},
-                {0.00000000152, 1.61196584184, 39302.34077967950},
-                {0.00000000144, 2.25615309488, 9986.05323090550},
-                {0.00000000144, 4.09614029890, 10441.00549648351},
-                {0.00000000136, 0.51140220699, 17469.09901542890},
-                {0.00000000119, 4.90022973272, 20809.22380716170},
-                {0.00000000130, 4.00092308815, 10236.30456514530},
-                {0.00000000130, 2.35137030563, 10190.75416224370},
-                {0.00000000156, 2.62001496107, 20388.68187426770},
-                {0.00000000132, 3.92998867218, 9580.25798941430},
-                {0.00000000155, 5.57179178709, 8238.03681783850},
-                {0.00000000142, 5.15510279625, 31441.43375227330},
-                {0.00000000131, 0.68390506026, 8101.39141534989},
-                {0.00000000133, 5.57627209730, 24382.83529095790},
-                {0.00000000105, 5.80156791329, 32858.36992533629},
-                {0.00000000105, 5.39190347848, 1059.13811270570},
-                {0.00000000101, 2.78278015558, 24978.76840696430},
-                {0.00000000126, 3.33415820026, 22645.57201409229},
-                {0.00000000101, 3.69358080572, 20043.91837768230},
-                {0.00000000110, 4.54705018597, 43071.65547154729},
-                {0.00000000103, 2.03520456299, 12431.79883291429},
-                {0.00000000136, 4.50608056956, 5999.46034860970},
-                {0.00000000097, 5.63294739362, 853.44019923550},
-                {0.00000000130, 1.64701005433, 4176.28515993250},
-                {0.00000000113, 2.36571271909, 19794.03117059230},
-                {0.00000000093, 0.77688953992, 22645.08437912529},
-                {0.00000000124, 3.90067857109, 42456.54022960810},
-                {0.00000000107, 5.87195741297, 3.68833577960},
-                {0.00000000127, 1.97874545982, 284.10313634870},
-                {0.00000000112, 0.89977181729, 20206.40226746670},
-                {0.00000000097, 2.64537814089, 78263.95324220609},
-                {0.00000000093, 1.80429347640, 8204.48418956850},
-                {0.00000000127, 0.59683711488, 56600.03547203870},
-                {0.00000000111, 6.25613029204, 18830.14083265389},
-                {0.00000000098, 1.55452229557, 11059.61219844570},
-                {0.00000000098, 4.79806616663, 9367.44652894330},
-                {0.00000000103, 3.58160703323, 10244.44348932950},
-                {0.00000000103, 2.77068636055, 10182.61523805950},
-                {0.00000000111, 2.87167506517, 18844.36792665549},
-                {0.00000000125, 0.78050482769, 12189.02190955050},
-                {0.00000000088, 2.76213355426, 20350.54883862990},
-                {0.00000000088, 0.86523706220, 29058.14110783350},
-                {0.00000000096, 2.34258805293, 2333.44021035551},
-                {0.00000000122, 3.86127135190, 2636.96929012050},
-                {0.00000000087, 2.93183519168, 8087.16432134830},
-                {0.00000000086, 5.21875976302, 7034.89593815990},
-                {0.00000000095, 0.46006492106, 10202.48366343060},
-                {0.00000000095, 5.89222847272, 10224.57506395840},
-                {0.00000000084, 5.94038512576, 10401.45451145710},
-                {0.00000000084, 0.41190826802, 10025.60421593190},
-                {0.00000000085, 3.46647958947, 19477.63930093570},
-                {0.00000000086, 6.05989445995, 29864.09020982550},
-                {0.00000000099, 1.23143719760, 2648.69864295650},
-                {0.00000000082, 5.76212222967, 802.06474860730},
-                {0.00000000087, 2.17814642225, 13745.10242153889},
-                {0.00000000081, 2.16717230933, 1550.80140516450},
-                {0.00000000083, 4.61159603950, 25933.88051360590},
-                {0.00000000079, 4.57245769213, 44008.07308722310},
-                {0.00000000078, 4.54232413366, 9573.63207738050},
-                {0.00000000098, 3.80111874017, 20220.62936146830},
-                {0.00000000108, 5.23213365332, 24149.83623386150},
-                {0.00000000100, 3.49984914654, 1596.43025976811},
-                {0.00000000095, 1.78056312476, 29477.62575170870},
-                {0.00000000078, 4.60961320788, 205.94173095370},
-                {0.00000000096, 0.05074793120, 30206.38871823969},
-                {0.00000000079, 5.65022966428, 3340.36860921629},
-                {0.00000000095, 2.94692116655, 30220.61581224130},
-                {0.00000000082, 3.38904287688, 29043.91401383189},
-                {0.00000000077, 4.54577063518, 17468.61138046190},
-                {0.00000000100, 2.86693803454, 38500.51984855570},
-                {0.00000000107, 3.08328160895, 2069.25065239010},
-                {0.00000000077, 2.01507273057, 10853.42665000850},
-                {0.00000000087, 5.94217613191, 5.27910682390},
-                {0.00000000076, 3.30386469943, 10243.35080184331},
-                {0.00000000076, 3.04842869435, 10183.70792554570},
-                {0.00000000076, 4.51338161700, 956.53297345411},
-                {0.00000000100, 1.06850076905, 28947.93478661410},
-                {0.00000000096, 0.14778409211, 35371.64344849290},
-                {0.00000000073, 1.89720121846, 17248.18148437089},
-                {0.00000000073, 0.27810624949, 21001.15970824030},
-                {0.00000000081, 0.69044779243, 18734.64924040310},
-                {0.00000000076, 3.94914583018, 103.33659170210},
-                {0.00000000085, 0.56437212275, 3914.71340755109},
-                {0.00000000074, 0.35341059185, 8827.63408735830},
-                {0.00000000070, 6.20394049400, 6298.57213865991},
-                {0.00000000087, 1.33961295133, 33019.26492968810},
-                {0.00000000071, 2.38829288593, 34172.16114892790},
-                {0.00000000079, 1.08839441675, 10018.55797923390},
-                {0.00000000079, 5.26389897703, 10408.50074815510},
-                {0.00000000069, 1.34393957743, 33794.29990604510},
-                {0.00000000087, 3.11833451886, 29050.53992586569},
-                {0.00000000069, 5.61698463903, 41044.83426843910},
-                {0.00000000069, 0.68347421356, 9644.70748966710},
-                {0.00000000069, 5.66881918022, 10782.35123772190},
-                {0.00000000087, 0.75446196555, 28313.04498717750},
-                {0.00000000085, 5.34847160578, 46386.74992582770},
-                {0.00000000083, 4.22258770909, 9721.86607123571},
-                {0.00000000083, 2.12970568469, 10705.19265615330},
-                {0.00000000090, 3.61691095667, 20049.44130198970},
-                {0.00000000064, 4.29241354560, 9147.03388650451},
-                {0.00000000076, 5.76440554422, 21486.19684009470},
-                {0.00000000085, 2.91506656251, 19573.13089318649},
-                {0.00000000063, 3.18394429045, 18314.67696156089},
-                {0.00000000071, 1.43323486518, 1573.57660661529},
-                {0.00000000070, 0.75113063455, 1580.62284331330},
-                {0.00000000080, 1.55502986811, 39301.85314471250},
-                {0.00000000067, 2.05780765354, 3956.26419853590},
-                {0.00000000087, 3.90828389301, 29264.32665627070},
-                {0.00000000063, 4.94664274045, 27461.46703058189},
-                {0.00000000070, 4.18407491369, 1479.11039154791},
-                {0.00000000081, 1.62635438826, 10205.92818172669},
-                {0.00000000080, 1.81036094537, 38204.44354188749},
-                {0.00000000060, 6.06109901775, 20421.29198559810},
-                {0.00000000064, 5.87371692529, 18300.44986755929},
-                {0.00000000076, 2.36906935680, 29683.81130014589},
-                {0.00000000082, 2.02061615739, 60530.24516825830},
-                {0.00000000077, 4.62121260267, 53445.83602211010},
-                {0.00000000062, 5.99888344180, 11599.42464003070},
-                {0.00000000058, 1.51132330725, 7576.80389105750},
-                {0.00000000057, 2.10835504837, 11280.02484088450},
-                {0.00000000059, 5.97279707503, 10255.08015467930},
-                {0.00000000059, 0.37949631875, 10171.97857270970},
-                {0.00000000057, 2.49183550585, 20464.84258254131},
-                {0.00000000079, 3.54945759635, 10136.77565745190},
-                {0.00000000066, 3.91005081121, 14169.54974474690},
-                {0.00000000063, 5.25828651967, 18099.75944096650},
-                {0.00000000060, 1.62777565840, 29786.90407436450},
-                {0.00000000064, 4.00075551038, 30007.31671680330},
-                {0.00000000054, 2.10183945809, 30666.39877591630},
-                {0.00000000058, 1.48653920785, 75449.75065697990},
-                {0.00000000073, 2.27987689949, 51449.56808076170},
-                {0.00000000074, 3.91378496364, 21720.29913348810},
-                {0.00000000063, 1.10572404909, 26736.18907969670},
-                {0.00000000054, 2.34430307252, 38204.93117685450},
-                {0.00000000072, 2.90060717525, 100608.35237674530},
-                {0.00000000053, 2.23725068823, 419.72846135871},
-                {0.00000000052, 0.52183347499, 40426.78781145150},
-                {0.00000000052, 1.02206221481, 29580.23089096029},
-                {0.00000000053, 2.81130934606, 419.24082639170},
-                {0.00000000058, 6.02426265881, 20412.58781590390},
-                {0.00000000054, 4.83322053510, 9366.95889397630},
-                {0.00000000055, 5.16439912672, 9103.66317663410},
-                {0.00000000050, 0.80815973951, 34570.31015233610},
-                {0.00000000067, 4.21574061370, 632.53992182970},
-                {0.00000000050, 2.75084153641, 37724.50960226470},
-                {0.00000000069, 3.30376299828, 53284.94101775829},
-                {0.00000000057, 3.46902641065, 8307.57696378710},
-                {0.00000000050, 6.26940117566, 8417.78328500650},
-                {0.00000000049, 3.48884514281, 26087.65932409069},
-                {0.00000000064, 0.45737297425, 7064.36520310630},
-                {0.00000000049, 0.14582053812, 14128.48658872910},
-                {0.00000000056, 0.66365909742, 28418.24382151950},
-                {0.00000000066, 4.48087077585, 19580.73207515430},
-                {0.00000000047, 4.50934828666, 10742.73269382209},
-                {0.00000000061, 2.99027576045, 43232.06284093210},
-                {0.00000000061, 2.99027576045, 43232.55047589910},
-                {0.00000000047, 3.24772943759, 38741.73568894990},
-                {0.00000000050, 6.05228449513, 59161.19323437110},
-                {0.00000000046, 0.66057761892, 18844.85556162250},
-                {0.00000000054, 5.40667573437, 48947.90768816010},
-                {0.00000000046, 3.06762447182, 3154.93090237910},
-                {0.00000000046, 5.78250179315, 194.72756697710},
-                {0.00000000056, 5.79105836654, 9936.78359183010},
-                {0.00000000056, 0.56123502724, 10490.27513555891},
-                {0.00000000054, 2.92585194345, 9922.55649782850},
-                {0.00000000054, 3.42644145033, 10504.50222956051},
-                {0.00000000059, 3.58503267144, 18204.47064034149},
-                {0.00000000048, 5.93973568185, 38727.50859494830},
-                {0.00000000057, 0.49036750604, 50316.95962204730},
-                {0.00000000061, 4.41585090977, 10140.23223783550},
-                {0.00000000061, 1.93644248401, 10286.82648955350},
-                {0.00000000061, 5.28414092980, 6567.17898634010},
-                {0.00000000048, 1.78116904393, 9246.55848625890},
-                {0.00000000060, 4.34124861578, 3684.13423250670},
-                {0.00000000060, 1.84622131041, 14427.59837877930},
-                {0.00000000051, 3.86708252316, 47623.60896860609},
-                {0.00000000051, 0.71903454294, 9566.03089541269},
-                {0.00000000052, 1.63231256422, 8727.06160766230},
-                {0.00000000057, 2.19171070766, 32243.25468339710},
-                {0.00000000048, 0.48328683640, 433.95555536030},
-                {0.00000000045, 3.95006454295, 10263.52598559870},
-                {0.00000000045, 2.40222885083, 10163.53274179031},
-                {0.00000000049, 0.08548300777, 9794.60496479390},
-                {0.00000000049, 6.26681038600, 10632.45376259511},
-                {0.00000000058, 1.48111021336, 1860.95904382949},
-                {0.00000000047, 6.22156178529, 20142.95559104030},
-                {0.00000000046, 3.81317535217, 2349.58685290630},
-                {0.00000000044, 0.47724556879, 30632.98690911569},
-                {0.00000000046, 3.13107041429, 2356.63308960431},
-                {0.00000000041, 4.84096981140, 12850.25483633150},
-                {0.00000000041, 0.14576799491, 8094.76550331610},
-                {0.00000000042, 3.51225043090, 77802.61681075170},
-                {0.00000000042, 1.24107185058, 25132.54721744910},
-                {0.00000000043, 3.94226686000, 19359.83179774849},
-                {0.00000000040, 5.46575824362, 10192.26633323510},
-                {0.00000000042, 1.71742433091, 34363.60941503950},
-                {0.00000000039, 5.92169473585, 109.96250373590},
-                {0.00000000044, 2.89783948131, 79379.96035319949},
-                {0.00000000043, 5.95822352823, 38734.13450698209},
-                {0.00000000046, 5.13701973505, 17778.36008443250},
-                {0.00000000039, 1.30600974103, 12565.90788249930},
-                {0.00000000041, 1.87488507902, 27681.89692667289},
-                {0.00000000053, 3.44448984210, 64460.45486447790},
-                {0.00000000039, 1.87347006255, 28631.54291695750},
-                {0.00000000052, 3.63883543733, 38631.52936773050},
-                {0.00000000043, 4.57112425738, 11180.50024113010},
-                {0.00000000039, 5.73477931992, 1265.81129610991},
-                {0.00000000039, 5.37998455046, 7879.84533585549},
-                {0.00000000039, 5.37998455046, 7880.33297082250},
-                {0.00000000052, 0.42370802477, 1.72829019180},
-                {0.00000000039, 5.18684094963, 54981.62877357310},
-                {0.00000000047, 0.18137418769, 187.68133027909},
-                {0.00000000044, 5.88330364964, 10168.38814405790},
-                {0.00000000044, 0.46898974414, 10258.67058333111},
-                {0.00000000048, 3.11428064716, 10063.96616655990},
-                {0.00000000043, 0.40920515062, 22029.96913718610},
-                {0.00000000051, 4.32233625991, 104538.56207296489},
-                {0.00000000051, 4.70514324366, 16250.77356745650},
-                {0.00000000037, 2.91614118281, 29161.23388205210},
-                {0.00000000043, 3.35259007747, 10363.09256082911},
-                {0.00000000038, 2.56509414217, 47917.50738795030},
-                {0.00000000049, 6.13351350993, 66037.79840692569},
-                {0.00000000037, 2.84218465987, 6257.02134767510},
-                {0.00000000036, 1.39948703899, 8674.21349388250},
-                {0.00000000045, 3.57903060172, 522.33360061030},
-                {0.00000000049, 0.39199067732, 491.90710994230},
-                {0.00000000042, 1.38184413529, 115674.52048208468},
-                {0.00000000040, 1.35149502784, 10233.81712421990},
-                {0.00000000036, 5.98817728846, 47938.28278344270},
-                {0.00000000035, 1.18237114499, 12546.72575656651},
-                {0.00000000048, 1.34137746528, 90395.06683053430},
-                {0.00000000040, 4.18858105636, 14127.99895376209},
-                {0.00000000044, 2.73569081007, 9698.06549260150},
-                {0.00000000044, 3.61660258371, 10728.99323478751},
-                {0.00000000036, 0.66588479818, 69942.19741831250},
-                {0.00000000035, 4.16647411013, 41654.71929848429},
-                {0.00000000034, 2.69446692279, 55798.70217588190},
-                {0.00000000037, 1.68139810641, 35192.05395317530},
-                {0.00000000046, 1.33857194026, 36301.43250526870},
-                {0.00000000047, 6.19310388781, 86464.85713431469},
-                {0.00000000035, 0.73574096610, 48732.98752069949},
-                {0.00000000035, 3.22135299939, 10011.27596852040},
-                {0.00000000035, 3.13094039439, 10415.78275886861},
-                {0.00000000034, 4.60818788188, 37410.81105736210},
-                {0.00000000033, 3.80929053875, 49477.59865325469},
-                {0.00000000042, 2.82864954668, 18830.62846762090},
-                {0.00000000035, 0.56308161765, 49515.13869092350},
-                {0.00000000047, 2.22431731848, 31022.50935337269},
-                {0.00000000034, 3.32920660018, 100909.28143881488},
-                {0.00000000033, 2.17810098111, 10117.55013647670},
-                {0.00000000033, 4.17419241267, 10309.50859091230},
-                {0.00000000034, 0.22454658153, 7461.49412903589},
-                {0.00000000034, 5.44249373293, 45584.92899470390},
-                {0.00000000032, 1.67235375803, 9676.23721663209},
-                {0.00000000039, 1.15429612014, 316.63568714010},
-                {0.00000000033, 6.02812295236, 31748.99137324289},
-                {0.00000000031, 1.87708120179, 30103.29594402109},
-                {0.00000000035, 5.77132581087, 58946.27306691049},
-                {0.00000000032, 2.19359308367, 21977.86013255350},
-                {0.00000000036, 5.94106521859, 20430.74706316860},
-                {0.00000000032, 4.93495818843, 81732.82650697129},
-                {0.00000000030, 0.70932860715, 19573.61852815350},
-                {0.00000000031, 0.91919649284, 11.28951774740},
-                {0.00000000038, 0.23287825442, 20617.77554105009},
-                {0.00000000033, 4.31035022066, 83310.17004941910},
-                {0.00000000029, 4.95280669313, 11752.84523350650},
-                {0.00000000029, 3.94608385223, 9801.15826682010},
-                {0.00000000029, 2.40620954155, 10625.90046056890},
-                {0.00000000030, 2.05100908229, 20432.33783421290},
-                {0.00000000031, 3.37186993722, 7255.81346921790},
-                {0.00000000029, 5.98151124473, 9889.53631207009},
-                {0.00000000029, 0.20516018454, 224.58861318540},
-                {0.00000000028, 4.98574596975, 10099.09007500929},
-                {0.00000000028, 1.36654742403, 10327.96865237972},
-                {0.00000000037, 1.58092203649, 47964.09346827550},
-                {0.00000000029, 3.50171158414, 10426.34082416550},
-                {0.00000000034, 2.65907611892, 1539.55968729550},
-                {0.00000000039, 3.61856411890, 30563.83438484090},
-                {0.00000000039, 2.90348082239, 5791.16874004909},
-                {0.00000000028, 0.72410945645, 1178.95072155610},
-                {0.00000000031, 3.89571253711, 39786.89052513750},
-                {0.00000000028, 2.08869873285, 73872.40711453209},
-                {0.00000000027, 2.10097762457, 9411.22079760369},
-                {0.00000000028, 5.13153492293, 15694.78428256210},
-                {0.00000000034, 2.10776670451, 40213.48871601350},
-                {0.00000000037, 2.87146864607, 36949.47462590770},
-                {0.00000000035, 1.99221623651, 37704.22184173930},
-                {0.00000000028, 4.41249255504, 4732.27444482690},
-                {0.00000000037, 1.06810151543, 13859.87974104890},
-                {0.00000000035, 4.29368361875, 18093.13088206649},
-                {0.00000000035, 4.29368361875, 18093.61851703350},
-                {0.00000000031, 1.42888574956, 42430.72954477530},
-                {0.00000000026, 2.52843792658, 8734.66278963010},
-                {0.00000000028, 3.49562374283, 7886.47389475550},
-                {0.00000000031, 1.84284071261, 25960.17883340570},
-        };
-    }
-
-    private static void initialize_2_1()
-    {
-        classCoeff[1][1] = new double[][]{
-                {0.00051880979, 0.71095646371, 0.24381748350},
-                {0.00017260820, 5.63797390819, 20426.81490990550},
-                {0.00011049864, 3.60540297803, 10213.04172872750},
-                {0.00004831725, 3.20542321593, 10213.52936369450},
-                {0.00000175352, 0.23521252264, 30640.10045611650},
-                {0.00000060293, 3.35720999584, 8636.18582124671},
-                {0.00000062982, 0.52034329307, 10187.23104389470},
-                {0.00000062707, 5.83097900617, 10239.82768349430},
-                {0.00000049342, 3.00369011281, 11790.87290614230},
-                {0.00000036826, 0.49986531697, 775.76642880750},
-                {0.00000039689, 4.87663392982, 20426.32727493849},
-                {0.00000030101, 3.75628445251, 10022.08109758290},
-                {0.00000029330, 2.59462276840, 10404.97762980610},
-                {0.00000019990, 5.87132108056, 9438.00675237050},
-                {0.00000017877, 0.50656677315, 10989.05197501850},
-                {0.00000014175, 2.13477380875, 9683.83839859990},
-                {0.00000013388, 2.90924092450, 191.20444862810},
-                {0.00000013513, 4.20262757897, 10743.22032878910},
-                {0.00000014034, 1.92852680423, 4705.97612502710},
-                {0.00000013385, 5.86252489050, 19651.29229858150},
-                {0.00000006873, 3.26551570952, 9104.15081160110},
-                {0.00000007547, 4.00471700687, 1059.62574767270},
-                {0.00000007388, 4.42957705498, 15721.08260236190},
-                {0.00000005971, 3.08667185392, 11322.90791578790},
-                {0.00000005966, 5.81970120815, 10220.64291069530},
-                {0.00000005965, 0.53310334979, 10206.41581669370},
-                {0.00000005155, 4.06691487180, 3154.44326741210},
-                {0.00000004571, 3.01985951758, 20618.26317601710},
-                {0.00000004246, 4.48337967211, 10000.23026825651},
-                {0.00000004157, 1.86902016050, 10426.82845913250},
-                {0.00000004649, 1.29491136363, 9830.63283147130},
-                {0.00000004431, 5.05738488158, 10596.42589591770},
-                {0.00000003938, 5.07016509425, 7.35736448430},
-                {0.00000003399, 0.82461824896, 7860.66320992270},
-                {0.00000002758, 2.34021605546, 19367.43297971630},
-                {0.00000002699, 5.36901161259, 7058.84227879890},
-                {0.00000002515, 0.93953422896, 8623.96883344369},
-                {0.00000002725, 0.25399973919, 801.57711364030},
-                {0.00000002539, 4.39873985192, 9411.70843257070},
-                {0.00000001822, 4.89709335392, 1109.13473460990},
-                {0.00000002300, 1.94517236646, 11015.35029481830},
-                {0.00000001816, 0.95974773242, 13368.21644859010},
-                {0.00000001814, 3.28732569612, 3930.45351370310},
-                {0.00000001586, 1.12226291927, 40853.38600232750},
-                {0.00000001999, 4.09704295416, 26.05450231630},
-                {0.00000001745, 0.69413221331, 4552.19731454230},
-                {0.00000001503, 5.35238315560, 12566.39551746630},
-                {0.00000001446, 5.48745108690, 7084.65296363170},
-                {0.00000001400, 4.67651135088, 11272.91129388371},
-                {0.00000001282, 3.09230484373, 10219.05228800190},
-                {0.00000001282, 3.25998855005, 10208.00643938710},
-                {0.00000001352, 1.29314419649, 20419.70136290470},
-                {0.00000001475, 4.11277346234, 3128.63258257930},
-                {0.00000001235, 0.55003403789, 1577.58735993130},
-                {0.00000001286, 4.12341945563, 23581.50199480110},
-                {0.00000001283, 5.45488591011, 382.65271473970},
-                {0.00000001171, 1.71768767831, 9154.14743350530},
-                {0.00000001084, 2.78444751991, 10198.27689250950},
-                {0.00000001084, 3.56784587387, 10228.78183487951},
-                {0.00000001198, 3.38905914109, 16496.60521368590},
-                {0.00000000869, 3.97005901207, 2352.62233628830},
-                {0.00000001112, 4.99559909082, 1589.31671276730},
-                {0.00000000922, 5.66846628682, 15874.86141284670},
-                {0.00000000743, 5.39400352278, 28287.23430234470},
-                {0.00000000746, 0.58295457724, 3149.40797807170},
-                {0.00000000797, 3.54113611340, 426.84200835950},
-                {0.00000000625, 1.61452093926, 20400.51659010570},
-                {0.00000000615, 4.93517817028, 21536.19346199890},
-                {0.00000000832, 0.35357361779, 21228.63584102931},
-                {0.00000000656, 0.63035969025, 11014.86265985130},
-                {0.00000000586, 0.59640409991, 5661.57586663570},
-                {0.00000000648, 0.34210160772, 537.04832957890},
-                {0.00000000674, 0.56456739745, 8094.27786834910},
-                {0.00000000636, 4.96350573817, 18849.47136745770},
-                {0.00000000655, 2.23854746047, 17298.42614480970},
-                {0.00000000615, 0.82332897293, 522.82123557730},
-                {0.00000000507, 5.26511211265, 20453.11322970530},
-                {0.00000000451, 3.55775064489, 32217.44399856430},
-                {0.00000000480, 4.03262150754, 529.44714761109},
-                {0.00000000439, 5.33608025421, 6282.83203250789},
-                {0.00000000439, 1.01049396969, 29051.02756083270},
-                {0.00000000410, 3.89856473824, 24357.02460612510},
-                {0.00000000452, 5.33295391690, 9146.54625153749},
-                {0.00000000417, 3.34912055717, 6681.46867088311},
-                {0.00000000434, 4.87041677173, 9160.77334553909},
-                {0.00000000364, 1.14500385840, 10640.12755457050},
-                {0.00000000363, 5.18731183247, 9786.93117281850},
-                {0.00000000428, 5.53178842562, 20809.71144212870},
-                {0.00000000440, 0.90299311231, 9690.95194560070},
-                {0.00000000440, 5.44930026371, 10736.10678178830},
-                {0.00000000372, 5.21504043865, 10251.55703633031},
-                {0.00000000372, 1.13725295513, 10175.50169105870},
-                {0.00000000319, 5.77038175361, 17277.65074931730},
-                {0.00000000427, 1.38502821135, 18837.74201462170},
-                {0.00000000319, 1.75892023078, 7860.17557495569},
-                {0.00000000303, 5.78500325867, 14765.48286075331},
-                {0.00000000351, 0.93732183183, 6490.02040477150},
-                {0.00000000287, 1.70533444360, 1577.09972496430},
-                {0.00000000318, 2.05196802231, 14945.07235607090},
-                {0.00000000297, 5.78070702462, 10233.19912459430},
-                {0.00000000297, 0.57158636916, 10193.85960279471},
-                {0.00000000372, 4.36086070254, 22004.15845235330},
-                {0.00000000311, 2.86660649993, 9683.35076363289},
-                {0.00000000284, 0.78946184560, 3442.81876244891},
-                {0.00000000269, 2.73302271647, 9573.14444241349},
-                {0.00000000262, 1.65344694622, 21202.33752122950},
-                {0.00000000285, 2.99593464960, 13745.59005650590},
-                {0.00000000276, 6.13791366947, 9676.72485159910},
-                {0.00000000289, 4.21532854719, 20235.36664379391},
-                {0.00000000263, 4.06023282629, 22779.68106367730},
-                {0.00000000280, 3.52465276935, 14919.26167123810},
-                {0.00000000262, 0.23413334905, 10750.33387578991},
-                {0.00000000256, 2.84423020029, 10234.30475918690},
-                {0.00000000239, 3.17649373533, 5507.79705615090},
-                {0.00000000253, 3.50443427097, 10192.75396820210},
-                {0.00000000268, 5.52795627850, 27511.71169102070},
-                {0.00000000282, 1.52617460595, 4731.78680985990},
-                {0.00000000232, 5.81477929300, 3723.26514143949},
-                {0.00000000285, 3.95599071883, 20956.50587500010},
-                {0.00000000244, 2.32200831696, 2353.10997125530},
-                {0.00000000272, 2.82574902606, 20000.21671902950},
-                {0.00000000254, 3.11073677155, 6283.31966747490},
-                {0.00000000238, 6.06399121577, 30639.61282114949},
-                {0.00000000232, 6.01167584587, 19890.01039781010},
-                {0.00000000210, 3.33764904887, 18073.46112116669},
-                {0.00000000216, 3.19588337312, 18073.94875613370},
-                {0.00000000199, 5.04355472771, 9639.18456535971},
-                {0.00000000218, 5.53074261320, 19904.23749181170},
-                {0.00000000225, 5.41510051366, 13937.03832261750},
-                {0.00000000235, 1.73003777450, 1551.28904013150},
-                {0.00000000191, 2.76287874160, 6872.91693699471},
-                {0.00000000179, 4.84535687472, 30110.40949102190},
-                {0.00000000185, 1.30870554546, 10787.87416202930},
-                {0.00000000235, 1.24541538744, 1066.73929467350},
-                {0.00000000208, 4.04763155841, 10007.34381525730},
-                {0.00000000208, 2.30466183537, 10419.71491213170},
-                {0.00000000179, 3.50084200533, 18875.28205229050},
-                {0.00000000184, 0.09028649493, 9967.69771746511},
-                {0.00000000166, 3.49629785102, 18307.56341456009},
-                {0.00000000163, 3.38894514289, 10225.25871653050},
-                {0.00000000163, 2.96334825089, 10201.80001085851},
-                {0.00000000156, 4.49619634182, 10316.62213791310},
-                {0.00000000156, 1.85609705196, 10110.43658947590},
-                {0.00000000178, 6.26185121103, 10459.36100992390},
-                {0.00000000172, 2.71508119650, 14143.73905991410},
-                {0.00000000163, 4.90813788389, 8616.85528644289},
-                {0.00000000163, 5.91344954982, 6.86972951729},
-                {0.00000000157, 3.58488866748, 13554.14179039430},
-                {0.00000000152, 3.62017418311, 640.14110379750},
-                {0.00000000149, 6.16738885127, 7063.87756813929},
-                {0.00000000179, 1.00591554381, 29864.57784479250},
-                {0.00000000140, 5.31441141872, 8631.08238044450},
-                {0.00000000140, 6.19029890817, 529.93478257810},
-                {0.00000000131, 2.45194876830, 9794.04471981930},
-                {0.00000000170, 3.49470295745, 9153.65979853830},
-                {0.00000000128, 3.89903128812, 10633.01400756970},
-                {0.00000000177, 3.03845859741, 5481.49873635110},
-                {0.00000000154, 5.69369789989, 2119.00767786191},
-                {0.00000000131, 5.56674422840, 16984.23996494010},
-                {0.00000000131, 4.35512447481, 9437.51911740350},
-                {0.00000000118, 1.90850049529, 11790.38527117530},
-                {0.00000000140, 2.00742093288, 191.69208359510},
-                {0.00000000143, 3.32004481323, 7994.77225950771},
-                {0.00000000123, 1.23478424338, 213.54291292150},
-                {0.00000000111, 2.74887704228, 8661.99650607950},
-                {0.00000000121, 0.64210487280, 28521.33659573810},
-                {0.00000000119, 3.20586515571, 3929.96587873609},
-                {0.00000000106, 4.33742493006, 1109.62236957690},
-                {0.00000000099, 3.87128339263, 20.53157800890},
-                {0.00000000104, 4.60451231291, 36147.65369478390},
-                {0.00000000107, 4.92712251717, 22805.49174851010},
-                {0.00000000125, 3.09576538097, 12432.28646788130},
-                {0.00000000101, 1.57214857483, 1052.51220067191},
-                {0.00000000093, 1.71903836713, 574.10098085129},
-                {0.00000000129, 0.19292287088, 7564.58690325449},
-                {0.00000000092, 3.49801814083, 9359.84534697549},
-                {0.00000000099, 0.75167027759, 31441.92138724031},
-                {0.00000000091, 1.47446366588, 775.27879384050},
-                {0.00000000112, 0.41548066865, 10186.74340892770},
-                {0.00000000095, 2.09703168525, 10433.94200613330},
-                {0.00000000095, 4.25526170853, 9993.11672125570},
-                {0.00000000092, 1.92657936145, 14143.25142494710},
-                {0.00000000096, 3.75726377834, 220.65645992230},
-                {0.00000000084, 1.09570291858, 6770.46678376209},
-                {0.00000000088, 3.56094956187, 11322.42028082089},
-                {0.00000000110, 5.01502416629, 11802.60225897830},
-                {0.00000000108, 3.56320703640, 29580.71852592730},
-                {0.00000000093, 4.32241552615, 2957.95971196010},
-                {0.00000000101, 0.52107246051, 6770.95441872910},
-                {0.00000000105, 3.18747751371, 8662.48414104651},
-                {0.00000000094, 6.19217661869, 20433.92845690630},
-                {0.00000000089, 3.84885484388, 15720.59496739490},
-                {0.00000000088, 4.22623893206, 206.42936592071},
-                {0.00000000101, 0.50947630970, 7085.14059859870},
-                {0.00000000077, 2.93440992089, 10177.50149701710},
-                {0.00000000077, 3.41788347289, 10249.55723037191},
-                {0.00000000087, 2.72553149790, 2378.92065608810},
-                {0.00000000080, 2.87657638659, 5507.30942118390},
-                {0.00000000100, 3.31433227306, 14945.55999103790},
-                {0.00000000096, 1.34435751761, 8624.45646841071},
-                {0.00000000071, 5.88504983472, 24150.32386882850},
-                {0.00000000089, 4.61897054824, 18875.76968725751},
-                {0.00000000071, 4.97846455178, 29043.91401383189},
-                {0.00000000075, 4.48442686361, 19897.12394481090},
-                {0.00000000068, 2.38966490616, 10384.20223431370},
-                {0.00000000068, 3.96262848762, 10042.85649307530},
-                {0.00000000077, 5.37168621038, 29573.60497892650},
-                {0.00000000073, 4.93040355002, 29587.83207292810},
-                {0.00000000063, 4.96682804495, 10239.34004852730},
-                {0.00000000086, 5.50379681688, 19650.80466361450},
-                {0.00000000086, 5.13181328155, 19360.31943271550},
-                {0.00000000061, 5.37335140170, 29058.14110783350},
-                {0.00000000081, 3.17506029506, 11764.57458634250},
-                {0.00000000066, 0.09242614010, 26735.70144472970},
-                {0.00000000075, 5.86155964498, 25934.36814857290},
-                {0.00000000067, 5.87156884416, 40077.86339100350},
-                {0.00000000059, 0.24096472060, 10988.56434005150},
-                {0.00000000077, 5.42249781467, 20213.51581446750},
-                {0.00000000077, 1.74322703053, 7834.36489012290},
-                {0.00000000057, 2.63908550678, 10404.48999483909},
-                {0.00000000057, 6.11425964512, 110.45013870291},
-                {0.00000000067, 3.14352797658, 17777.87244946549},
-                {0.00000000060, 4.64344417198, 30831.54872222810},
-                {0.00000000058, 4.04812917862, 12592.20620229910},
-                {0.00000000054, 3.33029969221, 19317.43635781211},
-                {0.00000000065, 1.59839937239, 25158.84553724890},
-                {0.00000000064, 0.63814287930, 18308.05104952710},
-                {0.00000000059, 1.67190949806, 9779.32999085069},
-                {0.00000000053, 6.23173234110, 27490.93629552830},
-                {0.00000000050, 0.18460290148, 10103.32304247510},
-                {0.00000000050, 6.16769049230, 10323.73568491390},
-                {0.00000000050, 4.63939060613, 39794.00407213830},
-                {0.00000000055, 1.18770302160, 9793.55708485230},
-                {0.00000000048, 2.66058888107, 29089.05523346850},
-                {0.00000000051, 5.30933109582, 26709.89075989690},
-                {0.00000000047, 5.42237264786, 16522.41589851870},
-                {0.00000000060, 4.61502027021, 12592.69383726610},
-                {0.00000000057, 4.83119299148, 2218.51328670329},
-                {0.00000000047, 2.05343620014, 20640.11400534350},
-                {0.00000000046, 2.74639353796, 19786.91762359150},
-                {0.00000000047, 4.18909923765, 57836.89451481709},
-                {0.00000000045, 2.36837617101, 3532.30451029490},
-                {0.00000000047, 1.59938927555, 22003.67081738630},
-                {0.00000000045, 2.81454147982, 30000.20316980250},
-                {0.00000000043, 3.56791888552, 29786.90407436450},
-                {0.00000000051, 0.93432433798, 44008.07308722310},
-                {0.00000000042, 6.21590796001, 9999.74263328950},
-                {0.00000000050, 0.51812370768, 23581.01435983410},
-                {0.00000000051, 6.00715809832, 13341.91812879030},
-                {0.00000000040, 3.99083942383, 33019.26492968810},
-                {0.00000000051, 5.84065090063, 13656.10430865991},
-                {0.00000000048, 1.01747986844, 213.05527795450},
-                {0.00000000039, 4.20765456607, 20447.59030539790},
-                {0.00000000039, 2.75710568559, 10595.93826095070},
-                {0.00000000042, 1.52233926028, 30665.91114094930},
-                {0.00000000042, 2.07548691715, 3914.71340755109},
-                {0.00000000042, 3.20676468713, 38204.93117685450},
-                {0.00000000041, 2.02945904881, 17469.09901542890},
-                {0.00000000036, 4.38221463656, 10077.90403868451},
-                {0.00000000036, 1.97007875722, 10349.15468870450},
-                {0.00000000040, 1.65514953516, 18830.14083265389},
-                {0.00000000039, 1.16926464863, 18844.36792665549},
-                {0.00000000034, 1.79297258774, 21001.15970824030},
-                {0.00000000034, 3.14405588009, 13936.55068765050},
-                {0.00000000032, 5.34063867594, 36949.47462590770},
-                {0.00000000033, 6.10548742756, 16983.75232997309},
-                {0.00000000040, 2.31586332501, 47938.28278344270},
-                {0.00000000032, 0.75258375907, 39301.85314471250},
-                {0.00000000032, 3.89417641266, 39302.34077967950},
-                {0.00000000036, 4.85111863254, 19374.54652671710},
-                {0.00000000032, 3.92861114802, 16894.75421709410},
-                {0.00000000042, 5.08245275253, 55798.70217588190},
-                {0.00000000031, 1.94569247568, 20043.91837768230},
-                {0.00000000033, 6.15578410865, 48418.21672306549},
-                {0.00000000031, 5.95509934930, 9573.63207738050},
-                {0.00000000034, 0.55952606060, 54247.16931826690},
-                {0.00000000032, 0.55000852758, 10191.67853436810},
-                {0.00000000032, 5.80228486620, 10235.38019302090},
-                {0.00000000031, 4.45781570376, 8087.16432134830},
-                {0.00000000032, 3.01069170124, 19896.63630984389},
-                {0.00000000036, 2.43177228108, 7255.32583425090},
-                {0.00000000030, 0.39582329080, 10853.42665000850},
-                {0.00000000037, 1.97789587606, 27511.22405605370},
-                {0.00000000032, 5.51602815822, 19366.94534474929},
-                {0.00000000029, 3.64083349524, 10291.20313412251},
-                {0.00000000029, 2.71145989854, 10135.85559326650},
-                {0.00000000028, 4.16989797155, 104351.85638378029},
-                {0.00000000032, 2.59502959120, 20206.40226746670},
-                {0.00000000029, 1.33160612830, 29864.09020982550},
-                {0.00000000029, 5.27506731832, 49515.13869092350},
-                {0.00000000027, 0.49570343491, 5661.08823166870},
-                {0.00000000034, 0.56834994987, 9161.26098050610},
-                {0.00000000027, 3.93043638128, 6872.42930202769},
-                {0.00000000032, 3.80176203654, 9836.15575577870},
-                {0.00000000032, 2.55053135724, 10590.90297161030},
-                {0.00000000027, 4.68213678931, 6298.57213865991},
-                {0.00000000035, 3.77990327166, 9986.05323090550},
-                {0.00000000035, 2.57239012212, 10441.00549648351},
-                {0.00000000033, 3.63785377361, 31441.43375227330},
-                {0.00000000026, 0.42189641581, 40879.68432212730},
-                {0.00000000034, 4.43221326186, 1059.13811270570},
-                {0.00000000028, 4.84223047836, 27197.03787618409},
-                {0.00000000026, 3.20524473117, 34363.60941503950},
-                {0.00000000032, 5.77908535567, 11265.79774688290},
-                {0.00000000029, 1.74100180776, 30206.38871823969},
-                {0.00000000032, 3.71439292372, 51868.49247966230},
-                {0.00000000029, 5.18039950515, 35371.64344849290},
-                {0.00000000029, 2.03880685156, 35372.13108345990},
-                {0.00000000027, 2.96900241192, 34596.12083716890},
-                {0.00000000033, 0.22008313011, 59728.91187210151},
-                {0.00000000029, 2.13149426586, 20220.62936146830},
-                {0.00000000025, 0.00480216002, 25933.88051360590},
-                {0.00000000024, 1.14435429192, 8734.17515466309},
-                {0.00000000027, 0.93366720196, 66813.80865321669},
-                {0.00000000024, 2.78431824704, 36173.46437961670},
-                {0.00000000024, 2.85202782937, 31022.99698833970},
-                {0.00000000023, 1.83521592175, 24382.83529095790},
-                {0.00000000028, 2.59038076535, 27461.46703058189},
-                {0.00000000027, 1.25678130892, 30220.61581224130},
-                {0.00000000023, 1.14068817117, 10367.30817417930},
-                {0.00000000023, 5.21160522261, 10059.75055320970},
-                {0.00000000023, 0.43117503950, 20452.62559473830},
-                {0.00000000026, 1.22669168244, 39271.42665404450},
-                {0.00000000026, 1.70917344642, 39257.19956004290},
-                {0.00000000022, 2.21618655385, 43232.06284093210},
-                {0.00000000022, 5.35777920744, 43232.55047589910},
-                {0.00000000026, 5.25456910654, 8101.39141534989},
-                {0.00000000022, 1.35771340076, 24978.76840696430},
-                {0.00000000022, 4.11458514050, 25158.35790228190},
-                {0.00000000030, 5.92769527498, 17248.18148437089},
-                {0.00000000022, 5.97215448902, 27991.15799567649},
-                {0.00000000022, 0.18339928832, 30426.80136067850},
-                {0.00000000022, 4.03960220837, 802.06474860730},
-                {0.00000000028, 0.58380772945, 17297.93850984270},
-                {0.00000000021, 5.72756462954, 9147.03388650451},
-                {0.00000000024, 0.86019134061, 46386.74992582770},
-                {0.00000000021, 1.15272291675, 27197.52551115110},
-                {0.00000000021, 1.79721426538, 44809.89401834690},
-                {0.00000000024, 4.32935447070, 52176.05010063190},
-                {0.00000000025, 2.80978996759, 22805.97938347710},
-                {0.00000000022, 2.50649207464, 9566.03089541269},
-                {0.00000000023, 4.04266888662, 6309.13035230770},
-                {0.00000000021, 0.48695657465, 10949.40587722630},
-                {0.00000000021, 5.86533681913, 9477.65285016271},
-                {0.00000000024, 5.27936669763, 10288.31096226180},
-                {0.00000000024, 1.07292669615, 10138.74776512720},
-                {0.00000000027, 2.11911473240, 9580.25798941430},
-                {0.00000000020, 1.17564252576, 8635.69818627969},
-                {0.00000000020, 0.64178978255, 11280.02484088450},
-                {0.00000000021, 5.31872372185, 3531.81687532789},
-                {0.00000000022, 5.81710713116, 62883.59895699710},
-                {0.00000000020, 6.04322502436, 17468.61138046190},
-                {0.00000000023, 1.10446661612, 10263.28638916630},
-                {0.00000000023, 5.24782677766, 10163.77233822270},
-                {0.00000000027, 5.92344983854, 32216.95636359729},
-                {0.00000000021, 4.91435357755, 47624.09660357310},
-                {0.00000000023, 6.01318073085, 55022.69192959090},
-                {0.00000000021, 1.20080376991, 18300.44986755929},
-                {0.00000000026, 1.64245342007, 63659.12156832110},
-                {0.00000000021, 2.86380051865, 43071.65547154729},
-                {0.00000000019, 0.23803378346, 20316.60858868610},
-                {0.00000000027, 4.48319230296, 28286.74666737769},
-                {0.00000000020, 5.63440295344, 62081.77802587330},
-                {0.00000000021, 2.14440776384, 24341.77213494010},
-                {0.00000000020, 1.13738779403, 49477.59865325469},
-                {0.00000000020, 2.35460910589, 70744.01834943630},
-                {0.00000000018, 1.66963360809, 14128.48658872910},
-                {0.00000000022, 0.39682892264, 27991.64563064350},
-                {0.00000000018, 0.69318171155, 9050.56702431969},
-                {0.00000000018, 2.78635204608, 4705.48849006010},
-                {0.00000000017, 3.20253456324, 28313.04498717750},
-                {0.00000000017, 2.89862116564, 10497.38868255971},
-                {0.00000000017, 3.45367222814, 9929.67004482930},
-                {0.00000000017, 5.48500145482, 19624.99397878170},
-                {0.00000000018, 1.11001496449, 29050.53992586569},
-                {0.00000000017, 1.42200475410, 18314.67696156089},
-                {0.00000000016, 3.18072890080, 48740.10371456650},
-                {0.00000000018, 4.39890730410, 38526.33053338850},
-                {0.00000000018, 4.74135169951, 42430.72954477530},
-                {0.00000000018, 5.74382556326, 42456.54022960810},
-                {0.00000000018, 2.58329516885, 33794.29990604510},
-                {0.00000000018, 5.72488782244, 33794.78754101210},
-                {0.00000000016, 3.86440292184, 9745.56437334010},
-                {0.00000000016, 2.48789047194, 10681.49435404891},
-                {0.00000000016, 3.34228325637, 38734.62214194910},
-                {0.00000000016, 3.55643611626, 47162.27253715170},
-                {0.00000000016, 0.41484346267, 47162.76017211870},
-                {0.00000000015, 3.83207526863, 10199.30226969290},
-                {0.00000000015, 2.52021812515, 10227.75645769610},
-                {0.00000000015, 5.97366054337, 41654.71929848429},
-                {0.00000000017, 2.28143373849, 50316.95962204730},
-                {0.00000000015, 1.13326790706, 53285.42865272530},
-                {0.00000000015, 0.77488701815, 66011.98772209289},
-                {0.00000000015, 1.26649043492, 38727.50859494830},
-                {0.00000000015, 6.23110267766, 46360.93924099490},
-                {0.00000000019, 3.03299993077, 67589.33126454070},
-                {0.00000000014, 2.92323813617, 21228.14820606230},
-                {0.00000000014, 5.08679309387, 40000.18962057550},
-                {0.00000000014, 6.23973256044, 11027.07964765431},
-                {0.00000000014, 0.11256083334, 9399.97907973470},
-                {0.00000000014, 6.10753439498, 37895.67010785090},
-                {0.00000000014, 6.16127322322, 37410.81105736210},
-                {0.00000000014, 1.37136100611, 50291.14893721450},
-                {0.00000000013, 5.74299254495, 12565.90788249930},
-                {0.00000000015, 4.65282324499, 21486.19684009470},
-                {0.00000000013, 4.57052594573, 52670.31341078610},
-        };
-    }
-
-    private static void initialize_2_2()
-    {
-        classCoeff[1][2] = new double[][]{
-                {0.00039116576, 3.17641452985, 10213.52936369450},
-                {0.00001782208, 2.94415914625, 0.24381748350},
-                {0.00000953335, 5.20596121245, 10213.04172872750},
-                {0.00000818754, 3.60833841869, 20426.81490990550},
-                {0.00000012014, 3.98424371923, 30640.10045611650},
-                {0.00000008598, 5.19269385475, 10239.82768349430},
-                {0.00000008636, 1.10093366611, 10187.23104389470},
-                {0.00000003631, 0.41852821424, 20426.32727493849},
-                {0.00000002965, 1.54714831387, 8636.18582124671},
-                {0.00000003797, 5.44744767135, 9438.00675237050},
-                {0.00000003421, 0.82409517159, 10989.05197501850},
-                {0.00000002218, 2.12537117132, 10022.08109758290},
-                {0.00000002134, 4.12308786769, 10404.97762980610},
-                {0.00000002187, 4.57549125366, 11790.87290614230},
-                {0.00000001794, 4.97370212204, 775.76642880750},
-                {0.00000001421, 0.32903550115, 2353.10997125530},
-                {0.00000000972, 4.22805709693, 1577.09972496430},
-                {0.00000000682, 0.11738303047, 4705.97612502710},
-                {0.00000000658, 3.27522517046, 9683.83839859990},
-                {0.00000000715, 6.05529092994, 9830.63283147130},
-                {0.00000000683, 0.27418767588, 10596.42589591770},
-                {0.00000000568, 1.11272461938, 19651.29229858150},
-                {0.00000000544, 4.64774361853, 191.20444862810},
-                {0.00000000678, 2.88508832416, 18073.94875613370},
-                {0.00000000574, 0.38467340878, 801.57711364030},
-                {0.00000000418, 2.74408911585, 10743.22032878910},
-                {0.00000000561, 1.75565662404, 6283.31966747490},
-                {0.00000000531, 5.68669809373, 7058.84227879890},
-                {0.00000000371, 4.29421538467, 9411.70843257070},
-                {0.00000000414, 0.59494833209, 529.93478257810},
-                {0.00000000287, 1.55343952200, 9104.15081160110},
-                {0.00000000314, 5.99276842650, 15721.08260236190},
-                {0.00000000301, 3.87648034857, 26.05450231630},
-                {0.00000000354, 0.58512829013, 13368.21644859010},
-                {0.00000000361, 1.45998367037, 14143.73905991410},
-                {0.00000000349, 1.12786835203, 22004.15845235330},
-                {0.00000000253, 1.92471060417, 1059.62574767270},
-                {0.00000000253, 4.53940292522, 11322.90791578790},
-                {0.00000000253, 5.88126488763, 3154.44326741210},
-                {0.00000000321, 1.94846444699, 11015.35029481830},
-                {0.00000000305, 4.22585959217, 3128.63258257930},
-                {0.00000000202, 0.13780590630, 10426.82845913250},
-                {0.00000000195, 4.45983996443, 20618.26317601710},
-                {0.00000000178, 6.05244122419, 10000.23026825651},
-                {0.00000000157, 4.65387907430, 40853.38600232750},
-                {0.00000000159, 0.72069815424, 382.65271473970},
-                {0.00000000177, 0.39338528515, 21228.63584102931},
-                {0.00000000126, 1.05687133771, 18849.47136745770},
-                {0.00000000131, 5.44244944088, 1577.58735993130},
-                {0.00000000148, 5.58098705803, 5507.30942118390},
-                {0.00000000139, 2.98686042700, 7860.66320992270},
-                {0.00000000146, 2.62658040504, 19897.12394481090},
-                {0.00000000133, 2.03471349227, 17298.42614480970},
-                {0.00000000088, 2.31254159217, 8623.96883344369},
-                {0.00000000116, 5.13082226969, 9153.65979853830},
-                {0.00000000111, 4.24475286797, 20453.11322970530},
-                {0.00000000077, 1.00902400661, 7084.65296363170},
-                {0.00000000081, 5.42779981771, 2352.62233628830},
-                {0.00000000088, 4.73572405097, 3930.45351370310},
-                {0.00000000077, 1.55430183773, 16496.60521368590},
-                {0.00000000069, 5.74285388545, 23581.50199480110},
-                {0.00000000058, 2.86941970816, 9154.14743350530},
-                {0.00000000062, 0.46568901715, 1109.13473460990},
-                {0.00000000063, 0.71005704492, 9437.51911740350},
-                {0.00000000047, 2.16487309027, 29051.02756083270},
-                {0.00000000054, 0.77510495510, 20809.71144212870},
-                {0.00000000055, 1.84291935671, 4731.78680985990},
-                {0.00000000046, 3.98973988228, 19367.43297971630},
-                {0.00000000044, 2.81774994428, 10787.87416202930},
-                {0.00000000044, 3.53454344950, 9639.18456535971},
-                {0.00000000040, 1.76486455663, 8094.27786834910},
-                {0.00000000041, 1.81077528877, 3929.96587873609},
-                {0.00000000047, 3.42216864116, 12566.39551746630},
-                {0.00000000038, 0.61848121900, 6282.83203250789},
-                {0.00000000045, 2.64095270339, 25934.36814857290},
-                {0.00000000034, 3.37999447267, 28287.23430234470},
-                {0.00000000033, 2.41155726835, 11014.86265985130},
-                {0.00000000034, 5.75904174875, 14919.26167123810},
-                {0.00000000032, 1.85044469509, 24357.02460612510},
-                {0.00000000028, 2.26259259006, 20235.36664379391},
-                {0.00000000040, 2.04588679924, 29580.71852592730},
-                {0.00000000033, 3.78712068425, 4552.19731454230},
-                {0.00000000033, 5.68274603993, 6490.02040477150},
-                {0.00000000027, 5.51492765662, 10640.12755457050},
-                {0.00000000026, 0.80714498512, 9786.93117281850},
-                {0.00000000026, 5.24189234984, 3149.40797807170},
-                {0.00000000025, 0.52311174916, 10192.75396820210},
-                {0.00000000025, 2.69201575821, 10234.30475918690},
-                {0.00000000024, 0.09729823382, 21536.19346199890},
-                {0.00000000026, 0.29172518031, 14143.25142494710},
-                {0.00000000024, 1.53398817563, 18307.56341456009},
-                {0.00000000024, 4.66792746343, 5507.79705615090},
-                {0.00000000025, 1.99847907794, 18875.28205229050},
-                {0.00000000030, 2.25346620875, 20400.51659010570},
-                {0.00000000025, 0.91360430606, 27511.71169102070},
-                {0.00000000025, 3.28603866404, 8661.99650607950},
-                {0.00000000019, 3.72923840682, 11272.91129388371},
-                {0.00000000022, 1.87715843315, 30639.61282114949},
-                {0.00000000026, 0.86545419400, 213.54291292150},
-                {0.00000000018, 1.77063553751, 28521.33659573810},
-                {0.00000000023, 0.62230384603, 13937.03832261750},
-                {0.00000000024, 2.21558567781, 13367.72881362310},
-                {0.00000000021, 1.95869049210, 10186.74340892770},
-                {0.00000000019, 3.70619728169, 10988.56434005150},
-                {0.00000000018, 1.45798324955, 32217.44399856430},
-                {0.00000000020, 3.48812478045, 191.69208359510},
-                {0.00000000017, 5.71260028354, 15874.86141284670},
-                {0.00000000014, 1.56125812418, 21202.33752122950},
-                {0.00000000014, 0.92685471122, 17277.65074931730},
-                {0.00000000015, 1.68916723960, 18073.46112116669},
-                {0.00000000014, 0.06020277571, 10239.34004852730},
-                {0.00000000014, 3.96058683099, 14945.07235607090},
-                {0.00000000014, 2.61882493594, 8662.48414104651},
-                {0.00000000014, 3.66333417023, 11764.57458634250},
-                {0.00000000013, 0.36408900148, 34570.31015233610},
-                {0.00000000013, 5.32461592855, 22779.68106367730},
-                {0.00000000012, 2.28383473867, 31441.92138724031},
-                {0.00000000011, 2.70470885221, 10220.64291069530},
-                {0.00000000011, 0.50709992859, 10206.41581669370},
-                {0.00000000010, 2.04719193722, 7.35736448430},
-                {0.00000000010, 3.14863661708, 22003.67081738630},
-                {0.00000000012, 1.89856613068, 25158.84553724890},
-                {0.00000000009, 1.78868375262, 38500.51984855570},
-                {0.00000000010, 4.50140179786, 11790.38527117530},
-                {0.00000000012, 3.63812717753, 17297.93850984270},
-                {0.00000000008, 4.34372477567, 10404.48999483909},
-                {0.00000000009, 3.37718180492, 29089.05523346850},
-                {0.00000000007, 0.37788139417, 43232.55047589910},
-                {0.00000000007, 4.44321392733, 30000.20316980250},
-                {0.00000000009, 6.04652897824, 7860.17557495569},
-                {0.00000000009, 0.19167842758, 3531.81687532789},
-                {0.00000000007, 3.37107259426, 22805.49174851010},
-                {0.00000000007, 2.75239196673, 529.44714761109},
-        };
-    }
-
-    private static void initialize_2_3()
-    {
-        classCoeff[1][3] = new double[][]{
-                {0.00000055518, 0.56397150825, 10213.04172872750},
-                {0.00000057047, 4.30857137510, 0.24381748350},
-                {0.00000032093, 1.48532861520, 20426.81490990550},
-                {0.00000018867, 3.29469305606, 10213.52936369450},
-                {0.00000000716, 1.69291337487, 30640.10045611650},
-                {0.00000000218, 2.23416930390, 20426.32727493849},
-                {0.00000000032, 4.93547527406, 8636.18582124671},
-                {0.00000000034, 1.12379373423, 10239.82768349430},
-                {0.00000000034, 2.09231646083, 10187.23104389470},
-                {0.00000000027, 4.57242516087, 11790.87290614230},
-                {0.00000000020, 2.07822937351, 775.76642880750},
-                {0.00000000016, 5.32962355701, 10022.08109758290},
-                {0.00000000016, 4.16791854245, 10404.97762980610},
-                {0.00000000010, 2.19615394659, 40853.38600232750},
-                {0.00000000010, 1.23351868160, 9438.00675237050},
-                {0.00000000010, 2.08054199257, 10989.05197501850},
-                {0.00000000008, 3.70773784399, 9683.83839859990},
-                {0.00000000007, 1.33595632185, 191.20444862810},
-                {0.00000000007, 5.77536678710, 10743.22032878910},
-                {0.00000000008, 3.50194685886, 4705.97612502710},
-                {0.00000000007, 1.15263198918, 19651.29229858150},
-                {0.00000000004, 4.83876866063, 9104.15081160110},
-                {0.00000000004, 5.57864226359, 1059.62574767270},
-                {0.00000000004, 6.00284338140, 15721.08260236190},
-                {0.00000000003, 4.65996273292, 11322.90791578790},
-        };
-    }
-
-    private static void initialize_2_4()
-    {
-        classCoeff[1][4] = new double[][]{
-                {0.00000083081, 6.18993945631, 10213.52936369450},
-                {0.00000002486, 2.28856774293, 10213.04172872750},
-                {0.00000000657, 5.78367664587, 20426.81490990550},
-                {0.00000000217, 2.03456127835, 0.24381748350},
-                {0.00000000035, 5.69795458192, 30640.10045611650},
-                {0.00000000011, 4.01388645377, 20426.32727493849},
-                {0.00000000005, 0.49844804556, 10239.82768349430},
-                {0.00000000005, 2.68999633541, 10187.23104389470},
-                {0.00000000003, 3.35675923207, 2353.10997125530},
-                {0.00000000002, 3.32525148356, 8636.18582124671},
-                {0.00000000002, 1.20160813739, 1577.09972496430},
-                {0.00000000002, 0.72866875334, 9438.00675237050},
-        };
-    }
-
-    private static void initialize_2_5()
-    {
-        classCoeff[1][5] = new double[][]{
-                {0.00000000631, 0.02845828180, 10213.52936369450},
-                {0.00000000095, 4.11666356042, 10213.04172872750},
-                {0.00000000088, 0.15104017272, 0.24381748350},
-                {0.00000000040, 4.24049298565, 20426.81490990550},
-        };
-    }
-
-    private static void initialize_3_0()
-    {
-        classCoeff[2][0] = new double[][]{
-                {0.04282990302, 0.26703856476, 10213.28554621100},
-                {0.00035588343, 3.14159265359, 0.00000000000},
-                {0.00014501879, 1.14696911390, 20426.57109242200},
-                {0.00000140675, 0.85984113219, 1577.34354244780},
-                {0.00000134921, 3.70465787853, 2352.86615377180},
-                {0.00000095750, 3.66962547073, 9437.76293488700},
-                {0.00000072910, 1.55750278240, 9153.90361602180},
-                {0.00000073654, 2.02778434780, 30639.85663863300},
-                {0.00000059714, 6.25390371649, 18073.70493865020},
-                {0.00000045307, 2.28075620268, 5507.55323866740},
-                {0.00000043023, 3.95620233472, 529.69096509460},
-                {0.00000037415, 4.53900359933, 22003.91463486980},
-                {0.00000032943, 0.72316171903, 10239.58386601080},
-                {0.00000028156, 2.93415727239, 10186.98722641120},
-                {0.00000032447, 3.86196252330, 8635.94200376320},
-                {0.00000027853, 6.12790511758, 11790.62908865880},
-                {0.00000023013, 0.98699428893, 775.52261132400},
-                {0.00000019425, 5.12759462747, 6283.07584999140},
-                {0.00000016289, 2.90852685195, 10988.80815753500},
-                {0.00000015382, 5.98588709813, 19896.88012732740},
-                {0.00000015507, 2.00401259454, 13367.97263110660},
-                {0.00000012412, 4.13644030917, 10021.83728009940},
-                {0.00000013004, 4.83195492470, 14143.49524243060},
-                {0.00000010730, 5.61235409382, 10404.73381232260},
-                {0.00000010336, 2.75167531541, 191.44826611160},
-                {0.00000010848, 3.29419910254, 11015.10647733480},
-                {0.00000009775, 1.21418881204, 8624.21265092720},
-                {0.00000010158, 5.71954183827, 9683.59458111640},
-                {0.00000008080, 2.69831049093, 19651.04848109800},
-                {0.00000008209, 3.55371021890, 10742.97651130560},
-                {0.00000006416, 0.46264840234, 9786.68735533500},
-                {0.00000006429, 4.91481073656, 1059.38193018920},
-                {0.00000006722, 2.41848486045, 4705.73230754360},
-                {0.00000005903, 5.96215831403, 25934.12433108940},
-                {0.00000005647, 3.57594715836, 3154.68708489560},
-                {0.00000004044, 6.24650537722, 11322.66409830440},
-                {0.00000004033, 3.42887820794, 9103.90699411760},
-                {0.00000004210, 4.99232132925, 7084.89678111520},
-                {0.00000004135, 3.43782832503, 17298.18232732620},
-                {0.00000003747, 1.30318722019, 15720.83878487840},
-                {0.00000003417, 3.95474989164, 7860.41939243920},
-                {0.00000003440, 0.77140273510, 4551.95349705880},
-                {0.00000003488, 0.14633368219, 20618.01935853360},
-                {0.00000002851, 5.68591706153, 10206.17199921020},
-                {0.00000002750, 3.89497095361, 10192.51015071860},
-                {0.00000002734, 5.62996472233, 12566.15169998280},
-                {0.00000002682, 4.58018033496, 801.82093112380},
-                {0.00000002743, 6.06387494803, 10234.06094170340},
-                {0.00000002832, 4.24241233220, 213.29909543800},
-                {0.00000002756, 5.43236957664, 29580.47470844380},
-                {0.00000002155, 0.29731467355, 9411.46461508720},
-                {0.00000002403, 4.90533210845, 19367.18916223280},
-                {0.00000002103, 1.12514771936, 29864.33402730900},
-                {0.00000001632, 4.67123397256, 1109.37855209340},
-                {0.00000001787, 2.52506338741, 15874.61759536320},
-                {0.00000001613, 1.47525165805, 7058.59846131540},
-                {0.00000001598, 2.21757389250, 10426.58464164900},
-                {0.00000001154, 1.98818396175, 26.29831979980},
-                {0.00000001132, 5.38517603552, 7.11354700080},
-                {0.00000001468, 0.75541488791, 9999.98645077300},
-                {0.00000001118, 0.96571599573, 23581.25817731760},
-                {0.00000001210, 3.17717646354, 3532.06069281140},
-                {0.00000000965, 0.01161931809, 3128.38876509580},
-                {0.00000001027, 2.51592691800, 33794.54372352860},
-                {0.00000000847, 1.24888706950, 9573.38825989700},
-                {0.00000000889, 1.48214942791, 9830.38901398780},
-                {0.00000000953, 5.73118460251, 20213.27199698400},
-                {0.00000000987, 4.70495944427, 14945.31617355440},
-                {0.00000001030, 0.84929643011, 8094.52168583260},
-                {0.00000000770, 4.54196353475, 21228.39202354580},
-                {0.00000000778, 1.16378510983, 8662.24032356300},
-                {0.00000000860, 5.74281955136, 5661.33204915220},
-                {0.00000000670, 5.36864204589, 1589.07289528380},
-                {0.00000000615, 1.96289781619, 26087.90314157420},
-                {0.00000000740, 1.97614280765, 10596.18207843420},
-                {0.00000000606, 6.22070159607, 25158.60171976540},
-                {0.00000000533, 0.73765107493, 28286.99048486120},
-                {0.00000000547, 5.06653964506, 29050.78374334920},
-                {0.00000000592, 3.32632513186, 3340.61242669980},
-                {0.00000000591, 4.62374022159, 9929.42622734580},
-                {0.00000000537, 6.00327539255, 4732.03062734340},
-                {0.00000000569, 5.37276655331, 10497.14486507620},
-                {0.00000000520, 6.11596800207, 10218.80847051840},
-                {0.00000000542, 3.94171539558, 37724.75341974820},
-                {0.00000000575, 2.29073875885, 21535.94964451540},
-                {0.00000000437, 2.42330391120, 10251.31321884680},
-                {0.00000000439, 2.90237828484, 40853.14218484400},
-                {0.00000000459, 1.69153061401, 3930.20969621960},
-                {0.00000000405, 1.42927875873, 9161.01716302260},
-                {0.00000000418, 5.48110803243, 32217.20018108080},
-                {0.00000000521, 3.84286345199, 10207.76262190360},
-                {0.00000000457, 6.16974742379, 10220.39909321180},
-                {0.00000000440, 1.25236241968, 10175.25787357520},
-                {0.00000000394, 4.81650684498, 9146.79006902100},
-                {0.00000000362, 0.02259543121, 14765.23904326980},
-                {0.00000000396, 4.56209231282, 10063.72234907640},
-                {0.00000000407, 6.15731262846, 18875.52586977400},
-                {0.00000000349, 5.78507522549, 12592.45001978260},
-                {0.00000000379, 4.56511543982, 20419.45754542119},
-                {0.00000000314, 5.08259050420, 18837.49819713819},
-                {0.00000000343, 2.36516734231, 27511.46787353720},
-                {0.00000000292, 3.76618455555, 6681.22485339960},
-                {0.00000000289, 3.59841384736, 11272.66747640020},
-                {0.00000000314, 5.23220905264, 426.59819087600},
-                {0.00000000301, 4.24971815099, 14919.01785375460},
-                {0.00000000322, 1.36846420067, 29088.81141598500},
-                {0.00000000292, 0.74997511570, 3149.16416058820},
-                {0.00000000306, 0.47092243462, 23958.63178523340},
-                {0.00000000254, 4.34026574490, 10137.01947493540},
-                {0.00000000304, 5.33181632059, 41654.96311596780},
-                {0.00000000264, 0.01153452145, 20452.86941222180},
-                {0.00000000334, 5.28920083729, 382.89653222320},
-                {0.00000000236, 1.03442196051, 22779.43724619380},
-                {0.00000000250, 5.05395469123, 24356.78078864160},
-                {0.00000000278, 0.10022232617, 16496.36139620240},
-                {0.00000000232, 0.48064662619, 17085.95866572220},
-                {0.00000000205, 6.19639409918, 7064.12138562280},
-                {0.00000000197, 3.71380377240, 1551.04522264800},
-                {0.00000000200, 4.06516779510, 18849.22754997420},
-                {0.00000000170, 5.96522395118, 10198.03307502600},
-                {0.00000000170, 3.52866583267, 10228.53801739600},
-                {0.00000000180, 0.48168923159, 45585.17281218740},
-                {0.00000000144, 2.81280885697, 17277.40693183380},
-                {0.00000000177, 3.58248029244, 20400.27277262220},
-                {0.00000000170, 3.72282190488, 31441.67756975680},
-                {0.00000000166, 0.03569768750, 13745.34623902240},
-                {0.00000000127, 5.14389302386, 5481.25491886760},
-                {0.00000000138, 1.19253977825, 22805.73556599360},
-                {0.00000000126, 4.21594185374, 20956.26205751660},
-                {0.00000000118, 1.71706550416, 13341.67431130680},
-                {0.00000000131, 0.92317994329, 3442.57494496540},
-                {0.00000000137, 2.89407950366, 33019.02111220460},
-                {0.00000000104, 2.47347358674, 26709.64694241340},
-                {0.00000000127, 0.46833130674, 536.80451209540},
-                {0.00000000126, 2.84049662693, 9967.45389998160},
-                {0.00000000107, 4.19045394315, 19999.97290154599},
-                {0.00000000110, 0.73944778374, 30110.16567353840},
-                {0.00000000138, 4.01403107693, 21202.09370374600},
-                {0.00000000121, 3.85928223786, 522.57741809380},
-                {0.00000000122, 0.37000676558, 10459.11719244040},
-                {0.00000000095, 5.25435135477, 30213.25844775700},
-                {0.00000000099, 5.61149803116, 10529.67741586760},
-                {0.00000000106, 2.42064996718, 20809.46762464520},
-                {0.00000000095, 3.11317801589, 9896.89367655440},
-                {0.00000000085, 5.88248062550, 3723.50895892300},
-                {0.00000000099, 1.93329637732, 49515.38250840700},
-                {0.00000000084, 4.93745373910, 52175.80628314840},
-                {0.00000000086, 0.85755223960, 2379.16447357160},
-                {0.00000000114, 5.11309629210, 103.09277421860},
-                {0.00000000110, 1.44699918003, 43232.30665841560},
-                {0.00000000088, 1.59017183044, 10110.19277199240},
-                {0.00000000086, 0.87055324194, 16522.65971600220},
-                {0.00000000089, 2.33714216061, 10316.37832042960},
-                {0.00000000098, 4.66807552803, 20235.12282631040},
-                {0.00000000104, 5.02724740402, 35371.88726597640},
-                {0.00000000093, 4.21356144460, 36301.18868778519},
-                {0.00000000089, 0.88060757437, 6489.77658728800},
-                {0.00000000083, 2.07543775594, 31749.23519072640},
-                {0.00000000096, 2.90682399304, 9793.80090233580},
-                {0.00000000078, 2.65839634325, 10232.95530711079},
-                {0.00000000078, 0.55230439694, 10193.61578531121},
-                {0.00000000092, 5.63110477712, 10288.06714477830},
-                {0.00000000092, 3.86278127025, 10138.50394764370},
-                {0.00000000090, 4.34324193073, 36949.23080842420},
-                {0.00000000073, 2.56775245907, 13936.79450513400},
-                {0.00000000071, 0.64943236639, 20.77539549240},
-                {0.00000000090, 0.07319663423, 6872.67311951120},
-                {0.00000000069, 1.52914774412, 9690.70812811720},
-                {0.00000000086, 1.02476175384, 65236.22129328540},
-                {0.00000000079, 1.65446145032, 39264.06928956020},
-                {0.00000000071, 0.70714638996, 36147.40987730040},
-                {0.00000000071, 2.52879760001, 26735.94526221320},
-                {0.00000000061, 5.47943297658, 11764.33076885900},
-                {0.00000000080, 2.87220602049, 47162.51635463520},
-                {0.00000000065, 2.53312656681, 10735.86296430480},
-                {0.00000000068, 2.28501865578, 8521.11987670860},
-                {0.00000000065, 2.12423586627, 28313.28880466100},
-                {0.00000000062, 2.28587915309, 3903.91137641980},
-                {0.00000000069, 0.42270579845, 9580.50180689780},
-                {0.00000000063, 5.80076678078, 2118.76386037840},
-                {0.00000000056, 4.73821324745, 639.89728631400},
-                {0.00000000063, 3.35690006984, 53445.59220462660},
-                {0.00000000053, 2.14583523296, 8631.32619792800},
-                {0.00000000066, 4.12244312057, 28521.09277825460},
-                {0.00000000058, 5.25045057985, 10419.47109464820},
-                {0.00000000058, 4.23724598221, 10007.09999777380},
-                {0.00000000053, 3.02375632858, 19317.19254032860},
-                {0.00000000071, 2.36609582367, 74.78159856730},
-                {0.00000000062, 2.46239069210, 10846.06928552420},
-                {0.00000000061, 3.77333230443, 51868.24866217880},
-        };
-    }
-
-    private static void initialize_3_1()
-    {
-        classCoeff[2][1] = new double[][]{
-                {0.00371157532, 1.80370484107, 10213.28554621100},
-                {0.00001583350, 3.38513432885, 20426.57109242200},
-                {0.00000216150, 0.00000000000, 0.00000000000},
-                {0.00000012186, 5.60527972670, 1577.34354244780},
-                {0.00000011953, 4.61859507922, 30639.85663863300},
-                {0.00000011662, 5.24208633854, 2352.86615377180},
-                {0.00000010398, 2.27393994810, 9437.76293488700},
-                {0.00000006381, 0.28617884662, 9153.90361602180},
-                {0.00000005445, 5.08079565040, 10186.98722641120},
-                {0.00000004769, 1.50400058537, 11790.62908865880},
-                {0.00000005179, 1.50697716140, 18073.70493865020},
-                {0.00000003981, 0.75197593763, 5507.55323866740},
-                {0.00000003814, 5.50447607190, 529.69096509460},
-                {0.00000003372, 3.87807635377, 10239.58386601080},
-                {0.00000002840, 1.28497223665, 10404.73381232260},
-                {0.00000003220, 6.07567189618, 22003.91463486980},
-                {0.00000002336, 4.88957218376, 10988.80815753500},
-                {0.00000001669, 0.38548673512, 6283.07584999140},
-                {0.00000001381, 4.32769653919, 19651.04848109800},
-                {0.00000001296, 1.26608932430, 19896.88012732740},
-                {0.00000001203, 0.38472694833, 13367.97263110660},
-                {0.00000001126, 0.08391401839, 14143.49524243060},
-                {0.00000000867, 6.12475712244, 7860.41939243920},
-                {0.00000000737, 1.36372254530, 9683.59458111640},
-                {0.00000000673, 2.25480471785, 10021.83728009940},
-                {0.00000000673, 1.74966742013, 11322.66409830440},
-                {0.00000000654, 0.52171368417, 8624.21265092720},
-                {0.00000000739, 0.71134257549, 8635.94200376320},
-                {0.00000000592, 2.89903060772, 15720.83878487840},
-                {0.00000000573, 1.68337600461, 20618.01935853360},
-                {0.00000000509, 1.21775184841, 25934.12433108940},
-                {0.00000000402, 5.15486544320, 9786.68735533500},
-                {0.00000000522, 3.93344256885, 775.52261132400},
-                {0.00000000360, 0.93512209325, 1059.38193018920},
-                {0.00000000331, 6.18983417760, 11015.10647733480},
-                {0.00000000390, 0.55127102590, 19367.18916223280},
-                {0.00000000293, 2.40304140450, 801.82093112380},
-                {0.00000000311, 5.00264213987, 10742.97651130560},
-                {0.00000000303, 1.76024438478, 17298.18232732620},
-                {0.00000000266, 2.34165306562, 9411.46461508720},
-                {0.00000000336, 2.31707280345, 9999.98645077300},
-                {0.00000000337, 3.71507493522, 10596.18207843420},
-                {0.00000000238, 3.48412611241, 7058.59846131540},
-                {0.00000000252, 1.31468836511, 10234.06094170340},
-                {0.00000000225, 5.45422332781, 10192.51015071860},
-                {0.00000000224, 2.62853874690, 23581.25817731760},
-                {0.00000000245, 5.76868176406, 213.29909543800},
-                {0.00000000240, 4.88817120361, 10206.17199921020},
-                {0.00000000210, 2.37015222881, 4551.95349705880},
-                {0.00000000198, 0.00551647295, 9830.38901398780},
-                {0.00000000235, 0.61645223949, 29580.47470844380},
-                {0.00000000190, 5.02902672388, 3930.20969621960},
-                {0.00000000219, 4.33456063754, 15874.61759536320},
-                {0.00000000171, 3.12200105851, 12566.15169998280},
-                {0.00000000174, 5.99537915416, 26.29831979980},
-                {0.00000000180, 3.65160439089, 21228.39202354580},
-                {0.00000000172, 2.65343695006, 29864.33402730900},
-                {0.00000000138, 2.09789826211, 3128.38876509580},
-                {0.00000000138, 6.13843515618, 9161.01716302260},
-                {0.00000000163, 5.40807514906, 4705.73230754360},
-                {0.00000000125, 3.63191548504, 7.11354700080},
-                {0.00000000146, 1.77971392072, 191.44826611160},
-                {0.00000000099, 5.66016472051, 40853.14218484400},
-                {0.00000000117, 5.44747244034, 10426.58464164900},
-                {0.00000000095, 1.51959002513, 10218.80847051840},
-                {0.00000000101, 4.42330401713, 10220.39909321180},
-                {0.00000000100, 5.54541542103, 5661.33204915220},
-                {0.00000000093, 6.04217729850, 20419.45754542119},
-                {0.00000000082, 5.21733543718, 8662.24032356300},
-                {0.00000000092, 0.17084455774, 9146.79006902100},
-                {0.00000000085, 4.60308698783, 25158.60171976540},
-                {0.00000000090, 5.47130878539, 37724.75341974820},
-                {0.00000000074, 1.54547841954, 7084.89678111520},
-                {0.00000000087, 3.99154062553, 33794.54372352860},
-                {0.00000000091, 0.63814500882, 3154.68708489560},
-                {0.00000000065, 3.27192235582, 1109.37855209340},
-                {0.00000000089, 1.74739410911, 3532.06069281140},
-                {0.00000000069, 1.21744230443, 10198.03307502600},
-                {0.00000000059, 1.45863866349, 10207.76262190360},
-                {0.00000000081, 0.78654424919, 20213.27199698400},
-                {0.00000000056, 0.16985541402, 14919.01785375460},
-                {0.00000000052, 2.57737005542, 22779.43724619380},
-                {0.00000000061, 0.72963813902, 382.89653222320},
-                {0.00000000052, 3.49206526650, 21535.94964451540},
-                {0.00000000062, 3.04943681345, 28286.99048486120},
-                {0.00000000056, 2.00173927326, 10228.53801739600},
-                {0.00000000057, 0.62155717729, 41654.96311596780},
-                {0.00000000048, 0.21226498407, 29050.78374334920},
-                {0.00000000055, 6.20318924174, 18837.49819713819},
-                {0.00000000056, 2.35632004464, 9103.90699411760},
-                {0.00000000044, 4.12172817384, 27511.46787353720},
-                {0.00000000039, 6.15465517048, 20400.27277262220},
-                {0.00000000040, 3.85673830469, 11272.66747640020},
-                {0.00000000053, 1.80084365566, 45585.17281218740},
-                {0.00000000051, 1.70380845885, 426.59819087600},
-                {0.00000000040, 5.52599682847, 522.57741809380},
-                {0.00000000034, 3.92659473780, 4732.03062734340},
-                {0.00000000036, 5.94006075380, 21202.09370374600},
-                {0.00000000032, 5.31625288376, 3149.16416058820},
-                {0.00000000039, 1.26146315948, 32217.20018108080},
-                {0.00000000032, 5.03769459810, 536.80451209540},
-                {0.00000000034, 4.19685270992, 13341.67431130680},
-                {0.00000000031, 1.20392434392, 12592.45001978260},
-                {0.00000000036, 3.22618486892, 49515.38250840700},
-                {0.00000000031, 6.15462442323, 29088.81141598500},
-                {0.00000000029, 0.47911260035, 1589.07289528380},
-                {0.00000000027, 1.23709297168, 33019.02111220460},
-                {0.00000000022, 3.33096598037, 20452.86941222180},
-                {0.00000000028, 0.89703139186, 8094.52168583260},
-                {0.00000000027, 4.63672266528, 3340.61242669980},
-                {0.00000000024, 5.94541303751, 9929.42622734580},
-                {0.00000000024, 0.40689057274, 10497.14486507620},
-                {0.00000000017, 2.88410168794, 16496.36139620240},
-                {0.00000000017, 2.59067946967, 10175.25787357520},
-                {0.00000000017, 3.76162101633, 10251.31321884680},
-                {0.00000000013, 0.74065551442, 24356.78078864160},
-                {0.00000000014, 5.04938942644, 6681.22485339960},
-        };
-    }
-
-    private static void initialize_3_2()
-    {
-        classCoeff[2][2] = new double[][]{
-                {0.00016179656, 3.38519723238, 10213.28554621100},
-                {0.00000305549, 0.00000000000, 0.00000000000},
-                {0.00000062577, 5.25189799706, 20426.57109242200},
-                {0.00000000850, 0.09737945971, 10186.98722641120},
-                {0.00000000592, 0.95308466065, 30639.85663863300},
-                {0.00000000573, 0.56552197979, 2352.86615377180},
-                {0.00000000569, 4.36593284769, 10239.58386601080},
-                {0.00000000438, 3.18384728320, 11790.62908865880},
-                {0.00000000468, 4.01105575472, 1577.34354244780},
-                {0.00000000356, 6.12814990238, 10988.80815753500},
-                {0.00000000324, 2.79347039249, 10404.73381232260},
-                {0.00000000277, 6.08171605083, 9437.76293488700},
-                {0.00000000281, 5.10638363837, 9153.90361602180},
-                {0.00000000208, 3.14696384347, 18073.70493865020},
-                {0.00000000167, 0.70476486230, 529.69096509460},
-                {0.00000000135, 6.00194499808, 19651.04848109800},
-                {0.00000000145, 5.41776609230, 5507.55323866740},
-                {0.00000000117, 2.16955801658, 6283.07584999140},
-                {0.00000000121, 1.25671231625, 22003.91463486980},
-                {0.00000000118, 2.56442724367, 9683.59458111640},
-                {0.00000000074, 4.57489383229, 15720.83878487840},
-                {0.00000000083, 5.29424644857, 13367.97263110660},
-                {0.00000000059, 3.28182139103, 11322.66409830440},
-                {0.00000000064, 5.23563988056, 10596.18207843420},
-                {0.00000000060, 2.73672115191, 19896.88012732740},
-                {0.00000000047, 4.80208170598, 7058.59846131540},
-                {0.00000000042, 2.36980390290, 14143.49524243060},
-                {0.00000000041, 1.68366169373, 801.82093112380},
-                {0.00000000032, 0.58444963462, 10206.17199921020},
-                {0.00000000035, 3.21932079821, 20618.01935853360},
-                {0.00000000028, 4.55053233088, 9999.98645077300},
-                {0.00000000028, 5.84340580032, 10220.39909321180},
-                {0.00000000029, 3.13488740448, 9411.46461508720},
-                {0.00000000024, 4.56262782130, 10742.97651130560},
-                {0.00000000025, 0.54239218952, 11015.10647733480},
-                {0.00000000020, 4.83254240300, 9830.38901398780},
-                {0.00000000025, 1.23260224812, 10021.83728009940},
-                {0.00000000019, 5.15537838399, 26.29831979980},
-                {0.00000000022, 2.31119555973, 18849.22754997420},
-                {0.00000000021, 5.31579555879, 775.52261132400},
-                {0.00000000020, 2.90919452314, 3128.38876509580},
-                {0.00000000023, 2.08236048283, 8635.94200376320},
-                {0.00000000014, 3.33582216202, 1059.38193018920},
-                {0.00000000009, 3.25236762648, 9103.90699411760},
-                {0.00000000009, 0.70904281096, 7860.41939243920},
-                {0.00000000010, 2.21224313590, 19367.18916223280},
-                {0.00000000009, 5.04826725887, 7.11354700080},
-                {0.00000000007, 4.98138067490, 10426.58464164900},
-                {0.00000000007, 4.31777952738, 3154.68708489560},
-        };
-    }
-
-    private static void initialize_3_3()
-    {
-        classCoeff[2][3] = new double[][]{
-                {0.00000467466, 4.99201374907, 10213.28554621100},
-                {0.00000021639, 3.14159265359, 0.00000000000},
-                {0.00000002002, 0.76147646688, 20426.57109242200},
-                {0.00000000057, 1.51447613604, 10186.98722641120},
-                {0.00000000042, 5.70731176550, 10239.58386601080},
-                {0.00000000020, 4.71416496562, 11790.62908865880},
-                {0.00000000019, 5.61164867192, 9437.76293488700},
-                {0.00000000018, 1.02002338896, 10988.80815753500},
-                {0.00000000018, 2.08106024829, 2352.86615377180},
-                {0.00000000008, 4.33056892256, 10404.73381232260},
-                {0.00000000007, 3.07196293928, 30639.85663863300},
-                {0.00000000005, 2.22179616897, 1577.34354244780},
-        };
-    }
-
-    private static void initialize_3_4()
-    {
-        classCoeff[2][4] = new double[][]{
-                {0.00000010192, 0.31526267335, 10213.28554621100},
-                {0.00000000233, 3.14159265359, 0.00000000000},
-                {0.00000000069, 2.32746005974, 20426.57109242200},
-        };
-    }
-
-    private static void initialize_3_5()
-    {
-        classCoeff[2][5] = new double[][]{
-                {0.00000000173, 2.05270625526, 10213.28554621100},
-                {0.00000000042, 0.00000000000, 0.00000000000},
-                {0.00000000004, 3.77138066766, 20426.57109242200},
-        };
+        // All instances of this class share the coefficients loaded once for the class
+        coefficients = classCoefficients;
     }
 
+    // Loaded from the binary resource when the class is initialized, i.e. only for bodies in use
+    private static final Vsop87Coefficients classCoefficients =
+            Vsop87Coefficients.load( Venus.class, "Venus.bin" );
 }
-
@@ -0,0 +1,9 @@
+package com.mkreidl.ephemeris;
+
+/**
+ * JUnit category of tests that only measure and print timings.
+ * The test task excludes them; run them with the benchmark task.
+ */
+public interface Benchmark
+{
+}
@@ -0,0 +1,106 @@
+package com.mkreidl.ephemeris.geometry;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+public class CartesianRotationTest
+{
+    private static final int OPERATIONS_PER_THREAD = 500_000;
+
+    // The former implementation of Cartesian.rotate(), kept as a baseline for the benchmark
+    private static final Matrix3x3 lockedRotation = new Matrix3x3();
+
+    private final Random random = new Random( 99 );
+
+    @Test
+    public void testAgreesWithMatrix()
+    {
+        final Matrix3x3 matrix = new Matrix3x3();
+        final Cartesian expected = new Cartesian();
+        final Cartesian actual = new Cartesian();
+        for ( Coordinates.Axis axis : Coordinates.Axis.values() )
+            for ( int i = 0; i < 100; i++ )
+            {
+                final double angle = ( random.nextDouble() - 0.5 ) * 4 * Math.PI;
+                expected.set( random.nextGaussian(), random.nextGaussian(), random.nextGaussian() );
+                actual.set( expected ).rotate( axis, angle );
+                matrix.setRotation( angle, axis ).applyTo( expected );
+                assertEquals( expected.x, actual.x, 1e-15 );
+                assertEquals( expected.y, actual.y, 1e-15 );
+                assertEquals( expected.z, actual.z, 1e-15 );
+            }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testThroughputScaling() throws Exception
+    {
+        System.out.println( "Ecliptical -> equatorial conversions per ms, "
+                + Runtime.getRuntime().availableProcessors() + " cores:" );
+        final int maxThreads = Math.max( 4, Runtime.getRuntime().availableProcessors() );
+        for ( int threads = 1; threads <= maxThreads; threads *= 2 )
+            System.out.println( "  " + threads + " thread(s): lock-free " + throughput( threads, false )
+                    + ", synchronized " + throughput( threads, true ) );
+    }
+
+    private long throughput( int threads, boolean locked ) throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool( threads );
+        final CountDownLatch start = new CountDownLatch( 1 );
+        final List<Future<Double>> results = new ArrayList<>();
+        try
+        {
+            for ( int t = 0; t < threads; t++ )
+                results.add( executor.submit( (Callable<Double>)() -> {
+                    final Ecliptical.Cart ecliptical = new Ecliptical.Cart();
+                    final Equatorial.Cart equatorial = new Equatorial.Cart();
+                    double sum = 0;
+                    start.await();
+                    for ( int i = 0; i < OPERATIONS_PER_THREAD; i++ )
+                    {
+                        ecliptical.set( 1.0, 0.5, 0.25 * i );
+                        if ( locked )
+                            rotateLocked( equatorial.set( ecliptical ), Coordinates.Axis.X, 0.409 );
+                        else
+                            ecliptical.toEquatorial( 0.409, equatorial );
+                        sum += equatorial.z;
+                    }
+                    return sum;
+                } ) );
+            final long startNanos = System.nanoTime();
+            start.countDown();
+            for ( Future<Double> result : results )
+                result.get();
+            final long nanos = System.nanoTime() - startNanos;
+            return (long)threads * OPERATIONS_PER_THREAD * 1_000_000 / nanos;
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private static void rotateLocked( Cartesian cartesian, Coordinates.Axis axis, double angle )
+    {
+        synchronized ( lockedRotation )
+        {
+            lockedRotation.setRotation( angle, axis );
+            lockedRotation.applyTo( cartesian );
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystemMeeus;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MoonRiseSetIterationsTest
+{
+    private static final long START = 1525125600000L;  // 2018-05-01 00:00 +0200
+
+    @Test
+    public void testIterations()
+    {
+        final CountingSolarSystem solarSystem = new CountingSolarSystem();
+        final PlanetRiseSetCalculator calculator = PlanetRiseSetCalculator.of( solarSystem, Body.MOON );
+        calculator.setGeographicLocation( PlanetRiseSetTest.MUNICH );
+        calculator.setSearchDirection( RiseSetCalculator.LookupDirection.FORWARD );
+        int events = 0;
+        int evaluations = 0;
+        int iterations = 0;
+        for ( RiseSetCalculator.EventType eventType : new RiseSetCalculator.EventType[]{
+                RiseSetCalculator.EventType.RISE, RiseSetCalculator.EventType.SET} )
+        {
+            calculator.setEventType( eventType );
+            for ( int day = 0; day < 30; day++ )
+            {
+                assertTrue( calculator.compute( START + day * Time.MILLIS_PER_DAY ) );
+                evaluations += calculator.getEvaluationCount();
+                iterations += calculator.getIterationCount();
+                events++;
+            }
+        }
+        final double perEvent = (double)solarSystem.moonComputations / events;
+        System.out.println( "Moon rise/set: " + perEvent + " computations of the Moon per event, "
+                + (double)iterations / events + " iterations per event" );
+        assertEquals( solarSystem.moonComputations, evaluations );
+        assertTrue( perEvent < 10 );
+    }
+
+    private static class CountingSolarSystem extends SolarSystemMeeus
+    {
+        int moonComputations;
+
+        @Override
+        public void compute( long millisSinceEpoch, Body body )
+        {
+            if ( body == Body.MOON )
+                moonComputations++;
+            super.compute( millisSinceEpoch, body );
+        }
+    }
+}
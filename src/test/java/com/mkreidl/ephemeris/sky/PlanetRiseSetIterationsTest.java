@@ -0,0 +1,45 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystemMeeus;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class PlanetRiseSetIterationsTest
+{
+    private static final long START = 1525125600000L;  // 2018-05-01 00:00 +0200
+
+    /**
+     * The derivative of the altitude depends on the velocities of the Meeus planet models,
+     * so a wrong scale of the velocities costs additional iterations.
+     */
+    @Test
+    public void testPlanetIterations()
+    {
+        for ( Body body : new Body[]{Body.SUN, Body.MERCURY, Body.VENUS, Body.MARS, Body.JUPITER} )
+        {
+            final PlanetRiseSetCalculator calculator = PlanetRiseSetCalculator.of( new SolarSystemMeeus(), body );
+            calculator.setGeographicLocation( PlanetRiseSetTest.MUNICH );
+            calculator.setSearchDirection( RiseSetCalculator.LookupDirection.FORWARD );
+            int events = 0;
+            int iterations = 0;
+            for ( RiseSetCalculator.EventType eventType : new RiseSetCalculator.EventType[]{
+                    RiseSetCalculator.EventType.RISE, RiseSetCalculator.EventType.SET} )
+            {
+                calculator.setEventType( eventType );
+                for ( int day = 0; day < 30; day++ )
+                {
+                    assertTrue( calculator.compute( START + day * Time.MILLIS_PER_DAY ) );
+                    iterations += calculator.getIterationCount();
+                    events++;
+                }
+            }
+            final double perEvent = (double)iterations / events;
+            System.out.println( body + " rise/set: " + perEvent + " iterations per event" );
+            assertTrue( body.name(), perEvent < 2.5 );
+        }
+    }
+}
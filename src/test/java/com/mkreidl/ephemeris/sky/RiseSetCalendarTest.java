@@ -0,0 +1,176 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Spherical;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystemMeeus;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RiseSetCalendarTest
+{
+    private static final long START = 1525125600000L;  // 2018-05-01 00:00 +0200
+    private static final long PRECISION_MS = 30000;
+
+    @Test
+    public void testAgreesWithRiseSetCalculator()
+    {
+        final RiseSetCalendar calendar = new RiseSetCalendar( SolarSystemMeeus::new );
+        calendar.setGeographicLocation( PlanetRiseSetTest.MUNICH.lon, PlanetRiseSetTest.MUNICH.lat );
+        final List<RiseSetCalendar.Event> events = calendar.compute( EnumSet.of( Body.SUN, Body.MOON ),
+                START, START + 30 * Time.MILLIS_PER_DAY );
+        final PlanetRiseSetCalculator sun = PlanetRiseSetCalculator.of( new SolarSystemMeeus(), Body.SUN );
+        final PlanetRiseSetCalculator moon = PlanetRiseSetCalculator.of( new SolarSystemMeeus(), Body.MOON );
+        int[] counts = new int[2];
+        for ( RiseSetCalendar.Event event : events )
+        {
+            final PlanetRiseSetCalculator calculator = event.getBody() == Body.SUN ? sun : moon;
+            counts[event.getBody() == Body.SUN ? 0 : 1]++;
+            calculator.setGeographicLocation( PlanetRiseSetTest.MUNICH );
+            calculator.setEventType( event.getType() );
+            calculator.setSearchDirection( RiseSetCalculator.LookupDirection.FORWARD );
+            assertTrue( calculator.compute( event.getTime() - 2 * Time.MILLIS_PER_HOUR ) );
+            assertEquals( event.toString(), 0.0, event.getTime() - calculator.getTime(), PRECISION_MS );
+        }
+        // The Sun rises, transits and sets every day, the Moon misses one of each within 30 days
+        assertEquals( 90, counts[0] );
+        assertTrue( counts[1] >= 86 && counts[1] <= 88 );
+    }
+
+    @Test
+    public void testReferenceTimes()
+    {
+        // https://www.timeanddate.com/moon/germany/munich, as in MoonRiseSetTest
+        final RiseSetCalendar calendar = new RiseSetCalendar( SolarSystemMeeus::new );
+        calendar.setGeographicLocation( PlanetRiseSetTest.MUNICH.lon, PlanetRiseSetTest.MUNICH.lat );
+        final List<RiseSetCalendar.Event> events = calendar.compute( Body.MOON, START, START + 5 * Time.MILLIS_PER_DAY );
+        assertContains( events, RiseSetCalculator.EventType.SET, 1525151100000L );   // 2018-05-01 07:05 +0200
+        assertContains( events, RiseSetCalculator.EventType.RISE, 1525204560000L );  // 2018-05-01 21:56 +0200
+        assertContains( events, RiseSetCalculator.EventType.SET, 1525328100000L );   // 2018-05-03 08:15 +0200
+        assertContains( events, RiseSetCalculator.EventType.RISE, 1525384500000L );  // 2018-05-03 23:55 +0200
+    }
+
+    @Test
+    public void testRisesAndSetsAlternateNearPolarCircle()
+    {
+        // Midnight sun from end of May to mid July, polar night in December
+        final RiseSetCalendar calendar = new RiseSetCalendar( SolarSystemMeeus::new );
+        calendar.setGeographicLocation( PlanetRiseSetTest.SVOLVAER.lon, PlanetRiseSetTest.SVOLVAER.lat );
+        final long start = START - 120 * Time.MILLIS_PER_DAY;
+        final long end = start + 366 * Time.MILLIS_PER_DAY;
+        for ( Body body : new Body[]{Body.SUN, Body.MOON} )
+        {
+            final List<RiseSetCalendar.Event> events = calendar.compute( body, start, end );
+            RiseSetCalculator.EventType last = null;
+            int transits = 0;
+            int risesAndSets = 0;
+            for ( RiseSetCalendar.Event event : events )
+            {
+                if ( event.getType() == RiseSetCalculator.EventType.TRANSIT )
+                {
+                    transits++;
+                    continue;
+                }
+                risesAndSets++;
+                if ( last != null )
+                    assertNotEquals( event.toString(), last, event.getType() );
+                last = event.getType();
+            }
+            System.out.println( body + " at Svolvaer within one year: " + transits + " transits, "
+                    + risesAndSets + " rises and sets" );
+            assertTrue( transits >= 353 && transits <= 366 );
+            if ( body == Body.SUN )
+                assertTrue( risesAndSets > 500 && risesAndSets < 600 );
+        }
+    }
+
+    @Test
+    public void testParallelSameAsSequential()
+    {
+        final RiseSetCalendar calendar = new RiseSetCalendar( SolarSystemMeeus::new );
+        calendar.setGeographicLocation( PlanetRiseSetTest.SYDNEY.lon, PlanetRiseSetTest.SYDNEY.lat );
+        final EnumSet<Body> bodies = EnumSet.of( Body.SUN, Body.MOON, Body.VENUS );
+        final long end = START + 100 * Time.MILLIS_PER_DAY;
+        final List<RiseSetCalendar.Event> sequential = calendar.compute( bodies, START, end );
+        final ForkJoinPool pool = new ForkJoinPool( 3 );
+        try
+        {
+            calendar.setExecutor( pool );
+            calendar.setChunkDays( 7 );
+            final List<RiseSetCalendar.Event> parallel = calendar.compute( bodies, START, end );
+            assertEquals( sequential.size(), parallel.size() );
+            for ( int i = 0; i < sequential.size(); i++ )
+            {
+                assertEquals( sequential.get( i ).getBody(), parallel.get( i ).getBody() );
+                assertEquals( sequential.get( i ).getType(), parallel.get( i ).getType() );
+                // Different seeds at the boundaries of chunks converge to slightly different times
+                assertEquals( 0.0, parallel.get( i ).getTime() - sequential.get( i ).getTime(), 2000 );
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        for ( int run = 0; run < 2; run++ )
+        {
+            measure( "Munich", PlanetRiseSetTest.MUNICH );
+            measure( "Svolvaer", PlanetRiseSetTest.SVOLVAER );
+        }
+    }
+
+    private static void measure( String name, Spherical location )
+    {
+        final long end = START + 365 * Time.MILLIS_PER_DAY;
+        final RiseSetCalendar calendar = new RiseSetCalendar( SolarSystemMeeus::new );
+        calendar.setGeographicLocation( location.lon, location.lat );
+        long start = System.nanoTime();
+        final int events = calendar.compute( EnumSet.of( Body.SUN, Body.MOON ), START, end ).size();
+        final long calendarMillis = ( System.nanoTime() - start ) / 1_000_000;
+
+        start = System.nanoTime();
+        int count = 0;
+        for ( Body body : new Body[]{Body.SUN, Body.MOON} )
+        {
+            final PlanetRiseSetCalculator calculator = PlanetRiseSetCalculator.of( new SolarSystemMeeus(), body );
+            calculator.setGeographicLocation( location );
+            calculator.setSearchDirection( RiseSetCalculator.LookupDirection.FORWARD );
+            for ( RiseSetCalculator.EventType type : RiseSetCalculator.EventType.values() )
+            {
+                calculator.setEventType( type );
+                long time = START;
+                while ( calculator.compute( time ) && calculator.getTime() < end )
+                {
+                    count++;
+                    time = calculator.getTime() + Time.MILLIS_PER_HOUR;
+                }
+            }
+        }
+        final long calculatorMillis = ( System.nanoTime() - start ) / 1_000_000;
+        System.out.println( "Sun and Moon in " + name + " for one year: calendar " + events + " events in "
+                + calendarMillis + " ms, PlanetRiseSetCalculator " + count + " events in " + calculatorMillis + " ms" );
+    }
+
+    private static void assertContains( List<RiseSetCalendar.Event> events, RiseSetCalculator.EventType type, long expected )
+    {
+        for ( RiseSetCalendar.Event event : events )
+            if ( event.getType() == type && Math.abs( event.getTime() - expected ) < PRECISION_MS )
+                return;
+        throw new AssertionError( "No " + type + " at " + expected + " in " + events );
+    }
+}
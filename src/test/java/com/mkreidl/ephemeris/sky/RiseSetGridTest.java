@@ -0,0 +1,148 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystemMeeus;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RiseSetGridTest
+{
+    private static final long START = 1525132800000L;  // 2018-05-01 00:00 UTC
+    private static final long SOLSTICE = 1529539200000L;  // 2018-06-21 00:00 UTC
+    private static final long PRECISION_MS = 30000;
+
+    @Test
+    public void testAgreesWithRiseSetCalendar()
+    {
+        final double[] longitudes = grid( -180, 150, 30 );
+        final double[] latitudes = grid( -60, 60, 15 );
+        final RiseSetGrid grid = new RiseSetGrid( longitudes, latitudes );
+        final int[] rise = new int[longitudes.length * latitudes.length];
+        final int[] set = new int[rise.length];
+        final RiseSetCalendar calendar = new RiseSetCalendar( SolarSystemMeeus::new );
+        for ( Body body : new Body[]{Body.SUN, Body.MOON} )
+        {
+            grid.compute( new SolarSystemMeeus(), body, START, rise, set );
+            for ( int i = 0; i < latitudes.length; i++ )
+                for ( int j = 0; j < longitudes.length; j++ )
+                {
+                    calendar.setGeographicLocation( longitudes[j], latitudes[i] );
+                    final List<RiseSetCalendar.Event> events = calendar.compute( body, START, START + Time.MILLIS_PER_DAY );
+                    final int cell = i * longitudes.length + j;
+                    assertEvent( events, RiseSetCalculator.EventType.RISE, rise[cell] );
+                    assertEvent( events, RiseSetCalculator.EventType.SET, set[cell] );
+                }
+        }
+    }
+
+    @Test
+    public void testPolarDayAndNight()
+    {
+        final RiseSetGrid grid = new RiseSetGrid( new double[]{0, Math.PI / 2}, new double[]{
+                Math.toRadians( -80 ), Math.toRadians( 0 ), Math.toRadians( 80 )} );
+        final int[] rise = new int[6];
+        final int[] set = new int[6];
+        grid.compute( new SolarSystemMeeus(), Body.SUN, SOLSTICE, rise, set );
+        for ( int j = 0; j < 2; j++ )
+        {
+            assertEquals( RiseSetGrid.ALWAYS_BELOW, rise[j] );
+            assertEquals( RiseSetGrid.ALWAYS_BELOW, set[j] );
+            assertTrue( rise[2 + j] >= 0 && set[2 + j] >= 0 );
+            assertEquals( RiseSetGrid.ALWAYS_ABOVE, rise[4 + j] );
+            assertEquals( RiseSetGrid.ALWAYS_ABOVE, set[4 + j] );
+        }
+    }
+
+    @Test
+    public void testParallelSameAsSequential()
+    {
+        final RiseSetGrid grid = new RiseSetGrid( grid( -180, 179, 5 ), grid( -90, 90, 5 ) );
+        final int size = grid.getRowCount() * grid.getColumnCount();
+        final int[] rise = new int[size];
+        final int[] set = new int[size];
+        grid.compute( new SolarSystemMeeus(), Body.MOON, START, rise, set );
+        final int[] parallelRise = new int[size];
+        final int[] parallelSet = new int[size];
+        final ForkJoinPool pool = new ForkJoinPool( 3 );
+        try
+        {
+            grid.setExecutor( pool );
+            grid.compute( new SolarSystemMeeus(), Body.MOON, START, parallelRise, parallelSet );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+        assertArrayEquals( rise, parallelRise );
+        assertArrayEquals( set, parallelSet );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testOutputTooShort()
+    {
+        new RiseSetGrid( new double[3], new double[2] ).compute( new SolarSystemMeeus(), Body.SUN, START,
+                new int[6], new int[5] );
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final RiseSetGrid grid = new RiseSetGrid( grid( -180, 179, 1 ), grid( -90, 90, 1 ) );
+        final int size = grid.getRowCount() * grid.getColumnCount();
+        final int[] rise = new int[size];
+        final int[] set = new int[size];
+        for ( int run = 0; run < 2; run++ )
+        {
+            final long start = System.nanoTime();
+            grid.compute( new SolarSystemMeeus(), Body.MOON, START, rise, set );
+            System.out.println( "Moon rise and set on " + size + " cells: " + ( System.nanoTime() - start ) / 1_000_000 + " ms" );
+        }
+        // One PlanetRiseSetCalculator per cell, for a sample of the cells
+        final PlanetRiseSetCalculator calculator = PlanetRiseSetCalculator.of( new SolarSystemMeeus(), Body.MOON );
+        calculator.setSearchDirection( RiseSetCalculator.LookupDirection.FORWARD );
+        final int samples = 500;
+        final long start = System.nanoTime();
+        for ( int n = 0; n < samples; n++ )
+        {
+            calculator.setGeographicLocation( Math.toRadians( n % 360 - 180 ), Math.toRadians( n % 121 - 60 ) );
+            for ( RiseSetCalculator.EventType type : new RiseSetCalculator.EventType[]{
+                    RiseSetCalculator.EventType.RISE, RiseSetCalculator.EventType.SET} )
+            {
+                calculator.setEventType( type );
+                calculator.compute( START );
+            }
+        }
+        System.out.println( "PlanetRiseSetCalculator, estimated for " + size + " cells: "
+                + ( System.nanoTime() - start ) / samples * size / 1_000_000 + " ms" );
+    }
+
+    private static double[] grid( int fromDeg, int toDeg, int stepDeg )
+    {
+        final double[] values = new double[( toDeg - fromDeg ) / stepDeg + 1];
+        for ( int i = 0; i < values.length; i++ )
+            values[i] = Math.toRadians( fromDeg + i * stepDeg );
+        return values;
+    }
+
+    private static void assertEvent( List<RiseSetCalendar.Event> events, RiseSetCalculator.EventType type, int seconds )
+    {
+        for ( RiseSetCalendar.Event event : events )
+            if ( event.getType() == type )
+            {
+                assertEquals( event.toString(), 0.0, START + seconds * 1000L - event.getTime(), PRECISION_MS );
+                return;
+            }
+        assertTrue( type + " at " + seconds, seconds < 0 );
+    }
+}
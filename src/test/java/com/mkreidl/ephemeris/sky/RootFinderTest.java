@@ -0,0 +1,67 @@
+package com.mkreidl.ephemeris.sky;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RootFinderTest
+{
+    private static final long ROOT = 1234567890L;
+    private static final long PRECISION_MS = 1000;
+
+    /**
+     * Monotonic function with its root at ROOT, reporting the given factor times its true derivative.
+     */
+    private static class Cubic implements RootFinder.Function
+    {
+        private final double derivativeFactor;
+        private double derivative;
+
+        Cubic( double derivativeFactor )
+        {
+            this.derivativeFactor = derivativeFactor;
+        }
+
+        @Override
+        public double evaluate( long millis )
+        {
+            final double x = ( millis - ROOT ) / 3.6e6;
+            derivative = derivativeFactor * ( 3 * x * x + 1 ) / 3.6e6;
+            return x * x * x + x;
+        }
+
+        @Override
+        public double getDerivative()
+        {
+            return derivative;
+        }
+    }
+
+    private static long solve( RootFinder rootFinder, RootFinder.Function function, long guess )
+    {
+        final double value = function.evaluate( guess );
+        return rootFinder.solve( ROOT - 86400000L, ROOT + 86400000L, guess, value, function.getDerivative(), PRECISION_MS );
+    }
+
+    @Test
+    public void testNewton()
+    {
+        final Cubic function = new Cubic( 1 );
+        final RootFinder rootFinder = new RootFinder( function );
+        assertEquals( 0.0, solve( rootFinder, function, ROOT + 3600000L ) - ROOT, PRECISION_MS );
+        assertTrue( rootFinder.getIterations() <= 6 );
+    }
+
+    @Test
+    public void testWrongDerivative()
+    {
+        for ( double factor : new double[]{0, -1, 1e-3, 0.5, 2} )
+        {
+            final Cubic function = new Cubic( factor );
+            final RootFinder rootFinder = new RootFinder( function );
+            assertEquals( "factor " + factor, 0.0, solve( rootFinder, function, ROOT - 20000000L ) - ROOT, PRECISION_MS );
+            assertTrue( rootFinder.getIterations() < 60 );
+        }
+    }
+}
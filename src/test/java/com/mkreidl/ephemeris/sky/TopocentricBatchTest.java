@@ -0,0 +1,188 @@
+package com.mkreidl.ephemeris.sky;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Angle;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystem;
+import com.mkreidl.ephemeris.solarsystem.SolarSystemVSOP87C;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TopocentricBatchTest
+{
+    private static final long TIME = Time.J2000.getTime() + 6789 * Time.MILLIS_PER_DAY + 12345678;
+    private static final EnumSet<Body> BODIES = EnumSet.of( Body.SUN, Body.MOON, Body.MARS );
+    private static final int OBSERVERS = 500;
+    private static final double TOLERANCE = 1e-12;
+
+    private final Random random = new Random( 42 );
+    private final double[] longitudes = new double[OBSERVERS];
+    private final double[] latitudes = new double[OBSERVERS];
+    private final SolarSystem solarSystem = new SolarSystemVSOP87C();
+
+    public TopocentricBatchTest()
+    {
+        for ( int i = 0; i < OBSERVERS; i++ )
+        {
+            longitudes[i] = ( random.nextDouble() * 2 - 1 ) * Math.PI;
+            latitudes[i] = Math.asin( random.nextDouble() * 2 - 1 );
+        }
+        solarSystem.compute( TIME );
+    }
+
+    @Test
+    public void testEquatorialAgreesWithPosition()
+    {
+        final TopocentricBatch batch = new TopocentricBatch( longitudes, latitudes );
+        final double[] rightAscension = new double[BODIES.size() * OBSERVERS];
+        final double[] declination = new double[BODIES.size() * OBSERVERS];
+        batch.computeEquatorial( solarSystem, TIME, BODIES, rightAscension, declination );
+
+        final Position position = new Position();
+        final Equatorial.Sphe expected = new Equatorial.Sphe();
+        int k = 0;
+        for ( Body body : BODIES )
+        {
+            solarSystem.getEphemerides( body, position );
+            for ( int i = 0; i < OBSERVERS; i++ )
+            {
+                position.setTimeLocation( TIME, longitudes[i], latitudes[i] );
+                position.get( expected, Position.CoordinatesCenter.TOPOCENTRIC );
+                assertEquals( 0, Angle.standardize( expected.lon - rightAscension[k * OBSERVERS + i] ), TOLERANCE );
+                assertEquals( expected.lat, declination[k * OBSERVERS + i], TOLERANCE );
+            }
+            k++;
+        }
+    }
+
+    @Test
+    public void testHorizontalAgreesWithPosition()
+    {
+        final TopocentricBatch batch = new TopocentricBatch( longitudes, latitudes );
+        final double[] azimuth = new double[BODIES.size() * OBSERVERS];
+        final double[] altitude = new double[BODIES.size() * OBSERVERS];
+        batch.computeHorizontal( solarSystem, TIME, BODIES, azimuth, altitude );
+
+        final Position position = new Position();
+        final Horizontal.Sphe expected = new Horizontal.Sphe();
+        final Angle angle = new Angle();
+        int k = 0;
+        for ( Body body : BODIES )
+        {
+            solarSystem.getEphemerides( body, position );
+            for ( int i = 0; i < OBSERVERS; i++ )
+            {
+                position.setTimeLocation( TIME, longitudes[i], latitudes[i] );
+                position.get( expected, Position.CoordinatesCenter.TOPOCENTRIC );
+                final double expectedAzimuth = expected.getAzimuth( angle ).get( Angle.Unit.RADIANS );
+                assertEquals( 0, Angle.standardize( expectedAzimuth - azimuth[k * OBSERVERS + i] ), TOLERANCE );
+                assertEquals( expected.getHeight( angle ).get( Angle.Unit.RADIANS ), altitude[k * OBSERVERS + i], TOLERANCE );
+            }
+            k++;
+        }
+    }
+
+    @Test
+    public void testHeight()
+    {
+        final double[] heights = new double[OBSERVERS];
+        Arrays.fill( heights, 10000 );
+        final double[] altitudeLow = new double[OBSERVERS];
+        final double[] altitudeHigh = new double[OBSERVERS];
+        final double[] azimuth = new double[OBSERVERS];
+        new TopocentricBatch( longitudes, latitudes ).computeHorizontal( solarSystem, TIME, EnumSet.of( Body.MOON ),
+                azimuth, altitudeLow );
+        new TopocentricBatch( longitudes, latitudes, heights ).computeHorizontal( solarSystem, TIME, EnumSet.of( Body.MOON ),
+                azimuth, altitudeHigh );
+        for ( int i = 0; i < OBSERVERS; i++ )
+        {
+            // Parallax of the Moon: a higher observer sees it lower in the sky, by at most 10 km / 356000 km
+            final double difference = altitudeHigh[i] - altitudeLow[i];
+            assertEquals( -1.5e-5, difference, 1.5e-5 );
+        }
+    }
+
+    @Test
+    public void testParallel()
+    {
+        final TopocentricBatch batch = new TopocentricBatch( longitudes, latitudes );
+        final double[] expectedAzimuth = new double[BODIES.size() * OBSERVERS];
+        final double[] expectedAltitude = new double[BODIES.size() * OBSERVERS];
+        batch.computeHorizontal( solarSystem, TIME, BODIES, expectedAzimuth, expectedAltitude );
+
+        final ForkJoinPool pool = new ForkJoinPool( 3 );
+        try
+        {
+            batch.setExecutor( pool );
+            batch.setChunkSize( 37 );
+            final double[] azimuth = new double[BODIES.size() * OBSERVERS];
+            final double[] altitude = new double[BODIES.size() * OBSERVERS];
+            batch.computeHorizontal( solarSystem, TIME, BODIES, azimuth, altitude );
+            assertArrayEquals( expectedAzimuth, azimuth, 0.0 );
+            assertArrayEquals( expectedAltitude, altitude, 0.0 );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testOutputTooShort()
+    {
+        new TopocentricBatch( longitudes, latitudes ).computeEquatorial( solarSystem, TIME, BODIES,
+                new double[OBSERVERS], new double[OBSERVERS] );
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final int observers = 100_000;
+        final double[] lon = new double[observers];
+        final double[] lat = new double[observers];
+        for ( int i = 0; i < observers; i++ )
+        {
+            lon[i] = ( random.nextDouble() * 2 - 1 ) * Math.PI;
+            lat[i] = Math.asin( random.nextDouble() * 2 - 1 );
+        }
+        final EnumSet<Body> bodies = EnumSet.allOf( Body.class );
+        final TopocentricBatch batch = new TopocentricBatch( lon, lat );
+        final double[] azimuth = new double[bodies.size() * observers];
+        final double[] altitude = new double[bodies.size() * observers];
+        final Position position = new Position();
+        final Horizontal.Sphe horizontal = new Horizontal.Sphe();
+        for ( int run = 0; run < 3; run++ )
+        {
+            long start = System.nanoTime();
+            batch.computeHorizontal( solarSystem, TIME, bodies, azimuth, altitude );
+            final long batchNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for ( Body body : bodies )
+            {
+                solarSystem.getEphemerides( body, position );
+                for ( int i = 0; i < observers; i++ )
+                {
+                    position.setTimeLocation( TIME, lon[i], lat[i] );
+                    position.get( horizontal, Position.CoordinatesCenter.TOPOCENTRIC );
+                }
+            }
+            final long positionNanos = System.nanoTime() - start;
+            System.out.println( "Horizontal coordinates of " + bodies.size() + " bodies for " + observers
+                    + " observers: batch " + batchNanos / 1_000_000 + " ms, Position " + positionNanos / 1_000_000 + " ms" );
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.EnumSet;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class BodySubsetTest
+{
+    private static final int RUNS = 200;
+
+    private final SolarSystem all = new SolarSystemVSOP87C();
+    private final SolarSystem subset = new SolarSystemVSOP87C();
+    private final Time time = new Time();
+
+    @Test
+    public void testSameResultsForRequestedBodies()
+    {
+        checkSubset( EnumSet.of( Body.SUN, Body.MOON ) );
+        checkSubset( EnumSet.of( Body.MARS ) );
+        checkSubset( EnumSet.of( Body.EARTH, Body.JUPITER, Body.PLUTO ) );
+    }
+
+    @Test
+    public void testParallel()
+    {
+        final ForkJoinPool pool = new ForkJoinPool( 2 );
+        try
+        {
+            subset.setExecutor( pool );
+            checkSubset( EnumSet.of( Body.SUN, Body.MOON, Body.VENUS ) );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testOtherBodiesUnchanged()
+    {
+        time.setTime( Time.J2000.getTime() );
+        subset.compute( time );
+        final double distanceSaturn = subset.getGeocentricDistance( Body.SATURN );
+        time.setTime( Time.J2000.getTime() + 100 * Time.MILLIS_PER_DAY );
+        subset.compute( time, EnumSet.of( Body.MOON ) );
+        assertEquals( distanceSaturn, subset.getGeocentricDistance( Body.SATURN ), 0.0 );
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final EnumSet<Body> sunAndMoon = EnumSet.of( Body.SUN, Body.MOON );
+        for ( int round = 0; round < 2; round++ )
+        {
+            long start = System.nanoTime();
+            for ( int i = 0; i < RUNS; i++ )
+                all.compute( Time.J2000.getTime() + i * Time.MILLIS_PER_HOUR );
+            final long nanosAll = System.nanoTime() - start;
+            start = System.nanoTime();
+            for ( int i = 0; i < RUNS; i++ )
+                subset.compute( Time.J2000.getTime() + i * Time.MILLIS_PER_HOUR, sunAndMoon );
+            final long nanosSubset = System.nanoTime() - start;
+            System.out.println( "SolarSystem.compute() per call: all bodies " + nanosAll / RUNS / 1000
+                    + " us, Sun and Moon " + nanosSubset / RUNS / 1000 + " us" );
+        }
+    }
+
+    private void checkSubset( EnumSet<Body> bodies )
+    {
+        final Equatorial.Cart expected = new Equatorial.Cart();
+        final Equatorial.Cart actual = new Equatorial.Cart();
+        for ( int i = 0; i < 5; i++ )
+        {
+            time.setTime( Time.J2000.getTime() + i * 71 * Time.MILLIS_PER_DAY );
+            all.compute( time );
+            subset.compute( time, bodies );
+            for ( Body body : bodies )
+            {
+                all.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, expected );
+                subset.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, actual );
+                assertEquals( expected.x, actual.x, 0.0 );
+                assertEquals( expected.y, actual.y, 0.0 );
+                assertEquals( expected.z, actual.z, 0.0 );
+                assertEquals( all.getGeocentricDistance( body ), subset.getGeocentricDistance( body ), 0.0 );
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class ChebyshevTest
+{
+    private static final long START = Time.J2000.getTime();
+    private static final long END = START + 2 * 365 * Time.MILLIS_PER_DAY;
+    private static final double TOLERANCE_METERS = 1000;
+
+    private final Random random = new Random( 42 );
+    private final Time time = new Time();
+
+    @Test
+    public void testPlanet()
+    {
+        final OrbitalModel source = new com.mkreidl.ephemeris.solarsystem.vsop87c.Mercury();
+        final ModelChebyshev model = ModelChebyshev.fit( source, START, END, TOLERANCE_METERS );
+        System.out.println( "Mercury, 2 years: " + model.getNumberOfSegments() + " segments" );
+        checkAgainstSource( source, model );
+    }
+
+    @Test
+    public void testMoon()
+    {
+        final OrbitalModel source = new ModelMoon();
+        final ModelChebyshev model = ModelChebyshev.fit( source, START, START + 60 * Time.MILLIS_PER_DAY, TOLERANCE_METERS );
+        System.out.println( "Moon, 60 days: " + model.getNumberOfSegments() + " segments" );
+        checkAgainstSource( source, model );
+    }
+
+    @Test
+    public void testVelocity()
+    {
+        final OrbitalModel source = new com.mkreidl.ephemeris.solarsystem.vsop87c.Earth();
+        final ModelChebyshev model = ModelChebyshev.fit( source, START, END, TOLERANCE_METERS );
+        final Cartesian expectedPos = new Cartesian();
+        final Cartesian expectedVel = new Cartesian();
+        final Cartesian actualPos = new Cartesian();
+        final Cartesian actualVel = new Cartesian();
+        for ( int i = 0; i < 100; i++ )
+        {
+            time.setTime( START + (long)( random.nextDouble() * ( END - START ) ) );
+            source.compute( time, expectedPos, expectedVel );
+            model.compute( time, actualPos, actualVel );
+            // Relative accuracy of the derivative is about 1e-6
+            assertEquals( expectedVel.x, actualVel.x, 1e-13 );
+            assertEquals( expectedVel.y, actualVel.y, 1e-13 );
+            assertEquals( expectedVel.z, actualVel.z, 1e-13 );
+        }
+    }
+
+    @Test
+    public void testSolarSystem()
+    {
+        final long end = START + 30 * Time.MILLIS_PER_DAY;
+        final SolarSystem source = new SolarSystemVSOP87C();
+        final SolarSystem chebyshev = new SolarSystemChebyshev( source, START, end, TOLERANCE_METERS );
+        final Ecliptical.Cart expected = new Ecliptical.Cart();
+        final Ecliptical.Cart actual = new Ecliptical.Cart();
+        for ( int i = 0; i < 20; i++ )
+        {
+            time.setTime( START + (long)( random.nextDouble() * ( end - START ) ) );
+            source.compute( time );
+            chebyshev.compute( time );
+            for ( Body body : Body.values() )
+            {
+                source.getHeliocentric( body, expected );
+                chebyshev.getHeliocentric( body, actual );
+                assertEquals( body.name(), expected.x, actual.x, 2 * TOLERANCE_METERS );
+                assertEquals( body.name(), expected.y, actual.y, 2 * TOLERANCE_METERS );
+                assertEquals( body.name(), expected.z, actual.z, 2 * TOLERANCE_METERS );
+            }
+        }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final SolarSystem source = new SolarSystemVSOP87C();
+        final SolarSystem chebyshev = new SolarSystemChebyshev( source, START, START + 30 * Time.MILLIS_PER_DAY, TOLERANCE_METERS );
+        final int runs = 2000;
+        long start = System.nanoTime();
+        for ( int i = 0; i < runs; i++ )
+        {
+            time.setTime( START + i * Time.MILLIS_PER_HOUR / 10 );
+            source.compute( time );
+        }
+        final long nanosSource = ( System.nanoTime() - start ) / runs;
+        start = System.nanoTime();
+        for ( int i = 0; i < runs; i++ )
+        {
+            time.setTime( START + i * Time.MILLIS_PER_HOUR / 10 );
+            chebyshev.compute( time );
+        }
+        final long nanosChebyshev = ( System.nanoTime() - start ) / runs;
+        System.out.println( "SolarSystem.compute: VSOP87C " + nanosSource / 1000 + " us, Chebyshev "
+                + nanosChebyshev / 1000 + " us" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testOutOfRange()
+    {
+        final ModelChebyshev model = ModelChebyshev.fit( new ModelPluto(), START, END, TOLERANCE_METERS );
+        time.setTime( END + 1 );
+        model.compute( time, new Cartesian(), null );
+    }
+
+    private void checkAgainstSource( OrbitalModel source, ModelChebyshev model )
+    {
+        final double tolerance = TOLERANCE_METERS / source.getDistanceUnit().toMeters();
+        final Cartesian expected = new Cartesian();
+        final Cartesian actual = new Cartesian();
+        for ( int i = 0; i < 200; i++ )
+        {
+            time.setTime( model.getStartMillis()
+                    + (long)( random.nextDouble() * ( model.getEndMillis() - model.getStartMillis() ) ) );
+            source.compute( time, expected, null );
+            model.compute( time, actual, null );
+            assertEquals( expected.x, actual.x, tolerance );
+            assertEquals( expected.y, actual.y, tolerance );
+            assertEquals( expected.z, actual.z, tolerance );
+        }
+    }
+}
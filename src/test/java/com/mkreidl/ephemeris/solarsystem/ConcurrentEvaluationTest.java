@@ -0,0 +1,110 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ConcurrentEvaluationTest
+{
+    private static final int THREADS = Math.max( 4, 2 * Runtime.getRuntime().availableProcessors() );
+    private static final int TIMES = 100;
+    private static final int ROUNDS = 2;
+
+    private final Random random = new Random( 4711 );
+
+    @Test
+    public void testEvaluateMatchesCompute()
+    {
+        final OrbitalModel[] models = {
+                new ModelSun(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Mars(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87d.Jupiter(),
+                new com.mkreidl.ephemeris.solarsystem.meeus.Venus(),
+                new ModelMoon(),
+                new ModelPluto(),
+                ModelChebyshev.fit( new com.mkreidl.ephemeris.solarsystem.vsop87c.Earth(),
+                        Time.J2000.getTime(), Time.J2000.getTime() + 100 * Time.MILLIS_PER_DAY, 1000 ),
+        };
+        final Time time = new Time();
+        final Cartesian position = new Cartesian();
+        final Cartesian velocity = new Cartesian();
+        final double[] out = new double[7];
+        for ( OrbitalModel model : models )
+            for ( int i = 0; i < 20; i++ )
+            {
+                time.setTime( Time.J2000.getTime() + (long)( random.nextDouble() * 100 * Time.MILLIS_PER_DAY ) );
+                model.compute( time, position, velocity );
+                model.evaluate( time.getTime(), out, 1 );
+                final double scale = Math.max( position.length(), 1 );
+                assertEquals( position.x, out[1], 1e-14 * scale );
+                assertEquals( position.y, out[2], 1e-14 * scale );
+                assertEquals( position.z, out[3], 1e-14 * scale );
+                assertEquals( velocity.x, out[4], 1e-14 * scale );
+                assertEquals( velocity.y, out[5], 1e-14 * scale );
+                assertEquals( velocity.z, out[6], 1e-14 * scale );
+            }
+    }
+
+    @Test
+    public void testSharedSolarSystem() throws Exception
+    {
+        final SolarSystem solarSystem = new SolarSystemVSOP87C();
+        final Body[] bodies = Body.values();
+        final long[] times = new long[TIMES];
+        final double[] expected = new double[TIMES * bodies.length * 6];
+        for ( int i = 0; i < TIMES; i++ )
+        {
+            times[i] = Time.J2000.getTime() + (long)( ( random.nextDouble() - 0.5 ) * 200 * 365.25 * Time.MILLIS_PER_DAY );
+            for ( Body body : bodies )
+                solarSystem.evaluate( body, times[i], expected, ( i * bodies.length + body.ordinal() ) * 6 );
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+        final CountDownLatch start = new CountDownLatch( 1 );
+        final List<Future<double[]>> results = new ArrayList<>();
+        try
+        {
+            for ( int t = 0; t < THREADS; t++ )
+            {
+                // Each thread walks through the times in a different order
+                final int shift = t * 37;
+                results.add( executor.submit( (Callable<double[]>)() -> {
+                    final double[] actual = new double[expected.length];
+                    start.await();
+                    for ( int round = 0; round < ROUNDS; round++ )
+                        for ( int k = 0; k < TIMES; k++ )
+                        {
+                            final int i = ( k + shift ) % TIMES;
+                            for ( Body body : bodies )
+                                solarSystem.evaluate( body, times[i], actual, ( i * bodies.length + body.ordinal() ) * 6 );
+                        }
+                    return actual;
+                } ) );
+            }
+            final long startNanos = System.nanoTime();
+            start.countDown();
+            for ( Future<double[]> result : results )
+                assertArrayEquals( expected, result.get(), 0.0 );
+            final long evaluations = (long)THREADS * ROUNDS * TIMES * bodies.length;
+            System.out.println( THREADS + " threads sharing one solar system: " + evaluations + " evaluations in "
+                    + ( System.nanoTime() - startNanos ) / 1_000_000 + " ms" );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EphemerisStoreTest
+{
+    private static final long START = Time.J2000.getTime();
+    private static final long END = START + 60 * Time.MILLIS_PER_DAY;
+
+    @ClassRule
+    public static final TemporaryFolder folder = new TemporaryFolder();
+
+    private static Path file;
+    private final Random random = new Random( 42 );
+
+    @BeforeClass
+    public static void writeStore() throws IOException
+    {
+        file = folder.newFile( "ephemeris.bin" ).toPath();
+        EphemerisStore.write( new SolarSystemVSOP87C(), START, END, file );
+    }
+
+    @Test
+    public void testRange() throws IOException
+    {
+        final EphemerisStore store = EphemerisStore.open( file );
+        assertEquals( START, store.getStartMillis() );
+        assertTrue( store.getEndMillis() >= END );
+        for ( Body body : Body.values() )
+            assertEquals( EphemerisStore.getDefaultSpacingMillis( body ), store.getModel( body ).getSpacingMillis() );
+    }
+
+    @Test
+    public void testNodesAreExact() throws IOException
+    {
+        final SolarSystem source = new SolarSystemVSOP87C();
+        final EphemerisStore store = EphemerisStore.open( file );
+        final double[] expected = new double[6];
+        final double[] actual = new double[6];
+        for ( Body body : Body.values() )
+        {
+            final long millis = START + 17 * EphemerisStore.getDefaultSpacingMillis( body );
+            source.models.get( body ).evaluate( millis, expected, 0 );
+            store.getModel( body ).evaluate( millis, actual, 0 );
+            for ( int i = 0; i < 6; i++ )
+                assertEquals( body.name(), expected[i], actual[i], Math.abs( expected[i] ) * 1e-15 );
+        }
+    }
+
+    @Test
+    public void testInterpolation() throws IOException
+    {
+        final SolarSystem source = new SolarSystemVSOP87C();
+        final SolarSystem mapped = new SolarSystemMapped( file );
+        final Ecliptical.Cart expected = new Ecliptical.Cart();
+        final Ecliptical.Cart actual = new Ecliptical.Cart();
+        final double[] maxError = new double[Body.values().length];
+        for ( int i = 0; i < 500; i++ )
+        {
+            final long millis = START + (long)( random.nextDouble() * ( END - START ) );
+            source.compute( millis );
+            mapped.compute( millis );
+            for ( Body body : Body.values() )
+            {
+                source.getHeliocentric( body, expected );
+                mapped.getHeliocentric( body, actual );
+                maxError[body.ordinal()] = Math.max( maxError[body.ordinal()], actual.sub( expected ).length() );
+            }
+        }
+        System.out.println( "Maximum deviation of Hermite interpolation [m]:" );
+        for ( Body body : Body.values() )
+            System.out.println( "  " + body + ": " + maxError[body.ordinal()] );
+        for ( Body body : Body.values() )
+            assertTrue( body.name(), maxError[body.ordinal()] < 1e3 );
+    }
+
+    /**
+     * Midway between two nodes the interpolation depends most on the velocities at the nodes,
+     * so a model whose velocities are not per second shows up there.
+     */
+    @Test
+    public void testRoundTripMeeus() throws IOException
+    {
+        final Path meeusFile = folder.newFile( "meeus.bin" ).toPath();
+        final SolarSystem source = new SolarSystemMeeus();
+        EphemerisStore.write( source, START, END, meeusFile );
+        final EphemerisStore store = EphemerisStore.open( meeusFile );
+        final double[] expected = new double[6];
+        final double[] actual = new double[6];
+        System.out.println( "Maximum deviation of Hermite interpolation from Meeus midway between nodes [m]:" );
+        for ( Body body : Body.values() )
+        {
+            final long spacing = EphemerisStore.getDefaultSpacingMillis( body );
+            double maxError = 0;
+            for ( long millis = START + spacing / 2; millis < END; millis += 7 * spacing )
+            {
+                source.models.get( body ).evaluate( millis, expected, 0 );
+                store.getModel( body ).evaluate( millis, actual, 0 );
+                final double meters = source.models.get( body ).getDistanceUnit().toMeters();
+                maxError = Math.max( maxError, Math.sqrt( square( actual[0] - expected[0] )
+                        + square( actual[1] - expected[1] ) + square( actual[2] - expected[2] ) ) * meters );
+            }
+            System.out.println( "  " + body + ": " + maxError );
+            assertTrue( body.name(), maxError < 200 );
+        }
+    }
+
+    private static double square( double x )
+    {
+        return x * x;
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance() throws IOException
+    {
+        final SolarSystem source = new SolarSystemVSOP87C();
+        final SolarSystem mapped = new SolarSystemMapped( file );
+        final long step = ( END - START ) / 2000;
+        for ( SolarSystem solarSystem : new SolarSystem[]{source, mapped, source, mapped} )
+        {
+            final long start = System.nanoTime();
+            for ( long millis = START; millis < END; millis += step )
+                solarSystem.compute( millis );
+            System.out.println( solarSystem.getClass().getSimpleName() + ": "
+                    + ( System.nanoTime() - start ) / 2000 / 1000 + " us per compute" );
+        }
+        final long start = System.nanoTime();
+        new SolarSystemMapped( file );
+        System.out.println( "Opening store: " + ( System.nanoTime() - start ) / 1000 + " us" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testOutOfRange() throws IOException
+    {
+        new SolarSystemMapped( file ).compute( START - 1 );
+    }
+
+    @Test( expected = IOException.class )
+    public void testInvalidFile() throws IOException
+    {
+        final Path invalid = folder.newFile( "invalid.bin" ).toPath();
+        Files.write( invalid, new byte[100] );
+        EphemerisStore.open( invalid );
+    }
+}
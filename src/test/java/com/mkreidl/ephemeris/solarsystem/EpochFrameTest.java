@@ -0,0 +1,160 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.geometry.Coordinates;
+import com.mkreidl.ephemeris.geometry.Matrix3x3;
+import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class EpochFrameTest
+{
+    private final Random random = new Random( 1900 );
+
+    @Test
+    public void testAgreesWithSingleComputations()
+    {
+        final Matrix3x3 expected = new Matrix3x3();
+        final Matrix3x3 actual = new Matrix3x3();
+        final Nutation nutation = new Nutation();
+        for ( int i = 0; i < 50; i++ )
+        {
+            final long millis = randomMillis();
+            final EpochFrame frame = new EpochFrame( millis );
+            assertEquals( millis, frame.getTime() );
+            assertEquals( Time.julianCenturiesSinceJ2000( millis ), frame.getJulianCenturies(), 0.0 );
+            assertEquals( Ecliptic.getObliquity( millis ), frame.getObliquity(), 0.0 );
+            assertEquals( Time.getMeanSiderealTimeRadians( millis ), frame.getMeanSiderealTime(), 0.0 );
+            nutation.compute( millis );
+            assertEquals( nutation.getLongitude(), frame.getNutationLongitude(), 0.0 );
+            assertEquals( nutation.getObliquity(), frame.getNutationObliquity(), 0.0 );
+
+            PrecessionMatrix.compute( millis, expected );
+            assertArrayEquals( expected.values, frame.getPrecession( actual ).values, 0.0 );
+            expected.postRotateX( Ecliptic.getObliquity( millis ) );
+            assertArrayEquals( expected.values, frame.getEclJ2000ToMeanEquToDate( actual ).values, 0.0 );
+        }
+    }
+
+    @Test
+    public void testTrueEquatorOfDate()
+    {
+        final Matrix3x3 matrix = new Matrix3x3();
+        final Cartesian ecliptical = new Cartesian();
+        final Cartesian expected = new Cartesian();
+        final Cartesian actual = new Cartesian();
+        for ( int i = 0; i < 50; i++ )
+        {
+            final EpochFrame frame = new EpochFrame( randomMillis() );
+            ecliptical.set( random.nextGaussian(), random.nextGaussian(), random.nextGaussian() );
+            // Precess, add the nutation in longitude, and rotate by the true obliquity
+            frame.getPrecession( matrix ).applyTo( ecliptical, expected );
+            expected.rotate( Coordinates.Axis.Z, frame.getNutationLongitude() );
+            expected.rotate( Coordinates.Axis.X, frame.getTrueObliquity() );
+            frame.getEclJ2000ToTrueEquToDate( matrix ).applyTo( ecliptical, actual );
+            assertEquals( expected.x, actual.x, 1e-15 );
+            assertEquals( expected.y, actual.y, 1e-15 );
+            assertEquals( expected.z, actual.z, 1e-15 );
+        }
+    }
+
+    @Test
+    public void testConsumersAgreeWithMillis()
+    {
+        final SolarSystem fromMillis = new SolarSystemMeeus();
+        final SolarSystem fromFrame = new SolarSystemMeeus();
+        final Zodiac zodiac = new Zodiac();
+        final Horizontal.Cart expected = new Horizontal.Cart();
+        final Horizontal.Cart actual = new Horizontal.Cart();
+        for ( int i = 0; i < 20; i++ )
+        {
+            final long millis = randomMillis();
+            final EpochFrame frame = EpochFrame.of( millis );
+            fromMillis.compute( millis );
+            fromFrame.compute( millis );
+            fromMillis.setTimeLocation( millis, 0.2, 0.8 );
+            fromFrame.setTimeLocation( frame, 0.2, 0.8 );
+            for ( Body body : Body.values() )
+            {
+                fromMillis.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, expected );
+                fromFrame.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, actual );
+                assertArrayEquals( new double[]{expected.x, expected.y, expected.z},
+                        new double[]{actual.x, actual.y, actual.z}, 0.0 );
+            }
+            final Position position = new Position();
+            fromMillis.getEphemerides( Body.MARS, position );
+            position.setTimeLocation( millis, 0.2, 0.8 );
+            position.get( expected, Position.CoordinatesCenter.TOPOCENTRIC );
+            position.setTimeLocation( frame, 0.2, 0.8 );
+            position.get( actual, Position.CoordinatesCenter.TOPOCENTRIC );
+            assertArrayEquals( new double[]{expected.x, expected.y, expected.z},
+                    new double[]{actual.x, actual.y, actual.z}, 0.0 );
+            assertEquals( zodiac.compute( millis ), zodiac.compute( frame ), 0.0 );
+            assertEquals( Sun.getEquationOfTime( millis ), Sun.getEquationOfTime( frame ), 1e-15 );
+        }
+    }
+
+    @Test
+    public void testCache()
+    {
+        final long millis = randomMillis();
+        final EpochFrame frame = EpochFrame.of( millis );
+        assertSame( frame, EpochFrame.of( millis ) );
+        assertSame( frame, EpochFrame.of( new Time( millis ) ) );
+        // Many other instants evict the frame, after which an equal one is computed again
+        for ( int i = 1; i <= 1000; i++ )
+            assertEquals( millis + i * Time.MILLIS_PER_HOUR, EpochFrame.of( millis + i * Time.MILLIS_PER_HOUR ).getTime() );
+        assertEquals( frame.getObliquity(), EpochFrame.of( millis ).getObliquity(), 0.0 );
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception
+    {
+        final long[] times = new long[256];
+        for ( int i = 0; i < times.length; i++ )
+            times[i] = randomMillis();
+        final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            final List<Future<?>> results = new ArrayList<>();
+            for ( int t = 0; t < 4; t++ )
+                results.add( executor.submit( (Callable<Void>)() -> {
+                    final Matrix3x3 matrix = new Matrix3x3();
+                    for ( int round = 0; round < 20; round++ )
+                        for ( long millis : times )
+                        {
+                            final EpochFrame frame = EpochFrame.of( millis );
+                            assertEquals( millis, frame.getTime() );
+                            assertEquals( Ecliptic.getObliquity( millis ), frame.getObliquity(), 0.0 );
+                            frame.getEclJ2000ToTrueEquToDate( matrix );
+                        }
+                    return null;
+                } ) );
+            for ( Future<?> result : results )
+                result.get();
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private long randomMillis()
+    {
+        return Time.J2000.getTime() + (long)( ( random.nextDouble() - 0.5 ) * 200 * 365.25 * Time.MILLIS_PER_DAY );
+    }
+}
@@ -0,0 +1,172 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.geometry.Matrix3x3;
+import com.mkreidl.ephemeris.geometry.Spherical;
+import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class MillisOverloadsTest
+{
+    private static final int EPOCHS = 20;
+
+    private final Random random = new Random( 2718 );
+    private final Time time = new Time();
+
+    @Test
+    public void testTimeFunctions()
+    {
+        for ( int i = 0; i < EPOCHS; i++ )
+        {
+            time.setTime( randomMillis() );
+            final long millis = time.getTime();
+            assertEquals( time.julianDayNumberSince( Time.J2000 ), Time.julianDayNumberSinceJ2000( millis ), 0.0 );
+            assertEquals( time.julianCenturiesSince( Time.J2000 ), Time.julianCenturiesSinceJ2000( millis ), 0.0 );
+            assertEquals( time.julianMillenniaSince( Time.J2000 ), Time.julianMillenniaSinceJ2000( millis ), 0.0 );
+        }
+    }
+
+    @Test
+    public void testEclipticPrecessionNutationSun()
+    {
+        final Matrix3x3 expected = new Matrix3x3();
+        final Matrix3x3 actual = new Matrix3x3();
+        final Nutation nutationExpected = new Nutation();
+        final Nutation nutationActual = new Nutation();
+        for ( int i = 0; i < EPOCHS; i++ )
+        {
+            time.setTime( randomMillis() );
+            final long millis = time.getTime();
+            final double t = Time.julianCenturiesSinceJ2000( millis );
+
+            assertEquals( Ecliptic.getObliquity( time ), Ecliptic.getObliquity( millis ), 0.0 );
+            assertEquals( Ecliptic.getObliquity( time ), Ecliptic.getObliquityCenturies( t ), 0.0 );
+
+            PrecessionMatrix.compute( time, expected );
+            PrecessionMatrix.compute( millis, actual );
+            assertArrayEquals( expected.values, actual.values, 0.0 );
+            Ecliptic.computeEclJ2000ToEquToDate( time, expected );
+            Ecliptic.computeEclJ2000ToEquToDate( millis, actual );
+            assertArrayEquals( expected.values, actual.values, 0.0 );
+            Ecliptic.getEqu2EclMatrix( time, expected );
+            Ecliptic.getEqu2EclMatrix( millis, actual );
+            assertArrayEquals( expected.values, actual.values, 0.0 );
+
+            nutationExpected.compute( time );
+            nutationActual.compute( millis );
+            assertEquals( nutationExpected.getLongitude(), nutationActual.getLongitude(), 0.0 );
+            assertEquals( nutationExpected.getObliquity(), nutationActual.getObliquity(), 0.0 );
+            nutationActual.computeCenturies( t );
+            assertEquals( nutationExpected.getLongitude(), nutationActual.getLongitude(), 0.0 );
+            assertEquals( Nutation.getLongitude( time ), Nutation.getLongitude( millis ), 0.0 );
+
+            assertEquals( Sun.getEquationOfTime( time ), Sun.getEquationOfTime( millis ), 0.0 );
+            assertEquals( Sun.getEquationOfTime( time ), Sun.getEquationOfTimeCenturies( t ), 0.0 );
+            assertEquals( Sun.getApparentRightAscension( time ), Sun.getApparentRightAscension( millis ), 0.0 );
+        }
+    }
+
+    @Test
+    public void testOrbitalModels()
+    {
+        checkModel( new com.mkreidl.ephemeris.solarsystem.vsop87c.Mars() );
+        checkModel( new com.mkreidl.ephemeris.solarsystem.vsop87d.Jupiter() );
+        checkModel( new ModelMoon() );
+        checkModel( new ModelPluto() );
+        checkModel( new ModelSun() );
+    }
+
+    @Test
+    public void testSolarSystem()
+    {
+        final SolarSystem expected = new SolarSystemVSOP87C();
+        final SolarSystem actual = new SolarSystemVSOP87C();
+        final Horizontal.Cart expectedPosition = new Horizontal.Cart();
+        final Horizontal.Cart actualPosition = new Horizontal.Cart();
+        for ( int i = 0; i < EPOCHS; i++ )
+        {
+            time.setTime( randomMillis() );
+            expected.compute( time );
+            expected.setTimeLocation( time, 0.2, 0.9 );
+            actual.compute( time.getTime() );
+            actual.setTimeLocation( time.getTime(), 0.2, 0.9 );
+            for ( Body body : Body.values() )
+            {
+                expected.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, expectedPosition );
+                actual.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, actualPosition );
+                assertEquals( expectedPosition.x, actualPosition.x, 0.0 );
+                assertEquals( expectedPosition.y, actualPosition.y, 0.0 );
+                assertEquals( expectedPosition.z, actualPosition.z, 0.0 );
+            }
+        }
+    }
+
+    @Test
+    public void testPositionTimeLocation()
+    {
+        final SolarSystem solarSystem = new SolarSystemVSOP87C();
+        final Position expected = new Position();
+        final Position actual = new Position();
+        final Horizontal.Cart expectedPosition = new Horizontal.Cart();
+        final Horizontal.Cart actualPosition = new Horizontal.Cart();
+        for ( int i = 0; i < EPOCHS; i++ )
+        {
+            time.setTime( randomMillis() );
+            solarSystem.compute( time );
+            solarSystem.getEphemerides( Body.MARS, expected );
+            solarSystem.getEphemerides( Body.MARS, actual );
+            expected.setTimeLocation( time, -1.1, 0.7 );
+            actual.setTimeLocation( time.getTime(), -1.1, 0.7 );
+            expected.get( expectedPosition, Position.CoordinatesCenter.TOPOCENTRIC );
+            actual.get( actualPosition, Position.CoordinatesCenter.TOPOCENTRIC );
+            assertEquals( expectedPosition.x, actualPosition.x, 0.0 );
+            assertEquals( expectedPosition.y, actualPosition.y, 0.0 );
+            assertEquals( expectedPosition.z, actualPosition.z, 0.0 );
+        }
+    }
+
+    private void checkModel( OrbitalModel model )
+    {
+        final Cartesian expectedPosition = new Cartesian();
+        final Cartesian expectedVelocity = new Cartesian();
+        final Cartesian actualPosition = new Cartesian();
+        final Cartesian actualVelocity = new Cartesian();
+        final Spherical expectedSpherical = new Spherical();
+        final Spherical actualSpherical = new Spherical();
+        final Spherical sphericalVelocity = new Spherical();
+        for ( int i = 0; i < EPOCHS; i++ )
+        {
+            time.setTime( randomMillis() );
+            model.compute( time, expectedPosition, expectedVelocity );
+            // Another time in between, so that no cached result is returned
+            model.compute( time.getTime() + 1, actualPosition, actualVelocity );
+            model.compute( time.getTime(), actualPosition, actualVelocity );
+            assertEquals( expectedPosition.x, actualPosition.x, 0.0 );
+            assertEquals( expectedPosition.y, actualPosition.y, 0.0 );
+            assertEquals( expectedPosition.z, actualPosition.z, 0.0 );
+            assertEquals( expectedVelocity.x, actualVelocity.x, 0.0 );
+            assertEquals( expectedVelocity.y, actualVelocity.y, 0.0 );
+            assertEquals( expectedVelocity.z, actualVelocity.z, 0.0 );
+
+            model.compute( time, expectedSpherical, sphericalVelocity );
+            model.compute( time.getTime() + 1, actualSpherical, sphericalVelocity );
+            model.compute( time.getTime(), actualSpherical, sphericalVelocity );
+            assertEquals( expectedSpherical.lon, actualSpherical.lon, 0.0 );
+            assertEquals( expectedSpherical.lat, actualSpherical.lat, 0.0 );
+            assertEquals( expectedSpherical.dst, actualSpherical.dst, 0.0 );
+        }
+    }
+
+    private long randomMillis()
+    {
+        return Time.J2000.getTime() + (long)( ( random.nextDouble() - 0.5 ) * 200 * 365.25 * Time.MILLIS_PER_DAY );
+    }
+}
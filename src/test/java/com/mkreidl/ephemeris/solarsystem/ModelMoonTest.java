@@ -44,4 +44,59 @@ public class ModelMoonTest
         assertEquals( refSpherical.lon, posSpherical.lon, 1.0 * MIN );
     }
 
+    @Test
+    public void testVelocityAgainstFiniteDifferences()
+    {
+        final long step = 60_000;
+        final Cartesian before = new Cartesian();
+        final Cartesian after = new Cartesian();
+        final Cartesian velocity = new Cartesian();
+        for ( int day = 0; day < 60; day++ )
+        {
+            final long millis = time.getTime() + day * Time.MILLIS_PER_DAY + day * 997_000;
+            modelMoon.compute( millis - step, before, null );
+            modelMoon.compute( millis + step, after, null );
+            modelMoon.compute( millis, posCartesian, velocity );
+            final double seconds = 2 * step / 1000.0;
+            // About 1 km/s; the central difference is accurate to a few micrometers per second
+            assertEquals( ( after.x - before.x ) / seconds, velocity.x, 1e-4 );
+            assertEquals( ( after.y - before.y ) / seconds, velocity.y, 1e-4 );
+            assertEquals( ( after.z - before.z ) / seconds, velocity.z, 1e-4 );
+        }
+    }
+
+    @Test
+    public void testSphericalVelocity()
+    {
+        final long step = 60_000;
+        final Spherical before = new Spherical();
+        final Spherical after = new Spherical();
+        final Spherical velocity = new Spherical();
+        for ( int day = 0; day < 60; day++ )
+        {
+            final long millis = time.getTime() + day * Time.MILLIS_PER_DAY;
+            modelMoon.compute( millis - step, before, null );
+            modelMoon.compute( millis + step, after, null );
+            modelMoon.compute( millis, posSpherical, velocity );
+            final double seconds = 2.0 * step / 1000;
+            assertEquals( standardize( after.lon - before.lon ), velocity.lon * seconds, 1e-9 );
+            assertEquals( after.lat - before.lat, velocity.lat * seconds, 1e-9 );
+            assertEquals( after.dst - before.dst, velocity.dst * seconds, 1e-3 );
+        }
+    }
+
+    @Test
+    public void testEvaluate()
+    {
+        final double[] values = new double[6];
+        final Cartesian velocity = new Cartesian();
+        modelMoon.evaluate( time.getTime(), values, 0 );
+        modelMoon.compute( time, posCartesian, velocity );
+        assertEquals( posCartesian.x, values[0], 1e-6 );
+        assertEquals( posCartesian.y, values[1], 1e-6 );
+        assertEquals( posCartesian.z, values[2], 1e-6 );
+        assertEquals( velocity.x, values[3], 1e-9 );
+        assertEquals( velocity.y, values[4], 1e-9 );
+        assertEquals( velocity.z, values[5], 1e-9 );
+    }
 }
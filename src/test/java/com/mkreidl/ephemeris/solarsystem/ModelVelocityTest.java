@@ -0,0 +1,82 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Spherical;
+
+import org.junit.Test;
+
+import static com.mkreidl.ephemeris.geometry.Angle.standardize;
+import static org.junit.Assert.assertEquals;
+
+public class ModelVelocityTest
+{
+    private static final long STEP = 60_000;
+
+    /**
+     * Velocities of {@link OrbitalModel#evaluate(long, double[], int)} must be the time derivatives of the
+     * positions, per second, for models with spherical (LBR) as well as rectangular (XYZ) series.
+     */
+    @Test
+    public void testEvaluateAgainstFiniteDifferences()
+    {
+        final OrbitalModel[] models = {
+                new com.mkreidl.ephemeris.solarsystem.meeus.Mercury(),
+                new com.mkreidl.ephemeris.solarsystem.meeus.Earth(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87d.Mars(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Mercury(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Jupiter(),
+                new ModelMoon(),
+                new ModelPluto(),
+        };
+        final double[] before = new double[6];
+        final double[] after = new double[6];
+        final double[] state = new double[6];
+        for ( OrbitalModel model : models )
+            for ( int day = 0; day < 400; day += 37 )
+            {
+                final long millis = Time.J2000.getTime() + day * Time.MILLIS_PER_DAY;
+                model.evaluate( millis - STEP, before, 0 );
+                model.evaluate( millis + STEP, after, 0 );
+                model.evaluate( millis, state, 0 );
+                final double speed = Math.sqrt( state[3] * state[3] + state[4] * state[4] + state[5] * state[5] );
+                final double seconds = 2 * STEP / 1000.0;
+                for ( int i = 0; i < 3; i++ )
+                    assertEquals( model.getClass().getName(), ( after[i] - before[i] ) / seconds, state[3 + i], 1e-6 * speed );
+            }
+    }
+
+    /**
+     * Spherical velocities of {@link OrbitalModel#compute(long, Spherical, Spherical)} are per second
+     * for every kind of model, like the Cartesian velocities of {@link OrbitalModel#evaluate(long, double[], int)}.
+     */
+    @Test
+    public void testSphericalVelocityAgainstFiniteDifferences()
+    {
+        final OrbitalModel[] models = {
+                new com.mkreidl.ephemeris.solarsystem.meeus.Mercury(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87d.Mars(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Jupiter(),
+                new ModelMoon(),
+                new ModelPluto(),
+                ModelChebyshev.fit( new com.mkreidl.ephemeris.solarsystem.vsop87c.Earth(),
+                        Time.J2000.getTime() - Time.MILLIS_PER_DAY, Time.J2000.getTime() + 400 * Time.MILLIS_PER_DAY, 1000 ),
+        };
+        final Spherical before = new Spherical();
+        final Spherical after = new Spherical();
+        final Spherical position = new Spherical();
+        final Spherical velocity = new Spherical();
+        final double seconds = 2 * STEP / 1000.0;
+        for ( OrbitalModel model : models )
+            for ( int day = 0; day < 400; day += 37 )
+            {
+                final long millis = Time.J2000.getTime() + day * Time.MILLIS_PER_DAY;
+                model.compute( millis - STEP, before, null );
+                model.compute( millis + STEP, after, null );
+                model.compute( millis, position, velocity );
+                final String name = model.getClass().getName();
+                assertEquals( name, standardize( after.lon - before.lon ) / seconds, velocity.lon, 1e-6 * Math.abs( velocity.lon ) + 1e-15 );
+                assertEquals( name, ( after.lat - before.lat ) / seconds, velocity.lat, 1e-6 * Math.abs( velocity.lon ) + 1e-15 );
+                assertEquals( name, ( after.dst - before.dst ) / seconds, velocity.dst, 1e-6 * Math.abs( velocity.lon ) * position.dst + 1e-12 * position.dst );
+            }
+    }
+}
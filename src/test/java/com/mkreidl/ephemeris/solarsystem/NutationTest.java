@@ -1,13 +1,16 @@
 package com.mkreidl.ephemeris.solarsystem;
 
+import com.mkreidl.ephemeris.Benchmark;
 import com.mkreidl.ephemeris.Time;
 import com.mkreidl.ephemeris.geometry.Angle;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.experimental.categories.Category;
 
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.Random;
 import java.util.TimeZone;
 
 public class NutationTest
@@ -25,4 +28,108 @@ public class NutationTest
         Assert.assertEquals( -3.788, Math.toDegrees( longitude ) * 3600, 0.02 );
         Assert.assertEquals( 9.443, Math.toDegrees( obliquity ) * 3600, 0.02 );
     }
+
+    @Test
+    public void testFullSeriesMeeusChap22()
+    {
+        final Calendar calendar = new GregorianCalendar( TimeZone.getTimeZone( "UTC" ) );
+        calendar.set( 1987, 3, 10, 0, 0, 0 );
+        final Nutation nutation = new Nutation( true );
+        nutation.compute( calendar.getTimeInMillis() );
+        Assert.assertEquals( -3.788, Math.toDegrees( nutation.getLongitude() ) * 3600, 0.001 );
+        Assert.assertEquals( 9.443, Math.toDegrees( nutation.getObliquity() ) * 3600, 0.001 );
+    }
+
+    @Test
+    public void testFullSeriesAgainstDirectEvaluation()
+    {
+        final Random random = new Random( 1980 );
+        final Nutation full = new Nutation( true );
+        final Nutation truncated = new Nutation();
+        final Nutation direct = new Nutation( true );
+        double maxTruncationError = 0;
+        for ( int i = 0; i < 1000; i++ )
+        {
+            final double t = ( random.nextDouble() - 0.5 ) * 4;
+            full.computeCenturies( t );
+            truncated.computeCenturies( t );
+            direct.computeTermByTerm( t );
+            Assert.assertEquals( direct.getLongitude(), full.getLongitude(), 1e-14 );
+            Assert.assertEquals( direct.getObliquity(), full.getObliquity(), 1e-14 );
+            maxTruncationError = Math.max( maxTruncationError, Math.abs( full.getLongitude() - truncated.getLongitude() ) );
+            maxTruncationError = Math.max( maxTruncationError, Math.abs( full.getObliquity() - truncated.getObliquity() ) );
+        }
+        Assert.assertEquals( 0.0, Math.toDegrees( maxTruncationError ) * 3600, 0.05 );
+    }
+
+    @Test
+    public void testTable()
+    {
+        final long start = Time.J2000.getTime();
+        final long end = start + 400 * Time.MILLIS_PER_DAY;
+        final NutationTable table = new NutationTable( start, end, Time.MILLIS_PER_DAY / 2 );
+        final Nutation nutation = new Nutation( true );
+        double maxError = 0;
+        for ( long millis = start; millis <= end; millis += 7 * Time.MILLIS_PER_HOUR + 13 )
+        {
+            nutation.compute( millis );
+            maxError = Math.max( maxError, Math.abs( table.getLongitude( millis ) - nutation.getLongitude() ) );
+            maxError = Math.max( maxError, Math.abs( table.getObliquity( millis ) - nutation.getObliquity() ) );
+        }
+        nutation.compute( end );
+        Assert.assertEquals( nutation.getLongitude(), table.getLongitude( end ), 1e-15 );
+        Assert.assertEquals( 0.0, Math.toDegrees( maxError ) * 3600, 1e-4 );
+        try
+        {
+            table.getLongitude( end + 1 );
+            Assert.fail();
+        }
+        catch ( IllegalArgumentException expected )
+        {
+        }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final int calls = 20_000;
+        final long start = Time.J2000.getTime();
+        final NutationTable table = new NutationTable( start, start + calls * Time.MILLIS_PER_HOUR, Time.MILLIS_PER_DAY / 2 );
+        final Nutation truncated = new Nutation();
+        final Nutation full = new Nutation( true );
+        final Nutation direct = new Nutation( true );
+        for ( int round = 0; round < 2; round++ )
+        {
+            double sum = 0;
+            long nanos = System.nanoTime();
+            for ( int i = 0; i < calls; i++ )
+            {
+                truncated.compute( start + i * Time.MILLIS_PER_HOUR );
+                sum += truncated.getLongitude();
+            }
+            final long nanosTruncated = System.nanoTime() - nanos;
+            nanos = System.nanoTime();
+            for ( int i = 0; i < calls; i++ )
+            {
+                direct.computeTermByTerm( Time.julianCenturiesSinceJ2000( start + i * Time.MILLIS_PER_HOUR ) );
+                sum += direct.getLongitude();
+            }
+            final long nanosDirect = System.nanoTime() - nanos;
+            nanos = System.nanoTime();
+            for ( int i = 0; i < calls; i++ )
+            {
+                full.compute( start + i * Time.MILLIS_PER_HOUR );
+                sum += full.getLongitude();
+            }
+            final long nanosFull = System.nanoTime() - nanos;
+            nanos = System.nanoTime();
+            for ( int i = 0; i < calls; i++ )
+                sum += table.getLongitude( start + i * Time.MILLIS_PER_HOUR ) + table.getObliquity( start + i * Time.MILLIS_PER_HOUR );
+            final long nanosTable = System.nanoTime() - nanos;
+            System.out.println( "Nutation per call: 13 terms " + nanosTruncated / calls + " ns, 106 terms direct "
+                    + nanosDirect / calls + " ns, 106 terms by recurrence " + nanosFull / calls + " ns, table "
+                    + nanosTable / calls + " ns (" + ( sum != 0 ) + ")" );
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelSolarSystemTest
+{
+    private static final int RUNS = 40;
+
+    private final SolarSystem sequential = new SolarSystemVSOP87C();
+    private final SolarSystem parallel = new SolarSystemVSOP87C();
+    private final Time time = new Time();
+
+    @Test
+    public void testSameResultsAsSequential()
+    {
+        final ForkJoinPool pool = new ForkJoinPool( 4 );
+        try
+        {
+            parallel.setExecutor( pool );
+            final Equatorial.Cart expected = new Equatorial.Cart();
+            final Equatorial.Cart actual = new Equatorial.Cart();
+            for ( int i = 0; i < 10; i++ )
+            {
+                time.setTime( Time.J2000.getTime() + i * 37 * Time.MILLIS_PER_DAY );
+                sequential.compute( time );
+                parallel.compute( time );
+                for ( Body body : Body.values() )
+                {
+                    sequential.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, expected );
+                    parallel.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, actual );
+                    assertEquals( expected.x, actual.x, 0.0 );
+                    assertEquals( expected.y, actual.y, 0.0 );
+                    assertEquals( expected.z, actual.z, 0.0 );
+                    assertEquals( sequential.getGeocentricDistance( body ), parallel.getGeocentricDistance( body ), 0.0 );
+                }
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testLatencyByPoolSize()
+    {
+        System.out.println( "Median latency of SolarSystem.compute(), " + Runtime.getRuntime().availableProcessors() + " cores:" );
+        System.out.println( "  sequential: " + medianLatencyMicros( sequential ) + " us" );
+        final int maxThreads = Math.max( 4, Runtime.getRuntime().availableProcessors() );
+        for ( int threads = 1; threads <= maxThreads; threads *= 2 )
+        {
+            final ForkJoinPool pool = new ForkJoinPool( threads );
+            try
+            {
+                parallel.setExecutor( pool );
+                System.out.println( "  " + threads + " thread(s): " + medianLatencyMicros( parallel ) + " us" );
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private long medianLatencyMicros( SolarSystem solarSystem )
+    {
+        final long[] nanos = new long[RUNS];
+        for ( int i = 0; i < RUNS; i++ )
+        {
+            // Vary the time, otherwise the models return cached results
+            time.setTime( Time.J2000.getTime() + i * Time.MILLIS_PER_DAY );
+            final long start = System.nanoTime();
+            solarSystem.compute( time );
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort( nanos );
+        return nanos[RUNS / 2] / 1000;
+    }
+}
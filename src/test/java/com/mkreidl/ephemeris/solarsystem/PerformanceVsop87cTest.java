@@ -1,6 +1,7 @@
 package com.mkreidl.ephemeris.solarsystem;
 
 import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
 
 import org.junit.Test;
 
@@ -18,6 +19,42 @@ public class PerformanceVsop87cTest
         System.out.println( "Solar system calculations in <1s: " + runs );
     }
 
+    @Test
+    public void testPerformancePerBody()
+    {
+        final AbstractModelVsop87[] models = {
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Mercury(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Venus(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Earth(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Mars(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Jupiter(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Saturn(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Uranus(),
+                new com.mkreidl.ephemeris.solarsystem.vsop87c.Neptune(),
+        };
+        final Time time = new Time();
+        final Cartesian position = new Cartesian();
+        final Cartesian velocity = new Cartesian();
+        for ( AbstractModelVsop87 model : models )
+        {
+            // Vary the time on every call, otherwise the model returns its cached result
+            for ( int i = 0; i < 1000; i++ )
+            {
+                time.setTime( Time.J2000.getTime() + i * Time.MILLIS_PER_HOUR );
+                model.compute( time, position, velocity );
+            }
+            final int calls = 2000;
+            final long start = System.nanoTime();
+            for ( int i = 0; i < calls; i++ )
+            {
+                time.setTime( Time.J2000.getTime() + i * Time.MILLIS_PER_DAY );
+                model.compute( time, position, velocity );
+            }
+            final long nanosPerCall = ( System.nanoTime() - start ) / calls;
+            System.out.println( model.getClass().getSimpleName() + ": " + nanosPerCall / 1000 + " us/call" );
+        }
+    }
+
     public void count()
     {
         while ( true )
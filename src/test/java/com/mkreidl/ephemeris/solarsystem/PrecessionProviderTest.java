@@ -0,0 +1,101 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Matrix3x3;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrecessionProviderTest
+{
+    private static final long MILLIS_PER_MILLENNIUM = Time.MILLIS_PER_MILLENNIUM;
+
+    private final Random random = new Random( 1976 );
+    private final Matrix3x3 expected = new Matrix3x3();
+    private final Matrix3x3 actual = new Matrix3x3();
+
+    @Test
+    public void testErrorBoundDefaultSpacing()
+    {
+        assertEquals( 0.0, maxError( new PrecessionProvider(), 20_000 ), 1e-13 );
+    }
+
+    @Test
+    public void testErrorBoundCoarseSpacing()
+    {
+        assertEquals( 0.0, maxError( new PrecessionProvider( 30 * Time.MILLIS_PER_DAY ), 20_000 ), 1e-10 );
+    }
+
+    @Test
+    public void testExactAtNodes()
+    {
+        final PrecessionProvider provider = new PrecessionProvider();
+        for ( int i = -10; i <= 10; i++ )
+        {
+            final long millis = i * 1000 * Time.MILLIS_PER_DAY;
+            PrecessionMatrix.compute( millis, expected );
+            provider.compute( millis, actual );
+            for ( int k = 0; k < 9; k++ )
+                assertEquals( expected.values[k], actual.values[k], 0.0 );
+        }
+    }
+
+    @Test
+    public void testBackwardSweep()
+    {
+        final PrecessionProvider provider = new PrecessionProvider();
+        final long start = Time.J2000.getTime();
+        for ( long millis = start; millis > start - 10 * Time.MILLIS_PER_DAY; millis -= 17 * Time.MILLIS_PER_HOUR )
+        {
+            Ecliptic.computeEclJ2000ToEquToDate( millis, expected );
+            provider.computeEclJ2000ToEquToDate( millis, actual );
+            for ( int k = 0; k < 9; k++ )
+                assertEquals( expected.values[k], actual.values[k], 1e-13 );
+        }
+    }
+
+    @Test
+    public void testYearAtMinuteResolution()
+    {
+        final long start = Time.J2000.getTime() + 20 * 365 * Time.MILLIS_PER_DAY;
+        final long end = start + 365 * Time.MILLIS_PER_DAY;
+        final PrecessionProvider provider = new PrecessionProvider();
+        for ( int round = 0; round < 2; round++ )
+        {
+            long nanos = System.nanoTime();
+            double sum = 0;
+            for ( long millis = start; millis < end; millis += 60_000 )
+                sum += PrecessionMatrix.compute( millis, expected ).values[5];
+            final long nanosDirect = System.nanoTime() - nanos;
+            nanos = System.nanoTime();
+            for ( long millis = start; millis < end; millis += 60_000 )
+                sum -= provider.compute( millis, actual ).values[5];
+            final long nanosInterpolated = System.nanoTime() - nanos;
+            assertEquals( 0.0, sum, 1e-7 );
+            System.out.println( "Precession matrices for one year at minute resolution: direct "
+                    + nanosDirect / 1_000_000 + " ms, interpolated " + nanosInterpolated / 1_000_000 + " ms" );
+        }
+    }
+
+    private double maxError( PrecessionProvider provider, int samples )
+    {
+        double maxError = 0;
+        for ( int i = 0; i < samples; i++ )
+        {
+            // Within ten millennia of J2000
+            final long millis = Time.J2000.getTime() + (long)( ( random.nextDouble() - 0.5 ) * 20 * MILLIS_PER_MILLENNIUM );
+            PrecessionMatrix.compute( millis, expected );
+            provider.compute( millis, actual );
+            for ( int k = 0; k < 9; k++ )
+                maxError = Math.max( maxError, Math.abs( expected.values[k] - actual.values[k] ) );
+            Ecliptic.computeEclJ2000ToEquToDate( millis, expected );
+            provider.computeEclJ2000ToEquToDate( millis, actual );
+            for ( int k = 0; k < 9; k++ )
+                maxError = Math.max( maxError, Math.abs( expected.values[k] - actual.values[k] ) );
+        }
+        return maxError;
+    }
+}
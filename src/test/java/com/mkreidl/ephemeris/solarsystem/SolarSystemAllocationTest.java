@@ -0,0 +1,112 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Angle;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.sky.coordinates.Horizontal;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntConsumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+public class SolarSystemAllocationTest
+{
+    private static final int WARMUP = 200;
+    private static final int CALLS = 200;
+    private static final int ROUNDS = 5;
+    private static final Body[] BODIES = Body.values();
+
+    private final SolarSystem solarSystem = new SolarSystemVSOP87C();
+    private final Time time = new Time();
+    private final Position position = new Position();
+    private final Ecliptical.Cart ecliptical = new Ecliptical.Cart();
+    private final Equatorial.Cart equatorial = new Equatorial.Cart();
+    private final Horizontal.Cart horizontal = new Horizontal.Cart();
+    private final Cartesian illumination = new Cartesian();
+    private final Angle phase = new Angle();
+    private com.sun.management.ThreadMXBean threadBean;
+    private int visible;
+
+    @Before
+    public void setUp()
+    {
+        assumeTrue( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean );
+        threadBean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+        assumeTrue( threadBean.isThreadAllocatedMemorySupported() );
+        threadBean.setThreadAllocatedMemoryEnabled( true );
+    }
+
+    @Test
+    public void testComputeEphemeridesPositions()
+    {
+        assertNoAllocation( "compute", this::computeAll );
+    }
+
+    @Test
+    public void testSetTimeLocationMillis()
+    {
+        assertNoAllocation( "setTimeLocation(long, ...)", i -> {
+            final long millis = Time.J2000.getTime() + i * Time.MILLIS_PER_HOUR;
+            solarSystem.setTimeLocation( millis, 1.234, 0.8 );
+            position.setTimeLocation( millis, 1.234, 0.8 );
+        } );
+    }
+
+    @Test
+    public void testSetTimeLocationTime()
+    {
+        assertNoAllocation( "setTimeLocation(Time, ...)", i -> {
+            time.setTime( Time.J2000.getTime() + i * Time.MILLIS_PER_HOUR );
+            solarSystem.setTimeLocation( time, 1.234, 0.8 );
+            position.setTimeLocation( time, 1.234, 0.8 );
+        } );
+    }
+
+    private void assertNoAllocation( String message, IntConsumer calls )
+    {
+        for ( int i = 0; i < WARMUP; i++ )
+            calls.accept( i );
+        // Deoptimization by the JIT may allocate within a single round,
+        // an allocation by the calls themselves shows up in every round
+        final long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        for ( int round = 0; round < ROUNDS; round++ )
+        {
+            final long before = threadBean.getThreadAllocatedBytes( threadId );
+            for ( int i = 0; i < CALLS; i++ )
+                calls.accept( WARMUP + round * CALLS + i );
+            allocated = threadBean.getThreadAllocatedBytes( threadId ) - before;
+            if ( allocated == 0 )
+                return;
+        }
+        assertEquals( message + ": bytes allocated in " + CALLS + " calls", 0, allocated );
+    }
+
+    private void computeAll( int i )
+    {
+        // Vary the time so that no model returns a cached result
+        time.setTime( Time.J2000.getTime() + i * Time.MILLIS_PER_HOUR );
+        solarSystem.compute( time );
+        solarSystem.setTimeLocation( 0.409, 1.234 + i * 1e-3, 0.8 );
+        for ( Body body : BODIES )
+        {
+            solarSystem.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, ecliptical );
+            solarSystem.getPosition( body, Position.CoordinatesCenter.GEOCENTRIC, equatorial );
+            solarSystem.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, horizontal );
+        }
+        solarSystem.getEphemerides( Body.MOON, position );
+        position.setTimeLocation( 0.409, 1.234, 0.8 );
+        position.illuminationDirection( illumination );
+        position.getPhase( phase );
+        if ( position.isVisible() )
+            ++visible;
+    }
+}
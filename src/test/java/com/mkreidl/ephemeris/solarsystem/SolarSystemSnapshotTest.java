@@ -0,0 +1,92 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SolarSystemSnapshotTest
+{
+    private final SolarSystem solarSystem = new SolarSystemVSOP87C();
+    private final Time time = new Time( Time.J2000.getTime() + 1234 * Time.MILLIS_PER_DAY );
+
+    @Test
+    public void testAgreesWithSolarSystem()
+    {
+        final SolarSystemSnapshot snapshot = solarSystem.computeSnapshot( time );
+        assertEquals( time.getTime(), snapshot.getTime() );
+        final Cartesian expected = new Cartesian();
+        final Cartesian actual = new Cartesian();
+        final Ecliptical.Cart geocentric = new Ecliptical.Cart();
+        final Position position = new Position();
+        final Ecliptical.Cart earthVelocity = solarSystem.velocities.get( Body.EARTH );
+        for ( Body body : Body.values() )
+        {
+            assertEquals( solarSystem.getGeocentricDistance( body ), snapshot.getGeocentricDistance( body ), 0.0 );
+            assertEquals( snapshot.getGeocentricDistance( body ),
+                    snapshot.get( body, SolarSystemSnapshot.GEOCENTRIC_DISTANCE ), 0.0 );
+
+            solarSystem.getHeliocentric( body, expected );
+            assertVector( expected, snapshot.getHeliocentricPosition( body, actual ) );
+
+            solarSystem.getEphemerides( body, position );
+            position.get( geocentric, Position.CoordinatesCenter.GEOCENTRIC );
+            assertVector( geocentric, snapshot.getGeocentricPosition( body, actual ) );
+            assertEquals( geocentric.length(), snapshot.getGeocentricDistance( body ), 1e-6 );
+
+            // Heliocentric minus geocentric velocity is the velocity of the Earth
+            snapshot.getHeliocentricVelocity( body, expected ).sub( snapshot.getGeocentricVelocity( body, actual ) );
+            assertEquals( earthVelocity.x, expected.x, 1e-9 );
+            assertEquals( earthVelocity.y, expected.y, 1e-9 );
+            assertEquals( earthVelocity.z, expected.z, 1e-9 );
+        }
+        assertEquals( 0.0, snapshot.getGeocentricPosition( Body.EARTH, actual ).length(), 0.0 );
+    }
+
+    @Test
+    public void testUnchangedByLaterComputations()
+    {
+        final SolarSystemSnapshot snapshot = solarSystem.computeSnapshot( time );
+        final double[] values = snapshot.toArray();
+        solarSystem.computeSnapshot( time.getTime() + Time.MILLIS_PER_DAY );
+        solarSystem.compute( time.getTime() + 2 * Time.MILLIS_PER_DAY );
+        assertArrayEquals( values, snapshot.toArray(), 0.0 );
+        // toArray() returns a copy
+        snapshot.toArray()[0] = 1.0;
+        assertArrayEquals( values, snapshot.toArray(), 0.0 );
+        assertEquals( SolarSystemSnapshot.STRIDE * Body.values().length, values.length );
+    }
+
+    @Test
+    public void testSharedWithOtherThreads() throws Exception
+    {
+        final SolarSystemSnapshot snapshot = solarSystem.computeSnapshot( time );
+        final double expected = snapshot.get( Body.MARS, SolarSystemSnapshot.GEOCENTRIC_POSITION + 1 );
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            final Future<Double> result = executor.submit( () -> snapshot.get( Body.MARS, SolarSystemSnapshot.GEOCENTRIC_POSITION + 1 ) );
+            assertEquals( expected, result.get(), 0.0 );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertVector( Cartesian expected, Cartesian actual )
+    {
+        assertEquals( expected.x, actual.x, 0.0 );
+        assertEquals( expected.y, actual.y, 0.0 );
+        assertEquals( expected.z, actual.z, 0.0 );
+    }
+}
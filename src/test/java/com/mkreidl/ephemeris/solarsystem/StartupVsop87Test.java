@@ -0,0 +1,62 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class StartupVsop87Test
+{
+    private static final String[] PLANETS = {
+            "Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune"
+    };
+
+    @Test
+    public void testClassInitialization() throws Exception
+    {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        // Load the models in a class loader of their own, so that their static initializers
+        // run here even if other tests have initialized them before
+        try ( URLClassLoader loader = new URLClassLoader( getClassPath(), ClassLoader.getSystemClassLoader().getParent() ) )
+        {
+            final List<Object> models = new ArrayList<>();
+            for ( String version : new String[]{"vsop87c", "vsop87d"} )
+            {
+                System.gc();
+                final long heapBefore = memory.getHeapMemoryUsage().getUsed();
+                final long nonHeapBefore = memory.getNonHeapMemoryUsage().getUsed();
+                final long start = System.nanoTime();
+                for ( String planet : PLANETS )
+                {
+                    final Class<?> modelClass = Class.forName(
+                            "com.mkreidl.ephemeris.solarsystem." + version + "." + planet, true, loader );
+                    models.add( modelClass.getConstructor().newInstance() );
+                }
+                final long nanos = System.nanoTime() - start;
+                System.gc();
+                final long heapAfter = memory.getHeapMemoryUsage().getUsed();
+                final long nonHeapAfter = memory.getNonHeapMemoryUsage().getUsed();
+                System.out.println( version.toUpperCase() + " class initialization: " + nanos / 1_000_000 + " ms, heap "
+                        + ( heapAfter - heapBefore ) / 1024 + " kB, non-heap "
+                        + ( nonHeapAfter - nonHeapBefore ) / 1024 + " kB" );
+            }
+            assertEquals( 2 * PLANETS.length, models.size() );
+        }
+    }
+
+    private static URL[] getClassPath() throws Exception
+    {
+        final String[] entries = System.getProperty( "java.class.path" ).split( File.pathSeparator );
+        final URL[] urls = new URL[entries.length];
+        for ( int i = 0; i < entries.length; i++ )
+            urls[i] = new File( entries[i] ).toURI().toURL();
+        return urls;
+    }
+}
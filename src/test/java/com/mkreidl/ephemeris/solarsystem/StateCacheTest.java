@@ -0,0 +1,207 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.sky.PlanetRiseSetCalculator;
+import com.mkreidl.ephemeris.sky.RiseSetCalculator;
+import com.mkreidl.ephemeris.sky.coordinates.Ecliptical;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class StateCacheTest
+{
+    private static final long START = 1525125600000L;  // 2018-05-01 00:00 +0200
+    private static final double MUNICH_LON = Math.toRadians( 11.5755 );
+    private static final double MUNICH_LAT = Math.toRadians( 48.1374 );
+    private static final Body[] RISING_BODIES = {
+            Body.SUN, Body.MOON, Body.MERCURY, Body.VENUS, Body.MARS, Body.JUPITER, Body.SATURN};
+
+    private final Random random = new Random( 42 );
+
+    @Test
+    public void testInterpolation()
+    {
+        final SolarSystem exact = new SolarSystemMeeus();
+        final SolarSystem cached = new SolarSystemMeeus();
+        cached.setCache( new StateCache() );
+        final Ecliptical.Cart expected = new Ecliptical.Cart();
+        final Ecliptical.Cart actual = new Ecliptical.Cart();
+        final double[] maxError = new double[Body.values().length];
+        for ( int i = 0; i < 500; i++ )
+        {
+            final long millis = START + (long)( random.nextDouble() * 10 * Time.MILLIS_PER_DAY );
+            exact.compute( millis );
+            cached.compute( millis );
+            for ( Body body : Body.values() )
+            {
+                exact.getHeliocentric( body, expected );
+                cached.getHeliocentric( body, actual );
+                maxError[body.ordinal()] = Math.max( maxError[body.ordinal()], actual.sub( expected ).length() );
+            }
+        }
+        System.out.println( "Maximum deviation of cached states [m]:" );
+        for ( Body body : Body.values() )
+        {
+            System.out.println( "  " + body + ": " + maxError[body.ordinal()] );
+            assertTrue( body.name(), maxError[body.ordinal()] < 20 );
+        }
+    }
+
+    @Test
+    public void testCounters()
+    {
+        final StateCache cache = new StateCache( Time.MILLIS_PER_HOUR, 100 );
+        final SolarSystem solarSystem = new SolarSystemMeeus();
+        solarSystem.setCache( cache );
+        // Exactly at a node, only this node is required
+        solarSystem.compute( START, Body.EARTH );
+        assertEquals( 0, cache.getHitCount() );
+        assertEquals( 1, cache.getMissCount() );
+        // Between nodes, the two enclosing nodes are required
+        solarSystem.compute( START + 60000, Body.EARTH );
+        assertEquals( 1, cache.getHitCount() );
+        assertEquals( 2, cache.getMissCount() );
+        solarSystem.compute( START + 120000, Body.EARTH );
+        assertEquals( 3, cache.getHitCount() );
+        assertEquals( 2, cache.getMissCount() );
+        assertEquals( 2, cache.size() );
+        cache.clear();
+        assertEquals( 0, cache.size() );
+        assertEquals( 0, cache.getHitCount() );
+        assertEquals( 0, cache.getMissCount() );
+    }
+
+    @Test
+    public void testBounded()
+    {
+        final StateCache cache = new StateCache( Time.MILLIS_PER_HOUR, 50 );
+        final SolarSystem solarSystem = new SolarSystemMeeus();
+        solarSystem.setCache( cache );
+        for ( int i = 0; i < 100; i++ )
+            solarSystem.compute( START + i * Time.MILLIS_PER_HOUR );
+        assertEquals( 50, cache.size() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testDifferentModels()
+    {
+        final StateCache cache = new StateCache();
+        new SolarSystemMeeus().setCache( cache );
+        new SolarSystemVSOP87C().setCache( cache );
+    }
+
+    @Test
+    public void testRiseSetCalculators()
+    {
+        final long[] exact = computeRiseSetTimes( SolarSystemMeeus::new, null );
+        final StateCache cache = new StateCache();
+        final long[] cached = computeRiseSetTimes( SolarSystemMeeus::new, cache );
+        assertEquals( exact.length, cached.length );
+        for ( int i = 0; i < exact.length; i++ )
+            assertEquals( 0.0, cached[i] - exact[i], 2000 );
+        System.out.println( "Rise and set of " + RISING_BODIES.length + " bodies for 30 days: "
+                + cache.getHitCount() + " hits, " + cache.getMissCount() + " misses" );
+        assertTrue( cache.getHitCount() > 5 * cache.getMissCount() );
+    }
+
+    @Test
+    public void testConcurrentSolarSystems()
+    {
+        final StateCache cache = new StateCache();
+        final ForkJoinPool pool = new ForkJoinPool( 4 );
+        try
+        {
+            final List<CompletableFuture<double[]>> tasks = new ArrayList<>();
+            for ( int t = 0; t < 8; t++ )
+                tasks.add( CompletableFuture.supplyAsync( () -> {
+                    final SolarSystem solarSystem = new SolarSystemMeeus();
+                    solarSystem.setCache( cache );
+                    final double[] result = new double[3 * 200];
+                    final Ecliptical.Cart position = new Ecliptical.Cart();
+                    for ( int i = 0; i < 200; i++ )
+                    {
+                        solarSystem.compute( START + i * 600000L );
+                        solarSystem.getHeliocentric( Body.MOON, position );
+                        result[3 * i] = position.x;
+                        result[3 * i + 1] = position.y;
+                        result[3 * i + 2] = position.z;
+                    }
+                    return result;
+                }, pool ) );
+            final double[] expected = tasks.get( 0 ).join();
+            for ( CompletableFuture<double[]> task : tasks )
+            {
+                final double[] actual = task.join();
+                for ( int i = 0; i < expected.length; i++ )
+                    assertEquals( expected[i], actual[i], 0 );
+            }
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        for ( int run = 0; run < 2; run++ )
+        {
+            measure( "Meeus", SolarSystemMeeus::new );
+            measure( "VSOP87C", SolarSystemVSOP87C::new );
+        }
+    }
+
+    private static void measure( String name, Supplier<SolarSystem> solarSystemSupplier )
+    {
+        long start = System.nanoTime();
+        computeRiseSetTimes( solarSystemSupplier, null );
+        final long exactMillis = ( System.nanoTime() - start ) / 1_000_000;
+        start = System.nanoTime();
+        computeRiseSetTimes( solarSystemSupplier, new StateCache() );
+        final long cachedMillis = ( System.nanoTime() - start ) / 1_000_000;
+        System.out.println( name + ", rise and set of " + RISING_BODIES.length + " bodies for 30 days: "
+                + exactMillis + " ms without cache, " + cachedMillis + " ms with cache" );
+    }
+
+    /**
+     * The next rise and set of each body after every midnight, one calculator per body, as an app would do.
+     */
+    private static long[] computeRiseSetTimes( Supplier<SolarSystem> solarSystemSupplier, StateCache cache )
+    {
+        final List<PlanetRiseSetCalculator> calculators = new ArrayList<>();
+        for ( Body body : RISING_BODIES )
+        {
+            final SolarSystem solarSystem = solarSystemSupplier.get();
+            solarSystem.setCache( cache );
+            final PlanetRiseSetCalculator calculator = PlanetRiseSetCalculator.of( solarSystem, body );
+            calculator.setGeographicLocation( MUNICH_LON, MUNICH_LAT );
+            calculator.setSearchDirection( RiseSetCalculator.LookupDirection.FORWARD );
+            calculators.add( calculator );
+        }
+        final long[] times = new long[30 * 2 * calculators.size()];
+        int count = 0;
+        for ( int day = 0; day < 30; day++ )
+            for ( PlanetRiseSetCalculator calculator : calculators )
+                for ( RiseSetCalculator.EventType type : new RiseSetCalculator.EventType[]{
+                        RiseSetCalculator.EventType.RISE, RiseSetCalculator.EventType.SET} )
+                {
+                    calculator.setEventType( type );
+                    calculator.compute( START + day * Time.MILLIS_PER_DAY );
+                    times[count++] = calculator.getTime();
+                }
+        return times;
+    }
+}
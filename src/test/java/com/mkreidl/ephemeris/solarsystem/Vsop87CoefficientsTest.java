@@ -0,0 +1,69 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class Vsop87CoefficientsTest
+{
+    @Test
+    public void testResourcesMatchVsop87Files() throws IOException
+    {
+        final String[] planets = {"Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune"};
+        for ( String version : new String[]{"C", "D"} )
+            for ( String planet : planets )
+            {
+                final String file = "/VSOP87/VSOP87" + version + "." + planet.substring( 0, 3 ).toLowerCase();
+                final Vsop87Coefficients expected;
+                try ( Reader reader = new InputStreamReader( getClass().getResourceAsStream( file ) ) )
+                {
+                    expected = Vsop87Coefficients.parse( reader );
+                }
+                final Vsop87Coefficients actual = Vsop87Coefficients.load(
+                        AbstractModelVsop87.class, "vsop87" + version.toLowerCase() + "/" + planet + ".bin" );
+                assertEqualCoefficients( expected, actual );
+            }
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException
+    {
+        final Vsop87Coefficients expected = new com.mkreidl.ephemeris.solarsystem.meeus.Earth().coefficients;
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        expected.writeTo( output );
+        final ByteBuffer buffer = ByteBuffer.wrap( output.toByteArray() );
+        assertEqualCoefficients( expected, Vsop87Coefficients.read( buffer ) );
+        assertEquals( 0, buffer.remaining() );
+    }
+
+    @Test( expected = UncheckedIOException.class )
+    public void testMissingResource()
+    {
+        Vsop87Coefficients.load( AbstractModelVsop87.class, "Vulcan.bin" );
+    }
+
+    private static void assertEqualCoefficients( Vsop87Coefficients expected, Vsop87Coefficients actual )
+    {
+        assertEquals( expected.getDimension(), actual.getDimension() );
+        for ( int dim = 0; dim < expected.getDimension(); dim++ )
+        {
+            assertEquals( expected.getNumberOfPowers( dim ), actual.getNumberOfPowers( dim ) );
+            for ( int n = 0; n < expected.getNumberOfPowers( dim ); n++ )
+            {
+                assertEquals( expected.start( dim, n ), actual.start( dim, n ) );
+                assertEquals( expected.end( dim, n ), actual.end( dim, n ) );
+            }
+        }
+        assertArrayEquals( expected.amplitude, actual.amplitude, 0.0 );
+        assertArrayEquals( expected.phase, actual.phase, 0.0 );
+        assertArrayEquals( expected.frequency, actual.frequency, 0.0 );
+    }
+}
@@ -0,0 +1,84 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import static org.junit.Assert.assertEquals;
+
+public class Vsop87StepperTest
+{
+    private static final long START = Time.J2000.getTime() + 17 * Time.MILLIS_PER_DAY;
+    private static final long STEP = 60_000;
+    private static final int STEPS = 5_000;
+
+    private final Time time = new Time();
+    private final Cartesian expectedPos = new Cartesian();
+    private final Cartesian expectedVel = new Cartesian();
+    private final Cartesian actualPos = new Cartesian();
+    private final Cartesian actualVel = new Cartesian();
+
+    @Test
+    public void testCartesianModel()
+    {
+        checkAgainstDirectEvaluation( new com.mkreidl.ephemeris.solarsystem.vsop87c.Mercury(), STEP );
+    }
+
+    @Test
+    public void testSphericalModel()
+    {
+        checkAgainstDirectEvaluation( new com.mkreidl.ephemeris.solarsystem.vsop87d.Earth(), STEP );
+    }
+
+    @Test
+    public void testBackwards()
+    {
+        checkAgainstDirectEvaluation( new com.mkreidl.ephemeris.solarsystem.vsop87c.Saturn(), -Time.MILLIS_PER_HOUR );
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final AbstractModelVsop87 model = new com.mkreidl.ephemeris.solarsystem.vsop87c.Mercury();
+        final Vsop87Stepper stepper = new Vsop87Stepper( model, START, STEP );
+        long start = System.nanoTime();
+        for ( int i = 0; i < STEPS; i++ )
+        {
+            time.setTime( START + i * STEP );
+            model.compute( time, expectedPos, expectedVel );
+        }
+        final long nanosDirect = System.nanoTime() - start;
+        start = System.nanoTime();
+        for ( int i = 0; i < STEPS; i++ )
+        {
+            stepper.compute( actualPos, actualVel );
+            stepper.step();
+        }
+        final long nanosStepper = System.nanoTime() - start;
+        System.out.println( "Mercury, " + STEPS + " steps: direct " + nanosDirect / 1_000_000
+                + " ms, stepper " + nanosStepper / 1_000_000 + " ms" );
+    }
+
+    private void checkAgainstDirectEvaluation( AbstractModelVsop87 model, long step )
+    {
+        final Vsop87Stepper stepper = new Vsop87Stepper( model, START, step );
+        for ( int i = 0; i < STEPS; i++ )
+        {
+            assertEquals( START + i * step, stepper.getTime() );
+            time.setTime( stepper.getTime() );
+            model.compute( time, expectedPos, expectedVel );
+            stepper.compute( actualPos, actualVel );
+            assertEquals( expectedPos.x, actualPos.x, 1e-11 );
+            assertEquals( expectedPos.y, actualPos.y, 1e-11 );
+            assertEquals( expectedPos.z, actualPos.z, 1e-11 );
+            assertEquals( expectedVel.x, actualVel.x, 1e-15 );
+            assertEquals( expectedVel.y, actualVel.y, 1e-15 );
+            assertEquals( expectedVel.z, actualVel.z, 1e-15 );
+            stepper.step();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.mkreidl.ephemeris.solarsystem;
+
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.geometry.Cartesian;
+import com.mkreidl.ephemeris.geometry.Spherical;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Vsop87TruncationTest
+{
+    private static final double ARCSEC = Math.toRadians( 1.0 / 3600 );
+    private static final double ARCMIN = Math.toRadians( 1.0 / 60 );
+    private static final double SPAN_MILLENNIA = 0.1;
+    private static final long SPAN_MILLIS = (long)( SPAN_MILLENNIA * Time.MILLIS_PER_MILLENNIUM );
+
+    private final Time time = new Time();
+
+    @Test
+    public void testRectangularModel()
+    {
+        final AbstractModelVsop87 full = new com.mkreidl.ephemeris.solarsystem.vsop87c.Saturn();
+        final AbstractModelVsop87 truncated = new com.mkreidl.ephemeris.solarsystem.vsop87c.Saturn();
+        final Cartesian expected = new Cartesian();
+        final Cartesian actual = new Cartesian();
+        for ( double accuracy : new double[]{1e-5, 1e-7, 1e-9} )
+        {
+            truncated.setAccuracy( accuracy, SPAN_MILLENNIA );
+            assertTrue( truncated.getNumberOfTerms() < full.getNumberOfTerms() );
+            for ( long millis = -SPAN_MILLIS; millis <= SPAN_MILLIS; millis += SPAN_MILLIS / 50 )
+            {
+                time.setTime( Time.J2000.getTime() + millis );
+                full.compute( time, expected, null );
+                truncated.compute( time, actual, null );
+                assertEquals( expected.x, actual.x, accuracy );
+                assertEquals( expected.y, actual.y, accuracy );
+                assertEquals( expected.z, actual.z, accuracy );
+            }
+        }
+    }
+
+    @Test
+    public void testSphericalModel()
+    {
+        final AbstractModelVsop87 full = new com.mkreidl.ephemeris.solarsystem.vsop87d.Mars();
+        final AbstractModelVsop87 truncated = new com.mkreidl.ephemeris.solarsystem.vsop87d.Mars();
+        final Spherical expected = new Spherical();
+        final Spherical actual = new Spherical();
+        for ( double accuracy : new double[]{ARCMIN, ARCSEC} )
+        {
+            truncated.setAccuracy( accuracy, SPAN_MILLENNIA );
+            System.out.println( "Mars (VSOP87D) terms for accuracy " + accuracy + " rad: "
+                    + truncated.getNumberOfTerms() + " of " + full.getNumberOfTerms() );
+            for ( long millis = -SPAN_MILLIS; millis <= SPAN_MILLIS; millis += SPAN_MILLIS / 50 )
+            {
+                time.setTime( Time.J2000.getTime() + millis );
+                full.compute( time, expected, null );
+                truncated.compute( time, actual, null );
+                assertEquals( expected.lat, actual.lat, accuracy );
+                assertEquals( 0.0, Math.sin( expected.lon - actual.lon ), accuracy );
+            }
+        }
+    }
+
+    @Test
+    public void testFullAccuracy()
+    {
+        final AbstractModelVsop87 model = new com.mkreidl.ephemeris.solarsystem.vsop87c.Earth();
+        final int terms = model.getNumberOfTerms();
+        model.setAccuracy( 1e-3, SPAN_MILLENNIA );
+        assertTrue( model.getNumberOfTerms() < terms );
+        model.setAccuracy( 0, SPAN_MILLENNIA );
+        assertEquals( terms, model.getNumberOfTerms() );
+    }
+}
@@ -0,0 +1,235 @@
+package com.mkreidl.ephemeris.solarsystem.table;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Position;
+import com.mkreidl.ephemeris.Time;
+import com.mkreidl.ephemeris.sky.coordinates.Equatorial;
+import com.mkreidl.ephemeris.solarsystem.Body;
+import com.mkreidl.ephemeris.solarsystem.SolarSystem;
+import com.mkreidl.ephemeris.solarsystem.SolarSystemVSOP87C;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class EphemerisTableGeneratorTest
+{
+    private static final long MINUTE = 60_000;
+    private static final long START = Time.J2000.getTime();
+    private static final long STEP = 37 * Time.MILLIS_PER_HOUR;
+    private static final long END = START + 100 * STEP;
+    private static final EnumSet<Body> BODIES = EnumSet.of( Body.SUN, Body.MOON, Body.MARS );
+
+    @Test
+    public void testAgreesWithSolarSystem() throws IOException
+    {
+        final EphemerisTableGenerator generator = new EphemerisTableGenerator( SolarSystemVSOP87C::new, BODIES );
+        generator.setFrame( EphemerisTableGenerator.Frame.EQUATORIAL );
+        generator.setCenter( Position.CoordinatesCenter.TOPOCENTRIC );
+        generator.setGeographicLocation( 0.2, 0.85 );
+        generator.setChunkRows( 16 );
+        final Table table = new Table();
+        generator.generate( START, END, STEP, table );
+
+        assertArrayEquals( new String[]{"SUN.x", "SUN.y", "SUN.z", "MOON.x", "MOON.y", "MOON.z", "MARS.x", "MARS.y", "MARS.z"},
+                table.columnNames );
+        assertEquals( 101, table.times.size() );
+        final SolarSystem solarSystem = new SolarSystemVSOP87C();
+        final Equatorial.Cart expected = new Equatorial.Cart();
+        for ( int row = 0; row < table.times.size(); row++ )
+        {
+            final long millis = START + row * STEP;
+            assertEquals( millis, (long)table.times.get( row ) );
+            solarSystem.compute( millis );
+            solarSystem.setTimeLocation( millis, 0.2, 0.85 );
+            int column = 0;
+            for ( Body body : BODIES )
+            {
+                solarSystem.getPosition( body, Position.CoordinatesCenter.TOPOCENTRIC, expected );
+                assertEquals( expected.x, table.values.get( row )[column++], 0.0 );
+                assertEquals( expected.y, table.values.get( row )[column++], 0.0 );
+                assertEquals( expected.z, table.values.get( row )[column++], 0.0 );
+            }
+        }
+    }
+
+    @Test
+    public void testParallelSameAsSequential() throws IOException
+    {
+        final EphemerisTableGenerator generator = new EphemerisTableGenerator( SolarSystemVSOP87C::new, BODIES );
+        generator.setChunkRows( 7 );
+        final Table sequential = new Table();
+        generator.generate( START, END, STEP, sequential );
+
+        final ForkJoinPool pool = new ForkJoinPool( 3 );
+        try
+        {
+            generator.setExecutor( pool );
+            generator.setMaxPendingChunks( 4 );
+            final Table parallel = new Table();
+            generator.generate( START, END, STEP, parallel );
+            assertEquals( sequential.times, parallel.times );
+            for ( int row = 0; row < sequential.values.size(); row++ )
+                assertArrayEquals( sequential.values.get( row ), parallel.values.get( row ), 0.0 );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCsv() throws IOException
+    {
+        final EphemerisTableGenerator generator = new EphemerisTableGenerator( SolarSystemVSOP87C::new, EnumSet.of( Body.VENUS ) );
+        final StringWriter csv = new StringWriter();
+        generator.generate( START, START + 2 * STEP, STEP, new CsvTableSink( csv ) );
+        final Table table = new Table();
+        generator.generate( START, START + 2 * STEP, STEP, table );
+
+        final String[] lines = csv.toString().split( "\n" );
+        assertEquals( 4, lines.length );
+        assertEquals( "time,VENUS.x,VENUS.y,VENUS.z", lines[0] );
+        for ( int row = 0; row < 3; row++ )
+        {
+            final String[] fields = lines[row + 1].split( "," );
+            assertEquals( (long)table.times.get( row ), Long.parseLong( fields[0] ) );
+            for ( int column = 0; column < 3; column++ )
+                assertEquals( table.values.get( row )[column], Double.parseDouble( fields[column + 1] ), 0.0 );
+        }
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException
+    {
+        final EphemerisTableGenerator generator = new EphemerisTableGenerator( SolarSystemVSOP87C::new, BODIES );
+        generator.setChunkRows( 30 );
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        generator.generate( START, END, STEP, new BinaryTableSink( bytes ) );
+        final Table expected = new Table();
+        generator.generate( START, END, STEP, expected );
+
+        final Table actual = new Table();
+        BinaryTableSink.read( new ByteArrayInputStream( bytes.toByteArray() ), actual );
+        assertArrayEquals( expected.columnNames, actual.columnNames );
+        assertEquals( expected.times, actual.times );
+        for ( int row = 0; row < expected.values.size(); row++ )
+            assertArrayEquals( expected.values.get( row ), actual.values.get( row ), 0.0 );
+    }
+
+    @Test
+    public void testSinkExceptionPropagates()
+    {
+        final EphemerisTableGenerator generator = new EphemerisTableGenerator( SolarSystemVSOP87C::new, BODIES );
+        generator.setChunkRows( 10 );
+        final ForkJoinPool pool = new ForkJoinPool( 2 );
+        try
+        {
+            generator.setExecutor( pool );
+            generator.generate( START, END, STEP, ( times, values, rows ) -> {
+                throw new IOException( "Disk full" );
+            } );
+            fail();
+        }
+        catch ( IOException e )
+        {
+            assertEquals( "Disk full", e.getMessage() );
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testInvalidRange() throws IOException
+    {
+        new EphemerisTableGenerator( SolarSystemVSOP87C::new, BODIES ).generate( END, START, STEP, new Table() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public void testInvalidChunkRows()
+    {
+        new EphemerisTableGenerator( SolarSystemVSOP87C::new, BODIES ).setChunkRows( 0 );
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testThroughput() throws IOException
+    {
+        final EnumSet<Body> all = EnumSet.allOf( Body.class );
+        final EphemerisTableGenerator generator = new EphemerisTableGenerator( SolarSystemVSOP87C::new, all );
+        generator.setChunkRows( 60 );
+        final long end = START + 599 * MINUTE;
+        System.out.println( "Ephemeris table of all bodies, rows per second, "
+                + Runtime.getRuntime().availableProcessors() + " cores:" );
+        System.out.println( "  sequential: " + rowsPerSecond( generator, end ) );
+        final int maxThreads = Math.max( 4, Runtime.getRuntime().availableProcessors() );
+        for ( int threads = 1; threads <= maxThreads; threads *= 2 )
+        {
+            final ForkJoinPool pool = new ForkJoinPool( threads );
+            try
+            {
+                generator.setExecutor( pool );
+                System.out.println( "  " + threads + " thread(s): " + rowsPerSecond( generator, end ) );
+            }
+            finally
+            {
+                pool.shutdown();
+            }
+        }
+    }
+
+    private static long rowsPerSecond( EphemerisTableGenerator generator, long end ) throws IOException
+    {
+        final int[] rows = new int[1];
+        final long start = System.nanoTime();
+        generator.generate( START, end, MINUTE, ( times, values, count ) -> rows[0] += count );
+        return rows[0] * 1_000_000_000L / ( System.nanoTime() - start );
+    }
+
+    private static class Table implements TableSink
+    {
+        String[] columnNames;
+        final List<Long> times = new ArrayList<>();
+        final List<double[]> values = new ArrayList<>();
+        boolean ended;
+
+        @Override
+        public void begin( String[] columnNames )
+        {
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        public void write( long[] times, double[] values, int rows )
+        {
+            final int columns = columnNames.length;
+            for ( int row = 0; row < rows; row++ )
+            {
+                this.times.add( times[row] );
+                final double[] rowValues = new double[columns];
+                System.arraycopy( values, row * columns, rowValues, 0, columns );
+                this.values.add( rowValues );
+            }
+        }
+
+        @Override
+        public void end()
+        {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.mkreidl.ephemeris.time;
+
+import com.mkreidl.ephemeris.Benchmark;
+import com.mkreidl.ephemeris.Time;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZonedDateTime;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class SiderealTimeTest
+{
+    private static final ZoneId UTC = ZoneId.of( "UTC" );
+    private static final long MILLIS_PER_YEAR = (long)( 365.25 * Time.MILLIS_PER_DAY );
+    private static final int CALLS = 200_000;
+
+    private final Random random = new Random( 2001 );
+
+    @Test
+    public void testMidnightMatchesZonedDateTime()
+    {
+        final long[] special = {
+                0, -1, 1, Time.MILLIS_PER_DAY, Time.MILLIS_PER_DAY - 1, -Time.MILLIS_PER_DAY, -Time.MILLIS_PER_DAY - 1,
+                Time.J2000.getTime(), Time.J2000.getTime() + Time.MILLIS_PER_DAY / 2,
+        };
+        for ( long millis : special )
+            assertEquals( midnightWithZonedDateTime( millis ), Time.midnightAtGreenwich( millis ) );
+        for ( int i = 0; i < 10_000; i++ )
+        {
+            final long millis = randomMillis();
+            assertEquals( midnightWithZonedDateTime( millis ), Time.midnightAtGreenwich( millis ) );
+        }
+    }
+
+    @Test
+    public void testSiderealTimeMatchesZonedDateTime()
+    {
+        final Time time = new Time();
+        final long[] times = new long[1000];
+        final double[] batch = new double[times.length];
+        for ( int i = 0; i < times.length; i++ )
+            times[i] = randomMillis();
+        Time.siderealTimes( times, batch );
+        for ( int i = 0; i < times.length; i++ )
+        {
+            final double expected = siderealTimeRadiansWithZonedDateTime( times[i] );
+            time.setTime( times[i] );
+            assertEquals( expected, time.getMeanSiderealTimeRadians(), 0.0 );
+            assertEquals( expected, Time.getMeanSiderealTimeRadians( times[i] ), 0.0 );
+            assertEquals( expected, batch[i], 0.0 );
+        }
+    }
+
+    @Test
+    @Category( Benchmark.class )
+    public void testPerformance()
+    {
+        final long[] times = new long[CALLS];
+        for ( int i = 0; i < times.length; i++ )
+            times[i] = randomMillis();
+        final double[] radians = new double[times.length];
+        for ( int round = 0; round < 2; round++ )
+        {
+            long bytes = allocatedBytes();
+            long start = System.nanoTime();
+            double sum = 0;
+            for ( long millis : times )
+                sum += siderealTimeRadiansWithZonedDateTime( millis );
+            final long nanosZoned = System.nanoTime() - start;
+            final long bytesZoned = allocatedBytes() - bytes;
+
+            bytes = allocatedBytes();
+            start = System.nanoTime();
+            for ( long millis : times )
+                sum -= Time.getMeanSiderealTimeRadians( millis );
+            final long nanosArithmetic = System.nanoTime() - start;
+            final long bytesArithmetic = allocatedBytes() - bytes;
+
+            start = System.nanoTime();
+            Time.siderealTimes( times, radians );
+            final long nanosBatch = System.nanoTime() - start;
+
+            assertEquals( 0.0, sum, 1e-6 );
+            System.out.println( "GMST per call: ZonedDateTime " + nanosZoned / CALLS + " ns, " + bytesZoned / CALLS
+                    + " bytes; arithmetic " + nanosArithmetic / CALLS + " ns, " + bytesArithmetic / CALLS
+                    + " bytes; batch " + nanosBatch / CALLS + " ns" );
+        }
+    }
+
+    private long randomMillis()
+    {
+        return Time.J2000.getTime() + (long)( ( random.nextDouble() - 0.5 ) * 400 * MILLIS_PER_YEAR );
+    }
+
+    private static long allocatedBytes()
+    {
+        if ( ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean )
+            return ( (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean() )
+                    .getThreadAllocatedBytes( Thread.currentThread().getId() );
+        return 0;
+    }
+
+    /**
+     * The former implementation of UTC midnight via threetenbp.
+     */
+    private static long midnightWithZonedDateTime( long millis )
+    {
+        final ZonedDateTime midnight = ZonedDateTime.ofInstant( Instant.ofEpochMilli( millis ), UTC )
+                .withHour( 0 ).withMinute( 0 ).withSecond( 0 ).withNano( 0 );
+        return Instant.from( midnight ).toEpochMilli();
+    }
+
+    /**
+     * The former implementation of Time.getMeanSiderealTimeRadians().
+     */
+    private static double siderealTimeRadiansWithZonedDateTime( long millis )
+    {
+        final double[] coefficients = {
+                1.0 / 38710000.0 * 1 / 360, 0.000387933 * 1 / 360,
+                36000.770053608 * 1 / 360, 100.46061837 * 1 / 360
+        };
+        final double midnightUT = midnightWithZonedDateTime( millis );
+        final double julianCenturyUT0 = ( midnightUT - Time.J2000.getTime() ) / Time.MILLIS_PER_CENTURY;
+        double daysBase = 0.0;
+        for ( double c : coefficients )
+            daysBase = daysBase * julianCenturyUT0 + c;
+        final double dayFraction = ( millis - midnightUT ) / Time.MILLIS_PER_SIDEREAL_DAY;
+        double siderealTime = ( ( daysBase + dayFraction ) % 1 );
+        if ( siderealTime < 0.0 )
+            siderealTime += 1.0;
+        return siderealTime * 2 * Math.PI;
+    }
+}
@@ -0,0 +1,24 @@
+import com.mkreidl.ephemeris.solarsystem.Vsop87Coefficients;
+
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+
+/**
+ * Convert a file of the VSOP87 distribution into the binary format of {@link Vsop87Coefficients}.
+ * <p>
+ * Usage: java Vsop2Bin VSOP87C.mer Mercury.bin
+ */
+public class Vsop2Bin
+{
+    public static void main( String[] args ) throws IOException
+    {
+        try ( Reader input = new FileReader( args[0] );
+              OutputStream output = new FileOutputStream( args[1] ) )
+        {
+            Vsop87Coefficients.parse( input ).writeTo( output );
+        }
+    }
+}
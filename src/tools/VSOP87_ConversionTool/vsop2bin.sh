@@ -0,0 +1,24 @@
+#!/bin/bash
+# Usage: ./vsop2bin.sh <directory of VSOP87 files> <output directory> <classpath of the ephemeris library>
+#
+# Generates the binary coefficient resources of the vsop87c and vsop87d models, e.g.
+# ./vsop2bin.sh ../../test/resources/VSOP87 ../../main/resources/com/mkreidl/ephemeris/solarsystem build/classes/java/main
+
+BUILD=$(mktemp -d)
+javac -cp $3 -d $BUILD Vsop2Bin.java || exit 1
+
+for VERSION in C D
+do
+	OUT=$2/vsop87$(echo $VERSION | tr CD cd)
+	mkdir -p $OUT
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.mer $OUT/Mercury.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.ven $OUT/Venus.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.ear $OUT/Earth.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.mar $OUT/Mars.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.jup $OUT/Jupiter.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.sat $OUT/Saturn.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.ura $OUT/Uranus.bin
+	java -cp $3:$BUILD Vsop2Bin $1/VSOP87$VERSION.nep $OUT/Neptune.bin
+done
+
+rm -rf $BUILD